@@ -1,10 +1,14 @@
 package com.crimsonlogic.payrollmanagementsystem.controller;
 
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
 import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO;
 import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceResponseDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.BackgroundJobDTO;
 import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
 import com.crimsonlogic.payrollmanagementsystem.service.AttendanceService;
+import com.crimsonlogic.payrollmanagementsystem.service.BackgroundJobService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,7 +18,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.PostMapping;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 /*
   Controller for managing attendance-related operations.
@@ -30,27 +36,42 @@ import java.util.List;
 public class AttendanceController {
 
     private final AttendanceService attendanceService;
+    private final BackgroundJobService backgroundJobService;
 
     /**
      * Constructs an AttendanceController with the specified AttendanceService.
      *
      * @param attendanceService the service used to handle attendance operations
+     * @param backgroundJobService the service used to queue the regularization
      */
-    public AttendanceController(AttendanceService attendanceService){
+    public AttendanceController(AttendanceService attendanceService, BackgroundJobService backgroundJobService){
         super();
         this.attendanceService = attendanceService;
+        this.backgroundJobService = backgroundJobService;
     }
 
     /**
-     * Retrieves the attendance records for a specific employee.
+     * Retrieves the attendance records of an employee for a year or a date range.
      *
      * @param employeeId the ID of the employee whose attendance is to be retrieved
+     * @param startDate the first day of the range, used without a year
+     * @param endDate the last day of the range, used without a year
+     * @param year the calendar year, the current year if neither a year nor a range is given
      * @return a ResponseEntity containing a list of AttendanceDTO for the specified employee
      */
     @GetMapping("/getattendanceforemployee")
-    public ResponseEntity<List<AttendanceDTO>> getAttendanceForEmployee(@RequestParam String employeeId) {
-        List<AttendanceDTO> attendanceList = attendanceService.getAttendanceForEmployee(employeeId);
-        return ResponseEntity.ok(attendanceList);
+    public ResponseEntity<List<AttendanceDTO>> getAttendanceForEmployee(
+            @RequestParam String employeeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Integer year) {
+        try {
+            List<AttendanceDTO> attendanceList = attendanceService.getAttendanceForEmployee(employeeId, startDate,
+                    endDate, year);
+            return ResponseEntity.ok(attendanceList);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
@@ -69,17 +90,35 @@ public class AttendanceController {
         }
     }
 
+    /**
+     * Marks attendance for many employees and days at once, replacing the status of days already marked.
+     *
+     * @param attendanceDTOs the DTOs containing the attendance details to be marked
+     * @return a ResponseEntity containing the number of records marked
+     */
+    @PostMapping("/markattendances")
+    public ResponseEntity<Integer> markAttendances(@RequestBody List<AttendanceDTO> attendanceDTOs) {
+        try {
+            return ResponseEntity.status(201).body(attendanceService.markAttendances(attendanceDTOs));
+        } catch (ResourceNotFoundException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Retrieves team attendance records for a specified month.
      *
+     * @param year the year of the month, the current year if not given
      * @param month the month for which team attendance is to be retrieved
      * @param employeeId the ID of the employee associated with the team
      * @return a ResponseEntity containing AttendanceResponseDTO with team attendance records
      */
     @GetMapping("/getteamattendance")
-    public ResponseEntity<AttendanceResponseDTO> getTeamAttendance(@RequestParam Integer month, @RequestParam String employeeId ) {
+    public ResponseEntity<AttendanceResponseDTO> getTeamAttendance(@RequestParam(required = false) Integer year,
+                                                                   @RequestParam Integer month,
+                                                                   @RequestParam String employeeId) {
         try {
-            AttendanceResponseDTO attendanceRecord = attendanceService.getTeamAttendance(month, employeeId);
+            AttendanceResponseDTO attendanceRecord = attendanceService.getTeamAttendance(year, month, employeeId);
             return ResponseEntity.ok(attendanceRecord);
         } catch (ResourceNotFoundException e) {
             return ResponseEntity.badRequest().build();
@@ -87,14 +126,42 @@ public class AttendanceController {
     }
 
     /**
-     * Regularizes attendance for employees as per the defined rules.
+     * Retrieves the attendance summary of every member of a manager's team for a specified month.
      *
-     * @return a ResponseEntity indicating the result of the regularization operation
+     * @param year the year of the month, the current year if not given
+     * @param month the month for which team attendance is to be retrieved
+     * @param employeeId the ID of the manager whose team is summarized
+     * @param includeIndirect whether the reports of the manager's reports are included
+     * @return a ResponseEntity containing an AttendanceResponseDTO per team member
+     */
+    @GetMapping("/getteamattendancesummary")
+    public ResponseEntity<List<AttendanceResponseDTO>> getTeamAttendanceSummary(
+            @RequestParam(required = false) Integer year,
+            @RequestParam Integer month,
+            @RequestParam String employeeId,
+            @RequestParam(defaultValue = "false") boolean includeIndirect) {
+        try {
+            List<AttendanceResponseDTO> attendanceRecords = attendanceService.getTeamAttendanceSummary(year, month,
+                    employeeId, includeIndirect);
+            return ResponseEntity.ok(attendanceRecords);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Queues the regularization of attendance for employees as per the defined rules.
+     *
+     * @return a ResponseEntity containing the queued BackgroundJobDTO, to be followed on the job endpoints
      */
     @PostMapping("/regularize")
-    public ResponseEntity<Void> regularize() {
-        attendanceService.regularize();
-        return ResponseEntity.status(201).build();
+    public ResponseEntity<BackgroundJobDTO> regularize() {
+        try {
+            BackgroundJobDTO backgroundJobDTO = backgroundJobService.submitJob(BackgroundJob.REGULARIZATION, Map.of());
+            return ResponseEntity.status(202).body(backgroundJobDTO);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
 }
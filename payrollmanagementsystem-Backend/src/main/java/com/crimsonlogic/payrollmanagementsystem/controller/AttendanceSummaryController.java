@@ -0,0 +1,88 @@
+package com.crimsonlogic.payrollmanagementsystem.controller;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceSummaryDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.BackgroundJobDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.service.BackgroundJobService;
+import com.crimsonlogic.payrollmanagementsystem.service.AttendanceSummaryService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/*
+  Controller for the monthly attendance rollup within the payroll management system.
+  This includes retrieving the rollup of an employee and rebuilding the rollup
+  of past months.
+
+  @author abdulmanan
+ */
+@CrossOrigin(origins = "http://localhost:3000")
+@RestController
+@RequestMapping("/attendancesummary")
+public class AttendanceSummaryController {
+
+    private final AttendanceSummaryService attendanceSummaryService;
+    private final BackgroundJobService backgroundJobService;
+
+    /**
+     * Constructs an AttendanceSummaryController with the specified AttendanceSummaryService.
+     *
+     * @param attendanceSummaryService the service used to handle attendance rollup operations
+     * @param backgroundJobService the service used to queue the rebuilds
+     */
+    public AttendanceSummaryController(AttendanceSummaryService attendanceSummaryService,
+                                       BackgroundJobService backgroundJobService) {
+        super();
+        this.attendanceSummaryService = attendanceSummaryService;
+        this.backgroundJobService = backgroundJobService;
+    }
+
+    /**
+     * Retrieves the attendance rollup of an employee for a month.
+     *
+     * @param employeeId the ID of the employee
+     * @param year the year of the rollup
+     * @param month the month of the rollup
+     * @return a ResponseEntity containing the AttendanceSummaryDTO
+     */
+    @GetMapping("/getattendancesummary")
+    public ResponseEntity<AttendanceSummaryDTO> getAttendanceSummary(@RequestParam String employeeId,
+                                                                     @RequestParam Integer year,
+                                                                     @RequestParam Integer month) {
+        try {
+            AttendanceSummaryDTO attendanceSummary = attendanceSummaryService.getAttendanceSummary(employeeId, year, month);
+            return ResponseEntity.ok(attendanceSummary);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Queues the rebuild of the attendance rollup of all employees from the attendance records.
+     *
+     * @param startDate the start date of the range to be rebuilt
+     * @param endDate the end date of the range to be rebuilt
+     * @return a ResponseEntity containing the queued BackgroundJobDTO, to be followed on the job endpoints
+     */
+    @PostMapping("/rebuildsummaries")
+    public ResponseEntity<BackgroundJobDTO> rebuildSummaries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        try {
+            BackgroundJobDTO backgroundJobDTO = backgroundJobService.submitJob(BackgroundJob.ATTENDANCE_SUMMARY_REBUILD,
+                    Map.of("startDate", startDate.toString(), "endDate", endDate.toString()));
+            return ResponseEntity.status(202).body(backgroundJobDTO);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.crimsonlogic.payrollmanagementsystem.controller;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.BackgroundJobDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.service.BackgroundJobService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/*
+  Controller for following the background jobs within the payroll management system.
+  This includes retrieving the status and progress of a job and listing recent jobs.
+
+  @author abdulmanan
+ */
+@CrossOrigin(origins = "http://localhost:3000")
+@RestController
+@RequestMapping("/job")
+public class BackgroundJobController {
+
+    private final BackgroundJobService backgroundJobService;
+
+    /**
+     * Constructs a BackgroundJobController with the specified BackgroundJobService.
+     *
+     * @param backgroundJobService the service used to handle background jobs
+     */
+    public BackgroundJobController(BackgroundJobService backgroundJobService) {
+        super();
+        this.backgroundJobService = backgroundJobService;
+    }
+
+    /**
+     * Retrieves the status and progress of a job.
+     *
+     * @param jobId the ID of the job
+     * @return a ResponseEntity containing the BackgroundJobDTO
+     */
+    @GetMapping("/getjob")
+    public ResponseEntity<BackgroundJobDTO> getJob(@RequestParam String jobId) {
+        try {
+            BackgroundJobDTO backgroundJobDTO = backgroundJobService.getJob(jobId);
+            return ResponseEntity.ok(backgroundJobDTO);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Retrieves the most recent jobs.
+     *
+     * @param status the status of the jobs, all statuses if absent
+     * @return a ResponseEntity containing a list of BackgroundJobDTO, newest first
+     */
+    @GetMapping("/getjobs")
+    public ResponseEntity<List<BackgroundJobDTO>> getJobs(@RequestParam(required = false) String status) {
+        List<BackgroundJobDTO> backgroundJobs = backgroundJobService.getJobs(status);
+        return ResponseEntity.ok(backgroundJobs);
+    }
+}
@@ -0,0 +1,63 @@
+package com.crimsonlogic.payrollmanagementsystem.controller;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.BonusRuleDTO;
+import com.crimsonlogic.payrollmanagementsystem.service.BonusRuleService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/*
+  Controller for managing the bonus rules within the payroll management system.
+  This includes retrieving the active rules and publishing a new version of them.
+
+  @author abdulmanan
+ */
+@CrossOrigin(origins = "http://localhost:3000")
+@RestController
+@RequestMapping("/bonusrule")
+public class BonusRuleController {
+
+    private final BonusRuleService bonusRuleService;
+
+    /**
+     * Constructs a BonusRuleController with the specified BonusRuleService.
+     *
+     * @param bonusRuleService the service used to handle bonus rule operations
+     */
+    public BonusRuleController(BonusRuleService bonusRuleService) {
+        super();
+        this.bonusRuleService = bonusRuleService;
+    }
+
+    /**
+     * Retrieves the active bonus rules.
+     *
+     * @return a ResponseEntity containing a list of BonusRuleDTOs
+     */
+    @GetMapping("/getactivebonusrules")
+    public ResponseEntity<List<BonusRuleDTO>> getActiveBonusRules() {
+        List<BonusRuleDTO> bonusRules = bonusRuleService.getActiveBonusRules();
+        return ResponseEntity.ok(bonusRules);
+    }
+
+    /**
+     * Publishes a new version of the bonus rules.
+     *
+     * @param bonusRules the DTOs containing the rules of the new version
+     * @return a ResponseEntity indicating the result of the publish operation
+     */
+    @PostMapping("/publishbonusrules")
+    public ResponseEntity<Void> publishBonusRules(@RequestBody List<BonusRuleDTO> bonusRules) {
+        boolean isPublished = bonusRuleService.publishBonusRules(bonusRules);
+        if (!isPublished) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.status(201).build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.crimsonlogic.payrollmanagementsystem.controller;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.HolidayDTO;
+import com.crimsonlogic.payrollmanagementsystem.service.HolidayService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/*
+  Controller for managing the holidays of the working-day calendar within the payroll management system.
+  This includes retrieving the holidays of a year, adding and removing holidays.
+
+  @author abdulmanan
+ */
+@CrossOrigin(origins = "http://localhost:3000")
+@RestController
+@RequestMapping("/holiday")
+public class HolidayController {
+
+    private final HolidayService holidayService;
+
+    /**
+     * Constructs a HolidayController with the specified HolidayService.
+     *
+     * @param holidayService the service used to handle holiday operations
+     */
+    public HolidayController(HolidayService holidayService) {
+        super();
+        this.holidayService = holidayService;
+    }
+
+    /**
+     * Retrieves the holidays of a year.
+     *
+     * @param year the year of the holidays
+     * @return a ResponseEntity containing a list of HolidayDTOs
+     */
+    @GetMapping("/getholidays")
+    public ResponseEntity<List<HolidayDTO>> getHolidays(@RequestParam Integer year) {
+        List<HolidayDTO> holidays = holidayService.getHolidays(year);
+        return ResponseEntity.ok(holidays);
+    }
+
+    /**
+     * Adds a new holiday based on the provided HolidayDTO.
+     *
+     * @param newHoliday the DTO containing the details of the holiday to be added
+     * @return a ResponseEntity indicating the result of the addition operation
+     */
+    @PostMapping("/addholiday")
+    public ResponseEntity<Void> addHoliday(@RequestBody HolidayDTO newHoliday) {
+        boolean isAdded = holidayService.addHoliday(newHoliday);
+        if (!isAdded) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.status(201).build();
+    }
+
+    /**
+     * Removes a holiday.
+     *
+     * @param holidayId the ID of the holiday to be removed
+     * @return a ResponseEntity indicating the result of the removal operation
+     */
+    @PostMapping("/removeholiday")
+    public ResponseEntity<Void> removeHoliday(@RequestParam String holidayId) {
+        boolean isRemoved = holidayService.removeHoliday(holidayId);
+        if (!isRemoved) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok().build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.crimsonlogic.payrollmanagementsystem.controller;
 
+import com.crimsonlogic.payrollmanagementsystem.dto.LeaveDecisionResultDTO;
 import com.crimsonlogic.payrollmanagementsystem.dto.LeaveRequestDTO;
 import com.crimsonlogic.payrollmanagementsystem.exception.LeavesExhaustedException;
 import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
@@ -98,6 +99,18 @@ public class LeaveRequestController {
         return ResponseEntity.status(201).build();
     }
 
+    /**
+     * Approves or rejects many pending leave requests in one call.
+     *
+     * @param leaveRequestDTOs the leave request IDs with their decided status and description
+     * @return a ResponseEntity containing the result of each decision, in the order given
+     */
+    @PostMapping("/decideleaverequests")
+    public ResponseEntity<List<LeaveDecisionResultDTO>> decideLeaveRequests(
+            @RequestBody List<LeaveRequestDTO> leaveRequestDTOs) {
+        return ResponseEntity.ok(leaveRequestService.decideLeaveRequests(leaveRequestDTOs));
+    }
+
     /**
      * Cancels an existing leave request based on the provided LeaveRequestDTO.
      *
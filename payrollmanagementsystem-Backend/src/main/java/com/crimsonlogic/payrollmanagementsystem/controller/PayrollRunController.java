@@ -0,0 +1,131 @@
+package com.crimsonlogic.payrollmanagementsystem.controller;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.dto.BackgroundJobDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.PayrollRunDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRecordDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.service.BackgroundJobService;
+import com.crimsonlogic.payrollmanagementsystem.service.PayrollRunService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+  Controller for running payroll for the whole organisation.
+  This includes computing the salaries of all active employees for a pay period
+  and retrieving completed payroll runs.
+
+  @author abdulmanan
+ */
+@CrossOrigin(origins = "http://localhost:3000")
+@RestController
+@RequestMapping("/payrollrun")
+public class PayrollRunController {
+
+    private final PayrollRunService payrollRunService;
+    private final BackgroundJobService backgroundJobService;
+
+    /**
+     * Constructs a PayrollRunController with the specified PayrollRunService.
+     *
+     * @param payrollRunService the service used to handle payroll runs
+     * @param backgroundJobService the service used to queue payroll runs
+     */
+    PayrollRunController(PayrollRunService payrollRunService, BackgroundJobService backgroundJobService) {
+        super();
+        this.payrollRunService = payrollRunService;
+        this.backgroundJobService = backgroundJobService;
+    }
+
+    /**
+     * Computes the salaries of all active employees for a pay period.
+     *
+     * @param year the year of the pay period, the current year if absent
+     * @param month the month of the pay period, the current month if absent
+     * @return a ResponseEntity containing the PayrollRunDTO with the calculated salaries
+     */
+    @PostMapping("/runpayroll")
+    public ResponseEntity<PayrollRunDTO> runPayroll(@RequestParam(required = false) Integer year,
+                                                    @RequestParam(required = false) Integer month) {
+        try {
+            PayrollRunDTO payrollRunDTO = payrollRunService.runPayroll(year, month);
+            return ResponseEntity.ok(payrollRunDTO);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Queues a payroll run that computes and releases the salaries of all active employees
+     * in chunks, resuming from the last released chunk if it is interrupted.
+     *
+     * @param year the year of the pay period, the current year if absent
+     * @param month the month of the pay period, the current month if absent
+     * @return a ResponseEntity containing the queued BackgroundJobDTO, to be followed on the job endpoints
+     */
+    @PostMapping("/submitpayrollrun")
+    public ResponseEntity<BackgroundJobDTO> submitPayrollRun(@RequestParam(required = false) Integer year,
+                                                             @RequestParam(required = false) Integer month) {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("year", year != null ? year.toString() : null);
+        parameters.put("month", month != null ? month.toString() : null);
+        try {
+            BackgroundJobDTO backgroundJobDTO = backgroundJobService.submitJob(BackgroundJob.PAYROLL_RUN, parameters);
+            return ResponseEntity.status(202).body(backgroundJobDTO);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Retrieves the summary of a previously completed payroll run.
+     *
+     * @param runId the ID of the payroll run
+     * @return a ResponseEntity containing the PayrollRunDTO
+     */
+    @GetMapping("/getpayrollrun")
+    public ResponseEntity<PayrollRunDTO> getPayrollRun(@RequestParam String runId) {
+        try {
+            PayrollRunDTO payrollRunDTO = payrollRunService.getPayrollRun(runId);
+            return ResponseEntity.ok(payrollRunDTO);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Retrieves a page of the salary records of a previously completed payroll run,
+     * computed again for the pay period of the run.
+     *
+     * @param runId the ID of the payroll run
+     * @param afterEmployeeId the last employee ID of the previous page, absent for the first page
+     * @param pageSize the maximum number of records of the page
+     * @return a ResponseEntity containing the salary records of the page ordered by employee ID
+     */
+    @GetMapping("/getpayrollrunrecords")
+    public ResponseEntity<List<SalaryRecordDTO>> getPayrollRunRecords(@RequestParam String runId,
+                                                                      @RequestParam(required = false)
+                                                                      String afterEmployeeId,
+                                                                      @RequestParam(defaultValue = "500")
+                                                                      int pageSize) {
+        if (pageSize < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            List<SalaryRecordDTO> salaryRecords = payrollRunService.getPayrollRunRecords(runId, afterEmployeeId,
+                    pageSize);
+            return ResponseEntity.ok(salaryRecords);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.crimsonlogic.payrollmanagementsystem.controller;
+
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.service.PayslipService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/*
+  Controller for the server-side payslips within the payroll management system.
+  This includes downloading the payslips of every employee for a pay period.
+
+  @author abdulmanan
+ */
+@CrossOrigin(origins = "http://localhost:3000")
+@RestController
+@RequestMapping("/payslip")
+public class PayslipController {
+
+    private static final MediaType APPLICATION_ZIP = MediaType.parseMediaType("application/zip");
+
+    private final PayslipService payslipService;
+
+    /**
+     * Constructs a PayslipController with the specified PayslipService.
+     *
+     * @param payslipService the service used to generate payslips
+     */
+    public PayslipController(PayslipService payslipService) {
+        super();
+        this.payslipService = payslipService;
+    }
+
+    /**
+     * Downloads the payslips of every employee for a pay period as a ZIP archive.
+     * The archive is streamed while the payslips are rendered.
+     *
+     * @param year the year of the pay period
+     * @param month the month of the pay period
+     * @return a ResponseEntity streaming the archive
+     */
+    @GetMapping("/downloadpayslips")
+    public ResponseEntity<StreamingResponseBody> downloadPayslips(@RequestParam Integer year,
+                                                                  @RequestParam Integer month) {
+        try {
+            LocalDate payPeriodStart = payslipService.getReleasedPayPeriod(year, month);
+            StreamingResponseBody archive = outputStream ->
+                    payslipService.writePayslipArchive(payPeriodStart, outputStream);
+            ContentDisposition contentDisposition = ContentDisposition.attachment()
+                    .filename("payslips_" + YearMonth.from(payPeriodStart) + ".zip")
+                    .build();
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                    .contentType(APPLICATION_ZIP)
+                    .body(archive);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
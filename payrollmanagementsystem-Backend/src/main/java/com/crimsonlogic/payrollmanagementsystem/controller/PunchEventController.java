@@ -0,0 +1,59 @@
+package com.crimsonlogic.payrollmanagementsystem.controller;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.PunchEventDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.PunchIngestionDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.QueueFullException;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.service.PunchEventService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/*
+  Controller for the clock-in and clock-out events sent by the badge readers.
+  Events are accepted in batches and written to attendance in the background.
+
+  @author abdulmanan
+ */
+@CrossOrigin(origins = "http://localhost:3000")
+@RestController
+@RequestMapping("/punch")
+public class PunchEventController {
+
+    private final PunchEventService punchEventService;
+
+    /**
+     * Constructs a PunchEventController with the specified PunchEventService.
+     *
+     * @param punchEventService the service used to ingest punch events
+     */
+    public PunchEventController(PunchEventService punchEventService) {
+        super();
+        this.punchEventService = punchEventService;
+    }
+
+    /**
+     * Accepts a batch of punch events for writing.
+     *
+     * @param punchEvents the events read by the badge readers
+     * @return a ResponseEntity containing the PunchIngestionDTO, or SERVICE_UNAVAILABLE if the batch should be
+     *         retried later
+     */
+    @PostMapping("/submitpunches")
+    public ResponseEntity<PunchIngestionDTO> submitPunches(@RequestBody List<PunchEventDTO> punchEvents) {
+        try {
+            PunchIngestionDTO punchIngestionDTO = punchEventService.submitPunchEvents(punchEvents);
+            return ResponseEntity.status(202).body(punchIngestionDTO);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (QueueFullException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+}
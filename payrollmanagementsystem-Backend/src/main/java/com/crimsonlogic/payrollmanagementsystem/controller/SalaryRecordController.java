@@ -1,9 +1,12 @@
 package com.crimsonlogic.payrollmanagementsystem.controller;
 
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryPreviewCacheStatsDTO;
 import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRecordDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryReleaseDTO;
 import com.crimsonlogic.payrollmanagementsystem.dto.TaxResponseDTO;
 import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
 import com.crimsonlogic.payrollmanagementsystem.service.SalaryRecordService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /*
@@ -54,6 +58,16 @@ public class SalaryRecordController {
         }
     }
 
+    /**
+     * Retrieves the statistics of the salary preview cache.
+     *
+     * @return a ResponseEntity containing the SalaryPreviewCacheStatsDTO with the cache counters
+     */
+    @GetMapping("/getpreviewcachestats")
+    public ResponseEntity<SalaryPreviewCacheStatsDTO> getPreviewCacheStats() {
+        return ResponseEntity.ok(salaryService.getPreviewCacheStats());
+    }
+
     /**
      * Retrieves the salary records for a specific employee based on their employee ID.
      *
@@ -66,10 +80,35 @@ public class SalaryRecordController {
         return ResponseEntity.ok(salaryRecordDTO);
     }
 
+    /**
+     * Retrieves the salary records of an employee within a date range or a fiscal year.
+     *
+     * @param employeeId the ID of the employee whose salary records are to be retrieved
+     * @param startDate the first day of the period, used without a fiscal year
+     * @param endDate the last day of the period, used without a fiscal year
+     * @param fiscalYear the April to March fiscal year starting in this year
+     * @return a ResponseEntity containing a list of SalaryRecordDTOs
+     */
+    @GetMapping("/getsalarybyperiod")
+    public ResponseEntity<List<SalaryRecordDTO>> getSalaryByPeriod(
+            @RequestParam String employeeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Integer fiscalYear) {
+        try {
+            List<SalaryRecordDTO> salaryRecordDTO = salaryService.getSalaryRecordsByPeriod(employeeId, startDate,
+                    endDate, fiscalYear);
+            return ResponseEntity.ok(salaryRecordDTO);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Releases the salary for a specific employee based on the provided SalaryRecordDTO.
+     * The released amounts are the server-side preview of the pay period.
      *
-     * @param salaryRecordDTO the DTO containing the salary details to be released
+     * @param salaryRecordDTO the DTO containing the employee ID and pay period to be released
      * @return a ResponseEntity indicating the result of the release operation
      */
     @PostMapping("/releasesalary")
@@ -82,6 +121,34 @@ public class SalaryRecordController {
         }
     }
 
+    /**
+     * Releases the salaries of many employees at once, computing the amounts on the server.
+     *
+     * @param salaryRecordDTOs the DTOs containing the employees and pay periods to be released
+     * @return a ResponseEntity containing the SalaryReleaseDTO with the outcome of every chunk
+     */
+    @PostMapping("/releasesalaries")
+    public ResponseEntity<SalaryReleaseDTO> releaseSalaries(@RequestBody List<SalaryRecordDTO> salaryRecordDTOs) {
+        SalaryReleaseDTO salaryReleaseDTO = salaryService.releaseSalaries(salaryRecordDTOs);
+        return ResponseEntity.status(201).body(salaryReleaseDTO);
+    }
+
+    /**
+     * Releases the salaries computed by a payroll run.
+     *
+     * @param runId the ID of the payroll run to be released
+     * @return a ResponseEntity containing the SalaryReleaseDTO with the outcome of every chunk
+     */
+    @PostMapping("/releasepayrollrun")
+    public ResponseEntity<SalaryReleaseDTO> releasePayrollRun(@RequestParam String runId) {
+        try {
+            SalaryReleaseDTO salaryReleaseDTO = salaryService.releasePayrollRun(runId);
+            return ResponseEntity.status(201).body(salaryReleaseDTO);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Retrieves all salary records in the system.
      *
@@ -97,30 +164,89 @@ public class SalaryRecordController {
      * Retrieves the salary for a specific quarter.
      *
      * @param quarter the quarter for which to retrieve the salary
+     * @param year the year of the quarter, the current year if not provided
      * @return a ResponseEntity containing the SalaryRecordDTO for the specified quarter
      */
     @GetMapping("/getquartersalary")
-    public ResponseEntity<SalaryRecordDTO> getQuarterSalary(@RequestParam String quarter) {
+    public ResponseEntity<SalaryRecordDTO> getQuarterSalary(@RequestParam String quarter,
+                                                            @RequestParam(required = false) Integer year) {
         try {
-            SalaryRecordDTO salaryRecordDTO = salaryService.getSalaryByQuarter(quarter);
+            SalaryRecordDTO salaryRecordDTO = salaryService.getSalaryByQuarter(quarter, year);
             return ResponseEntity.ok(salaryRecordDTO);
         } catch (ResourceNotFoundException e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
+    /**
+     * Retrieves the salary totals of a date range or a fiscal year.
+     *
+     * @param startDate the first day of the period, used without a fiscal year
+     * @param endDate the last day of the period, used without a fiscal year
+     * @param fiscalYear the April to March fiscal year starting in this year
+     * @return a ResponseEntity containing the SalaryRecordDTO with the totals of the period
+     */
+    @GetMapping("/getperiodsalary")
+    public ResponseEntity<SalaryRecordDTO> getPeriodSalary(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Integer fiscalYear) {
+        try {
+            SalaryRecordDTO salaryRecordDTO = salaryService.getSalaryByPeriod(startDate, endDate, fiscalYear);
+            return ResponseEntity.ok(salaryRecordDTO);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Retrieves the salary totals of all four quarters of a year.
+     *
+     * @param year the year of the summary, the current year if not provided
+     * @return a ResponseEntity containing the SalaryRecordDTOs of the four quarters
+     */
+    @GetMapping("/getannualsalary")
+    public ResponseEntity<List<SalaryRecordDTO>> getAnnualSalary(@RequestParam(required = false) Integer year) {
+        return ResponseEntity.ok(salaryService.getAnnualSalarySummary(year));
+    }
+
     /**
      * Retrieves the tax information for a specific quarter and employee.
      *
      * @param quarter the quarter for which to retrieve the tax information
+     * @param year the year of the quarter, the current year if not provided
      * @param employeeId the ID of the employee whose tax information is to be retrieved
      * @return a ResponseEntity containing the TaxResponseDTO with tax information
      */
     @GetMapping("/getquartertax")
     public ResponseEntity<TaxResponseDTO> getQuarterTax(@RequestParam String quarter,
+                                                        @RequestParam(required = false) Integer year,
                                                         @RequestParam String employeeId) {
         try {
-            TaxResponseDTO taxResponseDTO = salaryService.getTaxByQuarter(quarter, employeeId);
+            TaxResponseDTO taxResponseDTO = salaryService.getTaxByQuarter(quarter, year, employeeId);
+            return ResponseEntity.ok(taxResponseDTO);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Retrieves the tax information of an employee for a date range or a fiscal year.
+     *
+     * @param employeeId the ID of the employee whose tax information is to be retrieved
+     * @param startDate the first day of the period, used without a fiscal year
+     * @param endDate the last day of the period, used without a fiscal year
+     * @param fiscalYear the April to March fiscal year starting in this year
+     * @return a ResponseEntity containing the TaxResponseDTO with tax information
+     */
+    @GetMapping("/getperiodtax")
+    public ResponseEntity<TaxResponseDTO> getPeriodTax(
+            @RequestParam String employeeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Integer fiscalYear) {
+        try {
+            TaxResponseDTO taxResponseDTO = salaryService.getTaxByPeriod(employeeId, startDate, endDate, fiscalYear);
             return ResponseEntity.ok(taxResponseDTO);
         } catch (ResourceNotFoundException e) {
             return ResponseEntity.badRequest().build();
@@ -0,0 +1,87 @@
+package com.crimsonlogic.payrollmanagementsystem.controller;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRollupDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.BackgroundJobDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.service.BackgroundJobService;
+import com.crimsonlogic.payrollmanagementsystem.service.SalaryRollupService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/*
+  Controller for the pre-summed payroll rollup within the payroll management system.
+  This includes retrieving the rollup of the designations for a month and rebuilding
+  the rollup of past months.
+
+  @author abdulmanan
+ */
+@CrossOrigin(origins = "http://localhost:3000")
+@RestController
+@RequestMapping("/salaryrollup")
+public class SalaryRollupController {
+
+    private final SalaryRollupService salaryRollupService;
+    private final BackgroundJobService backgroundJobService;
+
+    /**
+     * Constructs a SalaryRollupController with the specified SalaryRollupService.
+     *
+     * @param salaryRollupService the service used to handle payroll rollup operations
+     * @param backgroundJobService the service used to queue the rebuilds
+     */
+    public SalaryRollupController(SalaryRollupService salaryRollupService,
+                                  BackgroundJobService backgroundJobService) {
+        super();
+        this.salaryRollupService = salaryRollupService;
+        this.backgroundJobService = backgroundJobService;
+    }
+
+    /**
+     * Retrieves the payroll rollup of every designation for a month.
+     *
+     * @param year the year of the pay month
+     * @param month the month of the pay month
+     * @return a ResponseEntity containing the list of SalaryRollupDTOs
+     */
+    @GetMapping("/getdesignationrollups")
+    public ResponseEntity<List<SalaryRollupDTO>> getDesignationRollups(@RequestParam Integer year,
+                                                                       @RequestParam Integer month) {
+        try {
+            List<SalaryRollupDTO> rollups = salaryRollupService.getDesignationRollups(year, month);
+            return ResponseEntity.ok(rollups);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Queues the rebuild of the payroll rollup from the salary records.
+     *
+     * @param startDate the start date of the range to be rebuilt
+     * @param endDate the end date of the range to be rebuilt
+     * @return a ResponseEntity containing the queued BackgroundJobDTO, to be followed on the job endpoints
+     */
+    @PostMapping("/rebuildrollups")
+    public ResponseEntity<BackgroundJobDTO> rebuildRollups(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        try {
+            BackgroundJobDTO backgroundJobDTO = backgroundJobService.submitJob(BackgroundJob.SALARY_ROLLUP_REBUILD,
+                    Map.of("startDate", startDate.toString(), "endDate", endDate.toString()));
+            return ResponseEntity.status(202).body(backgroundJobDTO);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.crimsonlogic.payrollmanagementsystem.controller;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.TaxSlabDTO;
+import com.crimsonlogic.payrollmanagementsystem.service.TaxSlabService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/*
+  Controller for managing the income tax slabs within the payroll management system.
+  This includes retrieving the active slabs and publishing a new version of them.
+
+  @author abdulmanan
+ */
+@CrossOrigin(origins = "http://localhost:3000")
+@RestController
+@RequestMapping("/taxslab")
+public class TaxSlabController {
+
+    private final TaxSlabService taxSlabService;
+
+    /**
+     * Constructs a TaxSlabController with the specified TaxSlabService.
+     *
+     * @param taxSlabService the service used to handle tax slab operations
+     */
+    public TaxSlabController(TaxSlabService taxSlabService) {
+        super();
+        this.taxSlabService = taxSlabService;
+    }
+
+    /**
+     * Retrieves the active tax slabs.
+     *
+     * @return a ResponseEntity containing a list of TaxSlabDTOs
+     */
+    @GetMapping("/getactivetaxslabs")
+    public ResponseEntity<List<TaxSlabDTO>> getActiveTaxSlabs() {
+        List<TaxSlabDTO> taxSlabs = taxSlabService.getActiveTaxSlabs();
+        return ResponseEntity.ok(taxSlabs);
+    }
+
+    /**
+     * Publishes a new version of the tax slabs.
+     *
+     * @param taxSlabs the DTOs containing the slabs of the new version
+     * @return a ResponseEntity indicating the result of the publish operation
+     */
+    @PostMapping("/publishtaxslabs")
+    public ResponseEntity<Void> publishTaxSlabs(@RequestBody List<TaxSlabDTO> taxSlabs) {
+        boolean isPublished = taxSlabService.publishTaxSlabs(taxSlabs);
+        if (!isPublished) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.status(201).build();
+    }
+}
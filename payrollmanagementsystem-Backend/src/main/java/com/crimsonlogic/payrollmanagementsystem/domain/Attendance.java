@@ -4,7 +4,9 @@ import com.crimsonlogic.payrollmanagementsystem.util.IdGenerator;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.JoinColumn;
@@ -20,7 +22,10 @@ import java.time.LocalDate;
  *
  */
 @Entity
-@Table(name="attendance")
+@Table(name="attendance", indexes = @Index(name = "idx_attendance_employee_date",
+        columnList = "attendance_by_employee, attendance_for_date"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_attendance_employee_date",
+                columnNames = {"attendance_by_employee", "attendance_for_date"}))
 @Getter
 @Setter
 @NoArgsConstructor
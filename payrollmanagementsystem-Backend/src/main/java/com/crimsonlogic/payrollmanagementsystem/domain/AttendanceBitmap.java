@@ -0,0 +1,58 @@
+package com.crimsonlogic.payrollmanagementsystem.domain;
+
+import com.crimsonlogic.payrollmanagementsystem.util.IdGenerator;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Compact form of the attendance of an employee for a month, one row in place
+ * of a row per day. The encoding is described by
+ * {@link com.crimsonlogic.payrollmanagementsystem.util.AttendanceMonthBitmap}.
+ *
+ * @author abdulmanan
+ *
+ */
+@Entity
+@Table(name="attendance_bitmap", uniqueConstraints = @UniqueConstraint(name = "uk_attendance_bitmap_employee_month",
+        columnNames = {"bitmap_of_employee", "bitmap_year", "bitmap_month"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class AttendanceBitmap {
+    @Id
+    @Column(name="attendance_bitmap_id",length = 50)
+    private String attendanceBitmapId;
+
+    @Column(name="bitmap_year",nullable = false)
+    private Integer bitmapYear;
+
+    @Column(name="bitmap_month",nullable = false)
+    private Integer bitmapMonth;
+
+    @Column(name="recorded_days",nullable = false)
+    private Integer recordedDays;
+
+    @Column(name="status_codes",nullable = false)
+    private Long statusCodes;
+
+    @Column(name="hour_deltas")
+    private byte[] hourDeltas;
+
+    @ManyToOne
+    @JoinColumn(name = "bitmap_of_employee", referencedColumnName = "employee_id")
+    private Employees bitmapOfEmployee;
+
+    @PrePersist
+    public void generateId() {
+        this.attendanceBitmapId = "ABM" + IdGenerator.generateRandomID();
+    }
+}
@@ -0,0 +1,66 @@
+package com.crimsonlogic.payrollmanagementsystem.domain;
+
+/**
+ * Status of a day of attendance, with the 2-bit code it is stored as
+ * in the compact attendance bitmaps.
+ *
+ * @author abdulmanan
+ */
+public enum AttendanceStatus {
+
+    PRESENT("Present"),
+    ABSENT("Absent"),
+    LEAVE("Leave"),
+    HALF_DAY("Half Day");
+
+    private static final AttendanceStatus[] BY_CODE = values();
+
+    private final String label;
+
+    AttendanceStatus(String label) {
+        this.label = label;
+    }
+
+    /**
+     * The status as stored on attendance records and shown to users.
+     *
+     * @return the label of the status
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * The 2-bit code of the status.
+     *
+     * @return the code, 0 to 3
+     */
+    public int getCode() {
+        return ordinal();
+    }
+
+    /**
+     * Finds the status of a 2-bit code.
+     *
+     * @param code the code, 0 to 3
+     * @return the status of the code
+     */
+    public static AttendanceStatus fromCode(int code) {
+        return BY_CODE[code];
+    }
+
+    /**
+     * Finds the status of a label, ignoring case.
+     *
+     * @param label the label of the status
+     * @return the status, or null if the label is not a known status
+     */
+    public static AttendanceStatus fromLabel(String label) {
+        for (AttendanceStatus status : BY_CODE) {
+            if (status.label.equalsIgnoreCase(label)) {
+                return status;
+            }
+        }
+        return null;
+    }
+}
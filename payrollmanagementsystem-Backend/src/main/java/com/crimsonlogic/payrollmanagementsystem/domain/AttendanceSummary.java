@@ -0,0 +1,65 @@
+package com.crimsonlogic.payrollmanagementsystem.domain;
+
+import com.crimsonlogic.payrollmanagementsystem.util.IdGenerator;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * Monthly rollup of the attendance of an employee, kept up to date
+ * whenever attendance is marked, regularized or changed by a leave.
+ *
+ * @author abdulmanan
+ *
+ */
+@Entity
+@Table(name="attendance_summary", uniqueConstraints = @UniqueConstraint(name = "uk_attendance_summary_employee_month",
+        columnNames = {"summary_of_employee", "summary_year", "summary_month"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class AttendanceSummary {
+    @Id
+    @Column(name="attendance_summary_id",length = 50)
+    private String attendanceSummaryId;
+
+    @Column(name="summary_year",nullable = false)
+    private Integer summaryYear;
+
+    @Column(name="summary_month",nullable = false)
+    private Integer summaryMonth;
+
+    @Column(name="present_count",nullable = false)
+    private Integer presentCount;
+
+    @Column(name="absent_count",nullable = false)
+    private Integer absentCount;
+
+    @Column(name="leave_count",nullable = false)
+    private Integer leaveCount;
+
+    @Column(name="half_day_count",nullable = false)
+    private Integer halfDayCount;
+
+    @Column(name="total_hours",nullable = false)
+    private BigDecimal totalHours;
+
+    @ManyToOne
+    @JoinColumn(name = "summary_of_employee", referencedColumnName = "employee_id")
+    private Employees summaryOfEmployee;
+
+    @PrePersist
+    public void generateId() {
+        this.attendanceSummaryId = "ASM" + IdGenerator.generateRandomID();
+    }
+}
@@ -0,0 +1,102 @@
+package com.crimsonlogic.payrollmanagementsystem.domain;
+
+import com.crimsonlogic.payrollmanagementsystem.util.IdGenerator;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Long-running operation executed by the background workers instead of the request thread.
+ * The checkpoint records the last chunk that was completed, so a job picked up again
+ * after a failure or a restart resumes from there instead of starting over.
+ *
+ * @author abdulmanan
+ *
+ */
+@Entity
+@Table(name="background_job", indexes = @Index(name = "idx_background_job_status_next_run",
+        columnList = "status, next_run_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class BackgroundJob {
+
+    // Types of jobs, each run by the handler of the same type
+    public static final String REGULARIZATION = "REGULARIZATION";
+    public static final String PAYROLL_RUN = "PAYROLL_RUN";
+    public static final String SALARY_ROLLUP_REBUILD = "SALARY_ROLLUP_REBUILD";
+    public static final String ATTENDANCE_SUMMARY_REBUILD = "ATTENDANCE_SUMMARY_REBUILD";
+    public static final String PARTITION_MAINTENANCE = "PARTITION_MAINTENANCE";
+    public static final String LEAVE_ACCRUAL = "LEAVE_ACCRUAL";
+
+    // Statuses of a job, a queued job is waiting for its next run time
+    public static final String QUEUED = "QUEUED";
+    public static final String RUNNING = "RUNNING";
+    public static final String SUCCEEDED = "SUCCEEDED";
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @Column(name="job_id",length = 50)
+    private String jobId;
+
+    @Column(name="job_type",length = 50,nullable = false)
+    private String jobType;
+
+    @Column(name="status",length = 20,nullable = false)
+    private String status;
+
+    @Column(name="parameters",length = 2000)
+    private String parameters;
+
+    @Column(name="checkpoint",length = 200)
+    private String checkpoint;
+
+    @Column(name="completed_chunks",nullable = false)
+    private Integer completedChunks;
+
+    @Column(name="total_chunks")
+    private Integer totalChunks;
+
+    @Column(name="attempts",nullable = false)
+    private Integer attempts;
+
+    @Column(name="max_attempts",nullable = false)
+    private Integer maxAttempts;
+
+    @Column(name="worker_id",length = 100)
+    private String workerId;
+
+    @Column(name="last_error",length = 2000)
+    private String lastError;
+
+    @Column(name="result",length = 2000)
+    private String result;
+
+    @Column(name="created_at",nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name="next_run_at",nullable = false)
+    private LocalDateTime nextRunAt;
+
+    @Column(name="started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name="heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name="finished_at")
+    private LocalDateTime finishedAt;
+
+    @PrePersist
+    public void generateId() {
+        this.jobId = "JOB" + IdGenerator.generateRandomID();
+    }
+}
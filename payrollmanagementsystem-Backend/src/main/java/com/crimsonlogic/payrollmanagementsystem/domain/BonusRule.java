@@ -0,0 +1,67 @@
+package com.crimsonlogic.payrollmanagementsystem.domain;
+
+import com.crimsonlogic.payrollmanagementsystem.util.IdGenerator;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * A single bonus rule. All rules sharing a version form one bonus policy,
+ * the policy with the highest version is the active one.
+ *
+ * @author abdulmanan
+ *
+ */
+@Entity
+@Table(name="bonus_rule", indexes = @Index(name = "idx_bonus_rule_version", columnList = "rule_version"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class BonusRule {
+
+    // Types of rule, each names the data the bonus depends on
+    public static final String BIRTHDAY_RULE = "BIRTHDAY";
+    public static final String MONTHLY_RULE = "MONTHLY";
+    public static final String APPROVED_LEAVE_RULE = "APPROVED_LEAVE";
+
+    @Id
+    @Column(name="bonus_rule_id",length = 50)
+    private String bonusRuleId;
+
+    @Column(name="rule_version",nullable = false)
+    private Integer ruleVersion;
+
+    @Column(name="rule_name",length = 50,nullable = false)
+    private String ruleName;
+
+    @Column(name="rule_type",length = 20,nullable = false)
+    private String ruleType;
+
+    // Whole rupees added to the net salary when the rule applies
+    @Column(name="bonus_amount",nullable = false)
+    private BigDecimal bonusAmount;
+
+    // Month of the year a monthly rule pays out in
+    @Column(name="bonus_month")
+    private Integer bonusMonth;
+
+    // Leave type whose approved leaves starting in the pay period earn the bonus
+    @ManyToOne
+    @JoinColumn(name = "leave_type",referencedColumnName = "type_id")
+    private LeaveType leaveType;
+
+    @PrePersist
+    public void generateId() {
+        this.bonusRuleId = "BNR" + IdGenerator.generateRandomID();
+    }
+}
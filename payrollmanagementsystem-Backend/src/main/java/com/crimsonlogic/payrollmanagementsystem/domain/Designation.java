@@ -10,6 +10,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.math.BigDecimal;
+
 /**
  * @author abdulmanan
  *
@@ -27,6 +29,10 @@ public class Designation {
     @Column(name = "designation_name",length = 70)
     private String designationName;
 
+    // Factor applied to the hourly rate for overtime, the payroll default when not set
+    @Column(name = "overtime_multiplier",precision = 4,scale = 2)
+    private BigDecimal overtimeMultiplier;
+
     @PrePersist
     public void generateId() {
         this.designationId = "DSG" + IdGenerator.generateRandomID();
@@ -0,0 +1,43 @@
+package com.crimsonlogic.payrollmanagementsystem.domain;
+
+import com.crimsonlogic.payrollmanagementsystem.util.IdGenerator;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Public holiday on which no employee works, in addition to the weekly days off.
+ *
+ * @author abdulmanan
+ *
+ */
+@Entity
+@Table(name="holiday", uniqueConstraints = @UniqueConstraint(name = "uk_holiday_date",
+        columnNames = "holiday_date"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class Holiday {
+    @Id
+    @Column(name="holiday_id",length = 50)
+    private String holidayId;
+
+    @Column(name="holiday_date",nullable = false)
+    private LocalDate holidayDate;
+
+    @Column(name="holiday_name",length = 50)
+    private String holidayName;
+
+    @PrePersist
+    public void generateId() {
+        this.holidayId = "HOL" + IdGenerator.generateRandomID();
+    }
+}
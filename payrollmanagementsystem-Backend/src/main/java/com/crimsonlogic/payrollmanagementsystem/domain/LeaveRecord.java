@@ -13,6 +13,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 /**
  * @author abdulmanan
@@ -37,6 +38,21 @@ public class LeaveRecord {
     @Column(name = "remaining_leaves")
     private BigDecimal remainingLeaves;
 
+    @Column(name = "held_leaves")
+    private BigDecimal heldLeaves;
+
+    // Days carried from the previous year
+    @Column(name = "carried_leaves")
+    private BigDecimal carriedLeaves;
+
+    // Year of the balance, a later year rolls the balance over
+    @Column(name = "balance_year")
+    private Integer balanceYear;
+
+    // First day of the last month accrued
+    @Column(name = "accrued_month")
+    private LocalDate accruedMonth;
+
     @ManyToOne
     @JoinColumn(name = "leave_for_employee", referencedColumnName = "employee_id")
     private Employees leaveForEmployee;
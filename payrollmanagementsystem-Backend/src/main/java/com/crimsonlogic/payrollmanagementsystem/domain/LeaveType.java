@@ -10,6 +10,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.math.BigDecimal;
+
 /**
  * @author abdulmanan
  *
@@ -30,6 +32,14 @@ public class LeaveType {
     @Column(name="number_of_leaves")
     private Integer numberOfLeaves;
 
+    // Days earned each month, the yearly number of leaves is granted at once when not set
+    @Column(name="monthly_accrual")
+    private BigDecimal monthlyAccrual;
+
+    // Most unused days carried into the next year, the rest lapse, all are carried when not set
+    @Column(name="carry_forward_limit")
+    private BigDecimal carryForwardLimit;
+
     @PrePersist
     public void generateId() {
         this.typeId = "TYP" + IdGenerator.generateRandomID();
@@ -4,6 +4,7 @@ import com.crimsonlogic.payrollmanagementsystem.util.IdGenerator;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.JoinColumn;
@@ -19,7 +20,8 @@ import java.sql.Timestamp;
  *
  */
 @Entity
-@Table(name="login_logs")
+@Table(name="login_logs", indexes = @Index(name = "idx_login_logs_employee_time",
+        columnList = "log_for_employee, login_time"))
 @Getter
 @Setter
 @NoArgsConstructor
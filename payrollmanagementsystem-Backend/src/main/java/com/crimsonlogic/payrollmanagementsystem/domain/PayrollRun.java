@@ -0,0 +1,55 @@
+package com.crimsonlogic.payrollmanagementsystem.domain;
+
+import com.crimsonlogic.payrollmanagementsystem.util.IdGenerator;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Summary of a completed payroll run. The salary records of the run are not
+ * stored, they are computed again for its pay period when they are read.
+ *
+ * @author abdulmanan
+ *
+ */
+@Entity
+@Table(name="payroll_run")
+@Getter
+@Setter
+@NoArgsConstructor
+public class PayrollRun {
+    @Id
+    @Column(name="run_id",length = 50)
+    private String runId;
+
+    @Column(name="pay_period_start",nullable = false)
+    private LocalDate payPeriodStart;
+
+    @Column(name="pay_period_end",nullable = false)
+    private LocalDate payPeriodEnd;
+
+    @Column(name="employee_count",nullable = false)
+    private Integer employeeCount;
+
+    @Column(name="elapsed_millis",nullable = false)
+    private Long elapsedMillis;
+
+    @Column(name="employees_per_second",nullable = false)
+    private Double employeesPerSecond;
+
+    @Column(name="completed_at",nullable = false)
+    private LocalDateTime completedAt;
+
+    @PrePersist
+    public void generateId() {
+        this.runId = "RUN" + IdGenerator.generateRandomID();
+    }
+}
@@ -0,0 +1,62 @@
+package com.crimsonlogic.payrollmanagementsystem.domain;
+
+import com.crimsonlogic.payrollmanagementsystem.util.IdGenerator;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Raw clock-in or clock-out event of an employee read by a badge reader.
+ * The hours of attendance are computed from these events, a resent event
+ * is stored once.
+ *
+ * @author abdulmanan
+ *
+ */
+@Entity
+@Table(name="punch_event", uniqueConstraints = @UniqueConstraint(name = "uk_punch_event_employee_time",
+        columnNames = {"punch_by_employee", "punch_time", "direction"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class PunchEvent {
+
+    // Directions of a punch
+    public static final String IN = "IN";
+    public static final String OUT = "OUT";
+
+    @Id
+    @Column(name="punch_event_id",length = 50)
+    private String punchEventId;
+
+    @Column(name="punch_time",nullable = false)
+    private LocalDateTime punchTime;
+
+    @Column(name="direction",length = 10,nullable = false)
+    private String direction;
+
+    @Column(name="device_id",length = 50)
+    private String deviceId;
+
+    @Column(name="received_at",nullable = false)
+    private LocalDateTime receivedAt;
+
+    @ManyToOne
+    @JoinColumn(name = "punch_by_employee", referencedColumnName = "employee_id", nullable = false)
+    private Employees punchByEmployee;
+
+    @PrePersist
+    public void generateId() {
+        this.punchEventId = "PCH" + IdGenerator.generateRandomID();
+    }
+}
@@ -0,0 +1,58 @@
+package com.crimsonlogic.payrollmanagementsystem.domain;
+
+import com.crimsonlogic.payrollmanagementsystem.util.IdGenerator;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Punch event that was accepted but could not be written, kept with the error
+ * so it can be corrected and resubmitted. The employee is stored as given,
+ * an unknown employee may be the reason the event failed.
+ *
+ * @author abdulmanan
+ *
+ */
+@Entity
+@Table(name="punch_event_dead_letter")
+@Getter
+@Setter
+@NoArgsConstructor
+public class PunchEventDeadLetter {
+    @Id
+    @Column(name="dead_letter_id",length = 50)
+    private String deadLetterId;
+
+    @Column(name="punch_by_employee",length = 50,nullable = false)
+    private String punchByEmployee;
+
+    @Column(name="punch_time",nullable = false)
+    private LocalDateTime punchTime;
+
+    @Column(name="direction",length = 10,nullable = false)
+    private String direction;
+
+    @Column(name="device_id",length = 50)
+    private String deviceId;
+
+    @Column(name="received_at",nullable = false)
+    private LocalDateTime receivedAt;
+
+    @Column(name="error_message",length = 1000)
+    private String errorMessage;
+
+    @Column(name="failed_at",nullable = false)
+    private LocalDateTime failedAt;
+
+    @PrePersist
+    public void generateId() {
+        this.deadLetterId = "PDL" + IdGenerator.generateRandomID();
+    }
+}
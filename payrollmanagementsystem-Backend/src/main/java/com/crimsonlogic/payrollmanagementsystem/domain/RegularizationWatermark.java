@@ -0,0 +1,49 @@
+package com.crimsonlogic.payrollmanagementsystem.domain;
+
+import com.crimsonlogic.payrollmanagementsystem.util.IdGenerator;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * The last day up to which the attendance of an employee has been regularized,
+ * so each regularization only fills in the days after it.
+ *
+ * @author abdulmanan
+ *
+ */
+@Entity
+@Table(name="regularization_watermark")
+@Getter
+@Setter
+@NoArgsConstructor
+public class RegularizationWatermark {
+    @Id
+    @Column(name="regularization_watermark_id",length = 50)
+    private String regularizationWatermarkId;
+
+    @Column(name="regularized_through",nullable = false)
+    private LocalDate regularizedThrough;
+
+    @Column(name="updated_at",nullable = false)
+    private LocalDateTime updatedAt;
+
+    @OneToOne
+    @JoinColumn(name = "watermark_of_employee", referencedColumnName = "employee_id", unique = true)
+    private Employees watermarkOfEmployee;
+
+    @PrePersist
+    public void generateId() {
+        this.regularizationWatermarkId = "RWM" + IdGenerator.generateRandomID();
+    }
+}
@@ -4,10 +4,12 @@ import com.crimsonlogic.payrollmanagementsystem.util.IdGenerator;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -21,7 +23,9 @@ import java.time.LocalDate;
  *
  */
 @Entity
-@Table(name="salary_record")
+@Table(name="salary_record", uniqueConstraints = @UniqueConstraint(name = "uk_salary_record_employee_period",
+        columnNames = {"salary_record_of_employee", "pay_period_start"}),
+        indexes = @Index(name = "idx_salary_record_pay_period_start", columnList = "pay_period_start"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -43,6 +47,9 @@ public class SalaryRecord {
     @Column(name="bonusAmount")
     private BigDecimal bonusAmount;
 
+    @Column(name="overtime_amount")
+    private BigDecimal overtimeAmount;
+
     @Column(name="tax_amount")
     private BigDecimal taxAmount;
 
@@ -0,0 +1,79 @@
+package com.crimsonlogic.payrollmanagementsystem.domain;
+
+import com.crimsonlogic.payrollmanagementsystem.util.IdGenerator;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Pre-summed salary records of a pay month, for the whole company, per designation
+ * or per employee. Kept up to date in the transaction of every salary release.
+ *
+ * @author abdulmanan
+ *
+ */
+@Entity
+@Table(name="salary_rollup", uniqueConstraints = @UniqueConstraint(name = "uk_salary_rollup_grain_month",
+        columnNames = {"rollup_grain", "grain_key", "pay_month"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class SalaryRollup {
+
+    // Grains of the rollup, the grain key is empty for the company-wide month
+    public static final String MONTH_GRAIN = "MONTH";
+    public static final String DESIGNATION_GRAIN = "DESIGNATION";
+    public static final String EMPLOYEE_GRAIN = "EMPLOYEE";
+
+    @Id
+    @Column(name="salary_rollup_id",length = 50)
+    private String salaryRollupId;
+
+    @Column(name="rollup_grain",length = 20,nullable = false)
+    private String rollupGrain;
+
+    @Column(name="grain_key",length = 50,nullable = false)
+    private String grainKey;
+
+    @Column(name="pay_month",nullable = false)
+    private LocalDate payMonth;
+
+    @Column(name="record_count",nullable = false)
+    private Integer recordCount;
+
+    @Column(name="gross_salary",nullable = false)
+    private BigDecimal grossSalary;
+
+    @Column(name="net_salary",nullable = false)
+    private BigDecimal netSalary;
+
+    @Column(name="bonus_amount",nullable = false)
+    private BigDecimal bonusAmount;
+
+    // Nullable so the column can be added to existing rollups, a rebuild fills it in
+    @Column(name="overtime_amount")
+    private BigDecimal overtimeAmount;
+
+    @Column(name="penalty_amount",nullable = false)
+    private BigDecimal penaltyAmount;
+
+    @Column(name="pf_amount",nullable = false)
+    private BigDecimal pfAmount;
+
+    @Column(name="tax_amount",nullable = false)
+    private BigDecimal taxAmount;
+
+    @PrePersist
+    public void generateId() {
+        this.salaryRollupId = "SRU" + IdGenerator.generateRandomID();
+    }
+}
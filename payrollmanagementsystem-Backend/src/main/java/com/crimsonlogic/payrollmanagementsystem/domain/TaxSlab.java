@@ -0,0 +1,53 @@
+package com.crimsonlogic.payrollmanagementsystem.domain;
+
+import com.crimsonlogic.payrollmanagementsystem.util.IdGenerator;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * A single income tax slab. All slabs sharing a version form one tax regime,
+ * the regime with the highest version is the active one. Every regime has a
+ * slab from zero, so two regimes can never share a version.
+ *
+ * @author abdulmanan
+ *
+ */
+@Entity
+@Table(name="tax_slab", uniqueConstraints = @UniqueConstraint(name = "uk_tax_slab_version_lower_limit",
+        columnNames = {"slab_version", "lower_limit"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaxSlab {
+    @Id
+    @Column(name="tax_slab_id",length = 50)
+    private String taxSlabId;
+
+    @Column(name="slab_version",nullable = false)
+    private Integer slabVersion;
+
+    // Annual salary above which the slab applies
+    @Column(name="lower_limit",nullable = false)
+    private BigDecimal lowerLimit;
+
+    @Column(name="tax_rate",nullable = false,precision = 5,scale = 4)
+    private BigDecimal taxRate;
+
+    // Tax accumulated by all slabs below the lower limit
+    @Column(name="base_tax",nullable = false)
+    private BigDecimal baseTax;
+
+    @PrePersist
+    public void generateId() {
+        this.taxSlabId = "TXS" + IdGenerator.generateRandomID();
+    }
+}
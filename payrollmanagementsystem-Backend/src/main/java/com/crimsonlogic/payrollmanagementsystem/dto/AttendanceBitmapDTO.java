@@ -0,0 +1,29 @@
+package com.crimsonlogic.payrollmanagementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * @author abdulmanan
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceBitmapDTO {
+
+    private String employeeId;
+
+    private Integer bitmapYear;
+
+    private Integer bitmapMonth;
+
+    private Integer recordedDays;
+
+    private Long statusCodes;
+
+    private byte[] hourDeltas;
+}
@@ -1,5 +1,6 @@
 package com.crimsonlogic.payrollmanagementsystem.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -14,6 +15,7 @@ import java.time.LocalDate;
 @Getter
 @Setter
 @NoArgsConstructor
+@AllArgsConstructor
 public class AttendanceDTO {
 
     private String attendanceId;
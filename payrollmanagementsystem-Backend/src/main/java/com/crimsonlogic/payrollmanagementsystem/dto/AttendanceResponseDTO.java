@@ -12,6 +12,7 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 public class AttendanceResponseDTO {
+    private String employeeId;
     private String fullName;
     private Integer presentCount=0;
     private Integer leaveCount=0;
@@ -0,0 +1,35 @@
+package com.crimsonlogic.payrollmanagementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * @author abdulmanan
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceSummaryDTO {
+
+    private String employeeId;
+
+    private Integer summaryYear;
+
+    private Integer summaryMonth;
+
+    private Integer presentCount = 0;
+
+    private Integer absentCount = 0;
+
+    private Integer leaveCount = 0;
+
+    private Integer halfDayCount = 0;
+
+    private BigDecimal totalHours = BigDecimal.ZERO;
+}
@@ -0,0 +1,25 @@
+package com.crimsonlogic.payrollmanagementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * @author abdulmanan
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceUpsertDTO {
+
+    // The records as they were before the upsert, only for the days that already had one
+    private List<AttendanceDTO> previousAttendances;
+
+    // The records as they were saved
+    private List<AttendanceDTO> attendances;
+}
@@ -0,0 +1,48 @@
+package com.crimsonlogic.payrollmanagementsystem.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * @author abdulmanan
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BackgroundJobDTO {
+    private String jobId;
+
+    private String jobType;
+
+    private String status;
+
+    private String parameters;
+
+    private String checkpoint;
+
+    private Integer completedChunks;
+
+    private Integer totalChunks;
+
+    private Integer progressPercent;
+
+    private Integer attempts;
+
+    private Integer maxAttempts;
+
+    private String lastError;
+
+    private String result;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime nextRunAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+}
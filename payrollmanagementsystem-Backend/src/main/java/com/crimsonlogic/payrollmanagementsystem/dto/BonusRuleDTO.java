@@ -0,0 +1,33 @@
+package com.crimsonlogic.payrollmanagementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * @author abdulmanan
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BonusRuleDTO {
+
+    private String bonusRuleId;
+
+    private Integer ruleVersion;
+
+    private String ruleName;
+
+    private String ruleType;
+
+    private BigDecimal bonusAmount;
+
+    private Integer bonusMonth;
+
+    private String leaveTypeId;
+}
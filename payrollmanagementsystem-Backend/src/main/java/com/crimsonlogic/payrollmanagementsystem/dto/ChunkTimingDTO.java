@@ -0,0 +1,27 @@
+package com.crimsonlogic.payrollmanagementsystem.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * @author abdulmanan
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ChunkTimingDTO {
+    private Integer chunkNumber;
+
+    private Integer recordCount;
+
+    private Long elapsedMillis;
+
+    public ChunkTimingDTO(Integer chunkNumber, Integer recordCount, Long elapsedMillis) {
+        super();
+        this.chunkNumber = chunkNumber;
+        this.recordCount = recordCount;
+        this.elapsedMillis = elapsedMillis;
+    }
+}
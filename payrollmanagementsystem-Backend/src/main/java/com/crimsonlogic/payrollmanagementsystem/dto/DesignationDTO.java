@@ -4,6 +4,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.math.BigDecimal;
+
 /**
  * @author abdulmanan
  *
@@ -16,4 +18,6 @@ public class DesignationDTO {
     private String designationId;
 
     private String designationName;
+
+    private BigDecimal overtimeMultiplier;
 }
@@ -0,0 +1,24 @@
+package com.crimsonlogic.payrollmanagementsystem.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * @author abdulmanan
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class EmployeeCountDTO {
+    private String employeeId;
+
+    private Long count;
+
+    public EmployeeCountDTO(String employeeId, Long count) {
+        super();
+        this.employeeId = employeeId;
+        this.count = count;
+    }
+}
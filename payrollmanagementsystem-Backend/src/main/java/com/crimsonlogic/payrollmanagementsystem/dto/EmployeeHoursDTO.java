@@ -0,0 +1,26 @@
+package com.crimsonlogic.payrollmanagementsystem.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * @author abdulmanan
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class EmployeeHoursDTO {
+    private String employeeId;
+
+    private BigDecimal hours;
+
+    public EmployeeHoursDTO(String employeeId, BigDecimal hours) {
+        super();
+        this.employeeId = employeeId;
+        this.hours = hours;
+    }
+}
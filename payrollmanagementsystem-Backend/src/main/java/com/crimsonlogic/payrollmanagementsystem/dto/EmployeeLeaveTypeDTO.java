@@ -0,0 +1,24 @@
+package com.crimsonlogic.payrollmanagementsystem.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * @author abdulmanan
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class EmployeeLeaveTypeDTO {
+    private String employeeId;
+
+    private String leaveTypeId;
+
+    public EmployeeLeaveTypeDTO(String employeeId, String leaveTypeId) {
+        super();
+        this.employeeId = employeeId;
+        this.leaveTypeId = leaveTypeId;
+    }
+}
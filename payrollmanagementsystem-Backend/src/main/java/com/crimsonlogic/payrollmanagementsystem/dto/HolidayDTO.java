@@ -0,0 +1,25 @@
+package com.crimsonlogic.payrollmanagementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * @author abdulmanan
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class HolidayDTO {
+
+    private String holidayId;
+
+    private LocalDate holidayDate;
+
+    private String holidayName;
+}
@@ -0,0 +1,26 @@
+package com.crimsonlogic.payrollmanagementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * @author abdulmanan
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveAccrualDTO {
+
+    // The last employee of the chunk, null when there were no more employees
+    private String lastEmployeeId;
+
+    private Integer createdRecords;
+
+    private Integer rolledOverRecords;
+
+    private Integer accruedRecords;
+}
@@ -0,0 +1,25 @@
+package com.crimsonlogic.payrollmanagementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * @author abdulmanan
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveDecisionResultDTO {
+
+    private String leaveRequestId;
+
+    private String status;
+
+    private Boolean decided;
+
+    private String message;
+}
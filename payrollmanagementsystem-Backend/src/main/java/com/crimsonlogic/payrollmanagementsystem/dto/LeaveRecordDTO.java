@@ -22,6 +22,12 @@ public class LeaveRecordDTO {
 
     private BigDecimal remainingLeaves;
 
+    private BigDecimal heldLeaves;
+
+    private BigDecimal carriedLeaves;
+
+    private Integer balanceYear;
+
     private String leaveForEmployee;
 
     private String typeOfLeave;
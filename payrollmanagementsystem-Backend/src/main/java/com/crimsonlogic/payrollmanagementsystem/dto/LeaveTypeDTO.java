@@ -4,6 +4,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.math.BigDecimal;
+
 /**
  * @author abdulmanan
  *
@@ -18,4 +20,8 @@ public class LeaveTypeDTO {
 
     private Integer numberOfLeaves;
 
+    private BigDecimal monthlyAccrual;
+
+    private BigDecimal carryForwardLimit;
+
 }
@@ -0,0 +1,29 @@
+package com.crimsonlogic.payrollmanagementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * @author abdulmanan
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartitionMaintenanceDTO {
+
+    private String tableName;
+
+    private Boolean converted;
+
+    private Integer createdPartitions;
+
+    private Integer archivedPartitions;
+
+    private Integer partitionCount;
+
+    private Long elapsedMillis;
+}
@@ -0,0 +1,43 @@
+package com.crimsonlogic.payrollmanagementsystem.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * @author abdulmanan
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class PayrollInputDTO {
+    private String employeeId;
+
+    private String fullName;
+
+    private String designation;
+
+    private LocalDate joiningDate;
+
+    private LocalDate dateOfBirth;
+
+    private BigDecimal costToCompany;
+
+    private BigDecimal overtimeMultiplier;
+
+    public PayrollInputDTO(String employeeId, String fullName, String designation, LocalDate joiningDate,
+                           LocalDate dateOfBirth, BigDecimal costToCompany, BigDecimal overtimeMultiplier) {
+        super();
+        this.employeeId = employeeId;
+        this.fullName = fullName;
+        this.designation = designation;
+        this.joiningDate = joiningDate;
+        this.dateOfBirth = dateOfBirth;
+        this.costToCompany = costToCompany;
+        this.overtimeMultiplier = overtimeMultiplier;
+    }
+}
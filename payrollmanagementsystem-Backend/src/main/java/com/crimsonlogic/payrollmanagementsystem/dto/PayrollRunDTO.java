@@ -0,0 +1,31 @@
+package com.crimsonlogic.payrollmanagementsystem.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * @author abdulmanan
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class PayrollRunDTO {
+    private String runId;
+
+    private LocalDate payPeriodStart;
+
+    private LocalDate payPeriodEnd;
+
+    private Integer employeeCount;
+
+    private Long elapsedMillis;
+
+    private Double employeesPerSecond;
+
+    private List<SalaryRecordDTO> salaryRecords;
+}
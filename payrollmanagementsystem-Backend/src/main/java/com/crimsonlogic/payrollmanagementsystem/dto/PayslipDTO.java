@@ -0,0 +1,60 @@
+package com.crimsonlogic.payrollmanagementsystem.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * @author abdulmanan
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class PayslipDTO {
+    private String employeeId;
+
+    private String fullName;
+
+    private LocalDate joiningDate;
+
+    private String designation;
+
+    private LocalDate payPeriodStart;
+
+    private BigDecimal grossSalary;
+
+    private BigDecimal bonusAmount;
+
+    private BigDecimal overtimeAmount;
+
+    private BigDecimal penaltyAmount;
+
+    private BigDecimal pfAmount;
+
+    private BigDecimal taxAmount;
+
+    private BigDecimal netSalary;
+
+    public PayslipDTO(String employeeId, String fullName, LocalDate joiningDate, String designation,
+                      LocalDate payPeriodStart, BigDecimal grossSalary, BigDecimal bonusAmount,
+                      BigDecimal overtimeAmount, BigDecimal penaltyAmount, BigDecimal pfAmount, BigDecimal taxAmount,
+                      BigDecimal netSalary) {
+        super();
+        this.employeeId = employeeId;
+        this.fullName = fullName;
+        this.joiningDate = joiningDate;
+        this.designation = designation;
+        this.payPeriodStart = payPeriodStart;
+        this.grossSalary = grossSalary;
+        this.bonusAmount = bonusAmount;
+        this.overtimeAmount = overtimeAmount;
+        this.penaltyAmount = penaltyAmount;
+        this.pfAmount = pfAmount;
+        this.taxAmount = taxAmount;
+        this.netSalary = netSalary;
+    }
+}
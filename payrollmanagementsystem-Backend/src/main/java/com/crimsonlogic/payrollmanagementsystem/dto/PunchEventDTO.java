@@ -0,0 +1,29 @@
+package com.crimsonlogic.payrollmanagementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * @author abdulmanan
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PunchEventDTO {
+
+    private String employeeId;
+
+    private LocalDateTime punchTime;
+
+    private String direction;
+
+    private String deviceId;
+
+    private LocalDateTime receivedAt;
+}
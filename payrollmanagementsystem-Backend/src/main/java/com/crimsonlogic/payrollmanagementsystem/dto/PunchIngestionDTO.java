@@ -0,0 +1,23 @@
+package com.crimsonlogic.payrollmanagementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * @author abdulmanan
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PunchIngestionDTO {
+
+    private Integer acceptedEvents;
+
+    private Integer queuedEvents;
+
+    private Integer remainingCapacity;
+}
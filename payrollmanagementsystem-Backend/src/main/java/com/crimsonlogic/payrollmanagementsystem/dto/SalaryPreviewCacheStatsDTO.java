@@ -0,0 +1,26 @@
+package com.crimsonlogic.payrollmanagementsystem.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * @author abdulmanan
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class SalaryPreviewCacheStatsDTO {
+    private Long hits;
+
+    private Long misses;
+
+    private Long invalidations;
+
+    private Long evictions;
+
+    private Integer size;
+
+    private Integer capacity;
+}
@@ -25,6 +25,8 @@ public class SalaryRecordDTO {
 
     private BigDecimal bonusAmount;
 
+    private BigDecimal overtimeAmount;
+
     private BigDecimal penaltyAmount;
 
     private BigDecimal netSalary;
@@ -0,0 +1,29 @@
+package com.crimsonlogic.payrollmanagementsystem.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author abdulmanan
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class SalaryReleaseDTO {
+    private Integer totalRecords;
+
+    private Integer releasedRecords;
+
+    private Integer chunkSize;
+
+    private Long elapsedMillis;
+
+    private List<String> rejectedEmployeeIds = new ArrayList<>();
+
+    private List<ChunkTimingDTO> chunkTimings = new ArrayList<>();
+}
@@ -0,0 +1,46 @@
+package com.crimsonlogic.payrollmanagementsystem.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * @author abdulmanan
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class SalaryRollupDTO {
+    private String rollupGrain;
+
+    private String grainKey;
+
+    private LocalDate payMonth;
+
+    private Integer recordCount = 0;
+
+    private BigDecimal grossSalary = BigDecimal.ZERO;
+
+    private BigDecimal netSalary = BigDecimal.ZERO;
+
+    private BigDecimal bonusAmount = BigDecimal.ZERO;
+
+    private BigDecimal overtimeAmount = BigDecimal.ZERO;
+
+    private BigDecimal penaltyAmount = BigDecimal.ZERO;
+
+    private BigDecimal pfAmount = BigDecimal.ZERO;
+
+    private BigDecimal taxAmount = BigDecimal.ZERO;
+
+    public SalaryRollupDTO(String rollupGrain, String grainKey, LocalDate payMonth) {
+        super();
+        this.rollupGrain = rollupGrain;
+        this.grainKey = grainKey;
+        this.payMonth = payMonth;
+    }
+}
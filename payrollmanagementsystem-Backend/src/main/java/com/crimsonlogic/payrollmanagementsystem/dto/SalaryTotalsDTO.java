@@ -0,0 +1,53 @@
+package com.crimsonlogic.payrollmanagementsystem.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * @author abdulmanan
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class SalaryTotalsDTO {
+    private Integer quarter;
+
+    private BigDecimal grossSalary = BigDecimal.ZERO;
+
+    private BigDecimal netSalary = BigDecimal.ZERO;
+
+    private BigDecimal bonusAmount = BigDecimal.ZERO;
+
+    private BigDecimal overtimeAmount = BigDecimal.ZERO;
+
+    private BigDecimal penaltyAmount = BigDecimal.ZERO;
+
+    private BigDecimal pfAmount = BigDecimal.ZERO;
+
+    private BigDecimal taxAmount = BigDecimal.ZERO;
+
+    // Sums over no records are null and are reported as zero
+    public SalaryTotalsDTO(BigDecimal grossSalary, BigDecimal netSalary, BigDecimal bonusAmount,
+                           BigDecimal overtimeAmount, BigDecimal penaltyAmount, BigDecimal pfAmount,
+                           BigDecimal taxAmount) {
+        super();
+        this.grossSalary = grossSalary != null ? grossSalary : BigDecimal.ZERO;
+        this.netSalary = netSalary != null ? netSalary : BigDecimal.ZERO;
+        this.bonusAmount = bonusAmount != null ? bonusAmount : BigDecimal.ZERO;
+        this.overtimeAmount = overtimeAmount != null ? overtimeAmount : BigDecimal.ZERO;
+        this.penaltyAmount = penaltyAmount != null ? penaltyAmount : BigDecimal.ZERO;
+        this.pfAmount = pfAmount != null ? pfAmount : BigDecimal.ZERO;
+        this.taxAmount = taxAmount != null ? taxAmount : BigDecimal.ZERO;
+    }
+
+    public SalaryTotalsDTO(Integer quarter, BigDecimal grossSalary, BigDecimal netSalary, BigDecimal bonusAmount,
+                           BigDecimal overtimeAmount, BigDecimal penaltyAmount, BigDecimal pfAmount,
+                           BigDecimal taxAmount) {
+        this(grossSalary, netSalary, bonusAmount, overtimeAmount, penaltyAmount, pfAmount, taxAmount);
+        this.quarter = quarter;
+    }
+}
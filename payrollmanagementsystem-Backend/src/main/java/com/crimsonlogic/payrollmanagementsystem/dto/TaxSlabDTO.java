@@ -0,0 +1,29 @@
+package com.crimsonlogic.payrollmanagementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * @author abdulmanan
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaxSlabDTO {
+
+    private String taxSlabId;
+
+    private Integer slabVersion;
+
+    private BigDecimal lowerLimit;
+
+    private BigDecimal taxRate;
+
+    private BigDecimal baseTax;
+}
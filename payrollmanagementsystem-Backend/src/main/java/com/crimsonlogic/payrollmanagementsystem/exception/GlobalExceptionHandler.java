@@ -59,6 +59,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
     }
 
+    /**
+     * Handles QueueFullException and returns a SERVICE_UNAVAILABLE response.
+     *
+     * @param e the QueueFullException to handle
+     * @return a ResponseEntity with the error message
+     */
+    @ExceptionHandler(QueueFullException.class)
+    public ResponseEntity<String> handleQueueFullException(QueueFullException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+    }
+
     /**
      * Handles generic exceptions and returns an INTERNAL_SERVER_ERROR response.
      *
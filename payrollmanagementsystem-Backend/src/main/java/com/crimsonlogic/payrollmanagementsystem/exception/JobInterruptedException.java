@@ -0,0 +1,20 @@
+package com.crimsonlogic.payrollmanagementsystem.exception;
+
+/**
+ * Exception thrown when a background job has to stop before its next chunk,
+ * because the application is shutting down or another worker took the job over.
+ * The job keeps its last checkpoint and is resumed from there.
+ *
+ * @author abdulmanan
+ */
+public class JobInterruptedException extends Exception {
+
+    /**
+     * Constructs a new JobInterruptedException with the specified detail message.
+     *
+     * @param msg the detail message
+     */
+    public JobInterruptedException(String msg) {
+        super(msg);
+    }
+}
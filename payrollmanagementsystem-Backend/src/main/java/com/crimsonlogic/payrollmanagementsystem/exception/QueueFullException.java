@@ -0,0 +1,19 @@
+package com.crimsonlogic.payrollmanagementsystem.exception;
+
+/**
+ * Exception thrown when a batch of work does not fit in a bounded in-memory queue.
+ * The caller is expected to retry the batch later.
+ *
+ * @author abdulmanan
+ */
+public class QueueFullException extends Exception {
+
+    /**
+     * Constructs a new QueueFullException with the specified detail message.
+     *
+     * @param msg the detail message
+     */
+    public QueueFullException(String msg) {
+        super(msg);
+    }
+}
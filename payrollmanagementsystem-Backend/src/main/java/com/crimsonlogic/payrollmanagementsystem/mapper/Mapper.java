@@ -69,4 +69,16 @@ public interface Mapper {
 
     @Mapping(target = "logForEmployee",source = "logForEmployee.employeeId")
     LoginLogsDTO entityTODtoForLoginLogs(LoginLogs logs);
+
+    List<TaxSlabDTO> entityToDtoForTaxSlabs(List<TaxSlab> taxSlabs);
+    List<SalaryRollupDTO> entityToDtoForSalaryRollups(List<SalaryRollup> salaryRollups);
+
+    @Mapping(target = "progressPercent",ignore = true)
+    BackgroundJobDTO entityToDtoForBackgroundJob(BackgroundJob backgroundJob);
+
+    @Mapping(target = "leaveTypeId",source = "leaveType.typeId")
+    BonusRuleDTO entityToDtoForBonusRule(BonusRule bonusRule);
+    List<BonusRuleDTO> entityToDtoForBonusRules(List<BonusRule> bonusRules);
+
+    List<HolidayDTO> entityToDtoForHolidays(List<Holiday> holidays);
 }
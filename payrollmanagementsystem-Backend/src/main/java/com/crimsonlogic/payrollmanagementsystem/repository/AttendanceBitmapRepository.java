@@ -0,0 +1,64 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.AttendanceBitmap;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceBitmapDTO;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for reading the compact attendance bitmaps.
+ * The bitmaps are read as DTOs, so no employee graph is loaded with them.
+ *
+ * @author abdulmanan
+ */
+@Repository
+public interface AttendanceBitmapRepository extends JpaRepository<AttendanceBitmap, String> {
+
+    /**
+     * Finds the bitmaps of an employee for the months of a range of years.
+     *
+     * @param employeeId the ID of the employee
+     * @param startYear the first year of the range
+     * @param endYear the last year of the range
+     * @return a list of AttendanceBitmapDTO, ordered by month
+     */
+    @Query("SELECT new com.crimsonlogic.payrollmanagementsystem.dto.AttendanceBitmapDTO(b.bitmapOfEmployee.employeeId, " +
+            "b.bitmapYear, b.bitmapMonth, b.recordedDays, b.statusCodes, b.hourDeltas) " +
+            "FROM AttendanceBitmap b WHERE b.bitmapOfEmployee.employeeId = :employeeId " +
+            "AND b.bitmapYear BETWEEN :startYear AND :endYear ORDER BY b.bitmapYear ASC, b.bitmapMonth ASC")
+    List<AttendanceBitmapDTO> findBitmapsOfEmployee(@Param("employeeId") String employeeId,
+                                                    @Param("startYear") Integer startYear,
+                                                    @Param("endYear") Integer endYear);
+
+    /**
+     * Finds the bitmaps of all employees for a month.
+     *
+     * @param year the year of the month
+     * @param month the month
+     * @return a list of AttendanceBitmapDTO, one per employee having attendance in the month
+     */
+    @Query("SELECT new com.crimsonlogic.payrollmanagementsystem.dto.AttendanceBitmapDTO(b.bitmapOfEmployee.employeeId, " +
+            "b.bitmapYear, b.bitmapMonth, b.recordedDays, b.statusCodes, b.hourDeltas) " +
+            "FROM AttendanceBitmap b WHERE b.bitmapYear = :year AND b.bitmapMonth = :month")
+    List<AttendanceBitmapDTO> findBitmapsForMonth(@Param("year") Integer year, @Param("month") Integer month);
+
+    /**
+     * Finds the bitmaps of the given employees for a month.
+     *
+     * @param employeeIds the IDs of the employees
+     * @param year the year of the month
+     * @param month the month
+     * @return a list of AttendanceBitmapDTO, one per given employee having attendance in the month
+     */
+    @Query("SELECT new com.crimsonlogic.payrollmanagementsystem.dto.AttendanceBitmapDTO(b.bitmapOfEmployee.employeeId, " +
+            "b.bitmapYear, b.bitmapMonth, b.recordedDays, b.statusCodes, b.hourDeltas) " +
+            "FROM AttendanceBitmap b WHERE b.bitmapOfEmployee.employeeId IN :employeeIds " +
+            "AND b.bitmapYear = :year AND b.bitmapMonth = :month")
+    List<AttendanceBitmapDTO> findBitmapsForMonth(@Param("employeeIds") Collection<String> employeeIds,
+                                                  @Param("year") Integer year, @Param("month") Integer month);
+}
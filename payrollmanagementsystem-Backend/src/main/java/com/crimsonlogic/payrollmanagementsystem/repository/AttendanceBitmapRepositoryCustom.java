@@ -0,0 +1,34 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Custom repository interface for maintaining the compact attendance bitmaps.
+ * The bitmaps are written on the employee and month key.
+ *
+ * @author abdulmanan
+ */
+public interface AttendanceBitmapRepositoryCustom {
+
+    /**
+     * Records attendance in the bitmaps of its employee and month, creating the
+     * bitmaps that do not exist yet from all saved records of their month. The
+     * bitmaps are locked while they are changed.
+     *
+     * @param attendances the attendance records that were saved
+     */
+    void applyAttendance(List<AttendanceDTO> attendances);
+
+    /**
+     * Recomputes the bitmaps of all months overlapping a date range from the attendance records.
+     *
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @param employeeId the employee whose bitmaps are recomputed, or null for all employees
+     * @return the number of bitmaps written
+     */
+    int rebuildAttendanceBitmaps(LocalDate startDate, LocalDate endDate, String employeeId);
+}
@@ -0,0 +1,237 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.AttendanceStatus;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceBitmapDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO;
+import com.crimsonlogic.payrollmanagementsystem.util.AttendanceMonthBitmap;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Implementation of the custom repository interface for AttendanceBitmap.
+ * New attendance is merged into the bitmaps under a row lock, so concurrent
+ * changes of the same employee and month do not overwrite each other's days.
+ * A new bitmap starts from all saved records of its month, so a month that
+ * predates the bitmaps is never left with only its latest days.
+ *
+ * @author abdulmanan
+ */
+@Repository
+public class AttendanceBitmapRepositoryImpl implements AttendanceBitmapRepositoryCustom {
+
+    private static final String BITMAP_COLUMNS =
+            "bitmap_of_employee, bitmap_year, bitmap_month, recorded_days, status_codes, hour_deltas";
+
+    private static final String LOCK_BITMAPS =
+            "SELECT " + BITMAP_COLUMNS + " FROM attendance_bitmap WHERE bitmap_of_employee = ANY (?) " +
+            "AND bitmap_year = ANY (?) AND bitmap_month = ANY (?) " +
+            "ORDER BY bitmap_of_employee, bitmap_year, bitmap_month FOR UPDATE";
+
+    private static final String CREATE_BITMAP =
+            "INSERT INTO attendance_bitmap (attendance_bitmap_id, " + BITMAP_COLUMNS + ") " +
+            "VALUES (?, ?, ?, ?, 0, 0, NULL) " +
+            "ON CONFLICT (bitmap_of_employee, bitmap_year, bitmap_month) DO NOTHING";
+
+    private static final String UPDATE_BITMAP =
+            "UPDATE attendance_bitmap SET recorded_days = ?, status_codes = ?, hour_deltas = ? " +
+            "WHERE bitmap_of_employee = ? AND bitmap_year = ? AND bitmap_month = ?";
+
+    private static final String REPLACE_BITMAP =
+            "INSERT INTO attendance_bitmap (attendance_bitmap_id, " + BITMAP_COLUMNS + ") " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (bitmap_of_employee, bitmap_year, bitmap_month) DO UPDATE SET " +
+            "recorded_days = EXCLUDED.recorded_days, status_codes = EXCLUDED.status_codes, " +
+            "hour_deltas = EXCLUDED.hour_deltas";
+
+    private static final String READ_ATTENDANCE =
+            "SELECT attendance_by_employee, attendance_for_date, status, total_hours FROM attendance " +
+            "WHERE attendance_for_date BETWEEN ? AND ? " +
+            "AND attendance_by_employee IS NOT NULL AND (CAST(? AS VARCHAR) IS NULL OR attendance_by_employee = ?)";
+
+    private static final String READ_EMPLOYEE_ATTENDANCE =
+            "SELECT attendance_by_employee, attendance_for_date, status, total_hours FROM attendance " +
+            "WHERE attendance_by_employee = ANY (?) AND attendance_for_date BETWEEN ? AND ?";
+
+    private static final String DELETE_BITMAPS =
+            "DELETE FROM attendance_bitmap WHERE make_date(bitmap_year, bitmap_month, 1) BETWEEN ? AND ? " +
+            "AND (CAST(? AS VARCHAR) IS NULL OR bitmap_of_employee = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Constructor to initialize the JDBC template
+    AttendanceBitmapRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        super();
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void applyAttendance(List<AttendanceDTO> attendances) {
+        // Encode the new days per employee and month
+        Map<String, Map<YearMonth, AttendanceMonthBitmap>> changes = new LinkedHashMap<>();
+        for (AttendanceDTO attendance : attendances) {
+            encode(changes, attendance.getAttendanceByEmployee(), attendance.getAttendanceForDate(),
+                    attendance.getStatus(), attendance.getTotalHours());
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        // Lock the existing bitmaps, then create and lock the missing ones
+        Map<String, Map<YearMonth, AttendanceMonthBitmap>> bitmaps = lockBitmaps(changes);
+        List<AttendanceBitmapDTO> missing = new ArrayList<>();
+        changes.forEach((employeeId, months) -> months.forEach((yearMonth, change) -> {
+            if (!bitmaps.getOrDefault(employeeId, Map.of()).containsKey(yearMonth)) {
+                missing.add(new AttendanceMonthBitmap(yearMonth).toDto(employeeId));
+            }
+        }));
+        if (!missing.isEmpty()) {
+            createBitmaps(missing);
+            lockBitmaps(changes).forEach((employeeId, months) ->
+                    bitmaps.computeIfAbsent(employeeId, key -> new HashMap<>()).putAll(months));
+            seedBitmaps(bitmaps, missing);
+        }
+
+        List<AttendanceBitmapDTO> updated = new ArrayList<>();
+        changes.forEach((employeeId, months) -> months.forEach((yearMonth, change) -> {
+            AttendanceMonthBitmap bitmap = bitmaps.get(employeeId).get(yearMonth);
+            bitmap.apply(change);
+            updated.add(bitmap.toDto(employeeId));
+        }));
+        jdbcTemplate.batchUpdate(UPDATE_BITMAP, updated, updated.size(),
+                (ps, bitmap) -> {
+                    ps.setInt(1, bitmap.getRecordedDays());
+                    ps.setLong(2, bitmap.getStatusCodes());
+                    ps.setBytes(3, bitmap.getHourDeltas());
+                    ps.setString(4, bitmap.getEmployeeId());
+                    ps.setInt(5, bitmap.getBitmapYear());
+                    ps.setInt(6, bitmap.getBitmapMonth());
+                });
+    }
+
+    @Override
+    public int rebuildAttendanceBitmaps(LocalDate startDate, LocalDate endDate, String employeeId) {
+        // Widen the range to whole months, a bitmap always covers its full month
+        Date firstDay = Date.valueOf(startDate.withDayOfMonth(1));
+        Date lastDay = Date.valueOf(YearMonth.from(endDate).atEndOfMonth());
+
+        Map<String, Map<YearMonth, AttendanceMonthBitmap>> bitmaps = new HashMap<>();
+        jdbcTemplate.query(READ_ATTENDANCE,
+                (RowCallbackHandler) rs -> encode(bitmaps, rs.getString("attendance_by_employee"),
+                        rs.getDate("attendance_for_date").toLocalDate(), rs.getString("status"),
+                        rs.getBigDecimal("total_hours")),
+                firstDay, lastDay, employeeId, employeeId);
+        jdbcTemplate.update(DELETE_BITMAPS, firstDay, lastDay, employeeId, employeeId);
+
+        List<AttendanceBitmapDTO> rebuilt = new ArrayList<>();
+        bitmaps.forEach((bitmapEmployeeId, months) ->
+                months.values().forEach(bitmap -> rebuilt.add(bitmap.toDto(bitmapEmployeeId))));
+        if (!rebuilt.isEmpty()) {
+            List<String> bitmapIds = RandomIdAllocator.allocate(jdbcTemplate, "attendance_bitmap",
+                    "attendance_bitmap_id", "ABM", rebuilt.size());
+            jdbcTemplate.batchUpdate(REPLACE_BITMAP, rebuilt, rebuilt.size(),
+                    (ps, bitmap) -> {
+                        ps.setString(1, bitmapIds.remove(bitmapIds.size() - 1));
+                        ps.setString(2, bitmap.getEmployeeId());
+                        ps.setInt(3, bitmap.getBitmapYear());
+                        ps.setInt(4, bitmap.getBitmapMonth());
+                        ps.setInt(5, bitmap.getRecordedDays());
+                        ps.setLong(6, bitmap.getStatusCodes());
+                        ps.setBytes(7, bitmap.getHourDeltas());
+                    });
+        }
+        return rebuilt.size();
+    }
+
+    // Record a day in the bitmap of its employee and month, days with an unknown status are left out
+    private static void encode(Map<String, Map<YearMonth, AttendanceMonthBitmap>> bitmaps, String employeeId,
+                               LocalDate date, String status, BigDecimal totalHours) {
+        AttendanceStatus attendanceStatus = AttendanceStatus.fromLabel(status);
+        if (employeeId == null || date == null || attendanceStatus == null) {
+            return;
+        }
+        bitmaps.computeIfAbsent(employeeId, key -> new LinkedHashMap<>())
+                .computeIfAbsent(YearMonth.from(date), AttendanceMonthBitmap::new)
+                .set(date.getDayOfMonth(), attendanceStatus, totalHours);
+    }
+
+    // Record the saved attendance of the months of new bitmaps, which includes the records being applied
+    private void seedBitmaps(Map<String, Map<YearMonth, AttendanceMonthBitmap>> bitmaps,
+                             List<AttendanceBitmapDTO> created) {
+        Set<String> employeeIds = new TreeSet<>();
+        YearMonth firstMonth = null;
+        YearMonth lastMonth = null;
+        for (AttendanceBitmapDTO bitmap : created) {
+            YearMonth yearMonth = YearMonth.of(bitmap.getBitmapYear(), bitmap.getBitmapMonth());
+            employeeIds.add(bitmap.getEmployeeId());
+            firstMonth = firstMonth == null || yearMonth.isBefore(firstMonth) ? yearMonth : firstMonth;
+            lastMonth = lastMonth == null || yearMonth.isAfter(lastMonth) ? yearMonth : lastMonth;
+        }
+
+        Map<String, Map<YearMonth, AttendanceMonthBitmap>> saved = new HashMap<>();
+        jdbcTemplate.query(READ_EMPLOYEE_ATTENDANCE,
+                (RowCallbackHandler) rs -> encode(saved, rs.getString("attendance_by_employee"),
+                        rs.getDate("attendance_for_date").toLocalDate(), rs.getString("status"),
+                        rs.getBigDecimal("total_hours")),
+                employeeIds.toArray(new String[0]), Date.valueOf(firstMonth.atDay(1)),
+                Date.valueOf(lastMonth.atEndOfMonth()));
+        // Other months of the same employees are read along, only the new bitmaps take their records
+        for (AttendanceBitmapDTO bitmap : created) {
+            YearMonth yearMonth = YearMonth.of(bitmap.getBitmapYear(), bitmap.getBitmapMonth());
+            AttendanceMonthBitmap records = saved.getOrDefault(bitmap.getEmployeeId(), Map.of()).get(yearMonth);
+            if (records != null) {
+                bitmaps.get(bitmap.getEmployeeId()).get(yearMonth).apply(records);
+            }
+        }
+    }
+
+    // Lock and read the bitmaps of the given employees and months, in key order
+    private Map<String, Map<YearMonth, AttendanceMonthBitmap>> lockBitmaps(
+            Map<String, Map<YearMonth, AttendanceMonthBitmap>> keys) {
+        Set<Integer> years = new TreeSet<>();
+        Set<Integer> months = new TreeSet<>();
+        keys.values().forEach(employeeMonths -> employeeMonths.keySet().forEach(yearMonth -> {
+            years.add(yearMonth.getYear());
+            months.add(yearMonth.getMonthValue());
+        }));
+
+        Map<String, Map<YearMonth, AttendanceMonthBitmap>> bitmaps = new HashMap<>();
+        jdbcTemplate.query(LOCK_BITMAPS,
+                (RowCallbackHandler) rs -> {
+                    String employeeId = rs.getString("bitmap_of_employee");
+                    YearMonth yearMonth = YearMonth.of(rs.getInt("bitmap_year"), rs.getInt("bitmap_month"));
+                    // The filter on each column alone also matches other months of the employees
+                    if (keys.get(employeeId).containsKey(yearMonth)) {
+                        bitmaps.computeIfAbsent(employeeId, key -> new HashMap<>()).put(yearMonth,
+                                new AttendanceMonthBitmap(yearMonth, rs.getInt("recorded_days"),
+                                        rs.getLong("status_codes"), rs.getBytes("hour_deltas")));
+                    }
+                },
+                keys.keySet().toArray(new String[0]), years.toArray(new Integer[0]), months.toArray(new Integer[0]));
+        return bitmaps;
+    }
+
+    private void createBitmaps(List<AttendanceBitmapDTO> bitmaps) {
+        List<String> bitmapIds = RandomIdAllocator.allocate(jdbcTemplate, "attendance_bitmap",
+                "attendance_bitmap_id", "ABM", bitmaps.size());
+        jdbcTemplate.batchUpdate(CREATE_BITMAP, bitmaps, bitmaps.size(),
+                (ps, bitmap) -> {
+                    ps.setString(1, bitmapIds.remove(bitmapIds.size() - 1));
+                    ps.setString(2, bitmap.getEmployeeId());
+                    ps.setInt(3, bitmap.getBitmapYear());
+                    ps.setInt(4, bitmap.getBitmapMonth());
+                });
+    }
+}
@@ -2,6 +2,9 @@ package com.crimsonlogic.payrollmanagementsystem.repository;
 
 import com.crimsonlogic.payrollmanagementsystem.domain.Attendance;
 import com.crimsonlogic.payrollmanagementsystem.domain.Employees;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.EmployeeCountDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.EmployeeHoursDTO;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -10,6 +13,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -23,39 +27,93 @@ import java.util.List;
 public interface AttendanceRepository extends JpaRepository<Attendance, String> {
 
     /**
-     * Finds attendance records for a specific employee.
+     * Finds attendance records for a specific employee within a date range.
+     * The range predicate is served by the (attendance_by_employee, attendance_for_date) index.
      *
-     * @param employees the employee whose attendance records are to be retrieved
-     * @return a list of Attendance records for the specified employee
+     * @param employee the employee whose attendance records are to be retrieved
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @return a list of Attendance records of the employee in the range, ordered by date
      */
-    List<Attendance> findByAttendanceByEmployee(Employees employees);
+    @Query("SELECT a FROM Attendance a WHERE a.attendanceByEmployee = :employee " +
+            "AND a.attendanceForDate BETWEEN :startDate AND :endDate ORDER BY a.attendanceForDate ASC")
+    List<Attendance> findByEmployeeAndDateRange(@Param("employee") Employees employee,
+                                                @Param("startDate") LocalDate startDate,
+                                                @Param("endDate") LocalDate endDate);
 
     /**
-     * Finds attendance records for a specific employee for a given month and year.
+     * Finds the attendance of an employee within a date range as DTOs, without loading the employee.
      *
-     * @param employee the employee whose attendance records are to be retrieved
-     * @param currentMonth the month to filter by
-     * @param currentYear the year to filter by
-     * @return a list of Attendance records matching the specified employee, month, and year
+     * @param employeeId the ID of the employee
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @return a list of AttendanceDTO of the employee in the range, ordered by date
      */
-    @Query("SELECT a FROM Attendance a WHERE a.attendanceByEmployee = :employee " +
-            "AND EXTRACT(MONTH FROM a.attendanceForDate) = :currentMonth " +
-            "AND EXTRACT(YEAR FROM a.attendanceForDate) = :currentYear")
-    List<Attendance> findByEmployeeAndDate(@Param("employee") Employees employee,
-                                           @Param("currentMonth") int currentMonth,
-                                           @Param("currentYear") int currentYear);
+    @Query("SELECT new com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO(a.attendanceId, a.attendanceForDate, " +
+            "a.overtimeHours, a.totalHours, a.status, a.attendanceByEmployee.employeeId) " +
+            "FROM Attendance a WHERE a.attendanceByEmployee.employeeId = :employeeId " +
+            "AND a.attendanceForDate BETWEEN :startDate AND :endDate ORDER BY a.attendanceForDate ASC")
+    List<AttendanceDTO> findAttendanceOfEmployee(@Param("employeeId") String employeeId,
+                                                 @Param("startDate") LocalDate startDate,
+                                                 @Param("endDate") LocalDate endDate);
 
     /**
-     * Finds attendance records for a specific employee for a given month.
+     * Counts absences per employee within a date range.
      *
-     * @param month the month to filter by
-     * @param employee the employee whose attendance records are to be retrieved
-     * @return a list of Attendance records matching the specified employee and month
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @return a list of EmployeeCountDTO, one per employee having at least one absence
      */
-    @Query("SELECT a FROM Attendance a WHERE a.attendanceByEmployee = :employee " +
-            "AND EXTRACT(MONTH FROM a.attendanceForDate) = :month ")
-    List<Attendance> findByMonthAndEmployee(@Param("month") Integer month,
-                                            @Param("employee") Employees employee);
+    @Query("SELECT new com.crimsonlogic.payrollmanagementsystem.dto.EmployeeCountDTO(a.attendanceByEmployee.employeeId, COUNT(a)) " +
+            "FROM Attendance a WHERE a.attendanceForDate BETWEEN :startDate AND :endDate " +
+            "AND LOWER(a.status) = 'absent' GROUP BY a.attendanceByEmployee.employeeId")
+    List<EmployeeCountDTO> countAbsencesByEmployee(@Param("startDate") LocalDate startDate,
+                                                   @Param("endDate") LocalDate endDate);
+
+    /**
+     * Counts absences per employee within a date range for the given employees.
+     *
+     * @param employeeIds the IDs of the employees
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @return a list of EmployeeCountDTO, one per given employee having at least one absence
+     */
+    @Query("SELECT new com.crimsonlogic.payrollmanagementsystem.dto.EmployeeCountDTO(a.attendanceByEmployee.employeeId, COUNT(a)) " +
+            "FROM Attendance a WHERE a.attendanceByEmployee.employeeId IN :employeeIds " +
+            "AND a.attendanceForDate BETWEEN :startDate AND :endDate " +
+            "AND LOWER(a.status) = 'absent' GROUP BY a.attendanceByEmployee.employeeId")
+    List<EmployeeCountDTO> countAbsencesByEmployee(@Param("employeeIds") Collection<String> employeeIds,
+                                                   @Param("startDate") LocalDate startDate,
+                                                   @Param("endDate") LocalDate endDate);
+
+    /**
+     * Sums the overtime hours per employee within a date range, in one grouped query.
+     *
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @return a list of EmployeeHoursDTO, one per employee with overtime in the range
+     */
+    @Query("SELECT new com.crimsonlogic.payrollmanagementsystem.dto.EmployeeHoursDTO(a.attendanceByEmployee.employeeId, SUM(a.overtimeHours)) " +
+            "FROM Attendance a WHERE a.attendanceForDate BETWEEN :startDate AND :endDate " +
+            "AND a.overtimeHours > 0 GROUP BY a.attendanceByEmployee.employeeId")
+    List<EmployeeHoursDTO> sumOvertimeHoursByEmployee(@Param("startDate") LocalDate startDate,
+                                                      @Param("endDate") LocalDate endDate);
+
+    /**
+     * Sums the overtime hours per employee within a date range for the given employees.
+     *
+     * @param employeeIds the IDs of the employees
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @return a list of EmployeeHoursDTO, one per employee with overtime in the range
+     */
+    @Query("SELECT new com.crimsonlogic.payrollmanagementsystem.dto.EmployeeHoursDTO(a.attendanceByEmployee.employeeId, SUM(a.overtimeHours)) " +
+            "FROM Attendance a WHERE a.attendanceByEmployee.employeeId IN :employeeIds " +
+            "AND a.attendanceForDate BETWEEN :startDate AND :endDate " +
+            "AND a.overtimeHours > 0 GROUP BY a.attendanceByEmployee.employeeId")
+    List<EmployeeHoursDTO> sumOvertimeHoursByEmployee(@Param("employeeIds") Collection<String> employeeIds,
+                                                      @Param("startDate") LocalDate startDate,
+                                                      @Param("endDate") LocalDate endDate);
 
     /**
      * Deletes attendance records for a specific employee within a specified date range.
@@ -1,5 +1,12 @@
 package com.crimsonlogic.payrollmanagementsystem.repository;
 
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceResponseDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceUpsertDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
 /**
  * Custom repository interface for Attendance-related operations.
  * This interface defines additional methods for managing Attendance data
@@ -10,9 +17,27 @@ package com.crimsonlogic.payrollmanagementsystem.repository;
 public interface AttendanceRepositoryCustom {
 
     /**
-     * Inserts attendance records for employees who were absent.
-     * This method can be implemented to handle specific business logic
-     * for marking employees as absent.
+     * Counts the attendance statuses of every member of a manager's team within a date range,
+     * in a single grouped query. Members without attendance in the range have zero counts.
+     *
+     * @param managerId the ID of the manager
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @param includeIndirect whether the reports of the reports are included, at any depth
+     * @return a list of AttendanceResponseDTO, one per team member, ordered by name
+     */
+    List<AttendanceResponseDTO> countTeamAttendance(String managerId, LocalDate startDate, LocalDate endDate,
+                                                    boolean includeIndirect);
+
+    /**
+     * Inserts attendance records, or updates the status of the record an employee already has
+     * for the day, in a single statement. The hours of an existing record are kept. Records of
+     * unknown employees are skipped, and an employee and day must not be given twice.
+     * IDs are allocated for the records without one. The days are locked for the rest of the
+     * transaction first, so concurrent writers of the same day see each other's records.
+     *
+     * @param attendances the attendance records to be saved
+     * @return the replaced records as they were before, and the records as they were saved
      */
-    void insertAbsentAttendance();
+    AttendanceUpsertDTO upsertAttendance(List<AttendanceDTO> attendances);
 }
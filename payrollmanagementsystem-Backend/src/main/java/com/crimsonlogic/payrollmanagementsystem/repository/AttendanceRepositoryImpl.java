@@ -1,31 +1,143 @@
 package com.crimsonlogic.payrollmanagementsystem.repository;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
-import jakarta.transaction.Transactional;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceResponseDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceUpsertDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
 /**
  * Implementation of the custom repository interface for Attendance.
  * This class provides methods for managing Attendance data,
- * including inserting records for absent employees.
+ * including counting the attendance of a whole team at once and
+ * upserting attendance on the unique employee and day key.
  *
  * @author abdulmanan
  */
 @Repository
 public class AttendanceRepositoryImpl implements AttendanceRepositoryCustom {
 
-    @PersistenceContext
-    private EntityManager entityManager;
+    // The reports of the manager, and their reports at any depth when the flag is set.
+    // UNION drops repeated members, so a cycle in the reporting lines ends the recursion.
+    private static final String COUNT_TEAM_ATTENDANCE =
+            "WITH RECURSIVE team (employee_id, full_name) AS (" +
+            "SELECT employee_id, full_name FROM employees WHERE manager = ? " +
+            "UNION SELECT e.employee_id, e.full_name FROM employees e " +
+            "JOIN team t ON e.manager = t.employee_id WHERE CAST(? AS BOOLEAN)) " +
+            "SELECT t.employee_id, t.full_name, " +
+            "COUNT(*) FILTER (WHERE LOWER(a.status) = 'present') AS present_count, " +
+            "COUNT(*) FILTER (WHERE LOWER(a.status) = 'leave') AS leave_count, " +
+            "COUNT(*) FILTER (WHERE LOWER(a.status) = 'half day') AS half_day_count, " +
+            "COUNT(*) FILTER (WHERE LOWER(a.status) = 'absent') AS absent_count " +
+            "FROM team t LEFT JOIN attendance a ON a.attendance_by_employee = t.employee_id " +
+            "AND a.attendance_for_date BETWEEN ? AND ? " +
+            "WHERE t.employee_id <> ? " +
+            "GROUP BY t.employee_id, t.full_name ORDER BY t.full_name, t.employee_id";
+
+    // Serializes the writers of the same employee and day, a row that does not exist yet cannot be
+    // locked. The keys are locked in order, so writers of overlapping days cannot deadlock.
+    // The punch events repository takes the same locks before it reads the days it recomputes.
+    static final String LOCK_ATTENDANCE_DAYS =
+            "SELECT pg_advisory_xact_lock(hashtext(day_key)) FROM (SELECT DISTINCT " +
+            "attendance_by_employee || '|' || CAST(attendance_for_date AS VARCHAR) AS day_key " +
+            "FROM unnest(CAST(? AS VARCHAR[]), CAST(? AS DATE[])) AS d (attendance_by_employee, " +
+            "attendance_for_date)) day_keys ORDER BY day_key";
+
+    // Runs after the days are locked, so its snapshot holds the rows committed by earlier writers
+    // of the same days and the rollup takes away the version this one replaced.
+    // The join to employees drops the records of unknown employees.
+    private static final String UPSERT_ATTENDANCE =
+            "WITH input (attendance_id, attendance_for_date, overtime_hours, total_hours, status, " +
+            "attendance_by_employee) AS (SELECT * FROM unnest(CAST(? AS VARCHAR[]), CAST(? AS DATE[]), " +
+            "CAST(? AS NUMERIC[]), CAST(? AS NUMERIC[]), CAST(? AS VARCHAR[]), CAST(? AS VARCHAR[]))), " +
+            "previous AS (SELECT a.attendance_id, a.attendance_for_date, a.overtime_hours, a.total_hours, " +
+            "a.status, a.attendance_by_employee FROM attendance a JOIN input i " +
+            "ON a.attendance_by_employee = i.attendance_by_employee " +
+            "AND a.attendance_for_date = i.attendance_for_date FOR UPDATE OF a), " +
+            "upserted AS (INSERT INTO attendance (attendance_id, attendance_for_date, overtime_hours, " +
+            "total_hours, status, attendance_by_employee) SELECT i.attendance_id, i.attendance_for_date, " +
+            "i.overtime_hours, i.total_hours, i.status, e.employee_id FROM input i, employees e " +
+            "WHERE e.employee_id = i.attendance_by_employee " +
+            "ON CONFLICT (attendance_by_employee, attendance_for_date) DO UPDATE SET status = EXCLUDED.status " +
+            "RETURNING attendance_id, attendance_for_date, overtime_hours, total_hours, status, " +
+            "attendance_by_employee) " +
+            "SELECT TRUE AS replaced, p.* FROM previous p UNION ALL SELECT FALSE, u.* FROM upserted u";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Constructor to initialize the JDBC template
+    AttendanceRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        super();
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<AttendanceResponseDTO> countTeamAttendance(String managerId, LocalDate startDate, LocalDate endDate,
+                                                           boolean includeIndirect) {
+        return jdbcTemplate.query(COUNT_TEAM_ATTENDANCE,
+                (rs, rowNum) -> {
+                    AttendanceResponseDTO attendanceResponse = new AttendanceResponseDTO();
+                    attendanceResponse.setEmployeeId(rs.getString("employee_id"));
+                    attendanceResponse.setFullName(rs.getString("full_name"));
+                    attendanceResponse.setPresentCount(rs.getInt("present_count"));
+                    attendanceResponse.setLeaveCount(rs.getInt("leave_count"));
+                    attendanceResponse.setHalfDayCount(rs.getInt("half_day_count"));
+                    attendanceResponse.setAbsentCount(rs.getInt("absent_count"));
+                    return attendanceResponse;
+                },
+                managerId, includeIndirect, Date.valueOf(startDate), Date.valueOf(endDate), managerId);
+    }
 
-    /**
-     * Inserts attendance records for employees who were absent.
-     * This method executes a native SQL command to perform the operation.
-     */
     @Override
-    @Transactional
-    public void insertAbsentAttendance() {
-        entityManager.createNativeQuery("DO $$ BEGIN PERFORM insert_absent_attendance(); END $$;")
-                .executeUpdate();
+    public AttendanceUpsertDTO upsertAttendance(List<AttendanceDTO> attendances) {
+        List<AttendanceDTO> previousAttendances = new ArrayList<>();
+        List<AttendanceDTO> savedAttendances = new ArrayList<>();
+        if (attendances.isEmpty()) {
+            return new AttendanceUpsertDTO(previousAttendances, savedAttendances);
+        }
+        long missingIds = attendances.stream().filter(attendance -> attendance.getAttendanceId() == null).count();
+        if (missingIds > 0) {
+            Iterator<String> attendanceIds = RandomIdAllocator.allocate(jdbcTemplate, "attendance", "attendance_id",
+                    "ATD", (int) missingIds).iterator();
+            attendances.stream()
+                    .filter(attendance -> attendance.getAttendanceId() == null)
+                    .forEach(attendance -> attendance.setAttendanceId(attendanceIds.next()));
+        }
+
+        jdbcTemplate.query(LOCK_ATTENDANCE_DAYS, (RowCallbackHandler) rs -> { },
+                attendances.stream().map(AttendanceDTO::getAttendanceByEmployee).toArray(String[]::new),
+                attendances.stream().map(attendance -> attendance.getAttendanceForDate().toString())
+                        .toArray(String[]::new));
+        jdbcTemplate.query(UPSERT_ATTENDANCE,
+                (RowCallbackHandler) rs -> (rs.getBoolean("replaced") ? previousAttendances : savedAttendances)
+                        .add(toAttendance(rs)),
+                attendances.stream().map(AttendanceDTO::getAttendanceId).toArray(String[]::new),
+                attendances.stream().map(attendance -> attendance.getAttendanceForDate().toString())
+                        .toArray(String[]::new),
+                attendances.stream().map(attendance -> toText(attendance.getOvertimeHours())).toArray(String[]::new),
+                attendances.stream().map(attendance -> toText(attendance.getTotalHours())).toArray(String[]::new),
+                attendances.stream().map(AttendanceDTO::getStatus).toArray(String[]::new),
+                attendances.stream().map(AttendanceDTO::getAttendanceByEmployee).toArray(String[]::new));
+        return new AttendanceUpsertDTO(previousAttendances, savedAttendances);
+    }
+
+    private static AttendanceDTO toAttendance(ResultSet rs) throws SQLException {
+        return new AttendanceDTO(rs.getString("attendance_id"), rs.getDate("attendance_for_date").toLocalDate(),
+                rs.getBigDecimal("overtime_hours"), rs.getBigDecimal("total_hours"), rs.getString("status"),
+                rs.getString("attendance_by_employee"));
+    }
+
+    private static String toText(BigDecimal value) {
+        return value != null ? value.toPlainString() : null;
     }
 }
@@ -0,0 +1,28 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.AttendanceSummary;
+import com.crimsonlogic.payrollmanagementsystem.domain.Employees;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for managing AttendanceSummary entities.
+ * Provides lookups of the monthly attendance rollup of employees.
+ *
+ * @author abdulmanan
+ */
+@Repository
+public interface AttendanceSummaryRepository extends JpaRepository<AttendanceSummary, String> {
+
+    /**
+     * Finds the attendance rollup of an employee for a month of a year.
+     *
+     * @param employee the employee whose rollup is to be retrieved
+     * @param summaryYear the year of the rollup
+     * @param summaryMonth the month of the rollup
+     * @return the AttendanceSummary, or null if no attendance was recorded in the month
+     */
+    AttendanceSummary findBySummaryOfEmployeeAndSummaryYearAndSummaryMonth(Employees employee,
+                                                                          Integer summaryYear,
+                                                                          Integer summaryMonth);
+}
@@ -0,0 +1,34 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceSummaryDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Custom repository interface for maintaining the monthly attendance rollup.
+ * The rollup is written with upserts on the employee and month key.
+ *
+ * @author abdulmanan
+ */
+public interface AttendanceSummaryRepositoryCustom {
+
+    /**
+     * Adds the given counts and hours to the rollups of their employee and month.
+     * A rollup that does not exist yet is created from all saved records of its
+     * month, so the records of the deltas must be saved first.
+     *
+     * @param deltas the counts and hours to be added, negative values subtract
+     */
+    void addToAttendanceSummaries(List<AttendanceSummaryDTO> deltas);
+
+    /**
+     * Recomputes the rollups of all months overlapping a date range from the attendance records.
+     *
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @param employeeId the employee whose rollups are recomputed, or null for all employees
+     * @return the number of rollups written
+     */
+    int rebuildAttendanceSummaries(LocalDate startDate, LocalDate endDate, String employeeId);
+}
@@ -0,0 +1,131 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceSummaryDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Implementation of the custom repository interface for AttendanceSummary.
+ * Deltas are applied with an atomic upsert, so concurrent updates of the same
+ * employee and month add up instead of overwriting each other. A missing rollup
+ * is created from all saved records of its month rather than from the delta, so
+ * a month that predates the rollup is never left with only its latest records.
+ *
+ * @author abdulmanan
+ */
+@Repository
+public class AttendanceSummaryRepositoryImpl implements AttendanceSummaryRepositoryCustom {
+
+    private static final String SUMMARY_COLUMNS =
+            "INSERT INTO attendance_summary (attendance_summary_id, summary_of_employee, summary_year, summary_month, " +
+            "present_count, absent_count, leave_count, half_day_count, total_hours) ";
+
+    private static final String ON_SUMMARY_CONFLICT =
+            "ON CONFLICT (summary_of_employee, summary_year, summary_month) DO UPDATE SET ";
+
+    private static final String STATUS_COUNTS =
+            "COUNT(*) FILTER (WHERE LOWER(status) = 'present') AS present_count, " +
+            "COUNT(*) FILTER (WHERE LOWER(status) = 'absent') AS absent_count, " +
+            "COUNT(*) FILTER (WHERE LOWER(status) = 'leave') AS leave_count, " +
+            "COUNT(*) FILTER (WHERE LOWER(status) = 'half day') AS half_day_count, " +
+            "COALESCE(SUM(total_hours), 0) AS total_hours ";
+
+    // The saved records already include the delta, the delta itself is only added to an existing rollup
+    private static final String ADD_TO_SUMMARY = SUMMARY_COLUMNS +
+            "SELECT ?, ?, ?, ?, " + STATUS_COUNTS + "FROM attendance " +
+            "WHERE attendance_by_employee = ? AND attendance_for_date BETWEEN ? AND ? " + ON_SUMMARY_CONFLICT +
+            "present_count = attendance_summary.present_count + ?, " +
+            "absent_count = attendance_summary.absent_count + ?, " +
+            "leave_count = attendance_summary.leave_count + ?, " +
+            "half_day_count = attendance_summary.half_day_count + ?, " +
+            "total_hours = attendance_summary.total_hours + ?";
+
+    private static final String REPLACE_SUMMARY = SUMMARY_COLUMNS +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) " + ON_SUMMARY_CONFLICT +
+            "present_count = EXCLUDED.present_count, absent_count = EXCLUDED.absent_count, " +
+            "leave_count = EXCLUDED.leave_count, half_day_count = EXCLUDED.half_day_count, " +
+            "total_hours = EXCLUDED.total_hours";
+
+    private static final String AGGREGATE_ATTENDANCE =
+            "SELECT attendance_by_employee, " +
+            "CAST(EXTRACT(YEAR FROM attendance_for_date) AS INTEGER) AS summary_year, " +
+            "CAST(EXTRACT(MONTH FROM attendance_for_date) AS INTEGER) AS summary_month, " + STATUS_COUNTS +
+            "FROM attendance WHERE attendance_for_date BETWEEN ? AND ? " +
+            "AND attendance_by_employee IS NOT NULL AND (CAST(? AS VARCHAR) IS NULL OR attendance_by_employee = ?) " +
+            "GROUP BY 1, 2, 3";
+
+    private static final String DELETE_SUMMARIES =
+            "DELETE FROM attendance_summary WHERE make_date(summary_year, summary_month, 1) BETWEEN ? AND ? " +
+            "AND (CAST(? AS VARCHAR) IS NULL OR summary_of_employee = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Constructor to initialize the JDBC template
+    AttendanceSummaryRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        super();
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void addToAttendanceSummaries(List<AttendanceSummaryDTO> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<String> summaryIds = RandomIdAllocator.allocate(jdbcTemplate, "attendance_summary",
+                "attendance_summary_id", "ASM", deltas.size());
+        jdbcTemplate.batchUpdate(ADD_TO_SUMMARY, deltas, deltas.size(),
+                (ps, delta) -> {
+                    YearMonth yearMonth = YearMonth.of(delta.getSummaryYear(), delta.getSummaryMonth());
+                    ps.setString(1, summaryIds.remove(summaryIds.size() - 1));
+                    ps.setString(2, delta.getEmployeeId());
+                    ps.setInt(3, delta.getSummaryYear());
+                    ps.setInt(4, delta.getSummaryMonth());
+                    ps.setString(5, delta.getEmployeeId());
+                    ps.setDate(6, Date.valueOf(yearMonth.atDay(1)));
+                    ps.setDate(7, Date.valueOf(yearMonth.atEndOfMonth()));
+                    ps.setInt(8, delta.getPresentCount());
+                    ps.setInt(9, delta.getAbsentCount());
+                    ps.setInt(10, delta.getLeaveCount());
+                    ps.setInt(11, delta.getHalfDayCount());
+                    ps.setBigDecimal(12, delta.getTotalHours());
+                });
+    }
+
+    @Override
+    public int rebuildAttendanceSummaries(LocalDate startDate, LocalDate endDate, String employeeId) {
+        // Widen the range to whole months, a rollup always covers its full month
+        Date firstDay = Date.valueOf(startDate.withDayOfMonth(1));
+        Date lastDay = Date.valueOf(YearMonth.from(endDate).atEndOfMonth());
+
+        List<AttendanceSummaryDTO> summaries = jdbcTemplate.query(AGGREGATE_ATTENDANCE,
+                (rs, rowNum) -> new AttendanceSummaryDTO(rs.getString("attendance_by_employee"),
+                        rs.getInt("summary_year"), rs.getInt("summary_month"),
+                        rs.getInt("present_count"), rs.getInt("absent_count"), rs.getInt("leave_count"),
+                        rs.getInt("half_day_count"), rs.getBigDecimal("total_hours")),
+                firstDay, lastDay, employeeId, employeeId);
+        jdbcTemplate.update(DELETE_SUMMARIES, firstDay, lastDay, employeeId, employeeId);
+        if (summaries.isEmpty()) {
+            return 0;
+        }
+        List<String> summaryIds = RandomIdAllocator.allocate(jdbcTemplate, "attendance_summary",
+                "attendance_summary_id", "ASM", summaries.size());
+        jdbcTemplate.batchUpdate(REPLACE_SUMMARY, summaries, summaries.size(),
+                (ps, summary) -> {
+                    ps.setString(1, summaryIds.remove(summaryIds.size() - 1));
+                    ps.setString(2, summary.getEmployeeId());
+                    ps.setInt(3, summary.getSummaryYear());
+                    ps.setInt(4, summary.getSummaryMonth());
+                    ps.setInt(5, summary.getPresentCount());
+                    ps.setInt(6, summary.getAbsentCount());
+                    ps.setInt(7, summary.getLeaveCount());
+                    ps.setInt(8, summary.getHalfDayCount());
+                    ps.setBigDecimal(9, summary.getTotalHours());
+                });
+        return summaries.size();
+    }
+}
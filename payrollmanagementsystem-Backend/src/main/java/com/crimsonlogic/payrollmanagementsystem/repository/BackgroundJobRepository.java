@@ -0,0 +1,32 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for managing BackgroundJob entities.
+ * Jobs are claimed and progressed by the workers through the custom repository.
+ *
+ * @author abdulmanan
+ */
+@Repository
+public interface BackgroundJobRepository extends JpaRepository<BackgroundJob, String> {
+
+    /**
+     * Find the most recently created jobs.
+     *
+     * @return up to 100 jobs, newest first
+     */
+    List<BackgroundJob> findTop100ByOrderByCreatedAtDesc();
+
+    /**
+     * Find the most recently created jobs in a status.
+     *
+     * @param status the status of the jobs
+     * @return up to 100 jobs in the status, newest first
+     */
+    List<BackgroundJob> findTop100ByStatusOrderByCreatedAtDesc(String status);
+}
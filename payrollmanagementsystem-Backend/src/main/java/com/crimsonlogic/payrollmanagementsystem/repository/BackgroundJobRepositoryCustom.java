@@ -0,0 +1,91 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Custom repository interface for BackgroundJob-related operations.
+ * Every transition of a claimed job is guarded by the ID of the worker holding it,
+ * so a worker that lost its claim to another worker can no longer change the job.
+ *
+ * @author abdulmanan
+ */
+public interface BackgroundJobRepositoryCustom {
+
+    /**
+     * Claims the next job that is due, or a running job whose worker stopped sending heartbeats.
+     * Concurrent workers skip the jobs being claimed by each other instead of waiting on them.
+     * Taking over a running job counts the run of its previous worker as a failed attempt.
+     *
+     * @param workerId the ID of the claiming worker
+     * @param now the current time
+     * @param staleBefore running jobs with an older heartbeat are taken over
+     * @return the ID of the claimed job, null if no job is due
+     */
+    String claimNextJob(String workerId, LocalDateTime now, LocalDateTime staleBefore);
+
+    /**
+     * Records the progress of a claimed job.
+     *
+     * @param jobId the ID of the job
+     * @param workerId the ID of the worker holding the job
+     * @param checkpoint the position after the last completed chunk
+     * @param completedChunks the number of completed chunks
+     * @param totalChunks the total number of chunks, null if unknown
+     * @param now the current time, recorded as the heartbeat
+     * @return false if the worker no longer holds the job
+     */
+    boolean saveCheckpoint(String jobId, String workerId, String checkpoint, int completedChunks,
+                           Integer totalChunks, LocalDateTime now);
+
+    /**
+     * Refreshes the heartbeat of the jobs run by a worker.
+     *
+     * @param workerId the ID of the worker
+     * @param now the current time
+     * @return the number of jobs refreshed
+     */
+    int heartbeat(String workerId, LocalDateTime now);
+
+    /**
+     * Marks a claimed job as succeeded.
+     *
+     * @param jobId the ID of the job
+     * @param workerId the ID of the worker holding the job
+     * @param result the summary of the job
+     * @param now the current time
+     * @return false if the worker no longer holds the job
+     */
+    boolean completeJob(String jobId, String workerId, String result, LocalDateTime now);
+
+    /**
+     * Queues a failed job again, keeping its checkpoint.
+     *
+     * @param jobId the ID of the job
+     * @param workerId the ID of the worker holding the job
+     * @param attempts the number of failed attempts so far
+     * @param nextRunAt the time of the next attempt
+     * @param lastError the error of the failed attempt
+     * @return false if the worker no longer holds the job
+     */
+    boolean retryJob(String jobId, String workerId, int attempts, LocalDateTime nextRunAt, String lastError);
+
+    /**
+     * Marks a claimed job as failed for good.
+     *
+     * @param jobId the ID of the job
+     * @param workerId the ID of the worker holding the job
+     * @param attempts the number of failed attempts
+     * @param lastError the error of the last attempt
+     * @param now the current time
+     * @return false if the worker no longer holds the job
+     */
+    boolean failJob(String jobId, String workerId, int attempts, String lastError, LocalDateTime now);
+
+    /**
+     * Queues the running jobs of a worker again, keeping their checkpoints.
+     *
+     * @param workerId the ID of the worker
+     * @return the number of jobs released
+     */
+    int releaseJobs(String workerId);
+}
@@ -0,0 +1,108 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementation of the custom repository interface for BackgroundJob.
+ * A job is claimed with a single update of the row picked with SKIP LOCKED, so
+ * any number of application instances can poll the same table. Taking over a job
+ * whose worker stopped sending heartbeats counts the lost run as a failed attempt.
+ *
+ * @author abdulmanan
+ */
+@Repository
+public class BackgroundJobRepositoryImpl implements BackgroundJobRepositoryCustom {
+
+    // Error recorded for the run lost by a worker that stopped sending heartbeats
+    private static final String STALE_ERROR = "Worker stopped sending heartbeats.";
+
+    private static final String CLAIM_NEXT_JOB =
+            "UPDATE background_job SET status = 'RUNNING', worker_id = ?, heartbeat_at = ?, " +
+            "started_at = COALESCE(started_at, ?), " +
+            "attempts = CASE WHEN status = 'RUNNING' THEN attempts + 1 ELSE attempts END, " +
+            "last_error = CASE WHEN status = 'RUNNING' THEN '" + STALE_ERROR + "' ELSE last_error END " +
+            "WHERE job_id = (" +
+            "SELECT job_id FROM background_job " +
+            "WHERE (status = 'QUEUED' AND next_run_at <= ?) OR (status = 'RUNNING' AND heartbeat_at < ?) " +
+            "ORDER BY next_run_at, created_at LIMIT 1 FOR UPDATE SKIP LOCKED) " +
+            "RETURNING job_id";
+
+    private static final String HELD_BY_WORKER = " WHERE job_id = ? AND worker_id = ? AND status = 'RUNNING'";
+
+    private static final String SAVE_CHECKPOINT =
+            "UPDATE background_job SET checkpoint = ?, completed_chunks = ?, total_chunks = ?, heartbeat_at = ?" +
+            HELD_BY_WORKER;
+
+    private static final String HEARTBEAT =
+            "UPDATE background_job SET heartbeat_at = ? WHERE worker_id = ? AND status = 'RUNNING'";
+
+    private static final String COMPLETE_JOB =
+            "UPDATE background_job SET status = 'SUCCEEDED', result = ?, finished_at = ?, heartbeat_at = ?" +
+            HELD_BY_WORKER;
+
+    private static final String RETRY_JOB =
+            "UPDATE background_job SET status = 'QUEUED', attempts = ?, next_run_at = ?, last_error = ?, " +
+            "worker_id = NULL" + HELD_BY_WORKER;
+
+    private static final String FAIL_JOB =
+            "UPDATE background_job SET status = 'FAILED', attempts = ?, last_error = ?, finished_at = ?" +
+            HELD_BY_WORKER;
+
+    private static final String RELEASE_JOBS =
+            "UPDATE background_job SET status = 'QUEUED', worker_id = NULL WHERE worker_id = ? AND status = 'RUNNING'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Constructor to initialize the JDBC template
+    BackgroundJobRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        super();
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public String claimNextJob(String workerId, LocalDateTime now, LocalDateTime staleBefore) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<String> jobIds = jdbcTemplate.queryForList(CLAIM_NEXT_JOB, String.class, workerId, timestamp,
+                timestamp, timestamp, Timestamp.valueOf(staleBefore));
+        return jobIds.isEmpty() ? null : jobIds.get(0);
+    }
+
+    @Override
+    public boolean saveCheckpoint(String jobId, String workerId, String checkpoint, int completedChunks,
+                                  Integer totalChunks, LocalDateTime now) {
+        return jdbcTemplate.update(SAVE_CHECKPOINT, checkpoint, completedChunks, totalChunks,
+                Timestamp.valueOf(now), jobId, workerId) == 1;
+    }
+
+    @Override
+    public int heartbeat(String workerId, LocalDateTime now) {
+        return jdbcTemplate.update(HEARTBEAT, Timestamp.valueOf(now), workerId);
+    }
+
+    @Override
+    public boolean completeJob(String jobId, String workerId, String result, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.update(COMPLETE_JOB, result, timestamp, timestamp, jobId, workerId) == 1;
+    }
+
+    @Override
+    public boolean retryJob(String jobId, String workerId, int attempts, LocalDateTime nextRunAt, String lastError) {
+        return jdbcTemplate.update(RETRY_JOB, attempts, Timestamp.valueOf(nextRunAt), lastError,
+                jobId, workerId) == 1;
+    }
+
+    @Override
+    public boolean failJob(String jobId, String workerId, int attempts, String lastError, LocalDateTime now) {
+        return jdbcTemplate.update(FAIL_JOB, attempts, lastError, Timestamp.valueOf(now), jobId, workerId) == 1;
+    }
+
+    @Override
+    public int releaseJobs(String workerId) {
+        return jdbcTemplate.update(RELEASE_JOBS, workerId);
+    }
+}
@@ -0,0 +1,23 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BonusRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for managing BonusRule entities.
+ * Provides CRUD operations and version lookups for bonus rules.
+ *
+ * @author abdulmanan
+ */
+@Repository
+public interface BonusRuleRepository extends JpaRepository<BonusRule, String> {
+
+    @Query("SELECT MAX(b.ruleVersion) FROM BonusRule b")
+    Integer findLatestRuleVersion();
+
+    List<BonusRule> findByRuleVersionOrderByRuleNameAsc(Integer ruleVersion);
+}
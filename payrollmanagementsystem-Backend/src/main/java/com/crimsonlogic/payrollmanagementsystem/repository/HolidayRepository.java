@@ -0,0 +1,48 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.Holiday;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for managing Holiday entities.
+ * Provides CRUD operations, the holidays of a range and their dates for the working-day calendar.
+ *
+ * @author abdulmanan
+ */
+@Repository
+public interface HolidayRepository extends JpaRepository<Holiday, String> {
+
+    /**
+     * Finds the dates of the holidays within a date range.
+     *
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @return the holiday dates of the range
+     */
+    @Query("SELECT h.holidayDate FROM Holiday h WHERE h.holidayDate BETWEEN :startDate AND :endDate")
+    List<LocalDate> findHolidayDates(@Param("startDate") LocalDate startDate,
+                                     @Param("endDate") LocalDate endDate);
+
+    /**
+     * Finds the holidays within a date range in date order.
+     *
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @return the holidays of the range
+     */
+    List<Holiday> findByHolidayDateBetweenOrderByHolidayDateAsc(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Whether a holiday exists on a date.
+     *
+     * @param holidayDate the date to check
+     * @return true if the date is a holiday
+     */
+    boolean existsByHolidayDate(LocalDate holidayDate);
+}
@@ -3,21 +3,26 @@ package com.crimsonlogic.payrollmanagementsystem.repository;
 import com.crimsonlogic.payrollmanagementsystem.domain.Employees;
 import com.crimsonlogic.payrollmanagementsystem.domain.LeaveRecord;
 import com.crimsonlogic.payrollmanagementsystem.domain.LeaveType;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 /**
  * Repository interface for managing LeaveRecord entities.
  * Provides CRUD operations and custom queries for leave records.
+ * Balances change only through conditional updates, so concurrent requests, approvals and
+ * cancellations never overdraw or lose an update of a record.
  *
  * @author abdulmanan
  */
 @Repository
-public interface LeaveRecordRepository extends JpaRepository<LeaveRecord, String> {
+public interface LeaveRecordRepository extends JpaRepository<LeaveRecord, String>, LeaveRecordRepositoryCustom {
 
     /**
      * Finds a leave record for a specific employee and type of leave.
@@ -40,4 +45,87 @@ public interface LeaveRecordRepository extends JpaRepository<LeaveRecord, String
      * @return List of LeaveRecord for the specified employee.
      */
     List<LeaveRecord> findByLeaveForEmployee(Employees employee);
+
+    /**
+     * Holds leave days for a pending request, if the remaining days not held by other requests cover them.
+     *
+     * @param employeeId The ID of the employee.
+     * @param typeId The ID of the type of leave.
+     * @param days The number of days to hold.
+     * @return the number of records updated, 0 if the record is not found or the days are not available
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE LeaveRecord lr SET lr.heldLeaves = COALESCE(lr.heldLeaves, 0) + :days " +
+            "WHERE lr.leaveForEmployee.employeeId = :employeeId AND lr.typeOfLeave.typeId = :typeId " +
+            "AND lr.remainingLeaves - COALESCE(lr.heldLeaves, 0) >= :days")
+    int holdLeaves(@Param("employeeId") String employeeId, @Param("typeId") String typeId,
+                   @Param("days") BigDecimal days);
+
+    /**
+     * Releases the leave days held for a rejected or cancelled pending request.
+     *
+     * @param employeeId The ID of the employee.
+     * @param typeId The ID of the type of leave.
+     * @param days The number of days to release.
+     * @return the number of records updated, 0 if the record is not found or holds fewer days
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE LeaveRecord lr SET lr.heldLeaves = lr.heldLeaves - :days " +
+            "WHERE lr.leaveForEmployee.employeeId = :employeeId AND lr.typeOfLeave.typeId = :typeId " +
+            "AND lr.heldLeaves >= :days")
+    int releaseHeldLeaves(@Param("employeeId") String employeeId, @Param("typeId") String typeId,
+                          @Param("days") BigDecimal days);
+
+    /**
+     * Uses the leave days held for an approved request.
+     *
+     * @param employeeId The ID of the employee.
+     * @param typeId The ID of the type of leave.
+     * @param days The number of days to use.
+     * @return the number of records updated, 0 if the record is not found or holds fewer days
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE LeaveRecord lr SET lr.heldLeaves = lr.heldLeaves - :days, " +
+            "lr.usedLeaves = lr.usedLeaves + :days, lr.remainingLeaves = lr.remainingLeaves - :days " +
+            "WHERE lr.leaveForEmployee.employeeId = :employeeId AND lr.typeOfLeave.typeId = :typeId " +
+            "AND lr.heldLeaves >= :days AND lr.remainingLeaves >= :days")
+    int useHeldLeaves(@Param("employeeId") String employeeId, @Param("typeId") String typeId,
+                      @Param("days") BigDecimal days);
+
+    /**
+     * Uses leave days not held for any request, for an approved request that placed no hold.
+     *
+     * @param employeeId The ID of the employee.
+     * @param typeId The ID of the type of leave.
+     * @param days The number of days to use.
+     * @return the number of records updated, 0 if the record is not found or the days are not available
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE LeaveRecord lr SET lr.usedLeaves = lr.usedLeaves + :days, " +
+            "lr.remainingLeaves = lr.remainingLeaves - :days " +
+            "WHERE lr.leaveForEmployee.employeeId = :employeeId AND lr.typeOfLeave.typeId = :typeId " +
+            "AND lr.remainingLeaves - COALESCE(lr.heldLeaves, 0) >= :days")
+    int useLeaves(@Param("employeeId") String employeeId, @Param("typeId") String typeId,
+                  @Param("days") BigDecimal days);
+
+    /**
+     * Gives back the leave days of a cancelled approved request.
+     *
+     * @param employeeId The ID of the employee.
+     * @param typeId The ID of the type of leave.
+     * @param days The number of days to give back.
+     * @return the number of records updated, 0 if the record is not found or used fewer days
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE LeaveRecord lr SET lr.usedLeaves = lr.usedLeaves - :days, " +
+            "lr.remainingLeaves = lr.remainingLeaves + :days " +
+            "WHERE lr.leaveForEmployee.employeeId = :employeeId AND lr.typeOfLeave.typeId = :typeId " +
+            "AND lr.usedLeaves >= :days")
+    int restoreLeaves(@Param("employeeId") String employeeId, @Param("typeId") String typeId,
+                      @Param("days") BigDecimal days);
 }
@@ -0,0 +1,101 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.LeaveRequest;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Custom repository interface for LeaveRecord-related operations.
+ * This interface defines the conditional balance updates of many leave requests at once,
+ * sent to the database as one JDBC batch, and the set-based accrual and rollover of the
+ * leave records of a range of employees, from after one employee ID through another.
+ *
+ * @author abdulmanan
+ */
+public interface LeaveRecordRepositoryCustom {
+
+    /**
+     * Uses the leave days held for each of the approved requests.
+     *
+     * @param leaveRequests the approved requests, with their employee, type of leave and number of days
+     * @return the number of records updated for each request, in order, 0 if the record holds fewer days
+     */
+    int[] useHeldLeavesInBatch(List<LeaveRequest> leaveRequests);
+
+    /**
+     * Uses leave days not held for any request, for each of the approved requests that placed no hold.
+     *
+     * @param leaveRequests the approved requests, with their employee, type of leave and number of days
+     * @return the number of records updated for each request, in order, 0 if the days are not available
+     */
+    int[] useLeavesInBatch(List<LeaveRequest> leaveRequests);
+
+    /**
+     * Releases the leave days held for each of the rejected requests.
+     *
+     * @param leaveRequests the rejected requests, with their employee, type of leave and number of days
+     * @return the number of records updated for each request, in order, 0 if the record holds fewer days
+     */
+    int[] releaseHeldLeavesInBatch(List<LeaveRequest> leaveRequests);
+
+    /**
+     * Locks the leave accrual until the end of the transaction, so concurrent runs
+     * cannot create the same leave record twice.
+     */
+    void lockLeaveAccrual();
+
+    /**
+     * Finds the last employee of the next chunk of employees, in the order of their IDs.
+     *
+     * @param afterEmployeeId the ID of the last employee of the previous chunk, null for the first chunk
+     * @param chunkSize the number of employees in a chunk
+     * @return the ID of the last employee of the chunk, null if there are no more employees
+     */
+    String findAccrualChunkEnd(String afterEmployeeId, int chunkSize);
+
+    /**
+     * Creates the missing leave records of the active employees in a range, one per type of leave,
+     * with the yearly number of leaves of the type granted at once unless it accrues monthly.
+     *
+     * @param afterEmployeeId the employee ID the range starts after
+     * @param toEmployeeId the employee ID the range ends with
+     * @param year the year of the new balances
+     * @return the number of leave records created
+     */
+    int insertMissingLeaveRecords(String afterEmployeeId, String toEmployeeId, int year);
+
+    /**
+     * Assigns a year to the leave records in a range that were created before balances had one.
+     *
+     * @param afterEmployeeId the employee ID the range starts after
+     * @param toEmployeeId the employee ID the range ends with
+     * @param year the year of the balances
+     * @return the number of leave records assigned the year
+     */
+    int adoptLeaveRecords(String afterEmployeeId, String toEmployeeId, int year);
+
+    /**
+     * Rolls the leave records in a range of an earlier year over into a year. The unused days are
+     * carried up to the carry-forward limit of the type, the rest lapse, and the days held by
+     * pending requests are always carried. The used days start again from zero.
+     *
+     * @param afterEmployeeId the employee ID the range starts after
+     * @param toEmployeeId the employee ID the range ends with
+     * @param year the year the balances are rolled into
+     * @return the number of leave records rolled over
+     */
+    int rollOverLeaveRecords(String afterEmployeeId, String toEmployeeId, int year);
+
+    /**
+     * Credits the monthly accrual of their type to the leave records in a range, for every month
+     * of the year through the given one not accrued yet and not before the employee joined.
+     * Inactive employees earn nothing, but their records are marked accrued too.
+     *
+     * @param afterEmployeeId the employee ID the range starts after
+     * @param toEmployeeId the employee ID the range ends with
+     * @param month the last month to accrue
+     * @return the number of leave records accrued
+     */
+    int accrueLeaveRecords(String afterEmployeeId, String toEmployeeId, YearMonth month);
+}
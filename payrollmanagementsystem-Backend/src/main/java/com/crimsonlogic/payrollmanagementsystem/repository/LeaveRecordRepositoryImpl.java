@@ -0,0 +1,177 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.LeaveRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Implementation of the custom repository interface for LeaveRecord.
+ * Each request is one conditional update of its leave record, as in LeaveRecordRepository,
+ * and the updates of all the requests are sent in one JDBC batch.
+ * The accrual and rollover are single statements over a range of employees, guarded by the
+ * year and the last accrued month of each record, so a repeated statement changes nothing.
+ *
+ * @author abdulmanan
+ */
+@Repository
+public class LeaveRecordRepositoryImpl implements LeaveRecordRepositoryCustom {
+
+    private static final String USE_HELD_LEAVES =
+            "UPDATE leave_record SET held_leaves = held_leaves - ?, used_leaves = used_leaves + ?, " +
+            "remaining_leaves = remaining_leaves - ? WHERE leave_for_employee = ? AND type_of_leave = ? " +
+            "AND held_leaves >= ? AND remaining_leaves >= ?";
+
+    private static final String USE_LEAVES =
+            "UPDATE leave_record SET used_leaves = used_leaves + ?, remaining_leaves = remaining_leaves - ? " +
+            "WHERE leave_for_employee = ? AND type_of_leave = ? " +
+            "AND remaining_leaves - COALESCE(held_leaves, 0) >= ?";
+
+    private static final String RELEASE_HELD_LEAVES =
+            "UPDATE leave_record SET held_leaves = held_leaves - ? " +
+            "WHERE leave_for_employee = ? AND type_of_leave = ? AND held_leaves >= ?";
+
+    private static final String LOCK_LEAVE_ACCRUAL =
+            "SELECT pg_advisory_xact_lock(hashtext('leave_accrual'))";
+
+    private static final String FIND_ACCRUAL_CHUNK_END =
+            "SELECT MAX(employee_id) FROM (SELECT employee_id FROM employees WHERE employee_id > ? " +
+            "ORDER BY employee_id LIMIT ?) chunk";
+
+    private static final String MISSING_LEAVE_RECORDS =
+            "FROM employees e CROSS JOIN leave_type lt " +
+            "WHERE e.employee_id > ? AND e.employee_id <= ? AND e.is_active IS NOT FALSE " +
+            "AND NOT EXISTS (SELECT 1 FROM leave_record lr WHERE lr.leave_for_employee = e.employee_id " +
+            "AND lr.type_of_leave = lt.type_id)";
+
+    private static final String COUNT_MISSING_LEAVE_RECORDS = "SELECT COUNT(*) " + MISSING_LEAVE_RECORDS;
+
+    // The allocated IDs are matched to the missing records by position
+    private static final String INSERT_MISSING_LEAVE_RECORDS =
+            "INSERT INTO leave_record (leave_record_id, leave_for_employee, type_of_leave, total_leaves, " +
+            "used_leaves, remaining_leaves, held_leaves, carried_leaves, balance_year) " +
+            "SELECT ids.id, m.employee_id, m.type_id, m.number_of_leaves, 0, " +
+            "CASE WHEN m.monthly_accrual > 0 THEN 0 ELSE COALESCE(m.number_of_leaves, 0) END, 0, 0, ? " +
+            "FROM (SELECT e.employee_id, lt.type_id, lt.number_of_leaves, lt.monthly_accrual, " +
+            "ROW_NUMBER() OVER (ORDER BY e.employee_id, lt.type_id) AS n " + MISSING_LEAVE_RECORDS + ") m " +
+            "JOIN unnest(CAST(? AS VARCHAR[])) WITH ORDINALITY AS ids(id, n) ON ids.n = m.n";
+
+    private static final String ADOPT_LEAVE_RECORDS =
+            "UPDATE leave_record SET balance_year = ?, used_leaves = COALESCE(used_leaves, 0), " +
+            "remaining_leaves = COALESCE(remaining_leaves, 0), held_leaves = COALESCE(held_leaves, 0), " +
+            "carried_leaves = COALESCE(carried_leaves, 0) " +
+            "WHERE balance_year IS NULL AND leave_for_employee > ? AND leave_for_employee <= ?";
+
+    // The unused days up to the limit, and never fewer than the days held by pending requests
+    private static final String CARRIED_LEAVES =
+            "GREATEST(LEAST(lr.remaining_leaves, COALESCE(lt.carry_forward_limit, lr.remaining_leaves)), " +
+            "lr.held_leaves)";
+
+    private static final String ROLL_OVER_LEAVE_RECORDS =
+            "UPDATE leave_record lr SET carried_leaves = " + CARRIED_LEAVES + ", " +
+            "remaining_leaves = " + CARRIED_LEAVES + " + " +
+            "CASE WHEN lt.monthly_accrual > 0 THEN 0 ELSE COALESCE(lt.number_of_leaves, 0) END, " +
+            "total_leaves = lt.number_of_leaves, used_leaves = 0, balance_year = ?, accrued_month = NULL " +
+            "FROM leave_type lt WHERE lt.type_id = lr.type_of_leave AND lr.balance_year < ? " +
+            "AND lr.leave_for_employee > ? AND lr.leave_for_employee <= ?";
+
+    // The first month not accrued yet, GREATEST ignores a missing joining date
+    private static final String FIRST_UNACCRUED_MONTH =
+            "GREATEST(COALESCE(CAST(lr.accrued_month + INTERVAL '1 month' AS DATE), CAST(? AS DATE)), " +
+            "CAST(DATE_TRUNC('month', e.joining_date) AS DATE))";
+
+    private static final String ACCRUE_LEAVE_RECORDS =
+            "UPDATE leave_record lr SET remaining_leaves = COALESCE(lr.remaining_leaves, 0) + " +
+            "CASE WHEN e.is_active IS FALSE " +
+            "THEN 0 ELSE lt.monthly_accrual * (EXTRACT(MONTH FROM CAST(? AS DATE)) - EXTRACT(MONTH FROM " +
+            FIRST_UNACCRUED_MONTH + ") + 1) END, accrued_month = ? " +
+            "FROM leave_type lt, employees e WHERE lt.type_id = lr.type_of_leave " +
+            "AND e.employee_id = lr.leave_for_employee AND lt.monthly_accrual > 0 AND lr.balance_year = ? " +
+            "AND " + FIRST_UNACCRUED_MONTH + " <= CAST(? AS DATE) " +
+            "AND lr.leave_for_employee > ? AND lr.leave_for_employee <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Constructor to initialize the JDBC template
+    LeaveRecordRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        super();
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int[] useHeldLeavesInBatch(List<LeaveRequest> leaveRequests) {
+        return updateInBatch(USE_HELD_LEAVES, leaveRequests, 4, 1, 2, 3, 6, 7);
+    }
+
+    @Override
+    public int[] useLeavesInBatch(List<LeaveRequest> leaveRequests) {
+        return updateInBatch(USE_LEAVES, leaveRequests, 3, 1, 2, 5);
+    }
+
+    @Override
+    public int[] releaseHeldLeavesInBatch(List<LeaveRequest> leaveRequests) {
+        return updateInBatch(RELEASE_HELD_LEAVES, leaveRequests, 2, 1, 4);
+    }
+
+    @Override
+    public void lockLeaveAccrual() {
+        jdbcTemplate.execute(LOCK_LEAVE_ACCRUAL);
+    }
+
+    @Override
+    public String findAccrualChunkEnd(String afterEmployeeId, int chunkSize) {
+        return jdbcTemplate.queryForObject(FIND_ACCRUAL_CHUNK_END, String.class,
+                afterEmployeeId != null ? afterEmployeeId : "", chunkSize);
+    }
+
+    @Override
+    public int insertMissingLeaveRecords(String afterEmployeeId, String toEmployeeId, int year) {
+        Long missing = jdbcTemplate.queryForObject(COUNT_MISSING_LEAVE_RECORDS, Long.class,
+                afterEmployeeId, toEmployeeId);
+        if (missing == null || missing == 0) {
+            return 0;
+        }
+        List<String> recordIds = RandomIdAllocator.allocate(jdbcTemplate, "leave_record", "leave_record_id", "LEV",
+                missing.intValue());
+        return jdbcTemplate.update(INSERT_MISSING_LEAVE_RECORDS, year, afterEmployeeId, toEmployeeId,
+                recordIds.toArray(new String[0]));
+    }
+
+    @Override
+    public int adoptLeaveRecords(String afterEmployeeId, String toEmployeeId, int year) {
+        return jdbcTemplate.update(ADOPT_LEAVE_RECORDS, year, afterEmployeeId, toEmployeeId);
+    }
+
+    @Override
+    public int rollOverLeaveRecords(String afterEmployeeId, String toEmployeeId, int year) {
+        return jdbcTemplate.update(ROLL_OVER_LEAVE_RECORDS, year, year, afterEmployeeId, toEmployeeId);
+    }
+
+    @Override
+    public int accrueLeaveRecords(String afterEmployeeId, String toEmployeeId, YearMonth month) {
+        Date monthStart = Date.valueOf(month.atDay(1));
+        Date yearStart = Date.valueOf(month.atDay(1).withDayOfYear(1));
+        return jdbcTemplate.update(ACCRUE_LEAVE_RECORDS, monthStart, yearStart, monthStart, month.getYear(),
+                yearStart, monthStart, afterEmployeeId, toEmployeeId);
+    }
+
+    // Run an update once per request, binding its employee and type of leave, and its days to each days parameter
+    private int[] updateInBatch(String sql, List<LeaveRequest> leaveRequests, int employeeParameter,
+                                int... daysParameters) {
+        if (leaveRequests.isEmpty()) {
+            return new int[0];
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(sql, leaveRequests, leaveRequests.size(),
+                (ps, leaveRequest) -> {
+                    for (int daysParameter : daysParameters) {
+                        ps.setBigDecimal(daysParameter, leaveRequest.getNoOfDays());
+                    }
+                    ps.setString(employeeParameter, leaveRequest.getRequestByEmployee().getEmployeeId());
+                    ps.setString(employeeParameter + 1, leaveRequest.getTypeOfLeave().getTypeId());
+                });
+        return counts[0];
+    }
+}
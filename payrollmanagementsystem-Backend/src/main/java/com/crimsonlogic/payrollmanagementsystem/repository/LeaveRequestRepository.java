@@ -2,13 +2,18 @@ package com.crimsonlogic.payrollmanagementsystem.repository;
 
 import com.crimsonlogic.payrollmanagementsystem.domain.Employees;
 import com.crimsonlogic.payrollmanagementsystem.domain.LeaveRequest;
-import com.crimsonlogic.payrollmanagementsystem.domain.LeaveType;
+import com.crimsonlogic.payrollmanagementsystem.dto.EmployeeLeaveTypeDTO;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for managing LeaveRequest entities.
@@ -20,31 +25,34 @@ import java.util.List;
 public interface LeaveRequestRepository extends JpaRepository<LeaveRequest, String> {
 
     /**
-     * Finds all leave requests made by a specific employee.
+     * Finds a leave request and locks it until the end of the transaction,
+     * so an approval, a rejection and a cancellation of it are applied one at a time.
      *
-     * @param employee The employee for whom the leave requests are being queried.
-     * @return List of LeaveRequest made by the specified employee.
+     * @param leaveRequestId The ID of the leave request.
+     * @return the locked leave request, empty if not found
      */
-    List<LeaveRequest> findByRequestByEmployee(Employees employee);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT lr FROM LeaveRequest lr WHERE lr.leaveRequestId = :leaveRequestId")
+    Optional<LeaveRequest> findByIdForUpdate(@Param("leaveRequestId") String leaveRequestId);
+
+    /**
+     * Finds leave requests and locks them until the end of the transaction, in the order of their IDs,
+     * so concurrent bulk decisions of overlapping requests do not deadlock.
+     *
+     * @param leaveRequestIds The IDs of the leave requests.
+     * @return the locked leave requests found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT lr FROM LeaveRequest lr WHERE lr.leaveRequestId IN :leaveRequestIds ORDER BY lr.leaveRequestId")
+    List<LeaveRequest> findAllByIdForUpdate(@Param("leaveRequestIds") Collection<String> leaveRequestIds);
 
     /**
-     * Finds a leave request for a specific employee, year, month, and type of leave.
+     * Finds all leave requests made by a specific employee.
      *
-     * @param employee The employee for whom the leave request is being queried.
-     * @param year The year of the leave request.
-     * @param month The month of the leave request.
-     * @param type The type of leave being requested.
-     * @return LeaveRequest if found, otherwise null.
+     * @param employee The employee for whom the leave requests are being queried.
+     * @return List of LeaveRequest made by the specified employee.
      */
-    @Query("SELECT lr FROM LeaveRequest lr WHERE lr.requestByEmployee = :employee AND " +
-            "EXTRACT(YEAR FROM lr.startDate) = :year " +
-            "AND EXTRACT(MONTH FROM lr.startDate) = :month AND lr.typeOfLeave = :type")
-    LeaveRequest findByRequestByEmployeeAndStartDateAndTypeOfLeave(
-            @Param("employee") Employees employee,
-            @Param("year") int year,
-            @Param("month") int month,
-            @Param("type") LeaveType type
-    );
+    List<LeaveRequest> findByRequestByEmployee(Employees employee);
 
     /**
      * Finds all pending leave requests for a specific manager.
@@ -56,4 +64,39 @@ public interface LeaveRequestRepository extends JpaRepository<LeaveRequest, Stri
             "WHERE lr.requestByEmployee.manager = :manager " +
             "AND lr.status = 'Pending'")
     List<LeaveRequest> findPendingLeaveRequests(@Param("manager") Employees manager);
+
+    /**
+     * Finds the employees having an approved leave of one of the given types starting within a date range.
+     *
+     * @param leaveTypeIds The IDs of the leave types.
+     * @param startDate The start date of the range.
+     * @param endDate The end date of the range.
+     * @return List of distinct employee and leave type pairs with an approved leave in the range.
+     */
+    @Query("SELECT DISTINCT new com.crimsonlogic.payrollmanagementsystem.dto.EmployeeLeaveTypeDTO(" +
+            "lr.requestByEmployee.employeeId, lr.typeOfLeave.typeId) FROM LeaveRequest lr " +
+            "WHERE lr.typeOfLeave.typeId IN :leaveTypeIds AND LOWER(lr.status) = 'approved' " +
+            "AND lr.startDate BETWEEN :startDate AND :endDate")
+    List<EmployeeLeaveTypeDTO> findApprovedLeaveTypes(@Param("leaveTypeIds") Collection<String> leaveTypeIds,
+                                                      @Param("startDate") LocalDate startDate,
+                                                      @Param("endDate") LocalDate endDate);
+
+    /**
+     * Finds which of the given employees have an approved leave of one of the given types starting within a date range.
+     *
+     * @param leaveTypeIds The IDs of the leave types.
+     * @param employeeIds The IDs of the employees.
+     * @param startDate The start date of the range.
+     * @param endDate The end date of the range.
+     * @return List of distinct employee and leave type pairs of the given employees with an approved leave in the range.
+     */
+    @Query("SELECT DISTINCT new com.crimsonlogic.payrollmanagementsystem.dto.EmployeeLeaveTypeDTO(" +
+            "lr.requestByEmployee.employeeId, lr.typeOfLeave.typeId) FROM LeaveRequest lr " +
+            "WHERE lr.typeOfLeave.typeId IN :leaveTypeIds AND LOWER(lr.status) = 'approved' " +
+            "AND lr.requestByEmployee.employeeId IN :employeeIds " +
+            "AND lr.startDate BETWEEN :startDate AND :endDate")
+    List<EmployeeLeaveTypeDTO> findApprovedLeaveTypes(@Param("leaveTypeIds") Collection<String> leaveTypeIds,
+                                                      @Param("employeeIds") Collection<String> employeeIds,
+                                                      @Param("startDate") LocalDate startDate,
+                                                      @Param("endDate") LocalDate endDate);
 }
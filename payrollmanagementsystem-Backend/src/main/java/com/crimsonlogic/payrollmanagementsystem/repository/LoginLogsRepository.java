@@ -2,8 +2,14 @@ package com.crimsonlogic.payrollmanagementsystem.repository;
 
 import com.crimsonlogic.payrollmanagementsystem.domain.Employees;
 import com.crimsonlogic.payrollmanagementsystem.domain.LoginLogs;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
 import java.util.List;
 
 /**
@@ -22,4 +28,19 @@ public interface LoginLogsRepository extends JpaRepository<LoginLogs, String> {
      * @return a list of LoginLogs records for the specified employee
      */
     List<LoginLogs> findByLogForEmployee(Employees employee);
+
+    /**
+     * Sets the logout time of a login record. The lower bound on the login time
+     * limits the update to the partitions of recent months.
+     *
+     * @param logId the ID of the login record
+     * @param logoutTime the time of the logout
+     * @param loginAfter the earliest login time of the record
+     * @return the number of records updated, 0 if the record is not found after that time
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE LoginLogs l SET l.logoutTime = :logoutTime WHERE l.logId = :logId AND l.loginTime >= :loginAfter")
+    int updateLogoutTime(@Param("logId") String logId, @Param("logoutTime") Timestamp logoutTime,
+                         @Param("loginAfter") Timestamp loginAfter);
 }
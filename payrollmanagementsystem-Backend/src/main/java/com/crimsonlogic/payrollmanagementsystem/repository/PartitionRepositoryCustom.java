@@ -0,0 +1,69 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Custom repository interface for managing the monthly range partitions of
+ * time-series tables. Partitions are named after their table and month, for
+ * example attendance_p2024_03, and rows outside every month go to the
+ * default partition of the table.
+ *
+ * @author abdulmanan
+ */
+public interface PartitionRepositoryCustom {
+
+    /**
+     * Locks partition maintenance until the end of the transaction, so concurrent
+     * runs cannot create or archive the same partition.
+     */
+    void lockPartitionMaintenance();
+
+    /**
+     * Checks whether a table is partitioned.
+     *
+     * @param table the name of the table
+     * @return true if the table is partitioned, false if it is a plain table or does not exist
+     */
+    boolean isPartitioned(String table);
+
+    /**
+     * Replaces a plain table by a table partitioned by month on a column, with a
+     * partition for every month from its oldest row to a given month. The rows,
+     * constraints and indexes are carried over, and the primary key is extended
+     * with the partition column.
+     *
+     * @param table the name of the table
+     * @param idColumn the primary key column of the table
+     * @param partitionColumn the date or timestamp column the table is partitioned on
+     * @param lastMonth the last month to be given a partition
+     * @return the number of monthly partitions created
+     */
+    int convertToPartitioned(String table, String idColumn, String partitionColumn, YearMonth lastMonth);
+
+    /**
+     * Finds the months that have a partition.
+     *
+     * @param table the name of the partitioned table
+     * @return the months of the partitions, in order
+     */
+    List<YearMonth> findPartitionMonths(String table);
+
+    /**
+     * Creates the partition of a month, moving its rows out of the default partition.
+     *
+     * @param table the name of the partitioned table
+     * @param partitionColumn the column the table is partitioned on
+     * @param month the month of the partition
+     */
+    void createPartition(String table, String partitionColumn, YearMonth month);
+
+    /**
+     * Detaches the partition of a month and moves it to the archive schema,
+     * where it is kept as a plain table.
+     *
+     * @param table the name of the partitioned table
+     * @param month the month of the partition
+     */
+    void archivePartition(String table, YearMonth month);
+}
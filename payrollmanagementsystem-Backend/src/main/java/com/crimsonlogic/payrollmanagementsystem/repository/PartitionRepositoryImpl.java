@@ -0,0 +1,146 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Implementation of the custom repository interface for table partitions.
+ * The table and column names come from the application, never from a request,
+ * since DDL cannot take them as parameters.
+ *
+ * @author abdulmanan
+ */
+@Repository
+public class PartitionRepositoryImpl implements PartitionRepositoryCustom {
+
+    public static final String ARCHIVE_SCHEMA = "payroll_archive";
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static final String LOCK_PARTITION_MAINTENANCE =
+            "SELECT pg_advisory_xact_lock(hashtext('partition_maintenance'))";
+
+    private static final String FIND_TABLE_KIND = "SELECT relkind FROM pg_class WHERE oid = to_regclass(?)";
+
+    private static final String FIND_PARTITIONS =
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+            "WHERE i.inhparent = to_regclass(?)";
+
+    // Unique and foreign key constraints, the primary key is recreated with the partition column
+    private static final String FIND_CONSTRAINTS =
+            "SELECT quote_ident(conname) AS name, pg_get_constraintdef(oid) AS definition FROM pg_constraint " +
+            "WHERE conrelid = to_regclass(?) AND contype IN ('u', 'f')";
+
+    private static final String FIND_INDEXES =
+            "SELECT pg_get_indexdef(i.indexrelid) FROM pg_index i WHERE i.indrelid = to_regclass(?) " +
+            "AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conindid = i.indexrelid)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Constructor to initialize the JDBC template
+    PartitionRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        super();
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void lockPartitionMaintenance() {
+        jdbcTemplate.execute(LOCK_PARTITION_MAINTENANCE);
+    }
+
+    @Override
+    public boolean isPartitioned(String table) {
+        List<String> kinds = jdbcTemplate.queryForList(FIND_TABLE_KIND, String.class, table);
+        return !kinds.isEmpty() && "p".equals(kinds.get(0));
+    }
+
+    @Override
+    public int convertToPartitioned(String table, String idColumn, String partitionColumn, YearMonth lastMonth) {
+        String unpartitioned = table + "_unpartitioned";
+        jdbcTemplate.execute("LOCK TABLE " + table + " IN ACCESS EXCLUSIVE MODE");
+
+        // Read the definitions while they still name the table, they are replayed on the partitioned table
+        List<String> constraints = jdbcTemplate.query(FIND_CONSTRAINTS,
+                (rs, rowNum) -> "ALTER TABLE " + table + " ADD CONSTRAINT " + rs.getString("name") + " "
+                        + rs.getString("definition"),
+                table);
+        List<String> indexes = jdbcTemplate.queryForList(FIND_INDEXES, String.class, table);
+        Date oldest = jdbcTemplate.queryForObject(
+                "SELECT CAST(MIN(" + partitionColumn + ") AS DATE) FROM " + table, Date.class);
+
+        jdbcTemplate.execute("ALTER TABLE " + table + " RENAME TO " + unpartitioned);
+        jdbcTemplate.execute("CREATE TABLE " + table + " (LIKE " + unpartitioned + " INCLUDING DEFAULTS) " +
+                "PARTITION BY RANGE (" + partitionColumn + ")");
+        jdbcTemplate.execute("CREATE TABLE " + table + "_default PARTITION OF " + table + " DEFAULT");
+        int created = 0;
+        YearMonth firstMonth = oldest != null ? YearMonth.from(oldest.toLocalDate()) : lastMonth;
+        for (YearMonth month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            jdbcTemplate.execute("CREATE TABLE " + partitionName(table, month) + " PARTITION OF " + table +
+                    " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+            created++;
+        }
+        jdbcTemplate.execute("INSERT INTO " + table + " SELECT * FROM " + unpartitioned);
+        jdbcTemplate.execute("DROP TABLE " + unpartitioned);
+
+        // A primary key of a partitioned table has to include the partition column
+        jdbcTemplate.execute("ALTER TABLE " + table + " ADD PRIMARY KEY (" + idColumn + ", " + partitionColumn + ")");
+        constraints.forEach(jdbcTemplate::execute);
+        indexes.forEach(jdbcTemplate::execute);
+        return created;
+    }
+
+    @Override
+    public List<YearMonth> findPartitionMonths(String table) {
+        Pattern monthlyPartition = Pattern.compile(Pattern.quote(table) + "_p(\\d{4})_(\\d{2})");
+        List<YearMonth> months = new ArrayList<>();
+        for (String partition : jdbcTemplate.queryForList(FIND_PARTITIONS, String.class, table)) {
+            Matcher matcher = monthlyPartition.matcher(partition);
+            if (matcher.matches()) {
+                months.add(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+            }
+        }
+        months.sort(null);
+        return months;
+    }
+
+    @Override
+    public void createPartition(String table, String partitionColumn, YearMonth month) {
+        String partition = partitionName(table, month);
+        String range = partitionColumn + " >= '" + month.atDay(1) + "' AND " + partitionColumn + " < '"
+                + month.plusMonths(1).atDay(1) + "'";
+        // Attaching a filled table only validates it, where creating the partition directly
+        // would fail on rows of the month already in the default partition
+        jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE " + table + " INCLUDING DEFAULTS)");
+        jdbcTemplate.execute("WITH moved AS (DELETE FROM " + table + "_default WHERE " + range + " RETURNING *) " +
+                "INSERT INTO " + partition + " SELECT * FROM moved");
+        jdbcTemplate.execute("ALTER TABLE " + table + " ATTACH PARTITION " + partition + " FOR VALUES FROM ('"
+                + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+    }
+
+    @Override
+    public void archivePartition(String table, YearMonth month) {
+        String partition = partitionName(table, month);
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + ARCHIVE_SCHEMA);
+        jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+        jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + ARCHIVE_SCHEMA);
+    }
+
+    /**
+     * The name of the partition of a month.
+     *
+     * @param table the name of the partitioned table
+     * @param month the month of the partition
+     * @return the name of the partition
+     */
+    public static String partitionName(String table, YearMonth month) {
+        return table + "_p" + month.format(PARTITION_SUFFIX);
+    }
+}
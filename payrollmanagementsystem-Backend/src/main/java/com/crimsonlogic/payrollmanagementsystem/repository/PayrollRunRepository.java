@@ -0,0 +1,15 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.PayrollRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for managing PayrollRun entities.
+ * Provides CRUD operations for the summaries of completed payroll runs.
+ *
+ * @author abdulmanan
+ */
+@Repository
+public interface PayrollRunRepository extends JpaRepository<PayrollRun, String> {
+}
@@ -0,0 +1,84 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.PunchEventDTO;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Custom repository interface for storing punch events and the attendance hours computed from them.
+ * Events and attendance are written with JDBC batches, so a whole batch of events takes
+ * a handful of statements.
+ *
+ * @author abdulmanan
+ */
+public interface PunchEventRepositoryCustom {
+
+    /**
+     * Inserts punch events in batches. Events of unknown employees and events
+     * that were stored before are skipped.
+     *
+     * @param punchEvents the events to be inserted
+     * @param batchSize the number of events sent per batch
+     * @return the number of events inserted
+     */
+    int insertPunchEvents(List<PunchEventDTO> punchEvents, int batchSize);
+
+    /**
+     * Finds the punch events of employees within a time range, ordered by employee and time.
+     *
+     * @param employeeIds the IDs of the employees
+     * @param from the start of the range, inclusive
+     * @param to the end of the range, exclusive
+     * @return a list of PunchEventDTO
+     */
+    List<PunchEventDTO> findPunchEvents(Collection<String> employeeIds, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Inserts punch events that could not be written into the dead-letter table.
+     *
+     * @param punchEvents the events that failed
+     * @param errorMessage the error the events failed with
+     */
+    void insertDeadLetters(List<PunchEventDTO> punchEvents, String errorMessage);
+
+    /**
+     * Locks the attendance of the given days until the end of the transaction, the same
+     * locks the attendance upsert takes, so the days can be read and written without
+     * another writer of the same days in between.
+     *
+     * @param daysByEmployee the days to be locked per employee ID
+     */
+    void lockAttendanceDays(Map<String, ? extends Collection<LocalDate>> daysByEmployee);
+
+    /**
+     * Finds the attendance records of employees within a date range.
+     *
+     * @param employeeIds the IDs of the employees
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @return a list of AttendanceDTO
+     */
+    List<AttendanceDTO> findAttendance(Collection<String> employeeIds, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Inserts attendance records in batches, assigning their IDs. A record of a day that
+     * was written in the meantime only updates the hours of the stored one.
+     *
+     * @param attendances the attendance records to be inserted
+     * @param batchSize the number of records sent per batch
+     */
+    void insertAttendance(List<AttendanceDTO> attendances, int batchSize);
+
+    /**
+     * Updates the total and overtime hours of attendance records in batches.
+     *
+     * @param attendances the attendance records with their new hours
+     * @param batchSize the number of records sent per batch
+     */
+    void updateAttendanceHours(List<AttendanceDTO> attendances, int batchSize);
+}
@@ -0,0 +1,189 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.PunchEventDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of the custom repository interface for punch events.
+ * The events of a batch are inserted with one batched statement, and the
+ * attendance of the days they touch is read and written per batch as well.
+ *
+ * @author abdulmanan
+ */
+@Repository
+public class PunchEventRepositoryImpl implements PunchEventRepositoryCustom {
+
+    // The join drops events of unknown employees instead of failing the batch on the foreign key
+    private static final String INSERT_PUNCH_EVENT =
+            "INSERT INTO punch_event (punch_event_id, punch_by_employee, punch_time, direction, device_id, " +
+            "received_at) SELECT ?, e.employee_id, ?, ?, ?, ? FROM employees e WHERE e.employee_id = ? " +
+            "ON CONFLICT (punch_by_employee, punch_time, direction) DO NOTHING";
+
+    private static final String INSERT_DEAD_LETTER =
+            "INSERT INTO punch_event_dead_letter (dead_letter_id, punch_by_employee, punch_time, direction, " +
+            "device_id, received_at, error_message, failed_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // The length of the error message column
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String FIND_PUNCH_EVENTS =
+            "SELECT punch_by_employee, punch_time, direction, device_id, received_at FROM punch_event " +
+            "WHERE punch_by_employee = ANY (?) AND punch_time >= ? AND punch_time < ? " +
+            "ORDER BY punch_by_employee, punch_time";
+
+    private static final String FIND_ATTENDANCE =
+            "SELECT attendance_id, attendance_for_date, overtime_hours, total_hours, status, attendance_by_employee " +
+            "FROM attendance WHERE attendance_by_employee = ANY (?) AND attendance_for_date BETWEEN ? AND ?";
+
+    // A writer that does not take the day locks may have added the day since it was read,
+    // its record keeps its status and takes the punched hours instead of failing the batch
+    private static final String INSERT_ATTENDANCE =
+            "INSERT INTO attendance (attendance_id, attendance_for_date, overtime_hours, total_hours, status, " +
+            "attendance_by_employee) VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (attendance_by_employee, attendance_for_date) DO UPDATE SET " +
+            "total_hours = EXCLUDED.total_hours, overtime_hours = EXCLUDED.overtime_hours";
+
+    // The date keeps the update to the partition of its month
+    private static final String UPDATE_ATTENDANCE_HOURS =
+            "UPDATE attendance SET total_hours = ?, overtime_hours = ? " +
+            "WHERE attendance_id = ? AND attendance_for_date = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Constructor to initialize the JDBC template
+    PunchEventRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        super();
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int insertPunchEvents(List<PunchEventDTO> punchEvents, int batchSize) {
+        if (punchEvents.isEmpty()) {
+            return 0;
+        }
+        List<String> punchEventIds = RandomIdAllocator.allocate(jdbcTemplate, "punch_event", "punch_event_id", "PCH",
+                punchEvents.size());
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_PUNCH_EVENT, punchEvents, batchSize,
+                (ps, punchEvent) -> {
+                    ps.setString(1, punchEventIds.remove(punchEventIds.size() - 1));
+                    ps.setTimestamp(2, Timestamp.valueOf(punchEvent.getPunchTime()));
+                    ps.setString(3, punchEvent.getDirection());
+                    ps.setString(4, punchEvent.getDeviceId());
+                    ps.setTimestamp(5, Timestamp.valueOf(punchEvent.getReceivedAt()));
+                    ps.setString(6, punchEvent.getEmployeeId());
+                });
+        int inserted = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                inserted += Math.max(count, 0);
+            }
+        }
+        return inserted;
+    }
+
+    @Override
+    public void insertDeadLetters(List<PunchEventDTO> punchEvents, String errorMessage) {
+        if (punchEvents.isEmpty()) {
+            return;
+        }
+        List<String> deadLetterIds = RandomIdAllocator.allocate(jdbcTemplate, "punch_event_dead_letter",
+                "dead_letter_id", "PDL", punchEvents.size());
+        String error = errorMessage != null && errorMessage.length() > MAX_ERROR_LENGTH
+                ? errorMessage.substring(0, MAX_ERROR_LENGTH) : errorMessage;
+        Timestamp failedAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_DEAD_LETTER, punchEvents, punchEvents.size(),
+                (ps, punchEvent) -> {
+                    ps.setString(1, deadLetterIds.remove(deadLetterIds.size() - 1));
+                    ps.setString(2, punchEvent.getEmployeeId());
+                    ps.setTimestamp(3, Timestamp.valueOf(punchEvent.getPunchTime()));
+                    ps.setString(4, punchEvent.getDirection());
+                    ps.setString(5, punchEvent.getDeviceId());
+                    ps.setTimestamp(6, Timestamp.valueOf(punchEvent.getReceivedAt()));
+                    ps.setString(7, error);
+                    ps.setTimestamp(8, failedAt);
+                });
+    }
+
+    @Override
+    public List<PunchEventDTO> findPunchEvents(Collection<String> employeeIds, LocalDateTime from,
+                                               LocalDateTime to) {
+        return jdbcTemplate.query(FIND_PUNCH_EVENTS,
+                (rs, rowNum) -> new PunchEventDTO(rs.getString("punch_by_employee"),
+                        rs.getTimestamp("punch_time").toLocalDateTime(), rs.getString("direction"),
+                        rs.getString("device_id"), rs.getTimestamp("received_at").toLocalDateTime()),
+                employeeIds.toArray(new String[0]), Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    @Override
+    public void lockAttendanceDays(Map<String, ? extends Collection<LocalDate>> daysByEmployee) {
+        List<String> employeeIds = new ArrayList<>();
+        List<String> days = new ArrayList<>();
+        daysByEmployee.forEach((employeeId, employeeDays) -> employeeDays.forEach(day -> {
+            employeeIds.add(employeeId);
+            days.add(day.toString());
+        }));
+        if (employeeIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.query(AttendanceRepositoryImpl.LOCK_ATTENDANCE_DAYS, (RowCallbackHandler) rs -> { },
+                employeeIds.toArray(new String[0]), days.toArray(new String[0]));
+    }
+
+    @Override
+    public List<AttendanceDTO> findAttendance(Collection<String> employeeIds, LocalDate startDate,
+                                              LocalDate endDate) {
+        return jdbcTemplate.query(FIND_ATTENDANCE,
+                (rs, rowNum) -> new AttendanceDTO(rs.getString("attendance_id"),
+                        rs.getDate("attendance_for_date").toLocalDate(), rs.getBigDecimal("overtime_hours"),
+                        rs.getBigDecimal("total_hours"), rs.getString("status"),
+                        rs.getString("attendance_by_employee")),
+                employeeIds.toArray(new String[0]), Date.valueOf(startDate), Date.valueOf(endDate));
+    }
+
+    @Override
+    public void insertAttendance(List<AttendanceDTO> attendances, int batchSize) {
+        if (attendances.isEmpty()) {
+            return;
+        }
+        List<String> attendanceIds = RandomIdAllocator.allocate(jdbcTemplate, "attendance", "attendance_id", "ATD",
+                attendances.size());
+        for (int i = 0; i < attendances.size(); i++) {
+            attendances.get(i).setAttendanceId(attendanceIds.get(i));
+        }
+        jdbcTemplate.batchUpdate(INSERT_ATTENDANCE, attendances, batchSize,
+                (ps, attendance) -> {
+                    ps.setString(1, attendance.getAttendanceId());
+                    ps.setDate(2, Date.valueOf(attendance.getAttendanceForDate()));
+                    ps.setBigDecimal(3, attendance.getOvertimeHours());
+                    ps.setBigDecimal(4, attendance.getTotalHours());
+                    ps.setString(5, attendance.getStatus());
+                    ps.setString(6, attendance.getAttendanceByEmployee());
+                });
+    }
+
+    @Override
+    public void updateAttendanceHours(List<AttendanceDTO> attendances, int batchSize) {
+        if (attendances.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_ATTENDANCE_HOURS, attendances, batchSize,
+                (ps, attendance) -> {
+                    ps.setBigDecimal(1, attendance.getTotalHours());
+                    ps.setBigDecimal(2, attendance.getOvertimeHours());
+                    ps.setString(3, attendance.getAttendanceId());
+                    ps.setDate(4, Date.valueOf(attendance.getAttendanceForDate()));
+                });
+    }
+}
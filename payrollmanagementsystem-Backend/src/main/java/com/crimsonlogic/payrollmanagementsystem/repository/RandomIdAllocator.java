@@ -0,0 +1,52 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import com.crimsonlogic.payrollmanagementsystem.util.IdGenerator;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Allocates random prefixed IDs for rows written with JDBC batches.
+ * The random IDs are checked against the table in one query, since a clash
+ * would fail the whole batch.
+ *
+ * @author abdulmanan
+ */
+final class RandomIdAllocator {
+
+    // Private constructor to prevent instantiation of this utility class
+    private RandomIdAllocator() {
+    }
+
+    /**
+     * Generates IDs that are unique among themselves and unused in the table.
+     *
+     * @param jdbcTemplate the JDBC template used to look up existing IDs
+     * @param table the table the rows are written to
+     * @param idColumn the ID column of the table
+     * @param prefix the prefix of the IDs
+     * @param count the number of IDs to generate
+     * @return a list of unused IDs
+     */
+    static List<String> allocate(JdbcTemplate jdbcTemplate, String table, String idColumn, String prefix, int count) {
+        Set<String> ids = new HashSet<>();
+        while (ids.size() < count) {
+            Set<String> candidates = new HashSet<>();
+            while (candidates.size() < count - ids.size()) {
+                String candidate = prefix + IdGenerator.generateRandomID();
+                if (!ids.contains(candidate)) {
+                    candidates.add(candidate);
+                }
+            }
+            List<String> taken = jdbcTemplate.queryForList(
+                    "SELECT " + idColumn + " FROM " + table + " WHERE " + idColumn + " = ANY (?)",
+                    String.class, (Object) candidates.toArray(new String[0]));
+            taken.forEach(candidates::remove);
+            ids.addAll(candidates);
+        }
+        return new ArrayList<>(ids);
+    }
+}
@@ -0,0 +1,58 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Custom repository interface for regularizing attendance.
+ * Regularization records an absence on every working day an active employee
+ * has neither attendance nor approved leave, and keeps a watermark per employee
+ * of the last day it has covered.
+ *
+ * @author abdulmanan
+ */
+public interface RegularizationRepositoryCustom {
+
+    /**
+     * Locks regularization until the end of the transaction, so concurrent runs
+     * cannot record the same absence twice.
+     */
+    void lockRegularization();
+
+    /**
+     * Finds the first day not yet regularized for any active employee.
+     *
+     * @param initialDate the first day regularized for employees without a watermark
+     * @return the first day to be regularized, null if there are no active employees
+     */
+    LocalDate findRegularizationStart(LocalDate initialDate);
+
+    /**
+     * Finds the working days after the watermark of each active employee, and not
+     * before their joining date, that have neither attendance nor approved leave.
+     *
+     * @param workingDays the working days to be checked
+     * @param initialDate the first day regularized for employees without a watermark
+     * @return an absent AttendanceDTO per missing day, ordered by date and employee
+     */
+    List<AttendanceDTO> findMissingAttendance(List<LocalDate> workingDays, LocalDate initialDate);
+
+    /**
+     * Inserts attendance records in batches, setting their generated IDs.
+     *
+     * @param attendances the attendance records to be inserted
+     * @param batchSize the number of records sent per batch
+     */
+    void insertAttendance(List<AttendanceDTO> attendances, int batchSize);
+
+    /**
+     * Moves the watermark of every active employee forward to a day, creating
+     * the missing watermarks.
+     *
+     * @param regularizedThrough the last day regularized
+     * @return the number of watermarks moved or created
+     */
+    int advanceWatermarks(LocalDate regularizedThrough);
+}
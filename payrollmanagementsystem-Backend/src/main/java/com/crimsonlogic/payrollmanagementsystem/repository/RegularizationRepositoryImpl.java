@@ -0,0 +1,136 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.AttendanceStatus;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementation of the custom repository interface for regularizing attendance.
+ * The missing days of all employees are found in one query over the given working
+ * days and written with batched inserts.
+ *
+ * @author abdulmanan
+ */
+@Repository
+public class RegularizationRepositoryImpl implements RegularizationRepositoryCustom {
+
+    private static final String LOCK_REGULARIZATION =
+            "SELECT pg_advisory_xact_lock(hashtext('attendance_regularization'))";
+
+    // GREATEST ignores a missing joining date
+    private static final String FIND_REGULARIZATION_START =
+            "SELECT MIN(GREATEST(COALESCE(w.regularized_through + 1, CAST(? AS DATE)), e.joining_date)) " +
+            "FROM employees e LEFT JOIN regularization_watermark w ON w.watermark_of_employee = e.employee_id " +
+            "WHERE e.is_active IS NOT FALSE";
+
+    private static final String FIND_MISSING_ATTENDANCE =
+            "SELECT e.employee_id, d.day FROM employees e " +
+            "LEFT JOIN regularization_watermark w ON w.watermark_of_employee = e.employee_id " +
+            "CROSS JOIN unnest(CAST(? AS DATE[])) AS d(day) " +
+            "WHERE e.is_active IS NOT FALSE " +
+            "AND d.day > COALESCE(w.regularized_through, CAST(? AS DATE) - 1) " +
+            "AND (e.joining_date IS NULL OR d.day >= e.joining_date) " +
+            "AND NOT EXISTS (SELECT 1 FROM attendance a WHERE a.attendance_by_employee = e.employee_id " +
+            "AND a.attendance_for_date = d.day) " +
+            "AND NOT EXISTS (SELECT 1 FROM leave_request lr WHERE lr.request_by_employee = e.employee_id " +
+            "AND LOWER(lr.status) = 'approved' AND d.day BETWEEN lr.start_date AND lr.end_date) " +
+            "ORDER BY d.day, e.employee_id";
+
+    private static final String INSERT_ATTENDANCE =
+            "INSERT INTO attendance (attendance_id, attendance_for_date, overtime_hours, total_hours, status, " +
+            "attendance_by_employee) VALUES (?, ?, ?, ?, ?, ?)";
+
+    // Inactive employees move along too, so a reactivated employee is not backfilled with absences
+    private static final String ADVANCE_WATERMARKS =
+            "UPDATE regularization_watermark SET regularized_through = ?, updated_at = ? " +
+            "WHERE regularized_through < ?";
+
+    private static final String FIND_EMPLOYEES_WITHOUT_WATERMARK =
+            "SELECT e.employee_id FROM employees e WHERE NOT EXISTS " +
+            "(SELECT 1 FROM regularization_watermark w WHERE w.watermark_of_employee = e.employee_id)";
+
+    private static final String CREATE_WATERMARK =
+            "INSERT INTO regularization_watermark (regularization_watermark_id, watermark_of_employee, " +
+            "regularized_through, updated_at) VALUES (?, ?, ?, ?) ON CONFLICT (watermark_of_employee) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Constructor to initialize the JDBC template
+    RegularizationRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        super();
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void lockRegularization() {
+        jdbcTemplate.execute(LOCK_REGULARIZATION);
+    }
+
+    @Override
+    public LocalDate findRegularizationStart(LocalDate initialDate) {
+        Date startDate = jdbcTemplate.queryForObject(FIND_REGULARIZATION_START, Date.class, Date.valueOf(initialDate));
+        return startDate != null ? startDate.toLocalDate() : null;
+    }
+
+    @Override
+    public List<AttendanceDTO> findMissingAttendance(List<LocalDate> workingDays, LocalDate initialDate) {
+        if (workingDays.isEmpty()) {
+            return List.of();
+        }
+        String[] days = workingDays.stream().map(LocalDate::toString).toArray(String[]::new);
+        return jdbcTemplate.query(FIND_MISSING_ATTENDANCE,
+                (rs, rowNum) -> new AttendanceDTO(null, rs.getDate("day").toLocalDate(), BigDecimal.ZERO,
+                        BigDecimal.ZERO, AttendanceStatus.ABSENT.getLabel(), rs.getString("employee_id")),
+                days, Date.valueOf(initialDate));
+    }
+
+    @Override
+    public void insertAttendance(List<AttendanceDTO> attendances, int batchSize) {
+        if (attendances.isEmpty()) {
+            return;
+        }
+        List<String> attendanceIds = RandomIdAllocator.allocate(jdbcTemplate, "attendance", "attendance_id", "ATD",
+                attendances.size());
+        for (int i = 0; i < attendances.size(); i++) {
+            attendances.get(i).setAttendanceId(attendanceIds.get(i));
+        }
+        jdbcTemplate.batchUpdate(INSERT_ATTENDANCE, attendances, batchSize,
+                (ps, attendance) -> {
+                    ps.setString(1, attendance.getAttendanceId());
+                    ps.setDate(2, Date.valueOf(attendance.getAttendanceForDate()));
+                    ps.setBigDecimal(3, attendance.getOvertimeHours());
+                    ps.setBigDecimal(4, attendance.getTotalHours());
+                    ps.setString(5, attendance.getStatus());
+                    ps.setString(6, attendance.getAttendanceByEmployee());
+                });
+    }
+
+    @Override
+    public int advanceWatermarks(LocalDate regularizedThrough) {
+        Date through = Date.valueOf(regularizedThrough);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int advanced = jdbcTemplate.update(ADVANCE_WATERMARKS, through, now, through);
+
+        List<String> employeeIds = jdbcTemplate.queryForList(FIND_EMPLOYEES_WITHOUT_WATERMARK, String.class);
+        if (!employeeIds.isEmpty()) {
+            List<String> watermarkIds = RandomIdAllocator.allocate(jdbcTemplate, "regularization_watermark",
+                    "regularization_watermark_id", "RWM", employeeIds.size());
+            jdbcTemplate.batchUpdate(CREATE_WATERMARK, employeeIds, employeeIds.size(),
+                    (ps, employeeId) -> {
+                        ps.setString(1, watermarkIds.remove(watermarkIds.size() - 1));
+                        ps.setString(2, employeeId);
+                        ps.setDate(3, through);
+                        ps.setTimestamp(4, now);
+                    });
+        }
+        return advanced + employeeIds.size();
+    }
+}
@@ -2,10 +2,12 @@ package com.crimsonlogic.payrollmanagementsystem.repository;
 
 import com.crimsonlogic.payrollmanagementsystem.domain.Employees;
 import com.crimsonlogic.payrollmanagementsystem.domain.SalaryRecord;
+import com.crimsonlogic.payrollmanagementsystem.dto.PayslipDTO;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -28,26 +30,52 @@ public interface SalaryRecordRepository extends JpaRepository<SalaryRecord, Stri
     List<SalaryRecord> findBySalaryRecordOfEmployee(Employees employee);
 
     /**
-     * Find salary records within a specific date range (quarter).
+     * Find the salary record of an employee for a given pay period.
+     *
+     * @param employee the employee whose salary record is to be retrieved
+     * @param payPeriodStart the start date of the pay period
+     * @return the SalaryRecord if found, otherwise null
+     */
+    SalaryRecord findBySalaryRecordOfEmployeeAndPayPeriodStart(Employees employee, LocalDate payPeriodStart);
+
+    /**
+     * Find the salary records of an employee whose pay period starts within a date range.
+     * The predicate is a plain range on the pay period start, so any span of years is a
+     * single range scan of the (employee, pay period start) unique index.
+     *
+     * @param employee the employee whose salary records are to be retrieved
+     * @param startDate the first day of the range
+     * @param endDate the last day of the range
+     * @return the salary records of the employee ordered by pay period
+     */
+    List<SalaryRecord> findBySalaryRecordOfEmployeeAndPayPeriodStartBetweenOrderByPayPeriodStartAsc(
+            Employees employee, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Check whether any salary record was released for a pay period.
      *
-     * @param startDate the start date of the pay period
-     * @param endDate   the end date of the pay period
-     * @return a list of SalaryRecord within the specified date range
+     * @param payPeriodStart the start date of the pay period
+     * @return true if a salary record of the pay period exists
      */
-    @Query("SELECT sr FROM SalaryRecord sr WHERE sr.payPeriodStart BETWEEN :startDate AND :endDate")
-    List<SalaryRecord> findSalaryRecordsByQuarter(@Param("startDate") LocalDate startDate,
-                                                  @Param("endDate") LocalDate endDate);
+    boolean existsByPayPeriodStart(LocalDate payPeriodStart);
 
     /**
-     * Find salary records for a specific employee within a specific date range (quarter).
+     * Find a page of the payslips of a pay period along with the employee details.
+     * Pages are read by employee ID after the last one of the previous page, so every
+     * page costs the same however far into the pay period it is.
      *
-     * @param startDate the start date of the pay period
-     * @param endDate   the end date of the pay period
-     * @param employee   the employee whose salary records are to be retrieved
-     * @return a list of SalaryRecord for the specified employee within the date range
+     * @param payPeriodStart the start date of the pay period
+     * @param afterEmployeeId the last employee ID of the previous page, empty for the first page
+     * @param limit the maximum number of payslips of the page
+     * @return the payslips of the page ordered by employee ID
      */
-    @Query("SELECT sr FROM SalaryRecord sr WHERE sr.salaryRecordOfEmployee = :employee AND sr.payPeriodStart BETWEEN :startDate AND :endDate")
-    List<SalaryRecord> findSalaryRecordsByQuarterAndEmployee(@Param("startDate") LocalDate startDate,
-                                                             @Param("endDate") LocalDate endDate,
-                                                             @Param("employee") Employees employee);
+    @Query("SELECT new com.crimsonlogic.payrollmanagementsystem.dto.PayslipDTO(e.employeeId, e.fullName, " +
+            "e.joiningDate, d.designationName, s.payPeriodStart, s.grossSalary, s.bonusAmount, " +
+            "s.overtimeAmount, s.penaltyAmount, s.pfAmount, s.taxAmount, s.netSalary) " +
+            "FROM SalaryRecord s JOIN s.salaryRecordOfEmployee e LEFT JOIN e.designation d " +
+            "WHERE s.payPeriodStart = :payPeriodStart AND e.employeeId > :afterEmployeeId " +
+            "ORDER BY e.employeeId")
+    List<PayslipDTO> findPayslips(@Param("payPeriodStart") LocalDate payPeriodStart,
+                                  @Param("afterEmployeeId") String afterEmployeeId,
+                                  Limit limit);
 }
@@ -0,0 +1,35 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRecordDTO;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Custom repository interface for SalaryRecord-related operations.
+ * This interface defines bulk write methods for salary records
+ * that are not covered by the standard JpaRepository.
+ *
+ * @author abdulmanan
+ */
+public interface SalaryRecordRepositoryCustom {
+
+    /**
+     * Inserts or updates salary records in JDBC batches.
+     * A record replaces the existing record of the same employee and pay period,
+     * so releasing the same salary again does not create a duplicate.
+     *
+     * @param salaryRecords the salary records to write, at most one per employee and pay period
+     */
+    void upsertSalaryRecords(List<SalaryRecordDTO> salaryRecords);
+
+    /**
+     * Finds the salary records of the given employees and pay periods, with their amounts.
+     *
+     * @param employeeIds the IDs of the employees
+     * @param payPeriodStarts the start dates of the pay periods
+     * @return the salary records of any of the employees for any of the pay periods
+     */
+    List<SalaryRecordDTO> findSalaryRecords(Collection<String> employeeIds, Collection<LocalDate> payPeriodStarts);
+}
@@ -0,0 +1,91 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRecordDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Implementation of the custom repository interface for SalaryRecord.
+ * This class writes salary records with JDBC batching and upserts them
+ * on the unique employee and pay period key.
+ *
+ * @author abdulmanan
+ */
+@Repository
+public class SalaryRecordRepositoryImpl implements SalaryRecordRepositoryCustom {
+
+    private static final String UPSERT_SALARY_RECORD =
+            "INSERT INTO salary_record (salary_record_id, pay_period_start, pay_period_end, gross_salary, " +
+            "bonus_amount, overtime_amount, tax_amount, pf_amount, penalty_amount, net_salary, " +
+            "salary_record_of_employee) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (salary_record_of_employee, pay_period_start) DO UPDATE SET " +
+            "pay_period_end = EXCLUDED.pay_period_end, gross_salary = EXCLUDED.gross_salary, " +
+            "bonus_amount = EXCLUDED.bonus_amount, overtime_amount = EXCLUDED.overtime_amount, " +
+            "tax_amount = EXCLUDED.tax_amount, " +
+            "pf_amount = EXCLUDED.pf_amount, penalty_amount = EXCLUDED.penalty_amount, " +
+            "net_salary = EXCLUDED.net_salary";
+
+    private static final String FIND_SALARY_RECORDS =
+            "SELECT salary_record_of_employee, pay_period_start, pay_period_end, gross_salary, bonus_amount, " +
+            "overtime_amount, tax_amount, pf_amount, penalty_amount, net_salary FROM salary_record " +
+            "WHERE salary_record_of_employee = ANY (?) AND pay_period_start = ANY (CAST(? AS DATE[]))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Constructor to initialize the JDBC template
+    SalaryRecordRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        super();
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void upsertSalaryRecords(List<SalaryRecordDTO> salaryRecords) {
+        if (salaryRecords.isEmpty()) {
+            return;
+        }
+        List<String> recordIds = RandomIdAllocator.allocate(jdbcTemplate, "salary_record", "salary_record_id",
+                "RCD", salaryRecords.size());
+        jdbcTemplate.batchUpdate(UPSERT_SALARY_RECORD, salaryRecords, salaryRecords.size(),
+                (ps, salaryRecord) -> {
+                    ps.setString(1, recordIds.remove(recordIds.size() - 1));
+                    ps.setDate(2, Date.valueOf(salaryRecord.getPayPeriodStart()));
+                    ps.setDate(3, salaryRecord.getPayPeriodEnd() != null ? Date.valueOf(salaryRecord.getPayPeriodEnd()) : null);
+                    ps.setBigDecimal(4, salaryRecord.getGrossSalary());
+                    ps.setBigDecimal(5, salaryRecord.getBonusAmount());
+                    ps.setBigDecimal(6, salaryRecord.getOvertimeAmount());
+                    ps.setBigDecimal(7, salaryRecord.getTaxAmount());
+                    ps.setBigDecimal(8, salaryRecord.getPfAmount());
+                    ps.setBigDecimal(9, salaryRecord.getPenaltyAmount());
+                    ps.setBigDecimal(10, salaryRecord.getNetSalary());
+                    ps.setString(11, salaryRecord.getEmployeeId());
+                });
+    }
+
+    @Override
+    public List<SalaryRecordDTO> findSalaryRecords(Collection<String> employeeIds,
+                                                   Collection<LocalDate> payPeriodStarts) {
+        return jdbcTemplate.query(FIND_SALARY_RECORDS,
+                (rs, rowNum) -> {
+                    SalaryRecordDTO salaryRecord = new SalaryRecordDTO();
+                    salaryRecord.setEmployeeId(rs.getString("salary_record_of_employee"));
+                    salaryRecord.setPayPeriodStart(rs.getDate("pay_period_start").toLocalDate());
+                    Date payPeriodEnd = rs.getDate("pay_period_end");
+                    salaryRecord.setPayPeriodEnd(payPeriodEnd != null ? payPeriodEnd.toLocalDate() : null);
+                    salaryRecord.setGrossSalary(rs.getBigDecimal("gross_salary"));
+                    salaryRecord.setBonusAmount(rs.getBigDecimal("bonus_amount"));
+                    salaryRecord.setOvertimeAmount(rs.getBigDecimal("overtime_amount"));
+                    salaryRecord.setTaxAmount(rs.getBigDecimal("tax_amount"));
+                    salaryRecord.setPfAmount(rs.getBigDecimal("pf_amount"));
+                    salaryRecord.setPenaltyAmount(rs.getBigDecimal("penalty_amount"));
+                    salaryRecord.setNetSalary(rs.getBigDecimal("net_salary"));
+                    return salaryRecord;
+                },
+                employeeIds.toArray(new String[0]),
+                payPeriodStarts.stream().map(LocalDate::toString).toArray(String[]::new));
+    }
+}
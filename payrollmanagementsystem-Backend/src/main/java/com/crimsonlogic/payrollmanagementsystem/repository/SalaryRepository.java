@@ -2,12 +2,16 @@ package com.crimsonlogic.payrollmanagementsystem.repository;
 
 import com.crimsonlogic.payrollmanagementsystem.domain.Employees;
 import com.crimsonlogic.payrollmanagementsystem.domain.Salary;
+import com.crimsonlogic.payrollmanagementsystem.dto.PayrollInputDTO;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Repository interface for managing Salary entities.
@@ -26,4 +30,51 @@ public interface SalaryRepository extends JpaRepository<Salary, String> {
      */
     @Query("SELECT s.costToCompany FROM Salary s WHERE s.salaryOfEmployee = :employee")
     BigDecimal findCostToCompany(@Param("employee") Employees employee);
+
+    /**
+     * Find the payroll inputs (employee details and cost to company) of all active employees.
+     *
+     * @return a list of PayrollInputDTO, one per active employee with a salary record
+     */
+    @Query("SELECT new com.crimsonlogic.payrollmanagementsystem.dto.PayrollInputDTO(e.employeeId, e.fullName, " +
+            "d.designationName, e.joiningDate, e.dateOfBirth, s.costToCompany, d.overtimeMultiplier) " +
+            "FROM Salary s JOIN s.salaryOfEmployee e LEFT JOIN e.designation d WHERE e.isActive = true")
+    List<PayrollInputDTO> findPayrollInputsForActiveEmployees();
+
+    /**
+     * Find a page of the payroll inputs of the active employees with a cost to company.
+     * Pages are read by employee ID after the last one of the previous page.
+     *
+     * @param afterEmployeeId the last employee ID of the previous page, empty for the first page
+     * @param limit the maximum number of inputs of the page
+     * @return the payroll inputs of the page ordered by employee ID
+     */
+    @Query("SELECT new com.crimsonlogic.payrollmanagementsystem.dto.PayrollInputDTO(e.employeeId, e.fullName, " +
+            "d.designationName, e.joiningDate, e.dateOfBirth, s.costToCompany, d.overtimeMultiplier) " +
+            "FROM Salary s JOIN s.salaryOfEmployee e LEFT JOIN e.designation d " +
+            "WHERE e.isActive = true AND s.costToCompany IS NOT NULL AND e.employeeId > :afterEmployeeId " +
+            "ORDER BY e.employeeId")
+    List<PayrollInputDTO> findPayrollInputsForActiveEmployees(@Param("afterEmployeeId") String afterEmployeeId,
+                                                              Limit limit);
+
+    /**
+     * Find the payroll inputs of the given employees with a cost to company.
+     *
+     * @param employeeIds the IDs of the employees
+     * @return the payroll inputs of the employees found, ordered by employee ID
+     */
+    @Query("SELECT new com.crimsonlogic.payrollmanagementsystem.dto.PayrollInputDTO(e.employeeId, e.fullName, " +
+            "d.designationName, e.joiningDate, e.dateOfBirth, s.costToCompany, d.overtimeMultiplier) " +
+            "FROM Salary s JOIN s.salaryOfEmployee e LEFT JOIN e.designation d " +
+            "WHERE e.employeeId IN :employeeIds AND s.costToCompany IS NOT NULL ORDER BY e.employeeId")
+    List<PayrollInputDTO> findPayrollInputsOfEmployees(@Param("employeeIds") Collection<String> employeeIds);
+
+    /**
+     * Count the active employees with a cost to company.
+     *
+     * @return the number of employees a payroll run computes
+     */
+    @Query("SELECT COUNT(s) FROM Salary s JOIN s.salaryOfEmployee e " +
+            "WHERE e.isActive = true AND s.costToCompany IS NOT NULL")
+    long countPayrollInputsForActiveEmployees();
 }
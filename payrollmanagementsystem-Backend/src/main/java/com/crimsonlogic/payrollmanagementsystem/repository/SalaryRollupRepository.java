@@ -0,0 +1,69 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.SalaryRollup;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryTotalsDTO;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for managing SalaryRollup entities.
+ * Reports read a few pre-summed rows per month instead of the salary records.
+ *
+ * @author abdulmanan
+ */
+@Repository
+public interface SalaryRollupRepository extends JpaRepository<SalaryRollup, String> {
+
+    /**
+     * Sum the rollups of a grain and key within a range of pay months.
+     *
+     * @param rollupGrain the grain of the rollups
+     * @param grainKey the key of the rollups within the grain
+     * @param startMonth the first pay month
+     * @param endMonth the last pay month
+     * @return the totals of the rollups, zero if there are none
+     */
+    @Query("SELECT new com.crimsonlogic.payrollmanagementsystem.dto.SalaryTotalsDTO(SUM(r.grossSalary), " +
+            "SUM(r.netSalary), SUM(r.bonusAmount), SUM(r.overtimeAmount), SUM(r.penaltyAmount), SUM(r.pfAmount), " +
+            "SUM(r.taxAmount)) " +
+            "FROM SalaryRollup r WHERE r.rollupGrain = :rollupGrain AND r.grainKey = :grainKey " +
+            "AND r.payMonth BETWEEN :startMonth AND :endMonth")
+    SalaryTotalsDTO sumRollupsByPeriod(@Param("rollupGrain") String rollupGrain,
+                                       @Param("grainKey") String grainKey,
+                                       @Param("startMonth") LocalDate startMonth,
+                                       @Param("endMonth") LocalDate endMonth);
+
+    /**
+     * Sum the rollups of a grain and key within a range of pay months, per quarter.
+     *
+     * @param rollupGrain the grain of the rollups
+     * @param grainKey the key of the rollups within the grain
+     * @param startMonth the first pay month
+     * @param endMonth the last pay month
+     * @return the totals of every quarter having rollups, ordered by quarter
+     */
+    @Query("SELECT new com.crimsonlogic.payrollmanagementsystem.dto.SalaryTotalsDTO(" +
+            "EXTRACT(QUARTER FROM r.payMonth), SUM(r.grossSalary), SUM(r.netSalary), " +
+            "SUM(r.bonusAmount), SUM(r.overtimeAmount), SUM(r.penaltyAmount), SUM(r.pfAmount), SUM(r.taxAmount)) " +
+            "FROM SalaryRollup r WHERE r.rollupGrain = :rollupGrain AND r.grainKey = :grainKey " +
+            "AND r.payMonth BETWEEN :startMonth AND :endMonth " +
+            "GROUP BY EXTRACT(QUARTER FROM r.payMonth) ORDER BY EXTRACT(QUARTER FROM r.payMonth)")
+    List<SalaryTotalsDTO> sumRollupsByQuarter(@Param("rollupGrain") String rollupGrain,
+                                              @Param("grainKey") String grainKey,
+                                              @Param("startMonth") LocalDate startMonth,
+                                              @Param("endMonth") LocalDate endMonth);
+
+    /**
+     * Find the rollups of a grain for a pay month.
+     *
+     * @param rollupGrain the grain of the rollups
+     * @param payMonth the first day of the pay month
+     * @return the rollups of the pay month ordered by key
+     */
+    List<SalaryRollup> findByRollupGrainAndPayMonthOrderByGrainKeyAsc(String rollupGrain, LocalDate payMonth);
+}
@@ -0,0 +1,44 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRollupDTO;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Custom repository interface for SalaryRollup-related operations.
+ * This interface defines the incremental and bulk maintenance of the
+ * payroll rollup that is not covered by the standard JpaRepository.
+ *
+ * @author abdulmanan
+ */
+public interface SalaryRollupRepositoryCustom {
+
+    /**
+     * Locks the given employees until the end of the transaction and returns their designations.
+     * Releases of the same employee are serialized, so each sees the records released before it.
+     *
+     * @param employeeIds the IDs of the employees
+     * @return the designation ID of every existing employee, empty if the employee has none
+     */
+    Map<String, String> lockEmployeeDesignations(Collection<String> employeeIds);
+
+    /**
+     * Adds deltas to the rollups, creating the rollups that do not exist yet.
+     *
+     * @param deltas the deltas to add, at most one per grain, key and pay month
+     */
+    void addToSalaryRollups(List<SalaryRollupDTO> deltas);
+
+    /**
+     * Recomputes the rollups of all grains for the pay months within a date range
+     * from the salary records.
+     *
+     * @param startDate the start date of the range, widened to the start of its month
+     * @param endDate the end date of the range, widened to the end of its month
+     * @return the number of rollups written
+     */
+    int rebuildSalaryRollups(LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,143 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRollupDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of the custom repository interface for SalaryRollup.
+ * Deltas are applied with an atomic upsert, and a rebuild sums the salary records
+ * of every grain in one pass with grouping sets.
+ *
+ * @author abdulmanan
+ */
+@Repository
+public class SalaryRollupRepositoryImpl implements SalaryRollupRepositoryCustom {
+
+    private static final String LOCK_EMPLOYEES =
+            "SELECT employee_id, designation FROM employees WHERE employee_id = ANY (?) " +
+            "ORDER BY employee_id FOR NO KEY UPDATE";
+
+    private static final String INSERT_COLUMNS =
+            "INSERT INTO salary_rollup (salary_rollup_id, rollup_grain, grain_key, pay_month, record_count, " +
+            "gross_salary, net_salary, bonus_amount, overtime_amount, penalty_amount, pf_amount, tax_amount) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (rollup_grain, grain_key, pay_month) DO UPDATE SET ";
+
+    private static final String ADD_TO_ROLLUP = INSERT_COLUMNS +
+            "record_count = salary_rollup.record_count + EXCLUDED.record_count, " +
+            "gross_salary = salary_rollup.gross_salary + EXCLUDED.gross_salary, " +
+            "net_salary = salary_rollup.net_salary + EXCLUDED.net_salary, " +
+            "bonus_amount = salary_rollup.bonus_amount + EXCLUDED.bonus_amount, " +
+            "overtime_amount = COALESCE(salary_rollup.overtime_amount, 0) + EXCLUDED.overtime_amount, " +
+            "penalty_amount = salary_rollup.penalty_amount + EXCLUDED.penalty_amount, " +
+            "pf_amount = salary_rollup.pf_amount + EXCLUDED.pf_amount, " +
+            "tax_amount = salary_rollup.tax_amount + EXCLUDED.tax_amount";
+
+    private static final String REPLACE_ROLLUP = INSERT_COLUMNS +
+            "record_count = EXCLUDED.record_count, gross_salary = EXCLUDED.gross_salary, " +
+            "net_salary = EXCLUDED.net_salary, bonus_amount = EXCLUDED.bonus_amount, " +
+            "overtime_amount = EXCLUDED.overtime_amount, " +
+            "penalty_amount = EXCLUDED.penalty_amount, pf_amount = EXCLUDED.pf_amount, " +
+            "tax_amount = EXCLUDED.tax_amount";
+
+    private static final String AGGREGATE_SALARY_RECORDS =
+            "SELECT CAST(DATE_TRUNC('month', sr.pay_period_start) AS DATE) AS pay_month, " +
+            "CASE WHEN GROUPING(sr.salary_record_of_employee) = 0 THEN 'EMPLOYEE' " +
+            "WHEN GROUPING(e.designation) = 0 THEN 'DESIGNATION' ELSE 'MONTH' END AS rollup_grain, " +
+            "CASE WHEN GROUPING(sr.salary_record_of_employee) = 0 THEN sr.salary_record_of_employee " +
+            "WHEN GROUPING(e.designation) = 0 THEN COALESCE(e.designation, '') ELSE '' END AS grain_key, " +
+            "COUNT(*) AS record_count, " +
+            "COALESCE(SUM(sr.gross_salary), 0) AS gross_salary, COALESCE(SUM(sr.net_salary), 0) AS net_salary, " +
+            "COALESCE(SUM(sr.bonus_amount), 0) AS bonus_amount, " +
+            "COALESCE(SUM(sr.overtime_amount), 0) AS overtime_amount, " +
+            "COALESCE(SUM(sr.penalty_amount), 0) AS penalty_amount, " +
+            "COALESCE(SUM(sr.pf_amount), 0) AS pf_amount, COALESCE(SUM(sr.tax_amount), 0) AS tax_amount " +
+            "FROM salary_record sr JOIN employees e ON e.employee_id = sr.salary_record_of_employee " +
+            "WHERE sr.pay_period_start BETWEEN ? AND ? " +
+            "GROUP BY GROUPING SETS ((DATE_TRUNC('month', sr.pay_period_start)), " +
+            "(DATE_TRUNC('month', sr.pay_period_start), e.designation), " +
+            "(DATE_TRUNC('month', sr.pay_period_start), sr.salary_record_of_employee))";
+
+    private static final String DELETE_ROLLUPS = "DELETE FROM salary_rollup WHERE pay_month BETWEEN ? AND ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Constructor to initialize the JDBC template
+    SalaryRollupRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        super();
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Map<String, String> lockEmployeeDesignations(Collection<String> employeeIds) {
+        Map<String, String> designations = new HashMap<>();
+        jdbcTemplate.query(LOCK_EMPLOYEES, rs -> {
+            String designation = rs.getString("designation");
+            designations.put(rs.getString("employee_id"), designation != null ? designation : "");
+        }, (Object) employeeIds.toArray(new String[0]));
+        return designations;
+    }
+
+    @Override
+    public void addToSalaryRollups(List<SalaryRollupDTO> deltas) {
+        writeRollups(ADD_TO_ROLLUP, deltas);
+    }
+
+    @Override
+    public int rebuildSalaryRollups(LocalDate startDate, LocalDate endDate) {
+        // Widen the range to whole months, a rollup always covers its full month
+        Date firstDay = Date.valueOf(startDate.withDayOfMonth(1));
+        Date lastDay = Date.valueOf(YearMonth.from(endDate).atEndOfMonth());
+
+        List<SalaryRollupDTO> rollups = jdbcTemplate.query(AGGREGATE_SALARY_RECORDS,
+                (rs, rowNum) -> {
+                    SalaryRollupDTO rollup = new SalaryRollupDTO(rs.getString("rollup_grain"),
+                            rs.getString("grain_key"), rs.getDate("pay_month").toLocalDate());
+                    rollup.setRecordCount(rs.getInt("record_count"));
+                    rollup.setGrossSalary(rs.getBigDecimal("gross_salary"));
+                    rollup.setNetSalary(rs.getBigDecimal("net_salary"));
+                    rollup.setBonusAmount(rs.getBigDecimal("bonus_amount"));
+                    rollup.setOvertimeAmount(rs.getBigDecimal("overtime_amount"));
+                    rollup.setPenaltyAmount(rs.getBigDecimal("penalty_amount"));
+                    rollup.setPfAmount(rs.getBigDecimal("pf_amount"));
+                    rollup.setTaxAmount(rs.getBigDecimal("tax_amount"));
+                    return rollup;
+                },
+                firstDay, lastDay);
+        jdbcTemplate.update(DELETE_ROLLUPS, firstDay, lastDay);
+        writeRollups(REPLACE_ROLLUP, rollups);
+        return rollups.size();
+    }
+
+    private void writeRollups(String sql, List<SalaryRollupDTO> rollups) {
+        if (rollups.isEmpty()) {
+            return;
+        }
+        List<String> rollupIds = RandomIdAllocator.allocate(jdbcTemplate, "salary_rollup", "salary_rollup_id",
+                "SRU", rollups.size());
+        jdbcTemplate.batchUpdate(sql, rollups, rollups.size(),
+                (ps, rollup) -> {
+                    ps.setString(1, rollupIds.remove(rollupIds.size() - 1));
+                    ps.setString(2, rollup.getRollupGrain());
+                    ps.setString(3, rollup.getGrainKey());
+                    ps.setDate(4, Date.valueOf(rollup.getPayMonth()));
+                    ps.setInt(5, rollup.getRecordCount());
+                    ps.setBigDecimal(6, rollup.getGrossSalary());
+                    ps.setBigDecimal(7, rollup.getNetSalary());
+                    ps.setBigDecimal(8, rollup.getBonusAmount());
+                    ps.setBigDecimal(9, rollup.getOvertimeAmount());
+                    ps.setBigDecimal(10, rollup.getPenaltyAmount());
+                    ps.setBigDecimal(11, rollup.getPfAmount());
+                    ps.setBigDecimal(12, rollup.getTaxAmount());
+                });
+    }
+}
@@ -0,0 +1,23 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.TaxSlab;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for managing TaxSlab entities.
+ * Provides CRUD operations and version lookups for tax slab records.
+ *
+ * @author abdulmanan
+ */
+@Repository
+public interface TaxSlabRepository extends JpaRepository<TaxSlab, String>, TaxSlabRepositoryCustom {
+
+    @Query("SELECT MAX(t.slabVersion) FROM TaxSlab t")
+    Integer findLatestSlabVersion();
+
+    List<TaxSlab> findBySlabVersionOrderByLowerLimitAsc(Integer slabVersion);
+}
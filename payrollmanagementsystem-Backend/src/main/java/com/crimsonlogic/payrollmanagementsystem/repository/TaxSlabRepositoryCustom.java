@@ -0,0 +1,15 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+/**
+ * Custom repository interface for publishing versions of the tax slabs.
+ *
+ * @author abdulmanan
+ */
+public interface TaxSlabRepositoryCustom {
+
+    /**
+     * Locks the publishing of tax slabs until the end of the transaction, so
+     * concurrent publishers cannot take the same version.
+     */
+    void lockTaxSlabPublishing();
+}
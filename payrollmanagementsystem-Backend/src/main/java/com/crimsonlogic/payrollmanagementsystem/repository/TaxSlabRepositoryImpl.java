@@ -0,0 +1,31 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Implementation of the custom repository interface for TaxSlab.
+ * A new version is the latest version plus one, so publishers take an
+ * advisory lock before they read the latest version.
+ *
+ * @author abdulmanan
+ */
+@Repository
+public class TaxSlabRepositoryImpl implements TaxSlabRepositoryCustom {
+
+    private static final String LOCK_TAX_SLAB_PUBLISHING =
+            "SELECT pg_advisory_xact_lock(hashtext('tax_slab_publishing'))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Constructor to initialize the JDBC template
+    TaxSlabRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        super();
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void lockTaxSlabPublishing() {
+        jdbcTemplate.execute(LOCK_TAX_SLAB_PUBLISHING);
+    }
+}
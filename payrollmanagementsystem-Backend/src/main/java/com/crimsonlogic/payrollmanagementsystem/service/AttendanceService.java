@@ -4,6 +4,7 @@ import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO;
 import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceResponseDTO;
 import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -15,33 +16,59 @@ import java.util.List;
 public interface AttendanceService {
 
     /**
-     * Retrieve the attendance records for a specific employee.
+     * Retrieve the attendance records of an employee for a year or a date range.
      *
      * @param employeeId the ID of the employee whose attendance is to be retrieved
-     * @return a list of AttendanceDTO containing attendance details for the employee
+     * @param startDate the first day of the range, used without a year
+     * @param endDate the last day of the range, used without a year
+     * @param year the calendar year, the current year if neither a year nor a range is given
+     * @return a list of AttendanceDTO ordered by date, empty if the employee is not found
+     * @throws ResourceNotFoundException if the year or the range is invalid
      */
-    List<AttendanceDTO> getAttendanceForEmployee(String employeeId);
+    List<AttendanceDTO> getAttendanceForEmployee(String employeeId, LocalDate startDate, LocalDate endDate,
+                                                 Integer year) throws ResourceNotFoundException;
 
     /**
-     * Mark attendance for an employee.
+     * Mark attendance for an employee. Marking a day again replaces its status,
+     * so a repeated request leaves a single record for the day.
      *
      * @param attendanceDTO the attendance details to be marked
-     * @throws ResourceNotFoundException if the employee is not found
+     * @throws ResourceNotFoundException if the employee is not found or the details are invalid
      */
     void markAttendance(AttendanceDTO attendanceDTO) throws ResourceNotFoundException;
 
+    /**
+     * Mark attendance for many employees and days in one statement. Records of unknown
+     * employees are skipped, and the last record given for an employee and day wins.
+     *
+     * @param attendanceDTOs the attendance details to be marked
+     * @return the number of records marked
+     * @throws ResourceNotFoundException if any of the details are invalid
+     */
+    int markAttendances(List<AttendanceDTO> attendanceDTOs) throws ResourceNotFoundException;
+
     /**
      * Get the attendance summary for a team in a specific month.
      *
+     * @param year the year of the month, the current year if null
      * @param month the month for which the attendance summary is to be retrieved
      * @param employeeId the ID of the employee whose team attendance is requested
      * @return an AttendanceResponseDTO containing the team's attendance summary
-     * @throws ResourceNotFoundException if the team or employee is not found
+     * @throws ResourceNotFoundException if the team or employee is not found, or the month is invalid
      */
-    AttendanceResponseDTO getTeamAttendance(Integer month, String employeeId) throws ResourceNotFoundException;
+    AttendanceResponseDTO getTeamAttendance(Integer year, Integer month, String employeeId)
+            throws ResourceNotFoundException;
 
     /**
-     * Regularize attendance for employees as necessary.
+     * Get the attendance summary of every member of a manager's team in a specific month.
+     *
+     * @param year the year of the month, the current year if null
+     * @param month the month for which the attendance summaries are to be retrieved
+     * @param managerId the ID of the manager whose team attendance is requested
+     * @param includeIndirect whether the reports of the manager's reports are included
+     * @return a list of AttendanceResponseDTO, one per team member, empty if the manager has no team
+     * @throws ResourceNotFoundException if the month is invalid
      */
-    void regularize();
+    List<AttendanceResponseDTO> getTeamAttendanceSummary(Integer year, Integer month, String managerId,
+                                                         boolean includeIndirect) throws ResourceNotFoundException;
 }
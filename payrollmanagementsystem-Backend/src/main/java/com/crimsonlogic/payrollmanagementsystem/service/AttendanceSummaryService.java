@@ -0,0 +1,67 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceSummaryDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service interface for maintaining the monthly attendance rollup of employees.
+ * Provides methods to apply new attendance, refresh and rebuild the rollup.
+ * The compact attendance bitmaps of the months are maintained alongside the rollup.
+ *
+ * @author abdulmanan
+ */
+public interface AttendanceSummaryService {
+
+    /**
+     * Add newly recorded attendance to the rollup and the bitmap of its employee and month.
+     *
+     * @param attendances the attendance records that were saved
+     */
+    void recordAttendance(List<AttendanceDTO> attendances);
+
+    /**
+     * Replace attendance records that were already added to the rollup and the bitmaps
+     * with their updated versions.
+     *
+     * @param previousAttendances the records as they were added before
+     * @param attendances the records as they were saved now
+     */
+    void replaceAttendance(List<AttendanceDTO> previousAttendances, List<AttendanceDTO> attendances);
+
+    /**
+     * Recompute the rollup and the bitmaps of an employee for the months overlapping a date range
+     * after attendance records were changed or removed.
+     *
+     * @param employeeId the ID of the employee, or null for all employees
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     */
+    void refreshAttendanceSummaries(String employeeId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Rebuild the rollup and the bitmaps of all employees for the months overlapping a date range,
+     * used to backfill history.
+     *
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @return the number of rollups written
+     * @throws ResourceNotFoundException if the date range is invalid
+     */
+    int rebuildAttendanceSummaries(LocalDate startDate, LocalDate endDate) throws ResourceNotFoundException;
+
+    /**
+     * Retrieve the rollup of an employee for a month.
+     *
+     * @param employeeId the ID of the employee
+     * @param year the year of the rollup
+     * @param month the month of the rollup
+     * @return an AttendanceSummaryDTO, with zero counts if no attendance was recorded
+     * @throws ResourceNotFoundException if the employee is not found
+     */
+    AttendanceSummaryDTO getAttendanceSummary(String employeeId, Integer year, Integer month)
+            throws ResourceNotFoundException;
+}
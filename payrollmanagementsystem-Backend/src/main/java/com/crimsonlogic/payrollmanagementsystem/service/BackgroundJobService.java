@@ -0,0 +1,43 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.BackgroundJobDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service interface for submitting and tracking background jobs.
+ * Provides methods to queue long-running operations and follow their progress.
+ *
+ * @author abdulmanan
+ */
+public interface BackgroundJobService {
+
+    /**
+     * Queues a job to be run by the background workers.
+     *
+     * @param jobType the type of the job
+     * @param parameters the parameters of the job, values may be null
+     * @return the queued job
+     * @throws ResourceNotFoundException if the job type is unknown or the parameters are invalid
+     */
+    BackgroundJobDTO submitJob(String jobType, Map<String, String> parameters) throws ResourceNotFoundException;
+
+    /**
+     * Retrieves the status and progress of a job.
+     *
+     * @param jobId the ID of the job
+     * @return the job
+     * @throws ResourceNotFoundException if the job is not found
+     */
+    BackgroundJobDTO getJob(String jobId) throws ResourceNotFoundException;
+
+    /**
+     * Retrieves the most recent jobs.
+     *
+     * @param status the status of the jobs, all statuses if null
+     * @return up to 100 jobs, newest first
+     */
+    List<BackgroundJobDTO> getJobs(String status);
+}
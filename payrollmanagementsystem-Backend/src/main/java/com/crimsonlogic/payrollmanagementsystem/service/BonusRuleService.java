@@ -0,0 +1,54 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.BonusRuleDTO;
+import com.crimsonlogic.payrollmanagementsystem.util.BonusRuleSet;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service interface for managing the versioned bonus rules.
+ * Provides methods to retrieve the active rules, resolve the data they depend
+ * on and publish a new version.
+ *
+ * @author abdulmanan
+ */
+public interface BonusRuleService {
+
+    /**
+     * Retrieve the compiled form of the active bonus rules.
+     *
+     * @return the BonusRuleSet of the latest rule version
+     */
+    BonusRuleSet getActiveBonusRuleSet();
+
+    /**
+     * Retrieve the types of the approved leaves starting in a pay period that earn a bonus,
+     * with a single query for all the given employees.
+     *
+     * @param bonusRuleSet the rules the leaves are resolved for
+     * @param payPeriod the pay period
+     * @param employeeIds the IDs of the employees, or null for all employees
+     * @return a map of employee ID to the IDs of the leave types, without employees having none
+     */
+    Map<String, Set<String>> getApprovedLeaveTypes(BonusRuleSet bonusRuleSet, YearMonth payPeriod,
+                                                   Collection<String> employeeIds);
+
+    /**
+     * Retrieve the active bonus rules.
+     *
+     * @return a list of BonusRuleDTO ordered by rule name
+     */
+    List<BonusRuleDTO> getActiveBonusRules();
+
+    /**
+     * Publish a new version of the bonus rules, replacing the active one.
+     *
+     * @param bonusRules the rules of the new version
+     * @return true if the rules were published successfully, false if they are invalid
+     */
+    boolean publishBonusRules(List<BonusRuleDTO> bonusRules);
+}
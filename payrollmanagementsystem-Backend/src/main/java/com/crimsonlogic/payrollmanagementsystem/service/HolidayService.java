@@ -0,0 +1,38 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.HolidayDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for managing the holidays of the working-day calendar.
+ * Provides methods to retrieve, add, and remove holidays.
+ *
+ * @author abdulmanan
+ */
+public interface HolidayService {
+
+    /**
+     * Retrieve the holidays of a year.
+     *
+     * @param year the year of the holidays
+     * @return a list of HolidayDTO ordered by date
+     */
+    List<HolidayDTO> getHolidays(int year);
+
+    /**
+     * Add a new holiday.
+     *
+     * @param newHoliday the holiday details to be added
+     * @return true if the holiday was added successfully, false if the date is missing or already a holiday
+     */
+    boolean addHoliday(HolidayDTO newHoliday);
+
+    /**
+     * Remove a holiday.
+     *
+     * @param holidayId the ID of the holiday
+     * @return true if the holiday was removed, false if it was not found
+     */
+    boolean removeHoliday(String holidayId);
+}
@@ -0,0 +1,54 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import com.crimsonlogic.payrollmanagementsystem.exception.JobInterruptedException;
+
+/**
+ * Progress of a background job as seen by its handler.
+ * A handler resumes after the checkpoint it finds here and records a new checkpoint
+ * after every chunk it completes.
+ *
+ * @author abdulmanan
+ */
+public interface JobContext {
+
+    /**
+     * Retrieves the ID of the job.
+     *
+     * @return the ID of the job
+     */
+    String getJobId();
+
+    /**
+     * Retrieves a parameter the job was submitted with.
+     *
+     * @param name the name of the parameter
+     * @return the value of the parameter, null if absent
+     */
+    String getParameter(String name);
+
+    /**
+     * Retrieves the position after the last completed chunk.
+     *
+     * @return the checkpoint, null if no chunk has been completed yet
+     */
+    String getCheckpoint();
+
+    /**
+     * Retrieves the number of completed chunks.
+     *
+     * @return the number of completed chunks
+     */
+    int getCompletedChunks();
+
+    /**
+     * Records that a chunk has been completed. The work of a chunk must be committed
+     * before, and must be safe to repeat, since a chunk interrupted before its
+     * checkpoint is run again.
+     *
+     * @param checkpoint the position after the completed chunk
+     * @param completedChunks the number of completed chunks
+     * @param totalChunks the total number of chunks, null if unknown
+     * @throws JobInterruptedException if the job has to stop before the next chunk
+     */
+    void checkpoint(String checkpoint, int completedChunks, Integer totalChunks) throws JobInterruptedException;
+}
@@ -0,0 +1,42 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import com.crimsonlogic.payrollmanagementsystem.exception.JobInterruptedException;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+
+import java.util.Map;
+
+/**
+ * Runs the background jobs of one type.
+ * Every handler bean is registered with the background workers under its job type.
+ *
+ * @author abdulmanan
+ */
+public interface JobHandler {
+
+    /**
+     * Retrieves the type of the jobs run by this handler.
+     *
+     * @return the job type
+     */
+    String getJobType();
+
+    /**
+     * Validates the parameters of a job being submitted and fills in their defaults,
+     * so that a job resumed later still runs with the values of its submission.
+     *
+     * @param parameters the parameters of the request, values may be null
+     * @return the parameters stored with the job
+     * @throws ResourceNotFoundException if the parameters are invalid
+     */
+    Map<String, String> resolveParameters(Map<String, String> parameters) throws ResourceNotFoundException;
+
+    /**
+     * Runs a job, resuming after its last checkpoint.
+     *
+     * @param context the progress of the job
+     * @return a short summary of the outcome
+     * @throws ResourceNotFoundException if the job cannot succeed, it is not retried
+     * @throws JobInterruptedException if the job has to stop before its next chunk
+     */
+    String run(JobContext context) throws ResourceNotFoundException, JobInterruptedException;
+}
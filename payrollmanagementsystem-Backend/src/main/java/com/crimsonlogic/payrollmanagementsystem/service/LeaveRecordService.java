@@ -1,14 +1,17 @@
 package com.crimsonlogic.payrollmanagementsystem.service;
 
 import com.crimsonlogic.payrollmanagementsystem.domain.Employees;
+import com.crimsonlogic.payrollmanagementsystem.dto.LeaveAccrualDTO;
 import com.crimsonlogic.payrollmanagementsystem.dto.LeaveRecordDTO;
 
 import jakarta.transaction.Transactional;
+import java.time.YearMonth;
 import java.util.List;
 
 /**
  * Service interface for managing employee leave records.
- * Provides methods to set leaves for employees and retrieve leave records.
+ * Provides methods to set leaves for employees, retrieve leave records,
+ * and accrue and roll over the leave balances of all employees.
  *
  * @author abdulmanan
  */
@@ -29,4 +32,24 @@ public interface LeaveRecordService {
      * @return a list of LeaveRecordDTO representing the leave records of the employee
      */
     List<LeaveRecordDTO> getLeaveRecordById(String employeeId);
+
+    /**
+     * Count the employees whose leave balances are accrued.
+     *
+     * @return the number of employees
+     */
+    long countLeaveEmployees();
+
+    /**
+     * Bring the leave balances of the next chunk of employees up to a month, in one transaction.
+     * Missing leave records are created, balances of an earlier year are rolled over into the year
+     * of the month, and the monthly accrual is credited through the month. Repeating a chunk
+     * changes nothing.
+     *
+     * @param month the month the balances are brought up to
+     * @param afterEmployeeId the ID of the last employee of the previous chunk, null for the first chunk
+     * @param chunkSize the number of employees in a chunk
+     * @return the last employee of the chunk and the number of balances changed
+     */
+    LeaveAccrualDTO accrueLeaves(YearMonth month, String afterEmployeeId, int chunkSize);
 }
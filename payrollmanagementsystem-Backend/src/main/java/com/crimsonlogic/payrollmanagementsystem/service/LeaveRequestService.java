@@ -1,5 +1,6 @@
 package com.crimsonlogic.payrollmanagementsystem.service;
 
+import com.crimsonlogic.payrollmanagementsystem.dto.LeaveDecisionResultDTO;
 import com.crimsonlogic.payrollmanagementsystem.dto.LeaveRequestDTO;
 import com.crimsonlogic.payrollmanagementsystem.exception.LeavesExhaustedException;
 import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
@@ -42,11 +43,20 @@ public interface LeaveRequestService {
     /**
      * Update an existing leave request.
      *
-     * @param leaveRequestDTO the leave request details to update
+     * @param leaveRequestDTO the leave request details to update, with a status of Approved, Rejected or Pending
      * @return true if the update was successful, false otherwise
      */
     boolean updateLeaveRequest(LeaveRequestDTO leaveRequestDTO);
 
+    /**
+     * Approve or reject many pending leave requests.
+     * The decisions are applied in chunks, each in one transaction.
+     *
+     * @param leaveRequestDTOs the leave request IDs with their decided status and description
+     * @return the result of each decision, in the order given
+     */
+    List<LeaveDecisionResultDTO> decideLeaveRequests(List<LeaveRequestDTO> leaveRequestDTOs);
+
     /**
      * Cancel a leave request.
      *
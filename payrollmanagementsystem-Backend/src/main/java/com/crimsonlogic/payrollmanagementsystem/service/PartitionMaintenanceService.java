@@ -0,0 +1,33 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.PartitionMaintenanceDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+
+import java.util.List;
+
+/**
+ * Service interface for maintaining the monthly partitions of the time-series tables.
+ * Partitions are created ahead of the months they hold, and partitions older than
+ * the retention of their table are detached and archived.
+ *
+ * @author abdulmanan
+ */
+public interface PartitionMaintenanceService {
+
+    /**
+     * Retrieve the tables that are partitioned by month.
+     *
+     * @return the names of the tables, in maintenance order
+     */
+    List<String> getPartitionedTables();
+
+    /**
+     * Maintain the partitions of a table. A table that is still a plain table is partitioned
+     * first when conversion is switched on, and left as it is otherwise.
+     *
+     * @param table the name of the table
+     * @return the partitions created and archived, and the time taken
+     * @throws ResourceNotFoundException if the table is not partitioned by the application
+     */
+    PartitionMaintenanceDTO maintainPartitions(String table) throws ResourceNotFoundException;
+}
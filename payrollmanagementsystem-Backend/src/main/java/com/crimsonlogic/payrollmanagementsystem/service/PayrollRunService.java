@@ -0,0 +1,91 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.PayrollRunDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRecordDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service interface for running payroll for the whole organisation.
+ * Provides methods to compute the salaries of all active employees for a pay period.
+ *
+ * @author abdulmanan
+ */
+public interface PayrollRunService {
+
+    /**
+     * Computes the salaries of all active employees for a pay period.
+     *
+     * @param year the year of the pay period, the current year if null
+     * @param month the month of the pay period, the current month if null
+     * @return the payroll run containing the calculated salary records and its throughput
+     * @throws ResourceNotFoundException if the pay period is invalid
+     */
+    PayrollRunDTO runPayroll(Integer year, Integer month) throws ResourceNotFoundException;
+
+    /**
+     * Retrieves the summary of a previously completed payroll run, without its salary records.
+     *
+     * @param runId the ID of the payroll run
+     * @return the payroll run
+     * @throws ResourceNotFoundException if the payroll run is not found
+     */
+    PayrollRunDTO getPayrollRun(String runId) throws ResourceNotFoundException;
+
+    /**
+     * Computes a page of the salary records of a previously completed payroll run.
+     * The records are computed again for the pay period of the run, so they reflect
+     * the current salaries and attendance.
+     *
+     * @param runId the ID of the payroll run
+     * @param afterEmployeeId the last employee ID of the previous page, null for the first page
+     * @param pageSize the maximum number of employees of the page
+     * @return the salary records of the page ordered by employee ID
+     * @throws ResourceNotFoundException if the payroll run is not found
+     */
+    List<SalaryRecordDTO> getPayrollRunRecords(String runId, String afterEmployeeId, int pageSize)
+            throws ResourceNotFoundException;
+
+    /**
+     * Computes the salaries of a page of the active employees for a pay period,
+     * so a long run can be split into chunks that are released one by one.
+     *
+     * @param yearMonth the pay period
+     * @param afterEmployeeId the last employee ID of the previous page, null for the first page
+     * @param pageSize the maximum number of employees of the page
+     * @return the calculated salary records of the page ordered by employee ID
+     */
+    List<SalaryRecordDTO> computeSalaries(YearMonth yearMonth, String afterEmployeeId, int pageSize);
+
+    /**
+     * Computes the salaries of the given employees for a pay period, so a release
+     * pays the amounts of the server rather than the amounts it was sent.
+     *
+     * @param yearMonth the pay period
+     * @param employeeIds the IDs of the employees
+     * @return the calculated salary records of the employees with a cost to company, ordered by employee ID
+     */
+    List<SalaryRecordDTO> computeSalariesOfEmployees(YearMonth yearMonth, Collection<String> employeeIds);
+
+    /**
+     * Counts the absences of employees in a month from the attendance bitmaps, and from the
+     * records of the employees without a bitmap. The salary preview counts absences here too,
+     * so a previewed salary matches the salary a payroll run releases.
+     *
+     * @param yearMonth the pay period
+     * @param employeeIds the IDs of the employees
+     * @return the number of absences per employee, employees without records may be missing
+     */
+    Map<String, Long> countAbsences(YearMonth yearMonth, Collection<String> employeeIds);
+
+    /**
+     * Counts the active employees whose salaries a payroll run computes.
+     *
+     * @return the number of employees
+     */
+    long countPayrollEmployees();
+}
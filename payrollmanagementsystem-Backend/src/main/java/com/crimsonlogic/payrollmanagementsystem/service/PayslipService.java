@@ -0,0 +1,38 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+/**
+ * Service interface for generating the payslips of a pay period on the server.
+ * Provides methods to validate a pay period and stream its payslips as a ZIP archive.
+ *
+ * @author abdulmanan
+ */
+public interface PayslipService {
+
+    /**
+     * Resolves a pay period whose salaries have been released.
+     *
+     * @param year the year of the pay period
+     * @param month the month of the pay period
+     * @return the start date of the pay period
+     * @throws ResourceNotFoundException if the month is invalid or no salary was released for it
+     */
+    LocalDate getReleasedPayPeriod(Integer year, Integer month) throws ResourceNotFoundException;
+
+    /**
+     * Renders the payslip of every salary record of a pay period and writes them as a
+     * ZIP archive. Payslips are rendered in parallel and written as they complete, so
+     * only a bounded number of documents is held in memory at a time.
+     *
+     * @param payPeriodStart the start date of the pay period
+     * @param outputStream the stream the archive is written to, left open
+     * @return the number of payslips written
+     * @throws IOException if a payslip cannot be rendered or the archive cannot be written
+     */
+    int writePayslipArchive(LocalDate payPeriodStart, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,31 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.PunchEventDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for storing punch events and computing attendance hours from them.
+ *
+ * @author abdulmanan
+ */
+public interface PunchAttendanceService {
+
+    /**
+     * Store a batch of punch events and recompute the total and overtime hours of the
+     * employee-days they touch. A day worked without an attendance record gets one.
+     *
+     * @param punchEvents the events to be stored
+     * @return the number of events stored, resent events and events of unknown employees are skipped
+     */
+    int recordPunchEvents(List<PunchEventDTO> punchEvents);
+
+    /**
+     * Store punch events that could not be written in the dead-letter table, with the
+     * error that failed them, so they are kept for correction instead of being lost.
+     *
+     * @param punchEvents the events that failed
+     * @param errorMessage the error the events failed with
+     */
+    void recordFailedPunchEvents(List<PunchEventDTO> punchEvents, String errorMessage);
+}
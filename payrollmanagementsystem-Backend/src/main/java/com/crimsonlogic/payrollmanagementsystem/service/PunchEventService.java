@@ -0,0 +1,33 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.PunchEventDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.PunchIngestionDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.QueueFullException;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+
+import java.util.List;
+
+/**
+ * Service interface for ingesting clock-in and clock-out events from badge readers.
+ * Events are accepted into a bounded queue and written behind in batches.
+ *
+ * @author abdulmanan
+ */
+public interface PunchEventService {
+
+    /**
+     * Accept a batch of punch events for writing. The batch is queued as a whole or not at all.
+     *
+     * @param punchEvents the events read by the badge readers
+     * @return a PunchIngestionDTO with the number of events accepted and the state of the queue
+     * @throws ResourceNotFoundException if an event has no employee, no time or an unknown direction
+     * @throws QueueFullException if the queue has no room for the batch
+     */
+    PunchIngestionDTO submitPunchEvents(List<PunchEventDTO> punchEvents)
+            throws ResourceNotFoundException, QueueFullException;
+
+    /**
+     * Write the queued events in batches until the queue is empty.
+     */
+    void flushPunchEvents();
+}
@@ -0,0 +1,32 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import java.time.LocalDate;
+
+/**
+ * Service interface for regularizing attendance.
+ * Regularization records an absence on every working day an active employee has
+ * neither attendance nor approved leave, only after the day each employee was
+ * last regularized through.
+ *
+ * @author abdulmanan
+ */
+public interface RegularizationService {
+
+    /**
+     * Find the first day that still has to be regularized.
+     *
+     * @param endDate the last day to be regularized
+     * @return the first day not yet regularized, null if everything is regularized through the end date
+     */
+    LocalDate findRegularizationStart(LocalDate endDate);
+
+    /**
+     * Regularize the attendance of all employees within a date range, then move
+     * their watermarks to the end of the range.
+     *
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @return the number of absences recorded
+     */
+    int regularize(LocalDate startDate, LocalDate endDate);
+}
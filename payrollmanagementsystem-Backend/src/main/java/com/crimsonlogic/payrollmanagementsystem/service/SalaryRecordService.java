@@ -1,9 +1,12 @@
 package com.crimsonlogic.payrollmanagementsystem.service;
 
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryPreviewCacheStatsDTO;
 import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRecordDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryReleaseDTO;
 import com.crimsonlogic.payrollmanagementsystem.dto.TaxResponseDTO;
 import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -23,6 +26,13 @@ public interface SalaryRecordService {
      */
     SalaryRecordDTO calculateSalaryForEmployee(String employeeId) throws ResourceNotFoundException;
 
+    /**
+     * Retrieves the hit, miss, invalidation and eviction counters of the salary preview cache.
+     *
+     * @return the statistics of the salary preview cache
+     */
+    SalaryPreviewCacheStatsDTO getPreviewCacheStats();
+
     /**
      * Retrieves all salary records for a specific employee.
      *
@@ -39,6 +49,27 @@ public interface SalaryRecordService {
      */
     void releaseSalaryForEmployee(SalaryRecordDTO salaryRecordDTO) throws ResourceNotFoundException;
 
+    /**
+     * Releases salaries for many employees at once.
+     * Only the employee and pay period of each record are used, the amounts are
+     * computed on the server. Records are written in chunked transactions and
+     * replace an already released record of the same employee and pay period.
+     *
+     * @param salaryRecordDTOs the employees and pay periods to be released
+     * @return the outcome of the release including the timing of every chunk
+     */
+    SalaryReleaseDTO releaseSalaries(List<SalaryRecordDTO> salaryRecordDTOs);
+
+    /**
+     * Releases the salaries of the employees of a payroll run. The salaries are
+     * computed again at release, so changes made since the run are paid as well.
+     *
+     * @param runId the ID of the payroll run
+     * @return the outcome of the release including the timing of every chunk
+     * @throws ResourceNotFoundException if the payroll run is not found
+     */
+    SalaryReleaseDTO releasePayrollRun(String runId) throws ResourceNotFoundException;
+
     /**
      * Retrieves all salary records in the system.
      *
@@ -50,18 +81,66 @@ public interface SalaryRecordService {
      * Retrieves the salary record for a specific quarter.
      *
      * @param quarter the quarter for which the salary record is requested
+     * @param year the year of the quarter, the current year if null
      * @return the salary record for the specified quarter
-     * @throws ResourceNotFoundException if the salary record for the quarter is not found
+     * @throws ResourceNotFoundException if the quarter or the year is invalid
+     */
+    SalaryRecordDTO getSalaryByQuarter(String quarter, Integer year) throws ResourceNotFoundException;
+
+    /**
+     * Retrieves the salary totals of a date range or a fiscal year, which may span several years.
+     *
+     * @param startDate the first day of the period, used without a fiscal year
+     * @param endDate the last day of the period, used without a fiscal year
+     * @param fiscalYear the April to March fiscal year starting in this year, may be null
+     * @return the salary totals of the pay periods starting within the period
+     * @throws ResourceNotFoundException if the request names no valid period
+     */
+    SalaryRecordDTO getSalaryByPeriod(LocalDate startDate, LocalDate endDate, Integer fiscalYear)
+            throws ResourceNotFoundException;
+
+    /**
+     * Retrieves the salary records of an employee within a date range or a fiscal year.
+     *
+     * @param employeeId the ID of the employee whose salary records are to be retrieved
+     * @param startDate the first day of the period, used without a fiscal year
+     * @param endDate the last day of the period, used without a fiscal year
+     * @param fiscalYear the April to March fiscal year starting in this year, may be null
+     * @return the salary records of the pay periods starting within the period
+     * @throws ResourceNotFoundException if the employee is not found or the request names no valid period
      */
-    SalaryRecordDTO getSalaryByQuarter(String quarter) throws ResourceNotFoundException;
+    List<SalaryRecordDTO> getSalaryRecordsByPeriod(String employeeId, LocalDate startDate, LocalDate endDate,
+                                                   Integer fiscalYear) throws ResourceNotFoundException;
+
+    /**
+     * Retrieves the salary totals of all four quarters of a year.
+     *
+     * @param year the year of the summary, the current year if null
+     * @return the salary totals of every quarter, ordered by quarter
+     */
+    List<SalaryRecordDTO> getAnnualSalarySummary(Integer year);
 
     /**
      * Retrieves tax information for an employee for a specific quarter.
      *
      * @param quarter the quarter for which tax information is requested
+     * @param year the year of the quarter, the current year if null
      * @param employeeId the ID of the employee for whom the tax information is requested
      * @return the tax response data for the specified employee and quarter
-     * @throws ResourceNotFoundException if the employee or tax information is not found
+     * @throws ResourceNotFoundException if the employee is not found or the quarter is invalid
+     */
+    TaxResponseDTO getTaxByQuarter(String quarter, Integer year, String employeeId) throws ResourceNotFoundException;
+
+    /**
+     * Retrieves tax information for an employee for a date range or a fiscal year.
+     *
+     * @param employeeId the ID of the employee for whom the tax information is requested
+     * @param startDate the first day of the period, used without a fiscal year
+     * @param endDate the last day of the period, used without a fiscal year
+     * @param fiscalYear the April to March fiscal year starting in this year, may be null
+     * @return the tax response data for the specified employee and period
+     * @throws ResourceNotFoundException if the employee is not found or the request names no valid period
      */
-    TaxResponseDTO getTaxByQuarter(String quarter, String employeeId) throws ResourceNotFoundException;
+    TaxResponseDTO getTaxByPeriod(String employeeId, LocalDate startDate, LocalDate endDate, Integer fiscalYear)
+            throws ResourceNotFoundException;
 }
@@ -0,0 +1,47 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRecordDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRollupDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service interface for maintaining the pre-summed payroll rollup.
+ * Provides methods to apply salary releases, rebuild and read the rollup.
+ *
+ * @author abdulmanan
+ */
+public interface SalaryRollupService {
+
+    /**
+     * Apply salary releases to the rollup of their month, designation and employee.
+     * Must be called in the transaction of the release, before the salary records are
+     * written, since a release replacing a record subtracts the record it replaces.
+     *
+     * @param releasedRecords the salary records about to be released
+     */
+    void recordSalaryReleases(List<SalaryRecordDTO> releasedRecords);
+
+    /**
+     * Rebuild the rollup of every grain from the salary records for the pay months
+     * overlapping a date range.
+     *
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @return the number of rollups written
+     * @throws ResourceNotFoundException if the date range is invalid
+     */
+    int rebuildSalaryRollups(LocalDate startDate, LocalDate endDate) throws ResourceNotFoundException;
+
+    /**
+     * Retrieve the rollups of every designation for a pay month.
+     *
+     * @param year the year of the pay month
+     * @param month the month of the pay month
+     * @return the rollups of the designations, keyed by designation ID
+     * @throws ResourceNotFoundException if the month is invalid
+     */
+    List<SalaryRollupDTO> getDesignationRollups(Integer year, Integer month) throws ResourceNotFoundException;
+}
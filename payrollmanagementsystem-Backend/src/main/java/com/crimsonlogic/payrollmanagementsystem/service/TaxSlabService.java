@@ -0,0 +1,37 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.TaxSlabDTO;
+import com.crimsonlogic.payrollmanagementsystem.util.TaxSlabTable;
+
+import java.util.List;
+
+/**
+ * Service interface for managing the versioned income tax slabs.
+ * Provides methods to retrieve the active slabs and publish a new version.
+ *
+ * @author abdulmanan
+ */
+public interface TaxSlabService {
+
+    /**
+     * Retrieve the lookup table of the active tax slabs.
+     *
+     * @return the TaxSlabTable of the latest slab version
+     */
+    TaxSlabTable getActiveTaxSlabTable();
+
+    /**
+     * Retrieve the active tax slabs.
+     *
+     * @return a list of TaxSlabDTO ordered by ascending lower limit
+     */
+    List<TaxSlabDTO> getActiveTaxSlabs();
+
+    /**
+     * Publish a new version of the tax slabs, replacing the active one.
+     *
+     * @param taxSlabs the slabs of the new version
+     * @return true if the slabs were published successfully, false if they are invalid
+     */
+    boolean publishTaxSlabs(List<TaxSlabDTO> taxSlabs);
+}
@@ -0,0 +1,55 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import com.crimsonlogic.payrollmanagementsystem.util.WorkingCalendar;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service interface for the working-day calendar.
+ * The calendar of a year is built once from the weekly days off and the holidays
+ * and kept in memory, so checking and counting days does not query the database.
+ *
+ * @author abdulmanan
+ */
+public interface WorkingCalendarService {
+
+    /**
+     * Retrieve the calendar of a year.
+     *
+     * @param year the year of the calendar
+     * @return the WorkingCalendar of the year
+     */
+    WorkingCalendar getCalendar(int year);
+
+    /**
+     * Whether a day is a working day.
+     *
+     * @param date the day to check
+     * @return true if the day is neither a weekly day off nor a holiday
+     */
+    boolean isWorkingDay(LocalDate date);
+
+    /**
+     * Counts the working days within a date range, which may span several years.
+     *
+     * @param startDate the start date of the range, inclusive
+     * @param endDate the end date of the range, inclusive
+     * @return the number of working days, zero if the range is empty
+     */
+    long countWorkingDays(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Lists the working days within a date range.
+     *
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @return the working days of the range in order, empty if the range is empty
+     */
+    List<LocalDate> getWorkingDays(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Drop the cached calendars, so they are rebuilt after the holidays changed.
+     */
+    void evictCalendars();
+}
@@ -1,22 +1,32 @@
 package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
 
 import com.crimsonlogic.payrollmanagementsystem.domain.Attendance;
+import com.crimsonlogic.payrollmanagementsystem.domain.AttendanceStatus;
+import com.crimsonlogic.payrollmanagementsystem.domain.AttendanceSummary;
 import com.crimsonlogic.payrollmanagementsystem.domain.Employees;
 import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO;
 import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceResponseDTO;
-import com.crimsonlogic.payrollmanagementsystem.mapper.Mapper;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceUpsertDTO;
 import com.crimsonlogic.payrollmanagementsystem.repository.AttendanceRepository;
 import com.crimsonlogic.payrollmanagementsystem.repository.AttendanceRepositoryCustom;
+import com.crimsonlogic.payrollmanagementsystem.repository.AttendanceSummaryRepository;
 import com.crimsonlogic.payrollmanagementsystem.repository.EmployeesRepository;
 import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
 import com.crimsonlogic.payrollmanagementsystem.service.AttendanceService;
+import com.crimsonlogic.payrollmanagementsystem.service.AttendanceSummaryService;
+import com.crimsonlogic.payrollmanagementsystem.util.IdGenerator;
+import com.crimsonlogic.payrollmanagementsystem.util.ReportPeriod;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Year;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -40,63 +50,102 @@ public class AttendanceServiceImpl implements AttendanceService {
     // Repository for accessing employee data
     private final EmployeesRepository employeesRepository;
 
+    // Repository for reading the monthly attendance rollup
+    private final AttendanceSummaryRepository attendanceSummaryRepository;
+
+    // Service keeping the monthly attendance rollup up to date
+    private final AttendanceSummaryService attendanceSummaryService;
+
     // Constructor to initialize the repositories
     AttendanceServiceImpl(AttendanceRepository attendanceRepository,
                           EmployeesRepository employeesRepository,
-                          AttendanceRepositoryCustom attendanceRepositoryCustom) {
+                          AttendanceRepositoryCustom attendanceRepositoryCustom,
+                          AttendanceSummaryRepository attendanceSummaryRepository,
+                          AttendanceSummaryService attendanceSummaryService) {
         super();
         this.attendanceRepository = attendanceRepository;
         this.employeesRepository = employeesRepository;
         this.attendanceRepositoryCustom = attendanceRepositoryCustom;
+        this.attendanceSummaryRepository = attendanceSummaryRepository;
+        this.attendanceSummaryService = attendanceSummaryService;
     }
 
     @Override
-    public List<AttendanceDTO> getAttendanceForEmployee(String employeeId) {
+    public List<AttendanceDTO> getAttendanceForEmployee(String employeeId, LocalDate startDate, LocalDate endDate,
+                                                        Integer year) throws ResourceNotFoundException {
         log.info("inside getAttendanceForEmployee method");
-        // Retrieve attendance records for a specific employee
-        return employeesRepository.findById(employeeId)
-                .map(employee -> attendanceRepository.findByAttendanceByEmployee(employee).stream()
-                        .map(attendance -> {
-                            // Map the Attendance entity to AttendanceDTO
-                            AttendanceDTO attendanceDTO = Mapper.INSTANCE.entityToDtoForAttendance(attendance);
-                            // Set the employee ID in the DTO
-                            attendanceDTO.setAttendanceByEmployee(attendance.getAttendanceByEmployee().getEmployeeId());
-                            return attendanceDTO;
-                        })
-                        .toList())
-                .orElseGet(ArrayList::new); // Return an empty list if the employee is not found
+        ReportPeriod period = toPeriod(startDate, endDate, year);
+        // Read the stored records rather than the bitmaps, so the hours and IDs are exact
+        return attendanceRepository.findAttendanceOfEmployee(employeeId, period.getStartDate(),
+                period.getEndDate()); // Empty if the employee is not found
     }
 
     @Override
     @Transactional
     public void markAttendance(AttendanceDTO attendanceDTO) throws ResourceNotFoundException {
         log.info("inside markAttendance method");
-        // Find the employee based on the provided ID in the DTO
-        Employees employee = employeesRepository.findById(attendanceDTO.getAttendanceByEmployee())
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
-
-        // Create a new Attendance entity and set its fields
-        Attendance attendance = new Attendance();
-        attendance.setAttendanceForDate(attendanceDTO.getAttendanceForDate());
-        attendance.setTotalHours(BigDecimal.valueOf(8)); // Default total hours
-        attendance.setOvertimeHours(BigDecimal.ZERO); // Default overtime hours
-        attendance.setStatus(attendanceDTO.getStatus());
-        attendance.setAttendanceByEmployee(employee); // Associate attendance with the employee
-
-        // Save the attendance record
-        attendanceRepository.save(attendance);
+        AttendanceDTO attendance = toAttendance(attendanceDTO);
+        attendance.setAttendanceId("ATD" + IdGenerator.generateRandomID());
+
+        // Upsert the record in one statement, no row is returned if the employee is not found
+        AttendanceUpsertDTO upsert = attendanceRepositoryCustom.upsertAttendance(List.of(attendance));
+        if (upsert.getAttendances().isEmpty()) {
+            throw new ResourceNotFoundException("Employee not found");
+        }
+        // Replace the record the day had in the monthly rollup, if any
+        attendanceSummaryService.replaceAttendance(upsert.getPreviousAttendances(), upsert.getAttendances());
+    }
+
+    @Override
+    @Transactional
+    public int markAttendances(List<AttendanceDTO> attendanceDTOs) throws ResourceNotFoundException {
+        log.info("inside markAttendances method");
+        // Keep the last record of an employee and day, an upsert may not touch a row twice
+        Map<String, AttendanceDTO> attendances = new LinkedHashMap<>();
+        for (AttendanceDTO attendanceDTO : attendanceDTOs) {
+            AttendanceDTO attendance = toAttendance(attendanceDTO);
+            attendances.put(attendance.getAttendanceByEmployee() + "|" + attendance.getAttendanceForDate(),
+                    attendance);
+        }
+        if (attendances.isEmpty()) {
+            return 0;
+        }
+
+        AttendanceUpsertDTO upsert = attendanceRepositoryCustom.upsertAttendance(
+                new ArrayList<>(attendances.values()));
+        attendanceSummaryService.replaceAttendance(upsert.getPreviousAttendances(), upsert.getAttendances());
+        return upsert.getAttendances().size();
     }
 
     @Override
-    public AttendanceResponseDTO getTeamAttendance(Integer month, String employeeId)
+    public AttendanceResponseDTO getTeamAttendance(Integer year, Integer month, String employeeId)
             throws ResourceNotFoundException {
         log.info("inside getTeamAttendance method");
         // Find the employee to retrieve attendance for their team
         Employees employee = employeesRepository.findById(employeeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Unexpected error, try again later."));
+        if (month == null) {
+            throw new ResourceNotFoundException("Month is required.");
+        }
+        int summaryYear = year != null ? year : Year.now().getValue();
+        ReportPeriod period = ReportPeriod.ofMonth(summaryYear, month);
+
+        // Read the monthly rollup of the employee for the month of that year only
+        AttendanceSummary summary = attendanceSummaryRepository
+                .findBySummaryOfEmployeeAndSummaryYearAndSummaryMonth(employee, summaryYear, month);
+        if (summary != null) {
+            AttendanceResponseDTO attendanceResponse = new AttendanceResponseDTO();
+            attendanceResponse.setFullName(employee.getFullName());
+            attendanceResponse.setPresentCount(summary.getPresentCount());
+            attendanceResponse.setLeaveCount(summary.getLeaveCount());
+            attendanceResponse.setHalfDayCount(summary.getHalfDayCount());
+            attendanceResponse.setAbsentCount(summary.getAbsentCount());
+            return attendanceResponse;
+        }
 
-        // Retrieve attendance records for the specified month
-        List<Attendance> attendanceList = attendanceRepository.findByMonthAndEmployee(month, employee);
+        // Retrieve attendance records for the specified month, for months that predate the rollup
+        List<Attendance> attendanceList = attendanceRepository.findByEmployeeAndDateRange(employee,
+                period.getStartDate(), period.getEndDate());
         AttendanceResponseDTO attendanceResponse = new AttendanceResponseDTO();
 
         // If there are attendance records, set the employee's full name
@@ -129,9 +178,40 @@ public class AttendanceServiceImpl implements AttendanceService {
     }
 
     @Override
-    public void regularize() {
-        log.info("inside regularize method");
-        // Regularize attendance by inserting absent records as needed
-        attendanceRepositoryCustom.insertAbsentAttendance();
+    public List<AttendanceResponseDTO> getTeamAttendanceSummary(Integer year, Integer month, String managerId,
+                                                                boolean includeIndirect)
+            throws ResourceNotFoundException {
+        log.info("inside getTeamAttendanceSummary method");
+        if (month == null) {
+            throw new ResourceNotFoundException("Month is required.");
+        }
+        ReportPeriod period = ReportPeriod.ofMonth(year != null ? year : Year.now().getValue(), month);
+
+        // Count the statuses of the whole team in one grouped query
+        return attendanceRepositoryCustom.countTeamAttendance(managerId, period.getStartDate(),
+                period.getEndDate(), includeIndirect);
+    }
+
+    // Validate the details and build the record to be marked, with the default hours of a new record
+    private static AttendanceDTO toAttendance(AttendanceDTO attendanceDTO) throws ResourceNotFoundException {
+        AttendanceStatus status = AttendanceStatus.fromLabel(attendanceDTO.getStatus());
+        if (attendanceDTO.getAttendanceByEmployee() == null || attendanceDTO.getAttendanceForDate() == null
+                || status == null) {
+            throw new ResourceNotFoundException("Invalid attendance details.");
+        }
+        return new AttendanceDTO(null, attendanceDTO.getAttendanceForDate(), BigDecimal.ZERO,
+                BigDecimal.valueOf(8), status.getLabel(), attendanceDTO.getAttendanceByEmployee());
+    }
+
+    // Resolve the requested period, either a date range or a calendar year defaulting to the current one
+    private ReportPeriod toPeriod(LocalDate startDate, LocalDate endDate, Integer year)
+            throws ResourceNotFoundException {
+        if (startDate == null && endDate == null) {
+            return ReportPeriod.ofYear(year != null ? year : Year.now().getValue());
+        }
+        if (year != null) {
+            throw new ResourceNotFoundException("Give either a year or a date range.");
+        }
+        return ReportPeriod.of(startDate, endDate);
     }
 }
@@ -0,0 +1,35 @@
+package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.service.AttendanceSummaryService;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Job handler rebuilding the monthly attendance rollup of a date range month by month.
+ *
+ * @author abdulmanan
+ */
+@Component
+public class AttendanceSummaryRebuildJobHandler extends MonthlyRebuildJobHandler {
+
+    private final AttendanceSummaryService attendanceSummaryService;
+
+    // Constructor to initialize the attendance summary service
+    AttendanceSummaryRebuildJobHandler(AttendanceSummaryService attendanceSummaryService) {
+        super();
+        this.attendanceSummaryService = attendanceSummaryService;
+    }
+
+    @Override
+    public String getJobType() {
+        return BackgroundJob.ATTENDANCE_SUMMARY_REBUILD;
+    }
+
+    @Override
+    protected int rebuildMonth(LocalDate startDate, LocalDate endDate) throws ResourceNotFoundException {
+        return attendanceSummaryService.rebuildAttendanceSummaries(startDate, endDate);
+    }
+}
@@ -0,0 +1,178 @@
+package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.AttendanceSummary;
+import com.crimsonlogic.payrollmanagementsystem.domain.Employees;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceSummaryDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.repository.AttendanceBitmapRepositoryCustom;
+import com.crimsonlogic.payrollmanagementsystem.repository.AttendanceSummaryRepository;
+import com.crimsonlogic.payrollmanagementsystem.repository.AttendanceSummaryRepositoryCustom;
+import com.crimsonlogic.payrollmanagementsystem.repository.EmployeesRepository;
+import com.crimsonlogic.payrollmanagementsystem.service.AttendanceSummaryService;
+import com.crimsonlogic.payrollmanagementsystem.util.SalaryPreviewCache;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of the AttendanceSummaryService interface.
+ * This class keeps the monthly attendance rollup and the compact attendance
+ * bitmaps in step with the attendance records, so payroll and dashboards read
+ * one row per employee and month.
+ *
+ * @author abdulmanan
+ */
+@Slf4j
+@Service
+public class AttendanceSummaryServiceImpl implements AttendanceSummaryService {
+
+    private final AttendanceSummaryRepository attendanceSummaryRepository;
+    private final AttendanceSummaryRepositoryCustom attendanceSummaryRepositoryCustom;
+    private final AttendanceBitmapRepositoryCustom attendanceBitmapRepositoryCustom;
+    private final EmployeesRepository employeesRepository;
+    private final SalaryPreviewCache salaryPreviewCache;
+
+    // Constructor to initialize repositories
+    AttendanceSummaryServiceImpl(AttendanceSummaryRepository attendanceSummaryRepository,
+                                 AttendanceSummaryRepositoryCustom attendanceSummaryRepositoryCustom,
+                                 AttendanceBitmapRepositoryCustom attendanceBitmapRepositoryCustom,
+                                 EmployeesRepository employeesRepository,
+                                 SalaryPreviewCache salaryPreviewCache) {
+        super();
+        this.attendanceSummaryRepository = attendanceSummaryRepository;
+        this.attendanceSummaryRepositoryCustom = attendanceSummaryRepositoryCustom;
+        this.attendanceBitmapRepositoryCustom = attendanceBitmapRepositoryCustom;
+        this.employeesRepository = employeesRepository;
+        this.salaryPreviewCache = salaryPreviewCache;
+    }
+
+    @Override
+    @Transactional
+    public void recordAttendance(List<AttendanceDTO> attendances) {
+        log.info("inside recordAttendance method");
+        applyAttendance(List.of(), attendances);
+    }
+
+    @Override
+    @Transactional
+    public void replaceAttendance(List<AttendanceDTO> previousAttendances, List<AttendanceDTO> attendances) {
+        log.info("inside replaceAttendance method");
+        applyAttendance(previousAttendances, attendances);
+    }
+
+    // Add the difference between the previous and the new records to the rollups and bitmaps
+    private void applyAttendance(List<AttendanceDTO> previousAttendances, List<AttendanceDTO> attendances) {
+        // Merge the records per employee and month, an upsert batch may not touch a row twice
+        Map<String, AttendanceSummaryDTO> deltas = new LinkedHashMap<>();
+        for (AttendanceDTO attendance : previousAttendances) {
+            addAttendance(deltas, attendance, -1);
+        }
+        for (AttendanceDTO attendance : attendances) {
+            addAttendance(deltas, attendance, 1);
+        }
+        attendanceSummaryRepositoryCustom.addToAttendanceSummaries(new ArrayList<>(deltas.values()));
+        attendanceBitmapRepositoryCustom.applyAttendance(attendances);
+
+        // The absences and leave bonuses of the changed months are inputs of the salary preview
+        for (AttendanceSummaryDTO delta : deltas.values()) {
+            YearMonth yearMonth = YearMonth.of(delta.getSummaryYear(), delta.getSummaryMonth());
+            salaryPreviewCache.invalidate(delta.getEmployeeId(), yearMonth, yearMonth);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void refreshAttendanceSummaries(String employeeId, LocalDate startDate, LocalDate endDate) {
+        log.info("inside refreshAttendanceSummaries method");
+        attendanceSummaryRepositoryCustom.rebuildAttendanceSummaries(startDate, endDate, employeeId);
+        attendanceBitmapRepositoryCustom.rebuildAttendanceBitmaps(startDate, endDate, employeeId);
+        if (employeeId == null) {
+            salaryPreviewCache.invalidateAll();
+        } else {
+            salaryPreviewCache.invalidate(employeeId, YearMonth.from(startDate), YearMonth.from(endDate));
+        }
+    }
+
+    @Override
+    @Transactional
+    public int rebuildAttendanceSummaries(LocalDate startDate, LocalDate endDate) throws ResourceNotFoundException {
+        log.info("inside rebuildAttendanceSummaries method");
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            throw new ResourceNotFoundException("Invalid date range.");
+        }
+        long startTime = System.nanoTime();
+        int rebuilt = attendanceSummaryRepositoryCustom.rebuildAttendanceSummaries(startDate, endDate, null);
+        int rebuiltBitmaps = attendanceBitmapRepositoryCustom.rebuildAttendanceBitmaps(startDate, endDate, null);
+        salaryPreviewCache.invalidateAll();
+        log.info("rebuilt {} attendance summaries and {} attendance bitmaps from {} to {} in {} ms", rebuilt,
+                rebuiltBitmaps, startDate, endDate, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        return rebuilt;
+    }
+
+    @Override
+    public AttendanceSummaryDTO getAttendanceSummary(String employeeId, Integer year, Integer month)
+            throws ResourceNotFoundException {
+        log.info("inside getAttendanceSummary method");
+        Employees employee = employeesRepository.findById(employeeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
+        AttendanceSummary summary = attendanceSummaryRepository
+                .findBySummaryOfEmployeeAndSummaryYearAndSummaryMonth(employee, year, month);
+        if (summary == null) {
+            return new AttendanceSummaryDTO(employeeId, year, month, 0, 0, 0, 0, BigDecimal.ZERO);
+        }
+        return new AttendanceSummaryDTO(employeeId, year, month, summary.getPresentCount(),
+                summary.getAbsentCount(), summary.getLeaveCount(), summary.getHalfDayCount(),
+                summary.getTotalHours());
+    }
+
+    // Add a record to the delta of its employee and month, a sign of -1 takes it away
+    private void addAttendance(Map<String, AttendanceSummaryDTO> deltas, AttendanceDTO attendance, int sign) {
+        LocalDate date = attendance.getAttendanceForDate();
+        AttendanceSummaryDTO delta = deltas.computeIfAbsent(
+                attendance.getAttendanceByEmployee() + "|" + date.getYear() + "|" + date.getMonthValue(),
+                key -> {
+                    AttendanceSummaryDTO summary = new AttendanceSummaryDTO();
+                    summary.setEmployeeId(attendance.getAttendanceByEmployee());
+                    summary.setSummaryYear(date.getYear());
+                    summary.setSummaryMonth(date.getMonthValue());
+                    return summary;
+                });
+        addStatus(delta, attendance.getStatus(), sign);
+        if (attendance.getTotalHours() != null) {
+            delta.setTotalHours(delta.getTotalHours().add(attendance.getTotalHours().multiply(BigDecimal.valueOf(sign))));
+        }
+    }
+
+    // Count one record of the given status
+    private void addStatus(AttendanceSummaryDTO delta, String status, int sign) {
+        if (status == null) {
+            return;
+        }
+        switch (status.toLowerCase()) {
+            case "present":
+                delta.setPresentCount(delta.getPresentCount() + sign);
+                break;
+            case "absent":
+                delta.setAbsentCount(delta.getAbsentCount() + sign);
+                break;
+            case "leave":
+                delta.setLeaveCount(delta.getLeaveCount() + sign);
+                break;
+            case "half day":
+                delta.setHalfDayCount(delta.getHalfDayCount() + sign);
+                break;
+            default:
+                break;
+        }
+    }
+}
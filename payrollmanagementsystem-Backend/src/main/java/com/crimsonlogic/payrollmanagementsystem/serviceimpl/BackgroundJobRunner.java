@@ -0,0 +1,280 @@
+package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.exception.JobInterruptedException;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.repository.BackgroundJobRepository;
+import com.crimsonlogic.payrollmanagementsystem.repository.BackgroundJobRepositoryCustom;
+import com.crimsonlogic.payrollmanagementsystem.service.JobContext;
+import com.crimsonlogic.payrollmanagementsystem.service.JobHandler;
+import com.crimsonlogic.payrollmanagementsystem.util.IdGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Background worker running the queued jobs on a bounded pool.
+ * The job table is polled for due jobs while a worker thread is free. Running jobs send
+ * a heartbeat on every poll, a job whose heartbeat stops is taken over by another
+ * instance, and a failed job is retried with exponential backoff from its last checkpoint.
+ * A takeover counts as a failed attempt, so a job that keeps stopping its worker fails
+ * once it runs out of attempts.
+ *
+ * @author abdulmanan
+ */
+@Slf4j
+@Component
+public class BackgroundJobRunner {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    // Longest error message stored with a job
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    // Upper bound of the retry backoff exponent
+    private static final int MAX_BACKOFF_DOUBLINGS = 10;
+
+    private final BackgroundJobRepository backgroundJobRepository;
+    private final BackgroundJobRepositoryCustom backgroundJobRepositoryCustom;
+    private final Map<String, JobHandler> jobHandlers;
+    private final ExecutorService workerPool;
+    private final int workers;
+    private final long retryBackoffMillis;
+    private final long staleAfterMillis;
+
+    // Identifies the jobs claimed by this instance
+    private final String workerId = "WRK" + IdGenerator.generateRandomID();
+
+    private final AtomicInteger runningJobs = new AtomicInteger();
+    private volatile boolean stopping;
+
+    // Constructor to initialize the repositories, the job handlers and the worker pool
+    public BackgroundJobRunner(BackgroundJobRepository backgroundJobRepository,
+                               BackgroundJobRepositoryCustom backgroundJobRepositoryCustom,
+                               List<JobHandler> jobHandlers,
+                               @Value("${payroll.jobs.workers:2}") int workers,
+                               @Value("${payroll.jobs.retry-backoff:30000}") long retryBackoffMillis,
+                               @Value("${payroll.jobs.stale-after:300000}") long staleAfterMillis) {
+        super();
+        this.backgroundJobRepository = backgroundJobRepository;
+        this.backgroundJobRepositoryCustom = backgroundJobRepositoryCustom;
+        this.jobHandlers = jobHandlers.stream()
+                .collect(Collectors.toMap(JobHandler::getJobType, Function.identity()));
+        this.workers = Math.max(workers, 1);
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.staleAfterMillis = staleAfterMillis;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workerPool = Executors.newFixedThreadPool(this.workers, runnable -> {
+            Thread thread = new Thread(runnable, "job-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sends the heartbeat of the running jobs and claims due jobs while a worker thread is free.
+     */
+    @Scheduled(fixedDelayString = "${payroll.jobs.poll-interval:1000}")
+    public void pollJobs() {
+        if (stopping) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (runningJobs.get() > 0) {
+            backgroundJobRepositoryCustom.heartbeat(workerId, now);
+        }
+        while (runningJobs.get() < workers) {
+            String jobId = backgroundJobRepositoryCustom.claimNextJob(workerId, now,
+                    now.minus(staleAfterMillis, ChronoUnit.MILLIS));
+            if (jobId == null) {
+                return;
+            }
+            runningJobs.incrementAndGet();
+            try {
+                workerPool.execute(() -> {
+                    try {
+                        runJob(jobId);
+                    } finally {
+                        runningJobs.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // Shutting down, the claimed job is released with the others
+                runningJobs.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Runs a job claimed by this worker on the calling thread and records its outcome.
+     *
+     * @param jobId the ID of the claimed job
+     */
+    public void runJob(String jobId) {
+        BackgroundJob backgroundJob = backgroundJobRepository.findById(jobId).orElse(null);
+        if (backgroundJob == null) {
+            return;
+        }
+        if (backgroundJob.getAttempts() >= backgroundJob.getMaxAttempts()) {
+            // Every attempt was lost with a worker that stopped sending heartbeats
+            backgroundJobRepositoryCustom.failJob(jobId, workerId, backgroundJob.getAttempts(),
+                    backgroundJob.getLastError(), LocalDateTime.now());
+            log.error("{} job {} failed after {} attempts: {}", backgroundJob.getJobType(), jobId,
+                    backgroundJob.getAttempts(), backgroundJob.getLastError());
+            return;
+        }
+        int attempts = backgroundJob.getAttempts() + 1;
+        JobHandler jobHandler = jobHandlers.get(backgroundJob.getJobType());
+        if (jobHandler == null) {
+            backgroundJobRepositoryCustom.failJob(jobId, workerId, attempts,
+                    "Unknown job type: " + backgroundJob.getJobType(), LocalDateTime.now());
+            return;
+        }
+
+        log.info("running {} job {} from checkpoint {}", backgroundJob.getJobType(), jobId,
+                backgroundJob.getCheckpoint());
+        long startTime = System.nanoTime();
+        try {
+            String result = jobHandler.run(new WorkerJobContext(backgroundJob));
+            backgroundJobRepositoryCustom.completeJob(jobId, workerId, result, LocalDateTime.now());
+            log.info("{} job {} succeeded in {} ms: {}", backgroundJob.getJobType(), jobId,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), result);
+        } catch (JobInterruptedException e) {
+            log.info("{} job {} stopped: {}", backgroundJob.getJobType(), jobId, e.getMessage());
+        } catch (ResourceNotFoundException e) {
+            // Retrying cannot fix a job whose inputs are invalid
+            backgroundJobRepositoryCustom.failJob(jobId, workerId, attempts, e.getMessage(), LocalDateTime.now());
+            log.warn("{} job {} failed: {}", backgroundJob.getJobType(), jobId, e.getMessage());
+        } catch (RuntimeException e) {
+            if (stopping) {
+                log.info("{} job {} stopped by shutdown: {}", backgroundJob.getJobType(), jobId, e.getMessage());
+                return;
+            }
+            String error = describe(e);
+            if (attempts >= backgroundJob.getMaxAttempts()) {
+                backgroundJobRepositoryCustom.failJob(jobId, workerId, attempts, error, LocalDateTime.now());
+                log.error("{} job {} failed after {} attempts", backgroundJob.getJobType(), jobId, attempts, e);
+            } else {
+                LocalDateTime nextRunAt = LocalDateTime.now().plus(retryBackoff(attempts), ChronoUnit.MILLIS);
+                backgroundJobRepositoryCustom.retryJob(jobId, workerId, attempts, nextRunAt, error);
+                log.warn("{} job {} failed on attempt {}, retrying at {}", backgroundJob.getJobType(), jobId,
+                        attempts, nextRunAt, e);
+            }
+        }
+    }
+
+    /**
+     * Stops the workers and queues their jobs again, to be resumed from their last checkpoint.
+     */
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+        workerPool.shutdownNow();
+        try {
+            if (!workerPool.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("job workers did not stop in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int released = backgroundJobRepositoryCustom.releaseJobs(workerId);
+        if (released > 0) {
+            log.info("released {} running jobs for resumption", released);
+        }
+    }
+
+    // Delay before the next attempt, doubled after every failed attempt
+    private long retryBackoff(int attempts) {
+        return retryBackoffMillis << Math.min(attempts - 1, MAX_BACKOFF_DOUBLINGS);
+    }
+
+    // Error message stored with the job
+    private static String describe(Exception e) {
+        String error = e.getClass().getSimpleName() + (e.getMessage() != null ? ": " + e.getMessage() : "");
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    // Read the parameters the job was submitted with
+    private static Map<String, String> readParameters(String parameters) {
+        if (parameters == null || parameters.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            return OBJECT_MAPPER.readValue(parameters, new TypeReference<Map<String, String>>() { });
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable job parameters: " + parameters, e);
+        }
+    }
+
+    /**
+     * Context of a job run by this worker, every checkpoint also serves as a heartbeat.
+     */
+    private final class WorkerJobContext implements JobContext {
+
+        private final String jobId;
+        private final Map<String, String> parameters;
+        private String checkpoint;
+        private int completedChunks;
+
+        private WorkerJobContext(BackgroundJob backgroundJob) {
+            this.jobId = backgroundJob.getJobId();
+            this.parameters = readParameters(backgroundJob.getParameters());
+            this.checkpoint = backgroundJob.getCheckpoint();
+            this.completedChunks = backgroundJob.getCompletedChunks();
+        }
+
+        @Override
+        public String getJobId() {
+            return jobId;
+        }
+
+        @Override
+        public String getParameter(String name) {
+            return parameters.get(name);
+        }
+
+        @Override
+        public String getCheckpoint() {
+            return checkpoint;
+        }
+
+        @Override
+        public int getCompletedChunks() {
+            return completedChunks;
+        }
+
+        @Override
+        public void checkpoint(String checkpoint, int completedChunks, Integer totalChunks)
+                throws JobInterruptedException {
+            // An interrupted thread may not get a connection, the chunk is redone on resumption
+            if (stopping || Thread.currentThread().isInterrupted()) {
+                throw new JobInterruptedException("Worker is shutting down.");
+            }
+            if (!backgroundJobRepositoryCustom.saveCheckpoint(jobId, workerId, checkpoint, completedChunks,
+                    totalChunks, LocalDateTime.now())) {
+                throw new JobInterruptedException("Job was taken over by another worker.");
+            }
+            this.checkpoint = checkpoint;
+            this.completedChunks = completedChunks;
+        }
+    }
+}
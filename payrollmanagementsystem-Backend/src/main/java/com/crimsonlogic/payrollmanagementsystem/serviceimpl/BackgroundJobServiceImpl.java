@@ -0,0 +1,122 @@
+package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.dto.BackgroundJobDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.mapper.Mapper;
+import com.crimsonlogic.payrollmanagementsystem.repository.BackgroundJobRepository;
+import com.crimsonlogic.payrollmanagementsystem.service.BackgroundJobService;
+import com.crimsonlogic.payrollmanagementsystem.service.JobHandler;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the BackgroundJobService interface.
+ * Jobs are only queued here, the background workers pick them up from the job table.
+ *
+ * @author abdulmanan
+ */
+@Slf4j
+@Service
+public class BackgroundJobServiceImpl implements BackgroundJobService {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final BackgroundJobRepository backgroundJobRepository;
+    private final Map<String, JobHandler> jobHandlers;
+
+    // Number of attempts before a failing job is given up
+    private final int maxAttempts;
+
+    // Constructor to initialize the repository and the job handlers
+    public BackgroundJobServiceImpl(BackgroundJobRepository backgroundJobRepository,
+                                    List<JobHandler> jobHandlers,
+                                    @Value("${payroll.jobs.max-attempts:3}") int maxAttempts) {
+        super();
+        this.backgroundJobRepository = backgroundJobRepository;
+        this.jobHandlers = jobHandlers.stream()
+                .collect(Collectors.toMap(JobHandler::getJobType, Function.identity()));
+        this.maxAttempts = Math.max(maxAttempts, 1);
+    }
+
+    @Override
+    public BackgroundJobDTO submitJob(String jobType, Map<String, String> parameters)
+            throws ResourceNotFoundException {
+        log.info("inside submitJob method");
+        JobHandler jobHandler = jobHandlers.get(jobType);
+        if (jobHandler == null) {
+            throw new ResourceNotFoundException("Unknown job type: " + jobType);
+        }
+        Map<String, String> resolvedParameters = jobHandler.resolveParameters(parameters);
+
+        LocalDateTime now = LocalDateTime.now();
+        BackgroundJob backgroundJob = new BackgroundJob();
+        backgroundJob.setJobType(jobType);
+        backgroundJob.setStatus(BackgroundJob.QUEUED);
+        backgroundJob.setParameters(toJson(resolvedParameters));
+        backgroundJob.setCompletedChunks(0);
+        backgroundJob.setAttempts(0);
+        backgroundJob.setMaxAttempts(maxAttempts);
+        backgroundJob.setCreatedAt(now);
+        backgroundJob.setNextRunAt(now);
+        BackgroundJob savedJob = backgroundJobRepository.save(backgroundJob);
+        log.info("queued {} job {}", jobType, savedJob.getJobId());
+        return toDto(savedJob);
+    }
+
+    @Override
+    public BackgroundJobDTO getJob(String jobId) throws ResourceNotFoundException {
+        log.info("inside getJob method");
+        return backgroundJobRepository.findById(jobId)
+                .map(this::toDto)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found."));
+    }
+
+    @Override
+    public List<BackgroundJobDTO> getJobs(String status) {
+        log.info("inside getJobs method");
+        List<BackgroundJob> backgroundJobs = status == null
+                ? backgroundJobRepository.findTop100ByOrderByCreatedAtDesc()
+                : backgroundJobRepository.findTop100ByStatusOrderByCreatedAtDesc(status.toUpperCase());
+        return backgroundJobs.stream().map(this::toDto).toList();
+    }
+
+    // Map the job to a DTO, deriving the progress from the completed chunks
+    private BackgroundJobDTO toDto(BackgroundJob backgroundJob) {
+        BackgroundJobDTO backgroundJobDTO = Mapper.INSTANCE.entityToDtoForBackgroundJob(backgroundJob);
+        if (BackgroundJob.SUCCEEDED.equals(backgroundJob.getStatus())) {
+            backgroundJobDTO.setProgressPercent(100);
+        } else if (backgroundJob.getTotalChunks() != null && backgroundJob.getTotalChunks() > 0) {
+            backgroundJobDTO.setProgressPercent(
+                    Math.min(99, backgroundJob.getCompletedChunks() * 100 / backgroundJob.getTotalChunks()));
+        } else {
+            backgroundJobDTO.setProgressPercent(0);
+        }
+        return backgroundJobDTO;
+    }
+
+    // Serialize the parameters in a stable order, null values are left out
+    private String toJson(Map<String, String> parameters) throws ResourceNotFoundException {
+        Map<String, String> sortedParameters = new TreeMap<>();
+        parameters.forEach((name, value) -> {
+            if (value != null) {
+                sortedParameters.put(name, value);
+            }
+        });
+        try {
+            return OBJECT_MAPPER.writeValueAsString(sortedParameters);
+        } catch (JsonProcessingException e) {
+            throw new ResourceNotFoundException("Invalid job parameters.");
+        }
+    }
+}
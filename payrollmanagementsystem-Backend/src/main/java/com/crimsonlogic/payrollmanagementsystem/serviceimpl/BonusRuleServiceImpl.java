@@ -0,0 +1,214 @@
+package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BonusRule;
+import com.crimsonlogic.payrollmanagementsystem.domain.LeaveType;
+import com.crimsonlogic.payrollmanagementsystem.dto.BonusRuleDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.EmployeeLeaveTypeDTO;
+import com.crimsonlogic.payrollmanagementsystem.mapper.Mapper;
+import com.crimsonlogic.payrollmanagementsystem.repository.BonusRuleRepository;
+import com.crimsonlogic.payrollmanagementsystem.repository.LeaveRequestRepository;
+import com.crimsonlogic.payrollmanagementsystem.repository.LeaveTypeRepository;
+import com.crimsonlogic.payrollmanagementsystem.service.BonusRuleService;
+import com.crimsonlogic.payrollmanagementsystem.util.BonusRuleSet;
+import com.crimsonlogic.payrollmanagementsystem.util.SalaryPreviewCache;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the BonusRuleService interface.
+ * This class loads the latest version of the bonus rules once and keeps its
+ * compiled form until a new version is published.
+ *
+ * @author abdulmanan
+ */
+@Slf4j
+@Service
+public class BonusRuleServiceImpl implements BonusRuleService {
+
+    private static final int INITIAL_VERSION = 1;
+
+    private static final String MARRIAGE_LEAVE = "Marriage Leave";
+
+    // Largest number of digits of a bonus amount in whole rupees
+    private static final int MAX_AMOUNT_PRECISION = 12;
+
+    private static final int MAX_RULE_NAME_LENGTH = 50;
+
+    private final BonusRuleRepository bonusRuleRepository;
+    private final LeaveTypeRepository leaveTypeRepository;
+    private final LeaveRequestRepository leaveRequestRepository;
+
+    // Cache of salary previews, every preview depends on the active rules
+    private final SalaryPreviewCache salaryPreviewCache;
+
+    // Compiled rules of the active version, loaded on first use
+    private volatile BonusRuleSet activeRuleSet;
+
+    // Constructor to initialize the repositories
+    BonusRuleServiceImpl(BonusRuleRepository bonusRuleRepository, LeaveTypeRepository leaveTypeRepository,
+                         LeaveRequestRepository leaveRequestRepository, SalaryPreviewCache salaryPreviewCache) {
+        super();
+        this.bonusRuleRepository = bonusRuleRepository;
+        this.leaveTypeRepository = leaveTypeRepository;
+        this.leaveRequestRepository = leaveRequestRepository;
+        this.salaryPreviewCache = salaryPreviewCache;
+    }
+
+    @Override
+    public BonusRuleSet getActiveBonusRuleSet() {
+        BonusRuleSet ruleSet = activeRuleSet;
+        if (ruleSet == null) {
+            synchronized (this) {
+                if (activeRuleSet == null) {
+                    activeRuleSet = loadActiveRuleSet();
+                }
+                ruleSet = activeRuleSet;
+            }
+        }
+        return ruleSet;
+    }
+
+    @Override
+    public Map<String, Set<String>> getApprovedLeaveTypes(BonusRuleSet bonusRuleSet, YearMonth payPeriod,
+                                                          Collection<String> employeeIds) {
+        log.info("inside getApprovedLeaveTypes method");
+        // Rules that do not depend on leaves need no query at all
+        Set<String> leaveTypeIds = bonusRuleSet.getLeaveTypeIds();
+        if (leaveTypeIds.isEmpty() || (employeeIds != null && employeeIds.isEmpty())) {
+            return Map.of();
+        }
+        LocalDate startDate = payPeriod.atDay(1);
+        LocalDate endDate = payPeriod.atEndOfMonth();
+        List<EmployeeLeaveTypeDTO> approvedLeaves = employeeIds == null
+                ? leaveRequestRepository.findApprovedLeaveTypes(leaveTypeIds, startDate, endDate)
+                : leaveRequestRepository.findApprovedLeaveTypes(leaveTypeIds, employeeIds, startDate, endDate);
+        return approvedLeaves.stream().collect(Collectors.groupingBy(EmployeeLeaveTypeDTO::getEmployeeId,
+                Collectors.mapping(EmployeeLeaveTypeDTO::getLeaveTypeId, Collectors.toSet())));
+    }
+
+    @Override
+    public List<BonusRuleDTO> getActiveBonusRules() {
+        log.info("inside getActiveBonusRules method");
+        Integer version = bonusRuleRepository.findLatestRuleVersion();
+        if (version == null) {
+            return BonusRuleSet.defaultRules(findMarriageLeaveTypeId());
+        }
+        return Mapper.INSTANCE.entityToDtoForBonusRules(bonusRuleRepository.findByRuleVersionOrderByRuleNameAsc(version));
+    }
+
+    @Override
+    @Transactional
+    public boolean publishBonusRules(List<BonusRuleDTO> bonusRules) {
+        log.info("inside publishBonusRules method");
+        if (bonusRules == null || !bonusRules.stream().allMatch(this::isValid)) {
+            return false;
+        }
+        // Every leave rule must refer to an existing leave type
+        Map<String, LeaveType> leaveTypes = findLeaveTypes(bonusRules);
+        boolean leaveTypesExist = bonusRules.stream()
+                .filter(rule -> BonusRule.APPROVED_LEAVE_RULE.equals(rule.getRuleType()))
+                .allMatch(rule -> leaveTypes.containsKey(rule.getLeaveTypeId()));
+        if (!leaveTypesExist) {
+            return false;
+        }
+        List<BonusRuleDTO> orderedRules = bonusRules.stream()
+                .sorted(Comparator.comparing(BonusRuleDTO::getRuleName))
+                .toList();
+        Integer latestVersion = bonusRuleRepository.findLatestRuleVersion();
+        int version = latestVersion == null ? INITIAL_VERSION : latestVersion + 1;
+        saveRules(version, orderedRules, leaveTypes);
+        synchronized (this) {
+            activeRuleSet = new BonusRuleSet(version, orderedRules);
+        }
+        salaryPreviewCache.invalidateAll();
+        log.info("published bonus rule version {} with {} rules", version, orderedRules.size());
+        return true;
+    }
+
+    // Load the latest version, persisting the default rules when none exist yet
+    private BonusRuleSet loadActiveRuleSet() {
+        log.info("inside loadActiveRuleSet method");
+        Integer version = bonusRuleRepository.findLatestRuleVersion();
+        if (version == null) {
+            List<BonusRuleDTO> defaultRules = BonusRuleSet.defaultRules(findMarriageLeaveTypeId());
+            saveRules(INITIAL_VERSION, defaultRules, findLeaveTypes(defaultRules));
+            return new BonusRuleSet(INITIAL_VERSION, defaultRules);
+        }
+        List<BonusRuleDTO> rules = Mapper.INSTANCE.entityToDtoForBonusRules(
+                bonusRuleRepository.findByRuleVersionOrderByRuleNameAsc(version));
+        return new BonusRuleSet(version, rules);
+    }
+
+    // Resolve the marriage leave type the default marriage bonus applies to
+    private String findMarriageLeaveTypeId() {
+        LeaveType marriageLeave = leaveTypeRepository.findByTypeName(MARRIAGE_LEAVE);
+        return marriageLeave != null ? marriageLeave.getTypeId() : null;
+    }
+
+    // Load the leave types referred to by the rules with one query
+    private Map<String, LeaveType> findLeaveTypes(List<BonusRuleDTO> rules) {
+        Set<String> leaveTypeIds = new HashSet<>();
+        for (BonusRuleDTO rule : rules) {
+            if (rule.getLeaveTypeId() != null) {
+                leaveTypeIds.add(rule.getLeaveTypeId());
+            }
+        }
+        if (leaveTypeIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return leaveTypeRepository.findAllById(leaveTypeIds).stream()
+                .collect(Collectors.toMap(LeaveType::getTypeId, Function.identity()));
+    }
+
+    private void saveRules(int version, List<BonusRuleDTO> rules, Map<String, LeaveType> leaveTypes) {
+        List<BonusRule> bonusRules = rules.stream().map(rule -> {
+            BonusRule bonusRule = new BonusRule();
+            bonusRule.setRuleVersion(version);
+            bonusRule.setRuleName(rule.getRuleName());
+            bonusRule.setRuleType(rule.getRuleType());
+            bonusRule.setBonusAmount(rule.getBonusAmount());
+            bonusRule.setBonusMonth(rule.getBonusMonth());
+            bonusRule.setLeaveType(rule.getLeaveTypeId() != null ? leaveTypes.get(rule.getLeaveTypeId()) : null);
+            return bonusRule;
+        }).toList();
+        bonusRuleRepository.saveAll(bonusRules);
+    }
+
+    // A rule needs a name, a whole rupee amount and the data its type depends on
+    private boolean isValid(BonusRuleDTO rule) {
+        if (rule == null || rule.getRuleName() == null || rule.getRuleName().isBlank()
+                || rule.getRuleName().length() > MAX_RULE_NAME_LENGTH || rule.getRuleType() == null) {
+            return false;
+        }
+        BigDecimal amount = rule.getBonusAmount();
+        if (amount == null || amount.signum() < 0 || amount.stripTrailingZeros().scale() > 0
+                || amount.precision() - amount.scale() > MAX_AMOUNT_PRECISION) {
+            return false;
+        }
+        switch (rule.getRuleType()) {
+            case BonusRule.BIRTHDAY_RULE:
+                return rule.getBonusMonth() == null && rule.getLeaveTypeId() == null;
+            case BonusRule.MONTHLY_RULE:
+                return rule.getBonusMonth() != null && rule.getBonusMonth() >= 1 && rule.getBonusMonth() <= 12
+                        && rule.getLeaveTypeId() == null;
+            case BonusRule.APPROVED_LEAVE_RULE:
+                return rule.getBonusMonth() == null && rule.getLeaveTypeId() != null;
+            default:
+                return false;
+        }
+    }
+}
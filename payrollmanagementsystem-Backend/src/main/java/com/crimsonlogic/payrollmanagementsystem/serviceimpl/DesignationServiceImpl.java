@@ -5,6 +5,7 @@ import com.crimsonlogic.payrollmanagementsystem.dto.DesignationDTO;
 import com.crimsonlogic.payrollmanagementsystem.mapper.Mapper;
 import com.crimsonlogic.payrollmanagementsystem.repository.DesignationRepository;
 import com.crimsonlogic.payrollmanagementsystem.service.DesignationService;
+import com.crimsonlogic.payrollmanagementsystem.util.SalaryPreviewCache;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,10 +26,15 @@ public class DesignationServiceImpl implements DesignationService {
     // Repository for accessing designation data
     private final DesignationRepository designationRepository;
 
+    // Cache of salary previews, which pay overtime at the multiplier of the designation
+    private final SalaryPreviewCache salaryPreviewCache;
+
     // Constructor to initialize the designation repository
-    public DesignationServiceImpl(DesignationRepository designationRepository) {
+    public DesignationServiceImpl(DesignationRepository designationRepository,
+                                  SalaryPreviewCache salaryPreviewCache) {
         super();
         this.designationRepository = designationRepository;
+        this.salaryPreviewCache = salaryPreviewCache;
     }
 
     @Override
@@ -44,13 +50,14 @@ public class DesignationServiceImpl implements DesignationService {
     @Transactional
     public boolean addDesignation(DesignationDTO newDesignation) {
         log.info("inside addDesignation method");
-        // Validate that the designation name is not null
-        if (newDesignation.getDesignationName() == null) {
-            return false; // Return false if the name is null
+        // Validate that the designation name is not null and the overtime multiplier is positive
+        if (newDesignation.getDesignationName() == null || !isValidMultiplier(newDesignation)) {
+            return false; // Return false if the name is null or the multiplier is invalid
         }
-        // Create a new Designation entity and set its name
+        // Create a new Designation entity and set its name and overtime multiplier
         Designation designation = new Designation();
         designation.setDesignationName(newDesignation.getDesignationName());
+        designation.setOvertimeMultiplier(newDesignation.getOvertimeMultiplier());
         // Save the new designation to the repository
         designationRepository.save(designation);
         return true; // Return true to indicate success
@@ -60,14 +67,33 @@ public class DesignationServiceImpl implements DesignationService {
     @Transactional
     public boolean updateDesignation(DesignationDTO updateDesignation) {
         log.info("inside updateDesignation method");
-        // Find the designation by ID and update its name if it exists
+        if (!isValidMultiplier(updateDesignation)) {
+            return false;
+        }
+        // Find the designation by ID and update its name if it exists, keeping the multiplier when none is given
         return designationRepository.findById(updateDesignation.getDesignationId())
                 .map(designation -> {
                     designation.setDesignationName(updateDesignation.getDesignationName());
+                    boolean multiplierChanged = updateDesignation.getOvertimeMultiplier() != null
+                            && (designation.getOvertimeMultiplier() == null || designation.getOvertimeMultiplier()
+                                    .compareTo(updateDesignation.getOvertimeMultiplier()) != 0);
+                    if (multiplierChanged) {
+                        designation.setOvertimeMultiplier(updateDesignation.getOvertimeMultiplier());
+                    }
                     // Save the updated designation to the repository
                     designationRepository.save(designation);
+                    // The previews of every employee of the designation pay the old multiplier
+                    if (multiplierChanged) {
+                        salaryPreviewCache.invalidateAll();
+                    }
                     return true; // Return true to indicate success
                 })
                 .orElse(false); // Return false if the designation was not found
     }
+
+    // An overtime multiplier is optional, but must be positive when given
+    private static boolean isValidMultiplier(DesignationDTO designationDTO) {
+        return designationDTO.getOvertimeMultiplier() == null
+                || designationDTO.getOvertimeMultiplier().signum() > 0;
+    }
 }
@@ -15,6 +15,7 @@ import com.crimsonlogic.payrollmanagementsystem.repository.UsersRepository;
 import com.crimsonlogic.payrollmanagementsystem.service.EmployeesService;
 import com.crimsonlogic.payrollmanagementsystem.service.LeaveRecordService;
 import com.crimsonlogic.payrollmanagementsystem.service.SalaryService;
+import com.crimsonlogic.payrollmanagementsystem.util.SalaryPreviewCache;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.bcrypt.BCrypt;
@@ -48,13 +49,17 @@ public class EmployeesServiceImpl implements EmployeesService {
     private final LeaveRecordService leaveRecordService;
     private final SalaryService salaryRecordService;
 
+    // Cache of salary previews, which pay overtime at the multiplier of the employee's designation
+    private final SalaryPreviewCache salaryPreviewCache;
+
     // Constructor to initialize the repositories and services
     public EmployeesServiceImpl(EmployeesRepository employeesRepository,
                                 DesignationRepository designationRepository,
                                 RolesRepository rolesRepository,
                                 UsersRepository usersRepository,
                                 LeaveRecordService leaveRecordService,
-                                SalaryService salaryRecordService) {
+                                SalaryService salaryRecordService,
+                                SalaryPreviewCache salaryPreviewCache) {
         super();
         this.employeesRepository = employeesRepository;
         this.designationRepository = designationRepository;
@@ -62,6 +67,7 @@ public class EmployeesServiceImpl implements EmployeesService {
         this.rolesRepository = rolesRepository;
         this.leaveRecordService = leaveRecordService;
         this.salaryRecordService = salaryRecordService;
+        this.salaryPreviewCache = salaryPreviewCache;
     }
 
     @Override
@@ -143,8 +149,9 @@ public class EmployeesServiceImpl implements EmployeesService {
                 return false; // Return false if manager or designation is not found
             }
 
-            // Save the updated employee record
+            // Save the updated employee record, a new designation may pay overtime at another multiplier
             employeesRepository.save(employee);
+            salaryPreviewCache.invalidateEmployee(employee.getEmployeeId());
             return true; // Return true to indicate success
         }
         return false; // Return false if the employee was not found
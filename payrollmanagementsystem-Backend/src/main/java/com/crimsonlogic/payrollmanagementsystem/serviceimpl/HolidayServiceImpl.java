@@ -0,0 +1,83 @@
+package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.Holiday;
+import com.crimsonlogic.payrollmanagementsystem.dto.HolidayDTO;
+import com.crimsonlogic.payrollmanagementsystem.mapper.Mapper;
+import com.crimsonlogic.payrollmanagementsystem.repository.HolidayRepository;
+import com.crimsonlogic.payrollmanagementsystem.service.HolidayService;
+import com.crimsonlogic.payrollmanagementsystem.service.WorkingCalendarService;
+import com.crimsonlogic.payrollmanagementsystem.util.SalaryPreviewCache;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Implementation of the HolidayService interface.
+ * Every change rebuilds the cached working-day calendars, and drops the salary
+ * previews whose per day salary depends on them.
+ *
+ * @author abdulmanan
+ */
+@Slf4j
+@Service
+public class HolidayServiceImpl implements HolidayService {
+
+    private final HolidayRepository holidayRepository;
+    private final WorkingCalendarService workingCalendarService;
+
+    // Cache of salary previews, every preview depends on the working days of its month
+    private final SalaryPreviewCache salaryPreviewCache;
+
+    // Constructor to initialize the holiday repository and the caches depending on it
+    HolidayServiceImpl(HolidayRepository holidayRepository, WorkingCalendarService workingCalendarService,
+                       SalaryPreviewCache salaryPreviewCache) {
+        super();
+        this.holidayRepository = holidayRepository;
+        this.workingCalendarService = workingCalendarService;
+        this.salaryPreviewCache = salaryPreviewCache;
+    }
+
+    @Override
+    public List<HolidayDTO> getHolidays(int year) {
+        log.info("inside getHolidays method");
+        return Mapper.INSTANCE.entityToDtoForHolidays(holidayRepository.findByHolidayDateBetweenOrderByHolidayDateAsc(
+                LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31)));
+    }
+
+    @Override
+    @Transactional
+    public boolean addHoliday(HolidayDTO newHoliday) {
+        log.info("inside addHoliday method");
+        // Validate that the date is given and not a holiday already
+        if (newHoliday.getHolidayDate() == null || holidayRepository.existsByHolidayDate(newHoliday.getHolidayDate())) {
+            return false;
+        }
+        Holiday holiday = new Holiday();
+        holiday.setHolidayDate(newHoliday.getHolidayDate());
+        holiday.setHolidayName(newHoliday.getHolidayName());
+        holidayRepository.save(holiday);
+        calendarChanged();
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public boolean removeHoliday(String holidayId) {
+        log.info("inside removeHoliday method");
+        return holidayRepository.findById(holidayId)
+                .map(holiday -> {
+                    holidayRepository.delete(holiday);
+                    calendarChanged();
+                    return true;
+                })
+                .orElse(false); // Return false if the holiday was not found
+    }
+
+    private void calendarChanged() {
+        workingCalendarService.evictCalendars();
+        salaryPreviewCache.invalidateAll();
+    }
+}
@@ -0,0 +1,102 @@
+package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.dto.LeaveAccrualDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.JobInterruptedException;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.service.JobContext;
+import com.crimsonlogic.payrollmanagementsystem.service.JobHandler;
+import com.crimsonlogic.payrollmanagementsystem.service.LeaveRecordService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Job handler bringing the leave balances of all employees up to a month, rolling them
+ * over into a new year and crediting the monthly accrual. Employees are processed in chunks
+ * ordered by employee ID and the checkpoint is the last employee of a chunk, a chunk that is
+ * run again changes nothing.
+ *
+ * @author abdulmanan
+ */
+@Slf4j
+@Component
+public class LeaveAccrualJobHandler implements JobHandler {
+
+    public static final String MONTH = "month";
+
+    private final LeaveRecordService leaveRecordService;
+
+    // Number of employees whose balances are changed per chunk
+    private final int chunkSize;
+
+    // Constructor to initialize the leave record service
+    public LeaveAccrualJobHandler(LeaveRecordService leaveRecordService,
+                                  @Value("${payroll.leave.accrual.chunk-size:500}") int chunkSize) {
+        super();
+        this.leaveRecordService = leaveRecordService;
+        this.chunkSize = Math.max(chunkSize, 1);
+    }
+
+    @Override
+    public String getJobType() {
+        return BackgroundJob.LEAVE_ACCRUAL;
+    }
+
+    @Override
+    public Map<String, String> resolveParameters(Map<String, String> parameters) throws ResourceNotFoundException {
+        // A job resumed in a later month still accrues the month it was submitted for
+        YearMonth now = YearMonth.now();
+        YearMonth month = parameters.get(MONTH) != null ? toMonth(parameters.get(MONTH)) : now;
+        if (month.isAfter(now)) {
+            throw new ResourceNotFoundException("Invalid month: " + month);
+        }
+        return Map.of(MONTH, month.toString());
+    }
+
+    @Override
+    public String run(JobContext context) throws ResourceNotFoundException, JobInterruptedException {
+        log.info("inside run method");
+        long started = System.nanoTime();
+        YearMonth month = toMonth(context.getParameter(MONTH));
+        int totalChunks = (int) Math.ceil(leaveRecordService.countLeaveEmployees() / (double) chunkSize);
+
+        String lastEmployeeId = context.getCheckpoint();
+        int completedChunks = context.getCompletedChunks();
+        int created = 0;
+        int rolledOver = 0;
+        int accrued = 0;
+        while (true) {
+            LeaveAccrualDTO leaveAccrual = leaveRecordService.accrueLeaves(month, lastEmployeeId, chunkSize);
+            if (leaveAccrual.getLastEmployeeId() == null) {
+                break;
+            }
+            created += leaveAccrual.getCreatedRecords();
+            rolledOver += leaveAccrual.getRolledOverRecords();
+            accrued += leaveAccrual.getAccruedRecords();
+            lastEmployeeId = leaveAccrual.getLastEmployeeId();
+            completedChunks++;
+            context.checkpoint(lastEmployeeId, completedChunks, Math.max(totalChunks, completedChunks));
+        }
+        return "Changed " + (created + rolledOver + accrued) + " leave balances through " + month + ": "
+                + created + " created, " + rolledOver + " rolled over, " + accrued + " accrued in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) + " ms.";
+    }
+
+    // Parse the month of the job
+    private static YearMonth toMonth(String month) throws ResourceNotFoundException {
+        if (month == null) {
+            throw new ResourceNotFoundException("Invalid month.");
+        }
+        try {
+            return YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            throw new ResourceNotFoundException("Invalid month: " + month);
+        }
+    }
+}
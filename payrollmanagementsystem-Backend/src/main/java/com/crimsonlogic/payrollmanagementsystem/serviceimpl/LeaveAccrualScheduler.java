@@ -0,0 +1,51 @@
+package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.service.BackgroundJobService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Queues the leave accrual of the new month at the start of every month,
+ * which also rolls the balances over in January.
+ *
+ * @author abdulmanan
+ */
+@Slf4j
+@Component
+public class LeaveAccrualScheduler {
+
+    private final BackgroundJobService backgroundJobService;
+
+    // Whether the leave balances are accrued by the application
+    private final boolean enabled;
+
+    // Constructor to initialize the job service
+    public LeaveAccrualScheduler(BackgroundJobService backgroundJobService,
+                                 @Value("${payroll.leave.accrual.enabled:true}") boolean enabled) {
+        super();
+        this.backgroundJobService = backgroundJobService;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Queues the monthly leave accrual.
+     */
+    @Scheduled(cron = "${payroll.leave.accrual.cron:0 0 2 1 * *}")
+    public void scheduleAccrual() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            // The job defaults to the current month
+            backgroundJobService.submitJob(BackgroundJob.LEAVE_ACCRUAL, Map.of());
+        } catch (ResourceNotFoundException e) {
+            log.error("Leave accrual could not be queued", e);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
 import com.crimsonlogic.payrollmanagementsystem.domain.Employees;
 import com.crimsonlogic.payrollmanagementsystem.domain.LeaveRecord;
 import com.crimsonlogic.payrollmanagementsystem.domain.LeaveType;
+import com.crimsonlogic.payrollmanagementsystem.dto.LeaveAccrualDTO;
 import com.crimsonlogic.payrollmanagementsystem.dto.LeaveRecordDTO;
 import com.crimsonlogic.payrollmanagementsystem.mapper.Mapper;
 import com.crimsonlogic.payrollmanagementsystem.repository.EmployeesRepository;
@@ -14,6 +15,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -21,7 +24,8 @@ import java.util.List;
  * Implementation of the LeaveRecordService interface.
  * This class manages the leave records of employees, including
  * setting up initial leave balances and retrieving leave records
- * for individual employees.
+ * for individual employees. The accrual and rollover of all balances
+ * run as set-based statements over chunks of employees.
  *
  * @author abdulmanan
  */
@@ -65,8 +69,13 @@ public class LeaveRecordServiceImpl implements LeaveRecordService {
             if (totalLeaves != null) {
                 leaveRecord.setTotalLeaves(totalLeaves); // Set total leaves
                 leaveRecord.setUsedLeaves(BigDecimal.ZERO); // Initialize used leaves to zero
-                leaveRecord.setRemainingLeaves(BigDecimal.valueOf(totalLeaves)); // Set remaining leaves
+                // Set remaining leaves, a type accruing monthly is credited from the month of joining
+                leaveRecord.setRemainingLeaves(isAccruedMonthly(leaveType)
+                        ? BigDecimal.ZERO : BigDecimal.valueOf(totalLeaves));
+                leaveRecord.setHeldLeaves(BigDecimal.ZERO); // No pending requests yet
+                leaveRecord.setCarriedLeaves(BigDecimal.ZERO); // Nothing carried in the first year
             }
+            leaveRecord.setBalanceYear(LocalDate.now().getYear());
 
             // Save the leave record to the repository
             leaveRecordRepository.save(leaveRecord);
@@ -91,4 +100,37 @@ public class LeaveRecordServiceImpl implements LeaveRecordService {
                 })
                 .orElseGet(ArrayList::new); // Return an empty list if employee is not found
     }
+
+    @Override
+    public long countLeaveEmployees() {
+        log.info("inside countLeaveEmployees method");
+        return employeesRepository.count();
+    }
+
+    @Override
+    @Transactional
+    public LeaveAccrualDTO accrueLeaves(YearMonth month, String afterEmployeeId, int chunkSize) {
+        log.info("inside accrueLeaves method");
+        leaveRecordRepository.lockLeaveAccrual();
+        String lastEmployeeId = leaveRecordRepository.findAccrualChunkEnd(afterEmployeeId, chunkSize);
+        if (lastEmployeeId == null) {
+            return new LeaveAccrualDTO(null, 0, 0, 0); // No more employees
+        }
+
+        // Create the missing balances, roll the balances of earlier years over, then credit the accrual
+        String fromEmployeeId = afterEmployeeId != null ? afterEmployeeId : "";
+        int year = month.getYear();
+        int created = leaveRecordRepository.insertMissingLeaveRecords(fromEmployeeId, lastEmployeeId, year);
+        leaveRecordRepository.adoptLeaveRecords(fromEmployeeId, lastEmployeeId, year);
+        int rolledOver = leaveRecordRepository.rollOverLeaveRecords(fromEmployeeId, lastEmployeeId, year);
+        int accrued = leaveRecordRepository.accrueLeaveRecords(fromEmployeeId, lastEmployeeId, month);
+        log.info("accrued leaves through {} up to employee {}: {} created, {} rolled over, {} accrued", month,
+                lastEmployeeId, created, rolledOver, accrued);
+        return new LeaveAccrualDTO(lastEmployeeId, created, rolledOver, accrued);
+    }
+
+    // Whether the days of a type of leave are earned monthly instead of granted at once
+    private static boolean isAccruedMonthly(LeaveType leaveType) {
+        return leaveType.getMonthlyAccrual() != null && leaveType.getMonthlyAccrual().signum() > 0;
+    }
 }
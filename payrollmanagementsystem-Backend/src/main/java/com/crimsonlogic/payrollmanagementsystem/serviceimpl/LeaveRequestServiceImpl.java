@@ -4,32 +4,46 @@ import com.crimsonlogic.payrollmanagementsystem.domain.Employees;
 import com.crimsonlogic.payrollmanagementsystem.domain.LeaveRecord;
 import com.crimsonlogic.payrollmanagementsystem.domain.LeaveRequest;
 import com.crimsonlogic.payrollmanagementsystem.domain.LeaveType;
-import com.crimsonlogic.payrollmanagementsystem.domain.Attendance;
+import com.crimsonlogic.payrollmanagementsystem.domain.AttendanceStatus;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceUpsertDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.LeaveDecisionResultDTO;
 import com.crimsonlogic.payrollmanagementsystem.dto.LeaveRequestDTO;
 import com.crimsonlogic.payrollmanagementsystem.exception.LeavesExhaustedException;
 import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
 import com.crimsonlogic.payrollmanagementsystem.mapper.Mapper;
 import com.crimsonlogic.payrollmanagementsystem.repository.AttendanceRepository;
+import com.crimsonlogic.payrollmanagementsystem.repository.AttendanceRepositoryCustom;
 import com.crimsonlogic.payrollmanagementsystem.repository.EmployeesRepository;
 import com.crimsonlogic.payrollmanagementsystem.repository.LeaveRecordRepository;
 import com.crimsonlogic.payrollmanagementsystem.repository.LeaveRequestRepository;
 import com.crimsonlogic.payrollmanagementsystem.repository.LeaveTypeRepository;
+import com.crimsonlogic.payrollmanagementsystem.service.AttendanceSummaryService;
 import com.crimsonlogic.payrollmanagementsystem.service.LeaveRequestService;
+import com.crimsonlogic.payrollmanagementsystem.service.WorkingCalendarService;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * LeaveRequestServiceImpl is the implementation of the LeaveRequestService interface.
  * This service handles all leave request operations including creating, updating,
  * fetching, and cancelling leave requests for employees.
+ * A pending request holds its days on the leave record, and every change of a balance is a
+ * single conditional update, while the request itself is locked while it is decided or cancelled.
  *
  * @author abdulmanan
  */
@@ -41,23 +55,43 @@ public class LeaveRequestServiceImpl implements LeaveRequestService {
     private static final String MORNING = "Morning";
     private static final String AFTERNOON = "Afternoon";
 
+    private static final String APPROVED = "Approved";
+    private static final String REJECTED = "Rejected";
+    private static final String PENDING = "Pending";
+
     private final AttendanceRepository attendanceRepository;
     private final LeaveRequestRepository leaveRequestRepository;
     private final EmployeesRepository employeesRepository;
     private final LeaveTypeRepository leaveTypeRepository;
     private final LeaveRecordRepository leaveRecordRepository;
+    private final AttendanceRepositoryCustom attendanceRepositoryCustom;
+    private final AttendanceSummaryService attendanceSummaryService;
+    private final WorkingCalendarService workingCalendarService;
+    private final TransactionTemplate transactionTemplate;
+
+    // Number of leave requests decided per transaction by the bulk decision
+    @Value("${payroll.leave.decision-chunk-size:200}")
+    private int decisionChunkSize;
 
     // Constructor to initialize repositories
     LeaveRequestServiceImpl(LeaveRequestRepository leaveRequestRepository,
                             EmployeesRepository employeesRepository,
                             LeaveTypeRepository leaveTypeRepository,
                             LeaveRecordRepository leaveRecordRepository,
-                            AttendanceRepository attendanceRepository) {
+                            AttendanceRepository attendanceRepository,
+                            AttendanceRepositoryCustom attendanceRepositoryCustom,
+                            AttendanceSummaryService attendanceSummaryService,
+                            WorkingCalendarService workingCalendarService,
+                            TransactionTemplate transactionTemplate) {
         this.leaveRequestRepository = leaveRequestRepository;
         this.employeesRepository = employeesRepository;
         this.leaveTypeRepository = leaveTypeRepository;
         this.leaveRecordRepository = leaveRecordRepository;
         this.attendanceRepository = attendanceRepository;
+        this.attendanceRepositoryCustom = attendanceRepositoryCustom;
+        this.attendanceSummaryService = attendanceSummaryService;
+        this.workingCalendarService = workingCalendarService;
+        this.transactionTemplate = transactionTemplate;
     }
 
     @Override
@@ -99,26 +133,26 @@ public class LeaveRequestServiceImpl implements LeaveRequestService {
                 leaveRequestDTO.getEndDate(),
                 leaveRequestDTO.getStartHalf(),
                 leaveRequestDTO.getEndHalf());
+        if (requestedDays.signum() == 0) {
+            throw new ResourceNotFoundException("There are no working days in the requested period.");
+        }
 
-        // Check leave record for the employee and type of leave
-        LeaveRecord leaveRecord = leaveRecordRepository.findByLeaveForEmployeeAndTypeOfLeave(employee, leaveType);
-        if (leaveRecord != null) {
-            // Validate if enough leave days are available
-            if (leaveRecord.getRemainingLeaves().compareTo(requestedDays) < 0) {
-                throw new LeavesExhaustedException(leaveRecord.getTypeOfLeave().getTypeName() + " count is exhausted.");
+        // Hold the days on the leave record, if the days not held by other pending requests cover them
+        if (leaveRecordRepository.holdLeaves(employee.getEmployeeId(), leaveType.getTypeId(), requestedDays) == 0) {
+            LeaveRecord leaveRecord = leaveRecordRepository.findByLeaveForEmployeeAndTypeOfLeave(employee, leaveType);
+            if (leaveRecord == null) {
+                throw new ResourceNotFoundException("Unexpected error, please try again later.");
             }
-
-
-            // Create and save the leave request
-            LeaveRequest leaveRequest = Mapper.INSTANCE.dtoToEntityForLeaveRequest(leaveRequestDTO);
-            leaveRequest.setStatus("Pending"); // Set initial status
-            leaveRequest.setRequestByEmployee(employee);
-            leaveRequest.setTypeOfLeave(leaveType);
-            leaveRequest.setNoOfDays(requestedDays);
-            leaveRequestRepository.save(leaveRequest);
-        } else {
-            throw new ResourceNotFoundException("Unexpected error, please try again later.");
+            throw new LeavesExhaustedException(leaveType.getTypeName() + " count is exhausted.");
         }
+
+        // Create and save the leave request
+        LeaveRequest leaveRequest = Mapper.INSTANCE.dtoToEntityForLeaveRequest(leaveRequestDTO);
+        leaveRequest.setStatus("Pending"); // Set initial status
+        leaveRequest.setRequestByEmployee(employee);
+        leaveRequest.setTypeOfLeave(leaveType);
+        leaveRequest.setNoOfDays(requestedDays);
+        leaveRequestRepository.save(leaveRequest);
     }
 
     @Override
@@ -144,82 +178,182 @@ public class LeaveRequestServiceImpl implements LeaveRequestService {
     @Transactional
     public boolean updateLeaveRequest(LeaveRequestDTO leaveRequestDTO) {
         log.info("inside updateLeaveRequest method");
-        // Update an existing leave request based on the provided DTO
-        return leaveRequestRepository.findById(leaveRequestDTO.getLeaveRequestId())
+        // A request is approved, rejected or kept pending with a new description, any other status is refused
+        String status = leaveRequestDTO.getStatus();
+        if (!APPROVED.equalsIgnoreCase(status) && !REJECTED.equalsIgnoreCase(status)
+                && !PENDING.equalsIgnoreCase(status)) {
+            return false;
+        }
+        // Lock the pending request, so it is decided once even when managers decide it concurrently
+        return leaveRequestRepository.findByIdForUpdate(leaveRequestDTO.getLeaveRequestId())
+                .filter(request -> PENDING.equalsIgnoreCase(request.getStatus()))
                 .map(request -> {
-                    boolean isUpdated = true;
-
-                    // If the request is approved, update leave records and attendance
-                    if ("Approved".equalsIgnoreCase(leaveRequestDTO.getStatus())) {
-                        isUpdated = updateLeaveRecord(leaveRequestDTO.getNoOfDays(),
-                                leaveRequestDTO.getTypeId(), leaveRequestDTO.getEmployeeId());
-                        if (isUpdated) {
-                            insertAttendanceRecords(request); // Log attendance for the leave
+                    String employeeId = request.getRequestByEmployee().getEmployeeId();
+                    String typeId = request.getTypeOfLeave().getTypeId();
+                    BigDecimal noOfDays = request.getNoOfDays();
+
+                    if (APPROVED.equalsIgnoreCase(status)) {
+                        // Use the days held by the request, or days held by none for a request made before holds
+                        boolean isUsed = leaveRecordRepository.useHeldLeaves(employeeId, typeId, noOfDays) > 0
+                                || leaveRecordRepository.useLeaves(employeeId, typeId, noOfDays) > 0;
+                        if (!isUsed) {
+                            return false; // Return false if the leave record is missing or exhausted
                         }
+                        insertAttendanceRecords(buildAttendanceRecords(request)); // Log attendance for the leave
+                    } else if (REJECTED.equalsIgnoreCase(status)) {
+                        // A rejected request gives its held days back
+                        leaveRecordRepository.releaseHeldLeaves(employeeId, typeId, noOfDays);
                     }
 
                     // Update request details
-                    if (isUpdated) {
-                        request.setStatus(leaveRequestDTO.getStatus());
-                        request.setDescription(leaveRequestDTO.getDescription());
-                        leaveRequestRepository.save(request);
-                    }
-
-                    return isUpdated; // Return update status
+                    request.setStatus(status);
+                    request.setDescription(leaveRequestDTO.getDescription());
+                    leaveRequestRepository.save(request);
+                    return true; // Return update status
                 })
-                .orElse(false); // Return false if request not found
+                .orElse(false); // Return false if request not found or already decided
     }
 
-    @Transactional
-    private void insertAttendanceRecords(LeaveRequest leaveRequest) {
-        log.info("inside insertAttendanceRecords method");
-        // Insert attendance records based on the leave request
-        LocalDate startDate = leaveRequest.getStartDate();
-        LocalDate endDate = leaveRequest.getEndDate();
-
-        // Iterate over each date in the range
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            Attendance attendance = new Attendance();
-            attendance.setAttendanceByEmployee(leaveRequest.getRequestByEmployee());
-            attendance.setAttendanceForDate(date);
+    @Override
+    public List<LeaveDecisionResultDTO> decideLeaveRequests(List<LeaveRequestDTO> leaveRequestDTOs) {
+        log.info("inside decideLeaveRequests method");
+        List<LeaveDecisionResultDTO> results = new ArrayList<>(leaveRequestDTOs.size());
+        for (int from = 0; from < leaveRequestDTOs.size(); from += decisionChunkSize) {
+            List<LeaveRequestDTO> chunk = leaveRequestDTOs.subList(from,
+                    Math.min(from + decisionChunkSize, leaveRequestDTOs.size()));
+            List<LeaveDecisionResultDTO> chunkResults = transactionTemplate.execute(status -> decideChunk(chunk));
+            results.addAll(chunkResults != null ? chunkResults : List.of());
+        }
+        log.info("decided {} of {} leave requests", results.stream().filter(LeaveDecisionResultDTO::getDecided).count(),
+                leaveRequestDTOs.size());
+        return results;
+    }
 
-            // Determine attendance status based on the leave request details
-            if (date.isEqual(startDate) && leaveRequest.getStartHalf().equals(AFTERNOON)) {
-                attendance.setStatus("Half Day");
-            } else if (date.isEqual(endDate) && leaveRequest.getEndHalf().equals(MORNING)) {
-                attendance.setStatus("Half Day");
-            } else if (date.isAfter(startDate) && date.isBefore(endDate)) {
-                attendance.setStatus("Leave");
+    // Decide one chunk of leave requests, with one batch of balance updates per kind and one attendance write
+    private List<LeaveDecisionResultDTO> decideChunk(List<LeaveRequestDTO> chunk) {
+        // Lock the requests of the chunk in one query, their employees and types of leave are loaded once each
+        Map<String, LeaveRequest> requests = leaveRequestRepository.findAllByIdForUpdate(chunk.stream()
+                        .map(LeaveRequestDTO::getLeaveRequestId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(LeaveRequest::getLeaveRequestId, Function.identity()));
+
+        List<LeaveDecisionResultDTO> results = new ArrayList<>(chunk.size());
+        List<LeaveRequest> approvals = new ArrayList<>();
+        List<LeaveRequest> rejections = new ArrayList<>();
+        Map<String, LeaveRequestDTO> decisions = new HashMap<>();
+        Map<String, LeaveDecisionResultDTO> decidedResults = new HashMap<>();
+        for (LeaveRequestDTO leaveRequestDTO : chunk) {
+            String status = leaveRequestDTO.getStatus();
+            LeaveRequest request = requests.get(leaveRequestDTO.getLeaveRequestId());
+            LeaveDecisionResultDTO result = new LeaveDecisionResultDTO(leaveRequestDTO.getLeaveRequestId(),
+                    status, false, null);
+            results.add(result);
+            if (!APPROVED.equalsIgnoreCase(status) && !REJECTED.equalsIgnoreCase(status)) {
+                result.setMessage("Decision must be Approved or Rejected.");
+            } else if (request == null || !PENDING.equalsIgnoreCase(request.getStatus())
+                    || decidedResults.putIfAbsent(request.getLeaveRequestId(), result) != null) {
+                result.setMessage("Leave request not found or already decided.");
             } else {
-                attendance.setStatus("Leave");
+                decisions.put(request.getLeaveRequestId(), leaveRequestDTO);
+                (APPROVED.equalsIgnoreCase(status) ? approvals : rejections).add(request);
+                result.setDecided(true);
             }
+        }
+
+        // Use the days held by the approved requests, or days held by none for requests made before holds
+        List<LeaveRequest> unheld = unmatched(approvals, leaveRecordRepository.useHeldLeavesInBatch(approvals));
+        List<LeaveRequest> exhausted = unmatched(unheld, leaveRecordRepository.useLeavesInBatch(unheld));
+        for (LeaveRequest request : exhausted) {
+            // The request stays pending, its leave record is missing or exhausted
+            LeaveDecisionResultDTO result = decidedResults.get(request.getLeaveRequestId());
+            result.setDecided(false);
+            result.setMessage(request.getTypeOfLeave().getTypeName() + " count is exhausted.");
+        }
+        approvals.removeAll(exhausted);
 
-            attendance.setTotalHours(BigDecimal.valueOf(8)); // Default total hours for a full day
-            attendance.setOvertimeHours(BigDecimal.ZERO); // No overtime during leave
+        // Rejected requests give their held days back
+        leaveRecordRepository.releaseHeldLeavesInBatch(rejections);
 
-            attendanceRepository.save(attendance); // Save attendance record
+        // Log the attendance of all the approved leaves in one write, a later leave of a day replaces an earlier one
+        Map<String, AttendanceDTO> attendances = new LinkedHashMap<>();
+        for (LeaveRequest request : approvals) {
+            buildAttendanceRecords(request).forEach(attendance ->
+                    attendances.put(attendance.getAttendanceByEmployee() + "|" + attendance.getAttendanceForDate(),
+                            attendance));
+        }
+        insertAttendanceRecords(new ArrayList<>(attendances.values()));
+
+        // Update request details
+        List<LeaveRequest> decided = new ArrayList<>(approvals);
+        decided.addAll(rejections);
+        for (LeaveRequest request : decided) {
+            LeaveRequestDTO decision = decisions.get(request.getLeaveRequestId());
+            request.setStatus(decision.getStatus());
+            request.setDescription(decision.getDescription());
         }
+        leaveRequestRepository.saveAll(decided);
+        return results;
+    }
+
+    // The requests whose update changed no leave record
+    private static List<LeaveRequest> unmatched(List<LeaveRequest> leaveRequests, int[] counts) {
+        List<LeaveRequest> unmatched = new ArrayList<>();
+        for (int i = 0; i < leaveRequests.size(); i++) {
+            if (counts[i] == 0) {
+                unmatched.add(leaveRequests.get(i));
+            }
+        }
+        return unmatched;
+    }
+
+    private List<AttendanceDTO> buildAttendanceRecords(LeaveRequest leaveRequest) {
+        // Build an attendance record for each working day of the leave, weekends and holidays are skipped
+        LocalDate startDate = leaveRequest.getStartDate();
+        LocalDate endDate = leaveRequest.getEndDate();
+        String employeeId = leaveRequest.getRequestByEmployee().getEmployeeId();
+        List<AttendanceDTO> attendances = new ArrayList<>();
+        for (LocalDate date : workingCalendarService.getWorkingDays(startDate, endDate)) {
+            // Determine attendance status based on the leave request details
+            AttendanceStatus status = AttendanceStatus.LEAVE;
+            if ((date.isEqual(startDate) && AFTERNOON.equals(leaveRequest.getStartHalf()))
+                    || (date.isEqual(endDate) && MORNING.equals(leaveRequest.getEndHalf()))) {
+                status = AttendanceStatus.HALF_DAY;
+            }
+            // Default total hours for a full day, no overtime during leave
+            attendances.add(new AttendanceDTO(null, date, BigDecimal.ZERO, BigDecimal.valueOf(8),
+                    status.getLabel(), employeeId));
+        }
+        return attendances;
+    }
+
+    // Runs in the transaction of the caller, a single decision or a chunk of decisions
+    private void insertAttendanceRecords(List<AttendanceDTO> attendances) {
+        log.info("inside insertAttendanceRecords method");
+        if (attendances.isEmpty()) {
+            return;
+        }
+
+        // Write all the days in one statement, replacing what was marked for them, then update the rollup
+        AttendanceUpsertDTO upsert = attendanceRepositoryCustom.upsertAttendance(attendances);
+        attendanceSummaryService.replaceAttendance(upsert.getPreviousAttendances(), upsert.getAttendances());
     }
 
     @Override
     @Transactional
     public boolean cancelLeaveRequest(String leaveRequestId) {
         log.info("inside cancelLeaveRequest method");
-        // Cancel a leave request and revert leave records
-        Optional<LeaveRequest> leaveRequestOpt = leaveRequestRepository.findById(leaveRequestId);
+        // Cancel a leave request and revert leave records, locking it against a concurrent decision
+        Optional<LeaveRequest> leaveRequestOpt = leaveRequestRepository.findByIdForUpdate(leaveRequestId);
 
         if (leaveRequestOpt.isPresent()) {
             LeaveRequest leaveRequest = leaveRequestOpt.get();
+            String employeeId = leaveRequest.getRequestByEmployee().getEmployeeId();
+            String typeId = leaveRequest.getTypeOfLeave().getTypeId();
 
-            // If the leave request was approved, update the leave record
+            // Give back the days used by an approved request, or held by a pending one
             if ("Approved".equalsIgnoreCase(leaveRequest.getStatus())) {
-                LeaveType leaveType = leaveRequest.getTypeOfLeave();
-                Employees employee = leaveRequest.getRequestByEmployee();
-
-                LeaveRecord leaveRecord = leaveRecordRepository.findByLeaveForEmployeeAndTypeOfLeave(employee, leaveType);
-                leaveRecord.setRemainingLeaves(leaveRecord.getRemainingLeaves().add(leaveRequest.getNoOfDays()));
-                leaveRecord.setUsedLeaves(leaveRecord.getUsedLeaves().subtract(leaveRequest.getNoOfDays()));
-                leaveRecordRepository.save(leaveRecord);
+                leaveRecordRepository.restoreLeaves(employeeId, typeId, leaveRequest.getNoOfDays());
+            } else if ("Pending".equalsIgnoreCase(leaveRequest.getStatus())) {
+                leaveRecordRepository.releaseHeldLeaves(employeeId, typeId, leaveRequest.getNoOfDays());
             }
 
             // Delete attendance records for the cancelled leave
@@ -242,62 +376,31 @@ public class LeaveRequestServiceImpl implements LeaveRequestService {
         attendanceRepository.deleteByEmployeeAndDateRange(
                 requestByEmployee, startDate, endDate
         );
-    }
-
-    @Transactional
-    private boolean updateLeaveRecord(BigDecimal noOfDays, String typeId, String employeeId) {
-        log.info("inside updateLeaveRecord method");
-        // Update the leave record based on the leave request
-        Optional<LeaveType> leaveTypeOpt = leaveTypeRepository.findById(typeId);
-        Optional<Employees> employeesOpt = employeesRepository.findById(employeeId);
-
-        if (leaveTypeOpt.isPresent() && employeesOpt.isPresent()) {
-            LeaveType leaveType = leaveTypeOpt.get();
-            Employees employee = employeesOpt.get();
-            LeaveRecord leaveRecord = leaveRecordRepository.findByLeaveForEmployeeAndTypeOfLeave(employee, leaveType);
-
-            if (leaveRecord != null) {
-                // Adjust the used and remaining leave counts
-                leaveRecord.setUsedLeaves(leaveRecord.getUsedLeaves().add(noOfDays));
-                leaveRecord.setRemainingLeaves(leaveRecord.getRemainingLeaves().subtract(noOfDays));
-                leaveRecordRepository.save(leaveRecord);
-                return true; // Return success status
-            }
-        }
-        return false; // Return false if leave record not found
+        // Recompute the monthly rollup without the deleted records
+        attendanceSummaryService.refreshAttendanceSummaries(requestByEmployee.getEmployeeId(), startDate, endDate);
     }
 
     private BigDecimal calculateRequestedDays(LocalDate startDate, LocalDate endDate,
                                               String startHalf, String endHalf) {
         log.info("inside calculateRequestedDays method");
-        // Calculate the total requested leave days based on start and end dates and halves
-        BigDecimal totalDays = BigDecimal.ZERO;
+        // Count the working days of the range, weekly days off and holidays are not requested
+        BigDecimal totalDays = BigDecimal.valueOf(workingCalendarService.countWorkingDays(startDate, endDate));
+        BigDecimal halfDay = BigDecimal.valueOf(0.5);
 
         if (startDate.isEqual(endDate)) {
-            // If the start and end dates are the same
-            if (startHalf.equals(MORNING) && endHalf.equals(MORNING)) {
-                totalDays = totalDays.add(BigDecimal.valueOf(0.5)); // Half day
-            } else if (startHalf.equals(AFTERNOON) && endHalf.equals(AFTERNOON)) {
-                totalDays = totalDays.add(BigDecimal.valueOf(0.5)); // Half day
-            } else {
-                totalDays = totalDays.add(BigDecimal.ONE); // Full day
+            // A single morning or afternoon is a half day
+            if (startHalf.equals(endHalf) && workingCalendarService.isWorkingDay(startDate)) {
+                totalDays = totalDays.subtract(halfDay);
             }
         } else {
-            // If the start and end dates are different
-            if (startHalf.equals(MORNING)) {
-                totalDays = totalDays.add(BigDecimal.ONE); // Full day for the first day
-            } else if (startHalf.equals(AFTERNOON)) {
-                totalDays = totalDays.add(BigDecimal.valueOf(0.5)); // Half day for the first day
+            // Starting in the afternoon takes half of the first day
+            if (startHalf.equals(AFTERNOON) && workingCalendarService.isWorkingDay(startDate)) {
+                totalDays = totalDays.subtract(halfDay);
             }
 
-            // Count full days in between
-            totalDays = totalDays.add(BigDecimal.valueOf(ChronoUnit.DAYS.between(startDate.plusDays(1), endDate)));
-
-            // Add for the end date
-            if (endHalf.equals(MORNING)) {
-                totalDays = totalDays.add(BigDecimal.valueOf(0.5)); // Half day for the last day
-            } else if (endHalf.equals(AFTERNOON)) {
-                totalDays = totalDays.add(BigDecimal.ONE); // Full day for the last day
+            // Ending in the morning takes half of the last day
+            if (endHalf.equals(MORNING) && workingCalendarService.isWorkingDay(endDate)) {
+                totalDays = totalDays.subtract(halfDay);
             }
         }
 
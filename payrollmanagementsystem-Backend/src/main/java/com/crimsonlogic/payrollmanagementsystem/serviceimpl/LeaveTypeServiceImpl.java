@@ -50,6 +50,8 @@ public class LeaveTypeServiceImpl implements LeaveTypeService {
         LeaveType leaveType = new LeaveType();
         leaveType.setTypeName(newType.getTypeName());
         leaveType.setNumberOfLeaves(newType.getNumberOfLeaves());
+        leaveType.setMonthlyAccrual(newType.getMonthlyAccrual());
+        leaveType.setCarryForwardLimit(newType.getCarryForwardLimit());
 
         // Save the new leave type to the repository
         leaveTypeRepository.save(leaveType);
@@ -65,6 +67,8 @@ public class LeaveTypeServiceImpl implements LeaveTypeService {
                 .map(type -> {
                     type.setTypeName(updateType.getTypeName());
                     type.setNumberOfLeaves(updateType.getNumberOfLeaves());
+                    type.setMonthlyAccrual(updateType.getMonthlyAccrual());
+                    type.setCarryForwardLimit(updateType.getCarryForwardLimit());
                     leaveTypeRepository.save(type); // Save the updated leave type
                     return true; // Return true to indicate success
                 })
@@ -15,7 +15,6 @@ import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * LoginLogsServiceImpl implements LoginLogsService to manage login and logout logs for employees.
@@ -59,18 +58,12 @@ public class LoginLogsServiceImpl implements LoginLogsService {
     @Transactional
     public void setLogoutLog(String logId) {
         log.info("inside setLogoutLog method");
-        // Find the existing login log entry by its ID
-        Optional<LoginLogs> logOpt = loginLogsRepository.findById(logId);
-
         // Capture the current timestamp for the logout time
-        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
 
-        // If the log entry is found, update the logout time
-        if (logOpt.isPresent()) {
-            LoginLogs log = logOpt.get();
-            log.setLogoutTime(now);
-            loginLogsRepository.save(log); // Save the updated log entry
-        }
+        // Update the log entry in place, a session started at the latest in the previous month
+        Timestamp loginAfter = Timestamp.valueOf(now.minusMonths(1).withDayOfMonth(1).toLocalDate().atStartOfDay());
+        loginLogsRepository.updateLogoutTime(logId, Timestamp.valueOf(now), loginAfter);
     }
 
     @Override
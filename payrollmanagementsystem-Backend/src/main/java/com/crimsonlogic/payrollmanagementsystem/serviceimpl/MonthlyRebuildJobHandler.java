@@ -0,0 +1,80 @@
+package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
+
+import com.crimsonlogic.payrollmanagementsystem.exception.JobInterruptedException;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.service.JobContext;
+import com.crimsonlogic.payrollmanagementsystem.service.JobHandler;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+/**
+ * Base of the job handlers rebuilding a rollup over a date range one month at a time.
+ * The checkpoint is the last month rebuilt, and rebuilding a month again after an
+ * interruption writes the same rows.
+ *
+ * @author abdulmanan
+ */
+public abstract class MonthlyRebuildJobHandler implements JobHandler {
+
+    public static final String START_DATE = "startDate";
+    public static final String END_DATE = "endDate";
+
+    @Override
+    public Map<String, String> resolveParameters(Map<String, String> parameters) throws ResourceNotFoundException {
+        LocalDate startDate = toDate(parameters.get(START_DATE));
+        LocalDate endDate = toDate(parameters.get(END_DATE));
+        if (startDate.isAfter(endDate)) {
+            throw new ResourceNotFoundException("Invalid date range.");
+        }
+        return Map.of(START_DATE, startDate.toString(), END_DATE, endDate.toString());
+    }
+
+    @Override
+    public String run(JobContext context) throws ResourceNotFoundException, JobInterruptedException {
+        LocalDate startDate = toDate(context.getParameter(START_DATE));
+        LocalDate endDate = toDate(context.getParameter(END_DATE));
+        YearMonth lastMonth = YearMonth.from(endDate);
+        int totalChunks = (int) ChronoUnit.MONTHS.between(YearMonth.from(startDate), lastMonth) + 1;
+
+        YearMonth month = context.getCheckpoint() != null
+                ? YearMonth.parse(context.getCheckpoint()).plusMonths(1)
+                : YearMonth.from(startDate);
+        int completedChunks = context.getCompletedChunks();
+        int rebuilt = 0;
+        for (; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            LocalDate monthStart = month.atDay(1);
+            LocalDate monthEnd = month.atEndOfMonth();
+            rebuilt += rebuildMonth(monthStart.isBefore(startDate) ? startDate : monthStart,
+                    monthEnd.isAfter(endDate) ? endDate : monthEnd);
+            completedChunks++;
+            context.checkpoint(month.toString(), completedChunks, totalChunks);
+        }
+        return "Rebuilt " + rebuilt + " rows from " + startDate + " to " + endDate + ".";
+    }
+
+    /**
+     * Rebuilds the rollup for a date range within a single month.
+     *
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @return the number of rows written
+     * @throws ResourceNotFoundException if the date range is invalid
+     */
+    protected abstract int rebuildMonth(LocalDate startDate, LocalDate endDate) throws ResourceNotFoundException;
+
+    // Parse a date parameter of the job
+    private static LocalDate toDate(String date) throws ResourceNotFoundException {
+        if (date == null) {
+            throw new ResourceNotFoundException("Invalid date range.");
+        }
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new ResourceNotFoundException("Invalid date range.");
+        }
+    }
+}
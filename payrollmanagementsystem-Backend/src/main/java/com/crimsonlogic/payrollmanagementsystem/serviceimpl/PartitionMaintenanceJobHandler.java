@@ -0,0 +1,60 @@
+package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.dto.PartitionMaintenanceDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.JobInterruptedException;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.service.JobContext;
+import com.crimsonlogic.payrollmanagementsystem.service.JobHandler;
+import com.crimsonlogic.payrollmanagementsystem.service.PartitionMaintenanceService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Job handler maintaining the partitions of the time-series tables, one table per chunk.
+ * The outcome of every table is kept in the result of the job.
+ *
+ * @author abdulmanan
+ */
+@Slf4j
+@Component
+public class PartitionMaintenanceJobHandler implements JobHandler {
+
+    private final PartitionMaintenanceService partitionMaintenanceService;
+
+    // Constructor to initialize the partition maintenance service
+    PartitionMaintenanceJobHandler(PartitionMaintenanceService partitionMaintenanceService) {
+        super();
+        this.partitionMaintenanceService = partitionMaintenanceService;
+    }
+
+    @Override
+    public String getJobType() {
+        return BackgroundJob.PARTITION_MAINTENANCE;
+    }
+
+    @Override
+    public Map<String, String> resolveParameters(Map<String, String> parameters) {
+        return Map.of();
+    }
+
+    @Override
+    public String run(JobContext context) throws ResourceNotFoundException, JobInterruptedException {
+        log.info("inside run method");
+        List<String> tables = partitionMaintenanceService.getPartitionedTables();
+        List<String> outcomes = new ArrayList<>();
+        for (int chunk = context.getCompletedChunks(); chunk < tables.size(); chunk++) {
+            PartitionMaintenanceDTO maintenance = partitionMaintenanceService.maintainPartitions(tables.get(chunk));
+            outcomes.add(maintenance.getTableName() + (maintenance.getConverted() ? " partitioned" : "")
+                    + ": " + maintenance.getCreatedPartitions() + " created, "
+                    + maintenance.getArchivedPartitions() + " archived, "
+                    + maintenance.getPartitionCount() + " partitions in " + maintenance.getElapsedMillis() + " ms");
+            context.checkpoint(tables.get(chunk), chunk + 1, tables.size());
+        }
+        return String.join("; ", outcomes) + ".";
+    }
+}
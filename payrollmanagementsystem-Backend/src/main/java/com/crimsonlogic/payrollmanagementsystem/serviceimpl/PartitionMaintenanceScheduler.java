@@ -0,0 +1,64 @@
+package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.service.BackgroundJobService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Queues partition maintenance once the application has started and then every night,
+ * so the partitioned tables always have the partitions of the coming months.
+ *
+ * @author abdulmanan
+ */
+@Slf4j
+@Component
+public class PartitionMaintenanceScheduler {
+
+    private final BackgroundJobService backgroundJobService;
+
+    // Whether the time-series tables are partitioned by the application
+    private final boolean enabled;
+
+    // Constructor to initialize the job service
+    public PartitionMaintenanceScheduler(BackgroundJobService backgroundJobService,
+                                         @Value("${payroll.partitions.enabled:true}") boolean enabled) {
+        super();
+        this.backgroundJobService = backgroundJobService;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Queues partition maintenance after startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        submitMaintenance();
+    }
+
+    /**
+     * Queues the nightly partition maintenance.
+     */
+    @Scheduled(cron = "${payroll.partitions.maintenance-cron:0 30 1 * * *}")
+    public void scheduleMaintenance() {
+        submitMaintenance();
+    }
+
+    private void submitMaintenance() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            backgroundJobService.submitJob(BackgroundJob.PARTITION_MAINTENANCE, Map.of());
+        } catch (ResourceNotFoundException e) {
+            log.error("Partition maintenance could not be queued", e);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.PartitionMaintenanceDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.repository.PartitionRepositoryCustom;
+import com.crimsonlogic.payrollmanagementsystem.service.PartitionMaintenanceService;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of the PartitionMaintenanceService interface.
+ * Attendance is partitioned on its date, login logs and punch events on their time, so the
+ * date ranges every read of them filters on only scan the partitions of those months.
+ * Converting a plain table rewrites all of its rows under an exclusive lock, so it only
+ * happens when it is switched on, maintenance otherwise leaves plain tables alone.
+ *
+ * @author abdulmanan
+ */
+@Slf4j
+@Service
+public class PartitionMaintenanceServiceImpl implements PartitionMaintenanceService {
+
+    private final PartitionRepositoryCustom partitionRepositoryCustom;
+
+    // Partitioned tables by name
+    private final Map<String, PartitionedTable> partitionedTables = new LinkedHashMap<>();
+
+    // Number of months after the current one that get a partition in advance
+    private final int monthsAhead;
+
+    // Whether a table that is not partitioned yet is converted
+    private final boolean convertTables;
+
+    // Constructor to initialize the repository and the retention of each table
+    public PartitionMaintenanceServiceImpl(PartitionRepositoryCustom partitionRepositoryCustom,
+                                           @Value("${payroll.partitions.months-ahead:3}") int monthsAhead,
+                                           @Value("${payroll.partitions.convert-tables:false}")
+                                           boolean convertTables,
+                                           @Value("${payroll.partitions.attendance.retention-months:0}")
+                                           int attendanceRetentionMonths,
+                                           @Value("${payroll.partitions.login-logs.retention-months:0}")
+                                           int loginLogsRetentionMonths,
+                                           @Value("${payroll.partitions.punch-event.retention-months:0}")
+                                           int punchEventRetentionMonths) {
+        super();
+        this.partitionRepositoryCustom = partitionRepositoryCustom;
+        this.monthsAhead = Math.max(monthsAhead, 0);
+        this.convertTables = convertTables;
+        partitionedTables.put("attendance",
+                new PartitionedTable("attendance_id", "attendance_for_date", attendanceRetentionMonths));
+        partitionedTables.put("login_logs",
+                new PartitionedTable("log_id", "login_time", loginLogsRetentionMonths));
+        partitionedTables.put("punch_event",
+                new PartitionedTable("punch_event_id", "punch_time", punchEventRetentionMonths));
+    }
+
+    @Override
+    public List<String> getPartitionedTables() {
+        return new ArrayList<>(partitionedTables.keySet());
+    }
+
+    @Override
+    @Transactional
+    public PartitionMaintenanceDTO maintainPartitions(String table) throws ResourceNotFoundException {
+        log.info("inside maintainPartitions method");
+        PartitionedTable partitionedTable = partitionedTables.get(table);
+        if (partitionedTable == null) {
+            throw new ResourceNotFoundException("Unknown partitioned table: " + table);
+        }
+        long started = System.nanoTime();
+        partitionRepositoryCustom.lockPartitionMaintenance();
+        YearMonth currentMonth = YearMonth.now();
+        YearMonth lastMonth = currentMonth.plusMonths(monthsAhead);
+
+        // Partition the table the first time, its rows are moved into the monthly partitions
+        boolean converted = !partitionRepositoryCustom.isPartitioned(table);
+        if (converted && !convertTables) {
+            log.warn("{} is not partitioned, set payroll.partitions.convert-tables to partition it", table);
+            return new PartitionMaintenanceDTO(table, false, 0, 0, 0,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        }
+        int created = converted ? partitionRepositoryCustom.convertToPartitioned(table, partitionedTable.idColumn,
+                partitionedTable.partitionColumn, lastMonth) : 0;
+        List<YearMonth> months = partitionRepositoryCustom.findPartitionMonths(table);
+        int partitionCount = months.size();
+
+        // Fill the months since the newest partition, in case maintenance has not run for a while
+        YearMonth month = months.isEmpty() || !months.get(months.size() - 1).isBefore(currentMonth)
+                ? currentMonth : months.get(months.size() - 1).plusMonths(1);
+        for (; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            if (!months.contains(month)) {
+                partitionRepositoryCustom.createPartition(table, partitionedTable.partitionColumn, month);
+                created++;
+                partitionCount++;
+            }
+        }
+
+        int archived = 0;
+        if (partitionedTable.retentionMonths > 0) {
+            YearMonth oldestKept = currentMonth.minusMonths(partitionedTable.retentionMonths);
+            for (YearMonth partitionMonth : months) {
+                if (partitionMonth.isBefore(oldestKept)) {
+                    partitionRepositoryCustom.archivePartition(table, partitionMonth);
+                    archived++;
+                    partitionCount--;
+                }
+            }
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        log.info("Partitions of {}: {} created, {} archived, {} kept, {} ms{}", table, created, archived,
+                partitionCount, elapsedMillis, converted ? ", table partitioned" : "");
+        return new PartitionMaintenanceDTO(table, converted, created, archived, partitionCount, elapsedMillis);
+    }
+
+    // The key columns and retention of a partitioned table, a retention of 0 keeps every partition
+    private static final class PartitionedTable {
+
+        private final String idColumn;
+        private final String partitionColumn;
+        private final int retentionMonths;
+
+        private PartitionedTable(String idColumn, String partitionColumn, int retentionMonths) {
+            this.idColumn = idColumn;
+            this.partitionColumn = partitionColumn;
+            this.retentionMonths = Math.max(retentionMonths, 0);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRecordDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryReleaseDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.JobInterruptedException;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.service.JobContext;
+import com.crimsonlogic.payrollmanagementsystem.service.JobHandler;
+import com.crimsonlogic.payrollmanagementsystem.service.PayrollRunService;
+import com.crimsonlogic.payrollmanagementsystem.service.SalaryRecordService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.DateTimeException;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Job handler computing and releasing the salaries of all active employees for a pay period.
+ * Employees are processed in pages ordered by employee ID and the checkpoint is the last
+ * employee released, a release replaces the records of a page that is run again.
+ *
+ * @author abdulmanan
+ */
+@Slf4j
+@Component
+public class PayrollRunJobHandler implements JobHandler {
+
+    public static final String YEAR = "year";
+    public static final String MONTH = "month";
+
+    private final PayrollRunService payrollRunService;
+    private final SalaryRecordService salaryRecordService;
+
+    // Number of employees computed and released per chunk
+    private final int pageSize;
+
+    // Constructor to initialize the services
+    public PayrollRunJobHandler(PayrollRunService payrollRunService,
+                                SalaryRecordService salaryRecordService,
+                                @Value("${payroll.release.chunk-size:500}") int pageSize) {
+        super();
+        this.payrollRunService = payrollRunService;
+        this.salaryRecordService = salaryRecordService;
+        this.pageSize = Math.max(pageSize, 1);
+    }
+
+    @Override
+    public String getJobType() {
+        return BackgroundJob.PAYROLL_RUN;
+    }
+
+    @Override
+    public Map<String, String> resolveParameters(Map<String, String> parameters) throws ResourceNotFoundException {
+        // A job resumed in a later month still releases the month it was submitted for
+        YearMonth now = YearMonth.now();
+        String year = parameters.get(YEAR) != null ? parameters.get(YEAR) : String.valueOf(now.getYear());
+        String month = parameters.get(MONTH) != null ? parameters.get(MONTH) : String.valueOf(now.getMonthValue());
+        YearMonth yearMonth = toYearMonth(year, month);
+        return Map.of(YEAR, String.valueOf(yearMonth.getYear()), MONTH, String.valueOf(yearMonth.getMonthValue()));
+    }
+
+    @Override
+    public String run(JobContext context) throws ResourceNotFoundException, JobInterruptedException {
+        log.info("inside run method");
+        YearMonth yearMonth = toYearMonth(context.getParameter(YEAR), context.getParameter(MONTH));
+        int totalChunks = (int) Math.ceil(payrollRunService.countPayrollEmployees() / (double) pageSize);
+        boolean resumed = context.getCheckpoint() != null;
+
+        String lastEmployeeId = context.getCheckpoint();
+        int completedChunks = context.getCompletedChunks();
+        int releasedRecords = 0;
+        while (true) {
+            List<SalaryRecordDTO> salaryRecords = payrollRunService.computeSalaries(yearMonth, lastEmployeeId,
+                    pageSize);
+            if (salaryRecords.isEmpty()) {
+                break;
+            }
+            SalaryReleaseDTO salaryRelease = salaryRecordService.releaseSalaries(salaryRecords);
+            releasedRecords += salaryRelease.getReleasedRecords();
+            lastEmployeeId = salaryRecords.get(salaryRecords.size() - 1).getEmployeeId();
+            completedChunks++;
+            context.checkpoint(lastEmployeeId, completedChunks, Math.max(totalChunks, completedChunks));
+        }
+        return "Released " + releasedRecords + " salary records for " + yearMonth
+                + (resumed ? " after resuming." : ".");
+    }
+
+    // Parse the pay period of the job
+    private YearMonth toYearMonth(String year, String month) throws ResourceNotFoundException {
+        try {
+            return YearMonth.of(Integer.parseInt(year), Integer.parseInt(month));
+        } catch (NumberFormatException | DateTimeException e) {
+            throw new ResourceNotFoundException("Invalid pay period: " + year + "-" + month);
+        }
+    }
+}
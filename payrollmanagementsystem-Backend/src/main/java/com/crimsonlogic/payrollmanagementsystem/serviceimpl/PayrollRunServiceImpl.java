@@ -0,0 +1,263 @@
+package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.AttendanceStatus;
+import com.crimsonlogic.payrollmanagementsystem.domain.PayrollRun;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceBitmapDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.EmployeeCountDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.EmployeeHoursDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.PayrollInputDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.PayrollRunDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRecordDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.repository.AttendanceBitmapRepository;
+import com.crimsonlogic.payrollmanagementsystem.repository.AttendanceRepository;
+import com.crimsonlogic.payrollmanagementsystem.repository.PayrollRunRepository;
+import com.crimsonlogic.payrollmanagementsystem.repository.SalaryRepository;
+import com.crimsonlogic.payrollmanagementsystem.service.BonusRuleService;
+import com.crimsonlogic.payrollmanagementsystem.service.PayrollRunService;
+import com.crimsonlogic.payrollmanagementsystem.service.TaxSlabService;
+import com.crimsonlogic.payrollmanagementsystem.service.WorkingCalendarService;
+import com.crimsonlogic.payrollmanagementsystem.util.AttendanceMonthBitmap;
+import com.crimsonlogic.payrollmanagementsystem.util.BonusRuleSet;
+import com.crimsonlogic.payrollmanagementsystem.util.PayrollCalculator;
+import com.crimsonlogic.payrollmanagementsystem.util.TaxSlabTable;
+import com.crimsonlogic.payrollmanagementsystem.util.WorkingCalendar;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation for running payroll for all active employees in one pass.
+ * The inputs of the whole population are loaded with a few grouped queries and the
+ * salaries are then computed in parallel across the available cores. Only the summary
+ * of a completed run is stored, its records are computed again page by page when read.
+ *
+ * @author abdulmanan
+ */
+@Slf4j
+@Service
+public class PayrollRunServiceImpl implements PayrollRunService {
+
+    private final SalaryRepository salaryRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final AttendanceBitmapRepository attendanceBitmapRepository;
+    private final TaxSlabService taxSlabService;
+    private final BonusRuleService bonusRuleService;
+    private final WorkingCalendarService workingCalendarService;
+    private final PayrollRunRepository payrollRunRepository;
+
+    // Constructor to initialize repositories
+    PayrollRunServiceImpl(SalaryRepository salaryRepository,
+                          AttendanceRepository attendanceRepository,
+                          AttendanceBitmapRepository attendanceBitmapRepository,
+                          TaxSlabService taxSlabService,
+                          BonusRuleService bonusRuleService,
+                          WorkingCalendarService workingCalendarService,
+                          PayrollRunRepository payrollRunRepository) {
+        super();
+        this.salaryRepository = salaryRepository;
+        this.attendanceRepository = attendanceRepository;
+        this.attendanceBitmapRepository = attendanceBitmapRepository;
+        this.taxSlabService = taxSlabService;
+        this.bonusRuleService = bonusRuleService;
+        this.workingCalendarService = workingCalendarService;
+        this.payrollRunRepository = payrollRunRepository;
+    }
+
+    @Override
+    public PayrollRunDTO runPayroll(Integer year, Integer month) throws ResourceNotFoundException {
+        log.info("inside runPayroll method");
+        YearMonth yearMonth = toYearMonth(year, month);
+        LocalDate startDate = yearMonth.atDay(1);
+        LocalDate endDate = yearMonth.atEndOfMonth();
+        long startTime = System.nanoTime();
+
+        // Load the inputs of all active employees with grouped queries
+        List<PayrollInputDTO> payrollInputs = salaryRepository.findPayrollInputsForActiveEmployees();
+        Map<String, Long> absentCounts = countAbsences(yearMonth,
+                payrollInputs.stream().map(PayrollInputDTO::getEmployeeId).toList(), true);
+        Map<String, BigDecimal> overtimeHours = sumOvertimeHours(yearMonth, null);
+        BonusRuleSet bonusRuleSet = bonusRuleService.getActiveBonusRuleSet();
+        Map<String, Set<String>> approvedLeaveTypes = bonusRuleService.getApprovedLeaveTypes(bonusRuleSet,
+                yearMonth, null);
+        TaxSlabTable taxSlabTable = taxSlabService.getActiveTaxSlabTable();
+
+        List<SalaryRecordDTO> salaryRecords = calculateSalaries(payrollInputs, yearMonth, absentCounts,
+                overtimeHours, bonusRuleSet, approvedLeaveTypes, taxSlabTable);
+
+        // Only the summary is kept, the records are returned to this caller alone
+        long elapsedNanos = System.nanoTime() - startTime;
+        PayrollRun completedRun = new PayrollRun();
+        completedRun.setPayPeriodStart(startDate);
+        completedRun.setPayPeriodEnd(endDate);
+        completedRun.setEmployeeCount(salaryRecords.size());
+        completedRun.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        completedRun.setEmployeesPerSecond(elapsedNanos == 0 ? 0.0
+                : salaryRecords.size() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+        completedRun.setCompletedAt(LocalDateTime.now());
+        PayrollRunDTO payrollRun = toPayrollRunDTO(payrollRunRepository.save(completedRun));
+        payrollRun.setSalaryRecords(salaryRecords);
+
+        log.info("payroll run {} for {} computed {} employees in {} ms ({} employees/sec)",
+                payrollRun.getRunId(), yearMonth, payrollRun.getEmployeeCount(),
+                payrollRun.getElapsedMillis(), String.format("%.1f", payrollRun.getEmployeesPerSecond()));
+        return payrollRun;
+    }
+
+    @Override
+    public PayrollRunDTO getPayrollRun(String runId) throws ResourceNotFoundException {
+        log.info("inside getPayrollRun method");
+        return payrollRunRepository.findById(runId).map(PayrollRunServiceImpl::toPayrollRunDTO)
+                .orElseThrow(() -> new ResourceNotFoundException("Payroll run not found."));
+    }
+
+    @Override
+    public List<SalaryRecordDTO> getPayrollRunRecords(String runId, String afterEmployeeId, int pageSize)
+            throws ResourceNotFoundException {
+        log.info("inside getPayrollRunRecords method");
+        PayrollRunDTO payrollRun = getPayrollRun(runId);
+        return computeSalaries(YearMonth.from(payrollRun.getPayPeriodStart()), afterEmployeeId, pageSize);
+    }
+
+    @Override
+    public List<SalaryRecordDTO> computeSalaries(YearMonth yearMonth, String afterEmployeeId, int pageSize) {
+        log.info("inside computeSalaries method");
+
+        // Load the inputs of the page, restricting the grouped queries to its employees
+        List<PayrollInputDTO> payrollInputs = salaryRepository.findPayrollInputsForActiveEmployees(
+                afterEmployeeId != null ? afterEmployeeId : "", Limit.of(pageSize));
+        return computeSalaries(yearMonth, payrollInputs);
+    }
+
+    @Override
+    public List<SalaryRecordDTO> computeSalariesOfEmployees(YearMonth yearMonth, Collection<String> employeeIds) {
+        log.info("inside computeSalariesOfEmployees method");
+        return computeSalaries(yearMonth, salaryRepository.findPayrollInputsOfEmployees(employeeIds));
+    }
+
+    // Compute the salaries of the given inputs, restricting the grouped queries to their employees
+    private List<SalaryRecordDTO> computeSalaries(YearMonth yearMonth, List<PayrollInputDTO> payrollInputs) {
+        if (payrollInputs.isEmpty()) {
+            return List.of();
+        }
+        List<String> employeeIds = payrollInputs.stream().map(PayrollInputDTO::getEmployeeId).toList();
+        Map<String, Long> absentCounts = countAbsences(yearMonth, employeeIds, false);
+        Map<String, BigDecimal> overtimeHours = sumOvertimeHours(yearMonth, employeeIds);
+        BonusRuleSet bonusRuleSet = bonusRuleService.getActiveBonusRuleSet();
+        Map<String, Set<String>> approvedLeaveTypes = bonusRuleService.getApprovedLeaveTypes(bonusRuleSet,
+                yearMonth, employeeIds);
+        return calculateSalaries(payrollInputs, yearMonth, absentCounts, overtimeHours, bonusRuleSet,
+                approvedLeaveTypes, taxSlabService.getActiveTaxSlabTable());
+    }
+
+    @Override
+    public long countPayrollEmployees() {
+        log.info("inside countPayrollEmployees method");
+        return salaryRepository.countPayrollInputsForActiveEmployees();
+    }
+
+    // Compute the salaries in parallel, the calculation itself does no I/O
+    private List<SalaryRecordDTO> calculateSalaries(List<PayrollInputDTO> payrollInputs, YearMonth yearMonth,
+                                                    Map<String, Long> absentCounts,
+                                                    Map<String, BigDecimal> overtimeHours, BonusRuleSet bonusRuleSet,
+                                                    Map<String, Set<String>> approvedLeaveTypes,
+                                                    TaxSlabTable taxSlabTable) {
+        WorkingCalendar workingCalendar = workingCalendarService.getCalendar(yearMonth.getYear());
+        return payrollInputs.parallelStream()
+                .filter(input -> input.getCostToCompany() != null)
+                .map(input -> {
+                    long bonusRupees = bonusRuleSet.bonusRupees(yearMonth, input.getDateOfBirth(),
+                            approvedLeaveTypes.getOrDefault(input.getEmployeeId(), Set.of()));
+                    SalaryRecordDTO salaryRecordDTO = PayrollCalculator.calculate(input.getEmployeeId(), yearMonth,
+                            input.getCostToCompany(), input.getJoiningDate(),
+                            absentCounts.getOrDefault(input.getEmployeeId(), 0L), bonusRupees,
+                            overtimeHours.get(input.getEmployeeId()), input.getOvertimeMultiplier(),
+                            workingCalendar, taxSlabTable);
+                    salaryRecordDTO.setFullName(input.getFullName());
+                    salaryRecordDTO.setJoiningDate(input.getJoiningDate());
+                    salaryRecordDTO.setDesignation(input.getDesignation());
+                    return salaryRecordDTO;
+                })
+                .toList();
+    }
+
+    @Override
+    public Map<String, Long> countAbsences(YearMonth yearMonth, Collection<String> employeeIds) {
+        log.info("inside countAbsences method");
+        return countAbsences(yearMonth, List.copyOf(employeeIds), false);
+    }
+
+    // Count the absences of the month per employee from the attendance bitmaps, one row per employee
+    private Map<String, Long> countAbsences(YearMonth yearMonth, List<String> employeeIds, boolean allEmployees) {
+        List<AttendanceBitmapDTO> bitmaps = allEmployees
+                ? attendanceBitmapRepository.findBitmapsForMonth(yearMonth.getYear(), yearMonth.getMonthValue())
+                : attendanceBitmapRepository.findBitmapsForMonth(employeeIds, yearMonth.getYear(),
+                        yearMonth.getMonthValue());
+        Map<String, Long> absentCounts = new HashMap<>();
+        for (AttendanceBitmapDTO bitmap : bitmaps) {
+            absentCounts.put(bitmap.getEmployeeId(),
+                    (long) AttendanceMonthBitmap.of(bitmap).count(AttendanceStatus.ABSENT));
+        }
+
+        // An employee without a bitmap may have records from before the bitmaps, count those instead
+        List<String> missingIds = employeeIds.stream().filter(id -> !absentCounts.containsKey(id)).toList();
+        if (missingIds.isEmpty()) {
+            return absentCounts;
+        }
+        LocalDate startDate = yearMonth.atDay(1);
+        LocalDate endDate = yearMonth.atEndOfMonth();
+        List<EmployeeCountDTO> recordCounts = allEmployees
+                ? attendanceRepository.countAbsencesByEmployee(startDate, endDate)
+                : attendanceRepository.countAbsencesByEmployee(missingIds, startDate, endDate);
+        for (EmployeeCountDTO recordCount : recordCounts) {
+            absentCounts.putIfAbsent(recordCount.getEmployeeId(), recordCount.getCount());
+        }
+        return absentCounts;
+    }
+
+    // Sum the overtime hours of the month per employee, one grouped row per employee with overtime
+    private Map<String, BigDecimal> sumOvertimeHours(YearMonth yearMonth, List<String> employeeIds) {
+        LocalDate startDate = yearMonth.atDay(1);
+        LocalDate endDate = yearMonth.atEndOfMonth();
+        List<EmployeeHoursDTO> overtimeHours = employeeIds == null
+                ? attendanceRepository.sumOvertimeHoursByEmployee(startDate, endDate)
+                : attendanceRepository.sumOvertimeHoursByEmployee(employeeIds, startDate, endDate);
+        return overtimeHours.stream()
+                .collect(Collectors.toMap(EmployeeHoursDTO::getEmployeeId, EmployeeHoursDTO::getHours));
+    }
+
+    // The summary of a run, without its records
+    private static PayrollRunDTO toPayrollRunDTO(PayrollRun payrollRun) {
+        PayrollRunDTO payrollRunDTO = new PayrollRunDTO();
+        payrollRunDTO.setRunId(payrollRun.getRunId());
+        payrollRunDTO.setPayPeriodStart(payrollRun.getPayPeriodStart());
+        payrollRunDTO.setPayPeriodEnd(payrollRun.getPayPeriodEnd());
+        payrollRunDTO.setEmployeeCount(payrollRun.getEmployeeCount());
+        payrollRunDTO.setElapsedMillis(payrollRun.getElapsedMillis());
+        payrollRunDTO.setEmployeesPerSecond(payrollRun.getEmployeesPerSecond());
+        return payrollRunDTO;
+    }
+
+    // Resolve the pay period, defaulting to the current month
+    private YearMonth toYearMonth(Integer year, Integer month) throws ResourceNotFoundException {
+        YearMonth now = YearMonth.now();
+        try {
+            return YearMonth.of(year != null ? year : now.getYear(), month != null ? month : now.getMonthValue());
+        } catch (DateTimeException e) {
+            throw new ResourceNotFoundException("Invalid pay period: " + year + "-" + month);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.PayslipDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.repository.SalaryRecordRepository;
+import com.crimsonlogic.payrollmanagementsystem.service.PayslipService;
+import com.crimsonlogic.payrollmanagementsystem.service.WorkingCalendarService;
+import com.crimsonlogic.payrollmanagementsystem.util.PayrollCalculator;
+import com.crimsonlogic.payrollmanagementsystem.util.PayslipRenderer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Implementation of the PayslipService interface.
+ * Payslips are read page by page, rendered on a fixed pool of threads shared by all
+ * downloads and written to the archive in employee order, so a month-end download
+ * keeps a bounded number of documents in memory however many employees are paid.
+ *
+ * @author abdulmanan
+ */
+@Slf4j
+@Service
+public class PayslipServiceImpl implements PayslipService {
+
+    // Number of payslips read per query
+    private static final int PAGE_SIZE = 500;
+
+    private final SalaryRecordRepository salaryRecordRepository;
+    private final WorkingCalendarService workingCalendarService;
+    private final ExecutorService renderPool;
+
+    // Number of payslips a download may have rendered but not yet written
+    private final int maxInFlight;
+
+    // Constructor to initialize the repository and the rendering pool
+    public PayslipServiceImpl(SalaryRecordRepository salaryRecordRepository,
+                              WorkingCalendarService workingCalendarService,
+                              @Value("${payroll.payslip.threads:0}") int threads) {
+        super();
+        this.salaryRecordRepository = salaryRecordRepository;
+        this.workingCalendarService = workingCalendarService;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.renderPool = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "payslip-renderer-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.maxInFlight = poolSize * 2;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renderPool.shutdownNow();
+    }
+
+    @Override
+    public LocalDate getReleasedPayPeriod(Integer year, Integer month) throws ResourceNotFoundException {
+        log.info("inside getReleasedPayPeriod method");
+        if (year == null || month == null) {
+            throw new ResourceNotFoundException("Invalid month.");
+        }
+        LocalDate payPeriodStart;
+        try {
+            payPeriodStart = LocalDate.of(year, month, 1);
+        } catch (DateTimeException e) {
+            throw new ResourceNotFoundException("Invalid month.");
+        }
+        if (!salaryRecordRepository.existsByPayPeriodStart(payPeriodStart)) {
+            throw new ResourceNotFoundException("No salary released for the pay period.");
+        }
+        return payPeriodStart;
+    }
+
+    @Override
+    public int writePayslipArchive(LocalDate payPeriodStart, OutputStream outputStream) throws IOException {
+        log.info("inside writePayslipArchive method");
+        long startTime = System.nanoTime();
+        YearMonth yearMonth = YearMonth.from(payPeriodStart);
+        String payMonth = yearMonth.toString();
+        // The working days the absence penalty of every payslip of the month was based on
+        int workingDays = PayrollCalculator.workingDays(workingCalendarService.getCalendar(yearMonth.getYear()),
+                yearMonth);
+        ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream);
+        // The page content of the documents is compressed already
+        zipOutputStream.setLevel(Deflater.BEST_SPEED);
+
+        Deque<Map.Entry<String, Future<byte[]>>> inFlight = new ArrayDeque<>();
+        int written = 0;
+        try {
+            String lastEmployeeId = "";
+            List<PayslipDTO> page;
+            do {
+                page = salaryRecordRepository.findPayslips(payPeriodStart, lastEmployeeId, Limit.of(PAGE_SIZE));
+                for (PayslipDTO payslip : page) {
+                    if (inFlight.size() >= maxInFlight) {
+                        writeEntry(zipOutputStream, inFlight.poll());
+                        written++;
+                    }
+                    inFlight.add(Map.entry("payslip_" + payslip.getEmployeeId() + "_" + payMonth + ".pdf",
+                            renderPool.submit(() -> PayslipRenderer.render(payslip, workingDays))));
+                    lastEmployeeId = payslip.getEmployeeId();
+                }
+            } while (page.size() == PAGE_SIZE);
+
+            while (!inFlight.isEmpty()) {
+                writeEntry(zipOutputStream, inFlight.poll());
+                written++;
+            }
+            zipOutputStream.finish();
+        } finally {
+            // A failed or aborted download leaves nothing rendering for it
+            inFlight.forEach(entry -> entry.getValue().cancel(true));
+        }
+        log.info("wrote {} payslips of {} in {} ms", written, payMonth,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        return written;
+    }
+
+    // Wait for a rendered payslip and add it to the archive
+    private static void writeEntry(ZipOutputStream zipOutputStream, Map.Entry<String, Future<byte[]>> payslip)
+            throws IOException {
+        byte[] document;
+        try {
+            document = payslip.getValue().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while rendering " + payslip.getKey());
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to render " + payslip.getKey(), e.getCause());
+        }
+        zipOutputStream.putNextEntry(new ZipEntry(payslip.getKey()));
+        zipOutputStream.write(document);
+        zipOutputStream.closeEntry();
+    }
+}
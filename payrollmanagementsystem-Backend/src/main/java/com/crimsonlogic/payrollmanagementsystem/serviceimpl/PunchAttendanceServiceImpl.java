@@ -0,0 +1,150 @@
+package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.AttendanceStatus;
+import com.crimsonlogic.payrollmanagementsystem.domain.PunchEvent;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.PunchEventDTO;
+import com.crimsonlogic.payrollmanagementsystem.repository.PunchEventRepositoryCustom;
+import com.crimsonlogic.payrollmanagementsystem.service.AttendanceSummaryService;
+import com.crimsonlogic.payrollmanagementsystem.service.PunchAttendanceService;
+import com.crimsonlogic.payrollmanagementsystem.util.PunchHours;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of the PunchAttendanceService interface.
+ * A batch of events is stored with batched inserts, then the punches of the touched
+ * employee-days are read back in one query and folded into their hours, so the
+ * attendance of a day is correct however its events were split across batches.
+ *
+ * @author abdulmanan
+ */
+@Slf4j
+@Service
+public class PunchAttendanceServiceImpl implements PunchAttendanceService {
+
+    private final PunchEventRepositoryCustom punchEventRepositoryCustom;
+    private final AttendanceSummaryService attendanceSummaryService;
+
+    // Hours of a standard day, the hours beyond it are overtime
+    private final BigDecimal standardHours;
+
+    // Number of rows sent per JDBC batch
+    private final int batchSize;
+
+    // Constructor to initialize the repository and the settings
+    public PunchAttendanceServiceImpl(PunchEventRepositoryCustom punchEventRepositoryCustom,
+                                      AttendanceSummaryService attendanceSummaryService,
+                                      @Value("${payroll.punches.standard-hours:8}") BigDecimal standardHours,
+                                      @Value("${payroll.punches.batch-size:1000}") int batchSize) {
+        super();
+        this.punchEventRepositoryCustom = punchEventRepositoryCustom;
+        this.attendanceSummaryService = attendanceSummaryService;
+        this.standardHours = standardHours;
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    @Override
+    @Transactional
+    public int recordPunchEvents(List<PunchEventDTO> punchEvents) {
+        log.info("inside recordPunchEvents method");
+        if (punchEvents.isEmpty()) {
+            return 0;
+        }
+        long started = System.nanoTime();
+        int stored = punchEventRepositoryCustom.insertPunchEvents(punchEvents, batchSize);
+
+        // The days touched per employee, a clock-out may end a shift that started the day before
+        Map<String, SortedSet<LocalDate>> touchedDays = new LinkedHashMap<>();
+        LocalDate firstDay = null;
+        LocalDate lastDay = null;
+        for (PunchEventDTO punchEvent : punchEvents) {
+            LocalDate day = punchEvent.getPunchTime().toLocalDate();
+            SortedSet<LocalDate> days = touchedDays.computeIfAbsent(punchEvent.getEmployeeId(),
+                    key -> new TreeSet<>());
+            days.add(day);
+            if (PunchEvent.OUT.equals(punchEvent.getDirection())) {
+                days.add(day.minusDays(1));
+            }
+            firstDay = firstDay == null || days.first().isBefore(firstDay) ? days.first() : firstDay;
+            lastDay = lastDay == null || days.last().isAfter(lastDay) ? days.last() : lastDay;
+        }
+
+        // Another batch or a manual mark of the same days waits until this one commits, so the
+        // punches and the attendance read below hold everything they wrote
+        punchEventRepositoryCustom.lockAttendanceDays(touchedDays);
+
+        // The shifts of the last day may end on the next day
+        Map<String, List<PunchEventDTO>> punchesByEmployee = new HashMap<>();
+        for (PunchEventDTO punch : punchEventRepositoryCustom.findPunchEvents(touchedDays.keySet(),
+                firstDay.atStartOfDay(), lastDay.plusDays(2).atStartOfDay())) {
+            punchesByEmployee.computeIfAbsent(punch.getEmployeeId(), key -> new ArrayList<>()).add(punch);
+        }
+        Map<String, AttendanceDTO> attendanceByDay = new HashMap<>();
+        for (AttendanceDTO attendance : punchEventRepositoryCustom.findAttendance(touchedDays.keySet(), firstDay,
+                lastDay)) {
+            attendanceByDay.putIfAbsent(attendance.getAttendanceByEmployee() + "|" + attendance.getAttendanceForDate(),
+                    attendance);
+        }
+
+        List<AttendanceDTO> added = new ArrayList<>();
+        List<AttendanceDTO> previous = new ArrayList<>();
+        List<AttendanceDTO> updated = new ArrayList<>();
+        touchedDays.forEach((employeeId, days) -> {
+            Map<LocalDate, BigDecimal> workedHours = PunchHours.workedHours(
+                    punchesByEmployee.getOrDefault(employeeId, List.of()));
+            for (LocalDate day : days) {
+                BigDecimal totalHours = workedHours.get(day);
+                if (totalHours == null) {
+                    continue;
+                }
+                BigDecimal overtimeHours = PunchHours.overtimeHours(totalHours, standardHours);
+                AttendanceDTO attendance = attendanceByDay.get(employeeId + "|" + day);
+                if (attendance == null) {
+                    added.add(new AttendanceDTO(null, day, overtimeHours, totalHours,
+                            AttendanceStatus.PRESENT.getLabel(), employeeId));
+                } else if (attendance.getTotalHours() == null || attendance.getTotalHours().compareTo(totalHours) != 0
+                        || attendance.getOvertimeHours() == null
+                        || attendance.getOvertimeHours().compareTo(overtimeHours) != 0) {
+                    // The status of an existing record is kept, a leave or a manual mark stays as it is
+                    previous.add(attendance);
+                    updated.add(new AttendanceDTO(attendance.getAttendanceId(), day, overtimeHours, totalHours,
+                            attendance.getStatus(), employeeId));
+                }
+            }
+        });
+
+        if (!added.isEmpty()) {
+            punchEventRepositoryCustom.insertAttendance(added, batchSize);
+            attendanceSummaryService.recordAttendance(added);
+        }
+        if (!updated.isEmpty()) {
+            punchEventRepositoryCustom.updateAttendanceHours(updated, batchSize);
+            attendanceSummaryService.replaceAttendance(previous, updated);
+        }
+        log.info("Stored {} of {} punch events, {} attendance records added and {} updated in {} ms", stored,
+                punchEvents.size(), added.size(), updated.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return stored;
+    }
+
+    @Override
+    @Transactional
+    public void recordFailedPunchEvents(List<PunchEventDTO> punchEvents, String errorMessage) {
+        log.info("inside recordFailedPunchEvents method");
+        punchEventRepositoryCustom.insertDeadLetters(punchEvents, errorMessage);
+    }
+}
@@ -0,0 +1,166 @@
+package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.PunchEvent;
+import com.crimsonlogic.payrollmanagementsystem.dto.PunchEventDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.PunchIngestionDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.QueueFullException;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.service.PunchAttendanceService;
+import com.crimsonlogic.payrollmanagementsystem.service.PunchEventService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Implementation of the PunchEventService interface.
+ * Requests only validate their events and add them to a bounded in-memory queue, no
+ * database connection is taken per request. The queue is drained on a fixed delay
+ * in batches, each written in one transaction, and a batch that fails is retried on
+ * the next flush before newer events. A batch that keeps failing is split in halves
+ * until the failing events are alone, and those are kept in the dead-letter table.
+ *
+ * @author abdulmanan
+ */
+@Slf4j
+@Service
+public class PunchEventServiceImpl implements PunchEventService {
+
+    private final PunchAttendanceService punchAttendanceService;
+    private final BlockingQueue<PunchEventDTO> queue;
+
+    // Number of events written per transaction
+    private final int batchSize;
+
+    // Number of times a batch is written before it is split, or a single event is dead-lettered
+    private final int maxAttempts;
+
+    // Batches taken from the queue and not written yet, the first one is written next.
+    // Guarded by the flush lock.
+    private final Deque<List<PunchEventDTO>> pendingBatches = new ArrayDeque<>();
+    private int failedAttempts;
+
+    // Constructor to initialize the service and the queue
+    public PunchEventServiceImpl(PunchAttendanceService punchAttendanceService,
+                                 @Value("${payroll.punches.queue-capacity:50000}") int queueCapacity,
+                                 @Value("${payroll.punches.batch-size:1000}") int batchSize,
+                                 @Value("${payroll.punches.max-attempts:3}") int maxAttempts) {
+        super();
+        this.punchAttendanceService = punchAttendanceService;
+        this.queue = new ArrayBlockingQueue<>(Math.max(queueCapacity, 1));
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxAttempts = Math.max(maxAttempts, 1);
+    }
+
+    @Override
+    public PunchIngestionDTO submitPunchEvents(List<PunchEventDTO> punchEvents)
+            throws ResourceNotFoundException, QueueFullException {
+        log.info("inside submitPunchEvents method");
+        if (punchEvents == null || punchEvents.isEmpty()) {
+            throw new ResourceNotFoundException("No punch events given.");
+        }
+        LocalDateTime receivedAt = LocalDateTime.now();
+        List<PunchEventDTO> accepted = new ArrayList<>(punchEvents.size());
+        for (PunchEventDTO punchEvent : punchEvents) {
+            accepted.add(validate(punchEvent, receivedAt));
+        }
+
+        // Checked and added under one lock so concurrent batches cannot overfill the queue
+        synchronized (queue) {
+            if (queue.remainingCapacity() < accepted.size()) {
+                throw new QueueFullException("Punch event queue is full, retry the batch later.");
+            }
+            queue.addAll(accepted);
+        }
+        return new PunchIngestionDTO(accepted.size(), queue.size(), queue.remainingCapacity());
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${payroll.punches.flush-interval:500}")
+    public synchronized void flushPunchEvents() {
+        while (true) {
+            if (pendingBatches.isEmpty()) {
+                List<PunchEventDTO> batch = new ArrayList<>();
+                if (queue.drainTo(batch, batchSize) == 0) {
+                    return;
+                }
+                pendingBatches.add(batch);
+            }
+            List<PunchEventDTO> batch = pendingBatches.peekFirst();
+            try {
+                punchAttendanceService.recordPunchEvents(batch);
+                pendingBatches.removeFirst();
+                failedAttempts = 0;
+            } catch (RuntimeException e) {
+                failedAttempts++;
+                if (failedAttempts < maxAttempts) {
+                    log.warn("Writing {} punch events failed, retrying on the next flush", batch.size(), e);
+                    return;
+                }
+                if (batch.size() > 1) {
+                    splitFailedBatch(batch, e);
+                } else if (!deadLetter(batch, e)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // Replace a batch that keeps failing by its halves, each written on its own
+    private void splitFailedBatch(List<PunchEventDTO> batch, RuntimeException e) {
+        log.warn("Writing {} punch events failed {} times, splitting the batch", batch.size(), failedAttempts, e);
+        pendingBatches.removeFirst();
+        int middle = batch.size() / 2;
+        pendingBatches.addFirst(new ArrayList<>(batch.subList(middle, batch.size())));
+        pendingBatches.addFirst(new ArrayList<>(batch.subList(0, middle)));
+        failedAttempts = 0;
+    }
+
+    // Move an event that keeps failing to the dead-letter table, it stays pending if that fails too
+    private boolean deadLetter(List<PunchEventDTO> batch, RuntimeException e) {
+        try {
+            punchAttendanceService.recordFailedPunchEvents(batch, String.valueOf(e.getMessage()));
+        } catch (RuntimeException deadLetterFailure) {
+            log.error("Dead-lettering a punch event of {} failed, retrying on the next flush",
+                    batch.get(0).getEmployeeId(), deadLetterFailure);
+            return false;
+        }
+        log.error("Moved a punch event of {} to the dead-letter table after {} attempts",
+                batch.get(0).getEmployeeId(), failedAttempts, e);
+        pendingBatches.removeFirst();
+        failedAttempts = 0;
+        return true;
+    }
+
+    /**
+     * Writes the events still queued when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flushPunchEvents();
+    }
+
+    // Check the required fields of an event and normalize its direction
+    private static PunchEventDTO validate(PunchEventDTO punchEvent, LocalDateTime receivedAt)
+            throws ResourceNotFoundException {
+        if (punchEvent == null || punchEvent.getEmployeeId() == null || punchEvent.getEmployeeId().isBlank()
+                || punchEvent.getPunchTime() == null || punchEvent.getDirection() == null) {
+            throw new ResourceNotFoundException("Punch event needs an employee, a time and a direction.");
+        }
+        String direction = punchEvent.getDirection().trim().toUpperCase();
+        if (!PunchEvent.IN.equals(direction) && !PunchEvent.OUT.equals(direction)) {
+            throw new ResourceNotFoundException("Unknown punch direction: " + punchEvent.getDirection());
+        }
+        return new PunchEventDTO(punchEvent.getEmployeeId().trim(), punchEvent.getPunchTime(), direction,
+                punchEvent.getDeviceId(), receivedAt);
+    }
+}
@@ -0,0 +1,93 @@
+package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.exception.JobInterruptedException;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.service.JobContext;
+import com.crimsonlogic.payrollmanagementsystem.service.JobHandler;
+import com.crimsonlogic.payrollmanagementsystem.service.RegularizationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Job handler regularizing the attendance of all employees, one month per chunk.
+ * Each month moves the watermarks of the employees forward, so a resumed job
+ * starts again after the last regularized month without relying on its checkpoint.
+ *
+ * @author abdulmanan
+ */
+@Slf4j
+@Component
+public class RegularizationJobHandler implements JobHandler {
+
+    public static final String END_DATE = "endDate";
+
+    private final RegularizationService regularizationService;
+
+    // Constructor to initialize the regularization service
+    RegularizationJobHandler(RegularizationService regularizationService) {
+        super();
+        this.regularizationService = regularizationService;
+    }
+
+    @Override
+    public String getJobType() {
+        return BackgroundJob.REGULARIZATION;
+    }
+
+    @Override
+    public Map<String, String> resolveParameters(Map<String, String> parameters) throws ResourceNotFoundException {
+        // Today is not over yet, a job resumed on a later day still stops where it was submitted
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate endDate = parameters.get(END_DATE) != null ? toDate(parameters.get(END_DATE)) : yesterday;
+        if (endDate.isAfter(yesterday)) {
+            throw new ResourceNotFoundException("Invalid date range.");
+        }
+        return Map.of(END_DATE, endDate.toString());
+    }
+
+    @Override
+    public String run(JobContext context) throws ResourceNotFoundException, JobInterruptedException {
+        log.info("inside run method");
+        long started = System.nanoTime();
+        LocalDate endDate = toDate(context.getParameter(END_DATE));
+        LocalDate startDate = regularizationService.findRegularizationStart(endDate);
+        if (startDate == null) {
+            return "Attendance already regularized through " + endDate + ".";
+        }
+
+        YearMonth lastMonth = YearMonth.from(endDate);
+        int completedChunks = context.getCompletedChunks();
+        int totalChunks = completedChunks + (int) ChronoUnit.MONTHS.between(YearMonth.from(startDate), lastMonth) + 1;
+        int regularized = 0;
+        for (YearMonth month = YearMonth.from(startDate); !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            LocalDate monthStart = month.atDay(1);
+            LocalDate monthEnd = month.atEndOfMonth();
+            regularized += regularizationService.regularize(monthStart.isBefore(startDate) ? startDate : monthStart,
+                    monthEnd.isAfter(endDate) ? endDate : monthEnd);
+            completedChunks++;
+            context.checkpoint(month.toString(), completedChunks, totalChunks);
+        }
+        return "Regularized " + regularized + " absences from " + startDate + " to " + endDate + " in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) + " ms.";
+    }
+
+    // Parse the end date of the job
+    private static LocalDate toDate(String date) throws ResourceNotFoundException {
+        if (date == null) {
+            throw new ResourceNotFoundException("Invalid date range.");
+        }
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new ResourceNotFoundException("Invalid date range.");
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO;
+import com.crimsonlogic.payrollmanagementsystem.repository.RegularizationRepositoryCustom;
+import com.crimsonlogic.payrollmanagementsystem.service.AttendanceSummaryService;
+import com.crimsonlogic.payrollmanagementsystem.service.RegularizationService;
+import com.crimsonlogic.payrollmanagementsystem.service.WorkingCalendarService;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of the RegularizationService interface.
+ * The missing working days are found in one query per range and inserted in batches,
+ * and the new absences are added to the monthly rollups and bitmaps as they are written.
+ *
+ * @author abdulmanan
+ */
+@Slf4j
+@Service
+public class RegularizationServiceImpl implements RegularizationService {
+
+    private final RegularizationRepositoryCustom regularizationRepositoryCustom;
+    private final AttendanceSummaryService attendanceSummaryService;
+    private final WorkingCalendarService workingCalendarService;
+
+    // Months before the current one regularized for an employee without a watermark
+    private final int lookbackMonths;
+
+    // Number of absences sent per insert batch
+    private final int batchSize;
+
+    // Constructor to initialize the repository and the settings
+    public RegularizationServiceImpl(RegularizationRepositoryCustom regularizationRepositoryCustom,
+                                     AttendanceSummaryService attendanceSummaryService,
+                                     WorkingCalendarService workingCalendarService,
+                                     @Value("${payroll.regularization.lookback-months:1}") int lookbackMonths,
+                                     @Value("${payroll.regularization.batch-size:500}") int batchSize) {
+        super();
+        this.regularizationRepositoryCustom = regularizationRepositoryCustom;
+        this.attendanceSummaryService = attendanceSummaryService;
+        this.workingCalendarService = workingCalendarService;
+        this.lookbackMonths = Math.max(lookbackMonths, 0);
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    @Override
+    public LocalDate findRegularizationStart(LocalDate endDate) {
+        log.info("inside findRegularizationStart method");
+        LocalDate startDate = regularizationRepositoryCustom.findRegularizationStart(initialDate());
+        return startDate != null && !startDate.isAfter(endDate) ? startDate : null;
+    }
+
+    @Override
+    @Transactional
+    public int regularize(LocalDate startDate, LocalDate endDate) {
+        log.info("inside regularize method");
+        long started = System.nanoTime();
+        regularizationRepositoryCustom.lockRegularization();
+
+        // Weekly days off and holidays are never marked absent
+        List<LocalDate> workingDays = workingCalendarService.getWorkingDays(startDate, endDate);
+        List<AttendanceDTO> absences = regularizationRepositoryCustom.findMissingAttendance(workingDays,
+                initialDate());
+        if (!absences.isEmpty()) {
+            regularizationRepositoryCustom.insertAttendance(absences, batchSize);
+            attendanceSummaryService.recordAttendance(absences);
+        }
+        regularizationRepositoryCustom.advanceWatermarks(endDate);
+
+        log.info("Regularized {} absences from {} to {} in {} ms", absences.size(), startDate, endDate,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return absences.size();
+    }
+
+    // The first day regularized for an employee without a watermark
+    private LocalDate initialDate() {
+        return LocalDate.now().minusMonths(lookbackMonths).withDayOfMonth(1);
+    }
+}
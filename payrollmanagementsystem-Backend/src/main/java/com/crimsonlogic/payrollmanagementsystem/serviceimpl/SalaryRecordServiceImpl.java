@@ -1,33 +1,51 @@
 package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
 
 import com.crimsonlogic.payrollmanagementsystem.domain.Employees;
-import com.crimsonlogic.payrollmanagementsystem.domain.LeaveRequest;
-import com.crimsonlogic.payrollmanagementsystem.domain.LeaveType;
 import com.crimsonlogic.payrollmanagementsystem.domain.SalaryRecord;
+import com.crimsonlogic.payrollmanagementsystem.domain.SalaryRollup;
+import com.crimsonlogic.payrollmanagementsystem.dto.ChunkTimingDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.EmployeeHoursDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryPreviewCacheStatsDTO;
 import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRecordDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryReleaseDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryTotalsDTO;
 import com.crimsonlogic.payrollmanagementsystem.dto.TaxResponseDTO;
 import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
 import com.crimsonlogic.payrollmanagementsystem.mapper.Mapper;
 import com.crimsonlogic.payrollmanagementsystem.repository.EmployeesRepository;
-import com.crimsonlogic.payrollmanagementsystem.repository.LeaveRequestRepository;
-import com.crimsonlogic.payrollmanagementsystem.repository.LeaveTypeRepository;
 import com.crimsonlogic.payrollmanagementsystem.repository.SalaryRecordRepository;
+import com.crimsonlogic.payrollmanagementsystem.repository.SalaryRecordRepositoryCustom;
 import com.crimsonlogic.payrollmanagementsystem.repository.AttendanceRepository;
 import com.crimsonlogic.payrollmanagementsystem.repository.SalaryRepository;
+import com.crimsonlogic.payrollmanagementsystem.repository.SalaryRollupRepository;
+import com.crimsonlogic.payrollmanagementsystem.service.BonusRuleService;
+import com.crimsonlogic.payrollmanagementsystem.service.PayrollRunService;
 import com.crimsonlogic.payrollmanagementsystem.service.SalaryRecordService;
+import com.crimsonlogic.payrollmanagementsystem.service.SalaryRollupService;
+import com.crimsonlogic.payrollmanagementsystem.service.TaxSlabService;
+import com.crimsonlogic.payrollmanagementsystem.service.WorkingCalendarService;
+import com.crimsonlogic.payrollmanagementsystem.util.BonusRuleSet;
+import com.crimsonlogic.payrollmanagementsystem.util.PayrollCalculator;
+import com.crimsonlogic.payrollmanagementsystem.util.ReportPeriod;
+import com.crimsonlogic.payrollmanagementsystem.util.SalaryPreviewCache;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.time.Month;
 import java.time.Year;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service implementation for handling salary records and related operations.
@@ -38,32 +56,52 @@ import java.util.Map;
 @Slf4j
 public class SalaryRecordServiceImpl implements SalaryRecordService {
 
-    // Constants for different types of deductions
-    private static final String PENALTY = "penaltyAmount";
-    private static final String PF = "pfAmount";
-    private static final String TAX = "taxAmount";
-
     private static final String EMPLOYEE_NOT_FOUND ="Employee not found.";
 
-    private final LeaveTypeRepository leaveTypeRepository;
-    private final LeaveRequestRepository leaveRequestRepository;
     private final SalaryRecordRepository salaryRecordRepository;
     private final EmployeesRepository employeesRepository;
     private final AttendanceRepository attendanceRepository;
     private final SalaryRepository salaryRepository;
+    private final SalaryRecordRepositoryCustom salaryRecordRepositoryCustom;
+    private final PayrollRunService payrollRunService;
+    private final TransactionTemplate transactionTemplate;
+    private final TaxSlabService taxSlabService;
+    private final SalaryPreviewCache salaryPreviewCache;
+    private final SalaryRollupService salaryRollupService;
+    private final SalaryRollupRepository salaryRollupRepository;
+    private final BonusRuleService bonusRuleService;
+    private final WorkingCalendarService workingCalendarService;
+
+    // Number of salary records written per transaction by the bulk release
+    @Value("${payroll.release.chunk-size:500}")
+    private int releaseChunkSize;
 
     // Constructor to initialize repositories
     SalaryRecordServiceImpl(SalaryRecordRepository salaryRecordRepository, EmployeesRepository employeesRepository,
                             AttendanceRepository attendanceRepository, SalaryRepository salaryRepository,
-                            LeaveRequestRepository leaveRequestRepository,
-                            LeaveTypeRepository leaveTypeRepository) {
+                            SalaryRecordRepositoryCustom salaryRecordRepositoryCustom,
+                            PayrollRunService payrollRunService,
+                            TransactionTemplate transactionTemplate,
+                            TaxSlabService taxSlabService,
+                            SalaryPreviewCache salaryPreviewCache,
+                            SalaryRollupService salaryRollupService,
+                            SalaryRollupRepository salaryRollupRepository,
+                            BonusRuleService bonusRuleService,
+                            WorkingCalendarService workingCalendarService) {
         super();
         this.salaryRecordRepository = salaryRecordRepository;
         this.employeesRepository = employeesRepository;
         this.attendanceRepository = attendanceRepository;
         this.salaryRepository = salaryRepository;
-        this.leaveRequestRepository = leaveRequestRepository;
-        this.leaveTypeRepository = leaveTypeRepository;
+        this.salaryRecordRepositoryCustom = salaryRecordRepositoryCustom;
+        this.payrollRunService = payrollRunService;
+        this.transactionTemplate = transactionTemplate;
+        this.taxSlabService = taxSlabService;
+        this.salaryPreviewCache = salaryPreviewCache;
+        this.salaryRollupService = salaryRollupService;
+        this.salaryRollupRepository = salaryRollupRepository;
+        this.bonusRuleService = bonusRuleService;
+        this.workingCalendarService = workingCalendarService;
     }
 
     @Override
@@ -74,33 +112,128 @@ public class SalaryRecordServiceImpl implements SalaryRecordService {
                 .map(employee -> {
                     List<SalaryRecord> salaryRecordList = salaryRecordRepository.findBySalaryRecordOfEmployee(employee);
                     return salaryRecordList.stream()
-                            .map(salaryRecord -> {
-                                SalaryRecordDTO salaryRecordDTO = Mapper.INSTANCE.entityToDtoSalaryRecord(salaryRecord);
-                                // Set additional employee details in the DTO
-                                salaryRecordDTO.setFullName(employee.getFullName());
-                                salaryRecordDTO.setJoiningDate(employee.getJoiningDate());
-                                salaryRecordDTO.setDesignation(employee.getDesignation().getDesignationName());
-                                return salaryRecordDTO;
-                            })
+                            .map(salaryRecord -> getEmployeeSalaryRecordDTO(employee, salaryRecord))
                             .toList();
                 })
                 .orElseGet(ArrayList::new); // Return empty list if employee not found
     }
 
     @Override
+    public List<SalaryRecordDTO> getSalaryRecordsByPeriod(String employeeId, LocalDate startDate, LocalDate endDate,
+                                                          Integer fiscalYear) throws ResourceNotFoundException {
+        log.info("inside getSalaryRecordsByPeriod method");
+        ReportPeriod period = ReportPeriod.resolve(startDate, endDate, fiscalYear);
+        Employees employee = employeesRepository.findById(employeeId)
+                .orElseThrow(() -> new ResourceNotFoundException(EMPLOYEE_NOT_FOUND));
+
+        // One range scan of the employee's records, however many years the period spans
+        return salaryRecordRepository.findBySalaryRecordOfEmployeeAndPayPeriodStartBetweenOrderByPayPeriodStartAsc(
+                        employee, period.getStartDate(), period.getEndDate())
+                .stream()
+                .map(salaryRecord -> getEmployeeSalaryRecordDTO(employee, salaryRecord))
+                .toList();
+    }
+
+    @Override
+    @Transactional
     public void releaseSalaryForEmployee(SalaryRecordDTO salaryRecordDTO)
             throws ResourceNotFoundException {
         log.info("inside releaseSalaryForEmployee method");
         // Validate employee existence before releasing salary
         Employees employee = employeesRepository.findById(salaryRecordDTO.getEmployeeId())
                 .orElseThrow(() -> new ResourceNotFoundException(EMPLOYEE_NOT_FOUND));
+        if (salaryRecordDTO.getPayPeriodStart() == null) {
+            throw new ResourceNotFoundException("Pay period not found.");
+        }
+
+        // Release the server-side preview of the pay period, the amounts of the payload are not trusted
+        SalaryRecordDTO preview = getSalaryPreview(employee, YearMonth.from(salaryRecordDTO.getPayPeriodStart()));
 
-        // Map DTO to entity and save salary record
-        SalaryRecord salaryRecord = Mapper.INSTANCE.dtoToEntityForSalaryRecord(salaryRecordDTO);
+        // Map DTO to entity, replacing the record already released for the same pay period
+        SalaryRecord salaryRecord = Mapper.INSTANCE.dtoToEntityForSalaryRecord(preview);
+        SalaryRecord releasedRecord = salaryRecordRepository
+                .findBySalaryRecordOfEmployeeAndPayPeriodStart(employee, preview.getPayPeriodStart());
+        if (releasedRecord != null) {
+            salaryRecord.setSalaryRecordId(releasedRecord.getSalaryRecordId());
+        }
         salaryRecord.setSalaryRecordOfEmployee(employee);
+        salaryRollupService.recordSalaryReleases(List.of(preview));
         salaryRecordRepository.save(salaryRecord);
     }
 
+    @Override
+    public SalaryReleaseDTO releaseSalaries(List<SalaryRecordDTO> salaryRecordDTOs) {
+        log.info("inside releaseSalaries method");
+        long startTime = System.nanoTime();
+        SalaryReleaseDTO salaryReleaseDTO = new SalaryReleaseDTO();
+        salaryReleaseDTO.setTotalRecords(salaryRecordDTOs.size());
+        salaryReleaseDTO.setChunkSize(releaseChunkSize);
+
+        // Keep one record per employee and pay period, a batch may not update the same row twice
+        Map<String, SalaryRecordDTO> uniqueRecords = new LinkedHashMap<>();
+        for (SalaryRecordDTO salaryRecordDTO : salaryRecordDTOs) {
+            if (salaryRecordDTO.getEmployeeId() == null || salaryRecordDTO.getPayPeriodStart() == null) {
+                salaryReleaseDTO.getRejectedEmployeeIds().add(salaryRecordDTO.getEmployeeId());
+            } else {
+                uniqueRecords.put(salaryRecordDTO.getEmployeeId() + "|"
+                        + YearMonth.from(salaryRecordDTO.getPayPeriodStart()), salaryRecordDTO);
+            }
+        }
+
+        // Write the records chunk by chunk, each chunk in its own transaction
+        List<SalaryRecordDTO> records = new ArrayList<>(uniqueRecords.values());
+        int releasedRecords = 0;
+        for (int from = 0; from < records.size(); from += releaseChunkSize) {
+            List<SalaryRecordDTO> chunk = records.subList(from, Math.min(from + releaseChunkSize, records.size()));
+            long chunkStartTime = System.nanoTime();
+            Integer chunkReleased = transactionTemplate.execute(status ->
+                    releaseChunk(chunk, salaryReleaseDTO.getRejectedEmployeeIds()));
+            releasedRecords += chunkReleased != null ? chunkReleased : 0;
+            salaryReleaseDTO.getChunkTimings().add(new ChunkTimingDTO(salaryReleaseDTO.getChunkTimings().size() + 1,
+                    chunk.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - chunkStartTime)));
+        }
+
+        salaryReleaseDTO.setReleasedRecords(releasedRecords);
+        salaryReleaseDTO.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        log.info("released {} of {} salary records in {} chunks in {} ms", releasedRecords,
+                salaryRecordDTOs.size(), salaryReleaseDTO.getChunkTimings().size(), salaryReleaseDTO.getElapsedMillis());
+        return salaryReleaseDTO;
+    }
+
+    @Override
+    public SalaryReleaseDTO releasePayrollRun(String runId) throws ResourceNotFoundException {
+        log.info("inside releasePayrollRun method");
+        // Only the employees and the pay period of a record are released, the amounts are computed again
+        List<SalaryRecordDTO> salaryRecords = new ArrayList<>();
+        String lastEmployeeId = null;
+        List<SalaryRecordDTO> page;
+        while (!(page = payrollRunService.getPayrollRunRecords(runId, lastEmployeeId, releaseChunkSize)).isEmpty()) {
+            salaryRecords.addAll(page);
+            lastEmployeeId = page.get(page.size() - 1).getEmployeeId();
+        }
+        return releaseSalaries(salaryRecords);
+    }
+
+    // Release one chunk of salary records, rejecting records of employees without a salary
+    private Integer releaseChunk(List<SalaryRecordDTO> chunk, List<String> rejectedEmployeeIds) {
+        // Only the employee and pay period of a record are taken, the amounts are computed here
+        Map<YearMonth, List<String>> employeeIdsByMonth = chunk.stream().collect(Collectors.groupingBy(
+                salaryRecordDTO -> YearMonth.from(salaryRecordDTO.getPayPeriodStart()), LinkedHashMap::new,
+                Collectors.mapping(SalaryRecordDTO::getEmployeeId, Collectors.toList())));
+        List<SalaryRecordDTO> releasableRecords = new ArrayList<>();
+        employeeIdsByMonth.forEach((yearMonth, employeeIds) -> {
+            List<SalaryRecordDTO> salaryRecords = payrollRunService.computeSalariesOfEmployees(yearMonth, employeeIds);
+            Set<String> computedEmployeeIds = salaryRecords.stream().map(SalaryRecordDTO::getEmployeeId)
+                    .collect(Collectors.toSet());
+            employeeIds.stream().filter(employeeId -> !computedEmployeeIds.contains(employeeId))
+                    .forEach(rejectedEmployeeIds::add);
+            releasableRecords.addAll(salaryRecords);
+        });
+        salaryRollupService.recordSalaryReleases(releasableRecords);
+        salaryRecordRepositoryCustom.upsertSalaryRecords(releasableRecords);
+        return releasableRecords.size();
+    }
+
     @Override
     public List<SalaryRecordDTO> getAllSalaries() {
         log.info("inside getAllSalaries method");
@@ -117,81 +250,73 @@ public class SalaryRecordServiceImpl implements SalaryRecordService {
     }
 
     @Override
-    public SalaryRecordDTO getSalaryByQuarter(String quarter)
+    public SalaryRecordDTO getSalaryByQuarter(String quarter, Integer year)
             throws ResourceNotFoundException {
         log.info("inside getSalaryByQuarter method");
-        LocalDate startDate;
-        LocalDate endDate = switch (quarter.toLowerCase()) {
-            case "quarter 1" -> {
-                startDate = LocalDate.of(Year.now().getValue(), 1, 1);
-                yield LocalDate.of(Year.now().getValue(), 3, 31);
-            }
-            case "quarter 2" -> {
-                startDate = LocalDate.of(Year.now().getValue(), 4, 1);
-                yield LocalDate.of(Year.now().getValue(), 6, 30);
-            }
-            case "quarter 3" -> {
-                startDate = LocalDate.of(Year.now().getValue(), 7, 1);
-                yield LocalDate.of(Year.now().getValue(), 9, 30);
-            }
-            case "quarter 4" -> {
-                startDate = LocalDate.of(Year.now().getValue(), 10, 1);
-                yield LocalDate.of(Year.now().getValue(), 12, 31);
-            }
-            default -> throw new ResourceNotFoundException("Invalid quarter: " + quarter);
-        };
+        return getSalaryTotals(ReportPeriod.ofQuarter(quarter, year));
+    }
+
+    @Override
+    public SalaryRecordDTO getSalaryByPeriod(LocalDate startDate, LocalDate endDate, Integer fiscalYear)
+            throws ResourceNotFoundException {
+        log.info("inside getSalaryByPeriod method");
+        return getSalaryTotals(ReportPeriod.resolve(startDate, endDate, fiscalYear));
+    }
 
-        // Fetch salary records for the specified quarter
-        List<SalaryRecord> salaryRecords = salaryRecordRepository.findSalaryRecordsByQuarter(startDate, endDate);
-        return getSalaryRecordDTO(startDate, endDate, salaryRecords);
+    // Sum the company-wide rollups of the months starting within the period
+    private SalaryRecordDTO getSalaryTotals(ReportPeriod period) {
+        SalaryTotalsDTO salaryTotals = salaryRollupRepository.sumRollupsByPeriod(SalaryRollup.MONTH_GRAIN, "",
+                period.getStartDate(), period.getEndDate());
+        return getSalaryRecordDTO(period.getStartDate(), period.getEndDate(), salaryTotals);
     }
 
     @Override
-    public TaxResponseDTO getTaxByQuarter(String quarter, String employeeId)
+    public List<SalaryRecordDTO> getAnnualSalarySummary(Integer year) {
+        log.info("inside getAnnualSalarySummary method");
+        int summaryYear = (year != null) ? year : Year.now().getValue();
+
+        // Sum the company-wide rollups of every quarter with one grouped query
+        Map<Integer, SalaryTotalsDTO> totalsByQuarter = salaryRollupRepository
+                .sumRollupsByQuarter(SalaryRollup.MONTH_GRAIN, "",
+                        LocalDate.of(summaryYear, 1, 1), LocalDate.of(summaryYear, 12, 31))
+                .stream()
+                .collect(Collectors.toMap(SalaryTotalsDTO::getQuarter, Function.identity()));
+
+        // Quarters without salary records are reported with zero totals
+        List<SalaryRecordDTO> annualSummary = new ArrayList<>();
+        for (int quarter = 1; quarter <= 4; quarter++) {
+            LocalDate startDate = LocalDate.of(summaryYear, quarter * 3 - 2, 1);
+            annualSummary.add(getSalaryRecordDTO(startDate, startDate.plusMonths(3).minusDays(1),
+                    totalsByQuarter.getOrDefault(quarter, new SalaryTotalsDTO())));
+        }
+        return annualSummary;
+    }
+
+    @Override
+    public TaxResponseDTO getTaxByQuarter(String quarter, Integer year, String employeeId)
             throws ResourceNotFoundException {
         log.info("inside getTaxByQuarter method");
+        return getEmployeeTax(employeeId, ReportPeriod.ofQuarter(quarter, year));
+    }
+
+    @Override
+    public TaxResponseDTO getTaxByPeriod(String employeeId, LocalDate startDate, LocalDate endDate,
+                                         Integer fiscalYear) throws ResourceNotFoundException {
+        log.info("inside getTaxByPeriod method");
+        return getEmployeeTax(employeeId, ReportPeriod.resolve(startDate, endDate, fiscalYear));
+    }
+
+    // Sum the gross salary, tax deducted and net salary from the rollups of the employee
+    private TaxResponseDTO getEmployeeTax(String employeeId, ReportPeriod period) throws ResourceNotFoundException {
         // Validate employee existence
         Employees employee = employeesRepository.findById(employeeId)
                 .orElseThrow(() -> new ResourceNotFoundException(EMPLOYEE_NOT_FOUND));
 
-        LocalDate startDate;
-        LocalDate endDate = switch (quarter.toLowerCase()) {
-            case "quarter 1" -> {
-                startDate = LocalDate.of(Year.now().getValue(), 1, 1);
-                yield LocalDate.of(Year.now().getValue(), 3, 31);
-            }
-            case "quarter 2" -> {
-                startDate = LocalDate.of(Year.now().getValue(), 4, 1);
-                yield LocalDate.of(Year.now().getValue(), 6, 30);
-            }
-            case "quarter 3" -> {
-                startDate = LocalDate.of(Year.now().getValue(), 7, 1);
-                yield LocalDate.of(Year.now().getValue(), 9, 30);
-            }
-            case "quarter 4" -> {
-                startDate = LocalDate.of(Year.now().getValue(), 10, 1);
-                yield LocalDate.of(Year.now().getValue(), 12, 31);
-            }
-            default -> throw new ResourceNotFoundException("Invalid quarter: " + quarter); // Handle invalid input
-        };
-
-        // Fetch salary records for the specified quarter and employee
-        List<SalaryRecord> salaryRecords = salaryRecordRepository.findSalaryRecordsByQuarterAndEmployee(startDate, endDate, employee);
-
-        // Calculate total gross salary, tax deducted, and net salary
-        BigDecimal totalGrossSalary = salaryRecords.stream()
-                .map(SalaryRecord::getGrossSalary)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal taxDeducted = salaryRecords.stream()
-                .map(SalaryRecord::getTaxAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalNetSalary = salaryRecords.stream()
-                .map(SalaryRecord::getNetSalary)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        SalaryTotalsDTO salaryTotals = salaryRollupRepository.sumRollupsByPeriod(SalaryRollup.EMPLOYEE_GRAIN,
+                employee.getEmployeeId(), period.getStartDate(), period.getEndDate());
 
-        return buildTaxResponseDTO(startDate, endDate, totalGrossSalary, taxDeducted, totalNetSalary);
+        return buildTaxResponseDTO(period.getStartDate(), period.getEndDate(), salaryTotals.getGrossSalary(),
+                salaryTotals.getTaxAmount(), salaryTotals.getNetSalary());
     }
 
     // Build tax response DTO from calculated values
@@ -205,23 +330,33 @@ public class SalaryRecordServiceImpl implements SalaryRecordService {
         taxResponseDTO.setGrossSalary(grossSalary);
         taxResponseDTO.setTaxDeducted(taxDeducted);
         taxResponseDTO.setNetSalary(netSalary);
-        taxResponseDTO.setYear(Year.now());
+        taxResponseDTO.setYear(Year.from(startDate));
         return taxResponseDTO;
     }
 
-    // Get salary record DTO by aggregating salary records
+    // Map a salary record of an employee along with the employee details
+    private static SalaryRecordDTO getEmployeeSalaryRecordDTO(Employees employee, SalaryRecord salaryRecord) {
+        SalaryRecordDTO salaryRecordDTO = Mapper.INSTANCE.entityToDtoSalaryRecord(salaryRecord);
+        salaryRecordDTO.setFullName(employee.getFullName());
+        salaryRecordDTO.setJoiningDate(employee.getJoiningDate());
+        salaryRecordDTO.setDesignation(employee.getDesignation().getDesignationName());
+        return salaryRecordDTO;
+    }
+
+    // Get salary record DTO from the totals of the salary records
     private static SalaryRecordDTO getSalaryRecordDTO
-    (LocalDate startDate, LocalDate endDate, List<SalaryRecord> salaryRecords) {
+    (LocalDate startDate, LocalDate endDate, SalaryTotalsDTO salaryTotals) {
         log.info("inside getSalaryRecordDTO method");
         SalaryRecordDTO dto = new SalaryRecordDTO();
         dto.setPayPeriodStart(startDate);
         dto.setPayPeriodEnd(endDate);
-        dto.setGrossSalary(salaryRecords.stream().map(SalaryRecord::getGrossSalary).reduce(BigDecimal.ZERO, BigDecimal::add));
-        dto.setNetSalary(salaryRecords.stream().map(SalaryRecord::getNetSalary).reduce(BigDecimal.ZERO, BigDecimal::add));
-        dto.setPenaltyAmount(salaryRecords.stream().map(SalaryRecord::getPenaltyAmount).reduce(BigDecimal.ZERO, BigDecimal::add));
-        dto.setPfAmount(salaryRecords.stream().map(SalaryRecord::getPfAmount).reduce(BigDecimal.ZERO, BigDecimal::add));
-        dto.setBonusAmount(salaryRecords.stream().map(SalaryRecord::getBonusAmount).reduce(BigDecimal.ZERO, BigDecimal::add));
-        dto.setTaxAmount(salaryRecords.stream().map(SalaryRecord::getTaxAmount).reduce(BigDecimal.ZERO, BigDecimal::add));
+        dto.setGrossSalary(salaryTotals.getGrossSalary());
+        dto.setNetSalary(salaryTotals.getNetSalary());
+        dto.setPenaltyAmount(salaryTotals.getPenaltyAmount());
+        dto.setPfAmount(salaryTotals.getPfAmount());
+        dto.setBonusAmount(salaryTotals.getBonusAmount());
+        dto.setOvertimeAmount(salaryTotals.getOvertimeAmount());
+        dto.setTaxAmount(salaryTotals.getTaxAmount());
         return dto;
     }
 
@@ -230,108 +365,49 @@ public class SalaryRecordServiceImpl implements SalaryRecordService {
     public SalaryRecordDTO calculateSalaryForEmployee(String employeeId)
             throws ResourceNotFoundException {
         log.info("inside calculateSalaryForEmployee method");
-        // Fetch employee and calculate various salary components
+        // Fetch employee and the inputs of the salary calculation
         Employees employee = getEmployeeById(employeeId);
-        BigDecimal costToCompany = salaryRepository.findCostToCompany(employee);
-
-        YearMonth yearMonth = YearMonth.now();
-        BigDecimal monthlySalary = calculateMonthlySalary(costToCompany);
-        BigDecimal perDaySalary = calculatePerDaySalary(monthlySalary, yearMonth.lengthOfMonth()-1);
-
-        // Get the joining date of the employee
-        LocalDate joiningDate = employee.getJoiningDate();
-
-        // Count absences in the current month
-        long absentCount = countAbsences(employee, yearMonth);
-
-        // Check if the current month is the month of joining
-        if (joiningDate.getYear() == yearMonth.getYear() && joiningDate.getMonth() == yearMonth.getMonth()) {
-            // Calculate the number of days before the joining date in the current month
-            int daysBeforeJoining = joiningDate.getDayOfMonth() - 1;
-            absentCount += daysBeforeJoining;
-        }
-
-        BigDecimal penaltyAmount = calculatePenaltyAmount(absentCount, perDaySalary);
-        BigDecimal pfAmount = calculatePfAmount(monthlySalary);
-        BigDecimal taxAmount = calculateTax(monthlySalary);
-
-        // Prepare deductions map
-        Map<String, BigDecimal> deductions = Map.of(
-                PENALTY, penaltyAmount,
-                PF, pfAmount,
-                TAX, taxAmount
-        );
-
-        // Calculate total bonuses and net salary
-        BigDecimal totalBonus = calculateTotalBonus(employee, yearMonth);
-        BigDecimal netSalary = calculateNetSalary(monthlySalary, deductions, totalBonus);
-
-        return setSalaryRecordDTO(employee, yearMonth, monthlySalary, netSalary, deductions, totalBonus);
+        return getSalaryPreview(employee, YearMonth.now());
     }
 
-
-    // Calculate total bonuses for the employee
-    private BigDecimal calculateTotalBonus(Employees employee, YearMonth yearMonth) {
-        log.info("inside calculateTotalBonus method");
-        return calculateBirthdayBonus(employee, yearMonth)
-                .add(calculateDiwaliBonus(yearMonth))
-                .add(calculateMarriageBonus(employee, yearMonth));
-    }
-
-    // Calculate birthday bonus if applicable
-    private BigDecimal calculateBirthdayBonus(Employees employee, YearMonth yearMonth) {
-        log.info("inside calculateBirthdayBonus method");
-        LocalDate birthday = employee.getDateOfBirth();
-        return (birthday != null && birthday.getMonth() == yearMonth.getMonth()) ? BigDecimal.valueOf(1000) : BigDecimal.ZERO;
-    }
-
-    // Calculate Diwali bonus if applicable
-    private BigDecimal calculateDiwaliBonus(YearMonth yearMonth) {
-        log.info("inside calculateDiwaliBonus method");
-        return (yearMonth.getMonth() == Month.NOVEMBER) ? BigDecimal.valueOf(2000) : BigDecimal.ZERO;
-    }
-
-    // Calculate marriage bonus if applicable
-    private BigDecimal calculateMarriageBonus(Employees employee, YearMonth yearMonth) {
-        log.info("inside calculateMarriageBonus method");
-        LeaveType leaveType = leaveTypeRepository.findByTypeName("Marriage Leave");
-        LeaveRequest marriageLeave = (leaveType != null) ? leaveRequestRepository
-                .findByRequestByEmployeeAndStartDateAndTypeOfLeave(
-                        employee,
-                        yearMonth.getYear(),
-                        yearMonth.getMonthValue(),
-                        leaveType) : null;
-
-        return (marriageLeave != null && "Approved".equalsIgnoreCase(marriageLeave.getStatus())) ? BigDecimal.valueOf(10000) : BigDecimal.ZERO;
+    @Override
+    public SalaryPreviewCacheStatsDTO getPreviewCacheStats() {
+        log.info("inside getPreviewCacheStats method");
+        return salaryPreviewCache.getStats();
     }
 
-    // Calculate tax based on monthly salary
-    private BigDecimal calculateTax(BigDecimal monthlySalary) {
-        log.info("inside calculateTax method");
-        BigDecimal annualSalary = monthlySalary.multiply(BigDecimal.valueOf(12));
-        BigDecimal taxAmount;
-
-        // Tax slabs
-        if (annualSalary.compareTo(BigDecimal.valueOf(300000)) <= 0) {
-            taxAmount = BigDecimal.ZERO;
-        } else if (annualSalary.compareTo(BigDecimal.valueOf(300000)) > 0 && annualSalary.compareTo(BigDecimal.valueOf(600000)) <= 0) {
-            taxAmount = annualSalary.subtract(BigDecimal.valueOf(300000)).multiply(BigDecimal.valueOf(0.05));
-        } else if (annualSalary.compareTo(BigDecimal.valueOf(600000)) > 0 && annualSalary.compareTo(BigDecimal.valueOf(900000)) <= 0) {
-            taxAmount = BigDecimal.valueOf(15000)
-                    .add(annualSalary.subtract(BigDecimal.valueOf(600000)).multiply(BigDecimal.valueOf(0.10)));
-        } else if (annualSalary.compareTo(BigDecimal.valueOf(900000)) > 0 && annualSalary.compareTo(BigDecimal.valueOf(1200000)) <= 0) {
-            taxAmount = BigDecimal.valueOf(45000)
-                    .add(annualSalary.subtract(BigDecimal.valueOf(900000)).multiply(BigDecimal.valueOf(0.15)));
-        } else if (annualSalary.compareTo(BigDecimal.valueOf(1200000)) > 0 && annualSalary.compareTo(BigDecimal.valueOf(1500000)) <= 0) {
-            taxAmount = BigDecimal.valueOf(90000)
-                    .add(annualSalary.subtract(BigDecimal.valueOf(1200000)).multiply(BigDecimal.valueOf(0.20)));
-        } else {
-            taxAmount = BigDecimal.valueOf(150000)
-                    .add(annualSalary.subtract(BigDecimal.valueOf(1500000)).multiply(BigDecimal.valueOf(0.20)));
+    // Return the cached preview of the pay period, calculating it on a miss
+    private SalaryRecordDTO getSalaryPreview(Employees employee, YearMonth yearMonth) {
+        log.info("inside getSalaryPreview method");
+        SalaryRecordDTO cachedPreview = salaryPreviewCache.get(employee.getEmployeeId(), yearMonth);
+        if (cachedPreview != null) {
+            return cachedPreview;
         }
 
-        // Return monthly tax amount
-        return taxAmount.divide(BigDecimal.valueOf(12), RoundingMode.HALF_UP).setScale(2, RoundingMode.HALF_UP);
+        // Read the generation before the inputs, so a preview computed across a change is not cached
+        long generation = salaryPreviewCache.generation();
+        BigDecimal costToCompany = salaryRepository.findCostToCompany(employee);
+
+        // Count absences in the pay period the way a payroll run counts them
+        long absentCount = payrollRunService.countAbsences(yearMonth, List.of(employee.getEmployeeId()))
+                .getOrDefault(employee.getEmployeeId(), 0L);
+
+        // Sum the overtime hours in the pay period, paid at the multiplier of the designation
+        BigDecimal overtimeHours = sumOvertimeHours(employee, yearMonth);
+        BigDecimal overtimeMultiplier = employee.getDesignation() != null
+                ? employee.getDesignation().getOvertimeMultiplier() : null;
+
+        // Resolve the bonus from the active rules, querying leaves only when a rule depends on them
+        BonusRuleSet bonusRuleSet = bonusRuleService.getActiveBonusRuleSet();
+        Set<String> approvedLeaveTypes = bonusRuleService.getApprovedLeaveTypes(bonusRuleSet, yearMonth,
+                List.of(employee.getEmployeeId())).getOrDefault(employee.getEmployeeId(), Set.of());
+        long bonusRupees = bonusRuleSet.bonusRupees(yearMonth, employee.getDateOfBirth(), approvedLeaveTypes);
+
+        SalaryRecordDTO preview = PayrollCalculator.calculate(employee.getEmployeeId(), yearMonth, costToCompany,
+                employee.getJoiningDate(), absentCount, bonusRupees, overtimeHours, overtimeMultiplier,
+                workingCalendarService.getCalendar(yearMonth.getYear()), taxSlabService.getActiveTaxSlabTable());
+        salaryPreviewCache.put(employee.getEmployeeId(), yearMonth, preview, generation);
+        return preview;
     }
 
     // Helper method to fetch employee by ID
@@ -341,65 +417,13 @@ public class SalaryRecordServiceImpl implements SalaryRecordService {
                 .orElseThrow(() -> new ResourceNotFoundException(EMPLOYEE_NOT_FOUND));
     }
 
-    // Calculate monthly salary based on cost to company
-    private BigDecimal calculateMonthlySalary(BigDecimal costToCompany) {
-        log.info("inside calculateMonthlySalary method");
-        return costToCompany.divide(BigDecimal.valueOf(12), RoundingMode.HALF_UP);
-    }
-
-    // Calculate per day salary based on monthly salary and number of days
-    private BigDecimal calculatePerDaySalary(BigDecimal monthlySalary, int daysInMonth) {
-        log.info("inside calculatePerDaySalary method");
-        return monthlySalary.divide(BigDecimal.valueOf(daysInMonth), RoundingMode.HALF_UP).setScale(2, RoundingMode.CEILING);
-    }
-
-    // Count number of absences for the employee in a month
-    private Long countAbsences(Employees employee, YearMonth yearMonth) {
-        log.info("inside countAbsences method");
-        return attendanceRepository.findByEmployeeAndDate(employee, yearMonth.getMonthValue(), yearMonth.getYear())
+    // Sum the overtime hours of the employee in a month in one aggregate query
+    private BigDecimal sumOvertimeHours(Employees employee, YearMonth yearMonth) {
+        log.info("inside sumOvertimeHours method");
+        return attendanceRepository.sumOvertimeHoursByEmployee(List.of(employee.getEmployeeId()),
+                        yearMonth.atDay(1), yearMonth.atEndOfMonth())
                 .stream()
-                .filter(attendance -> "absent".equalsIgnoreCase(attendance.getStatus()))
-                .count();
-    }
-
-    // Calculate penalty amount based on absences
-    private BigDecimal calculatePenaltyAmount(Long absentCount, BigDecimal perDaySalary) {
-        log.info("inside calculatePenaltyAmount method");
-        return perDaySalary.multiply(BigDecimal.valueOf(absentCount));
-    }
-
-    // Calculate provident fund amount
-    private BigDecimal calculatePfAmount(BigDecimal monthlySalary) {
-        log.info("inside calculatePfAmount method");
-        return monthlySalary.multiply(BigDecimal.valueOf(0.05)).setScale(2, RoundingMode.HALF_UP);
-    }
-
-    // Calculate net salary after deductions and adding bonuses
-    private BigDecimal calculateNetSalary
-    (BigDecimal monthlySalary, Map<String, BigDecimal> deductions, BigDecimal totalBonus) {
-        log.info("inside calculateNetSalary method");
-        return monthlySalary.subtract(deductions.get(PENALTY))
-                .subtract(deductions.get(PF))
-                .subtract(deductions.get(TAX))
-                .add(totalBonus)
-                .setScale(2, RoundingMode.HALF_UP);
-    }
-
-    // Save the salary record and return the DTO
-    private SalaryRecordDTO setSalaryRecordDTO(Employees employee, YearMonth yearMonth, BigDecimal monthlySalary,
-                                               BigDecimal netSalary, Map<String, BigDecimal> deductions,
-                                               BigDecimal totalBonus) {
-        log.info("inside setSalaryRecordDTO method");
-        SalaryRecordDTO salaryRecordDTO = new SalaryRecordDTO();
-        salaryRecordDTO.setPayPeriodStart(yearMonth.atDay(1));
-        salaryRecordDTO.setPayPeriodEnd(yearMonth.atEndOfMonth());
-        salaryRecordDTO.setGrossSalary(monthlySalary);
-        salaryRecordDTO.setBonusAmount(totalBonus);
-        salaryRecordDTO.setPenaltyAmount(deductions.get(PENALTY));
-        salaryRecordDTO.setPfAmount(deductions.get(PF));
-        salaryRecordDTO.setTaxAmount(deductions.get(TAX));
-        salaryRecordDTO.setNetSalary(netSalary);
-        salaryRecordDTO.setEmployeeId(employee.getEmployeeId());
-        return salaryRecordDTO;
+                .map(EmployeeHoursDTO::getHours)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
 }
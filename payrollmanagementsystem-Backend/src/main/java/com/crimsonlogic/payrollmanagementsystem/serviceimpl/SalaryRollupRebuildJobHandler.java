@@ -0,0 +1,35 @@
+package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.service.SalaryRollupService;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Job handler rebuilding the payroll rollup of a date range month by month.
+ *
+ * @author abdulmanan
+ */
+@Component
+public class SalaryRollupRebuildJobHandler extends MonthlyRebuildJobHandler {
+
+    private final SalaryRollupService salaryRollupService;
+
+    // Constructor to initialize the rollup service
+    SalaryRollupRebuildJobHandler(SalaryRollupService salaryRollupService) {
+        super();
+        this.salaryRollupService = salaryRollupService;
+    }
+
+    @Override
+    public String getJobType() {
+        return BackgroundJob.SALARY_ROLLUP_REBUILD;
+    }
+
+    @Override
+    protected int rebuildMonth(LocalDate startDate, LocalDate endDate) throws ResourceNotFoundException {
+        return salaryRollupService.rebuildSalaryRollups(startDate, endDate);
+    }
+}
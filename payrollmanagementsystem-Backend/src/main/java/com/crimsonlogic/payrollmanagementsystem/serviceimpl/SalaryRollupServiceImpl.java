@@ -0,0 +1,145 @@
+package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.SalaryRollup;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRecordDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRollupDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.mapper.Mapper;
+import com.crimsonlogic.payrollmanagementsystem.repository.SalaryRecordRepositoryCustom;
+import com.crimsonlogic.payrollmanagementsystem.repository.SalaryRollupRepository;
+import com.crimsonlogic.payrollmanagementsystem.repository.SalaryRollupRepositoryCustom;
+import com.crimsonlogic.payrollmanagementsystem.service.SalaryRollupService;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the SalaryRollupService interface.
+ * This class keeps the payroll rollup in step with the released salary records,
+ * so reports read a few rows per month regardless of headcount.
+ *
+ * @author abdulmanan
+ */
+@Slf4j
+@Service
+public class SalaryRollupServiceImpl implements SalaryRollupService {
+
+    private final SalaryRollupRepository salaryRollupRepository;
+    private final SalaryRollupRepositoryCustom salaryRollupRepositoryCustom;
+    private final SalaryRecordRepositoryCustom salaryRecordRepositoryCustom;
+
+    // Constructor to initialize repositories
+    SalaryRollupServiceImpl(SalaryRollupRepository salaryRollupRepository,
+                            SalaryRollupRepositoryCustom salaryRollupRepositoryCustom,
+                            SalaryRecordRepositoryCustom salaryRecordRepositoryCustom) {
+        super();
+        this.salaryRollupRepository = salaryRollupRepository;
+        this.salaryRollupRepositoryCustom = salaryRollupRepositoryCustom;
+        this.salaryRecordRepositoryCustom = salaryRecordRepositoryCustom;
+    }
+
+    @Override
+    @Transactional
+    public void recordSalaryReleases(List<SalaryRecordDTO> releasedRecords) {
+        log.info("inside recordSalaryReleases method");
+        if (releasedRecords.isEmpty()) {
+            return;
+        }
+        Set<String> employeeIds = releasedRecords.stream()
+                .map(SalaryRecordDTO::getEmployeeId)
+                .collect(Collectors.toSet());
+        Set<LocalDate> payPeriodStarts = releasedRecords.stream()
+                .map(SalaryRecordDTO::getPayPeriodStart)
+                .collect(Collectors.toSet());
+
+        // Lock the employees first, so the records read next cannot be replaced concurrently
+        Map<String, String> designations = salaryRollupRepositoryCustom.lockEmployeeDesignations(employeeIds);
+        Map<String, SalaryRecordDTO> currentRecords = new HashMap<>();
+        for (SalaryRecordDTO salaryRecord : salaryRecordRepositoryCustom.findSalaryRecords(employeeIds, payPeriodStarts)) {
+            currentRecords.put(salaryRecord.getEmployeeId() + "|" + salaryRecord.getPayPeriodStart(), salaryRecord);
+        }
+
+        // Add every released record and subtract the record it replaces, merged per rollup row
+        Map<String, SalaryRollupDTO> deltas = new LinkedHashMap<>();
+        for (SalaryRecordDTO releasedRecord : releasedRecords) {
+            String designation = designations.getOrDefault(releasedRecord.getEmployeeId(), "");
+            SalaryRecordDTO replacedRecord = currentRecords.put(
+                    releasedRecord.getEmployeeId() + "|" + releasedRecord.getPayPeriodStart(), releasedRecord);
+            if (replacedRecord != null) {
+                addRecord(deltas, designation, replacedRecord, -1);
+            }
+            addRecord(deltas, designation, releasedRecord, 1);
+        }
+        salaryRollupRepositoryCustom.addToSalaryRollups(new ArrayList<>(deltas.values()));
+    }
+
+    @Override
+    @Transactional
+    public int rebuildSalaryRollups(LocalDate startDate, LocalDate endDate) throws ResourceNotFoundException {
+        log.info("inside rebuildSalaryRollups method");
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            throw new ResourceNotFoundException("Invalid date range.");
+        }
+        long startTime = System.nanoTime();
+        int rebuilt = salaryRollupRepositoryCustom.rebuildSalaryRollups(startDate, endDate);
+        log.info("rebuilt {} salary rollups from {} to {} in {} ms", rebuilt, startDate, endDate,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        return rebuilt;
+    }
+
+    @Override
+    public List<SalaryRollupDTO> getDesignationRollups(Integer year, Integer month) throws ResourceNotFoundException {
+        log.info("inside getDesignationRollups method");
+        LocalDate payMonth;
+        try {
+            payMonth = LocalDate.of(year, month, 1);
+        } catch (DateTimeException e) {
+            throw new ResourceNotFoundException("Invalid month.");
+        }
+        return Mapper.INSTANCE.entityToDtoForSalaryRollups(salaryRollupRepository
+                .findByRollupGrainAndPayMonthOrderByGrainKeyAsc(SalaryRollup.DESIGNATION_GRAIN, payMonth));
+    }
+
+    // Add a salary record with the given sign to its month, designation and employee rollups
+    private void addRecord(Map<String, SalaryRollupDTO> deltas, String designation,
+                           SalaryRecordDTO salaryRecord, int sign) {
+        LocalDate payMonth = salaryRecord.getPayPeriodStart().withDayOfMonth(1);
+        addToRollup(deltas, new SalaryRollupDTO(SalaryRollup.MONTH_GRAIN, "", payMonth), salaryRecord, sign);
+        addToRollup(deltas, new SalaryRollupDTO(SalaryRollup.DESIGNATION_GRAIN, designation, payMonth),
+                salaryRecord, sign);
+        addToRollup(deltas, new SalaryRollupDTO(SalaryRollup.EMPLOYEE_GRAIN, salaryRecord.getEmployeeId(), payMonth),
+                salaryRecord, sign);
+    }
+
+    private void addToRollup(Map<String, SalaryRollupDTO> deltas, SalaryRollupDTO rollup,
+                             SalaryRecordDTO salaryRecord, int sign) {
+        SalaryRollupDTO delta = deltas.computeIfAbsent(
+                rollup.getRollupGrain() + "|" + rollup.getGrainKey() + "|" + rollup.getPayMonth(), key -> rollup);
+        BigDecimal factor = BigDecimal.valueOf(sign);
+        delta.setRecordCount(delta.getRecordCount() + sign);
+        delta.setGrossSalary(delta.getGrossSalary().add(signed(salaryRecord.getGrossSalary(), factor)));
+        delta.setNetSalary(delta.getNetSalary().add(signed(salaryRecord.getNetSalary(), factor)));
+        delta.setBonusAmount(delta.getBonusAmount().add(signed(salaryRecord.getBonusAmount(), factor)));
+        delta.setOvertimeAmount(delta.getOvertimeAmount().add(signed(salaryRecord.getOvertimeAmount(), factor)));
+        delta.setPenaltyAmount(delta.getPenaltyAmount().add(signed(salaryRecord.getPenaltyAmount(), factor)));
+        delta.setPfAmount(delta.getPfAmount().add(signed(salaryRecord.getPfAmount(), factor)));
+        delta.setTaxAmount(delta.getTaxAmount().add(signed(salaryRecord.getTaxAmount(), factor)));
+    }
+
+    // Missing amounts count as zero, as they do in the SUM of a rebuild
+    private static BigDecimal signed(BigDecimal amount, BigDecimal factor) {
+        return amount != null ? amount.multiply(factor) : BigDecimal.ZERO;
+    }
+}
@@ -6,6 +6,7 @@ import com.crimsonlogic.payrollmanagementsystem.dto.SalaryDTO;
 import com.crimsonlogic.payrollmanagementsystem.mapper.Mapper;
 import com.crimsonlogic.payrollmanagementsystem.repository.SalaryRepository;
 import com.crimsonlogic.payrollmanagementsystem.service.SalaryService;
+import com.crimsonlogic.payrollmanagementsystem.util.SalaryPreviewCache;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,10 +27,14 @@ public class SalaryServiceImpl implements SalaryService {
     // Repository for salary data
     private final SalaryRepository salaryRepository;
 
+    // Cache of salary previews, invalidated when a CTC changes
+    private final SalaryPreviewCache salaryPreviewCache;
+
     // Constructor to initialize the salary repository
-    SalaryServiceImpl(SalaryRepository salaryRepository) {
+    SalaryServiceImpl(SalaryRepository salaryRepository, SalaryPreviewCache salaryPreviewCache) {
         super();
         this.salaryRepository = salaryRepository;
+        this.salaryPreviewCache = salaryPreviewCache;
     }
 
     @Override
@@ -56,6 +61,7 @@ public class SalaryServiceImpl implements SalaryService {
                 .map(salary -> {
                     salary.setCostToCompany(salaryDTO.getCostToCompany()); // Update CTC
                     salaryRepository.save(salary); // Save the updated salary
+                    salaryPreviewCache.invalidateEmployee(salary.getSalaryOfEmployee().getEmployeeId());
                     return true; // Indicate success
                 })
                 .orElse(false); // Return false if salary record not found
@@ -0,0 +1,146 @@
+package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.TaxSlab;
+import com.crimsonlogic.payrollmanagementsystem.dto.TaxSlabDTO;
+import com.crimsonlogic.payrollmanagementsystem.mapper.Mapper;
+import com.crimsonlogic.payrollmanagementsystem.repository.TaxSlabRepository;
+import com.crimsonlogic.payrollmanagementsystem.service.TaxSlabService;
+import com.crimsonlogic.payrollmanagementsystem.util.SalaryPreviewCache;
+import com.crimsonlogic.payrollmanagementsystem.util.TaxSlabTable;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Implementation of the TaxSlabService interface.
+ * This class loads the latest version of the tax slabs once and keeps its
+ * lookup table until a new version is published.
+ *
+ * @author abdulmanan
+ */
+@Slf4j
+@Service
+public class TaxSlabServiceImpl implements TaxSlabService {
+
+    private static final int INITIAL_VERSION = 1;
+
+    private final TaxSlabRepository taxSlabRepository;
+
+    // Cache of salary previews, every preview depends on the active slabs
+    private final SalaryPreviewCache salaryPreviewCache;
+
+    // Lookup table of the active version, loaded on first use
+    private volatile TaxSlabTable activeTable;
+
+    // Constructor to initialize the tax slab repository
+    TaxSlabServiceImpl(TaxSlabRepository taxSlabRepository, SalaryPreviewCache salaryPreviewCache) {
+        super();
+        this.taxSlabRepository = taxSlabRepository;
+        this.salaryPreviewCache = salaryPreviewCache;
+    }
+
+    @Override
+    public TaxSlabTable getActiveTaxSlabTable() {
+        TaxSlabTable table = activeTable;
+        if (table == null) {
+            synchronized (this) {
+                if (activeTable == null) {
+                    activeTable = loadActiveTable();
+                }
+                table = activeTable;
+            }
+        }
+        return table;
+    }
+
+    @Override
+    public List<TaxSlabDTO> getActiveTaxSlabs() {
+        log.info("inside getActiveTaxSlabs method");
+        Integer version = taxSlabRepository.findLatestSlabVersion();
+        if (version == null) {
+            return TaxSlabTable.defaultSlabs();
+        }
+        return Mapper.INSTANCE.entityToDtoForTaxSlabs(taxSlabRepository.findBySlabVersionOrderByLowerLimitAsc(version));
+    }
+
+    @Override
+    @Transactional
+    public boolean publishTaxSlabs(List<TaxSlabDTO> taxSlabs) {
+        log.info("inside publishTaxSlabs method");
+        // Validate that the slabs start at zero and have increasing lower limits
+        if (!isValid(taxSlabs)) {
+            return false;
+        }
+        List<TaxSlabDTO> orderedSlabs = taxSlabs.stream()
+                .sorted(Comparator.comparing(TaxSlabDTO::getLowerLimit))
+                .toList();
+        // Serialize publishers, so each one takes the next version after the latest
+        taxSlabRepository.lockTaxSlabPublishing();
+        Integer latestVersion = taxSlabRepository.findLatestSlabVersion();
+        int version = latestVersion == null ? INITIAL_VERSION : latestVersion + 1;
+        saveSlabs(version, orderedSlabs);
+        synchronized (this) {
+            activeTable = new TaxSlabTable(version, orderedSlabs, TaxSlabTable.DEFAULT_CACHE_CAPACITY);
+        }
+        salaryPreviewCache.invalidateAll();
+        log.info("published tax slab version {} with {} slabs", version, orderedSlabs.size());
+        return true;
+    }
+
+    // Load the latest version, persisting the default slabs when none exist yet
+    private TaxSlabTable loadActiveTable() {
+        log.info("inside loadActiveTable method");
+        Integer version = taxSlabRepository.findLatestSlabVersion();
+        if (version == null) {
+            try {
+                saveSlabs(INITIAL_VERSION, TaxSlabTable.defaultSlabs());
+                return new TaxSlabTable(INITIAL_VERSION, TaxSlabTable.defaultSlabs(),
+                        TaxSlabTable.DEFAULT_CACHE_CAPACITY);
+            } catch (DataIntegrityViolationException e) {
+                // Another instance persisted the first version at the same time, load it instead
+                version = taxSlabRepository.findLatestSlabVersion();
+            }
+        }
+        List<TaxSlabDTO> slabs = Mapper.INSTANCE.entityToDtoForTaxSlabs(
+                taxSlabRepository.findBySlabVersionOrderByLowerLimitAsc(version));
+        return new TaxSlabTable(version, slabs, TaxSlabTable.DEFAULT_CACHE_CAPACITY);
+    }
+
+    private void saveSlabs(int version, List<TaxSlabDTO> slabs) {
+        List<TaxSlab> taxSlabs = slabs.stream().map(slab -> {
+            TaxSlab taxSlab = new TaxSlab();
+            taxSlab.setSlabVersion(version);
+            taxSlab.setLowerLimit(slab.getLowerLimit());
+            taxSlab.setTaxRate(slab.getTaxRate());
+            taxSlab.setBaseTax(slab.getBaseTax());
+            return taxSlab;
+        }).toList();
+        taxSlabRepository.saveAll(taxSlabs);
+    }
+
+    private boolean isValid(List<TaxSlabDTO> taxSlabs) {
+        if (taxSlabs == null || taxSlabs.isEmpty()) {
+            return false;
+        }
+        boolean complete = taxSlabs.stream().allMatch(slab -> slab.getLowerLimit() != null
+                && slab.getTaxRate() != null && slab.getBaseTax() != null);
+        if (!complete) {
+            return false;
+        }
+        List<BigDecimal> lowerLimits = taxSlabs.stream().map(TaxSlabDTO::getLowerLimit).sorted().toList();
+        if (lowerLimits.get(0).signum() != 0) {
+            return false;
+        }
+        for (int i = 1; i < lowerLimits.size(); i++) {
+            if (lowerLimits.get(i).compareTo(lowerLimits.get(i - 1)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
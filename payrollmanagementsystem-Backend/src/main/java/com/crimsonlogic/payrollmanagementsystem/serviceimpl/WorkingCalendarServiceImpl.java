@@ -0,0 +1,101 @@
+package com.crimsonlogic.payrollmanagementsystem.serviceimpl;
+
+import com.crimsonlogic.payrollmanagementsystem.repository.HolidayRepository;
+import com.crimsonlogic.payrollmanagementsystem.service.WorkingCalendarService;
+import com.crimsonlogic.payrollmanagementsystem.util.WorkingCalendar;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Implementation of the WorkingCalendarService interface.
+ * The calendars are cached per year, one query loads the holidays of a year the first time it is used.
+ *
+ * @author abdulmanan
+ */
+@Slf4j
+@Service
+public class WorkingCalendarServiceImpl implements WorkingCalendarService {
+
+    private final HolidayRepository holidayRepository;
+
+    // The days of the week no one works
+    private final Set<DayOfWeek> weeklyOffDays;
+
+    // Calendars by year
+    private final ConcurrentMap<Integer, WorkingCalendar> calendars = new ConcurrentHashMap<>();
+
+    // Constructor to initialize the repository and the weekly days off
+    public WorkingCalendarServiceImpl(HolidayRepository holidayRepository,
+                                      @Value("${payroll.calendar.weekly-off-days:SATURDAY,SUNDAY}")
+                                      List<DayOfWeek> weeklyOffDays) {
+        super();
+        this.holidayRepository = holidayRepository;
+        this.weeklyOffDays = weeklyOffDays.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(weeklyOffDays);
+    }
+
+    @Override
+    public WorkingCalendar getCalendar(int year) {
+        return calendars.computeIfAbsent(year, this::loadCalendar);
+    }
+
+    @Override
+    public boolean isWorkingDay(LocalDate date) {
+        return getCalendar(date.getYear()).isWorkingDay(date);
+    }
+
+    @Override
+    public long countWorkingDays(LocalDate startDate, LocalDate endDate) {
+        long workingDays = 0;
+        // One prefix sum lookup per year of the range
+        for (LocalDate from = startDate; !from.isAfter(endDate); from = from.plusYears(1).withDayOfYear(1)) {
+            LocalDate yearEnd = from.withDayOfYear(from.lengthOfYear());
+            workingDays += getCalendar(from.getYear())
+                    .countWorkingDays(from, yearEnd.isBefore(endDate) ? yearEnd : endDate);
+        }
+        return workingDays;
+    }
+
+    @Override
+    public List<LocalDate> getWorkingDays(LocalDate startDate, LocalDate endDate) {
+        List<LocalDate> workingDays = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (isWorkingDay(date)) {
+                workingDays.add(date);
+            }
+        }
+        return workingDays;
+    }
+
+    @Override
+    public void evictCalendars() {
+        log.info("inside evictCalendars method");
+        calendars.clear();
+        // Evict again once the changed holidays are visible, a calendar loaded meanwhile may predate them
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    calendars.clear();
+                }
+            });
+        }
+    }
+
+    private WorkingCalendar loadCalendar(int year) {
+        log.info("loading the working calendar of {}", year);
+        return WorkingCalendar.of(year, weeklyOffDays,
+                holidayRepository.findHolidayDates(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31)));
+    }
+}
@@ -0,0 +1,240 @@
+package com.crimsonlogic.payrollmanagementsystem.util;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.AttendanceStatus;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceBitmapDTO;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.Arrays;
+
+/**
+ * The attendance of an employee for one month, packed into a few words.
+ * Bit day - 1 of the recorded days marks the days that have attendance, bits
+ * 2 * (day - 1) and up of the status codes hold the 2-bit {@link AttendanceStatus}
+ * code of the day, and the optional hour deltas hold one signed byte per day
+ * with the quarter hours worked beyond the standard 8 hour day. The hour deltas
+ * are left out while every day is a standard day, and hours are kept to the
+ * nearest quarter hour between 0 and 39.75.
+ * Counting a status is a few masks and a population count, with no decoding per day.
+ *
+ * @author abdulmanan
+ */
+public class AttendanceMonthBitmap {
+
+    public static final BigDecimal STANDARD_HOURS = BigDecimal.valueOf(8);
+
+    // The low bit of every 2-bit code
+    private static final long LOW_BITS = 0x5555555555555555L;
+
+    private static final BigDecimal QUARTERS_PER_HOUR = BigDecimal.valueOf(4);
+    private static final BigDecimal MIN_DELTA = BigDecimal.valueOf(-32);
+    private static final BigDecimal MAX_DELTA = BigDecimal.valueOf(Byte.MAX_VALUE);
+
+    private final YearMonth yearMonth;
+    private int recordedDays;
+    private long statusCodes;
+    private byte[] hourDeltas;
+
+    /**
+     * Creates the bitmap of a month without attendance.
+     *
+     * @param yearMonth the month
+     */
+    public AttendanceMonthBitmap(YearMonth yearMonth) {
+        this.yearMonth = yearMonth;
+    }
+
+    /**
+     * Creates the bitmap of a month from its stored form.
+     *
+     * @param yearMonth the month
+     * @param recordedDays the days that have attendance
+     * @param statusCodes the status codes of the days
+     * @param hourDeltas the hour deltas of the days, may be null
+     */
+    public AttendanceMonthBitmap(YearMonth yearMonth, int recordedDays, long statusCodes, byte[] hourDeltas) {
+        this.yearMonth = yearMonth;
+        this.recordedDays = recordedDays;
+        this.statusCodes = statusCodes;
+        this.hourDeltas = hourDeltas != null ? Arrays.copyOf(hourDeltas, yearMonth.lengthOfMonth()) : null;
+    }
+
+    /**
+     * Creates the bitmap of a stored month.
+     *
+     * @param bitmap the stored bitmap
+     * @return the bitmap of the month
+     */
+    public static AttendanceMonthBitmap of(AttendanceBitmapDTO bitmap) {
+        return new AttendanceMonthBitmap(YearMonth.of(bitmap.getBitmapYear(), bitmap.getBitmapMonth()),
+                bitmap.getRecordedDays(), bitmap.getStatusCodes(), bitmap.getHourDeltas());
+    }
+
+    /**
+     * Converts the bitmap to its stored form.
+     *
+     * @param employeeId the ID of the employee the attendance belongs to
+     * @return the stored bitmap
+     */
+    public AttendanceBitmapDTO toDto(String employeeId) {
+        return new AttendanceBitmapDTO(employeeId, yearMonth.getYear(), yearMonth.getMonthValue(), recordedDays,
+                statusCodes, hourDeltas != null ? hourDeltas.clone() : null);
+    }
+
+    /**
+     * Records the attendance of a day, replacing what was recorded before.
+     *
+     * @param day the day of the month
+     * @param status the status of the day
+     * @param totalHours the hours worked, null for a standard day
+     */
+    public void set(int day, AttendanceStatus status, BigDecimal totalHours) {
+        int bit = dayBit(day);
+        recordedDays |= 1 << bit;
+        statusCodes = (statusCodes & ~(3L << 2 * bit)) | ((long) status.getCode() << 2 * bit);
+        setDelta(bit, totalHours != null ? toDelta(totalHours) : 0);
+    }
+
+    /**
+     * Records the days of another bitmap of the same month, replacing what was
+     * recorded before on those days.
+     *
+     * @param changes the days to be recorded
+     */
+    public void apply(AttendanceMonthBitmap changes) {
+        long codeMask = spread(changes.recordedDays) * 3;
+        recordedDays |= changes.recordedDays;
+        statusCodes = (statusCodes & ~codeMask) | (changes.statusCodes & codeMask);
+        if (hourDeltas != null || changes.hourDeltas != null) {
+            for (int days = changes.recordedDays; days != 0; days &= days - 1) {
+                int bit = Integer.numberOfTrailingZeros(days);
+                setDelta(bit, changes.deltaOf(bit));
+            }
+        }
+    }
+
+    /**
+     * Checks whether a day has attendance.
+     *
+     * @param day the day of the month
+     * @return true if attendance is recorded for the day
+     */
+    public boolean isRecorded(int day) {
+        return (recordedDays & 1 << dayBit(day)) != 0;
+    }
+
+    /**
+     * The status of a day.
+     *
+     * @param day the day of the month
+     * @return the status, or null if no attendance is recorded for the day
+     */
+    public AttendanceStatus statusOf(int day) {
+        int bit = dayBit(day);
+        return (recordedDays & 1 << bit) != 0 ? AttendanceStatus.fromCode((int) (statusCodes >>> 2 * bit) & 3) : null;
+    }
+
+    /**
+     * The hours worked on a day.
+     *
+     * @param day the day of the month
+     * @return the hours, or null if no attendance is recorded for the day
+     */
+    public BigDecimal totalHoursOf(int day) {
+        int bit = dayBit(day);
+        return (recordedDays & 1 << bit) != 0 ? toHours(deltaOf(bit)) : null;
+    }
+
+    /**
+     * Counts the days of the month with a status.
+     *
+     * @param status the status
+     * @return the number of days with the status
+     */
+    public int count(AttendanceStatus status) {
+        long low = statusCodes & LOW_BITS;
+        long high = (statusCodes >>> 1) & LOW_BITS;
+        long matches = ((status.getCode() & 1) != 0 ? low : ~low) & ((status.getCode() & 2) != 0 ? high : ~high);
+        return Long.bitCount(matches & spread(recordedDays));
+    }
+
+    /**
+     * Sums the hours worked in the month.
+     *
+     * @return the total hours of the recorded days
+     */
+    public BigDecimal totalHours() {
+        long quarters = Integer.bitCount(recordedDays) * 32L;
+        if (hourDeltas != null) {
+            for (int days = recordedDays; days != 0; days &= days - 1) {
+                quarters += hourDeltas[Integer.numberOfTrailingZeros(days)];
+            }
+        }
+        return BigDecimal.valueOf(quarters * 25, 2);
+    }
+
+    public YearMonth getYearMonth() {
+        return yearMonth;
+    }
+
+    public int getRecordedDays() {
+        return recordedDays;
+    }
+
+    public long getStatusCodes() {
+        return statusCodes;
+    }
+
+    public byte[] getHourDeltas() {
+        return hourDeltas != null ? hourDeltas.clone() : null;
+    }
+
+    private int dayBit(int day) {
+        if (day < 1 || day > yearMonth.lengthOfMonth()) {
+            throw new IllegalArgumentException("Invalid day of " + yearMonth + ": " + day);
+        }
+        return day - 1;
+    }
+
+    private int deltaOf(int bit) {
+        return hourDeltas != null ? hourDeltas[bit] : 0;
+    }
+
+    // Store the delta of a day, dropping the deltas again once every day is a standard day
+    private void setDelta(int bit, int delta) {
+        if (hourDeltas == null) {
+            if (delta == 0) {
+                return;
+            }
+            hourDeltas = new byte[yearMonth.lengthOfMonth()];
+        }
+        hourDeltas[bit] = (byte) delta;
+        for (byte hourDelta : hourDeltas) {
+            if (hourDelta != 0) {
+                return;
+            }
+        }
+        hourDeltas = null;
+    }
+
+    private static int toDelta(BigDecimal totalHours) {
+        return totalHours.subtract(STANDARD_HOURS).multiply(QUARTERS_PER_HOUR)
+                .setScale(0, RoundingMode.HALF_UP).max(MIN_DELTA).min(MAX_DELTA).intValueExact();
+    }
+
+    private static BigDecimal toHours(int delta) {
+        return BigDecimal.valueOf((32L + delta) * 25, 2);
+    }
+
+    // Spread bit i of the days to bit 2 * i, the low bit of the code of the day
+    private static long spread(int days) {
+        long bits = days & 0xFFFFFFFFL;
+        bits = (bits | (bits << 16)) & 0x0000FFFF0000FFFFL;
+        bits = (bits | (bits << 8)) & 0x00FF00FF00FF00FFL;
+        bits = (bits | (bits << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        bits = (bits | (bits << 2)) & 0x3333333333333333L;
+        bits = (bits | (bits << 1)) & LOW_BITS;
+        return bits;
+    }
+}
@@ -0,0 +1,121 @@
+package com.crimsonlogic.payrollmanagementsystem.util;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BonusRule;
+import com.crimsonlogic.payrollmanagementsystem.dto.BonusRuleDTO;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, compiled form of one version of the bonus rules.
+ * The rules are folded into whole rupee amounts per month of the year and per
+ * leave type once, so the bonus of an employee is a few array and map lookups
+ * on data resolved for the whole population.
+ *
+ * @author abdulmanan
+ */
+public class BonusRuleSet {
+
+    private final int version;
+
+    // Bonus paid to everyone in a month of the year, indexed by month - 1
+    private final long[] monthlyRupees = new long[12];
+
+    // Bonus paid in the month of the employee's birthday
+    private final long birthdayRupees;
+
+    // Bonus paid for an approved leave starting in the pay period, by leave type ID
+    private final Map<String, Long> leaveRupees;
+
+    /**
+     * Compiles a version of the bonus rules.
+     *
+     * @param version the version of the rules
+     * @param rules the rules of the version
+     */
+    public BonusRuleSet(int version, List<BonusRuleDTO> rules) {
+        this.version = version;
+        long birthday = 0;
+        Map<String, Long> leaves = new HashMap<>();
+        for (BonusRuleDTO rule : rules) {
+            long rupees = rule.getBonusAmount().longValueExact();
+            switch (rule.getRuleType()) {
+                case BonusRule.BIRTHDAY_RULE:
+                    birthday = Math.addExact(birthday, rupees);
+                    break;
+                case BonusRule.MONTHLY_RULE:
+                    monthlyRupees[rule.getBonusMonth() - 1] = Math.addExact(monthlyRupees[rule.getBonusMonth() - 1],
+                            rupees);
+                    break;
+                case BonusRule.APPROVED_LEAVE_RULE:
+                    leaves.merge(rule.getLeaveTypeId(), rupees, Math::addExact);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown bonus rule type: " + rule.getRuleType());
+            }
+        }
+        this.birthdayRupees = birthday;
+        this.leaveRupees = Collections.unmodifiableMap(leaves);
+    }
+
+    /**
+     * The rules applied before any version is published: a birthday bonus, a
+     * Diwali bonus in November and a bonus for an approved marriage leave.
+     *
+     * @param marriageLeaveTypeId the ID of the marriage leave type, null when it does not exist
+     * @return the default bonus rules
+     */
+    public static List<BonusRuleDTO> defaultRules(String marriageLeaveTypeId) {
+        List<BonusRuleDTO> rules = new ArrayList<>();
+        rules.add(new BonusRuleDTO(null, null, "Birthday Bonus", BonusRule.BIRTHDAY_RULE,
+                BigDecimal.valueOf(1000), null, null));
+        rules.add(new BonusRuleDTO(null, null, "Diwali Bonus", BonusRule.MONTHLY_RULE,
+                BigDecimal.valueOf(2000), Month.NOVEMBER.getValue(), null));
+        if (marriageLeaveTypeId != null) {
+            rules.add(new BonusRuleDTO(null, null, "Marriage Bonus", BonusRule.APPROVED_LEAVE_RULE,
+                    BigDecimal.valueOf(10000), null, marriageLeaveTypeId));
+        }
+        return rules;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * The leave types whose approved leaves earn a bonus.
+     *
+     * @return the IDs of the leave types, empty when no rule depends on leaves
+     */
+    public Set<String> getLeaveTypeIds() {
+        return leaveRupees.keySet();
+    }
+
+    /**
+     * Calculates the bonus of an employee for a pay period.
+     *
+     * @param payPeriod the pay period
+     * @param dateOfBirth the date of birth of the employee, may be null
+     * @param approvedLeaveTypeIds the types of the approved leaves of the employee starting in the pay period
+     * @return the bonus in whole rupees
+     */
+    public long bonusRupees(YearMonth payPeriod, LocalDate dateOfBirth, Collection<String> approvedLeaveTypeIds) {
+        long bonus = monthlyRupees[payPeriod.getMonthValue() - 1];
+        if (dateOfBirth != null && dateOfBirth.getMonth() == payPeriod.getMonth()) {
+            bonus += birthdayRupees;
+        }
+        for (String leaveTypeId : approvedLeaveTypeIds) {
+            bonus += leaveRupees.getOrDefault(leaveTypeId, 0L);
+        }
+        return bonus;
+    }
+}
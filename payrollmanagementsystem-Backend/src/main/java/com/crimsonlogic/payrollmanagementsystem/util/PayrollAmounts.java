@@ -0,0 +1,30 @@
+package com.crimsonlogic.payrollmanagementsystem.util;
+
+import lombok.Getter;
+
+/**
+ * Mutable holder of the amounts computed by the fixed-point payroll kernel.
+ * Money is held in paise, a holder can be reused across employees.
+ *
+ * @author abdulmanan
+ */
+@Getter
+public class PayrollAmounts {
+
+    // Scale of the gross salary, the monthly salary keeps the scale of the cost to company
+    int grossSalaryScale;
+
+    long grossSalaryPaise;
+
+    long penaltyPaise;
+
+    long pfPaise;
+
+    long taxPaise;
+
+    long bonusRupees;
+
+    long overtimePaise;
+
+    long netSalaryPaise;
+}
@@ -0,0 +1,198 @@
+package com.crimsonlogic.payrollmanagementsystem.util;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRecordDTO;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Utility class holding the salary calculation rules.
+ * The calculation works purely on its inputs, so it can be shared by the
+ * single employee preview and the bulk payroll run. Amounts are computed by the
+ * fixed-point {@link PayrollKernel} and converted to BigDecimal only for the DTO.
+ * The bonus is resolved beforehand from the active {@link BonusRuleSet}. Overtime is paid
+ * at the hourly share of the per day salary times the multiplier of the designation.
+ * The per day salary is the monthly salary spread over the working days of the
+ * {@link WorkingCalendar}, and only working days before joining are deducted.
+ *
+ * @author abdulmanan
+ */
+public class PayrollCalculator {
+
+    // Private constructor to prevent instantiation of this utility class
+    private PayrollCalculator() {
+    }
+
+    private static final BigDecimal TWELVE = BigDecimal.valueOf(12);
+    private static final BigDecimal PF_RATE = BigDecimal.valueOf(0.05);
+    private static final BigDecimal HOURS_PER_DAY = BigDecimal.valueOf(PayrollKernel.HOURS_PER_DAY);
+
+    // Overtime multiplier of a designation without one of its own
+    public static final BigDecimal DEFAULT_OVERTIME_MULTIPLIER = new BigDecimal("1.50");
+
+    /**
+     * Calculates the salary record of an employee for a pay period.
+     *
+     * @param employeeId the ID of the employee
+     * @param yearMonth the pay period
+     * @param costToCompany the annual cost to company of the employee
+     * @param joiningDate the joining date of the employee
+     * @param absentCount the number of absences recorded in the pay period
+     * @param bonusRupees the bonus of the pay period in whole rupees
+     * @param overtimeHours the overtime hours worked in the pay period, null for none
+     * @param overtimeMultiplier the overtime multiplier of the designation, null for the default
+     * @param workingCalendar the working-day calendar of the year of the pay period
+     * @param taxSlabTable the tax slabs applied to the salary
+     * @return the calculated salary record
+     */
+    public static SalaryRecordDTO calculate(String employeeId, YearMonth yearMonth, BigDecimal costToCompany,
+                                            LocalDate joiningDate, long absentCount, long bonusRupees,
+                                            BigDecimal overtimeHours, BigDecimal overtimeMultiplier,
+                                            WorkingCalendar workingCalendar, TaxSlabTable taxSlabTable) {
+        // Amounts finer than a paisa or beyond a long are left to the BigDecimal calculation
+        if (costToCompany.scale() < 0 || costToCompany.scale() > PayrollKernel.MAX_SCALE
+                || costToCompany.precision() > 15 || !taxSlabTable.isFixedPointSupported()) {
+            return calculateWithBigDecimal(employeeId, yearMonth, costToCompany, joiningDate, absentCount,
+                    bonusRupees, overtimeHours, overtimeMultiplier, workingCalendar, taxSlabTable);
+        }
+
+        PayrollAmounts amounts = new PayrollAmounts();
+        try {
+            // Hours and multipliers finer than a hundredth throw and fall back as well
+            PayrollKernel.compute(costToCompany.unscaledValue().longValue(), costToCompany.scale(),
+                    workingDays(workingCalendar, yearMonth),
+                    absentCount + daysBeforeJoining(joiningDate, yearMonth, workingCalendar),
+                    bonusRupees, hundredths(orZero(overtimeHours)), hundredths(orDefault(overtimeMultiplier)),
+                    taxSlabTable, amounts);
+        } catch (ArithmeticException e) {
+            return calculateWithBigDecimal(employeeId, yearMonth, costToCompany, joiningDate, absentCount,
+                    bonusRupees, overtimeHours, overtimeMultiplier, workingCalendar, taxSlabTable);
+        }
+
+        SalaryRecordDTO salaryRecordDTO = new SalaryRecordDTO();
+        salaryRecordDTO.setPayPeriodStart(yearMonth.atDay(1));
+        salaryRecordDTO.setPayPeriodEnd(yearMonth.atEndOfMonth());
+        salaryRecordDTO.setGrossSalary(BigDecimal.valueOf(amounts.getGrossSalaryPaise(), 2)
+                .setScale(amounts.getGrossSalaryScale(), RoundingMode.UNNECESSARY));
+        salaryRecordDTO.setBonusAmount(BigDecimal.valueOf(amounts.getBonusRupees()));
+        salaryRecordDTO.setOvertimeAmount(BigDecimal.valueOf(amounts.getOvertimePaise(), 2));
+        salaryRecordDTO.setPenaltyAmount(BigDecimal.valueOf(amounts.getPenaltyPaise(), 2));
+        salaryRecordDTO.setPfAmount(BigDecimal.valueOf(amounts.getPfPaise(), 2));
+        salaryRecordDTO.setTaxAmount(BigDecimal.valueOf(amounts.getTaxPaise(), 2));
+        salaryRecordDTO.setNetSalary(BigDecimal.valueOf(amounts.getNetSalaryPaise(), 2));
+        salaryRecordDTO.setEmployeeId(employeeId);
+        return salaryRecordDTO;
+    }
+
+    /**
+     * Calculates the salary record of an employee for a pay period with BigDecimal arithmetic.
+     * This is the reference the fixed-point kernel is held to, and the fallback for
+     * amounts the kernel cannot represent.
+     *
+     * @param employeeId the ID of the employee
+     * @param yearMonth the pay period
+     * @param costToCompany the annual cost to company of the employee
+     * @param joiningDate the joining date of the employee
+     * @param absentCount the number of absences recorded in the pay period
+     * @param bonusRupees the bonus of the pay period in whole rupees
+     * @param overtimeHours the overtime hours worked in the pay period, null for none
+     * @param overtimeMultiplier the overtime multiplier of the designation, null for the default
+     * @param workingCalendar the working-day calendar of the year of the pay period
+     * @param taxSlabTable the tax slabs applied to the salary
+     * @return the calculated salary record
+     */
+    public static SalaryRecordDTO calculateWithBigDecimal(String employeeId, YearMonth yearMonth,
+                                                          BigDecimal costToCompany, LocalDate joiningDate,
+                                                          long absentCount, long bonusRupees,
+                                                          BigDecimal overtimeHours, BigDecimal overtimeMultiplier,
+                                                          WorkingCalendar workingCalendar,
+                                                          TaxSlabTable taxSlabTable) {
+        BigDecimal monthlySalary = calculateMonthlySalary(costToCompany);
+        BigDecimal perDaySalary = calculatePerDaySalary(monthlySalary, workingDays(workingCalendar, yearMonth));
+
+        absentCount += daysBeforeJoining(joiningDate, yearMonth, workingCalendar);
+
+        BigDecimal penaltyAmount = perDaySalary.multiply(BigDecimal.valueOf(absentCount));
+        BigDecimal pfAmount = calculatePfAmount(monthlySalary);
+        BigDecimal taxAmount = taxSlabTable.monthlyTax(monthlySalary);
+        BigDecimal totalBonus = BigDecimal.valueOf(bonusRupees);
+        BigDecimal overtimeAmount = calculateOvertimeAmount(perDaySalary, orZero(overtimeHours),
+                orDefault(overtimeMultiplier));
+
+        BigDecimal netSalary = monthlySalary.subtract(penaltyAmount)
+                .subtract(pfAmount)
+                .subtract(taxAmount)
+                .add(totalBonus)
+                .add(overtimeAmount)
+                .setScale(2, RoundingMode.HALF_UP);
+
+        SalaryRecordDTO salaryRecordDTO = new SalaryRecordDTO();
+        salaryRecordDTO.setPayPeriodStart(yearMonth.atDay(1));
+        salaryRecordDTO.setPayPeriodEnd(yearMonth.atEndOfMonth());
+        salaryRecordDTO.setGrossSalary(monthlySalary);
+        salaryRecordDTO.setBonusAmount(totalBonus);
+        salaryRecordDTO.setOvertimeAmount(overtimeAmount);
+        salaryRecordDTO.setPenaltyAmount(penaltyAmount);
+        salaryRecordDTO.setPfAmount(pfAmount);
+        salaryRecordDTO.setTaxAmount(taxAmount);
+        salaryRecordDTO.setNetSalary(netSalary);
+        salaryRecordDTO.setEmployeeId(employeeId);
+        return salaryRecordDTO;
+    }
+
+    // Working days before the joining date are counted as absences in the month of joining
+    private static long daysBeforeJoining(LocalDate joiningDate, YearMonth yearMonth, WorkingCalendar workingCalendar) {
+        return (joiningDate != null && YearMonth.from(joiningDate).equals(yearMonth)
+                && joiningDate.getDayOfMonth() > 1)
+                ? workingCalendar.countWorkingDays(yearMonth.atDay(1), joiningDate.minusDays(1)) : 0L;
+    }
+
+    /**
+     * The working days of a month the per day salary and the absence penalty are based on,
+     * at least one so a month of holidays still has a per day salary.
+     *
+     * @param workingCalendar the working-day calendar of the year of the month
+     * @param yearMonth the month
+     * @return the number of working days of the month
+     */
+    public static int workingDays(WorkingCalendar workingCalendar, YearMonth yearMonth) {
+        return Math.max(workingCalendar.countWorkingDays(yearMonth), 1);
+    }
+
+    // Calculate monthly salary based on cost to company
+    private static BigDecimal calculateMonthlySalary(BigDecimal costToCompany) {
+        return costToCompany.divide(TWELVE, RoundingMode.HALF_UP);
+    }
+
+    // Calculate per day salary based on monthly salary and number of working days
+    private static BigDecimal calculatePerDaySalary(BigDecimal monthlySalary, int workingDays) {
+        return monthlySalary.divide(BigDecimal.valueOf(workingDays), RoundingMode.HALF_UP).setScale(2, RoundingMode.CEILING);
+    }
+
+    // Calculate overtime amount from the hourly share of the per day salary
+    private static BigDecimal calculateOvertimeAmount(BigDecimal perDaySalary, BigDecimal overtimeHours,
+                                                      BigDecimal overtimeMultiplier) {
+        return perDaySalary.multiply(overtimeHours).multiply(overtimeMultiplier)
+                .divide(HOURS_PER_DAY, 2, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal orZero(BigDecimal overtimeHours) {
+        return overtimeHours != null ? overtimeHours : BigDecimal.ZERO;
+    }
+
+    private static BigDecimal orDefault(BigDecimal overtimeMultiplier) {
+        return overtimeMultiplier != null ? overtimeMultiplier : DEFAULT_OVERTIME_MULTIPLIER;
+    }
+
+    // The value in hundredths, throwing if it is finer or beyond a long
+    private static long hundredths(BigDecimal value) {
+        return value.setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    // Calculate provident fund amount
+    private static BigDecimal calculatePfAmount(BigDecimal monthlySalary) {
+        return monthlySalary.multiply(PF_RATE).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,91 @@
+package com.crimsonlogic.payrollmanagementsystem.util;
+
+/**
+ * Fixed-point payroll kernel working on long paise values.
+ * Every rounding step mirrors the BigDecimal calculation in {@link PayrollCalculator},
+ * so both produce the same amounts while the kernel allocates nothing.
+ *
+ * @author abdulmanan
+ */
+public class PayrollKernel {
+
+    // Private constructor to prevent instantiation of this utility class
+    private PayrollKernel() {
+    }
+
+    // Largest scale of a cost to company the kernel accepts, one paisa
+    public static final int MAX_SCALE = 2;
+
+    private static final long[] POW10 = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L
+    };
+
+    // Provident fund is five percent of the monthly salary
+    private static final long PF_PERCENT = 5;
+
+    // Hours of a standard day, the hourly rate is the per day salary divided by them
+    public static final int HOURS_PER_DAY = 8;
+
+    /**
+     * Computes the salary amounts of an employee for one month.
+     *
+     * @param costToCompanyUnscaled the unscaled annual cost to company
+     * @param costToCompanyScale the scale of the cost to company, between 0 and {@link #MAX_SCALE}
+     * @param workingDays the number of working days in the month, at least one
+     * @param absentDays the number of absences, including days before joining
+     * @param bonusRupees the total bonus in whole rupees
+     * @param overtimeHundredths the overtime hours in hundredths of an hour
+     * @param overtimeMultiplierHundredths the overtime multiplier in hundredths
+     * @param taxSlabTable the tax slabs applied to the salary, must support fixed-point
+     * @param amounts the holder receiving the computed amounts
+     * @throws ArithmeticException if an intermediate value overflows a long
+     */
+    public static void compute(long costToCompanyUnscaled, int costToCompanyScale, int workingDays,
+                               long absentDays, long bonusRupees, long overtimeHundredths,
+                               long overtimeMultiplierHundredths, TaxSlabTable taxSlabTable,
+                               PayrollAmounts amounts) {
+        // Amounts at the scale of the cost to company are counted in units of this many paise
+        long unit = POW10[MAX_SCALE - costToCompanyScale];
+
+        // Monthly salary rounds half up at the scale of the cost to company
+        long monthlyUnits = divideHalfUp(costToCompanyUnscaled, 12);
+        long monthlyPaise = Math.multiplyExact(monthlyUnits, unit);
+
+        // Per day salary rounds half up at the same scale, the ceiling to paise is then exact
+        long perDayPaise = Math.multiplyExact(divideHalfUp(monthlyUnits, workingDays), unit);
+        long penaltyPaise = Math.multiplyExact(perDayPaise, absentDays);
+
+        // Overtime is exact in paise times both hundredths, rounded half up once
+        long overtimePaise = divideHalfUp(Math.multiplyExact(Math.multiplyExact(perDayPaise, overtimeHundredths),
+                overtimeMultiplierHundredths), HOURS_PER_DAY * 10_000L);
+
+        long pfPaise = divideHalfUp(Math.multiplyExact(monthlyPaise, PF_PERCENT), 100);
+        long taxPaise = taxSlabTable.monthlyTaxPaise(monthlyPaise, costToCompanyScale);
+
+        amounts.grossSalaryScale = costToCompanyScale;
+        amounts.grossSalaryPaise = monthlyPaise;
+        amounts.penaltyPaise = penaltyPaise;
+        amounts.pfPaise = pfPaise;
+        amounts.taxPaise = taxPaise;
+        amounts.bonusRupees = bonusRupees;
+        amounts.overtimePaise = overtimePaise;
+        amounts.netSalaryPaise = Math.addExact(Math.addExact(
+                monthlyPaise - penaltyPaise - pfPaise - taxPaise, Math.multiplyExact(bonusRupees, 100)),
+                overtimePaise);
+    }
+
+    // Divide rounding half away from zero, as RoundingMode.HALF_UP does
+    static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) * 2 >= divisor) {
+            quotient += dividend < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+
+    static long pow10(int exponent) {
+        return POW10[exponent];
+    }
+}
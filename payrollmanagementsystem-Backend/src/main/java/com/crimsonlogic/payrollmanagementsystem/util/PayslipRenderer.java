@@ -0,0 +1,143 @@
+package com.crimsonlogic.payrollmanagementsystem.util;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.PayslipDTO;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.time.format.TextStyle;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Utility class rendering the payslip of an employee as a PDF document.
+ * The layout follows the payslip employees download from their salary records,
+ * so a payslip looks the same whether it was rendered in the browser or here.
+ * Every call works on its own document, so payslips can be rendered in parallel.
+ *
+ * @author abdulmanan
+ */
+public class PayslipRenderer {
+
+    // Private constructor to prevent instantiation of this utility class
+    private PayslipRenderer() {
+    }
+
+    private static final float MARGIN = 56;
+    private static final float LABEL_WIDTH = 180;
+    private static final float LINE_HEIGHT = 14;
+    private static final float CELL_PADDING = 6;
+    private static final float TITLE_SIZE = 16;
+    private static final float TEXT_SIZE = 11;
+
+    /**
+     * Renders the payslip of an employee for a pay period.
+     *
+     * @param payslip the salary record of the pay period along with the employee details
+     * @param workingDays the working days of the pay period the absence penalty was based on
+     * @return the payslip as a PDF document
+     * @throws IOException if the document cannot be written
+     */
+    public static byte[] render(PayslipDTO payslip, int workingDays) throws IOException {
+        YearMonth yearMonth = YearMonth.from(payslip.getPayPeriodStart());
+        int daysInMonth = yearMonth.lengthOfMonth();
+
+        List<String[]> rows = List.of(
+                new String[]{"Full Name", text(payslip.getFullName())},
+                new String[]{"Date of Joining", text(payslip.getJoiningDate())},
+                new String[]{"Designation", text(payslip.getDesignation())},
+                new String[]{"Days in Month", String.valueOf(daysInMonth)},
+                new String[]{"Effective Working Days", String.valueOf(workingDays)},
+                new String[]{"Gross Salary", amount(payslip.getGrossSalary())},
+                new String[]{"Deductions", "Penalty Amount: " + amount(payslip.getPenaltyAmount())
+                        + "\nPF Amount: " + amount(payslip.getPfAmount())
+                        + "\nTax Amount: " + amount(payslip.getTaxAmount())},
+                new String[]{"Bonus", amount(payslip.getBonusAmount())},
+                new String[]{"Overtime", amount(payslip.getOvertimeAmount())},
+                new String[]{"Net Salary", amount(payslip.getNetSalary())});
+
+        try (PDDocument document = new PDDocument();
+             ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            PDPage page = new PDPage(PDRectangle.A4);
+            document.addPage(page);
+            PDType1Font regular = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            PDType1Font bold = new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD);
+            float pageWidth = page.getMediaBox().getWidth();
+            float tableWidth = pageWidth - 2 * MARGIN;
+
+            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                String title = "Payslip for month of "
+                        + yearMonth.getMonth().getDisplayName(TextStyle.FULL, Locale.ENGLISH) + " " + yearMonth.getYear();
+                float titleWidth = bold.getStringWidth(title) / 1000 * TITLE_SIZE;
+                float y = page.getMediaBox().getHeight() - 70;
+                writeLine(content, bold, TITLE_SIZE, (pageWidth - titleWidth) / 2, y, title);
+
+                y -= 40;
+                y = writeRow(content, bold, MARGIN, y, tableWidth, "Description", "Details");
+                for (String[] row : rows) {
+                    y = writeRow(content, regular, MARGIN, y, tableWidth, row[0], row[1]);
+                }
+            }
+            document.save(outputStream);
+            return outputStream.toByteArray();
+        }
+    }
+
+    // Write one bordered table row and return the bottom of the row
+    private static float writeRow(PDPageContentStream content, PDType1Font font, float x, float top,
+                                  float width, String label, String value) throws IOException {
+        String[] lines = value.split("\n");
+        float height = lines.length * LINE_HEIGHT + 2 * CELL_PADDING;
+        float bottom = top - height;
+        content.addRect(x, bottom, LABEL_WIDTH, height);
+        content.addRect(x + LABEL_WIDTH, bottom, width - LABEL_WIDTH, height);
+        content.stroke();
+
+        float baseline = top - CELL_PADDING - TEXT_SIZE;
+        writeLine(content, font, TEXT_SIZE, x + CELL_PADDING, baseline, label);
+        for (String line : lines) {
+            writeLine(content, font, TEXT_SIZE, x + LABEL_WIDTH + CELL_PADDING, baseline, line);
+            baseline -= LINE_HEIGHT;
+        }
+        return bottom;
+    }
+
+    private static void writeLine(PDPageContentStream content, PDType1Font font, float size, float x, float y,
+                                  String text) throws IOException {
+        content.beginText();
+        content.setFont(font, size);
+        content.newLineAtOffset(x, y);
+        content.showText(printable(font, text));
+        content.endText();
+    }
+
+    // The standard fonts only cover WinAnsi, other characters are replaced rather than failing the payslip
+    private static String printable(PDType1Font font, String text) {
+        StringBuilder printable = new StringBuilder(text.length());
+        text.codePoints().forEach(codePoint -> {
+            String character = new String(Character.toChars(codePoint));
+            try {
+                font.encode(character);
+                printable.append(character);
+            } catch (IOException | IllegalArgumentException e) {
+                printable.append('?');
+            }
+        });
+        return printable.toString();
+    }
+
+    private static String text(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
+    private static String amount(BigDecimal value) {
+        return value != null ? value.toPlainString() : "0";
+    }
+}
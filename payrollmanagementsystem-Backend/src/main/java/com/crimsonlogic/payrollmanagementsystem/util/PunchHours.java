@@ -0,0 +1,72 @@
+package com.crimsonlogic.payrollmanagementsystem.util;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.PunchEvent;
+import com.crimsonlogic.payrollmanagementsystem.dto.PunchEventDTO;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Utility class folding the punch events of an employee into hours worked per day.
+ * Each clock-in is paired with the next clock-out and the time between them counts
+ * on the day of the clock-in, so a night shift counts on the day it started.
+ *
+ * @author abdulmanan
+ */
+public final class PunchHours {
+
+    // Longest time between a clock-in and a clock-out counted as one shift
+    private static final Duration MAX_SHIFT = Duration.ofHours(16);
+
+    private static final BigDecimal SECONDS_PER_HOUR = BigDecimal.valueOf(3600);
+
+    // Private constructor to prevent instantiation of this utility class
+    private PunchHours() {
+    }
+
+    /**
+     * Adds up the hours worked per day. A clock-in followed by another clock-in is
+     * replaced by the later one, a clock-out without a clock-in and a pair longer
+     * than a shift are ignored.
+     *
+     * @param punchEvents the events of one employee, ordered by time
+     * @return the hours worked per day, rounded to two decimals, for the days with a complete pair
+     */
+    public static Map<LocalDate, BigDecimal> workedHours(List<PunchEventDTO> punchEvents) {
+        Map<LocalDate, Long> seconds = new TreeMap<>();
+        LocalDateTime clockIn = null;
+        for (PunchEventDTO punchEvent : punchEvents) {
+            if (PunchEvent.IN.equals(punchEvent.getDirection())) {
+                clockIn = punchEvent.getPunchTime();
+            } else if (clockIn != null) {
+                Duration shift = Duration.between(clockIn, punchEvent.getPunchTime());
+                if (shift.compareTo(MAX_SHIFT) <= 0) {
+                    seconds.merge(clockIn.toLocalDate(), shift.getSeconds(), Long::sum);
+                }
+                clockIn = null;
+            }
+        }
+
+        Map<LocalDate, BigDecimal> hours = new TreeMap<>();
+        seconds.forEach((day, worked) -> hours.put(day,
+                BigDecimal.valueOf(worked).divide(SECONDS_PER_HOUR, 2, RoundingMode.HALF_UP)));
+        return hours;
+    }
+
+    /**
+     * Calculates the overtime of a day, the hours worked beyond the standard day.
+     *
+     * @param totalHours the hours worked on the day
+     * @param standardHours the hours of a standard day
+     * @return the overtime hours, zero for a day of at most standard hours
+     */
+    public static BigDecimal overtimeHours(BigDecimal totalHours, BigDecimal standardHours) {
+        return totalHours.subtract(standardHours).max(BigDecimal.ZERO).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,140 @@
+package com.crimsonlogic.payrollmanagementsystem.util;
+
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * Immutable date range a salary report covers, both ends included.
+ * A period is built from explicit dates, a month, a calendar quarter or year, or
+ * an April to March fiscal year, and may span several years. Reports select the
+ * pay periods starting within the range, so the range stays a plain predicate
+ * on the indexed pay period start.
+ *
+ * @author abdulmanan
+ */
+public final class ReportPeriod {
+
+    // Fiscal years run from April to March, fiscal year 2024 starts on 1 April 2024
+    public static final Month FISCAL_YEAR_START = Month.APRIL;
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    private ReportPeriod(LocalDate startDate, LocalDate endDate) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    /**
+     * Creates a period between two dates.
+     *
+     * @param startDate the first day of the period
+     * @param endDate the last day of the period
+     * @return the period
+     * @throws ResourceNotFoundException if a date is missing or the start is after the end
+     */
+    public static ReportPeriod of(LocalDate startDate, LocalDate endDate) throws ResourceNotFoundException {
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            throw new ResourceNotFoundException("Invalid date range.");
+        }
+        return new ReportPeriod(startDate, endDate);
+    }
+
+    /**
+     * Creates the period of a calendar quarter.
+     *
+     * @param quarter the quarter, "quarter 1" to "quarter 4"
+     * @param year the year of the quarter, the current year if null
+     * @return the period of the quarter
+     * @throws ResourceNotFoundException if the quarter or the year is invalid
+     */
+    public static ReportPeriod ofQuarter(String quarter, Integer year) throws ResourceNotFoundException {
+        int quarterNumber = switch (quarter == null ? "" : quarter.trim().toLowerCase()) {
+            case "quarter 1" -> 1;
+            case "quarter 2" -> 2;
+            case "quarter 3" -> 3;
+            case "quarter 4" -> 4;
+            default -> throw new ResourceNotFoundException("Invalid quarter: " + quarter);
+        };
+        return ofMonths(year != null ? year : Year.now().getValue(), quarterNumber * 3 - 2, 3);
+    }
+
+    /**
+     * Creates the period of a calendar year.
+     *
+     * @param year the year
+     * @return the period from January to December of the year
+     * @throws ResourceNotFoundException if the year is invalid
+     */
+    public static ReportPeriod ofYear(int year) throws ResourceNotFoundException {
+        return ofMonths(year, Month.JANUARY.getValue(), 12);
+    }
+
+    /**
+     * Creates the period of a month.
+     *
+     * @param year the year of the month
+     * @param month the month, 1 to 12
+     * @return the period from the first to the last day of the month
+     * @throws ResourceNotFoundException if the year or the month is invalid
+     */
+    public static ReportPeriod ofMonth(int year, int month) throws ResourceNotFoundException {
+        if (month < 1 || month > 12) {
+            throw new ResourceNotFoundException("Invalid month: " + month);
+        }
+        return ofMonths(year, month, 1);
+    }
+
+    /**
+     * Creates the period of a fiscal year.
+     *
+     * @param fiscalYear the calendar year the fiscal year starts in
+     * @return the period from April of the year to March of the next year
+     * @throws ResourceNotFoundException if the year is invalid
+     */
+    public static ReportPeriod ofFiscalYear(int fiscalYear) throws ResourceNotFoundException {
+        return ofMonths(fiscalYear, FISCAL_YEAR_START.getValue(), 12);
+    }
+
+    /**
+     * Resolves the period of a report request, given either a fiscal year or both dates.
+     *
+     * @param startDate the first day of the period, used without a fiscal year
+     * @param endDate the last day of the period, used without a fiscal year
+     * @param fiscalYear the fiscal year of the period, may be null
+     * @return the period
+     * @throws ResourceNotFoundException if the request names no valid period
+     */
+    public static ReportPeriod resolve(LocalDate startDate, LocalDate endDate, Integer fiscalYear)
+            throws ResourceNotFoundException {
+        if (fiscalYear != null) {
+            if (startDate != null || endDate != null) {
+                throw new ResourceNotFoundException("Give either a fiscal year or a date range.");
+            }
+            return ofFiscalYear(fiscalYear);
+        }
+        return of(startDate, endDate);
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    // Whole months from the first day of a month, rejecting years LocalDate cannot hold
+    private static ReportPeriod ofMonths(int year, int month, int months) throws ResourceNotFoundException {
+        try {
+            LocalDate startDate = LocalDate.of(year, month, 1);
+            return new ReportPeriod(startDate, startDate.plusMonths(months).minusDays(1));
+        } catch (DateTimeException e) {
+            throw new ResourceNotFoundException("Invalid year: " + year);
+        }
+    }
+}
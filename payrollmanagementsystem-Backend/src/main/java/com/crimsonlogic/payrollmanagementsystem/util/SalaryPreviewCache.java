@@ -0,0 +1,203 @@
+package com.crimsonlogic.payrollmanagementsystem.util;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryPreviewCacheStatsDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRecordDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of computed salary previews, keyed by employee and pay period.
+ * Entries are evicted least recently used first and are invalidated by the services
+ * that change an input of the calculation. An invalidation is applied at once and
+ * again after the surrounding transaction commits, and a preview computed while an
+ * invalidation happened is not stored, so a stale preview is never served.
+ *
+ * @author abdulmanan
+ */
+@Component
+public class SalaryPreviewCache {
+
+    private final int capacity;
+    private final Map<String, SalaryRecordDTO> previews;
+
+    // Incremented by every invalidation, previews computed across a change are dropped
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Creates a cache holding at most the given number of previews.
+     *
+     * @param capacity the number of previews to keep
+     */
+    public SalaryPreviewCache(@Value("${payroll.preview-cache.capacity:5000}") int capacity) {
+        this.capacity = capacity;
+        this.previews = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SalaryRecordDTO> eldest) {
+                boolean evict = size() > SalaryPreviewCache.this.capacity;
+                if (evict) {
+                    evictions.incrementAndGet();
+                }
+                return evict;
+            }
+        };
+    }
+
+    /**
+     * Returns a copy of the cached preview of an employee for a pay period.
+     *
+     * @param employeeId the ID of the employee
+     * @param yearMonth the pay period
+     * @return the cached preview, or null if none is cached
+     */
+    public SalaryRecordDTO get(String employeeId, YearMonth yearMonth) {
+        SalaryRecordDTO preview;
+        synchronized (previews) {
+            preview = previews.get(key(employeeId, yearMonth));
+        }
+        if (preview == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return copyOf(preview);
+    }
+
+    /**
+     * Returns the current generation, to be read before the inputs of a preview are loaded.
+     *
+     * @return the current generation
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Stores a preview unless an invalidation happened since the given generation was read.
+     *
+     * @param employeeId the ID of the employee
+     * @param yearMonth the pay period
+     * @param preview the computed preview
+     * @param loadedGeneration the generation read before the inputs were loaded
+     */
+    public void put(String employeeId, YearMonth yearMonth, SalaryRecordDTO preview, long loadedGeneration) {
+        SalaryRecordDTO copy = copyOf(preview);
+        synchronized (previews) {
+            if (generation.get() == loadedGeneration) {
+                previews.put(key(employeeId, yearMonth), copy);
+            }
+        }
+    }
+
+    /**
+     * Invalidates the previews of an employee for the pay periods overlapping a date range.
+     *
+     * @param employeeId the ID of the employee
+     * @param startMonth the first pay period
+     * @param endMonth the last pay period
+     */
+    public void invalidate(String employeeId, YearMonth startMonth, YearMonth endMonth) {
+        invalidateNowAndAfterCommit(() -> {
+            synchronized (previews) {
+                generation.incrementAndGet();
+                for (YearMonth month = startMonth; !month.isAfter(endMonth); month = month.plusMonths(1)) {
+                    previews.remove(key(employeeId, month));
+                }
+            }
+        });
+    }
+
+    /**
+     * Invalidates every preview of an employee.
+     *
+     * @param employeeId the ID of the employee
+     */
+    public void invalidateEmployee(String employeeId) {
+        String prefix = employeeId + "|";
+        invalidateNowAndAfterCommit(() -> {
+            synchronized (previews) {
+                generation.incrementAndGet();
+                previews.keySet().removeIf(key -> key.startsWith(prefix));
+            }
+        });
+    }
+
+    /**
+     * Invalidates every preview, for changes whose scope is not known.
+     */
+    public void invalidateAll() {
+        invalidateNowAndAfterCommit(() -> {
+            synchronized (previews) {
+                generation.incrementAndGet();
+                previews.clear();
+            }
+        });
+    }
+
+    /**
+     * Returns the hit, miss, invalidation and eviction counters of the cache.
+     *
+     * @return the statistics of the cache
+     */
+    public SalaryPreviewCacheStatsDTO getStats() {
+        SalaryPreviewCacheStatsDTO stats = new SalaryPreviewCacheStatsDTO();
+        stats.setHits(hits.get());
+        stats.setMisses(misses.get());
+        stats.setInvalidations(invalidations.get());
+        stats.setEvictions(evictions.get());
+        synchronized (previews) {
+            stats.setSize(previews.size());
+        }
+        stats.setCapacity(capacity);
+        return stats;
+    }
+
+    // Apply the invalidation now, and again once the changed inputs are visible to other readers
+    private void invalidateNowAndAfterCommit(Runnable invalidation) {
+        invalidations.incrementAndGet();
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+
+    private static String key(String employeeId, YearMonth yearMonth) {
+        return employeeId + "|" + yearMonth;
+    }
+
+    // Previews are handed out as copies, callers may modify what they receive
+    private static SalaryRecordDTO copyOf(SalaryRecordDTO preview) {
+        SalaryRecordDTO copy = new SalaryRecordDTO();
+        copy.setSalaryRecordId(preview.getSalaryRecordId());
+        copy.setPayPeriodStart(preview.getPayPeriodStart());
+        copy.setPayPeriodEnd(preview.getPayPeriodEnd());
+        copy.setGrossSalary(preview.getGrossSalary());
+        copy.setBonusAmount(preview.getBonusAmount());
+        copy.setOvertimeAmount(preview.getOvertimeAmount());
+        copy.setPenaltyAmount(preview.getPenaltyAmount());
+        copy.setNetSalary(preview.getNetSalary());
+        copy.setPfAmount(preview.getPfAmount());
+        copy.setTaxAmount(preview.getTaxAmount());
+        copy.setEmployeeId(preview.getEmployeeId());
+        copy.setFullName(preview.getFullName());
+        copy.setJoiningDate(preview.getJoiningDate());
+        copy.setDesignation(preview.getDesignation());
+        return copy;
+    }
+}
@@ -0,0 +1,224 @@
+package com.crimsonlogic.payrollmanagementsystem.util;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.TaxSlabDTO;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable lookup table of one version of the income tax slabs.
+ * The slab of an annual salary is found by binary search and the monthly tax
+ * is memoized per distinct annual salary, since salaries repeat across grades.
+ * The slabs are also kept as unscaled longs for the fixed-point payroll kernel.
+ *
+ * @author abdulmanan
+ */
+public class TaxSlabTable {
+
+    // Default number of distinct annual salaries memoized per table
+    public static final int DEFAULT_CACHE_CAPACITY = 10000;
+
+    private static final BigDecimal TWELVE = BigDecimal.valueOf(12);
+
+    // Largest scales the fixed-point tax calculation accepts
+    private static final int MAX_AMOUNT_SCALE = 2;
+    private static final int MAX_RATE_SCALE = 6;
+
+    private final int version;
+    private final BigDecimal[] lowerLimits;
+    private final BigDecimal[] taxRates;
+    private final BigDecimal[] baseTaxes;
+    private final int cacheCapacity;
+    private final Map<BigDecimal, BigDecimal> monthlyTaxCache = new ConcurrentHashMap<>();
+
+    // Unscaled values and scales of the slabs for the fixed-point calculation
+    private final long[] lowerLimitPaise;
+    private final long[] lowerLimitUnscaled;
+    private final int[] lowerLimitScales;
+    private final long[] taxRateUnscaled;
+    private final int[] taxRateScales;
+    private final long[] baseTaxUnscaled;
+    private final int[] baseTaxScales;
+    private final boolean fixedPointSupported;
+
+    /**
+     * Creates a table from slabs ordered by ascending lower limit.
+     *
+     * @param version the version of the slabs
+     * @param slabs the slabs ordered by ascending lower limit
+     * @param cacheCapacity the number of distinct annual salaries to memoize
+     */
+    public TaxSlabTable(int version, List<TaxSlabDTO> slabs, int cacheCapacity) {
+        this.version = version;
+        this.cacheCapacity = cacheCapacity;
+        this.lowerLimits = new BigDecimal[slabs.size()];
+        this.taxRates = new BigDecimal[slabs.size()];
+        this.baseTaxes = new BigDecimal[slabs.size()];
+        for (int i = 0; i < slabs.size(); i++) {
+            lowerLimits[i] = normalize(slabs.get(i).getLowerLimit());
+            taxRates[i] = normalize(slabs.get(i).getTaxRate());
+            baseTaxes[i] = normalize(slabs.get(i).getBaseTax());
+        }
+
+        this.lowerLimitPaise = new long[slabs.size()];
+        this.lowerLimitUnscaled = new long[slabs.size()];
+        this.lowerLimitScales = new int[slabs.size()];
+        this.taxRateUnscaled = new long[slabs.size()];
+        this.taxRateScales = new int[slabs.size()];
+        this.baseTaxUnscaled = new long[slabs.size()];
+        this.baseTaxScales = new int[slabs.size()];
+        boolean supported = true;
+        for (int i = 0; i < slabs.size() && supported; i++) {
+            supported = lowerLimits[i].scale() <= MAX_AMOUNT_SCALE && taxRates[i].scale() <= MAX_RATE_SCALE
+                    && baseTaxes[i].scale() <= MAX_AMOUNT_SCALE && lowerLimits[i].precision() <= 15
+                    && taxRates[i].precision() <= 15 && baseTaxes[i].precision() <= 15;
+            if (supported) {
+                lowerLimitPaise[i] = lowerLimits[i].movePointRight(2).longValueExact();
+                lowerLimitUnscaled[i] = lowerLimits[i].unscaledValue().longValueExact();
+                lowerLimitScales[i] = lowerLimits[i].scale();
+                taxRateUnscaled[i] = taxRates[i].unscaledValue().longValueExact();
+                taxRateScales[i] = taxRates[i].scale();
+                baseTaxUnscaled[i] = baseTaxes[i].unscaledValue().longValueExact();
+                baseTaxScales[i] = baseTaxes[i].scale();
+            }
+        }
+        this.fixedPointSupported = supported;
+    }
+
+    /**
+     * Returns the slabs of the tax regime the payroll was built with.
+     *
+     * @return the default slabs ordered by ascending lower limit
+     */
+    public static List<TaxSlabDTO> defaultSlabs() {
+        return List.of(
+                slab(0, "0", 0),
+                slab(300000, "0.05", 0),
+                slab(600000, "0.10", 15000),
+                slab(900000, "0.15", 45000),
+                slab(1200000, "0.20", 90000),
+                slab(1500000, "0.20", 150000));
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Calculates the monthly tax of a monthly salary.
+     *
+     * @param monthlySalary the monthly salary
+     * @return the monthly tax rounded to two decimals
+     */
+    public BigDecimal monthlyTax(BigDecimal monthlySalary) {
+        BigDecimal annualSalary = monthlySalary.multiply(TWELVE);
+        BigDecimal monthlyTax = monthlyTaxCache.get(annualSalary);
+        if (monthlyTax == null) {
+            int slab = findSlab(annualSalary);
+            monthlyTax = baseTaxes[slab]
+                    .add(annualSalary.subtract(lowerLimits[slab]).multiply(taxRates[slab]))
+                    .divide(TWELVE, RoundingMode.HALF_UP)
+                    .setScale(2, RoundingMode.HALF_UP);
+            if (monthlyTaxCache.size() < cacheCapacity) {
+                monthlyTaxCache.put(annualSalary, monthlyTax);
+            }
+        }
+        return monthlyTax;
+    }
+
+    /**
+     * Whether the slabs can be represented by the fixed-point tax calculation.
+     *
+     * @return true if {@link #monthlyTaxPaise(long, int)} can be used
+     */
+    public boolean isFixedPointSupported() {
+        return fixedPointSupported;
+    }
+
+    /**
+     * Calculates the monthly tax in paise without allocating, rounding exactly like
+     * {@link #monthlyTax(BigDecimal)} does for a monthly salary of the given scale.
+     *
+     * @param monthlySalaryPaise the monthly salary in paise
+     * @param salaryScale the scale of the monthly salary, between 0 and 2
+     * @return the monthly tax in paise
+     * @throws ArithmeticException if an intermediate value overflows a long
+     */
+    public long monthlyTaxPaise(long monthlySalaryPaise, int salaryScale) {
+        long annualPaise = Math.multiplyExact(monthlySalaryPaise, 12);
+        int slab = findSlab(annualPaise);
+        int lowerLimitScale = lowerLimitScales[slab];
+        int taxRateScale = taxRateScales[slab];
+        int baseTaxScale = baseTaxScales[slab];
+
+        // Work at the scale the BigDecimal arithmetic would end up with
+        int differenceScale = Math.max(salaryScale, lowerLimitScale);
+        int taxScale = Math.max(differenceScale + taxRateScale, baseTaxScale);
+        long annualUnits = annualPaise / PayrollKernel.pow10(MAX_AMOUNT_SCALE - salaryScale);
+        long difference = Math.subtractExact(
+                Math.multiplyExact(annualUnits, PayrollKernel.pow10(differenceScale - salaryScale)),
+                Math.multiplyExact(lowerLimitUnscaled[slab], PayrollKernel.pow10(differenceScale - lowerLimitScale)));
+        long annualTax = Math.addExact(
+                Math.multiplyExact(Math.multiplyExact(difference, taxRateUnscaled[slab]),
+                        PayrollKernel.pow10(taxScale - differenceScale - taxRateScale)),
+                Math.multiplyExact(baseTaxUnscaled[slab], PayrollKernel.pow10(taxScale - baseTaxScale)));
+
+        // Divide by twelve at the tax scale, then round to paise
+        long monthlyTax = PayrollKernel.divideHalfUp(annualTax, 12);
+        return taxScale > MAX_AMOUNT_SCALE
+                ? PayrollKernel.divideHalfUp(monthlyTax, PayrollKernel.pow10(taxScale - MAX_AMOUNT_SCALE))
+                : Math.multiplyExact(monthlyTax, PayrollKernel.pow10(MAX_AMOUNT_SCALE - taxScale));
+    }
+
+    // Find the highest slab whose lower limit is below the annual salary
+    private int findSlab(long annualPaise) {
+        int low = 0;
+        int high = lowerLimitPaise.length - 1;
+        int slab = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (annualPaise > lowerLimitPaise[mid]) {
+                slab = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return slab;
+    }
+
+    // Find the highest slab whose lower limit is below the annual salary
+    private int findSlab(BigDecimal annualSalary) {
+        int low = 0;
+        int high = lowerLimits.length - 1;
+        int slab = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (annualSalary.compareTo(lowerLimits[mid]) > 0) {
+                slab = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return slab;
+    }
+
+    // Drop trailing zeros so stored values carry the same scale as plain literals,
+    // the scale decides where the monthly tax is rounded
+    private static BigDecimal normalize(BigDecimal value) {
+        BigDecimal stripped = value.stripTrailingZeros();
+        return stripped.scale() < 0 ? stripped.setScale(0) : stripped;
+    }
+
+    private static TaxSlabDTO slab(long lowerLimit, String taxRate, long baseTax) {
+        TaxSlabDTO taxSlabDTO = new TaxSlabDTO();
+        taxSlabDTO.setLowerLimit(BigDecimal.valueOf(lowerLimit));
+        taxSlabDTO.setTaxRate(new BigDecimal(taxRate));
+        taxSlabDTO.setBaseTax(BigDecimal.valueOf(baseTax));
+        return taxSlabDTO;
+    }
+}
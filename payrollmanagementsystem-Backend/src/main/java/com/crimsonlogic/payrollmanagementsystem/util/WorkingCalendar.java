@@ -0,0 +1,101 @@
+package com.crimsonlogic.payrollmanagementsystem.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Immutable working-day calendar of one year, kept as a prefix sum of the working days.
+ * A day is a working day unless it falls on a weekly day off or is a holiday, and the
+ * working days between any two days of the year are counted with two array reads.
+ *
+ * @author abdulmanan
+ */
+public final class WorkingCalendar {
+
+    private final int year;
+
+    // Element i is the number of working days among the first i days of the year
+    private final int[] workingDaysBefore;
+
+    private WorkingCalendar(int year, int[] workingDaysBefore) {
+        this.year = year;
+        this.workingDaysBefore = workingDaysBefore;
+    }
+
+    /**
+     * Builds the calendar of a year.
+     *
+     * @param year the year of the calendar
+     * @param weeklyOffDays the days of the week no one works
+     * @param holidays the holidays, dates outside the year are ignored
+     * @return the calendar of the year
+     */
+    public static WorkingCalendar of(int year, Set<DayOfWeek> weeklyOffDays, Collection<LocalDate> holidays) {
+        int length = Year.of(year).length();
+        boolean[] offDays = new boolean[length];
+        for (LocalDate holiday : holidays) {
+            if (holiday.getYear() == year) {
+                offDays[holiday.getDayOfYear() - 1] = true;
+            }
+        }
+        int[] workingDaysBefore = new int[length + 1];
+        DayOfWeek dayOfWeek = LocalDate.ofYearDay(year, 1).getDayOfWeek();
+        for (int i = 0; i < length; i++, dayOfWeek = dayOfWeek.plus(1)) {
+            boolean working = !offDays[i] && !weeklyOffDays.contains(dayOfWeek);
+            workingDaysBefore[i + 1] = workingDaysBefore[i] + (working ? 1 : 0);
+        }
+        return new WorkingCalendar(year, workingDaysBefore);
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * Whether a day of the year of this calendar is a working day.
+     *
+     * @param date the day, within the year of this calendar
+     * @return true if the day is a working day
+     * @throws IllegalArgumentException if the day is not within the year of this calendar
+     */
+    public boolean isWorkingDay(LocalDate date) {
+        int dayOfYear = dayOfYear(date);
+        return workingDaysBefore[dayOfYear] != workingDaysBefore[dayOfYear - 1];
+    }
+
+    /**
+     * Counts the working days within a date range of the year of this calendar.
+     *
+     * @param startDate the start date of the range, inclusive
+     * @param endDate the end date of the range, inclusive
+     * @return the number of working days, zero if the end date is before the start date
+     * @throws IllegalArgumentException if a date is not within the year of this calendar
+     */
+    public int countWorkingDays(LocalDate startDate, LocalDate endDate) {
+        int start = dayOfYear(startDate);
+        int end = dayOfYear(endDate);
+        return end < start ? 0 : workingDaysBefore[end] - workingDaysBefore[start - 1];
+    }
+
+    /**
+     * Counts the working days of a month of the year of this calendar.
+     *
+     * @param yearMonth the month
+     * @return the number of working days of the month
+     * @throws IllegalArgumentException if the month is not within the year of this calendar
+     */
+    public int countWorkingDays(YearMonth yearMonth) {
+        return countWorkingDays(yearMonth.atDay(1), yearMonth.atEndOfMonth());
+    }
+
+    private int dayOfYear(LocalDate date) {
+        if (date.getYear() != year) {
+            throw new IllegalArgumentException(date + " is not in " + year);
+        }
+        return date.getDayOfYear();
+    }
+}
@@ -0,0 +1,100 @@
+package com.crimsonlogic.payrollmanagementsystem.benchmark;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRecordDTO;
+import com.crimsonlogic.payrollmanagementsystem.util.PayrollAmounts;
+import com.crimsonlogic.payrollmanagementsystem.util.PayrollCalculator;
+import com.crimsonlogic.payrollmanagementsystem.util.PayrollKernel;
+import com.crimsonlogic.payrollmanagementsystem.util.TaxSlabTable;
+import com.crimsonlogic.payrollmanagementsystem.util.WorkingCalendar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the BigDecimal salary calculation with the fixed-point payroll kernel.
+ * The benchmark profile runs with the GC profiler, whose gc.alloc.rate.norm
+ * column shows the bytes allocated per calculation.
+ * Run with {@code mvn -Pbenchmark test -DskipTests -Dbenchmark.includes=PayrollKernelBenchmark}.
+ *
+ * @author abdulmanan
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayrollKernelBenchmark {
+
+    private static final int EMPLOYEES = 1024;
+    private static final YearMonth PAY_PERIOD = YearMonth.of(2024, 3);
+    private static final LocalDate JOINING_DATE = LocalDate.of(2020, 1, 1);
+
+    private BigDecimal[] costsToCompany;
+    private long[] costsToCompanyPaise;
+    private long[] absences;
+    private TaxSlabTable taxSlabTable;
+    private WorkingCalendar workingCalendar;
+    private PayrollAmounts amounts;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        costsToCompany = new BigDecimal[EMPLOYEES];
+        costsToCompanyPaise = new long[EMPLOYEES];
+        absences = new long[EMPLOYEES];
+        for (int i = 0; i < EMPLOYEES; i++) {
+            costsToCompanyPaise[i] = 20000000L + random.nextInt(230000000);
+            costsToCompany[i] = BigDecimal.valueOf(costsToCompanyPaise[i], 2);
+            absences[i] = random.nextInt(4);
+        }
+        taxSlabTable = new TaxSlabTable(1, TaxSlabTable.defaultSlabs(), TaxSlabTable.DEFAULT_CACHE_CAPACITY);
+        workingCalendar = WorkingCalendar.of(PAY_PERIOD.getYear(),
+                EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), List.of());
+        amounts = new PayrollAmounts();
+    }
+
+    @Benchmark
+    public SalaryRecordDTO bigDecimalCalculation() {
+        int i = next();
+        return PayrollCalculator.calculateWithBigDecimal("emp", PAY_PERIOD, costsToCompany[i], JOINING_DATE,
+                absences[i], 0, null, null, workingCalendar, taxSlabTable);
+    }
+
+    @Benchmark
+    public SalaryRecordDTO kernelCalculation() {
+        int i = next();
+        return PayrollCalculator.calculate("emp", PAY_PERIOD, costsToCompany[i], JOINING_DATE,
+                absences[i], 0, null, null, workingCalendar, taxSlabTable);
+    }
+
+    @Benchmark
+    public PayrollAmounts kernelOnly() {
+        int i = next();
+        PayrollKernel.compute(costsToCompanyPaise[i], 2, workingCalendar.countWorkingDays(PAY_PERIOD), absences[i], 0,
+                0, 150, taxSlabTable, amounts);
+        return amounts;
+    }
+
+    private int next() {
+        index = (index + 1) & (EMPLOYEES - 1);
+        return index;
+    }
+}
@@ -0,0 +1,97 @@
+package com.crimsonlogic.payrollmanagementsystem.benchmark;
+
+import com.crimsonlogic.payrollmanagementsystem.util.TaxSlabTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the if/else tax slab chain with the table-driven tax slab engine.
+ * The salaries are drawn from a small set of grades, as in a real payroll.
+ * Run with {@code mvn -Pbenchmark test -DskipTests}.
+ *
+ * @author abdulmanan
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaxSlabBenchmark {
+
+    private static final int GRADES = 64;
+
+    private BigDecimal[] monthlySalaries;
+    private TaxSlabTable cachedTable;
+    private TaxSlabTable uncachedTable;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        monthlySalaries = new BigDecimal[GRADES];
+        for (int i = 0; i < GRADES; i++) {
+            monthlySalaries[i] = BigDecimal.valueOf(20000000L + random.nextInt(230000000), 2)
+                    .divide(BigDecimal.valueOf(12), RoundingMode.HALF_UP);
+        }
+        cachedTable = new TaxSlabTable(1, TaxSlabTable.defaultSlabs(), TaxSlabTable.DEFAULT_CACHE_CAPACITY);
+        uncachedTable = new TaxSlabTable(1, TaxSlabTable.defaultSlabs(), 0);
+    }
+
+    @Benchmark
+    public BigDecimal legacyChain() {
+        return legacyMonthlyTax(nextSalary());
+    }
+
+    @Benchmark
+    public BigDecimal slabTable() {
+        return uncachedTable.monthlyTax(nextSalary());
+    }
+
+    @Benchmark
+    public BigDecimal memoizedSlabTable() {
+        return cachedTable.monthlyTax(nextSalary());
+    }
+
+    private BigDecimal nextSalary() {
+        index = (index + 1) & (GRADES - 1);
+        return monthlySalaries[index];
+    }
+
+    // The if/else slab chain the table replaced
+    private static BigDecimal legacyMonthlyTax(BigDecimal monthlySalary) {
+        BigDecimal annualSalary = monthlySalary.multiply(BigDecimal.valueOf(12));
+        BigDecimal taxAmount;
+        if (annualSalary.compareTo(BigDecimal.valueOf(300000)) <= 0) {
+            taxAmount = BigDecimal.ZERO;
+        } else if (annualSalary.compareTo(BigDecimal.valueOf(600000)) <= 0) {
+            taxAmount = annualSalary.subtract(BigDecimal.valueOf(300000)).multiply(BigDecimal.valueOf(0.05));
+        } else if (annualSalary.compareTo(BigDecimal.valueOf(900000)) <= 0) {
+            taxAmount = BigDecimal.valueOf(15000)
+                    .add(annualSalary.subtract(BigDecimal.valueOf(600000)).multiply(BigDecimal.valueOf(0.10)));
+        } else if (annualSalary.compareTo(BigDecimal.valueOf(1200000)) <= 0) {
+            taxAmount = BigDecimal.valueOf(45000)
+                    .add(annualSalary.subtract(BigDecimal.valueOf(900000)).multiply(BigDecimal.valueOf(0.15)));
+        } else if (annualSalary.compareTo(BigDecimal.valueOf(1500000)) <= 0) {
+            taxAmount = BigDecimal.valueOf(90000)
+                    .add(annualSalary.subtract(BigDecimal.valueOf(1200000)).multiply(BigDecimal.valueOf(0.20)));
+        } else {
+            taxAmount = BigDecimal.valueOf(150000)
+                    .add(annualSalary.subtract(BigDecimal.valueOf(1500000)).multiply(BigDecimal.valueOf(0.20)));
+        }
+        return taxAmount.divide(BigDecimal.valueOf(12), RoundingMode.HALF_UP).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -3,15 +3,19 @@ package com.crimsonlogic.payrollmanagementsystem.controller;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doThrow;
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
 import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO;
 import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceResponseDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.BackgroundJobDTO;
 import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
 import com.crimsonlogic.payrollmanagementsystem.service.AttendanceService;
+import com.crimsonlogic.payrollmanagementsystem.service.BackgroundJobService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,6 +34,9 @@ class AttendanceControllerTest {
     @Mock
     private AttendanceService attendanceService;
 
+    @Mock
+    private BackgroundJobService backgroundJobService;
+
     private AttendanceDTO attendanceDTO;
 
     private AttendanceResponseDTO attendanceResponseDTO;
@@ -47,17 +54,31 @@ class AttendanceControllerTest {
     }
 
     @Test
-    void testGetAttendanceForEmployee_Success() {
+    void testGetAttendanceForEmployee_Success() throws ResourceNotFoundException {
         List<AttendanceDTO> attendanceList = Collections.singletonList(attendanceDTO);
-        when(attendanceService.getAttendanceForEmployee("employee-1")).thenReturn(attendanceList);
+        when(attendanceService.getAttendanceForEmployee("employee-1", null, null, 2024)).thenReturn(attendanceList);
 
-        ResponseEntity<List<AttendanceDTO>> response = attendanceController.getAttendanceForEmployee("employee-1");
+        ResponseEntity<List<AttendanceDTO>> response = attendanceController.getAttendanceForEmployee("employee-1",
+                null, null, 2024);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotEmpty();
         assertThat(response.getBody().get(0).getAttendanceId()).isEqualTo(attendanceDTO.getAttendanceId());
     }
 
+    @Test
+    void testGetAttendanceForEmployee_InvalidRange() throws ResourceNotFoundException {
+        LocalDate startDate = LocalDate.of(2024, 2, 1);
+        LocalDate endDate = LocalDate.of(2024, 1, 1);
+        doThrow(new ResourceNotFoundException("Invalid date range.")).when(attendanceService)
+                .getAttendanceForEmployee("employee-1", startDate, endDate, null);
+
+        ResponseEntity<List<AttendanceDTO>> response = attendanceController.getAttendanceForEmployee("employee-1",
+                startDate, endDate, null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     @Test
     void testMarkAttendance_Success() throws ResourceNotFoundException {
         doNothing().when(attendanceService).markAttendance(any(AttendanceDTO.class));
@@ -77,11 +98,31 @@ class AttendanceControllerTest {
         assertThat(response.getBody()).isEqualTo("Resource not found");
     }
 
+    @Test
+    void testMarkAttendances_Success() throws ResourceNotFoundException {
+        when(attendanceService.markAttendances(List.of(attendanceDTO))).thenReturn(1);
+
+        ResponseEntity<Integer> response = attendanceController.markAttendances(List.of(attendanceDTO));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isEqualTo(1);
+    }
+
+    @Test
+    void testMarkAttendances_InvalidDetails() throws ResourceNotFoundException {
+        when(attendanceService.markAttendances(List.of(attendanceDTO)))
+                .thenThrow(new ResourceNotFoundException("Invalid attendance details."));
+
+        ResponseEntity<Integer> response = attendanceController.markAttendances(List.of(attendanceDTO));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     @Test
     void testGetTeamAttendance_Success() throws ResourceNotFoundException {
-        when(attendanceService.getTeamAttendance(10, "employee-1")).thenReturn(attendanceResponseDTO);
+        when(attendanceService.getTeamAttendance(2024, 10, "employee-1")).thenReturn(attendanceResponseDTO);
 
-        ResponseEntity<AttendanceResponseDTO> response = attendanceController.getTeamAttendance(10, "employee-1");
+        ResponseEntity<AttendanceResponseDTO> response = attendanceController.getTeamAttendance(2024, 10, "employee-1");
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(attendanceResponseDTO);
@@ -89,19 +130,46 @@ class AttendanceControllerTest {
 
     @Test
     void testGetTeamAttendance_ResourceNotFound() throws ResourceNotFoundException {
-        doThrow(new ResourceNotFoundException("Resource not found")).when(attendanceService).getTeamAttendance(anyInt(), anyString());
+        doThrow(new ResourceNotFoundException("Resource not found")).when(attendanceService)
+                .getTeamAttendance(any(), anyInt(), anyString());
 
-        ResponseEntity<AttendanceResponseDTO> response = attendanceController.getTeamAttendance(10, "employee-1");
+        ResponseEntity<AttendanceResponseDTO> response = attendanceController.getTeamAttendance(null, 10, "employee-1");
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
     }
 
     @Test
-    void testRegularize_Success() {
-        doNothing().when(attendanceService).regularize();
+    void testGetTeamAttendanceSummary_Success() throws ResourceNotFoundException {
+        List<AttendanceResponseDTO> team = List.of(attendanceResponseDTO);
+        when(attendanceService.getTeamAttendanceSummary(2024, 10, "manager-1", true)).thenReturn(team);
 
-        ResponseEntity<Void> response = attendanceController.regularize();
+        ResponseEntity<List<AttendanceResponseDTO>> response = attendanceController.getTeamAttendanceSummary(2024, 10,
+                "manager-1", true);
 
-        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(team);
+    }
+
+    @Test
+    void testGetTeamAttendanceSummary_InvalidMonth() throws ResourceNotFoundException {
+        doThrow(new ResourceNotFoundException("Invalid month")).when(attendanceService)
+                .getTeamAttendanceSummary(any(), anyInt(), anyString(), anyBoolean());
+
+        ResponseEntity<List<AttendanceResponseDTO>> response = attendanceController.getTeamAttendanceSummary(null, 13,
+                "manager-1", false);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void testRegularize_Success() throws ResourceNotFoundException {
+        BackgroundJobDTO backgroundJobDTO = new BackgroundJobDTO();
+        backgroundJobDTO.setJobId("JOB1");
+        when(backgroundJobService.submitJob(BackgroundJob.REGULARIZATION, Map.of())).thenReturn(backgroundJobDTO);
+
+        ResponseEntity<BackgroundJobDTO> response = attendanceController.regularize();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody().getJobId()).isEqualTo("JOB1");
     }
 }
@@ -0,0 +1,83 @@
+package com.crimsonlogic.payrollmanagementsystem.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceSummaryDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.BackgroundJobDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.service.AttendanceSummaryService;
+import com.crimsonlogic.payrollmanagementsystem.service.BackgroundJobService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@ExtendWith(MockitoExtension.class)
+class AttendanceSummaryControllerTest {
+
+    @InjectMocks
+    private AttendanceSummaryController attendanceSummaryController;
+
+    @Mock
+    private AttendanceSummaryService attendanceSummaryService;
+
+    @Mock
+    private BackgroundJobService backgroundJobService;
+
+    @Test
+    void testGetAttendanceSummary_Success() throws ResourceNotFoundException {
+        AttendanceSummaryDTO attendanceSummary = new AttendanceSummaryDTO();
+        when(attendanceSummaryService.getAttendanceSummary("emp1", 2024, 3)).thenReturn(attendanceSummary);
+
+        ResponseEntity<AttendanceSummaryDTO> response = attendanceSummaryController.getAttendanceSummary("emp1", 2024, 3);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(attendanceSummary);
+    }
+
+    @Test
+    void testGetAttendanceSummary_NotFound() throws ResourceNotFoundException {
+        when(attendanceSummaryService.getAttendanceSummary("emp1", 2024, 3))
+                .thenThrow(new ResourceNotFoundException("Employee not found"));
+
+        ResponseEntity<AttendanceSummaryDTO> response = attendanceSummaryController.getAttendanceSummary("emp1", 2024, 3);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void testRebuildSummaries_Success() throws ResourceNotFoundException {
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 12, 31);
+        BackgroundJobDTO backgroundJobDTO = new BackgroundJobDTO();
+        backgroundJobDTO.setJobId("JOB1");
+        when(backgroundJobService.submitJob(BackgroundJob.ATTENDANCE_SUMMARY_REBUILD,
+                Map.of("startDate", "2024-01-01", "endDate", "2024-12-31"))).thenReturn(backgroundJobDTO);
+
+        ResponseEntity<BackgroundJobDTO> response = attendanceSummaryController.rebuildSummaries(startDate, endDate);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody().getJobId()).isEqualTo("JOB1");
+    }
+
+    @Test
+    void testRebuildSummaries_InvalidRange() throws ResourceNotFoundException {
+        LocalDate startDate = LocalDate.of(2024, 12, 31);
+        LocalDate endDate = LocalDate.of(2024, 1, 1);
+        when(backgroundJobService.submitJob(BackgroundJob.ATTENDANCE_SUMMARY_REBUILD,
+                Map.of("startDate", "2024-12-31", "endDate", "2024-01-01")))
+                .thenThrow(new ResourceNotFoundException("Invalid date range."));
+
+        ResponseEntity<BackgroundJobDTO> response = attendanceSummaryController.rebuildSummaries(startDate, endDate);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+}
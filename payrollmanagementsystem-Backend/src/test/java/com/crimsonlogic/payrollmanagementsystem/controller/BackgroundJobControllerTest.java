@@ -0,0 +1,68 @@
+package com.crimsonlogic.payrollmanagementsystem.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.dto.BackgroundJobDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.service.BackgroundJobService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class BackgroundJobControllerTest {
+
+    @InjectMocks
+    private BackgroundJobController backgroundJobController;
+
+    @Mock
+    private BackgroundJobService backgroundJobService;
+
+    private BackgroundJobDTO backgroundJobDTO;
+
+    @BeforeEach
+    void setUp() {
+        backgroundJobDTO = new BackgroundJobDTO();
+        backgroundJobDTO.setJobId("JOB1");
+        backgroundJobDTO.setStatus(BackgroundJob.RUNNING);
+        backgroundJobDTO.setProgressPercent(50);
+    }
+
+    @Test
+    void testGetJob_Success() throws ResourceNotFoundException {
+        when(backgroundJobService.getJob("JOB1")).thenReturn(backgroundJobDTO);
+
+        ResponseEntity<BackgroundJobDTO> response = backgroundJobController.getJob("JOB1");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(backgroundJobDTO);
+    }
+
+    @Test
+    void testGetJob_NotFound() throws ResourceNotFoundException {
+        when(backgroundJobService.getJob("JOB1")).thenThrow(new ResourceNotFoundException("Job not found."));
+
+        ResponseEntity<BackgroundJobDTO> response = backgroundJobController.getJob("JOB1");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void testGetJobs_Success() {
+        when(backgroundJobService.getJobs(BackgroundJob.RUNNING)).thenReturn(List.of(backgroundJobDTO));
+
+        ResponseEntity<List<BackgroundJobDTO>> response = backgroundJobController.getJobs(BackgroundJob.RUNNING);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly(backgroundJobDTO);
+    }
+}
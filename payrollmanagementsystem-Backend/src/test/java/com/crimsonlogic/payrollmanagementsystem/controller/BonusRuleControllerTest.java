@@ -0,0 +1,59 @@
+package com.crimsonlogic.payrollmanagementsystem.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.BonusRuleDTO;
+import com.crimsonlogic.payrollmanagementsystem.service.BonusRuleService;
+import com.crimsonlogic.payrollmanagementsystem.util.BonusRuleSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collections;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class BonusRuleControllerTest {
+
+    @InjectMocks
+    private BonusRuleController bonusRuleController;
+
+    @Mock
+    private BonusRuleService bonusRuleService;
+
+    @Test
+    void testGetActiveBonusRules() {
+        List<BonusRuleDTO> bonusRules = BonusRuleSet.defaultRules("TYP1");
+        when(bonusRuleService.getActiveBonusRules()).thenReturn(bonusRules);
+
+        ResponseEntity<List<BonusRuleDTO>> response = bonusRuleController.getActiveBonusRules();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(bonusRules);
+    }
+
+    @Test
+    void testPublishBonusRules_Success() {
+        List<BonusRuleDTO> bonusRules = BonusRuleSet.defaultRules("TYP1");
+        when(bonusRuleService.publishBonusRules(bonusRules)).thenReturn(true);
+
+        ResponseEntity<Void> response = bonusRuleController.publishBonusRules(bonusRules);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    }
+
+    @Test
+    void testPublishBonusRules_Invalid() {
+        List<BonusRuleDTO> bonusRules = Collections.singletonList(new BonusRuleDTO());
+        when(bonusRuleService.publishBonusRules(bonusRules)).thenReturn(false);
+
+        ResponseEntity<Void> response = bonusRuleController.publishBonusRules(bonusRules);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+}
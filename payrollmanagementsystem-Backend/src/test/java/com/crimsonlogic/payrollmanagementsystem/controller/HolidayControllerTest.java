@@ -0,0 +1,66 @@
+package com.crimsonlogic.payrollmanagementsystem.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.HolidayDTO;
+import com.crimsonlogic.payrollmanagementsystem.service.HolidayService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class HolidayControllerTest {
+
+    @InjectMocks
+    private HolidayController holidayController;
+
+    @Mock
+    private HolidayService holidayService;
+
+    private final HolidayDTO holiday = new HolidayDTO(null, LocalDate.of(2024, 1, 26), "Republic Day");
+
+    @Test
+    void testGetHolidays() {
+        when(holidayService.getHolidays(2024)).thenReturn(List.of(holiday));
+
+        ResponseEntity<List<HolidayDTO>> response = holidayController.getHolidays(2024);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly(holiday);
+    }
+
+    @Test
+    void testAddHoliday_Success() {
+        when(holidayService.addHoliday(holiday)).thenReturn(true);
+
+        ResponseEntity<Void> response = holidayController.addHoliday(holiday);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    }
+
+    @Test
+    void testAddHoliday_Invalid() {
+        when(holidayService.addHoliday(holiday)).thenReturn(false);
+
+        ResponseEntity<Void> response = holidayController.addHoliday(holiday);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void testRemoveHoliday_NotFound() {
+        when(holidayService.removeHoliday("HOL1")).thenReturn(false);
+
+        ResponseEntity<Void> response = holidayController.removeHoliday("HOL1");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}
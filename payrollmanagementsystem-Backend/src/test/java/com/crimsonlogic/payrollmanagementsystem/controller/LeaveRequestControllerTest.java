@@ -7,6 +7,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doThrow;
+import com.crimsonlogic.payrollmanagementsystem.dto.LeaveDecisionResultDTO;
 import com.crimsonlogic.payrollmanagementsystem.dto.LeaveRequestDTO;
 import com.crimsonlogic.payrollmanagementsystem.exception.LeavesExhaustedException;
 import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
@@ -92,6 +93,19 @@ class LeaveRequestControllerTest {
         assertThat(response.getBody().get(0).getLeaveRequestId()).isEqualTo(leaveRequestDTO.getLeaveRequestId());
     }
 
+    @Test
+    void testDecideLeaveRequests_Success() {
+        List<LeaveDecisionResultDTO> results = List.of(
+                new LeaveDecisionResultDTO("request-1", "Approved", true, null));
+        when(leaveRequestService.decideLeaveRequests(List.of(leaveRequestDTO))).thenReturn(results);
+
+        ResponseEntity<List<LeaveDecisionResultDTO>> response =
+                leaveRequestController.decideLeaveRequests(List.of(leaveRequestDTO));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(results);
+    }
+
     @Test
     void testUpdateLeaveRequest_Success() {
         when(leaveRequestService.updateLeaveRequest(any(LeaveRequestDTO.class))).thenReturn(true);
@@ -0,0 +1,140 @@
+package com.crimsonlogic.payrollmanagementsystem.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.dto.BackgroundJobDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.PayrollRunDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRecordDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.service.BackgroundJobService;
+import com.crimsonlogic.payrollmanagementsystem.service.PayrollRunService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+
+@ExtendWith(MockitoExtension.class)
+class PayrollRunControllerTest {
+
+    @InjectMocks
+    private PayrollRunController payrollRunController;
+
+    @Mock
+    private PayrollRunService payrollRunService;
+
+    @Mock
+    private BackgroundJobService backgroundJobService;
+
+    private PayrollRunDTO payrollRunDTO;
+
+    @BeforeEach
+    void setUp() {
+        payrollRunDTO = new PayrollRunDTO();
+        payrollRunDTO.setRunId("RUN1234567");
+        payrollRunDTO.setEmployeeCount(2);
+    }
+
+    @Test
+    void testRunPayroll_Success() throws ResourceNotFoundException {
+        when(payrollRunService.runPayroll(2024, 3)).thenReturn(payrollRunDTO);
+
+        ResponseEntity<PayrollRunDTO> response = payrollRunController.runPayroll(2024, 3);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(payrollRunDTO);
+    }
+
+    @Test
+    void testRunPayroll_InvalidPeriod() throws ResourceNotFoundException {
+        when(payrollRunService.runPayroll(2024, 13)).thenThrow(new ResourceNotFoundException("Invalid pay period"));
+
+        ResponseEntity<PayrollRunDTO> response = payrollRunController.runPayroll(2024, 13);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void testSubmitPayrollRun_Success() throws ResourceNotFoundException {
+        BackgroundJobDTO backgroundJobDTO = new BackgroundJobDTO();
+        backgroundJobDTO.setJobId("JOB1");
+        when(backgroundJobService.submitJob(BackgroundJob.PAYROLL_RUN, Map.of("year", "2024", "month", "3")))
+                .thenReturn(backgroundJobDTO);
+
+        ResponseEntity<BackgroundJobDTO> response = payrollRunController.submitPayrollRun(2024, 3);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody().getJobId()).isEqualTo("JOB1");
+    }
+
+    @Test
+    void testSubmitPayrollRun_InvalidPeriod() throws ResourceNotFoundException {
+        when(backgroundJobService.submitJob(BackgroundJob.PAYROLL_RUN, Map.of("year", "2024", "month", "13")))
+                .thenThrow(new ResourceNotFoundException("Invalid pay period"));
+
+        ResponseEntity<BackgroundJobDTO> response = payrollRunController.submitPayrollRun(2024, 13);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void testGetPayrollRun_Success() throws ResourceNotFoundException {
+        when(payrollRunService.getPayrollRun("RUN1234567")).thenReturn(payrollRunDTO);
+
+        ResponseEntity<PayrollRunDTO> response = payrollRunController.getPayrollRun("RUN1234567");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(payrollRunDTO);
+    }
+
+    @Test
+    void testGetPayrollRun_NotFound() throws ResourceNotFoundException {
+        when(payrollRunService.getPayrollRun("RUN1234567")).thenThrow(new ResourceNotFoundException("Payroll run not found."));
+
+        ResponseEntity<PayrollRunDTO> response = payrollRunController.getPayrollRun("RUN1234567");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void testGetPayrollRunRecords_Success() throws ResourceNotFoundException {
+        SalaryRecordDTO salaryRecord = new SalaryRecordDTO();
+        salaryRecord.setEmployeeId("emp2");
+        when(payrollRunService.getPayrollRunRecords("RUN1234567", "emp1", 100)).thenReturn(List.of(salaryRecord));
+
+        ResponseEntity<List<SalaryRecordDTO>> response =
+                payrollRunController.getPayrollRunRecords("RUN1234567", "emp1", 100);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly(salaryRecord);
+    }
+
+    @Test
+    void testGetPayrollRunRecords_NotFound() throws ResourceNotFoundException {
+        when(payrollRunService.getPayrollRunRecords("RUN1234567", null, 500))
+                .thenThrow(new ResourceNotFoundException("Payroll run not found."));
+
+        ResponseEntity<List<SalaryRecordDTO>> response =
+                payrollRunController.getPayrollRunRecords("RUN1234567", null, 500);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void testGetPayrollRunRecords_InvalidPageSize() {
+        ResponseEntity<List<SalaryRecordDTO>> response =
+                payrollRunController.getPayrollRunRecords("RUN1234567", null, 0);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(payrollRunService);
+    }
+}
@@ -0,0 +1,61 @@
+package com.crimsonlogic.payrollmanagementsystem.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.service.PayslipService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+
+@ExtendWith(MockitoExtension.class)
+class PayslipControllerTest {
+
+    @InjectMocks
+    private PayslipController payslipController;
+
+    @Mock
+    private PayslipService payslipService;
+
+    @Test
+    void testDownloadPayslips_Success() throws ResourceNotFoundException, IOException {
+        LocalDate payPeriodStart = LocalDate.of(2024, 3, 1);
+        when(payslipService.getReleasedPayPeriod(2024, 3)).thenReturn(payPeriodStart);
+
+        ResponseEntity<StreamingResponseBody> response = payslipController.downloadPayslips(2024, 3);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION))
+                .contains("payslips_2024-03.zip");
+        assertThat(response.getHeaders().getContentType()).hasToString("application/zip");
+
+        // The archive is only written once the body is streamed
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+        verify(payslipService).writePayslipArchive(eq(payPeriodStart), any());
+    }
+
+    @Test
+    void testDownloadPayslips_NotReleased() throws ResourceNotFoundException {
+        when(payslipService.getReleasedPayPeriod(2024, 3))
+                .thenThrow(new ResourceNotFoundException("No salary released for the pay period."));
+
+        ResponseEntity<StreamingResponseBody> response = payslipController.downloadPayslips(2024, 3);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,61 @@
+package com.crimsonlogic.payrollmanagementsystem.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import com.crimsonlogic.payrollmanagementsystem.dto.PunchEventDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.PunchIngestionDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.QueueFullException;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.service.PunchEventService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@ExtendWith(MockitoExtension.class)
+class PunchEventControllerTest {
+
+    @InjectMocks
+    private PunchEventController punchEventController;
+
+    @Mock
+    private PunchEventService punchEventService;
+
+    private final List<PunchEventDTO> punchEvents = List.of(
+            new PunchEventDTO("emp1", LocalDateTime.of(2024, 4, 2, 9, 0), "IN", "GATE-1", null));
+
+    @Test
+    void testSubmitPunches_Accepted() throws ResourceNotFoundException, QueueFullException {
+        when(punchEventService.submitPunchEvents(punchEvents)).thenReturn(new PunchIngestionDTO(1, 1, 49999));
+
+        ResponseEntity<PunchIngestionDTO> response = punchEventController.submitPunches(punchEvents);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody().getAcceptedEvents()).isEqualTo(1);
+    }
+
+    @Test
+    void testSubmitPunches_InvalidEvent() throws ResourceNotFoundException, QueueFullException {
+        when(punchEventService.submitPunchEvents(punchEvents))
+                .thenThrow(new ResourceNotFoundException("Unknown punch direction: BREAK"));
+
+        ResponseEntity<PunchIngestionDTO> response = punchEventController.submitPunches(punchEvents);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void testSubmitPunches_QueueFull() throws ResourceNotFoundException, QueueFullException {
+        when(punchEventService.submitPunchEvents(punchEvents))
+                .thenThrow(new QueueFullException("Punch event queue is full, retry the batch later."));
+
+        ResponseEntity<PunchIngestionDTO> response = punchEventController.submitPunches(punchEvents);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -1,13 +1,16 @@
 package com.crimsonlogic.payrollmanagementsystem.controller;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doThrow;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryPreviewCacheStatsDTO;
 import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRecordDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryReleaseDTO;
 import com.crimsonlogic.payrollmanagementsystem.dto.TaxResponseDTO;
 import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
 import com.crimsonlogic.payrollmanagementsystem.service.SalaryRecordService;
@@ -65,6 +68,18 @@ class SalaryRecordControllerTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
     }
 
+    @Test
+    void testGetPreviewCacheStats() {
+        SalaryPreviewCacheStatsDTO stats = new SalaryPreviewCacheStatsDTO();
+        stats.setHits(3L);
+        when(salaryService.getPreviewCacheStats()).thenReturn(stats);
+
+        ResponseEntity<SalaryPreviewCacheStatsDTO> response = salaryRecordController.getPreviewCacheStats();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getHits()).isEqualTo(3L);
+    }
+
     @Test
     void testGetSalary_Success() {
         List<SalaryRecordDTO> salaryRecords = Collections.singletonList(salaryRecordDTO);
@@ -94,6 +109,28 @@ class SalaryRecordControllerTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
     }
 
+    @Test
+    void testReleaseSalaries_Success() {
+        SalaryReleaseDTO salaryReleaseDTO = new SalaryReleaseDTO();
+        salaryReleaseDTO.setReleasedRecords(1);
+        List<SalaryRecordDTO> salaryRecords = Collections.singletonList(salaryRecordDTO);
+        when(salaryService.releaseSalaries(salaryRecords)).thenReturn(salaryReleaseDTO);
+
+        ResponseEntity<SalaryReleaseDTO> response = salaryRecordController.releaseSalaries(salaryRecords);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isEqualTo(salaryReleaseDTO);
+    }
+
+    @Test
+    void testReleasePayrollRun_NotFound() throws ResourceNotFoundException {
+        when(salaryService.releasePayrollRun("RUN1")).thenThrow(new ResourceNotFoundException("Payroll run not found."));
+
+        ResponseEntity<SalaryReleaseDTO> response = salaryRecordController.releasePayrollRun("RUN1");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     @Test
     void testGetAllSalaries() {
         List<SalaryRecordDTO> salaryRecords = Collections.singletonList(salaryRecordDTO);
@@ -107,29 +144,108 @@ class SalaryRecordControllerTest {
 
     @Test
     void testGetQuarterSalary_Success() throws ResourceNotFoundException {
-        when(salaryService.getSalaryByQuarter("quarter 1")).thenReturn(salaryRecordDTO);
+        when(salaryService.getSalaryByQuarter("quarter 1", 2023)).thenReturn(salaryRecordDTO);
+
+        ResponseEntity<SalaryRecordDTO> response = salaryRecordController.getQuarterSalary("quarter 1", 2023);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(salaryRecordDTO);
+    }
 
-        ResponseEntity<SalaryRecordDTO> response = salaryRecordController.getQuarterSalary("quarter 1");
+    @Test
+    void testGetPeriodSalary_Success() throws ResourceNotFoundException {
+        when(salaryService.getSalaryByPeriod(null, null, 2023)).thenReturn(salaryRecordDTO);
+
+        ResponseEntity<SalaryRecordDTO> response = salaryRecordController.getPeriodSalary(null, null, 2023);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(salaryRecordDTO);
     }
 
+    @Test
+    void testGetPeriodSalary_InvalidRange() throws ResourceNotFoundException {
+        LocalDate startDate = LocalDate.of(2024, 3, 31);
+        LocalDate endDate = LocalDate.of(2024, 1, 1);
+        when(salaryService.getSalaryByPeriod(startDate, endDate, null))
+                .thenThrow(new ResourceNotFoundException("Invalid date range."));
+
+        ResponseEntity<SalaryRecordDTO> response = salaryRecordController.getPeriodSalary(startDate, endDate, null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void testGetSalaryByPeriod_Success() throws ResourceNotFoundException {
+        LocalDate startDate = LocalDate.of(2020, 1, 1);
+        LocalDate endDate = LocalDate.of(2023, 12, 31);
+        when(salaryService.getSalaryRecordsByPeriod("employee-1", startDate, endDate, null))
+                .thenReturn(List.of(salaryRecordDTO));
+
+        ResponseEntity<List<SalaryRecordDTO>> response = salaryRecordController.getSalaryByPeriod("employee-1",
+                startDate, endDate, null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly(salaryRecordDTO);
+    }
+
+    @Test
+    void testGetSalaryByPeriod_NotFound() throws ResourceNotFoundException {
+        when(salaryService.getSalaryRecordsByPeriod("employee-1", null, null, 2023))
+                .thenThrow(new ResourceNotFoundException("Employee not found."));
+
+        ResponseEntity<List<SalaryRecordDTO>> response = salaryRecordController.getSalaryByPeriod("employee-1",
+                null, null, 2023);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void testGetAnnualSalary() {
+        List<SalaryRecordDTO> annualSummary = List.of(new SalaryRecordDTO(), new SalaryRecordDTO(),
+                new SalaryRecordDTO(), new SalaryRecordDTO());
+        when(salaryService.getAnnualSalarySummary(2024)).thenReturn(annualSummary);
+
+        ResponseEntity<List<SalaryRecordDTO>> response = salaryRecordController.getAnnualSalary(2024);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).hasSize(4);
+    }
+
     @Test
     void testGetQuarterTax_Success() throws ResourceNotFoundException {
-        when(salaryService.getTaxByQuarter("quarter 1", "employee-1")).thenReturn(taxResponseDTO);
+        when(salaryService.getTaxByQuarter("quarter 1", null, "employee-1")).thenReturn(taxResponseDTO);
 
-        ResponseEntity<TaxResponseDTO> response = salaryRecordController.getQuarterTax("quarter 1", "employee-1");
+        ResponseEntity<TaxResponseDTO> response = salaryRecordController.getQuarterTax("quarter 1", null, "employee-1");
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(taxResponseDTO);
     }
 
+    @Test
+    void testGetPeriodTax_Success() throws ResourceNotFoundException {
+        when(salaryService.getTaxByPeriod("employee-1", null, null, 2023)).thenReturn(taxResponseDTO);
+
+        ResponseEntity<TaxResponseDTO> response = salaryRecordController.getPeriodTax("employee-1", null, null, 2023);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(taxResponseDTO);
+    }
+
+    @Test
+    void testGetPeriodTax_NotFound() throws ResourceNotFoundException {
+        when(salaryService.getTaxByPeriod("employee-1", null, null, null))
+                .thenThrow(new ResourceNotFoundException("Invalid date range."));
+
+        ResponseEntity<TaxResponseDTO> response = salaryRecordController.getPeriodTax("employee-1", null, null, null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     @Test
     void testGetQuarterTax_NotFound() throws ResourceNotFoundException {
-        when(salaryService.getTaxByQuarter("quarter 1", "employee-1")).thenThrow(new ResourceNotFoundException("Resource not found"));
+        when(salaryService.getTaxByQuarter("quarter 1", null, "employee-1")).thenThrow(new ResourceNotFoundException("Resource not found"));
 
-        ResponseEntity<TaxResponseDTO> response = salaryRecordController.getQuarterTax("quarter 1", "employee-1");
+        ResponseEntity<TaxResponseDTO> response = salaryRecordController.getQuarterTax("quarter 1", null, "employee-1");
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
     }
@@ -0,0 +1,84 @@
+package com.crimsonlogic.payrollmanagementsystem.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.dto.BackgroundJobDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRollupDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.service.BackgroundJobService;
+import com.crimsonlogic.payrollmanagementsystem.service.SalaryRollupService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@ExtendWith(MockitoExtension.class)
+class SalaryRollupControllerTest {
+
+    @InjectMocks
+    private SalaryRollupController salaryRollupController;
+
+    @Mock
+    private SalaryRollupService salaryRollupService;
+
+    @Mock
+    private BackgroundJobService backgroundJobService;
+
+    @Test
+    void testGetDesignationRollups_Success() throws ResourceNotFoundException {
+        List<SalaryRollupDTO> rollups = List.of(new SalaryRollupDTO());
+        when(salaryRollupService.getDesignationRollups(2024, 3)).thenReturn(rollups);
+
+        ResponseEntity<List<SalaryRollupDTO>> response = salaryRollupController.getDesignationRollups(2024, 3);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(rollups);
+    }
+
+    @Test
+    void testGetDesignationRollups_InvalidMonth() throws ResourceNotFoundException {
+        when(salaryRollupService.getDesignationRollups(2024, 13))
+                .thenThrow(new ResourceNotFoundException("Invalid month."));
+
+        ResponseEntity<List<SalaryRollupDTO>> response = salaryRollupController.getDesignationRollups(2024, 13);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void testRebuildRollups_Success() throws ResourceNotFoundException {
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 12, 31);
+        BackgroundJobDTO backgroundJobDTO = new BackgroundJobDTO();
+        backgroundJobDTO.setJobId("JOB1");
+        when(backgroundJobService.submitJob(BackgroundJob.SALARY_ROLLUP_REBUILD,
+                Map.of("startDate", "2024-01-01", "endDate", "2024-12-31"))).thenReturn(backgroundJobDTO);
+
+        ResponseEntity<BackgroundJobDTO> response = salaryRollupController.rebuildRollups(startDate, endDate);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody().getJobId()).isEqualTo("JOB1");
+    }
+
+    @Test
+    void testRebuildRollups_InvalidRange() throws ResourceNotFoundException {
+        LocalDate startDate = LocalDate.of(2024, 12, 31);
+        LocalDate endDate = LocalDate.of(2024, 1, 1);
+        when(backgroundJobService.submitJob(BackgroundJob.SALARY_ROLLUP_REBUILD,
+                Map.of("startDate", "2024-12-31", "endDate", "2024-01-01")))
+                .thenThrow(new ResourceNotFoundException("Invalid date range."));
+
+        ResponseEntity<BackgroundJobDTO> response = salaryRollupController.rebuildRollups(startDate, endDate);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,59 @@
+package com.crimsonlogic.payrollmanagementsystem.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.TaxSlabDTO;
+import com.crimsonlogic.payrollmanagementsystem.service.TaxSlabService;
+import com.crimsonlogic.payrollmanagementsystem.util.TaxSlabTable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collections;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class TaxSlabControllerTest {
+
+    @InjectMocks
+    private TaxSlabController taxSlabController;
+
+    @Mock
+    private TaxSlabService taxSlabService;
+
+    @Test
+    void testGetActiveTaxSlabs() {
+        List<TaxSlabDTO> taxSlabs = TaxSlabTable.defaultSlabs();
+        when(taxSlabService.getActiveTaxSlabs()).thenReturn(taxSlabs);
+
+        ResponseEntity<List<TaxSlabDTO>> response = taxSlabController.getActiveTaxSlabs();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(taxSlabs);
+    }
+
+    @Test
+    void testPublishTaxSlabs_Success() {
+        List<TaxSlabDTO> taxSlabs = TaxSlabTable.defaultSlabs();
+        when(taxSlabService.publishTaxSlabs(taxSlabs)).thenReturn(true);
+
+        ResponseEntity<Void> response = taxSlabController.publishTaxSlabs(taxSlabs);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    }
+
+    @Test
+    void testPublishTaxSlabs_Invalid() {
+        List<TaxSlabDTO> taxSlabs = Collections.emptyList();
+        when(taxSlabService.publishTaxSlabs(taxSlabs)).thenReturn(false);
+
+        ResponseEntity<Void> response = taxSlabController.publishTaxSlabs(taxSlabs);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+}
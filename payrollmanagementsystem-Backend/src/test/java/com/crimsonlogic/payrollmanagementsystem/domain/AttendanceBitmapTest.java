@@ -0,0 +1,45 @@
+package com.crimsonlogic.payrollmanagementsystem.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AttendanceBitmapTest {
+
+    private AttendanceBitmap attendanceBitmap;
+
+    @BeforeEach
+    void setUp() {
+        attendanceBitmap = new AttendanceBitmap();
+    }
+
+    @Test
+    void testGenerateId() {
+        attendanceBitmap.generateId();
+        assertNotNull(attendanceBitmap.getAttendanceBitmapId());
+        assertTrue(attendanceBitmap.getAttendanceBitmapId().startsWith("ABM"));
+    }
+
+    @Test
+    void testSettersAndGetters() {
+        Employees employee = new Employees();
+        byte[] hourDeltas = new byte[31];
+        attendanceBitmap.setBitmapYear(2024);
+        attendanceBitmap.setBitmapMonth(3);
+        attendanceBitmap.setRecordedDays(0b111);
+        attendanceBitmap.setStatusCodes(0b010001L);
+        attendanceBitmap.setHourDeltas(hourDeltas);
+        attendanceBitmap.setBitmapOfEmployee(employee);
+
+        assertEquals(2024, attendanceBitmap.getBitmapYear());
+        assertEquals(3, attendanceBitmap.getBitmapMonth());
+        assertEquals(0b111, attendanceBitmap.getRecordedDays());
+        assertEquals(0b010001L, attendanceBitmap.getStatusCodes());
+        assertArrayEquals(hourDeltas, attendanceBitmap.getHourDeltas());
+        assertEquals(employee, attendanceBitmap.getBitmapOfEmployee());
+    }
+}
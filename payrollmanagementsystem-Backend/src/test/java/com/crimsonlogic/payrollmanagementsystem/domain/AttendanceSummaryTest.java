@@ -0,0 +1,49 @@
+package com.crimsonlogic.payrollmanagementsystem.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AttendanceSummaryTest {
+
+    private AttendanceSummary attendanceSummary;
+
+    @BeforeEach
+    void setUp() {
+        attendanceSummary = new AttendanceSummary();
+    }
+
+    @Test
+    void testGenerateId() {
+        attendanceSummary.generateId();
+        assertNotNull(attendanceSummary.getAttendanceSummaryId());
+        assertTrue(attendanceSummary.getAttendanceSummaryId().startsWith("ASM"));
+    }
+
+    @Test
+    void testSettersAndGetters() {
+        Employees employee = new Employees();
+        attendanceSummary.setSummaryYear(2024);
+        attendanceSummary.setSummaryMonth(3);
+        attendanceSummary.setPresentCount(20);
+        attendanceSummary.setAbsentCount(1);
+        attendanceSummary.setLeaveCount(2);
+        attendanceSummary.setHalfDayCount(1);
+        attendanceSummary.setTotalHours(BigDecimal.valueOf(192));
+        attendanceSummary.setSummaryOfEmployee(employee);
+
+        assertEquals(2024, attendanceSummary.getSummaryYear());
+        assertEquals(3, attendanceSummary.getSummaryMonth());
+        assertEquals(20, attendanceSummary.getPresentCount());
+        assertEquals(1, attendanceSummary.getAbsentCount());
+        assertEquals(2, attendanceSummary.getLeaveCount());
+        assertEquals(1, attendanceSummary.getHalfDayCount());
+        assertEquals(BigDecimal.valueOf(192), attendanceSummary.getTotalHours());
+        assertEquals(employee, attendanceSummary.getSummaryOfEmployee());
+    }
+}
@@ -0,0 +1,65 @@
+package com.crimsonlogic.payrollmanagementsystem.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BackgroundJobTest {
+
+    private BackgroundJob backgroundJob;
+
+    @BeforeEach
+    void setUp() {
+        backgroundJob = new BackgroundJob();
+    }
+
+    @Test
+    void testGenerateId() {
+        backgroundJob.generateId();
+        assertNotNull(backgroundJob.getJobId());
+        assertTrue(backgroundJob.getJobId().startsWith("JOB"));
+    }
+
+    @Test
+    void testSettersAndGetters() {
+        LocalDateTime now = LocalDateTime.of(2024, 3, 31, 18, 0);
+        backgroundJob.setJobType(BackgroundJob.PAYROLL_RUN);
+        backgroundJob.setStatus(BackgroundJob.RUNNING);
+        backgroundJob.setParameters("{\"month\":\"3\",\"year\":\"2024\"}");
+        backgroundJob.setCheckpoint("emp500");
+        backgroundJob.setCompletedChunks(1);
+        backgroundJob.setTotalChunks(4);
+        backgroundJob.setAttempts(1);
+        backgroundJob.setMaxAttempts(3);
+        backgroundJob.setWorkerId("WRK1");
+        backgroundJob.setLastError("Connection reset");
+        backgroundJob.setResult("Released 2000 salary records for 2024-03.");
+        backgroundJob.setCreatedAt(now);
+        backgroundJob.setNextRunAt(now);
+        backgroundJob.setStartedAt(now.plusSeconds(1));
+        backgroundJob.setHeartbeatAt(now.plusSeconds(2));
+        backgroundJob.setFinishedAt(now.plusSeconds(3));
+
+        assertEquals(BackgroundJob.PAYROLL_RUN, backgroundJob.getJobType());
+        assertEquals(BackgroundJob.RUNNING, backgroundJob.getStatus());
+        assertEquals("{\"month\":\"3\",\"year\":\"2024\"}", backgroundJob.getParameters());
+        assertEquals("emp500", backgroundJob.getCheckpoint());
+        assertEquals(1, backgroundJob.getCompletedChunks());
+        assertEquals(4, backgroundJob.getTotalChunks());
+        assertEquals(1, backgroundJob.getAttempts());
+        assertEquals(3, backgroundJob.getMaxAttempts());
+        assertEquals("WRK1", backgroundJob.getWorkerId());
+        assertEquals("Connection reset", backgroundJob.getLastError());
+        assertEquals("Released 2000 salary records for 2024-03.", backgroundJob.getResult());
+        assertEquals(now, backgroundJob.getCreatedAt());
+        assertEquals(now, backgroundJob.getNextRunAt());
+        assertEquals(now.plusSeconds(1), backgroundJob.getStartedAt());
+        assertEquals(now.plusSeconds(2), backgroundJob.getHeartbeatAt());
+        assertEquals(now.plusSeconds(3), backgroundJob.getFinishedAt());
+    }
+}
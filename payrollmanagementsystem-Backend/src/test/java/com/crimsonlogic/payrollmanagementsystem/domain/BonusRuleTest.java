@@ -0,0 +1,44 @@
+package com.crimsonlogic.payrollmanagementsystem.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BonusRuleTest {
+
+    private BonusRule bonusRule;
+
+    @BeforeEach
+    void setUp() {
+        bonusRule = new BonusRule();
+    }
+
+    @Test
+    void testGenerateId() {
+        bonusRule.generateId();
+        assertNotNull(bonusRule.getBonusRuleId());
+        assertTrue(bonusRule.getBonusRuleId().startsWith("BNR"));
+    }
+
+    @Test
+    void testSettersAndGetters() {
+        LeaveType leaveType = new LeaveType();
+        leaveType.setTypeId("TYP1");
+        bonusRule.setRuleVersion(2);
+        bonusRule.setRuleName("Marriage Bonus");
+        bonusRule.setRuleType(BonusRule.APPROVED_LEAVE_RULE);
+        bonusRule.setBonusAmount(BigDecimal.valueOf(10000));
+        bonusRule.setLeaveType(leaveType);
+
+        assertEquals(2, bonusRule.getRuleVersion());
+        assertEquals("Marriage Bonus", bonusRule.getRuleName());
+        assertEquals(BonusRule.APPROVED_LEAVE_RULE, bonusRule.getRuleType());
+        assertEquals(BigDecimal.valueOf(10000), bonusRule.getBonusAmount());
+        assertEquals(leaveType, bonusRule.getLeaveType());
+    }
+}
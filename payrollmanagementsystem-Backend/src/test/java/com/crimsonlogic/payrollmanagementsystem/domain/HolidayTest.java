@@ -0,0 +1,37 @@
+package com.crimsonlogic.payrollmanagementsystem.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HolidayTest {
+
+    private Holiday holiday;
+
+    @BeforeEach
+    void setUp() {
+        holiday = new Holiday();
+    }
+
+    @Test
+    void testGenerateId() {
+        holiday.generateId();
+        assertNotNull(holiday.getHolidayId());
+        assertTrue(holiday.getHolidayId().startsWith("HOL"));
+    }
+
+    @Test
+    void testSettersAndGetters() {
+        LocalDate holidayDate = LocalDate.of(2024, 1, 26);
+        holiday.setHolidayDate(holidayDate);
+        holiday.setHolidayName("Republic Day");
+
+        assertEquals(holidayDate, holiday.getHolidayDate());
+        assertEquals("Republic Day", holiday.getHolidayName());
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -36,6 +37,14 @@ class LeaveRecordTest {
         BigDecimal remainingLeaves = new BigDecimal("25");
         leaveRecord.setRemainingLeaves(remainingLeaves);
 
+        BigDecimal carriedLeaves = new BigDecimal("4.5");
+        leaveRecord.setCarriedLeaves(carriedLeaves);
+
+        leaveRecord.setBalanceYear(2024);
+
+        LocalDate accruedMonth = LocalDate.of(2024, 3, 1);
+        leaveRecord.setAccruedMonth(accruedMonth);
+
         Employees employee = new Employees();
         employee.setEmployeeId("EMP123");
         leaveRecord.setLeaveForEmployee(employee);
@@ -47,6 +56,9 @@ class LeaveRecordTest {
         assertEquals(totalLeaves, leaveRecord.getTotalLeaves());
         assertEquals(usedLeaves, leaveRecord.getUsedLeaves());
         assertEquals(remainingLeaves, leaveRecord.getRemainingLeaves());
+        assertEquals(carriedLeaves, leaveRecord.getCarriedLeaves());
+        assertEquals(2024, leaveRecord.getBalanceYear());
+        assertEquals(accruedMonth, leaveRecord.getAccruedMonth());
         assertEquals(employee, leaveRecord.getLeaveForEmployee());
         assertEquals(leaveType, leaveRecord.getTypeOfLeave());
     }
@@ -3,6 +3,8 @@ package com.crimsonlogic.payrollmanagementsystem.domain;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -31,8 +33,16 @@ class LeaveTypeTest {
         Integer numberOfLeaves = 20;
         leaveType.setNumberOfLeaves(numberOfLeaves);
 
+        BigDecimal monthlyAccrual = new BigDecimal("1.5");
+        leaveType.setMonthlyAccrual(monthlyAccrual);
+
+        BigDecimal carryForwardLimit = new BigDecimal("5");
+        leaveType.setCarryForwardLimit(carryForwardLimit);
+
         assertEquals(typeName, leaveType.getTypeName());
         assertEquals(numberOfLeaves, leaveType.getNumberOfLeaves());
+        assertEquals(monthlyAccrual, leaveType.getMonthlyAccrual());
+        assertEquals(carryForwardLimit, leaveType.getCarryForwardLimit());
     }
 }
 
@@ -0,0 +1,45 @@
+package com.crimsonlogic.payrollmanagementsystem.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PunchEventTest {
+
+    private PunchEvent punchEvent;
+
+    @BeforeEach
+    void setUp() {
+        punchEvent = new PunchEvent();
+    }
+
+    @Test
+    void testGenerateId() {
+        punchEvent.generateId();
+        assertNotNull(punchEvent.getPunchEventId());
+        assertTrue(punchEvent.getPunchEventId().startsWith("PCH"));
+    }
+
+    @Test
+    void testSettersAndGetters() {
+        Employees employee = new Employees();
+        LocalDateTime punchTime = LocalDateTime.of(2024, 4, 1, 9, 0);
+        LocalDateTime receivedAt = LocalDateTime.of(2024, 4, 1, 9, 0, 2);
+        punchEvent.setPunchTime(punchTime);
+        punchEvent.setDirection(PunchEvent.IN);
+        punchEvent.setDeviceId("GATE-1");
+        punchEvent.setReceivedAt(receivedAt);
+        punchEvent.setPunchByEmployee(employee);
+
+        assertEquals(punchTime, punchEvent.getPunchTime());
+        assertEquals("IN", punchEvent.getDirection());
+        assertEquals("GATE-1", punchEvent.getDeviceId());
+        assertEquals(receivedAt, punchEvent.getReceivedAt());
+        assertEquals(employee, punchEvent.getPunchByEmployee());
+    }
+}
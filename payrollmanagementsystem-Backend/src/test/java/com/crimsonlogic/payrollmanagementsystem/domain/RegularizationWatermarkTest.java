@@ -0,0 +1,41 @@
+package com.crimsonlogic.payrollmanagementsystem.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RegularizationWatermarkTest {
+
+    private RegularizationWatermark regularizationWatermark;
+
+    @BeforeEach
+    void setUp() {
+        regularizationWatermark = new RegularizationWatermark();
+    }
+
+    @Test
+    void testGenerateId() {
+        regularizationWatermark.generateId();
+        assertNotNull(regularizationWatermark.getRegularizationWatermarkId());
+        assertTrue(regularizationWatermark.getRegularizationWatermarkId().startsWith("RWM"));
+    }
+
+    @Test
+    void testSettersAndGetters() {
+        Employees employee = new Employees();
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 4, 1, 2, 0);
+        regularizationWatermark.setRegularizedThrough(LocalDate.of(2024, 3, 31));
+        regularizationWatermark.setUpdatedAt(updatedAt);
+        regularizationWatermark.setWatermarkOfEmployee(employee);
+
+        assertEquals(LocalDate.of(2024, 3, 31), regularizationWatermark.getRegularizedThrough());
+        assertEquals(updatedAt, regularizationWatermark.getUpdatedAt());
+        assertEquals(employee, regularizationWatermark.getWatermarkOfEmployee());
+    }
+}
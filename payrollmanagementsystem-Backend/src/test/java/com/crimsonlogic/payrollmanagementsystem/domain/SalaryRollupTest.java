@@ -0,0 +1,53 @@
+package com.crimsonlogic.payrollmanagementsystem.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SalaryRollupTest {
+
+    private SalaryRollup salaryRollup;
+
+    @BeforeEach
+    void setUp() {
+        salaryRollup = new SalaryRollup();
+    }
+
+    @Test
+    void testGenerateId() {
+        salaryRollup.generateId();
+        assertNotNull(salaryRollup.getSalaryRollupId());
+        assertTrue(salaryRollup.getSalaryRollupId().startsWith("SRU"));
+    }
+
+    @Test
+    void testSettersAndGetters() {
+        salaryRollup.setRollupGrain(SalaryRollup.EMPLOYEE_GRAIN);
+        salaryRollup.setGrainKey("emp1");
+        salaryRollup.setPayMonth(LocalDate.of(2024, 3, 1));
+        salaryRollup.setRecordCount(1);
+        salaryRollup.setGrossSalary(new BigDecimal("50000.00"));
+        salaryRollup.setNetSalary(new BigDecimal("45000.00"));
+        salaryRollup.setBonusAmount(new BigDecimal("1000"));
+        salaryRollup.setPenaltyAmount(new BigDecimal("2500.00"));
+        salaryRollup.setPfAmount(new BigDecimal("2500.00"));
+        salaryRollup.setTaxAmount(new BigDecimal("1000.00"));
+
+        assertEquals(SalaryRollup.EMPLOYEE_GRAIN, salaryRollup.getRollupGrain());
+        assertEquals("emp1", salaryRollup.getGrainKey());
+        assertEquals(LocalDate.of(2024, 3, 1), salaryRollup.getPayMonth());
+        assertEquals(1, salaryRollup.getRecordCount());
+        assertEquals(new BigDecimal("50000.00"), salaryRollup.getGrossSalary());
+        assertEquals(new BigDecimal("45000.00"), salaryRollup.getNetSalary());
+        assertEquals(new BigDecimal("1000"), salaryRollup.getBonusAmount());
+        assertEquals(new BigDecimal("2500.00"), salaryRollup.getPenaltyAmount());
+        assertEquals(new BigDecimal("2500.00"), salaryRollup.getPfAmount());
+        assertEquals(new BigDecimal("1000.00"), salaryRollup.getTaxAmount());
+    }
+}
@@ -0,0 +1,40 @@
+package com.crimsonlogic.payrollmanagementsystem.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TaxSlabTest {
+
+    private TaxSlab taxSlab;
+
+    @BeforeEach
+    void setUp() {
+        taxSlab = new TaxSlab();
+    }
+
+    @Test
+    void testGenerateId() {
+        taxSlab.generateId();
+        assertNotNull(taxSlab.getTaxSlabId());
+        assertTrue(taxSlab.getTaxSlabId().startsWith("TXS"));
+    }
+
+    @Test
+    void testSettersAndGetters() {
+        taxSlab.setSlabVersion(2);
+        taxSlab.setLowerLimit(BigDecimal.valueOf(300000));
+        taxSlab.setTaxRate(new BigDecimal("0.0500"));
+        taxSlab.setBaseTax(BigDecimal.ZERO);
+
+        assertEquals(2, taxSlab.getSlabVersion());
+        assertEquals(BigDecimal.valueOf(300000), taxSlab.getLowerLimit());
+        assertEquals(new BigDecimal("0.0500"), taxSlab.getTaxRate());
+        assertEquals(BigDecimal.ZERO, taxSlab.getBaseTax());
+    }
+}
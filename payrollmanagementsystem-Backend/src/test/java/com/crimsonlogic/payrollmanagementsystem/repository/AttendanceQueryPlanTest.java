@@ -0,0 +1,206 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Explain plan checks of the attendance read queries against PostgreSQL.
+ * The attendance table is created as a temporary table with the index of the
+ * entity, filled with five years of daily records and analyzed, so a month or a
+ * year of one employee is a small slice of many years of history. The attendance
+ * bitmaps are packed from the same records to compare the storage of both forms,
+ * and the employees form a small reporting hierarchy for the team summary
+ * with watermarks for regularization.
+ * Run with -Dpayroll.explain.url=jdbc:postgresql://host/db and optionally
+ * -Dpayroll.explain.username and -Dpayroll.explain.password.
+ *
+ * @author abdulmanan
+ */
+@EnabledIfSystemProperty(named = "payroll.explain.url", matches = ".+")
+class AttendanceQueryPlanTest {
+
+    private static final int EMPLOYEES = 200;
+    private static final int DAYS = 5 * 365;
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        connection = DriverManager.getConnection(System.getProperty("payroll.explain.url"),
+                System.getProperty("payroll.explain.username", "postgres"),
+                System.getProperty("payroll.explain.password", ""));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TEMPORARY TABLE attendance (attendance_id VARCHAR(50) PRIMARY KEY, " +
+                    "attendance_for_date DATE, overtime_hours NUMERIC, total_hours NUMERIC, status VARCHAR(20), " +
+                    "attendance_by_employee VARCHAR(50))");
+            statement.execute("CREATE INDEX idx_attendance_employee_date ON attendance " +
+                    "(attendance_by_employee, attendance_for_date)");
+            statement.execute("INSERT INTO attendance SELECT 'ATD' || e || '-' || d, DATE '2020-01-01' + d, 0, 8, " +
+                    "CASE WHEN (e + d) % 23 = 0 THEN 'Absent' ELSE 'Present' END, 'EMP' || e " +
+                    "FROM generate_series(1, " + EMPLOYEES + ") e, generate_series(0, " + (DAYS - 1) + ") d");
+            statement.execute("CREATE TEMPORARY TABLE attendance_bitmap (attendance_bitmap_id VARCHAR(50) PRIMARY KEY, " +
+                    "bitmap_year INTEGER NOT NULL, bitmap_month INTEGER NOT NULL, recorded_days INTEGER NOT NULL, " +
+                    "status_codes BIGINT NOT NULL, hour_deltas BYTEA, bitmap_of_employee VARCHAR(50), " +
+                    "CONSTRAINT uk_attendance_bitmap_employee_month UNIQUE (bitmap_of_employee, bitmap_year, bitmap_month))");
+            statement.execute("INSERT INTO attendance_bitmap SELECT 'ABM' || e || '-' || y || '-' || m, y, m, " +
+                    "bit_or(1 << (d - 1)), bit_or(CAST(CASE status WHEN 'Present' THEN 0 WHEN 'Absent' THEN 1 " +
+                    "WHEN 'Leave' THEN 2 ELSE 3 END AS BIGINT) << (2 * (d - 1))), NULL, e " +
+                    "FROM (SELECT attendance_by_employee e, status, " +
+                    "CAST(EXTRACT(YEAR FROM attendance_for_date) AS INTEGER) y, " +
+                    "CAST(EXTRACT(MONTH FROM attendance_for_date) AS INTEGER) m, " +
+                    "CAST(EXTRACT(DAY FROM attendance_for_date) AS INTEGER) d FROM attendance) a GROUP BY e, y, m");
+            statement.execute("CREATE TEMPORARY TABLE employees (employee_id VARCHAR(50) PRIMARY KEY, " +
+                    "full_name VARCHAR(50), manager VARCHAR(50), joining_date DATE, is_active BOOLEAN)");
+            // Ten managers of twenty reports each, the first one managing the other nine
+            statement.execute("INSERT INTO employees SELECT 'EMP' || e, 'Employee ' || e, " +
+                    "CASE WHEN e = 1 THEN NULL WHEN e <= 10 THEN 'EMP1' ELSE 'EMP' || (1 + e % 10) END, DATE '2020-01-01', TRUE " +
+                    "FROM generate_series(1, " + EMPLOYEES + ") e");
+            statement.execute("CREATE TEMPORARY TABLE leave_request (leave_request_id VARCHAR(50) PRIMARY KEY, " +
+                    "start_date DATE, end_date DATE, status VARCHAR(30), request_by_employee VARCHAR(50))");
+            statement.execute("CREATE TEMPORARY TABLE regularization_watermark (regularization_watermark_id VARCHAR(50) " +
+                    "PRIMARY KEY, regularized_through DATE NOT NULL, watermark_of_employee VARCHAR(50) UNIQUE)");
+            statement.execute("INSERT INTO regularization_watermark SELECT 'RWM' || e, DATE '2024-11-30', 'EMP' || e " +
+                    "FROM generate_series(1, " + EMPLOYEES + ") e");
+            statement.execute("ANALYZE employees");
+            statement.execute("ANALYZE regularization_watermark");
+            statement.execute("ANALYZE attendance");
+            statement.execute("ANALYZE attendance_bitmap");
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void testEmployeeAttendanceOfYear_RangeScanOfEmployeeDateIndex() throws SQLException {
+        // Shape of findByEmployeeAndDateRange for the attendance calendar of a year
+        String plan = explain("SELECT * FROM attendance a WHERE a.attendance_by_employee = 'EMP42' " +
+                "AND a.attendance_for_date BETWEEN DATE '2023-01-01' AND DATE '2023-12-31' " +
+                "ORDER BY a.attendance_for_date ASC");
+
+        assertThat(plan).contains("idx_attendance_employee_date")
+                .containsPattern("Index Cond: .*attendance_for_date >=")
+                .doesNotContain("Seq Scan")
+                .doesNotContain("Sort");
+    }
+
+    @Test
+    void testTeamAttendanceOfMonth_RangeScanOfEmployeeDateIndex() throws SQLException {
+        // Shape of findByEmployeeAndDateRange for the team attendance of one month
+        String plan = explain("SELECT * FROM attendance a WHERE a.attendance_by_employee = 'EMP42' " +
+                "AND a.attendance_for_date BETWEEN DATE '2022-10-01' AND DATE '2022-10-31' " +
+                "ORDER BY a.attendance_for_date ASC");
+
+        assertThat(plan).contains("idx_attendance_employee_date")
+                .containsPattern("Index Cond: .*attendance_for_date >=")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void testAbsencesOfEmployeeForMonth_RangeScanOfEmployeeDateIndex() throws SQLException {
+        // Shape of countAbsencesByEmployee for the salary preview of one employee
+        String plan = explain("SELECT a.attendance_by_employee, COUNT(*) FROM attendance a " +
+                "WHERE a.attendance_by_employee IN ('EMP42') " +
+                "AND a.attendance_for_date BETWEEN DATE '2024-02-01' AND DATE '2024-02-29' " +
+                "AND LOWER(a.status) = 'absent' GROUP BY a.attendance_by_employee");
+
+        assertThat(plan).contains("idx_attendance_employee_date")
+                .containsPattern("Index Cond: .*attendance_for_date >=")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void testTeamAttendanceSummary_RangeScanPerMember() throws SQLException {
+        // Shape of countTeamAttendance for the team of a manager of twenty, including indirect reports
+        String plan = explain("WITH RECURSIVE team (employee_id, full_name) AS (" +
+                "SELECT employee_id, full_name FROM employees WHERE manager = 'EMP2' " +
+                "UNION SELECT e.employee_id, e.full_name FROM employees e " +
+                "JOIN team t ON e.manager = t.employee_id WHERE TRUE) " +
+                "SELECT t.employee_id, t.full_name, COUNT(*) FILTER (WHERE LOWER(a.status) = 'present') " +
+                "FROM team t LEFT JOIN attendance a ON a.attendance_by_employee = t.employee_id " +
+                "AND a.attendance_for_date BETWEEN DATE '2024-02-01' AND DATE '2024-02-29' " +
+                "WHERE t.employee_id <> 'EMP2' GROUP BY t.employee_id, t.full_name");
+
+        assertThat(plan).contains("idx_attendance_employee_date")
+                .containsPattern("Index Cond: .*attendance_for_date >=")
+                .doesNotContain("Seq Scan on attendance");
+    }
+
+    @Test
+    void testMissingAttendanceOfMonth_LookupPerEmployeeDay() throws SQLException {
+        // Shape of findMissingAttendance for a month of regularization
+        String plan = explain("SELECT e.employee_id, d.day FROM employees e " +
+                "LEFT JOIN regularization_watermark w ON w.watermark_of_employee = e.employee_id " +
+                "CROSS JOIN unnest(CAST('{2024-12-02,2024-12-03,2024-12-04}' AS DATE[])) AS d(day) " +
+                "WHERE e.is_active IS NOT FALSE AND d.day > COALESCE(w.regularized_through, DATE '2024-11-01' - 1) " +
+                "AND (e.joining_date IS NULL OR d.day >= e.joining_date) " +
+                "AND NOT EXISTS (SELECT 1 FROM attendance a WHERE a.attendance_by_employee = e.employee_id " +
+                "AND a.attendance_for_date = d.day) " +
+                "AND NOT EXISTS (SELECT 1 FROM leave_request lr WHERE lr.request_by_employee = e.employee_id " +
+                "AND LOWER(lr.status) = 'approved' AND d.day BETWEEN lr.start_date AND lr.end_date) " +
+                "ORDER BY d.day, e.employee_id");
+
+        assertThat(plan).contains("idx_attendance_employee_date")
+                .doesNotContain("Seq Scan on attendance");
+    }
+
+    @Test
+    void testEmployeeBitmapsOfYear_RangeScanOfBitmapKey() throws SQLException {
+        // Shape of findBitmapsOfEmployee for the attendance calendar of a year
+        String plan = explain("SELECT * FROM attendance_bitmap b WHERE b.bitmap_of_employee = 'EMP42' " +
+                "AND b.bitmap_year BETWEEN 2023 AND 2023 ORDER BY b.bitmap_year ASC, b.bitmap_month ASC");
+
+        assertThat(plan).contains("uk_attendance_bitmap_employee_month")
+                .containsPattern("Index Cond: .*bitmap_year >=")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void testBitmapStorage_OrderOfMagnitudeSmaller() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT pg_total_relation_size('attendance'), " +
+                     "pg_total_relation_size('attendance_bitmap')")) {
+            resultSet.next();
+            assertThat(resultSet.getLong(1)).isGreaterThan(10 * resultSet.getLong(2));
+        }
+    }
+
+    @Test
+    void testMonthFunctionPredicate_IsNotAnIndexCondition() throws SQLException {
+        // The former month lookup filtered on functions of the column and matched the month of every year
+        String plan = explain("SELECT * FROM attendance a WHERE a.attendance_by_employee = 'EMP42' " +
+                "AND EXTRACT(MONTH FROM a.attendance_for_date) = 10 " +
+                "AND EXTRACT(YEAR FROM a.attendance_for_date) = 2022");
+
+        // Older servers print the function as date_part
+        assertThat(plan).containsPattern("(?i)Filter: .*(extract|date_part)")
+                .doesNotContainPattern("Index Cond: .*attendance_for_date");
+    }
+
+    private static String explain(String sql) throws SQLException {
+        List<String> lines = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+            while (resultSet.next()) {
+                lines.add(resultSet.getString(1));
+            }
+        }
+        return String.join("\n", lines);
+    }
+}
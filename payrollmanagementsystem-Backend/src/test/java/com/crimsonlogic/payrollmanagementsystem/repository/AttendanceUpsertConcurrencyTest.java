@@ -0,0 +1,160 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceUpsertDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrency checks of the attendance upsert against PostgreSQL.
+ * Two sessions mark the same employee and day, which has no record yet, the second
+ * one while the first has not committed. The tables are created in a schema of their
+ * own, since temporary tables are not visible to the other session.
+ * Run with -Dpayroll.explain.url=jdbc:postgresql://host/db and optionally
+ * -Dpayroll.explain.username and -Dpayroll.explain.password.
+ *
+ * @author abdulmanan
+ */
+@EnabledIfSystemProperty(named = "payroll.explain.url", matches = ".+")
+class AttendanceUpsertConcurrencyTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 4);
+
+    private final String schema = "attendance_upsert_" + System.nanoTime();
+
+    private final List<Connection> connections = new ArrayList<>();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private Connection setupConnection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        setupConnection = connect();
+        try (Statement statement = setupConnection.createStatement()) {
+            statement.execute("CREATE SCHEMA " + schema);
+            statement.execute("CREATE TABLE " + schema + ".employees (employee_id VARCHAR(50) PRIMARY KEY)");
+            statement.execute("CREATE TABLE " + schema + ".attendance (attendance_id VARCHAR(50) PRIMARY KEY, " +
+                    "attendance_for_date DATE, overtime_hours NUMERIC, total_hours NUMERIC, status VARCHAR(20), " +
+                    "attendance_by_employee VARCHAR(50), CONSTRAINT uk_attendance_employee_date " +
+                    "UNIQUE (attendance_by_employee, attendance_for_date))");
+            statement.execute("INSERT INTO " + schema + ".employees VALUES ('EMP1')");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        executor.shutdownNow();
+        for (Connection connection : connections) {
+            connection.close();
+        }
+        try (Statement statement = setupConnection.createStatement()) {
+            statement.execute("DROP SCHEMA " + schema + " CASCADE");
+        }
+        setupConnection.close();
+    }
+
+    @Test
+    void testUpsertOfNewDay_SecondWriterSeesFirstRecordAsReplaced() throws Exception {
+        Connection first = openSession();
+        Connection second = openSession();
+        AttendanceRepositoryImpl firstRepository = new AttendanceRepositoryImpl(jdbcTemplate(first));
+        AttendanceRepositoryImpl secondRepository = new AttendanceRepositoryImpl(jdbcTemplate(second));
+
+        AttendanceUpsertDTO firstUpsert = firstRepository.upsertAttendance(List.of(attendance("Present")));
+        Future<AttendanceUpsertDTO> secondUpsert = executor.submit(
+                () -> secondRepository.upsertAttendance(List.of(attendance("Absent"))));
+        awaitBlockedSession();
+        first.commit();
+        AttendanceUpsertDTO result = secondUpsert.get(30, TimeUnit.SECONDS);
+        second.commit();
+
+        assertThat(firstUpsert.getPreviousAttendances()).isEmpty();
+        assertThat(result.getPreviousAttendances()).singleElement()
+                .satisfies(previous -> assertThat(previous.getStatus()).isEqualTo("Present"));
+        assertThat(result.getAttendances()).singleElement()
+                .satisfies(saved -> assertThat(saved.getStatus()).isEqualTo("Absent"));
+    }
+
+    @Test
+    void testUpsertOfOverlappingDays_NoDeadlock() throws Exception {
+        Connection first = openSession();
+        Connection second = openSession();
+        AttendanceRepositoryImpl firstRepository = new AttendanceRepositoryImpl(jdbcTemplate(first));
+        AttendanceRepositoryImpl secondRepository = new AttendanceRepositoryImpl(jdbcTemplate(second));
+
+        firstRepository.upsertAttendance(List.of(attendance("Present"), attendance(DAY.plusDays(1), "Present")));
+        Future<AttendanceUpsertDTO> secondUpsert = executor.submit(() -> secondRepository.upsertAttendance(
+                List.of(attendance(DAY.plusDays(1), "Leave"), attendance("Leave"))));
+        awaitBlockedSession();
+        first.commit();
+        AttendanceUpsertDTO result = secondUpsert.get(30, TimeUnit.SECONDS);
+        second.commit();
+
+        assertThat(result.getPreviousAttendances()).hasSize(2);
+        assertThat(result.getAttendances()).hasSize(2);
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(System.getProperty("payroll.explain.url"),
+                System.getProperty("payroll.explain.username", "postgres"),
+                System.getProperty("payroll.explain.password", ""));
+    }
+
+    private Connection openSession() throws SQLException {
+        Connection connection = connect();
+        connections.add(connection);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET search_path TO " + schema);
+        }
+        connection.setAutoCommit(false);
+        return connection;
+    }
+
+    private static JdbcTemplate jdbcTemplate(Connection connection) {
+        return new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+    }
+
+    // Waits until the second session is blocked on a lock held by the first one
+    private void awaitBlockedSession() throws SQLException, InterruptedException {
+        for (int i = 0; i < 300; i++) {
+            try (Statement statement = setupConnection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM pg_locks WHERE NOT granted")) {
+                resultSet.next();
+                if (resultSet.getInt(1) > 0) {
+                    return;
+                }
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("The second session never waited on the first one");
+    }
+
+    private static AttendanceDTO attendance(String status) {
+        return attendance(DAY, status);
+    }
+
+    private static AttendanceDTO attendance(LocalDate day, String status) {
+        return new AttendanceDTO(null, day, BigDecimal.ZERO, BigDecimal.ZERO, status, "EMP1");
+    }
+}
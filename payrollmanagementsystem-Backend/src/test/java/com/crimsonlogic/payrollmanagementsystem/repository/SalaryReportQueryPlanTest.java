@@ -0,0 +1,134 @@
+package com.crimsonlogic.payrollmanagementsystem.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Explain plan checks of the period report queries against PostgreSQL.
+ * The tables are created as temporary tables with the keys and indexes of the
+ * entities, filled with ten years of monthly records and analyzed, so the plans
+ * are the ones the planner picks for a realistic spread of pay periods.
+ * Run with -Dpayroll.explain.url=jdbc:postgresql://host/db and optionally
+ * -Dpayroll.explain.username and -Dpayroll.explain.password.
+ *
+ * @author abdulmanan
+ */
+@EnabledIfSystemProperty(named = "payroll.explain.url", matches = ".+")
+class SalaryReportQueryPlanTest {
+
+    private static final int EMPLOYEES = 500;
+    private static final int MONTHS = 120;
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        connection = DriverManager.getConnection(System.getProperty("payroll.explain.url"),
+                System.getProperty("payroll.explain.username", "postgres"),
+                System.getProperty("payroll.explain.password", ""));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TEMPORARY TABLE salary_record (salary_record_id VARCHAR(50) PRIMARY KEY, " +
+                    "pay_period_start DATE, pay_period_end DATE, gross_salary NUMERIC, bonus_amount NUMERIC, " +
+                    "tax_amount NUMERIC, pf_amount NUMERIC, penalty_amount NUMERIC, net_salary NUMERIC, " +
+                    "salary_record_of_employee VARCHAR(50), " +
+                    "CONSTRAINT uk_salary_record_employee_period UNIQUE (salary_record_of_employee, pay_period_start))");
+            statement.execute("CREATE INDEX idx_salary_record_pay_period_start ON salary_record (pay_period_start)");
+            statement.execute("INSERT INTO salary_record SELECT 'SRD' || e || '-' || m, " +
+                    "DATE '2015-01-01' + make_interval(months => m), " +
+                    "DATE '2015-01-01' + make_interval(months => m + 1) - 1, 50000, 0, 1000, 2500, 0, 46500, " +
+                    "'EMP' || e FROM generate_series(1, " + EMPLOYEES + ") e, generate_series(0, " + (MONTHS - 1) + ") m");
+
+            statement.execute("CREATE TEMPORARY TABLE salary_rollup (salary_rollup_id VARCHAR(50) PRIMARY KEY, " +
+                    "rollup_grain VARCHAR(20) NOT NULL, grain_key VARCHAR(50) NOT NULL, pay_month DATE NOT NULL, " +
+                    "record_count INTEGER NOT NULL, gross_salary NUMERIC NOT NULL, net_salary NUMERIC NOT NULL, " +
+                    "bonus_amount NUMERIC NOT NULL, penalty_amount NUMERIC NOT NULL, pf_amount NUMERIC NOT NULL, " +
+                    "tax_amount NUMERIC NOT NULL, " +
+                    "CONSTRAINT uk_salary_rollup_grain_month UNIQUE (rollup_grain, grain_key, pay_month))");
+            statement.execute("INSERT INTO salary_rollup SELECT 'SRU' || rollup_grain || grain_key || pay_month, " +
+                    "rollup_grain, grain_key, pay_month, COUNT(*), SUM(gross_salary), SUM(net_salary), " +
+                    "SUM(bonus_amount), SUM(penalty_amount), SUM(pf_amount), SUM(tax_amount) FROM (" +
+                    "SELECT 'MONTH' rollup_grain, '' grain_key, s.* , s.pay_period_start pay_month FROM salary_record s " +
+                    "UNION ALL SELECT 'EMPLOYEE', s.salary_record_of_employee, s.*, s.pay_period_start " +
+                    "FROM salary_record s) r GROUP BY rollup_grain, grain_key, pay_month");
+            statement.execute("ANALYZE salary_record");
+            statement.execute("ANALYZE salary_rollup");
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void testEmployeeRecordsOverFiscalYears_RangeScanOfEmployeeIndex() throws SQLException {
+        // Shape of findBySalaryRecordOfEmployeeAndPayPeriodStartBetweenOrderByPayPeriodStartAsc
+        String plan = explain("SELECT * FROM salary_record s WHERE s.salary_record_of_employee = 'EMP42' " +
+                "AND s.pay_period_start BETWEEN DATE '2019-04-01' AND DATE '2024-03-31' " +
+                "ORDER BY s.pay_period_start ASC");
+
+        assertThat(plan).contains("uk_salary_record_employee_period")
+                .containsPattern("Index Cond: .*pay_period_start >=")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void testEmployeeTotalsOverYears_RangeScanOfRollupKey() throws SQLException {
+        // Shape of sumRollupsByPeriod for the tax of an employee
+        String plan = explain("SELECT SUM(r.gross_salary), SUM(r.tax_amount), SUM(r.net_salary) " +
+                "FROM salary_rollup r WHERE r.rollup_grain = 'EMPLOYEE' AND r.grain_key = 'EMP42' " +
+                "AND r.pay_month BETWEEN DATE '2016-01-01' AND DATE '2023-12-31'");
+
+        assertThat(plan).contains("uk_salary_rollup_grain_month")
+                .containsPattern("Index Cond: .*pay_month >=")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void testCompanyTotalsOverYears_RangeScanOfRollupKey() throws SQLException {
+        // Shape of sumRollupsByPeriod for the company-wide period report
+        String plan = explain("SELECT SUM(r.gross_salary), SUM(r.net_salary) FROM salary_rollup r " +
+                "WHERE r.rollup_grain = 'MONTH' AND r.grain_key = '' " +
+                "AND r.pay_month BETWEEN DATE '2016-04-01' AND DATE '2023-03-31'");
+
+        assertThat(plan).contains("uk_salary_rollup_grain_month")
+                .containsPattern("Index Cond: .*pay_month >=")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void testYearFunctionPredicate_IsNotAnIndexCondition() throws SQLException {
+        // The former year pinned reports filtered on a function of the column, which no index range can serve
+        String plan = explain("SELECT * FROM salary_record s WHERE s.salary_record_of_employee = 'EMP42' " +
+                "AND EXTRACT(YEAR FROM s.pay_period_start) IN (2019, 2020, 2021, 2022, 2023)");
+
+        // Older servers print the function as date_part
+        assertThat(plan).containsPattern("(?i)Filter: .*(extract|date_part)")
+                .doesNotContainPattern("Index Cond: .*pay_period_start");
+    }
+
+    private static String explain(String sql) throws SQLException {
+        List<String> lines = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+            while (resultSet.next()) {
+                lines.add(resultSet.getString(1));
+            }
+        }
+        return String.join("\n", lines);
+    }
+}
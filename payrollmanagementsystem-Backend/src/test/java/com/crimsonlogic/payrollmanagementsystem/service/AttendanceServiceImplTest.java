@@ -1,20 +1,24 @@
 package com.crimsonlogic.payrollmanagementsystem.service;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.anyInt;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.crimsonlogic.payrollmanagementsystem.domain.Attendance;
+import com.crimsonlogic.payrollmanagementsystem.domain.AttendanceSummary;
 import com.crimsonlogic.payrollmanagementsystem.domain.Employees;
 import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO;
 import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceResponseDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceUpsertDTO;
 import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
 import com.crimsonlogic.payrollmanagementsystem.repository.AttendanceRepository;
 import com.crimsonlogic.payrollmanagementsystem.repository.AttendanceRepositoryCustom;
+import com.crimsonlogic.payrollmanagementsystem.repository.AttendanceSummaryRepository;
 import com.crimsonlogic.payrollmanagementsystem.repository.EmployeesRepository;
 import com.crimsonlogic.payrollmanagementsystem.serviceimpl.AttendanceServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +30,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.Year;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -45,6 +50,12 @@ class AttendanceServiceImplTest {
     @Mock
     private EmployeesRepository employeesRepository;
 
+    @Mock
+    private AttendanceSummaryRepository attendanceSummaryRepository;
+
+    @Mock
+    private AttendanceSummaryService attendanceSummaryService;
+
     private Employees employee;
 
     private Attendance attendance;
@@ -63,25 +74,63 @@ class AttendanceServiceImplTest {
     }
 
     @Test
-    void testGetAttendanceForEmployee_Success() {
-        when(employeesRepository.findById(employee.getEmployeeId())).thenReturn(Optional.of(employee));
-        when(attendanceRepository.findByAttendanceByEmployee(employee)).thenReturn(Collections.singletonList(attendance));
+    void testGetAttendanceForEmployee_Success() throws ResourceNotFoundException {
+        int year = Year.now().getValue();
+        AttendanceDTO record = new AttendanceDTO("atd1", LocalDate.now(), BigDecimal.ZERO, BigDecimal.valueOf(8),
+                "Present", employee.getEmployeeId());
+        when(attendanceRepository.findAttendanceOfEmployee(employee.getEmployeeId(), LocalDate.of(year, 1, 1),
+                LocalDate.of(year, 12, 31))).thenReturn(Collections.singletonList(record));
+
+        List<AttendanceDTO> attendanceDTOs = attendanceService.getAttendanceForEmployee(employee.getEmployeeId(),
+                null, null, null);
+
+        assertThat(attendanceDTOs).containsExactly(record);
+        verify(employeesRepository, never()).findById(any());
+    }
 
-        List<AttendanceDTO> attendanceDTOs = attendanceService.getAttendanceForEmployee(employee.getEmployeeId());
+    @Test
+    void testGetAttendanceForEmployee_ExactHoursAndIds() throws ResourceNotFoundException {
+        LocalDate startDate = LocalDate.of(2023, 11, 27);
+        LocalDate endDate = LocalDate.of(2024, 1, 7);
+        // Hours off the quarter hour and beyond the range a bitmap can hold
+        List<AttendanceDTO> records = List.of(
+                new AttendanceDTO("atd1", LocalDate.of(2023, 11, 28), new BigDecimal("1.10"),
+                        new BigDecimal("10.10"), "Present", employee.getEmployeeId()),
+                new AttendanceDTO("atd2", LocalDate.of(2024, 1, 2), new BigDecimal("33.00"),
+                        new BigDecimal("42.00"), "Present", employee.getEmployeeId()));
+        when(attendanceRepository.findAttendanceOfEmployee(employee.getEmployeeId(), startDate, endDate))
+                .thenReturn(records);
+
+        List<AttendanceDTO> attendanceDTOs = attendanceService.getAttendanceForEmployee(employee.getEmployeeId(),
+                startDate, endDate, null);
+
+        assertThat(attendanceDTOs).extracting(AttendanceDTO::getAttendanceId).containsExactly("atd1", "atd2");
+        assertThat(attendanceDTOs.get(0).getTotalHours()).isEqualByComparingTo("10.10");
+        assertThat(attendanceDTOs.get(0).getOvertimeHours()).isEqualByComparingTo("1.10");
+        assertThat(attendanceDTOs.get(1).getTotalHours()).isEqualByComparingTo("42.00");
+    }
 
-        assertThat(attendanceDTOs).isNotEmpty();
-        assertThat(attendanceDTOs.get(0).getAttendanceByEmployee()).isEqualTo(employee.getEmployeeId());
-        verify(attendanceRepository).findByAttendanceByEmployee(employee);
+    @Test
+    void testGetAttendanceForEmployee_InvalidPeriod() {
+        String employeeId = employee.getEmployeeId();
+        LocalDate startDate = LocalDate.of(2024, 2, 1);
+        LocalDate endDate = LocalDate.of(2024, 1, 1);
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> attendanceService.getAttendanceForEmployee(employeeId, startDate, endDate, null));
+        assertThrows(ResourceNotFoundException.class,
+                () -> attendanceService.getAttendanceForEmployee(employeeId, endDate, startDate, 2024));
+        verify(attendanceRepository, never()).findAttendanceOfEmployee(any(), any(), any());
     }
 
     @Test
-    void testGetAttendanceForEmployee_EmployeeNotFound() {
-        when(employeesRepository.findById(employee.getEmployeeId())).thenReturn(Optional.empty());
+    void testGetAttendanceForEmployee_EmployeeNotFound() throws ResourceNotFoundException {
+        when(attendanceRepository.findAttendanceOfEmployee("unknown", LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 12, 31))).thenReturn(Collections.emptyList());
 
-        List<AttendanceDTO> attendanceDTOs = attendanceService.getAttendanceForEmployee(employee.getEmployeeId());
+        List<AttendanceDTO> attendanceDTOs = attendanceService.getAttendanceForEmployee("unknown", null, null, 2024);
 
         assertThat(attendanceDTOs).isNotNull().isEmpty();
-        verify(attendanceRepository, never()).findByAttendanceByEmployee(any(Employees.class));
     }
 
     @Test
@@ -89,49 +138,164 @@ class AttendanceServiceImplTest {
         AttendanceDTO attendanceDTO = new AttendanceDTO();
         attendanceDTO.setAttendanceByEmployee(employee.getEmployeeId());
         attendanceDTO.setAttendanceForDate(LocalDate.now());
-        attendanceDTO.setStatus("Present");
+        attendanceDTO.setStatus("present");
+        AttendanceDTO saved = new AttendanceDTO("ATD1", LocalDate.now(), BigDecimal.ZERO, BigDecimal.valueOf(8),
+                "Present", "emp1");
+        when(attendanceRepositoryCustom.upsertAttendance(any()))
+                .thenReturn(new AttendanceUpsertDTO(List.of(), List.of(saved)));
 
-        when(employeesRepository.findById(employee.getEmployeeId())).thenReturn(Optional.of(employee));
+        attendanceService.markAttendance(attendanceDTO);
+
+        verify(attendanceRepositoryCustom).upsertAttendance(argThat(attendances -> attendances.size() == 1
+                && attendances.get(0).getAttendanceId().startsWith("ATD")
+                && "Present".equals(attendances.get(0).getStatus())));
+        verify(attendanceSummaryService).replaceAttendance(List.of(), List.of(saved));
+        verify(employeesRepository, never()).findById(any());
+        verify(attendanceRepository, never()).save(any(Attendance.class));
+    }
+
+    @Test
+    void testMarkAttendance_ReplacesMarkedDay() throws ResourceNotFoundException {
+        AttendanceDTO attendanceDTO = new AttendanceDTO(null, LocalDate.now(), null, null, "Absent", "emp1");
+        AttendanceDTO previous = new AttendanceDTO("ATD1", LocalDate.now(), BigDecimal.ZERO, BigDecimal.valueOf(8),
+                "Present", "emp1");
+        AttendanceDTO saved = new AttendanceDTO("ATD1", LocalDate.now(), BigDecimal.ZERO, BigDecimal.valueOf(8),
+                "Absent", "emp1");
+        when(attendanceRepositoryCustom.upsertAttendance(any()))
+                .thenReturn(new AttendanceUpsertDTO(List.of(previous), List.of(saved)));
 
         attendanceService.markAttendance(attendanceDTO);
 
-        verify(attendanceRepository).save(any(Attendance.class));
+        verify(attendanceSummaryService).replaceAttendance(List.of(previous), List.of(saved));
     }
 
     @Test
     void testMarkAttendance_EmployeeNotFound() {
-        AttendanceDTO attendanceDTO = new AttendanceDTO();
-        attendanceDTO.setAttendanceByEmployee(employee.getEmployeeId());
+        AttendanceDTO attendanceDTO = new AttendanceDTO(null, LocalDate.now(), null, null, "Present",
+                employee.getEmployeeId());
+        when(attendanceRepositoryCustom.upsertAttendance(any()))
+                .thenReturn(new AttendanceUpsertDTO(List.of(), List.of()));
 
-        when(employeesRepository.findById(employee.getEmployeeId())).thenReturn(Optional.empty());
+        assertThrows(ResourceNotFoundException.class, () -> attendanceService.markAttendance(attendanceDTO));
+        verify(attendanceSummaryService, never()).replaceAttendance(any(), any());
+    }
+
+    @Test
+    void testMarkAttendance_InvalidStatus() {
+        AttendanceDTO attendanceDTO = new AttendanceDTO(null, LocalDate.now(), null, null, "Holiday", "emp1");
 
         assertThrows(ResourceNotFoundException.class, () -> attendanceService.markAttendance(attendanceDTO));
+        verify(attendanceRepositoryCustom, never()).upsertAttendance(any());
+    }
+
+    @Test
+    void testMarkAttendances_LastRecordOfDayWins() throws ResourceNotFoundException {
+        LocalDate day = LocalDate.of(2024, 3, 4);
+        List<AttendanceDTO> attendanceDTOs = List.of(
+                new AttendanceDTO(null, day, null, null, "Present", "emp1"),
+                new AttendanceDTO(null, day, null, null, "Present", "emp2"),
+                new AttendanceDTO(null, day, null, null, "Half Day", "emp1"));
+        AttendanceDTO saved = new AttendanceDTO("ATD1", day, BigDecimal.ZERO, BigDecimal.valueOf(8), "Half Day",
+                "emp1");
+        when(attendanceRepositoryCustom.upsertAttendance(any()))
+                .thenReturn(new AttendanceUpsertDTO(List.of(), List.of(saved)));
+
+        int marked = attendanceService.markAttendances(attendanceDTOs);
+
+        assertThat(marked).isEqualTo(1);
+        verify(attendanceRepositoryCustom).upsertAttendance(argThat(attendances -> attendances.size() == 2
+                && "Half Day".equals(attendances.get(0).getStatus())
+                && attendances.get(0).getAttendanceId() == null
+                && "emp2".equals(attendances.get(1).getAttendanceByEmployee())));
+        verify(attendanceSummaryService).replaceAttendance(List.of(), List.of(saved));
+    }
+
+    @Test
+    void testMarkAttendances_Empty() throws ResourceNotFoundException {
+        assertThat(attendanceService.markAttendances(List.of())).isZero();
+
+        verify(attendanceRepositoryCustom, never()).upsertAttendance(any());
     }
 
     @Test
     void testGetTeamAttendance_Success() throws ResourceNotFoundException {
         when(employeesRepository.findById(employee.getEmployeeId())).thenReturn(Optional.of(employee));
-        when(attendanceRepository.findByMonthAndEmployee(anyInt(), any())).thenReturn(Collections.singletonList(attendance));
+        when(attendanceRepository.findByEmployeeAndDateRange(employee, LocalDate.of(2023, 10, 1),
+                LocalDate.of(2023, 10, 31))).thenReturn(Collections.singletonList(attendance));
 
-        AttendanceResponseDTO response = attendanceService.getTeamAttendance(10, employee.getEmployeeId());
+        AttendanceResponseDTO response = attendanceService.getTeamAttendance(2023, 10, employee.getEmployeeId());
 
         assertThat(response.getFullName()).isEqualTo(employee.getFullName());
         assertThat(response.getPresentCount()).isEqualTo(1);
-        verify(attendanceRepository).findByMonthAndEmployee(anyInt(), any(Employees.class));
+    }
+
+    @Test
+    void testGetTeamAttendance_FromSummaryOfOneYear() throws ResourceNotFoundException {
+        int year = Year.now().getValue();
+        AttendanceSummary thisYear = new AttendanceSummary();
+        thisYear.setPresentCount(18);
+        thisYear.setAbsentCount(2);
+        thisYear.setLeaveCount(1);
+        thisYear.setHalfDayCount(1);
+        when(employeesRepository.findById(employee.getEmployeeId())).thenReturn(Optional.of(employee));
+        when(attendanceSummaryRepository.findBySummaryOfEmployeeAndSummaryYearAndSummaryMonth(employee, year, 10))
+                .thenReturn(thisYear);
+
+        AttendanceResponseDTO response = attendanceService.getTeamAttendance(null, 10, employee.getEmployeeId());
+
+        assertThat(response.getFullName()).isEqualTo(employee.getFullName());
+        assertThat(response.getPresentCount()).isEqualTo(18);
+        assertThat(response.getAbsentCount()).isEqualTo(2);
+        assertThat(response.getLeaveCount()).isEqualTo(1);
+        assertThat(response.getHalfDayCount()).isEqualTo(1);
+        verify(attendanceRepository, never()).findByEmployeeAndDateRange(any(Employees.class), any(), any());
+    }
+
+    @Test
+    void testGetTeamAttendance_InvalidMonth() {
+        String employeeId = employee.getEmployeeId();
+        when(employeesRepository.findById(employeeId)).thenReturn(Optional.of(employee));
+
+        assertThrows(ResourceNotFoundException.class, () -> attendanceService.getTeamAttendance(2024, 13, employeeId));
     }
 
     @Test
     void testGetTeamAttendance_EmployeeNotFound() {
         when(employeesRepository.findById(employee.getEmployeeId())).thenReturn(Optional.empty());
 
-        assertThrows(ResourceNotFoundException.class, () -> attendanceService.getTeamAttendance(10, employee.getEmployeeId()));
+        assertThrows(ResourceNotFoundException.class, () -> attendanceService.getTeamAttendance(2024, 10, employee.getEmployeeId()));
+    }
+
+    @Test
+    void testGetTeamAttendanceSummary_OneGroupedQuery() throws ResourceNotFoundException {
+        AttendanceResponseDTO member = new AttendanceResponseDTO();
+        member.setEmployeeId("EMP2");
+        member.setPresentCount(20);
+        when(attendanceRepositoryCustom.countTeamAttendance("EMP1", LocalDate.of(2024, 2, 1),
+                LocalDate.of(2024, 2, 29), true)).thenReturn(List.of(member));
+
+        List<AttendanceResponseDTO> response = attendanceService.getTeamAttendanceSummary(2024, 2, "EMP1", true);
+
+        assertThat(response).containsExactly(member);
+        verify(employeesRepository, never()).findById(any());
     }
 
     @Test
-    void testRegularize() {
-        attendanceService.regularize();
+    void testGetTeamAttendanceSummary_DefaultsToCurrentYear() throws ResourceNotFoundException {
+        int year = Year.now().getValue();
+        when(attendanceRepositoryCustom.countTeamAttendance("EMP1", LocalDate.of(year, 10, 1),
+                LocalDate.of(year, 10, 31), false)).thenReturn(Collections.emptyList());
 
-        verify(attendanceRepositoryCustom).insertAbsentAttendance();
+        assertThat(attendanceService.getTeamAttendanceSummary(null, 10, "EMP1", false)).isEmpty();
+    }
+
+    @Test
+    void testGetTeamAttendanceSummary_InvalidMonth() {
+        assertThrows(ResourceNotFoundException.class,
+                () -> attendanceService.getTeamAttendanceSummary(2024, 13, "EMP1", false));
+        assertThrows(ResourceNotFoundException.class,
+                () -> attendanceService.getTeamAttendanceSummary(2024, null, "EMP1", false));
+        verify(attendanceRepositoryCustom, never()).countTeamAttendance(any(), any(), any(), eq(false));
     }
 }
 
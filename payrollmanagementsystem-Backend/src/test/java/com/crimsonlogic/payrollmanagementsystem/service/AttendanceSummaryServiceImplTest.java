@@ -0,0 +1,196 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.AttendanceSummary;
+import com.crimsonlogic.payrollmanagementsystem.domain.Employees;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceSummaryDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.repository.AttendanceBitmapRepositoryCustom;
+import com.crimsonlogic.payrollmanagementsystem.repository.AttendanceSummaryRepository;
+import com.crimsonlogic.payrollmanagementsystem.repository.AttendanceSummaryRepositoryCustom;
+import com.crimsonlogic.payrollmanagementsystem.repository.EmployeesRepository;
+import com.crimsonlogic.payrollmanagementsystem.serviceimpl.AttendanceSummaryServiceImpl;
+import com.crimsonlogic.payrollmanagementsystem.util.SalaryPreviewCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+@ExtendWith(MockitoExtension.class)
+class AttendanceSummaryServiceImplTest {
+
+    @InjectMocks
+    private AttendanceSummaryServiceImpl attendanceSummaryService;
+
+    @Mock
+    private AttendanceSummaryRepository attendanceSummaryRepository;
+
+    @Mock
+    private AttendanceSummaryRepositoryCustom attendanceSummaryRepositoryCustom;
+
+    @Mock
+    private AttendanceBitmapRepositoryCustom attendanceBitmapRepositoryCustom;
+
+    @Mock
+    private EmployeesRepository employeesRepository;
+
+    @Mock
+    private SalaryPreviewCache salaryPreviewCache;
+
+    @Captor
+    private ArgumentCaptor<List<AttendanceSummaryDTO>> deltaCaptor;
+
+    private Employees employee;
+
+    @BeforeEach
+    void setUp() {
+        employee = new Employees();
+        employee.setEmployeeId("emp1");
+    }
+
+    @Test
+    void testRecordAttendance_MergesPerEmployeeAndMonth() {
+        List<AttendanceDTO> attendances = List.of(
+                createAttendance("emp1", LocalDate.of(2024, 3, 28), "Leave"),
+                createAttendance("emp1", LocalDate.of(2024, 3, 29), "Half Day"),
+                createAttendance("emp1", LocalDate.of(2024, 4, 1), "Leave"),
+                createAttendance("emp2", LocalDate.of(2024, 3, 29), "present"));
+
+        attendanceSummaryService.recordAttendance(attendances);
+
+        verify(attendanceSummaryRepositoryCustom).addToAttendanceSummaries(deltaCaptor.capture());
+        List<AttendanceSummaryDTO> deltas = deltaCaptor.getValue();
+        assertThat(deltas).hasSize(3);
+        AttendanceSummaryDTO march = deltas.get(0);
+        assertEquals("emp1", march.getEmployeeId());
+        assertEquals(3, march.getSummaryMonth());
+        assertEquals(1, march.getLeaveCount());
+        assertEquals(1, march.getHalfDayCount());
+        assertEquals(BigDecimal.valueOf(16), march.getTotalHours());
+        assertEquals(1, deltas.get(2).getPresentCount());
+        verify(salaryPreviewCache).invalidate("emp1", YearMonth.of(2024, 3), YearMonth.of(2024, 3));
+        verify(salaryPreviewCache).invalidate("emp1", YearMonth.of(2024, 4), YearMonth.of(2024, 4));
+        verify(salaryPreviewCache).invalidate("emp2", YearMonth.of(2024, 3), YearMonth.of(2024, 3));
+        verify(attendanceBitmapRepositoryCustom).applyAttendance(attendances);
+    }
+
+    @Test
+    void testReplaceAttendance_AddsDifference() {
+        AttendanceDTO previous = createAttendance("emp1", LocalDate.of(2024, 3, 28), "Absent");
+        AttendanceDTO updated = createAttendance("emp1", LocalDate.of(2024, 3, 28), "Present");
+        updated.setTotalHours(new BigDecimal("9.50"));
+
+        attendanceSummaryService.replaceAttendance(List.of(previous), List.of(updated));
+
+        verify(attendanceSummaryRepositoryCustom).addToAttendanceSummaries(deltaCaptor.capture());
+        List<AttendanceSummaryDTO> deltas = deltaCaptor.getValue();
+        assertThat(deltas).hasSize(1);
+        assertEquals(1, deltas.get(0).getPresentCount());
+        assertEquals(-1, deltas.get(0).getAbsentCount());
+        assertEquals(0, new BigDecimal("1.50").compareTo(deltas.get(0).getTotalHours()));
+        verify(attendanceBitmapRepositoryCustom).applyAttendance(List.of(updated));
+        verify(salaryPreviewCache).invalidate("emp1", YearMonth.of(2024, 3), YearMonth.of(2024, 3));
+    }
+
+    @Test
+    void testRefreshAttendanceSummaries() {
+        LocalDate startDate = LocalDate.of(2024, 3, 28);
+        LocalDate endDate = LocalDate.of(2024, 4, 2);
+
+        attendanceSummaryService.refreshAttendanceSummaries("emp1", startDate, endDate);
+
+        verify(attendanceSummaryRepositoryCustom).rebuildAttendanceSummaries(startDate, endDate, "emp1");
+        verify(attendanceBitmapRepositoryCustom).rebuildAttendanceBitmaps(startDate, endDate, "emp1");
+        verify(salaryPreviewCache).invalidate("emp1", YearMonth.of(2024, 3), YearMonth.of(2024, 4));
+    }
+
+    @Test
+    void testRebuildAttendanceSummaries_Success() throws ResourceNotFoundException {
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 12, 31);
+        when(attendanceSummaryRepositoryCustom.rebuildAttendanceSummaries(startDate, endDate, null)).thenReturn(240);
+
+        int result = attendanceSummaryService.rebuildAttendanceSummaries(startDate, endDate);
+
+        assertEquals(240, result);
+        verify(attendanceBitmapRepositoryCustom).rebuildAttendanceBitmaps(startDate, endDate, null);
+        verify(salaryPreviewCache).invalidateAll();
+    }
+
+    @Test
+    void testRebuildAttendanceSummaries_InvalidRange() {
+        LocalDate startDate = LocalDate.of(2024, 12, 31);
+        LocalDate endDate = LocalDate.of(2024, 1, 1);
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> attendanceSummaryService.rebuildAttendanceSummaries(startDate, endDate));
+
+        verify(attendanceSummaryRepositoryCustom, never()).rebuildAttendanceSummaries(any(), any(), anyString());
+        verify(attendanceBitmapRepositoryCustom, never()).rebuildAttendanceBitmaps(any(), any(), any());
+    }
+
+    @Test
+    void testGetAttendanceSummary_Success() throws ResourceNotFoundException {
+        AttendanceSummary summary = new AttendanceSummary();
+        summary.setPresentCount(20);
+        summary.setAbsentCount(1);
+        summary.setLeaveCount(0);
+        summary.setHalfDayCount(1);
+        summary.setTotalHours(BigDecimal.valueOf(176));
+        when(employeesRepository.findById("emp1")).thenReturn(Optional.of(employee));
+        when(attendanceSummaryRepository.findBySummaryOfEmployeeAndSummaryYearAndSummaryMonth(employee, 2024, 3))
+                .thenReturn(summary);
+
+        AttendanceSummaryDTO result = attendanceSummaryService.getAttendanceSummary("emp1", 2024, 3);
+
+        assertEquals(20, result.getPresentCount());
+        assertEquals(1, result.getAbsentCount());
+        assertEquals(BigDecimal.valueOf(176), result.getTotalHours());
+    }
+
+    @Test
+    void testGetAttendanceSummary_NoAttendance() throws ResourceNotFoundException {
+        when(employeesRepository.findById("emp1")).thenReturn(Optional.of(employee));
+
+        AttendanceSummaryDTO result = attendanceSummaryService.getAttendanceSummary("emp1", 2024, 3);
+
+        assertEquals(0, result.getPresentCount());
+        assertEquals(BigDecimal.ZERO, result.getTotalHours());
+    }
+
+    @Test
+    void testGetAttendanceSummary_EmployeeNotFound() {
+        when(employeesRepository.findById("emp1")).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> attendanceSummaryService.getAttendanceSummary("emp1", 2024, 3));
+    }
+
+    private AttendanceDTO createAttendance(String employeeId, LocalDate date, String status) {
+        AttendanceDTO attendance = new AttendanceDTO();
+        attendance.setAttendanceByEmployee(employeeId);
+        attendance.setAttendanceForDate(date);
+        attendance.setStatus(status);
+        attendance.setTotalHours(BigDecimal.valueOf(8));
+        return attendance;
+    }
+}
@@ -0,0 +1,213 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.exception.JobInterruptedException;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.repository.BackgroundJobRepository;
+import com.crimsonlogic.payrollmanagementsystem.repository.BackgroundJobRepositoryCustom;
+import com.crimsonlogic.payrollmanagementsystem.serviceimpl.BackgroundJobRunner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@ExtendWith(MockitoExtension.class)
+class BackgroundJobRunnerTest {
+
+    private static final long RETRY_BACKOFF_MILLIS = 60000;
+
+    @Mock
+    private BackgroundJobRepository backgroundJobRepository;
+
+    @Mock
+    private BackgroundJobRepositoryCustom backgroundJobRepositoryCustom;
+
+    @Mock
+    private JobHandler jobHandler;
+
+    private BackgroundJobRunner backgroundJobRunner;
+
+    private BackgroundJob backgroundJob;
+
+    @BeforeEach
+    void setUp() {
+        when(jobHandler.getJobType()).thenReturn(BackgroundJob.PAYROLL_RUN);
+        backgroundJobRunner = new BackgroundJobRunner(backgroundJobRepository, backgroundJobRepositoryCustom,
+                List.of(jobHandler), 1, RETRY_BACKOFF_MILLIS, 300000);
+
+        backgroundJob = new BackgroundJob();
+        backgroundJob.setJobId("JOB1");
+        backgroundJob.setJobType(BackgroundJob.PAYROLL_RUN);
+        backgroundJob.setStatus(BackgroundJob.RUNNING);
+        backgroundJob.setParameters("{\"month\":\"3\",\"year\":\"2024\"}");
+        backgroundJob.setCompletedChunks(0);
+        backgroundJob.setAttempts(0);
+        backgroundJob.setMaxAttempts(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        backgroundJobRunner.shutdown();
+    }
+
+    @Test
+    void testRunJob_Success() throws Exception {
+        when(backgroundJobRepository.findById("JOB1")).thenReturn(Optional.of(backgroundJob));
+        when(jobHandler.run(any())).thenAnswer(invocation -> {
+            JobContext context = invocation.getArgument(0);
+            assertEquals("2024", context.getParameter("year"));
+            context.checkpoint("emp500", 1, 2);
+            context.checkpoint("emp999", 2, 2);
+            return "Released 999 salary records for 2024-03.";
+        });
+        when(backgroundJobRepositoryCustom.saveCheckpoint(eq("JOB1"), anyString(), anyString(), anyInt(), eq(2),
+                any())).thenReturn(true);
+
+        backgroundJobRunner.runJob("JOB1");
+
+        verify(backgroundJobRepositoryCustom).saveCheckpoint(eq("JOB1"), anyString(), eq("emp500"), eq(1), eq(2),
+                any());
+        verify(backgroundJobRepositoryCustom).completeJob(eq("JOB1"), anyString(),
+                eq("Released 999 salary records for 2024-03."), any());
+    }
+
+    @Test
+    void testRunJob_ResumesFromCheckpoint() throws Exception {
+        backgroundJob.setCheckpoint("emp500");
+        backgroundJob.setCompletedChunks(1);
+        when(backgroundJobRepository.findById("JOB1")).thenReturn(Optional.of(backgroundJob));
+        when(jobHandler.run(any())).thenAnswer(invocation -> {
+            JobContext context = invocation.getArgument(0);
+            return context.getCheckpoint() + "|" + context.getCompletedChunks();
+        });
+
+        backgroundJobRunner.runJob("JOB1");
+
+        verify(backgroundJobRepositoryCustom).completeJob(eq("JOB1"), anyString(), eq("emp500|1"), any());
+    }
+
+    @Test
+    void testRunJob_TakenOverByAnotherWorker() throws Exception {
+        when(backgroundJobRepository.findById("JOB1")).thenReturn(Optional.of(backgroundJob));
+        when(jobHandler.run(any())).thenAnswer(invocation -> {
+            JobContext context = invocation.getArgument(0);
+            context.checkpoint("emp500", 1, 2);
+            return "unreachable";
+        });
+        when(backgroundJobRepositoryCustom.saveCheckpoint(eq("JOB1"), anyString(), eq("emp500"), eq(1), eq(2),
+                any())).thenReturn(false);
+
+        backgroundJobRunner.runJob("JOB1");
+
+        verify(backgroundJobRepositoryCustom, never()).completeJob(any(), any(), any(), any());
+        verify(backgroundJobRepositoryCustom, never()).retryJob(any(), any(), anyInt(), any(), any());
+        verify(backgroundJobRepositoryCustom, never()).failJob(any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void testRunJob_RetriedWithBackoff() throws Exception {
+        backgroundJob.setAttempts(1);
+        when(backgroundJobRepository.findById("JOB1")).thenReturn(Optional.of(backgroundJob));
+        when(jobHandler.run(any())).thenThrow(new IllegalStateException("Connection reset"));
+        LocalDateTime before = LocalDateTime.now();
+
+        backgroundJobRunner.runJob("JOB1");
+
+        ArgumentCaptor<LocalDateTime> nextRunAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(backgroundJobRepositoryCustom).retryJob(eq("JOB1"), anyString(), eq(2), nextRunAt.capture(),
+                eq("IllegalStateException: Connection reset"));
+        // The second failed attempt waits twice the base backoff
+        assertThat(nextRunAt.getValue()).isAfterOrEqualTo(before.plusSeconds(120));
+        assertThat(nextRunAt.getValue()).isBefore(before.plusSeconds(180));
+    }
+
+    @Test
+    void testRunJob_FailedAfterMaxAttempts() throws Exception {
+        backgroundJob.setAttempts(2);
+        when(backgroundJobRepository.findById("JOB1")).thenReturn(Optional.of(backgroundJob));
+        when(jobHandler.run(any())).thenThrow(new IllegalStateException("Connection reset"));
+
+        backgroundJobRunner.runJob("JOB1");
+
+        verify(backgroundJobRepositoryCustom).failJob(eq("JOB1"), anyString(), eq(3),
+                eq("IllegalStateException: Connection reset"), any());
+        verify(backgroundJobRepositoryCustom, never()).retryJob(any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void testRunJob_FailedWhenTakeoversUseAllAttempts() throws Exception {
+        backgroundJob.setAttempts(3);
+        backgroundJob.setLastError("Worker stopped sending heartbeats.");
+        when(backgroundJobRepository.findById("JOB1")).thenReturn(Optional.of(backgroundJob));
+
+        backgroundJobRunner.runJob("JOB1");
+
+        verify(backgroundJobRepositoryCustom).failJob(eq("JOB1"), anyString(), eq(3),
+                eq("Worker stopped sending heartbeats."), any());
+        verify(jobHandler, never()).run(any());
+    }
+
+    @Test
+    void testRunJob_InvalidInputsNotRetried() throws Exception {
+        when(backgroundJobRepository.findById("JOB1")).thenReturn(Optional.of(backgroundJob));
+        when(jobHandler.run(any())).thenThrow(new ResourceNotFoundException("Invalid pay period: 2024-13"));
+
+        backgroundJobRunner.runJob("JOB1");
+
+        verify(backgroundJobRepositoryCustom).failJob(eq("JOB1"), anyString(), eq(1),
+                eq("Invalid pay period: 2024-13"), any());
+    }
+
+    @Test
+    void testRunJob_UnknownType() throws JobInterruptedException, ResourceNotFoundException {
+        backgroundJob.setJobType("UNKNOWN");
+        when(backgroundJobRepository.findById("JOB1")).thenReturn(Optional.of(backgroundJob));
+
+        backgroundJobRunner.runJob("JOB1");
+
+        verify(backgroundJobRepositoryCustom).failJob(eq("JOB1"), anyString(), eq(1),
+                eq("Unknown job type: UNKNOWN"), any());
+        verify(jobHandler, never()).run(any());
+    }
+
+    @Test
+    void testPollJobs_RunsClaimedJob() throws Exception {
+        when(backgroundJobRepositoryCustom.claimNextJob(anyString(), any(), any())).thenReturn("JOB1", (String) null);
+        when(backgroundJobRepository.findById("JOB1")).thenReturn(Optional.of(backgroundJob));
+        when(jobHandler.run(any())).thenReturn("done");
+
+        backgroundJobRunner.pollJobs();
+
+        ArgumentCaptor<String> workerId = ArgumentCaptor.forClass(String.class);
+        verify(backgroundJobRepositoryCustom, timeout(5000)).completeJob(eq("JOB1"), workerId.capture(),
+                eq("done"), any());
+        assertThat(workerId.getValue()).startsWith("WRK");
+    }
+
+    @Test
+    void testShutdown_ReleasesRunningJobs() {
+        backgroundJobRunner.shutdown();
+
+        verify(backgroundJobRepositoryCustom).releaseJobs(anyString());
+        backgroundJobRunner.pollJobs();
+        verify(backgroundJobRepositoryCustom, never()).claimNextJob(any(), any(), any());
+    }
+}
@@ -0,0 +1,144 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.dto.BackgroundJobDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.repository.BackgroundJobRepository;
+import com.crimsonlogic.payrollmanagementsystem.serviceimpl.BackgroundJobServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@ExtendWith(MockitoExtension.class)
+class BackgroundJobServiceImplTest {
+
+    @Mock
+    private BackgroundJobRepository backgroundJobRepository;
+
+    @Mock
+    private JobHandler jobHandler;
+
+    private BackgroundJobServiceImpl backgroundJobService;
+
+    @BeforeEach
+    void setUp() {
+        when(jobHandler.getJobType()).thenReturn(BackgroundJob.PAYROLL_RUN);
+        backgroundJobService = new BackgroundJobServiceImpl(backgroundJobRepository, List.of(jobHandler), 3);
+    }
+
+    @Test
+    void testSubmitJob_Success() throws ResourceNotFoundException {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("year", "2024");
+        parameters.put("month", null);
+        when(jobHandler.resolveParameters(parameters)).thenReturn(Map.of("year", "2024", "month", "3"));
+        when(backgroundJobRepository.save(any(BackgroundJob.class))).thenAnswer(invocation -> {
+            BackgroundJob backgroundJob = invocation.getArgument(0);
+            backgroundJob.generateId();
+            return backgroundJob;
+        });
+
+        BackgroundJobDTO result = backgroundJobService.submitJob(BackgroundJob.PAYROLL_RUN, parameters);
+
+        assertThat(result.getJobId()).startsWith("JOB");
+        assertEquals(BackgroundJob.QUEUED, result.getStatus());
+        assertEquals("{\"month\":\"3\",\"year\":\"2024\"}", result.getParameters());
+        assertEquals(0, result.getCompletedChunks());
+        assertEquals(0, result.getAttempts());
+        assertEquals(3, result.getMaxAttempts());
+        assertEquals(0, result.getProgressPercent());
+        assertEquals(result.getCreatedAt(), result.getNextRunAt());
+    }
+
+    @Test
+    void testSubmitJob_UnknownType() {
+        assertThrows(ResourceNotFoundException.class,
+                () -> backgroundJobService.submitJob("UNKNOWN", Map.of()));
+
+        verify(backgroundJobRepository, never()).save(any());
+    }
+
+    @Test
+    void testSubmitJob_InvalidParameters() throws ResourceNotFoundException {
+        when(jobHandler.resolveParameters(Map.of("month", "13")))
+                .thenThrow(new ResourceNotFoundException("Invalid pay period: 2024-13"));
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> backgroundJobService.submitJob(BackgroundJob.PAYROLL_RUN, Map.of("month", "13")));
+
+        verify(backgroundJobRepository, never()).save(any());
+    }
+
+    @Test
+    void testGetJob_Progress() throws ResourceNotFoundException {
+        BackgroundJob backgroundJob = createJob(BackgroundJob.RUNNING, 3, 4);
+        when(backgroundJobRepository.findById("JOB1")).thenReturn(Optional.of(backgroundJob));
+
+        BackgroundJobDTO result = backgroundJobService.getJob("JOB1");
+
+        assertEquals("JOB1", result.getJobId());
+        assertEquals("emp1500", result.getCheckpoint());
+        assertEquals(75, result.getProgressPercent());
+    }
+
+    @Test
+    void testGetJob_SucceededIsComplete() throws ResourceNotFoundException {
+        BackgroundJob backgroundJob = createJob(BackgroundJob.SUCCEEDED, 3, null);
+        when(backgroundJobRepository.findById("JOB1")).thenReturn(Optional.of(backgroundJob));
+
+        assertEquals(100, backgroundJobService.getJob("JOB1").getProgressPercent());
+    }
+
+    @Test
+    void testGetJob_NotFound() {
+        when(backgroundJobRepository.findById("JOB1")).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> backgroundJobService.getJob("JOB1"));
+    }
+
+    @Test
+    void testGetJobs_ByStatus() {
+        when(backgroundJobRepository.findTop100ByStatusOrderByCreatedAtDesc(BackgroundJob.FAILED))
+                .thenReturn(List.of(createJob(BackgroundJob.FAILED, 1, 4)));
+
+        List<BackgroundJobDTO> result = backgroundJobService.getJobs("failed");
+
+        assertThat(result).extracting(BackgroundJobDTO::getStatus).containsExactly(BackgroundJob.FAILED);
+    }
+
+    @Test
+    void testGetJobs_AllStatuses() {
+        when(backgroundJobRepository.findTop100ByOrderByCreatedAtDesc())
+                .thenReturn(List.of(createJob(BackgroundJob.QUEUED, 0, null)));
+
+        assertThat(backgroundJobService.getJobs(null)).hasSize(1);
+    }
+
+    private BackgroundJob createJob(String status, int completedChunks, Integer totalChunks) {
+        BackgroundJob backgroundJob = new BackgroundJob();
+        backgroundJob.setJobId("JOB1");
+        backgroundJob.setJobType(BackgroundJob.PAYROLL_RUN);
+        backgroundJob.setStatus(status);
+        backgroundJob.setCheckpoint("emp1500");
+        backgroundJob.setCompletedChunks(completedChunks);
+        backgroundJob.setTotalChunks(totalChunks);
+        backgroundJob.setAttempts(0);
+        backgroundJob.setMaxAttempts(3);
+        return backgroundJob;
+    }
+}
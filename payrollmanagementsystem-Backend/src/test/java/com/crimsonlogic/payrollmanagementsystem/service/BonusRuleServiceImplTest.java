@@ -0,0 +1,184 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BonusRule;
+import com.crimsonlogic.payrollmanagementsystem.domain.LeaveType;
+import com.crimsonlogic.payrollmanagementsystem.dto.BonusRuleDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.EmployeeLeaveTypeDTO;
+import com.crimsonlogic.payrollmanagementsystem.repository.BonusRuleRepository;
+import com.crimsonlogic.payrollmanagementsystem.repository.LeaveRequestRepository;
+import com.crimsonlogic.payrollmanagementsystem.repository.LeaveTypeRepository;
+import com.crimsonlogic.payrollmanagementsystem.serviceimpl.BonusRuleServiceImpl;
+import com.crimsonlogic.payrollmanagementsystem.util.BonusRuleSet;
+import com.crimsonlogic.payrollmanagementsystem.util.SalaryPreviewCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@ExtendWith(MockitoExtension.class)
+class BonusRuleServiceImplTest {
+
+    @InjectMocks
+    private BonusRuleServiceImpl bonusRuleService;
+
+    @Mock
+    private BonusRuleRepository bonusRuleRepository;
+
+    @Mock
+    private LeaveTypeRepository leaveTypeRepository;
+
+    @Mock
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Mock
+    private SalaryPreviewCache salaryPreviewCache;
+
+    private LeaveType marriageLeave;
+
+    @BeforeEach
+    void setUp() {
+        marriageLeave = new LeaveType();
+        marriageLeave.setTypeId("TYP1");
+        marriageLeave.setTypeName("Marriage Leave");
+    }
+
+    @Test
+    void testGetActiveBonusRuleSet_SeedsDefaultRules() {
+        when(bonusRuleRepository.findLatestRuleVersion()).thenReturn(null);
+        when(leaveTypeRepository.findByTypeName("Marriage Leave")).thenReturn(marriageLeave);
+        when(leaveTypeRepository.findAllById(Set.of("TYP1"))).thenReturn(List.of(marriageLeave));
+
+        BonusRuleSet result = bonusRuleService.getActiveBonusRuleSet();
+
+        assertEquals(1, result.getVersion());
+        assertThat(result.getLeaveTypeIds()).containsExactly("TYP1");
+        assertThat(bonusRuleService.getActiveBonusRuleSet()).isSameAs(result);
+        verify(bonusRuleRepository).saveAll(argThat(rules -> {
+            List<BonusRule> saved = (List<BonusRule>) rules;
+            return saved.size() == 3 && saved.stream().anyMatch(rule -> rule.getLeaveType() == marriageLeave);
+        }));
+    }
+
+    @Test
+    void testGetActiveBonusRuleSet_LoadsLatestVersion() {
+        BonusRule diwali = new BonusRule();
+        diwali.setRuleVersion(4);
+        diwali.setRuleName("Diwali Bonus");
+        diwali.setRuleType(BonusRule.MONTHLY_RULE);
+        diwali.setBonusAmount(new BigDecimal("2500.00"));
+        diwali.setBonusMonth(11);
+        when(bonusRuleRepository.findLatestRuleVersion()).thenReturn(4);
+        when(bonusRuleRepository.findByRuleVersionOrderByRuleNameAsc(4)).thenReturn(List.of(diwali));
+
+        BonusRuleSet result = bonusRuleService.getActiveBonusRuleSet();
+
+        assertEquals(4, result.getVersion());
+        assertEquals(2500, result.bonusRupees(YearMonth.of(2024, 11), null, Set.of()));
+        verify(bonusRuleRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testGetApprovedLeaveTypes_SingleQueryForPopulation() {
+        BonusRuleSet ruleSet = new BonusRuleSet(1, BonusRuleSet.defaultRules("TYP1"));
+        LocalDate startDate = LocalDate.of(2024, 3, 1);
+        LocalDate endDate = LocalDate.of(2024, 3, 31);
+        when(leaveRequestRepository.findApprovedLeaveTypes(Set.of("TYP1"), startDate, endDate))
+                .thenReturn(List.of(new EmployeeLeaveTypeDTO("emp1", "TYP1")));
+
+        Map<String, Set<String>> result = bonusRuleService.getApprovedLeaveTypes(ruleSet, YearMonth.of(2024, 3), null);
+
+        assertEquals(Map.of("emp1", Set.of("TYP1")), result);
+    }
+
+    @Test
+    void testGetApprovedLeaveTypes_ForEmployees() {
+        BonusRuleSet ruleSet = new BonusRuleSet(1, BonusRuleSet.defaultRules("TYP1"));
+        List<String> employeeIds = List.of("emp1", "emp2");
+        when(leaveRequestRepository.findApprovedLeaveTypes(Set.of("TYP1"), employeeIds,
+                LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29)))
+                .thenReturn(List.of(new EmployeeLeaveTypeDTO("emp2", "TYP1")));
+
+        Map<String, Set<String>> result = bonusRuleService.getApprovedLeaveTypes(ruleSet, YearMonth.of(2024, 2),
+                employeeIds);
+
+        assertEquals(Map.of("emp2", Set.of("TYP1")), result);
+    }
+
+    @Test
+    void testGetApprovedLeaveTypes_NoLeaveRules() {
+        BonusRuleSet ruleSet = new BonusRuleSet(1, BonusRuleSet.defaultRules(null));
+
+        Map<String, Set<String>> result = bonusRuleService.getApprovedLeaveTypes(ruleSet, YearMonth.of(2024, 3), null);
+
+        assertThat(result).isEmpty();
+        verify(leaveRequestRepository, never()).findApprovedLeaveTypes(any(), any(), any());
+    }
+
+    @Test
+    void testPublishBonusRules_Success() {
+        when(bonusRuleRepository.findLatestRuleVersion()).thenReturn(1);
+        when(leaveTypeRepository.findAllById(Set.of("TYP1"))).thenReturn(List.of(marriageLeave));
+
+        boolean result = bonusRuleService.publishBonusRules(BonusRuleSet.defaultRules("TYP1"));
+
+        assertTrue(result);
+        assertEquals(2, bonusRuleService.getActiveBonusRuleSet().getVersion());
+        verify(bonusRuleRepository).saveAll(anyList());
+        verify(salaryPreviewCache).invalidateAll();
+    }
+
+    @Test
+    void testPublishBonusRules_UnknownLeaveType() {
+        when(leaveTypeRepository.findAllById(Set.of("TYP9"))).thenReturn(List.of());
+
+        boolean result = bonusRuleService.publishBonusRules(BonusRuleSet.defaultRules("TYP9"));
+
+        assertFalse(result);
+        verify(bonusRuleRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void testPublishBonusRules_Invalid() {
+        BonusRuleDTO fractionalAmount = new BonusRuleDTO(null, null, "Festival Bonus", BonusRule.MONTHLY_RULE,
+                new BigDecimal("100.50"), 10, null);
+        BonusRuleDTO missingMonth = new BonusRuleDTO(null, null, "Festival Bonus", BonusRule.MONTHLY_RULE,
+                BigDecimal.valueOf(100), null, null);
+        BonusRuleDTO unknownType = new BonusRuleDTO(null, null, "Festival Bonus", "WEEKLY",
+                BigDecimal.valueOf(100), null, null);
+
+        assertFalse(bonusRuleService.publishBonusRules(List.of(fractionalAmount)));
+        assertFalse(bonusRuleService.publishBonusRules(List.of(missingMonth)));
+        assertFalse(bonusRuleService.publishBonusRules(List.of(unknownType)));
+        verify(bonusRuleRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void testGetActiveBonusRules_Default() {
+        when(bonusRuleRepository.findLatestRuleVersion()).thenReturn(null);
+        when(leaveTypeRepository.findByTypeName("Marriage Leave")).thenReturn(null);
+
+        List<BonusRuleDTO> result = bonusRuleService.getActiveBonusRules();
+
+        assertThat(result).extracting(BonusRuleDTO::getRuleName).containsExactly("Birthday Bonus", "Diwali Bonus");
+    }
+}
@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.never;
+import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +14,7 @@ import com.crimsonlogic.payrollmanagementsystem.domain.Designation;
 import com.crimsonlogic.payrollmanagementsystem.dto.DesignationDTO;
 import com.crimsonlogic.payrollmanagementsystem.repository.DesignationRepository;
 import com.crimsonlogic.payrollmanagementsystem.serviceimpl.DesignationServiceImpl;
+import com.crimsonlogic.payrollmanagementsystem.util.SalaryPreviewCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,6 +31,9 @@ class DesignationServiceImplTest {
     @Mock
     private DesignationRepository designationRepository;
 
+    @Mock
+    private SalaryPreviewCache salaryPreviewCache;
+
     private Designation designation;
 
     private DesignationDTO designationDTO;
@@ -89,6 +94,42 @@ class DesignationServiceImplTest {
         verify(designationRepository).save(designation);
     }
 
+    @Test
+    void testAddDesignation_InvalidOvertimeMultiplier() {
+        designationDTO.setOvertimeMultiplier(BigDecimal.ZERO);
+
+        boolean result = designationService.addDesignation(designationDTO);
+
+        assertThat(result).isFalse();
+        verify(designationRepository, never()).save(any(Designation.class));
+    }
+
+    @Test
+    void testUpdateDesignation_OvertimeMultiplier() {
+        designationDTO.setOvertimeMultiplier(new BigDecimal("2.00"));
+        when(designationRepository.findById(designation.getDesignationId())).thenReturn(Optional.of(designation));
+
+        boolean result = designationService.updateDesignation(designationDTO);
+
+        assertThat(result).isTrue();
+        assertThat(designation.getOvertimeMultiplier()).isEqualByComparingTo("2.00");
+        verify(designationRepository).save(designation);
+        verify(salaryPreviewCache).invalidateAll();
+    }
+
+    @Test
+    void testUpdateDesignation_SameOvertimeMultiplier() {
+        designation.setOvertimeMultiplier(new BigDecimal("2.0"));
+        designationDTO.setOvertimeMultiplier(new BigDecimal("2.00"));
+        when(designationRepository.findById(designation.getDesignationId())).thenReturn(Optional.of(designation));
+
+        boolean result = designationService.updateDesignation(designationDTO);
+
+        assertThat(result).isTrue();
+        verify(designationRepository).save(designation);
+        verify(salaryPreviewCache, never()).invalidateAll();
+    }
+
     @Test
     void testUpdateDesignation_NotFound() {
         when(designationRepository.findById(anyString())).thenReturn(Optional.empty());
@@ -23,6 +23,7 @@ import com.crimsonlogic.payrollmanagementsystem.repository.EmployeesRepository;
 import com.crimsonlogic.payrollmanagementsystem.repository.RolesRepository;
 import com.crimsonlogic.payrollmanagementsystem.repository.UsersRepository;
 import com.crimsonlogic.payrollmanagementsystem.serviceimpl.EmployeesServiceImpl;
+import com.crimsonlogic.payrollmanagementsystem.util.SalaryPreviewCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -54,6 +55,9 @@ class EmployeesServiceImplTest {
     @Mock
     private SalaryService salaryRecordService;
 
+    @Mock
+    private SalaryPreviewCache salaryPreviewCache;
+
     private Employees employee;
 
     private Employees manager;
@@ -156,6 +160,7 @@ class EmployeesServiceImplTest {
 
         assertThat(result).isTrue();
         verify(employeesRepository).save(employee);
+        verify(salaryPreviewCache).invalidateEmployee(employee.getEmployeeId());
     }
 
     @Test
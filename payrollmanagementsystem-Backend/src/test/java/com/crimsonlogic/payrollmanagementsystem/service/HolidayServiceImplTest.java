@@ -0,0 +1,101 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.Holiday;
+import com.crimsonlogic.payrollmanagementsystem.dto.HolidayDTO;
+import com.crimsonlogic.payrollmanagementsystem.repository.HolidayRepository;
+import com.crimsonlogic.payrollmanagementsystem.serviceimpl.HolidayServiceImpl;
+import com.crimsonlogic.payrollmanagementsystem.util.SalaryPreviewCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@ExtendWith(MockitoExtension.class)
+class HolidayServiceImplTest {
+
+    private static final LocalDate REPUBLIC_DAY = LocalDate.of(2024, 1, 26);
+
+    @InjectMocks
+    private HolidayServiceImpl holidayService;
+
+    @Mock
+    private HolidayRepository holidayRepository;
+
+    @Mock
+    private WorkingCalendarService workingCalendarService;
+
+    @Mock
+    private SalaryPreviewCache salaryPreviewCache;
+
+    @Test
+    void testGetHolidays() {
+        Holiday holiday = new Holiday();
+        holiday.setHolidayDate(REPUBLIC_DAY);
+        holiday.setHolidayName("Republic Day");
+        when(holidayRepository.findByHolidayDateBetweenOrderByHolidayDateAsc(LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 12, 31))).thenReturn(List.of(holiday));
+
+        List<HolidayDTO> holidays = holidayService.getHolidays(2024);
+
+        assertThat(holidays).hasSize(1);
+        assertThat(holidays.get(0).getHolidayName()).isEqualTo("Republic Day");
+    }
+
+    @Test
+    void testAddHoliday_Success() {
+        when(holidayRepository.existsByHolidayDate(REPUBLIC_DAY)).thenReturn(false);
+
+        boolean isAdded = holidayService.addHoliday(new HolidayDTO(null, REPUBLIC_DAY, "Republic Day"));
+
+        assertThat(isAdded).isTrue();
+        verify(holidayRepository).save(argThat(holiday -> REPUBLIC_DAY.equals(holiday.getHolidayDate())));
+        verify(workingCalendarService).evictCalendars();
+        verify(salaryPreviewCache).invalidateAll();
+    }
+
+    @Test
+    void testAddHoliday_AlreadyHoliday() {
+        when(holidayRepository.existsByHolidayDate(REPUBLIC_DAY)).thenReturn(true);
+
+        boolean isAdded = holidayService.addHoliday(new HolidayDTO(null, REPUBLIC_DAY, "Republic Day"));
+
+        assertThat(isAdded).isFalse();
+        verify(holidayRepository, never()).save(any(Holiday.class));
+        verify(workingCalendarService, never()).evictCalendars();
+    }
+
+    @Test
+    void testRemoveHoliday_Success() {
+        Holiday holiday = new Holiday();
+        when(holidayRepository.findById("HOL1")).thenReturn(Optional.of(holiday));
+
+        boolean isRemoved = holidayService.removeHoliday("HOL1");
+
+        assertThat(isRemoved).isTrue();
+        verify(holidayRepository).delete(holiday);
+        verify(workingCalendarService).evictCalendars();
+        verify(salaryPreviewCache).invalidateAll();
+    }
+
+    @Test
+    void testRemoveHoliday_NotFound() {
+        when(holidayRepository.findById("HOL1")).thenReturn(Optional.empty());
+
+        boolean isRemoved = holidayService.removeHoliday("HOL1");
+
+        assertThat(isRemoved).isFalse();
+        verify(workingCalendarService, never()).evictCalendars();
+    }
+}
@@ -0,0 +1,98 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.dto.LeaveAccrualDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.JobInterruptedException;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.serviceimpl.LeaveAccrualJobHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+@ExtendWith(MockitoExtension.class)
+class LeaveAccrualJobHandlerTest {
+
+    private LeaveAccrualJobHandler leaveAccrualJobHandler;
+
+    @Mock
+    private LeaveRecordService leaveRecordService;
+
+    @Mock
+    private JobContext context;
+
+    @BeforeEach
+    void setUp() {
+        leaveAccrualJobHandler = new LeaveAccrualJobHandler(leaveRecordService, 2);
+    }
+
+    @Test
+    void testGetJobType() {
+        assertEquals(BackgroundJob.LEAVE_ACCRUAL, leaveAccrualJobHandler.getJobType());
+    }
+
+    @Test
+    void testResolveParameters_DefaultsToCurrentMonth() throws ResourceNotFoundException {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("month", null);
+
+        Map<String, String> result = leaveAccrualJobHandler.resolveParameters(parameters);
+
+        assertEquals(Map.of("month", YearMonth.now().toString()), result);
+    }
+
+    @Test
+    void testResolveParameters_InvalidMonth() {
+        String nextMonth = YearMonth.now().plusMonths(1).toString();
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> leaveAccrualJobHandler.resolveParameters(Map.of("month", nextMonth)));
+        assertThrows(ResourceNotFoundException.class,
+                () -> leaveAccrualJobHandler.resolveParameters(Map.of("month", "2024-13")));
+    }
+
+    @Test
+    void testRun_AccruesChunkByChunk() throws ResourceNotFoundException, JobInterruptedException {
+        YearMonth month = YearMonth.of(2025, 1);
+        when(context.getParameter("month")).thenReturn("2025-01");
+        when(context.getCompletedChunks()).thenReturn(0);
+        when(leaveRecordService.countLeaveEmployees()).thenReturn(3L);
+        when(leaveRecordService.accrueLeaves(month, null, 2)).thenReturn(new LeaveAccrualDTO("emp2", 1, 4, 2));
+        when(leaveRecordService.accrueLeaves(month, "emp2", 2)).thenReturn(new LeaveAccrualDTO("emp3", 0, 2, 1));
+        when(leaveRecordService.accrueLeaves(month, "emp3", 2)).thenReturn(new LeaveAccrualDTO(null, 0, 0, 0));
+
+        String result = leaveAccrualJobHandler.run(context);
+
+        assertTrue(result.startsWith("Changed 10 leave balances through 2025-01: 1 created, 6 rolled over, "
+                + "3 accrued in "));
+        verify(context).checkpoint("emp2", 1, 2);
+        verify(context).checkpoint("emp3", 2, 2);
+    }
+
+    @Test
+    void testRun_ResumedAfterCheckpoint() throws ResourceNotFoundException, JobInterruptedException {
+        YearMonth month = YearMonth.of(2025, 1);
+        when(context.getParameter("month")).thenReturn("2025-01");
+        when(context.getCheckpoint()).thenReturn("emp2");
+        when(context.getCompletedChunks()).thenReturn(1);
+        when(leaveRecordService.countLeaveEmployees()).thenReturn(3L);
+        when(leaveRecordService.accrueLeaves(month, "emp2", 2)).thenReturn(new LeaveAccrualDTO("emp3", 0, 2, 1));
+        when(leaveRecordService.accrueLeaves(month, "emp3", 2)).thenReturn(new LeaveAccrualDTO(null, 0, 0, 0));
+
+        String result = leaveAccrualJobHandler.run(context);
+
+        assertTrue(result.startsWith("Changed 3 leave balances through 2025-01"));
+        verify(context).checkpoint("emp3", 2, 2);
+    }
+}
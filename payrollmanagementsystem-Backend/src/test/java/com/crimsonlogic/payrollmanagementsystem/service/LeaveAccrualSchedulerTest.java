@@ -0,0 +1,48 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.serviceimpl.LeaveAccrualScheduler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+@ExtendWith(MockitoExtension.class)
+class LeaveAccrualSchedulerTest {
+
+    @Mock
+    private BackgroundJobService backgroundJobService;
+
+    @Test
+    void testScheduleAccrual_SubmitsJob() throws ResourceNotFoundException {
+        new LeaveAccrualScheduler(backgroundJobService, true).scheduleAccrual();
+
+        verify(backgroundJobService).submitJob(BackgroundJob.LEAVE_ACCRUAL, Map.of());
+    }
+
+    @Test
+    void testScheduleAccrual_Disabled() throws ResourceNotFoundException {
+        new LeaveAccrualScheduler(backgroundJobService, false).scheduleAccrual();
+
+        verify(backgroundJobService, never()).submitJob(anyString(), anyMap());
+    }
+
+    @Test
+    void testScheduleAccrual_SubmitFails() throws ResourceNotFoundException {
+        when(backgroundJobService.submitJob(BackgroundJob.LEAVE_ACCRUAL, Map.of()))
+                .thenThrow(new ResourceNotFoundException("Unknown job type"));
+
+        new LeaveAccrualScheduler(backgroundJobService, true).scheduleAccrual();
+
+        verify(backgroundJobService).submitJob(BackgroundJob.LEAVE_ACCRUAL, Map.of());
+    }
+}
@@ -5,6 +5,8 @@ import static org.mockito.Mockito.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -12,6 +14,7 @@ import java.util.Optional;
 import com.crimsonlogic.payrollmanagementsystem.domain.Employees;
 import com.crimsonlogic.payrollmanagementsystem.domain.LeaveRecord;
 import com.crimsonlogic.payrollmanagementsystem.domain.LeaveType;
+import com.crimsonlogic.payrollmanagementsystem.dto.LeaveAccrualDTO;
 import com.crimsonlogic.payrollmanagementsystem.dto.LeaveRecordDTO;
 import com.crimsonlogic.payrollmanagementsystem.repository.EmployeesRepository;
 import com.crimsonlogic.payrollmanagementsystem.repository.LeaveRecordRepository;
@@ -20,6 +23,7 @@ import com.crimsonlogic.payrollmanagementsystem.serviceimpl.LeaveRecordServiceIm
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -70,7 +74,72 @@ class LeaveRecordServiceImplTest {
 
         leaveRecordService.setEmployeeLeaves(employee);
 
-        verify(leaveRecordRepository).save(any(LeaveRecord.class));
+        verify(leaveRecordRepository).save(argThat(record ->
+                BigDecimal.TEN.compareTo(record.getRemainingLeaves()) == 0
+                        && record.getBalanceYear() == LocalDate.now().getYear()));
+    }
+
+    @Test
+    void testSetEmployeeLeaves_AccruedMonthly() {
+        leaveType.setMonthlyAccrual(new BigDecimal("1.5"));
+        when(leaveTypeRepository.findAll()).thenReturn(Collections.singletonList(leaveType));
+
+        leaveRecordService.setEmployeeLeaves(employee);
+
+        // The days are credited by the accrual from the month of joining
+        verify(leaveRecordRepository).save(argThat(record ->
+                record.getRemainingLeaves().signum() == 0 && record.getTotalLeaves() == 10));
+    }
+
+    @Test
+    void testAccrueLeaves_ChangesChunkInOrder() {
+        YearMonth month = YearMonth.of(2025, 1);
+        when(leaveRecordRepository.findAccrualChunkEnd("emp1", 2)).thenReturn("emp3");
+        when(leaveRecordRepository.insertMissingLeaveRecords("emp1", "emp3", 2025)).thenReturn(1);
+        when(leaveRecordRepository.rollOverLeaveRecords("emp1", "emp3", 2025)).thenReturn(4);
+        when(leaveRecordRepository.accrueLeaveRecords("emp1", "emp3", month)).thenReturn(2);
+
+        LeaveAccrualDTO result = leaveRecordService.accrueLeaves(month, "emp1", 2);
+
+        assertThat(result.getLastEmployeeId()).isEqualTo("emp3");
+        assertThat(result.getCreatedRecords()).isEqualTo(1);
+        assertThat(result.getRolledOverRecords()).isEqualTo(4);
+        assertThat(result.getAccruedRecords()).isEqualTo(2);
+        InOrder inOrder = inOrder(leaveRecordRepository);
+        inOrder.verify(leaveRecordRepository).lockLeaveAccrual();
+        inOrder.verify(leaveRecordRepository).insertMissingLeaveRecords("emp1", "emp3", 2025);
+        inOrder.verify(leaveRecordRepository).adoptLeaveRecords("emp1", "emp3", 2025);
+        inOrder.verify(leaveRecordRepository).rollOverLeaveRecords("emp1", "emp3", 2025);
+        inOrder.verify(leaveRecordRepository).accrueLeaveRecords("emp1", "emp3", month);
+    }
+
+    @Test
+    void testAccrueLeaves_FirstChunkStartsBeforeAllEmployees() {
+        YearMonth month = YearMonth.of(2025, 3);
+        when(leaveRecordRepository.findAccrualChunkEnd(null, 500)).thenReturn("emp9");
+
+        leaveRecordService.accrueLeaves(month, null, 500);
+
+        verify(leaveRecordRepository).insertMissingLeaveRecords("", "emp9", 2025);
+        verify(leaveRecordRepository).accrueLeaveRecords("", "emp9", month);
+    }
+
+    @Test
+    void testAccrueLeaves_NoMoreEmployees() {
+        when(leaveRecordRepository.findAccrualChunkEnd("emp9", 500)).thenReturn(null);
+
+        LeaveAccrualDTO result = leaveRecordService.accrueLeaves(YearMonth.of(2025, 3), "emp9", 500);
+
+        assertThat(result.getLastEmployeeId()).isNull();
+        verify(leaveRecordRepository, never()).insertMissingLeaveRecords(any(), any(), anyInt());
+        verify(leaveRecordRepository, never()).accrueLeaveRecords(any(), any(), any());
+    }
+
+    @Test
+    void testCountLeaveEmployees() {
+        when(employeesRepository.count()).thenReturn(7L);
+
+        assertThat(leaveRecordService.countLeaveEmployees()).isEqualTo(7L);
     }
 
     @Test
@@ -3,6 +3,8 @@ package com.crimsonlogic.payrollmanagementsystem.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.never;
@@ -12,11 +14,15 @@ import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import com.crimsonlogic.payrollmanagementsystem.domain.Employees;
 import com.crimsonlogic.payrollmanagementsystem.domain.LeaveRecord;
 import com.crimsonlogic.payrollmanagementsystem.domain.LeaveRequest;
 import com.crimsonlogic.payrollmanagementsystem.domain.LeaveType;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceUpsertDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.LeaveDecisionResultDTO;
 import com.crimsonlogic.payrollmanagementsystem.dto.LeaveRequestDTO;
 import com.crimsonlogic.payrollmanagementsystem.exception.LeavesExhaustedException;
 import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
@@ -25,6 +31,7 @@ import com.crimsonlogic.payrollmanagementsystem.repository.LeaveRecordRepository
 import com.crimsonlogic.payrollmanagementsystem.repository.LeaveRequestRepository;
 import com.crimsonlogic.payrollmanagementsystem.repository.LeaveTypeRepository;
 import com.crimsonlogic.payrollmanagementsystem.repository.AttendanceRepository;
+import com.crimsonlogic.payrollmanagementsystem.repository.AttendanceRepositoryCustom;
 import com.crimsonlogic.payrollmanagementsystem.serviceimpl.LeaveRequestServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,6 +39,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class LeaveRequestServiceImplTest {
@@ -54,6 +64,18 @@ class LeaveRequestServiceImplTest {
     @Mock
     private AttendanceRepository attendanceRepository;
 
+    @Mock
+    private AttendanceRepositoryCustom attendanceRepositoryCustom;
+
+    @Mock
+    private AttendanceSummaryService attendanceSummaryService;
+
+    @Mock
+    private WorkingCalendarService workingCalendarService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     private Employees employee;
 
     private LeaveType leaveType;
@@ -68,6 +90,7 @@ class LeaveRequestServiceImplTest {
         employee.setFullName("Name");
 
         leaveType = new LeaveType();
+        leaveType.setTypeId("type1");
         leaveType.setTypeName("Sick Leave");
         leaveType.setNumberOfLeaves(10);
 
@@ -108,27 +131,85 @@ class LeaveRequestServiceImplTest {
     void testRequestLeave_Success() throws LeavesExhaustedException, ResourceNotFoundException {
         when(employeesRepository.findById(leaveRequestDTO.getRequestByEmployee())).thenReturn(Optional.of(employee));
         when(leaveTypeRepository.findById(leaveRequestDTO.getTypeOfLeave())).thenReturn(Optional.of(leaveType));
-        LeaveRecord leaveRecord = new LeaveRecord();
-        leaveRecord.setRemainingLeaves(BigDecimal.valueOf(10));
-        when(leaveRecordRepository.findByLeaveForEmployeeAndTypeOfLeave(employee, leaveType)).thenReturn(leaveRecord);
+        when(workingCalendarService.countWorkingDays(LocalDate.now(), LocalDate.now())).thenReturn(1L);
+        when(workingCalendarService.isWorkingDay(LocalDate.now())).thenReturn(true);
+        when(leaveRecordRepository.holdLeaves("emp1", "type1", BigDecimal.valueOf(0.5))).thenReturn(1);
 
         leaveRequestService.requestLeave(leaveRequestDTO);
 
-        verify(leaveRequestRepository).save(any(LeaveRequest.class));
+        verify(leaveRequestRepository).save(argThat(request ->
+                BigDecimal.valueOf(0.5).compareTo(request.getNoOfDays()) == 0
+                        && "Pending".equals(request.getStatus())));
+        verify(leaveRecordRepository, never()).findByLeaveForEmployeeAndTypeOfLeave(any(), any());
+    }
+
+    @Test
+    void testRequestLeave_CountsWorkingDaysOnly() throws LeavesExhaustedException, ResourceNotFoundException {
+        // Friday afternoon to Tuesday morning, over a weekend and a holiday on Monday
+        LocalDate startDate = LocalDate.of(2024, 3, 8);
+        LocalDate endDate = LocalDate.of(2024, 3, 12);
+        leaveRequestDTO.setStartDate(startDate);
+        leaveRequestDTO.setEndDate(endDate);
+        leaveRequestDTO.setStartHalf("Afternoon");
+        when(employeesRepository.findById(leaveRequestDTO.getRequestByEmployee())).thenReturn(Optional.of(employee));
+        when(leaveTypeRepository.findById(leaveRequestDTO.getTypeOfLeave())).thenReturn(Optional.of(leaveType));
+        when(workingCalendarService.countWorkingDays(startDate, endDate)).thenReturn(2L);
+        when(workingCalendarService.isWorkingDay(startDate)).thenReturn(true);
+        when(workingCalendarService.isWorkingDay(endDate)).thenReturn(true);
+        when(leaveRecordRepository.holdLeaves(eq("emp1"), eq("type1"), argThat(days -> BigDecimal.ONE.compareTo(days) == 0)))
+                .thenReturn(1);
+
+        leaveRequestService.requestLeave(leaveRequestDTO);
+
+        verify(leaveRequestRepository).save(argThat(request ->
+                BigDecimal.ONE.compareTo(request.getNoOfDays()) == 0));
+    }
+
+    @Test
+    void testRequestLeave_NoWorkingDays() {
+        when(employeesRepository.findById(leaveRequestDTO.getRequestByEmployee())).thenReturn(Optional.of(employee));
+        when(leaveTypeRepository.findById(leaveRequestDTO.getTypeOfLeave())).thenReturn(Optional.of(leaveType));
+        when(workingCalendarService.countWorkingDays(LocalDate.now(), LocalDate.now())).thenReturn(0L);
+        when(workingCalendarService.isWorkingDay(LocalDate.now())).thenReturn(false);
+
+        assertThatThrownBy(() -> leaveRequestService.requestLeave(leaveRequestDTO))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("no working days");
+        verify(leaveRequestRepository, never()).save(any(LeaveRequest.class));
     }
 
     @Test
     void testRequestLeave_LeavesExhausted() {
         when(employeesRepository.findById(leaveRequestDTO.getRequestByEmployee())).thenReturn(Optional.of(employee));
         when(leaveTypeRepository.findById(leaveRequestDTO.getTypeOfLeave())).thenReturn(Optional.of(leaveType));
+        when(workingCalendarService.countWorkingDays(LocalDate.now(), LocalDate.now())).thenReturn(1L);
+        when(workingCalendarService.isWorkingDay(LocalDate.now())).thenReturn(true);
+        // Days held by other pending requests are not available either
+        when(leaveRecordRepository.holdLeaves("emp1", "type1", BigDecimal.valueOf(0.5))).thenReturn(0);
         LeaveRecord leaveRecord = new LeaveRecord();
-        leaveRecord.setRemainingLeaves(BigDecimal.ZERO);
+        leaveRecord.setRemainingLeaves(BigDecimal.ONE);
+        leaveRecord.setHeldLeaves(BigDecimal.ONE);
         leaveRecord.setTypeOfLeave(leaveType);
         when(leaveRecordRepository.findByLeaveForEmployeeAndTypeOfLeave(employee, leaveType)).thenReturn(leaveRecord);
 
         assertThatThrownBy(() -> leaveRequestService.requestLeave(leaveRequestDTO))
                 .isInstanceOf(LeavesExhaustedException.class)
                 .hasMessageContaining("Sick Leave count is exhausted.");
+        verify(leaveRequestRepository, never()).save(any(LeaveRequest.class));
+    }
+
+    @Test
+    void testRequestLeave_LeaveRecordNotFound() {
+        when(employeesRepository.findById(leaveRequestDTO.getRequestByEmployee())).thenReturn(Optional.of(employee));
+        when(leaveTypeRepository.findById(leaveRequestDTO.getTypeOfLeave())).thenReturn(Optional.of(leaveType));
+        when(workingCalendarService.countWorkingDays(LocalDate.now(), LocalDate.now())).thenReturn(1L);
+        when(workingCalendarService.isWorkingDay(LocalDate.now())).thenReturn(true);
+        when(leaveRecordRepository.holdLeaves("emp1", "type1", BigDecimal.valueOf(0.5))).thenReturn(0);
+        when(leaveRecordRepository.findByLeaveForEmployeeAndTypeOfLeave(employee, leaveType)).thenReturn(null);
+
+        assertThatThrownBy(() -> leaveRequestService.requestLeave(leaveRequestDTO))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(leaveRequestRepository, never()).save(any(LeaveRequest.class));
     }
 
     @Test
@@ -167,19 +248,123 @@ class LeaveRequestServiceImplTest {
 
     @Test
     void testUpdateLeaveRequest_Success() {
+        // Editing the description leaves the request pending and its days held
         leaveRequestDTO.setLeaveRequestId("req1");
-        when(leaveRequestRepository.findById("req1")).thenReturn(Optional.of(new LeaveRequest()));
+        leaveRequestDTO.setStatus("Pending");
+        leaveRequestDTO.setDescription("Doctor appointment");
+        when(leaveRequestRepository.findByIdForUpdate("req1")).thenReturn(Optional.of(createPendingRequest()));
 
         boolean result = leaveRequestService.updateLeaveRequest(leaveRequestDTO);
 
         assertThat(result).isTrue();
         verify(leaveRequestRepository).save(any(LeaveRequest.class));
+        verify(leaveRecordRepository, never()).releaseHeldLeaves(any(), any(), any());
+    }
+
+    @Test
+    void testUpdateLeaveRequest_RejectedReleasesHold() {
+        leaveRequestDTO.setLeaveRequestId("req1");
+        leaveRequestDTO.setStatus("Rejected");
+        when(leaveRequestRepository.findByIdForUpdate("req1")).thenReturn(Optional.of(createPendingRequest()));
+
+        boolean result = leaveRequestService.updateLeaveRequest(leaveRequestDTO);
+
+        assertThat(result).isTrue();
+        verify(leaveRecordRepository).releaseHeldLeaves("emp1", "type1", BigDecimal.valueOf(2));
+        verify(leaveRequestRepository).save(argThat(request -> "Rejected".equals(request.getStatus())));
+    }
+
+    @Test
+    void testUpdateLeaveRequest_AlreadyDecided() {
+        LeaveRequest leaveRequest = createPendingRequest();
+        leaveRequest.setStatus("Approved");
+        leaveRequestDTO.setLeaveRequestId("req1");
+        leaveRequestDTO.setStatus("Approved");
+        when(leaveRequestRepository.findByIdForUpdate("req1")).thenReturn(Optional.of(leaveRequest));
+
+        boolean result = leaveRequestService.updateLeaveRequest(leaveRequestDTO);
+
+        // A second approval of the same request does not use the days again
+        assertThat(result).isFalse();
+        verify(leaveRecordRepository, never()).useHeldLeaves(any(), any(), any());
+        verify(leaveRequestRepository, never()).save(any(LeaveRequest.class));
+    }
+
+    @Test
+    void testUpdateLeaveRequest_ApprovedWithoutAvailableDays() {
+        leaveRequestDTO.setLeaveRequestId("req1");
+        leaveRequestDTO.setStatus("Approved");
+        when(leaveRequestRepository.findByIdForUpdate("req1")).thenReturn(Optional.of(createPendingRequest()));
+        when(leaveRecordRepository.useHeldLeaves("emp1", "type1", BigDecimal.valueOf(2))).thenReturn(0);
+        when(leaveRecordRepository.useLeaves("emp1", "type1", BigDecimal.valueOf(2))).thenReturn(0);
+
+        boolean result = leaveRequestService.updateLeaveRequest(leaveRequestDTO);
+
+        assertThat(result).isFalse();
+        verify(attendanceRepositoryCustom, never()).upsertAttendance(any());
+        verify(leaveRequestRepository, never()).save(any(LeaveRequest.class));
+    }
+
+    @Test
+    void testUpdateLeaveRequest_ApprovedWritesWorkingDaysAtOnce() {
+        LeaveRequest leaveRequest = createPendingRequest();
+        leaveRequest.setNoOfDays(BigDecimal.valueOf(2.5));
+        leaveRequest.setStartDate(LocalDate.of(2024, 3, 8));
+        leaveRequest.setEndDate(LocalDate.of(2024, 3, 12));
+        leaveRequest.setStartHalf("Afternoon");
+        leaveRequest.setEndHalf("Afternoon");
+        leaveRequestDTO.setLeaveRequestId("req1");
+        leaveRequestDTO.setStatus("Approved");
+        when(leaveRequestRepository.findByIdForUpdate("req1")).thenReturn(Optional.of(leaveRequest));
+        when(leaveRecordRepository.useHeldLeaves("emp1", "type1", BigDecimal.valueOf(2.5))).thenReturn(1);
+        // The weekend of the 9th and 10th is not a working day
+        when(workingCalendarService.getWorkingDays(LocalDate.of(2024, 3, 8), LocalDate.of(2024, 3, 12)))
+                .thenReturn(List.of(LocalDate.of(2024, 3, 8), LocalDate.of(2024, 3, 11), LocalDate.of(2024, 3, 12)));
+        AttendanceUpsertDTO upsert = new AttendanceUpsertDTO(List.of(), List.of());
+        when(attendanceRepositoryCustom.upsertAttendance(any())).thenReturn(upsert);
+
+        boolean result = leaveRequestService.updateLeaveRequest(leaveRequestDTO);
+
+        assertThat(result).isTrue();
+        verify(attendanceRepositoryCustom).upsertAttendance(argThat(attendances -> attendances.size() == 3
+                && "Half Day".equals(attendances.get(0).getStatus())
+                && "Leave".equals(attendances.get(1).getStatus())
+                && "Leave".equals(attendances.get(2).getStatus())
+                && attendances.stream().map(AttendanceDTO::getAttendanceByEmployee).allMatch("emp1"::equals)));
+        verify(attendanceSummaryService).replaceAttendance(upsert.getPreviousAttendances(), upsert.getAttendances());
+        verify(attendanceRepository, never()).save(any());
+        verify(leaveRecordRepository, never()).useLeaves(any(), any(), any());
+    }
+
+    @Test
+    void testUpdateLeaveRequest_UnknownStatus() {
+        leaveRequestDTO.setLeaveRequestId("req1");
+        leaveRequestDTO.setStatus("Cancelled");
+
+        boolean result = leaveRequestService.updateLeaveRequest(leaveRequestDTO);
+
+        // An unknown status neither releases nor uses the held days
+        assertThat(result).isFalse();
+        verify(leaveRequestRepository, never()).findByIdForUpdate(any());
+        verify(leaveRecordRepository, never()).releaseHeldLeaves(any(), any(), any());
+        verify(leaveRequestRepository, never()).save(any(LeaveRequest.class));
+    }
+
+    @Test
+    void testUpdateLeaveRequest_MissingStatus() {
+        leaveRequestDTO.setLeaveRequestId("req1");
+
+        boolean result = leaveRequestService.updateLeaveRequest(leaveRequestDTO);
+
+        assertThat(result).isFalse();
+        verify(leaveRecordRepository, never()).releaseHeldLeaves(any(), any(), any());
     }
 
     @Test
     void testUpdateLeaveRequest_RequestNotFound() {
         leaveRequestDTO.setLeaveRequestId("req1");
-        when(leaveRequestRepository.findById("req1")).thenReturn(Optional.empty());
+        leaveRequestDTO.setStatus("Approved");
+        when(leaveRequestRepository.findByIdForUpdate("req1")).thenReturn(Optional.empty());
 
         boolean result = leaveRequestService.updateLeaveRequest(leaveRequestDTO);
 
@@ -194,27 +379,127 @@ class LeaveRequestServiceImplTest {
         leaveRequest.setRequestByEmployee(employee);
         leaveRequest.setTypeOfLeave(leaveType);
         leaveRequest.setNoOfDays(BigDecimal.valueOf(2));
-        when(leaveRequestRepository.findById("req1")).thenReturn(Optional.of(leaveRequest));
-
-        LeaveRecord leaveRecord = new LeaveRecord();
-        leaveRecord.setRemainingLeaves(BigDecimal.valueOf(8));
-        leaveRecord.setUsedLeaves(BigDecimal.valueOf(4));
-        when(leaveRecordRepository.findByLeaveForEmployeeAndTypeOfLeave(employee, leaveType)).thenReturn(leaveRecord);
+        when(leaveRequestRepository.findByIdForUpdate("req1")).thenReturn(Optional.of(leaveRequest));
 
         boolean result = leaveRequestService.cancelLeaveRequest("req1");
 
         assertThat(result).isTrue();
+        verify(leaveRecordRepository).restoreLeaves("emp1", "type1", BigDecimal.valueOf(2));
         verify(leaveRequestRepository).save(leaveRequest);
         verify(attendanceRepository).deleteByEmployeeAndDateRange(any(), any(), any());
+        verify(attendanceSummaryService).refreshAttendanceSummaries(eq("emp1"), any(), any());
+    }
+
+    @Test
+    void testDecideLeaveRequests_AppliesEachChunkInBatches() {
+        ReflectionTestUtils.setField(leaveRequestService, "decisionChunkSize", 3);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<List<LeaveDecisionResultDTO>>>getArgument(0).doInTransaction(null));
+        LeaveRequest held = createPendingRequest("req1");
+        LeaveRequest unheld = createPendingRequest("req2");
+        LeaveRequest exhausted = createPendingRequest("req3");
+        LeaveRequest rejected = createPendingRequest("req4");
+        when(leaveRequestRepository.findAllByIdForUpdate(Set.of("req1", "req2", "req3")))
+                .thenReturn(List.of(held, unheld, exhausted));
+        when(leaveRequestRepository.findAllByIdForUpdate(Set.of("req4", "req5")))
+                .thenReturn(List.of(rejected));
+        when(leaveRecordRepository.useHeldLeavesInBatch(List.of(held, unheld, exhausted)))
+                .thenReturn(new int[]{1, 0, 0});
+        when(leaveRecordRepository.useLeavesInBatch(List.of(unheld, exhausted))).thenReturn(new int[]{1, 0});
+        when(leaveRecordRepository.useHeldLeavesInBatch(List.of())).thenReturn(new int[0]);
+        when(leaveRecordRepository.useLeavesInBatch(List.of())).thenReturn(new int[0]);
+        when(leaveRecordRepository.releaseHeldLeavesInBatch(List.of())).thenReturn(new int[0]);
+        when(leaveRecordRepository.releaseHeldLeavesInBatch(List.of(rejected))).thenReturn(new int[]{1});
+        when(workingCalendarService.getWorkingDays(any(), any())).thenReturn(List.of(LocalDate.of(2024, 3, 8)));
+        when(attendanceRepositoryCustom.upsertAttendance(any())).thenAnswer(invocation ->
+                new AttendanceUpsertDTO(List.of(), invocation.getArgument(0)));
+
+        List<LeaveDecisionResultDTO> results = leaveRequestService.decideLeaveRequests(List.of(
+                createDecision("req1", "Approved"), createDecision("req2", "Approved"),
+                createDecision("req3", "Approved"), createDecision("req4", "Rejected"),
+                createDecision("req5", "Approved")));
+
+        assertThat(results).extracting(LeaveDecisionResultDTO::getLeaveRequestId)
+                .containsExactly("req1", "req2", "req3", "req4", "req5");
+        assertThat(results).extracting(LeaveDecisionResultDTO::getDecided)
+                .containsExactly(true, true, false, true, false);
+        assertThat(results.get(2).getMessage()).isEqualTo("Sick Leave count is exhausted.");
+        assertThat(results.get(4).getMessage()).isEqualTo("Leave request not found or already decided.");
+        assertThat(held.getStatus()).isEqualTo("Approved");
+        assertThat(unheld.getStatus()).isEqualTo("Approved");
+        assertThat(exhausted.getStatus()).isEqualTo("Pending");
+        assertThat(rejected.getStatus()).isEqualTo("Rejected");
+        // The two approved leaves of the same day are written once
+        verify(attendanceRepositoryCustom).upsertAttendance(argThat(attendances -> attendances.size() == 1));
+        verify(leaveRequestRepository).saveAll(List.of(held, unheld));
+        verify(leaveRequestRepository).saveAll(List.of(rejected));
+    }
+
+    @Test
+    void testDecideLeaveRequests_InvalidAndRepeatedDecisions() {
+        ReflectionTestUtils.setField(leaveRequestService, "decisionChunkSize", 10);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<List<LeaveDecisionResultDTO>>>getArgument(0).doInTransaction(null));
+        LeaveRequest leaveRequest = createPendingRequest("req1");
+        when(leaveRequestRepository.findAllByIdForUpdate(Set.of("req1")))
+                .thenReturn(List.of(leaveRequest));
+        when(leaveRecordRepository.useHeldLeavesInBatch(List.of())).thenReturn(new int[0]);
+        when(leaveRecordRepository.useLeavesInBatch(List.of())).thenReturn(new int[0]);
+        when(leaveRecordRepository.releaseHeldLeavesInBatch(List.of(leaveRequest))).thenReturn(new int[]{1});
+
+        List<LeaveDecisionResultDTO> results = leaveRequestService.decideLeaveRequests(List.of(
+                createDecision("req1", "Pending"), createDecision("req1", "Rejected"),
+                createDecision("req1", "Approved")));
+
+        // Only the first approval or rejection of a request is applied
+        assertThat(results).extracting(LeaveDecisionResultDTO::getDecided).containsExactly(false, true, false);
+        assertThat(results.get(0).getMessage()).isEqualTo("Decision must be Approved or Rejected.");
+        assertThat(leaveRequest.getStatus()).isEqualTo("Rejected");
+        verify(attendanceRepositoryCustom, never()).upsertAttendance(any());
+    }
+
+    @Test
+    void testCancelLeaveRequest_PendingReleasesHold() {
+        when(leaveRequestRepository.findByIdForUpdate("req1")).thenReturn(Optional.of(createPendingRequest()));
+
+        boolean result = leaveRequestService.cancelLeaveRequest("req1");
+
+        assertThat(result).isTrue();
+        verify(leaveRecordRepository).releaseHeldLeaves("emp1", "type1", BigDecimal.valueOf(2));
+        verify(leaveRecordRepository, never()).restoreLeaves(any(), any(), any());
     }
 
     @Test
     void testCancelLeaveRequest_RequestNotFound() {
-        when(leaveRequestRepository.findById("req1")).thenReturn(Optional.empty());
+        when(leaveRequestRepository.findByIdForUpdate("req1")).thenReturn(Optional.empty());
 
         boolean result = leaveRequestService.cancelLeaveRequest("req1");
 
         assertThat(result).isFalse();
         verify(leaveRequestRepository, never()).save(any(LeaveRequest.class));
     }
+
+    private LeaveRequest createPendingRequest() {
+        LeaveRequest leaveRequest = new LeaveRequest();
+        leaveRequest.setStatus("Pending");
+        leaveRequest.setRequestByEmployee(employee);
+        leaveRequest.setTypeOfLeave(leaveType);
+        leaveRequest.setNoOfDays(BigDecimal.valueOf(2));
+        return leaveRequest;
+    }
+
+    private LeaveRequest createPendingRequest(String leaveRequestId) {
+        LeaveRequest leaveRequest = createPendingRequest();
+        leaveRequest.setLeaveRequestId(leaveRequestId);
+        leaveRequest.setStartDate(LocalDate.of(2024, 3, 8));
+        leaveRequest.setEndDate(LocalDate.of(2024, 3, 8));
+        return leaveRequest;
+    }
+
+    private LeaveRequestDTO createDecision(String leaveRequestId, String status) {
+        LeaveRequestDTO decision = new LeaveRequestDTO();
+        decision.setLeaveRequestId(leaveRequestId);
+        decision.setStatus(status);
+        return decision;
+    }
 }
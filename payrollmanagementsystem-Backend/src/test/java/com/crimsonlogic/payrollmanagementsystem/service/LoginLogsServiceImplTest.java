@@ -10,11 +10,13 @@ import com.crimsonlogic.payrollmanagementsystem.serviceimpl.LoginLogsServiceImpl
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -24,6 +26,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
@@ -66,18 +69,20 @@ class LoginLogsServiceImplTest {
 
     @Test
     void testSetLogoutLog_Success() {
-        when(loginLogsRepository.findById("log1")).thenReturn(Optional.of(loginLog));
-        when(loginLogsRepository.save(any(LoginLogs.class))).thenReturn(loginLog);
+        ArgumentCaptor<Timestamp> loginAfter = ArgumentCaptor.forClass(Timestamp.class);
+        when(loginLogsRepository.updateLogoutTime(eq("log1"), any(Timestamp.class), loginAfter.capture()))
+                .thenReturn(1);
 
         loginLogsService.setLogoutLog("log1");
 
-        assertThat(loginLog.getLogoutTime()).isNotNull();
-        verify(loginLogsRepository).save(any(LoginLogs.class));
+        LocalDate previousMonth = LocalDate.now().minusMonths(1).withDayOfMonth(1);
+        assertThat(loginAfter.getValue()).isEqualTo(Timestamp.valueOf(previousMonth.atStartOfDay()));
     }
 
     @Test
     void testSetLogoutLog_Failure() {
-        when(loginLogsRepository.findById("log1")).thenReturn(Optional.empty());
+        when(loginLogsRepository.updateLogoutTime(eq("log1"), any(Timestamp.class), any(Timestamp.class)))
+                .thenReturn(0);
 
         loginLogsService.setLogoutLog("log1");
 
@@ -0,0 +1,89 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.dto.PartitionMaintenanceDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.JobInterruptedException;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.serviceimpl.PartitionMaintenanceJobHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionMaintenanceJobHandlerTest {
+
+    @InjectMocks
+    private PartitionMaintenanceJobHandler partitionMaintenanceJobHandler;
+
+    @Mock
+    private PartitionMaintenanceService partitionMaintenanceService;
+
+    @Mock
+    private JobContext context;
+
+    @Test
+    void testGetJobType() {
+        assertEquals(BackgroundJob.PARTITION_MAINTENANCE, partitionMaintenanceJobHandler.getJobType());
+    }
+
+    @Test
+    void testResolveParameters() throws ResourceNotFoundException {
+        assertEquals(Map.of(), partitionMaintenanceJobHandler.resolveParameters(Map.of("table", "attendance")));
+    }
+
+    @Test
+    void testRun_MaintainsEveryTable() throws ResourceNotFoundException, JobInterruptedException {
+        when(partitionMaintenanceService.getPartitionedTables()).thenReturn(List.of("attendance", "login_logs"));
+        when(context.getCompletedChunks()).thenReturn(0);
+        when(partitionMaintenanceService.maintainPartitions("attendance"))
+                .thenReturn(new PartitionMaintenanceDTO("attendance", true, 30, 0, 30, 120L));
+        when(partitionMaintenanceService.maintainPartitions("login_logs"))
+                .thenReturn(new PartitionMaintenanceDTO("login_logs", false, 1, 1, 27, 8L));
+
+        String result = partitionMaintenanceJobHandler.run(context);
+
+        assertEquals("attendance partitioned: 30 created, 0 archived, 30 partitions in 120 ms; "
+                + "login_logs: 1 created, 1 archived, 27 partitions in 8 ms.", result);
+        verify(context).checkpoint("attendance", 1, 2);
+        verify(context).checkpoint("login_logs", 2, 2);
+    }
+
+    @Test
+    void testRun_ResumesAfterCheckpoint() throws ResourceNotFoundException, JobInterruptedException {
+        when(partitionMaintenanceService.getPartitionedTables()).thenReturn(List.of("attendance", "login_logs"));
+        when(context.getCompletedChunks()).thenReturn(1);
+        when(partitionMaintenanceService.maintainPartitions("login_logs"))
+                .thenReturn(new PartitionMaintenanceDTO("login_logs", false, 0, 0, 27, 3L));
+
+        partitionMaintenanceJobHandler.run(context);
+
+        verify(partitionMaintenanceService, never()).maintainPartitions("attendance");
+        verify(context).checkpoint("login_logs", 2, 2);
+    }
+
+    @Test
+    void testRun_StopsWhenInterrupted() throws ResourceNotFoundException, JobInterruptedException {
+        when(partitionMaintenanceService.getPartitionedTables()).thenReturn(List.of("attendance", "login_logs"));
+        when(context.getCompletedChunks()).thenReturn(0);
+        when(partitionMaintenanceService.maintainPartitions("attendance"))
+                .thenReturn(new PartitionMaintenanceDTO("attendance", false, 0, 0, 30, 5L));
+        doThrow(new JobInterruptedException("Worker is shutting down."))
+                .when(context).checkpoint("attendance", 1, 2);
+
+        assertThrows(JobInterruptedException.class, () -> partitionMaintenanceJobHandler.run(context));
+
+        verify(partitionMaintenanceService, never()).maintainPartitions("login_logs");
+    }
+}
@@ -0,0 +1,48 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.serviceimpl.PartitionMaintenanceScheduler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionMaintenanceSchedulerTest {
+
+    @Mock
+    private BackgroundJobService backgroundJobService;
+
+    @Test
+    void testScheduleMaintenance_SubmitsJob() throws ResourceNotFoundException {
+        new PartitionMaintenanceScheduler(backgroundJobService, true).scheduleMaintenance();
+
+        verify(backgroundJobService).submitJob(BackgroundJob.PARTITION_MAINTENANCE, Map.of());
+    }
+
+    @Test
+    void testOnApplicationReady_Disabled() throws ResourceNotFoundException {
+        new PartitionMaintenanceScheduler(backgroundJobService, false).onApplicationReady();
+
+        verify(backgroundJobService, never()).submitJob(anyString(), anyMap());
+    }
+
+    @Test
+    void testScheduleMaintenance_SubmitFails() throws ResourceNotFoundException {
+        when(backgroundJobService.submitJob(BackgroundJob.PARTITION_MAINTENANCE, Map.of()))
+                .thenThrow(new ResourceNotFoundException("Unknown job type"));
+
+        new PartitionMaintenanceScheduler(backgroundJobService, true).onApplicationReady();
+
+        verify(backgroundJobService).submitJob(BackgroundJob.PARTITION_MAINTENANCE, Map.of());
+    }
+}
@@ -0,0 +1,124 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.PartitionMaintenanceDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.repository.PartitionRepositoryCustom;
+import com.crimsonlogic.payrollmanagementsystem.serviceimpl.PartitionMaintenanceServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionMaintenanceServiceImplTest {
+
+    @Mock
+    private PartitionRepositoryCustom partitionRepositoryCustom;
+
+    private PartitionMaintenanceServiceImpl partitionMaintenanceService;
+
+    private final YearMonth currentMonth = YearMonth.now();
+
+    @BeforeEach
+    void setUp() {
+        partitionMaintenanceService = new PartitionMaintenanceServiceImpl(partitionRepositoryCustom, 2, false, 0,
+                12, 6);
+    }
+
+    @Test
+    void testGetPartitionedTables() {
+        assertEquals(List.of("attendance", "login_logs", "punch_event"), partitionMaintenanceService.getPartitionedTables());
+    }
+
+    @Test
+    void testMaintainPartitions_ConvertsTable() throws ResourceNotFoundException {
+        partitionMaintenanceService = new PartitionMaintenanceServiceImpl(partitionRepositoryCustom, 2, true, 0,
+                12, 6);
+        when(partitionRepositoryCustom.isPartitioned("attendance")).thenReturn(false);
+        when(partitionRepositoryCustom.convertToPartitioned("attendance", "attendance_id",
+                "attendance_for_date", currentMonth.plusMonths(2))).thenReturn(5);
+        when(partitionRepositoryCustom.findPartitionMonths("attendance")).thenReturn(List.of(
+                currentMonth.minusMonths(2), currentMonth.minusMonths(1), currentMonth,
+                currentMonth.plusMonths(1), currentMonth.plusMonths(2)));
+
+        PartitionMaintenanceDTO result = partitionMaintenanceService.maintainPartitions("attendance");
+
+        assertTrue(result.getConverted());
+        assertEquals(5, result.getCreatedPartitions());
+        assertEquals(0, result.getArchivedPartitions());
+        assertEquals(5, result.getPartitionCount());
+        verify(partitionRepositoryCustom).lockPartitionMaintenance();
+        verify(partitionRepositoryCustom, never()).createPartition(anyString(), anyString(), any());
+    }
+
+    @Test
+    void testMaintainPartitions_LeavesPlainTableUnlessConversionEnabled() throws ResourceNotFoundException {
+        when(partitionRepositoryCustom.isPartitioned("attendance")).thenReturn(false);
+
+        PartitionMaintenanceDTO result = partitionMaintenanceService.maintainPartitions("attendance");
+
+        assertFalse(result.getConverted());
+        assertEquals(0, result.getCreatedPartitions());
+        assertEquals(0, result.getPartitionCount());
+        verify(partitionRepositoryCustom, never()).convertToPartitioned(anyString(), anyString(), anyString(), any());
+        verify(partitionRepositoryCustom, never()).createPartition(anyString(), anyString(), any());
+        verify(partitionRepositoryCustom, never()).archivePartition(anyString(), any());
+    }
+
+    @Test
+    void testMaintainPartitions_CreatesMissingMonths() throws ResourceNotFoundException {
+        when(partitionRepositoryCustom.isPartitioned("attendance")).thenReturn(true);
+        when(partitionRepositoryCustom.findPartitionMonths("attendance")).thenReturn(List.of(
+                currentMonth.minusMonths(3), currentMonth.minusMonths(2)));
+
+        PartitionMaintenanceDTO result = partitionMaintenanceService.maintainPartitions("attendance");
+
+        assertFalse(result.getConverted());
+        assertEquals(4, result.getCreatedPartitions());
+        assertEquals(6, result.getPartitionCount());
+        verify(partitionRepositoryCustom).createPartition("attendance", "attendance_for_date",
+                currentMonth.minusMonths(1));
+        verify(partitionRepositoryCustom).createPartition("attendance", "attendance_for_date",
+                currentMonth.plusMonths(2));
+        verify(partitionRepositoryCustom, never()).convertToPartitioned(anyString(), anyString(), anyString(), any());
+        verify(partitionRepositoryCustom, never()).archivePartition(anyString(), any());
+    }
+
+    @Test
+    void testMaintainPartitions_ArchivesPastRetention() throws ResourceNotFoundException {
+        when(partitionRepositoryCustom.isPartitioned("login_logs")).thenReturn(true);
+        when(partitionRepositoryCustom.findPartitionMonths("login_logs")).thenReturn(List.of(
+                currentMonth.minusMonths(14), currentMonth.minusMonths(13), currentMonth.minusMonths(12),
+                currentMonth, currentMonth.plusMonths(1), currentMonth.plusMonths(2)));
+
+        PartitionMaintenanceDTO result = partitionMaintenanceService.maintainPartitions("login_logs");
+
+        assertEquals(0, result.getCreatedPartitions());
+        assertEquals(2, result.getArchivedPartitions());
+        assertEquals(4, result.getPartitionCount());
+        verify(partitionRepositoryCustom).archivePartition("login_logs", currentMonth.minusMonths(14));
+        verify(partitionRepositoryCustom).archivePartition("login_logs", currentMonth.minusMonths(13));
+        verify(partitionRepositoryCustom, never()).archivePartition("login_logs", currentMonth.minusMonths(12));
+    }
+
+    @Test
+    void testMaintainPartitions_UnknownTable() {
+        assertThrows(ResourceNotFoundException.class,
+                () -> partitionMaintenanceService.maintainPartitions("employees"));
+        verify(partitionRepositoryCustom, never()).lockPartitionMaintenance();
+    }
+}
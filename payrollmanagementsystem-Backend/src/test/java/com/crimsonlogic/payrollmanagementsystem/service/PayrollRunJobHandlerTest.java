@@ -0,0 +1,127 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRecordDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryReleaseDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.JobInterruptedException;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.serviceimpl.PayrollRunJobHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@ExtendWith(MockitoExtension.class)
+class PayrollRunJobHandlerTest {
+
+    private static final YearMonth PAY_PERIOD = YearMonth.of(2024, 3);
+
+    @Mock
+    private PayrollRunService payrollRunService;
+
+    @Mock
+    private SalaryRecordService salaryRecordService;
+
+    @Mock
+    private JobContext context;
+
+    private PayrollRunJobHandler payrollRunJobHandler;
+
+    @BeforeEach
+    void setUp() {
+        payrollRunJobHandler = new PayrollRunJobHandler(payrollRunService, salaryRecordService, 2);
+    }
+
+    @Test
+    void testGetJobType() {
+        assertEquals(BackgroundJob.PAYROLL_RUN, payrollRunJobHandler.getJobType());
+    }
+
+    @Test
+    void testResolveParameters_DefaultsToCurrentMonth() throws ResourceNotFoundException {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("year", null);
+        parameters.put("month", "03");
+        YearMonth now = YearMonth.now();
+
+        Map<String, String> result = payrollRunJobHandler.resolveParameters(parameters);
+
+        assertEquals(String.valueOf(now.getYear()), result.get("year"));
+        assertEquals("3", result.get("month"));
+    }
+
+    @Test
+    void testResolveParameters_InvalidMonth() {
+        assertThrows(ResourceNotFoundException.class,
+                () -> payrollRunJobHandler.resolveParameters(Map.of("year", "2024", "month", "13")));
+    }
+
+    @Test
+    void testRun_ReleasesPagesWithCheckpoints() throws ResourceNotFoundException, JobInterruptedException {
+        stubParameters();
+        when(context.getCheckpoint()).thenReturn(null);
+        when(context.getCompletedChunks()).thenReturn(0);
+        when(payrollRunService.countPayrollEmployees()).thenReturn(3L);
+        List<SalaryRecordDTO> firstPage = List.of(createRecord("emp1"), createRecord("emp2"));
+        List<SalaryRecordDTO> secondPage = List.of(createRecord("emp3"));
+        when(payrollRunService.computeSalaries(PAY_PERIOD, null, 2)).thenReturn(firstPage);
+        when(payrollRunService.computeSalaries(PAY_PERIOD, "emp2", 2)).thenReturn(secondPage);
+        when(payrollRunService.computeSalaries(PAY_PERIOD, "emp3", 2)).thenReturn(List.of());
+        when(salaryRecordService.releaseSalaries(firstPage)).thenReturn(createRelease(2));
+        when(salaryRecordService.releaseSalaries(secondPage)).thenReturn(createRelease(1));
+
+        String result = payrollRunJobHandler.run(context);
+
+        assertEquals("Released 3 salary records for 2024-03.", result);
+        verify(context).checkpoint("emp2", 1, 2);
+        verify(context).checkpoint("emp3", 2, 2);
+    }
+
+    @Test
+    void testRun_ResumesAfterCheckpoint() throws ResourceNotFoundException, JobInterruptedException {
+        stubParameters();
+        when(context.getCheckpoint()).thenReturn("emp2");
+        when(context.getCompletedChunks()).thenReturn(1);
+        when(payrollRunService.countPayrollEmployees()).thenReturn(3L);
+        List<SalaryRecordDTO> secondPage = List.of(createRecord("emp3"));
+        when(payrollRunService.computeSalaries(PAY_PERIOD, "emp2", 2)).thenReturn(secondPage);
+        when(payrollRunService.computeSalaries(PAY_PERIOD, "emp3", 2)).thenReturn(List.of());
+        when(salaryRecordService.releaseSalaries(secondPage)).thenReturn(createRelease(1));
+
+        String result = payrollRunJobHandler.run(context);
+
+        assertEquals("Released 1 salary records for 2024-03 after resuming.", result);
+        verify(payrollRunService, never()).computeSalaries(PAY_PERIOD, null, 2);
+        verify(context).checkpoint("emp3", 2, 2);
+    }
+
+    private void stubParameters() {
+        when(context.getParameter("year")).thenReturn("2024");
+        when(context.getParameter("month")).thenReturn("3");
+    }
+
+    private SalaryRecordDTO createRecord(String employeeId) {
+        SalaryRecordDTO salaryRecordDTO = new SalaryRecordDTO();
+        salaryRecordDTO.setEmployeeId(employeeId);
+        salaryRecordDTO.setPayPeriodStart(PAY_PERIOD.atDay(1));
+        return salaryRecordDTO;
+    }
+
+    private SalaryReleaseDTO createRelease(int releasedRecords) {
+        SalaryReleaseDTO salaryReleaseDTO = new SalaryReleaseDTO();
+        salaryReleaseDTO.setReleasedRecords(releasedRecords);
+        return salaryReleaseDTO;
+    }
+}
@@ -0,0 +1,354 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.AttendanceStatus;
+import com.crimsonlogic.payrollmanagementsystem.domain.PayrollRun;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceBitmapDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.EmployeeCountDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.EmployeeHoursDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.PayrollInputDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.PayrollRunDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRecordDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.repository.AttendanceBitmapRepository;
+import com.crimsonlogic.payrollmanagementsystem.repository.AttendanceRepository;
+import com.crimsonlogic.payrollmanagementsystem.repository.PayrollRunRepository;
+import com.crimsonlogic.payrollmanagementsystem.repository.SalaryRepository;
+import com.crimsonlogic.payrollmanagementsystem.serviceimpl.PayrollRunServiceImpl;
+import com.crimsonlogic.payrollmanagementsystem.util.AttendanceMonthBitmap;
+import com.crimsonlogic.payrollmanagementsystem.util.BonusRuleSet;
+import com.crimsonlogic.payrollmanagementsystem.util.TaxSlabTable;
+import com.crimsonlogic.payrollmanagementsystem.util.WorkingCalendar;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@ExtendWith(MockitoExtension.class)
+class PayrollRunServiceImplTest {
+
+    @InjectMocks
+    private PayrollRunServiceImpl payrollRunService;
+
+    @Mock
+    private SalaryRepository salaryRepository;
+
+    @Mock
+    private AttendanceRepository attendanceRepository;
+
+    @Mock
+    private AttendanceBitmapRepository attendanceBitmapRepository;
+
+    @Mock
+    private TaxSlabService taxSlabService;
+
+    @Mock
+    private BonusRuleService bonusRuleService;
+
+    @Mock
+    private WorkingCalendarService workingCalendarService;
+
+    @Mock
+    private PayrollRunRepository payrollRunRepository;
+
+    private final BonusRuleSet bonusRuleSet = new BonusRuleSet(1, BonusRuleSet.defaultRules("TYP1"));
+
+    private PayrollInputDTO firstEmployee;
+
+    private PayrollInputDTO secondEmployee;
+
+    @BeforeEach
+    void setUp() {
+        firstEmployee = new PayrollInputDTO("emp1", "John Doe", "Developer",
+                LocalDate.of(2020, 1, 1), LocalDate.of(1990, 6, 15), new BigDecimal("600000.00"), null);
+        secondEmployee = new PayrollInputDTO("emp2", "Jane Doe", "Manager",
+                LocalDate.of(2019, 3, 1), LocalDate.of(1988, 2, 10), new BigDecimal("1200000.00"), new BigDecimal("2.00"));
+    }
+
+    @Test
+    void testRunPayroll_Success() throws ResourceNotFoundException {
+        LocalDate startDate = LocalDate.of(2024, 3, 1);
+        LocalDate endDate = LocalDate.of(2024, 3, 31);
+        when(salaryRepository.findPayrollInputsForActiveEmployees()).thenReturn(List.of(firstEmployee, secondEmployee));
+        when(attendanceBitmapRepository.findBitmapsForMonth(2024, 3))
+                .thenReturn(List.of(createBitmap("emp1", 2), createBitmap("emp2", 0)));
+        when(attendanceRepository.sumOvertimeHoursByEmployee(startDate, endDate)).thenReturn(List.of(
+                new EmployeeHoursDTO("emp1", new BigDecimal("3.00")),
+                new EmployeeHoursDTO("emp2", new BigDecimal("4.00"))));
+        when(bonusRuleService.getActiveBonusRuleSet()).thenReturn(bonusRuleSet);
+        when(bonusRuleService.getApprovedLeaveTypes(bonusRuleSet, YearMonth.of(2024, 3), null))
+                .thenReturn(Map.of("emp2", Set.of("TYP1")));
+        when(workingCalendarService.getCalendar(2024)).thenReturn(weekdaysOf(2024));
+        when(taxSlabService.getActiveTaxSlabTable()).thenReturn(
+                new TaxSlabTable(1, TaxSlabTable.defaultSlabs(), TaxSlabTable.DEFAULT_CACHE_CAPACITY));
+        stubSavePayrollRun();
+
+        PayrollRunDTO result = payrollRunService.runPayroll(2024, 3);
+
+        assertThat(result.getRunId()).startsWith("RUN");
+        assertThat(result.getEmployeeCount()).isEqualTo(2);
+        verify(payrollRunRepository).save(argThat(run -> run.getEmployeeCount() == 2
+                && startDate.equals(run.getPayPeriodStart()) && run.getCompletedAt() != null));
+        assertThat(result.getEmployeesPerSecond()).isNotNull();
+        assertEquals(startDate, result.getPayPeriodStart());
+        assertEquals(endDate, result.getPayPeriodEnd());
+
+        Map<String, SalaryRecordDTO> records = result.getSalaryRecords().stream()
+                .collect(Collectors.toMap(SalaryRecordDTO::getEmployeeId, Function.identity()));
+        // 50000.00 a month over 21 working days is 2380.95 a day, two absences
+        assertEquals(new BigDecimal("4761.90"), records.get("emp1").getPenaltyAmount());
+        assertEquals(new BigDecimal("0.00"), records.get("emp1").getBonusAmount().setScale(2));
+        assertEquals(new BigDecimal("10000"), records.get("emp2").getBonusAmount());
+        assertEquals(new BigDecimal("1250.00"), records.get("emp1").getTaxAmount());
+        assertEquals(new BigDecimal("7500.00"), records.get("emp2").getTaxAmount());
+        // Overtime at the default multiplier for emp1 and at twice the hourly share for emp2
+        assertEquals(new BigDecimal("1339.28"), records.get("emp1").getOvertimeAmount());
+        assertEquals(new BigDecimal("4761.90"), records.get("emp2").getOvertimeAmount());
+        assertEquals("Manager", records.get("emp2").getDesignation());
+        verify(attendanceRepository, never()).countAbsencesByEmployee(any(), any());
+    }
+
+    @Test
+    void testRunPayroll_SomeEmployeesWithoutBitmaps() throws ResourceNotFoundException {
+        LocalDate startDate = LocalDate.of(2024, 3, 1);
+        LocalDate endDate = LocalDate.of(2024, 3, 31);
+        when(salaryRepository.findPayrollInputsForActiveEmployees()).thenReturn(List.of(firstEmployee, secondEmployee));
+        when(attendanceBitmapRepository.findBitmapsForMonth(2024, 3))
+                .thenReturn(Collections.singletonList(createBitmap("emp2", 0)));
+        // The records of emp1 predate the bitmaps, the count of emp2 is superseded by its bitmap
+        when(attendanceRepository.countAbsencesByEmployee(startDate, endDate)).thenReturn(List.of(
+                new EmployeeCountDTO("emp1", 2L), new EmployeeCountDTO("emp2", 5L)));
+        when(bonusRuleService.getActiveBonusRuleSet()).thenReturn(bonusRuleSet);
+        when(bonusRuleService.getApprovedLeaveTypes(bonusRuleSet, YearMonth.of(2024, 3), null)).thenReturn(Map.of());
+        when(workingCalendarService.getCalendar(2024)).thenReturn(weekdaysOf(2024));
+        when(taxSlabService.getActiveTaxSlabTable()).thenReturn(
+                new TaxSlabTable(1, TaxSlabTable.defaultSlabs(), TaxSlabTable.DEFAULT_CACHE_CAPACITY));
+        stubSavePayrollRun();
+
+        PayrollRunDTO result = payrollRunService.runPayroll(2024, 3);
+
+        Map<String, SalaryRecordDTO> records = result.getSalaryRecords().stream()
+                .collect(Collectors.toMap(SalaryRecordDTO::getEmployeeId, Function.identity()));
+        assertEquals(new BigDecimal("4761.90"), records.get("emp1").getPenaltyAmount());
+        assertEquals(new BigDecimal("0.00"), records.get("emp2").getPenaltyAmount().setScale(2));
+    }
+
+    @Test
+    void testComputeSalaries_PageWithoutSomeBitmaps() {
+        LocalDate startDate = LocalDate.of(2024, 3, 1);
+        LocalDate endDate = LocalDate.of(2024, 3, 31);
+        List<String> employeeIds = List.of("emp1", "emp2");
+        when(salaryRepository.findPayrollInputsForActiveEmployees("", Limit.of(2)))
+                .thenReturn(List.of(firstEmployee, secondEmployee));
+        when(attendanceBitmapRepository.findBitmapsForMonth(employeeIds, 2024, 3))
+                .thenReturn(Collections.singletonList(createBitmap("emp2", 0)));
+        when(attendanceRepository.countAbsencesByEmployee(List.of("emp1"), startDate, endDate))
+                .thenReturn(Collections.singletonList(new EmployeeCountDTO("emp1", 2L)));
+        when(bonusRuleService.getActiveBonusRuleSet()).thenReturn(bonusRuleSet);
+        when(bonusRuleService.getApprovedLeaveTypes(bonusRuleSet, YearMonth.of(2024, 3), employeeIds))
+                .thenReturn(Map.of());
+        when(workingCalendarService.getCalendar(2024)).thenReturn(weekdaysOf(2024));
+        when(taxSlabService.getActiveTaxSlabTable()).thenReturn(
+                new TaxSlabTable(1, TaxSlabTable.defaultSlabs(), TaxSlabTable.DEFAULT_CACHE_CAPACITY));
+
+        List<SalaryRecordDTO> result = payrollRunService.computeSalaries(YearMonth.of(2024, 3), null, 2);
+
+        assertEquals(new BigDecimal("4761.90"), result.get(0).getPenaltyAmount());
+        assertEquals(new BigDecimal("0.00"), result.get(1).getPenaltyAmount().setScale(2));
+    }
+
+    @Test
+    void testRunPayroll_InvalidPeriod() {
+        assertThrows(ResourceNotFoundException.class, () -> payrollRunService.runPayroll(2024, 13));
+
+        verify(salaryRepository, never()).findPayrollInputsForActiveEmployees();
+    }
+
+    @Test
+    void testGetPayrollRun_Success() throws ResourceNotFoundException {
+        when(payrollRunRepository.findById("RUN1234567")).thenReturn(Optional.of(createPayrollRun()));
+
+        PayrollRunDTO result = payrollRunService.getPayrollRun("RUN1234567");
+
+        assertEquals("RUN1234567", result.getRunId());
+        assertEquals(LocalDate.of(2024, 3, 1), result.getPayPeriodStart());
+        assertEquals(2, result.getEmployeeCount());
+        assertThat(result.getSalaryRecords()).isNull();
+    }
+
+    @Test
+    void testGetPayrollRun_NotFound() {
+        when(payrollRunRepository.findById("RUN0000000")).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> payrollRunService.getPayrollRun("RUN0000000"));
+    }
+
+    @Test
+    void testGetPayrollRunRecords_ComputesPageOfRunMonth() throws ResourceNotFoundException {
+        when(payrollRunRepository.findById("RUN1234567")).thenReturn(Optional.of(createPayrollRun()));
+        when(salaryRepository.findPayrollInputsForActiveEmployees("emp1", Limit.of(1)))
+                .thenReturn(List.of(secondEmployee));
+        when(attendanceBitmapRepository.findBitmapsForMonth(List.of("emp2"), 2024, 3))
+                .thenReturn(List.of(createBitmap("emp2", 0)));
+        when(bonusRuleService.getActiveBonusRuleSet()).thenReturn(bonusRuleSet);
+        when(bonusRuleService.getApprovedLeaveTypes(bonusRuleSet, YearMonth.of(2024, 3), List.of("emp2")))
+                .thenReturn(Map.of());
+        when(workingCalendarService.getCalendar(2024)).thenReturn(weekdaysOf(2024));
+        when(taxSlabService.getActiveTaxSlabTable()).thenReturn(
+                new TaxSlabTable(1, TaxSlabTable.defaultSlabs(), TaxSlabTable.DEFAULT_CACHE_CAPACITY));
+
+        List<SalaryRecordDTO> result = payrollRunService.getPayrollRunRecords("RUN1234567", "emp1", 1);
+
+        assertThat(result).extracting(SalaryRecordDTO::getEmployeeId).containsExactly("emp2");
+        assertEquals(LocalDate.of(2024, 3, 1), result.get(0).getPayPeriodStart());
+    }
+
+    @Test
+    void testGetPayrollRunRecords_NotFound() {
+        when(payrollRunRepository.findById("RUN0000000")).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> payrollRunService.getPayrollRunRecords("RUN0000000", null, 10));
+        verify(salaryRepository, never()).findPayrollInputsForActiveEmployees(any(), any());
+    }
+
+    @Test
+    void testComputeSalaries_Page() {
+        List<String> employeeIds = List.of("emp1", "emp2");
+        when(salaryRepository.findPayrollInputsForActiveEmployees("emp0", Limit.of(2)))
+                .thenReturn(List.of(firstEmployee, secondEmployee));
+        when(attendanceBitmapRepository.findBitmapsForMonth(employeeIds, 2024, 3))
+                .thenReturn(Collections.singletonList(createBitmap("emp1", 2)));
+        when(bonusRuleService.getActiveBonusRuleSet()).thenReturn(bonusRuleSet);
+        when(bonusRuleService.getApprovedLeaveTypes(bonusRuleSet, YearMonth.of(2024, 3), employeeIds))
+                .thenReturn(Map.of("emp2", Set.of("TYP1")));
+        when(workingCalendarService.getCalendar(2024)).thenReturn(weekdaysOf(2024));
+        when(taxSlabService.getActiveTaxSlabTable()).thenReturn(
+                new TaxSlabTable(1, TaxSlabTable.defaultSlabs(), TaxSlabTable.DEFAULT_CACHE_CAPACITY));
+
+        List<SalaryRecordDTO> result = payrollRunService.computeSalaries(YearMonth.of(2024, 3), "emp0", 2);
+
+        assertThat(result).extracting(SalaryRecordDTO::getEmployeeId).containsExactly("emp1", "emp2");
+        assertEquals(new BigDecimal("4761.90"), result.get(0).getPenaltyAmount());
+        assertEquals(new BigDecimal("10000"), result.get(1).getBonusAmount());
+    }
+
+    @Test
+    void testComputeSalaries_FirstPageAfterLastEmployee() {
+        when(salaryRepository.findPayrollInputsForActiveEmployees("", Limit.of(500))).thenReturn(List.of());
+
+        List<SalaryRecordDTO> result = payrollRunService.computeSalaries(YearMonth.of(2024, 3), null, 500);
+
+        assertThat(result).isEmpty();
+        verify(attendanceBitmapRepository, never()).findBitmapsForMonth(any(), any(), any());
+    }
+
+    @Test
+    void testComputeSalaries_MonthBeforeBitmaps() {
+        LocalDate startDate = LocalDate.of(2019, 3, 1);
+        LocalDate endDate = LocalDate.of(2019, 3, 31);
+        List<String> employeeIds = List.of("emp1");
+        when(salaryRepository.findPayrollInputsForActiveEmployees("", Limit.of(1))).thenReturn(List.of(firstEmployee));
+        when(attendanceBitmapRepository.findBitmapsForMonth(employeeIds, 2019, 3)).thenReturn(Collections.emptyList());
+        when(attendanceRepository.countAbsencesByEmployee(employeeIds, startDate, endDate))
+                .thenReturn(Collections.singletonList(new EmployeeCountDTO("emp1", 2L)));
+        when(bonusRuleService.getActiveBonusRuleSet()).thenReturn(bonusRuleSet);
+        when(bonusRuleService.getApprovedLeaveTypes(bonusRuleSet, YearMonth.of(2019, 3), employeeIds))
+                .thenReturn(Map.of());
+        when(workingCalendarService.getCalendar(2019)).thenReturn(weekdaysOf(2019));
+        when(taxSlabService.getActiveTaxSlabTable()).thenReturn(
+                new TaxSlabTable(1, TaxSlabTable.defaultSlabs(), TaxSlabTable.DEFAULT_CACHE_CAPACITY));
+
+        List<SalaryRecordDTO> result = payrollRunService.computeSalaries(YearMonth.of(2019, 3), null, 1);
+
+        assertEquals(new BigDecimal("4761.90"), result.get(0).getPenaltyAmount());
+    }
+
+    @Test
+    void testComputeSalariesOfEmployees() {
+        List<String> employeeIds = List.of("emp1");
+        when(salaryRepository.findPayrollInputsOfEmployees(List.of("emp1", "unknown")))
+                .thenReturn(List.of(firstEmployee));
+        when(attendanceBitmapRepository.findBitmapsForMonth(employeeIds, 2024, 3))
+                .thenReturn(Collections.singletonList(createBitmap("emp1", 2)));
+        when(bonusRuleService.getActiveBonusRuleSet()).thenReturn(bonusRuleSet);
+        when(bonusRuleService.getApprovedLeaveTypes(bonusRuleSet, YearMonth.of(2024, 3), employeeIds))
+                .thenReturn(Map.of());
+        when(workingCalendarService.getCalendar(2024)).thenReturn(weekdaysOf(2024));
+        when(taxSlabService.getActiveTaxSlabTable()).thenReturn(
+                new TaxSlabTable(1, TaxSlabTable.defaultSlabs(), TaxSlabTable.DEFAULT_CACHE_CAPACITY));
+
+        List<SalaryRecordDTO> result = payrollRunService.computeSalariesOfEmployees(YearMonth.of(2024, 3),
+                List.of("emp1", "unknown"));
+
+        assertThat(result).extracting(SalaryRecordDTO::getEmployeeId).containsExactly("emp1");
+        assertEquals(new BigDecimal("4761.90"), result.get(0).getPenaltyAmount());
+    }
+
+    @Test
+    void testCountPayrollEmployees() {
+        when(salaryRepository.countPayrollInputsForActiveEmployees()).thenReturn(1200L);
+
+        assertEquals(1200L, payrollRunService.countPayrollEmployees());
+    }
+
+    // Bitmap of March 2024 with the given number of absences among present days
+    // Saving assigns the ID, as the entity does on persist
+    private void stubSavePayrollRun() {
+        when(payrollRunRepository.save(any())).thenAnswer(invocation -> {
+            PayrollRun payrollRun = invocation.getArgument(0);
+            payrollRun.generateId();
+            return payrollRun;
+        });
+    }
+
+    private PayrollRun createPayrollRun() {
+        PayrollRun payrollRun = new PayrollRun();
+        payrollRun.setRunId("RUN1234567");
+        payrollRun.setPayPeriodStart(LocalDate.of(2024, 3, 1));
+        payrollRun.setPayPeriodEnd(LocalDate.of(2024, 3, 31));
+        payrollRun.setEmployeeCount(2);
+        payrollRun.setElapsedMillis(40L);
+        payrollRun.setEmployeesPerSecond(50.0);
+        payrollRun.setCompletedAt(LocalDateTime.of(2024, 4, 1, 10, 0));
+        return payrollRun;
+    }
+
+    private AttendanceBitmapDTO createBitmap(String employeeId, int absences) {
+        AttendanceMonthBitmap bitmap = new AttendanceMonthBitmap(YearMonth.of(2024, 3));
+        for (int day = 1; day <= 20; day++) {
+            bitmap.set(day, day <= absences ? AttendanceStatus.ABSENT : AttendanceStatus.PRESENT, null);
+        }
+        return bitmap.toDto(employeeId);
+    }
+
+    // Calendar of a year without holidays, the weekends off
+    private static WorkingCalendar weekdaysOf(int year) {
+        return WorkingCalendar.of(year, EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), List.of());
+    }
+}
@@ -0,0 +1,160 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.PayslipDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.repository.SalaryRecordRepository;
+import com.crimsonlogic.payrollmanagementsystem.serviceimpl.PayslipServiceImpl;
+import com.crimsonlogic.payrollmanagementsystem.util.WorkingCalendar;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+@ExtendWith(MockitoExtension.class)
+class PayslipServiceImplTest {
+
+    private static final LocalDate PAY_PERIOD_START = LocalDate.of(2024, 3, 1);
+
+    @Mock
+    private SalaryRecordRepository salaryRecordRepository;
+
+    @Mock
+    private WorkingCalendarService workingCalendarService;
+
+    private PayslipServiceImpl payslipService;
+
+    @BeforeEach
+    void setUp() {
+        payslipService = new PayslipServiceImpl(salaryRecordRepository, workingCalendarService, 2);
+    }
+
+    @Test
+    void testGetReleasedPayPeriod_Success() throws ResourceNotFoundException {
+        when(salaryRecordRepository.existsByPayPeriodStart(PAY_PERIOD_START)).thenReturn(true);
+
+        assertEquals(PAY_PERIOD_START, payslipService.getReleasedPayPeriod(2024, 3));
+    }
+
+    @Test
+    void testGetReleasedPayPeriod_NotReleased() {
+        when(salaryRecordRepository.existsByPayPeriodStart(PAY_PERIOD_START)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> payslipService.getReleasedPayPeriod(2024, 3));
+    }
+
+    @Test
+    void testGetReleasedPayPeriod_InvalidMonth() {
+        assertThrows(ResourceNotFoundException.class, () -> payslipService.getReleasedPayPeriod(2024, 13));
+        assertThrows(ResourceNotFoundException.class, () -> payslipService.getReleasedPayPeriod(null, 3));
+    }
+
+    @Test
+    void testWritePayslipArchive_EntriesInEmployeeOrder() throws IOException {
+        when(salaryRecordRepository.findPayslips(PAY_PERIOD_START, "", Limit.of(500)))
+                .thenReturn(List.of(createPayslip("emp1"), createPayslip("emp2"), createPayslip("emp3"),
+                        createPayslip("emp4"), createPayslip("emp5")));
+        when(workingCalendarService.getCalendar(2024)).thenReturn(calendarOf2024());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        int written = payslipService.writePayslipArchive(PAY_PERIOD_START, outputStream);
+
+        assertEquals(5, written);
+        assertThat(readEntryNames(outputStream.toByteArray())).containsExactly(
+                "payslip_emp1_2024-03.pdf", "payslip_emp2_2024-03.pdf", "payslip_emp3_2024-03.pdf",
+                "payslip_emp4_2024-03.pdf", "payslip_emp5_2024-03.pdf");
+    }
+
+    @Test
+    void testWritePayslipArchive_ReadsPagesAfterLastEmployee() throws IOException {
+        List<PayslipDTO> firstPage = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            firstPage.add(createPayslip(String.format("emp%03d", i)));
+        }
+        when(salaryRecordRepository.findPayslips(PAY_PERIOD_START, "", Limit.of(500))).thenReturn(firstPage);
+        when(salaryRecordRepository.findPayslips(PAY_PERIOD_START, "emp499", Limit.of(500)))
+                .thenReturn(List.of(createPayslip("emp500")));
+        when(workingCalendarService.getCalendar(2024)).thenReturn(calendarOf2024());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        int written = payslipService.writePayslipArchive(PAY_PERIOD_START, outputStream);
+
+        assertEquals(501, written);
+        List<String> entryNames = readEntryNames(outputStream.toByteArray());
+        assertThat(entryNames).hasSize(501).endsWith("payslip_emp500_2024-03.pdf");
+        verify(salaryRecordRepository).findPayslips(PAY_PERIOD_START, "emp499", Limit.of(500));
+    }
+
+    @Test
+    void testWritePayslipArchive_NoPayslips() throws IOException {
+        when(salaryRecordRepository.findPayslips(PAY_PERIOD_START, "", Limit.of(500))).thenReturn(List.of());
+        when(workingCalendarService.getCalendar(2024)).thenReturn(calendarOf2024());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        assertEquals(0, payslipService.writePayslipArchive(PAY_PERIOD_START, outputStream));
+        assertThat(readEntryNames(outputStream.toByteArray())).isEmpty();
+    }
+
+    @Test
+    void testWritePayslipArchive_PrintsWorkingDaysOfPenalty() throws IOException {
+        when(salaryRecordRepository.findPayslips(PAY_PERIOD_START, "", Limit.of(500)))
+                .thenReturn(List.of(createPayslip("emp1")));
+        when(workingCalendarService.getCalendar(2024)).thenReturn(calendarOf2024());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        payslipService.writePayslipArchive(PAY_PERIOD_START, outputStream);
+
+        // 21 weekdays in March 2024, one of them a holiday
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            zipInputStream.getNextEntry();
+            try (PDDocument document = Loader.loadPDF(zipInputStream.readAllBytes())) {
+                assertThat(new PDFTextStripper().getText(document)).contains("Effective Working Days 20");
+            }
+        }
+    }
+
+    private static WorkingCalendar calendarOf2024() {
+        return WorkingCalendar.of(2024, EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY),
+                List.of(LocalDate.of(2024, 3, 25)));
+    }
+
+    private List<String> readEntryNames(byte[] archive) throws IOException {
+        List<String> entryNames = new ArrayList<>();
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                assertThat(new String(zipInputStream.readAllBytes(), 0, 5)).isEqualTo("%PDF-");
+                entryNames.add(entry.getName());
+            }
+        }
+        return entryNames;
+    }
+
+    private PayslipDTO createPayslip(String employeeId) {
+        return new PayslipDTO(employeeId, "John Doe", LocalDate.of(2020, 1, 15), "Software Engineer",
+                PAY_PERIOD_START, new BigDecimal("50000.00"), BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                new BigDecimal("2500.00"), new BigDecimal("1000.00"), new BigDecimal("46500.00"));
+    }
+}
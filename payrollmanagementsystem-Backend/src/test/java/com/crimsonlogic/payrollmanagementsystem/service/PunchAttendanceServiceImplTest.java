@@ -0,0 +1,145 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.PunchEventDTO;
+import com.crimsonlogic.payrollmanagementsystem.repository.PunchEventRepositoryCustom;
+import com.crimsonlogic.payrollmanagementsystem.serviceimpl.PunchAttendanceServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+@ExtendWith(MockitoExtension.class)
+class PunchAttendanceServiceImplTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 4, 2);
+
+    @Mock
+    private PunchEventRepositoryCustom punchEventRepositoryCustom;
+
+    @Mock
+    private AttendanceSummaryService attendanceSummaryService;
+
+    @Captor
+    private ArgumentCaptor<List<AttendanceDTO>> attendanceCaptor;
+
+    private PunchAttendanceServiceImpl punchAttendanceService;
+
+    @BeforeEach
+    void setUp() {
+        punchAttendanceService = new PunchAttendanceServiceImpl(punchEventRepositoryCustom,
+                attendanceSummaryService, BigDecimal.valueOf(8), 100);
+    }
+
+    @Test
+    void testRecordPunchEvents_AddsAttendanceOfWorkedDay() {
+        List<PunchEventDTO> punchEvents = List.of(punch("emp1", DAY.atTime(18, 30), "OUT"));
+        when(punchEventRepositoryCustom.insertPunchEvents(punchEvents, 100)).thenReturn(1);
+        when(punchEventRepositoryCustom.findPunchEvents(Set.of("emp1"), DAY.minusDays(1).atStartOfDay(),
+                DAY.plusDays(2).atStartOfDay()))
+                .thenReturn(List.of(punch("emp1", DAY.atTime(9, 0), "IN"), punch("emp1", DAY.atTime(18, 30), "OUT")));
+        when(punchEventRepositoryCustom.findAttendance(Set.of("emp1"), DAY.minusDays(1), DAY)).thenReturn(List.of());
+
+        int stored = punchAttendanceService.recordPunchEvents(punchEvents);
+
+        assertEquals(1, stored);
+        verify(punchEventRepositoryCustom).insertAttendance(attendanceCaptor.capture(), anyInt());
+        AttendanceDTO attendance = attendanceCaptor.getValue().get(0);
+        assertEquals(DAY, attendance.getAttendanceForDate());
+        assertEquals(new BigDecimal("9.50"), attendance.getTotalHours());
+        assertEquals(new BigDecimal("1.50"), attendance.getOvertimeHours());
+        assertEquals("Present", attendance.getStatus());
+        verify(attendanceSummaryService).recordAttendance(attendanceCaptor.getValue());
+        verify(punchEventRepositoryCustom, never()).updateAttendanceHours(any(), anyInt());
+    }
+
+    @Test
+    void testRecordPunchEvents_UpdatesHoursOfExistingAttendance() {
+        List<PunchEventDTO> punchEvents = List.of(punch("emp1", DAY.atTime(14, 0), "IN"),
+                punch("emp1", DAY.atTime(16, 0), "OUT"));
+        AttendanceDTO existing = new AttendanceDTO("ATD1", DAY, new BigDecimal("0.00"), new BigDecimal("4.00"),
+                "Half Day", "emp1");
+        when(punchEventRepositoryCustom.insertPunchEvents(punchEvents, 100)).thenReturn(2);
+        when(punchEventRepositoryCustom.findPunchEvents(Set.of("emp1"), DAY.minusDays(1).atStartOfDay(),
+                DAY.plusDays(2).atStartOfDay()))
+                .thenReturn(List.of(punch("emp1", DAY.atTime(8, 0), "IN"), punch("emp1", DAY.atTime(12, 0), "OUT"),
+                        punch("emp1", DAY.atTime(14, 0), "IN"), punch("emp1", DAY.atTime(16, 0), "OUT")));
+        when(punchEventRepositoryCustom.findAttendance(Set.of("emp1"), DAY.minusDays(1), DAY))
+                .thenReturn(List.of(existing));
+
+        punchAttendanceService.recordPunchEvents(punchEvents);
+
+        verify(punchEventRepositoryCustom).updateAttendanceHours(attendanceCaptor.capture(), anyInt());
+        AttendanceDTO updated = attendanceCaptor.getValue().get(0);
+        assertEquals("ATD1", updated.getAttendanceId());
+        assertEquals(new BigDecimal("6.00"), updated.getTotalHours());
+        assertEquals("Half Day", updated.getStatus());
+        verify(attendanceSummaryService).replaceAttendance(List.of(existing), attendanceCaptor.getValue());
+        verify(punchEventRepositoryCustom, never()).insertAttendance(any(), anyInt());
+    }
+
+    @Test
+    void testRecordPunchEvents_LocksDaysBeforeReadingThem() {
+        List<PunchEventDTO> punchEvents = List.of(punch("emp1", DAY.atTime(18, 0), "OUT"));
+        when(punchEventRepositoryCustom.insertPunchEvents(punchEvents, 100)).thenReturn(1);
+        when(punchEventRepositoryCustom.findPunchEvents(Set.of("emp1"), DAY.minusDays(1).atStartOfDay(),
+                DAY.plusDays(2).atStartOfDay())).thenReturn(List.of());
+        when(punchEventRepositoryCustom.findAttendance(Set.of("emp1"), DAY.minusDays(1), DAY)).thenReturn(List.of());
+
+        punchAttendanceService.recordPunchEvents(punchEvents);
+
+        // A clock-out locks the day before as well, its shift may have started then
+        InOrder order = inOrder(punchEventRepositoryCustom);
+        order.verify(punchEventRepositoryCustom).insertPunchEvents(punchEvents, 100);
+        order.verify(punchEventRepositoryCustom)
+                .lockAttendanceDays(Map.of("emp1", new TreeSet<>(Set.of(DAY.minusDays(1), DAY))));
+        order.verify(punchEventRepositoryCustom).findPunchEvents(any(), any(), any());
+        order.verify(punchEventRepositoryCustom).findAttendance(any(), any(), any());
+    }
+
+    @Test
+    void testRecordPunchEvents_OpenShiftLeavesAttendance() {
+        List<PunchEventDTO> punchEvents = List.of(punch("emp1", DAY.atTime(9, 0), "IN"));
+        when(punchEventRepositoryCustom.insertPunchEvents(punchEvents, 100)).thenReturn(1);
+        when(punchEventRepositoryCustom.findPunchEvents(Set.of("emp1"), DAY.atStartOfDay(),
+                DAY.plusDays(2).atStartOfDay())).thenReturn(List.of(punch("emp1", DAY.atTime(9, 0), "IN")));
+        when(punchEventRepositoryCustom.findAttendance(Set.of("emp1"), DAY, DAY)).thenReturn(List.of());
+
+        punchAttendanceService.recordPunchEvents(punchEvents);
+
+        verify(punchEventRepositoryCustom, never()).insertAttendance(any(), anyInt());
+        verify(punchEventRepositoryCustom, never()).updateAttendanceHours(any(), anyInt());
+        verifyNoInteractions(attendanceSummaryService);
+    }
+
+    @Test
+    void testRecordPunchEvents_Empty() {
+        assertEquals(0, punchAttendanceService.recordPunchEvents(List.of()));
+        verifyNoInteractions(punchEventRepositoryCustom);
+    }
+
+    private PunchEventDTO punch(String employeeId, LocalDateTime punchTime, String direction) {
+        return new PunchEventDTO(employeeId, punchTime, direction, "GATE-1", punchTime);
+    }
+}
@@ -0,0 +1,148 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.PunchEventDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.PunchIngestionDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.QueueFullException;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.serviceimpl.PunchEventServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class PunchEventServiceImplTest {
+
+    private static final LocalDateTime PUNCH_TIME = LocalDateTime.of(2024, 4, 2, 9, 0);
+
+    @Mock
+    private PunchAttendanceService punchAttendanceService;
+
+    @Captor
+    private ArgumentCaptor<List<PunchEventDTO>> batchCaptor;
+
+    private PunchEventServiceImpl punchEventService;
+
+    @BeforeEach
+    void setUp() {
+        punchEventService = new PunchEventServiceImpl(punchAttendanceService, 5, 2, 2);
+    }
+
+    @Test
+    void testSubmitPunchEvents_QueuesNormalizedEvents() throws ResourceNotFoundException, QueueFullException {
+        PunchIngestionDTO result = punchEventService.submitPunchEvents(List.of(
+                new PunchEventDTO(" emp1 ", PUNCH_TIME, "in", "GATE-1", null),
+                new PunchEventDTO("emp2", PUNCH_TIME, "Out", "GATE-1", null)));
+
+        assertEquals(2, result.getAcceptedEvents());
+        assertEquals(2, result.getQueuedEvents());
+        assertEquals(3, result.getRemainingCapacity());
+        verify(punchAttendanceService, never()).recordPunchEvents(any());
+    }
+
+    @Test
+    void testSubmitPunchEvents_InvalidEvent() {
+        assertThrows(ResourceNotFoundException.class, () -> punchEventService.submitPunchEvents(List.of(
+                new PunchEventDTO("emp1", PUNCH_TIME, "BREAK", "GATE-1", null))));
+        assertThrows(ResourceNotFoundException.class, () -> punchEventService.submitPunchEvents(List.of(
+                new PunchEventDTO("emp1", null, "IN", "GATE-1", null))));
+        assertThrows(ResourceNotFoundException.class, () -> punchEventService.submitPunchEvents(List.of()));
+    }
+
+    @Test
+    void testSubmitPunchEvents_QueueFull() throws ResourceNotFoundException, QueueFullException {
+        punchEventService.submitPunchEvents(events(4));
+
+        assertThrows(QueueFullException.class, () -> punchEventService.submitPunchEvents(events(2)));
+        assertEquals(1, punchEventService.submitPunchEvents(events(1)).getAcceptedEvents());
+    }
+
+    @Test
+    void testFlushPunchEvents_WritesInBatches() throws ResourceNotFoundException, QueueFullException {
+        List<List<PunchEventDTO>> batches = new ArrayList<>();
+        when(punchAttendanceService.recordPunchEvents(any())).thenAnswer(invocation -> {
+            List<PunchEventDTO> batch = invocation.getArgument(0);
+            batches.add(new ArrayList<>(batch));
+            return batch.size();
+        });
+        punchEventService.submitPunchEvents(events(5));
+
+        punchEventService.flushPunchEvents();
+
+        assertEquals(3, batches.size());
+        assertEquals(2, batches.get(0).size());
+        assertEquals(1, batches.get(2).size());
+        assertEquals("IN", batches.get(0).get(0).getDirection());
+    }
+
+    @Test
+    void testFlushPunchEvents_SplitsFailingBatchAndDeadLettersFailingEvent()
+            throws ResourceNotFoundException, QueueFullException {
+        List<List<PunchEventDTO>> written = new ArrayList<>();
+        when(punchAttendanceService.recordPunchEvents(any())).thenAnswer(invocation -> {
+            List<PunchEventDTO> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(punchEvent -> "emp1".equals(punchEvent.getEmployeeId()))) {
+                throw new IllegalStateException("Value too long for device_id");
+            }
+            written.add(new ArrayList<>(batch));
+            return batch.size();
+        });
+        punchEventService.submitPunchEvents(events(2));
+
+        // Two failures of the batch split it, two failures of the event alone dead-letter it
+        punchEventService.flushPunchEvents();
+        punchEventService.flushPunchEvents();
+        punchEventService.flushPunchEvents();
+        punchEventService.flushPunchEvents();
+
+        assertEquals(1, written.size());
+        assertEquals("emp0", written.get(0).get(0).getEmployeeId());
+        verify(punchAttendanceService).recordFailedPunchEvents(batchCaptor.capture(),
+                eq("Value too long for device_id"));
+        assertEquals(1, batchCaptor.getValue().size());
+        assertEquals("emp1", batchCaptor.getValue().get(0).getEmployeeId());
+        verify(punchAttendanceService, times(5)).recordPunchEvents(any());
+    }
+
+    @Test
+    void testFlushPunchEvents_KeepsEventWhenDeadLetterFails() throws ResourceNotFoundException, QueueFullException {
+        when(punchAttendanceService.recordPunchEvents(any())).thenThrow(new IllegalStateException("Database down"));
+        doThrow(new IllegalStateException("Database down")).doNothing()
+                .when(punchAttendanceService).recordFailedPunchEvents(any(), anyString());
+        punchEventService.submitPunchEvents(events(1));
+
+        punchEventService.flushPunchEvents();
+        punchEventService.flushPunchEvents();
+        punchEventService.flushPunchEvents();
+        punchEventService.flushPunchEvents();
+
+        verify(punchAttendanceService, times(2)).recordFailedPunchEvents(any(), anyString());
+        verify(punchAttendanceService, times(3)).recordPunchEvents(any());
+    }
+
+    private List<PunchEventDTO> events(int count) {
+        List<PunchEventDTO> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(new PunchEventDTO("emp" + i, PUNCH_TIME, "IN", "GATE-1", null));
+        }
+        return events;
+    }
+}
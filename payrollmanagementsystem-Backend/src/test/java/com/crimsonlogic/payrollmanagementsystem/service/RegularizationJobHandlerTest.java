@@ -0,0 +1,101 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.exception.JobInterruptedException;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.serviceimpl.RegularizationJobHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+@ExtendWith(MockitoExtension.class)
+class RegularizationJobHandlerTest {
+
+    @InjectMocks
+    private RegularizationJobHandler regularizationJobHandler;
+
+    @Mock
+    private RegularizationService regularizationService;
+
+    @Mock
+    private JobContext context;
+
+    @Test
+    void testGetJobType() {
+        assertEquals(BackgroundJob.REGULARIZATION, regularizationJobHandler.getJobType());
+    }
+
+    @Test
+    void testResolveParameters_DefaultsToYesterday() throws ResourceNotFoundException {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("endDate", null);
+
+        Map<String, String> result = regularizationJobHandler.resolveParameters(parameters);
+
+        assertEquals(Map.of("endDate", LocalDate.now().minusDays(1).toString()), result);
+    }
+
+    @Test
+    void testResolveParameters_InvalidEndDate() {
+        String today = LocalDate.now().toString();
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> regularizationJobHandler.resolveParameters(Map.of("endDate", today)));
+        assertThrows(ResourceNotFoundException.class,
+                () -> regularizationJobHandler.resolveParameters(Map.of("endDate", "2024-13-01")));
+    }
+
+    @Test
+    void testRun_RegularizesMonthByMonth() throws ResourceNotFoundException, JobInterruptedException {
+        when(context.getParameter("endDate")).thenReturn("2024-03-10");
+        when(context.getCompletedChunks()).thenReturn(0);
+        when(regularizationService.findRegularizationStart(LocalDate.of(2024, 3, 10)))
+                .thenReturn(LocalDate.of(2024, 2, 15));
+        when(regularizationService.regularize(LocalDate.of(2024, 2, 15), LocalDate.of(2024, 2, 29))).thenReturn(4);
+        when(regularizationService.regularize(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 10))).thenReturn(3);
+
+        String result = regularizationJobHandler.run(context);
+
+        assertTrue(result.startsWith("Regularized 7 absences from 2024-02-15 to 2024-03-10 in "));
+        verify(context).checkpoint("2024-02", 1, 2);
+        verify(context).checkpoint("2024-03", 2, 2);
+    }
+
+    @Test
+    void testRun_ResumedAfterWatermark() throws ResourceNotFoundException, JobInterruptedException {
+        // The watermarks already cover February, the checkpoint only counts the chunks
+        when(context.getParameter("endDate")).thenReturn("2024-03-10");
+        when(context.getCompletedChunks()).thenReturn(1);
+        when(regularizationService.findRegularizationStart(LocalDate.of(2024, 3, 10)))
+                .thenReturn(LocalDate.of(2024, 3, 1));
+        when(regularizationService.regularize(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 10))).thenReturn(3);
+
+        regularizationJobHandler.run(context);
+
+        verify(context).checkpoint("2024-03", 2, 2);
+    }
+
+    @Test
+    void testRun_AlreadyRegularized() throws ResourceNotFoundException, JobInterruptedException {
+        when(context.getParameter("endDate")).thenReturn("2024-03-10");
+        when(regularizationService.findRegularizationStart(LocalDate.of(2024, 3, 10))).thenReturn(null);
+
+        assertEquals("Attendance already regularized through 2024-03-10.", regularizationJobHandler.run(context));
+
+        verify(regularizationService, never()).regularize(any(), any());
+    }
+}
@@ -0,0 +1,105 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.AttendanceStatus;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceDTO;
+import com.crimsonlogic.payrollmanagementsystem.repository.RegularizationRepositoryCustom;
+import com.crimsonlogic.payrollmanagementsystem.serviceimpl.RegularizationServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class RegularizationServiceImplTest {
+
+    @Mock
+    private RegularizationRepositoryCustom regularizationRepositoryCustom;
+
+    @Mock
+    private AttendanceSummaryService attendanceSummaryService;
+
+    @Mock
+    private WorkingCalendarService workingCalendarService;
+
+    private RegularizationServiceImpl regularizationService;
+
+    private LocalDate initialDate;
+
+    @BeforeEach
+    void setUp() {
+        regularizationService = new RegularizationServiceImpl(regularizationRepositoryCustom,
+                attendanceSummaryService, workingCalendarService, 1, 100);
+        initialDate = LocalDate.now().minusMonths(1).withDayOfMonth(1);
+    }
+
+    @Test
+    void testFindRegularizationStart() {
+        when(regularizationRepositoryCustom.findRegularizationStart(initialDate)).thenReturn(LocalDate.of(2024, 3, 5));
+
+        assertEquals(LocalDate.of(2024, 3, 5), regularizationService.findRegularizationStart(LocalDate.of(2024, 3, 31)));
+    }
+
+    @Test
+    void testFindRegularizationStart_AlreadyRegularized() {
+        when(regularizationRepositoryCustom.findRegularizationStart(initialDate)).thenReturn(LocalDate.of(2024, 4, 1));
+
+        assertNull(regularizationService.findRegularizationStart(LocalDate.of(2024, 3, 31)));
+    }
+
+    @Test
+    void testFindRegularizationStart_NoEmployees() {
+        when(regularizationRepositoryCustom.findRegularizationStart(initialDate)).thenReturn(null);
+
+        assertNull(regularizationService.findRegularizationStart(LocalDate.of(2024, 3, 31)));
+    }
+
+    @Test
+    void testRegularize_InsertsMissingWorkingDays() {
+        // 2024-03-08 is a Friday, the weekend after it and a holiday on the 11th are not checked
+        List<LocalDate> workingDays = List.of(LocalDate.of(2024, 3, 8), LocalDate.of(2024, 3, 12));
+        List<AttendanceDTO> absences = List.of(new AttendanceDTO(null, LocalDate.of(2024, 3, 8), BigDecimal.ZERO,
+                BigDecimal.ZERO, AttendanceStatus.ABSENT.getLabel(), "EMP1"));
+        when(workingCalendarService.getWorkingDays(LocalDate.of(2024, 3, 8), LocalDate.of(2024, 3, 12)))
+                .thenReturn(workingDays);
+        when(regularizationRepositoryCustom.findMissingAttendance(workingDays, initialDate)).thenReturn(absences);
+
+        int regularized = regularizationService.regularize(LocalDate.of(2024, 3, 8), LocalDate.of(2024, 3, 12));
+
+        assertEquals(1, regularized);
+        InOrder order = inOrder(regularizationRepositoryCustom, attendanceSummaryService);
+        order.verify(regularizationRepositoryCustom).lockRegularization();
+        order.verify(regularizationRepositoryCustom).insertAttendance(absences, 100);
+        order.verify(attendanceSummaryService).recordAttendance(absences);
+        order.verify(regularizationRepositoryCustom).advanceWatermarks(LocalDate.of(2024, 3, 12));
+    }
+
+    @Test
+    void testRegularize_NothingMissing() {
+        when(workingCalendarService.getWorkingDays(LocalDate.of(2024, 3, 9), LocalDate.of(2024, 3, 10)))
+                .thenReturn(List.of());
+        when(regularizationRepositoryCustom.findMissingAttendance(List.of(), initialDate)).thenReturn(List.of());
+
+        // A weekend alone has no working days, the watermarks still move past it
+        int regularized = regularizationService.regularize(LocalDate.of(2024, 3, 9), LocalDate.of(2024, 3, 10));
+
+        assertEquals(0, regularized);
+        verify(regularizationRepositoryCustom, never()).insertAttendance(any(), anyInt());
+        verify(attendanceSummaryService, never()).recordAttendance(any());
+        verify(regularizationRepositoryCustom).advanceWatermarks(LocalDate.of(2024, 3, 10));
+    }
+}
@@ -7,42 +7,64 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 import java.math.BigDecimal;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.Year;
 import java.time.YearMonth;
 
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 
 import com.crimsonlogic.payrollmanagementsystem.domain.Designation;
 import com.crimsonlogic.payrollmanagementsystem.domain.Employees;
-import com.crimsonlogic.payrollmanagementsystem.domain.LeaveType;
-import com.crimsonlogic.payrollmanagementsystem.domain.Attendance;
-import com.crimsonlogic.payrollmanagementsystem.domain.LeaveRequest;
+import com.crimsonlogic.payrollmanagementsystem.domain.AttendanceStatus;
 import com.crimsonlogic.payrollmanagementsystem.domain.SalaryRecord;
+import com.crimsonlogic.payrollmanagementsystem.domain.SalaryRollup;
+import com.crimsonlogic.payrollmanagementsystem.dto.EmployeeHoursDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.PayrollInputDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryPreviewCacheStatsDTO;
 import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRecordDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryReleaseDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryTotalsDTO;
 import com.crimsonlogic.payrollmanagementsystem.dto.TaxResponseDTO;
 import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.repository.AttendanceBitmapRepository;
 import com.crimsonlogic.payrollmanagementsystem.repository.AttendanceRepository;
 import com.crimsonlogic.payrollmanagementsystem.repository.SalaryRepository;
 import com.crimsonlogic.payrollmanagementsystem.repository.EmployeesRepository;
-import com.crimsonlogic.payrollmanagementsystem.repository.LeaveRequestRepository;
-import com.crimsonlogic.payrollmanagementsystem.repository.LeaveTypeRepository;
 import com.crimsonlogic.payrollmanagementsystem.repository.SalaryRecordRepository;
+import com.crimsonlogic.payrollmanagementsystem.repository.SalaryRecordRepositoryCustom;
+import com.crimsonlogic.payrollmanagementsystem.repository.SalaryRollupRepository;
+import com.crimsonlogic.payrollmanagementsystem.serviceimpl.PayrollRunServiceImpl;
 import com.crimsonlogic.payrollmanagementsystem.serviceimpl.SalaryRecordServiceImpl;
+import com.crimsonlogic.payrollmanagementsystem.util.AttendanceMonthBitmap;
+import com.crimsonlogic.payrollmanagementsystem.util.BonusRuleSet;
+import com.crimsonlogic.payrollmanagementsystem.util.PayrollCalculator;
+import com.crimsonlogic.payrollmanagementsystem.util.SalaryPreviewCache;
+import com.crimsonlogic.payrollmanagementsystem.util.TaxSlabTable;
+import com.crimsonlogic.payrollmanagementsystem.util.WorkingCalendar;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class SalaryRecordServiceImplTest {
@@ -57,31 +79,55 @@ class SalaryRecordServiceImplTest {
     private EmployeesRepository employeesRepository;
 
     @Mock
-    private LeaveTypeRepository leaveTypeRepository;
+    private AttendanceRepository attendanceRepository;
 
     @Mock
-    private LeaveRequestRepository leaveRequestRepository;
+    private SalaryRepository salaryRepository;
 
     @Mock
-    private AttendanceRepository attendanceRepository;
+    private SalaryRecordRepositoryCustom salaryRecordRepositoryCustom;
 
     @Mock
-    private SalaryRepository salaryRepository;
+    private PayrollRunService payrollRunService;
 
-    private Employees employee;
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
-    private LeaveType leaveType;
+    @Mock
+    private TaxSlabService taxSlabService;
 
-    private SalaryRecord salaryRecord;
+    @Mock
+    private AttendanceBitmapRepository attendanceBitmapRepository;
+
+    // The payroll run the preview is compared with, built on the same mocked inputs
+    @InjectMocks
+    private PayrollRunServiceImpl payrollRunServiceImpl;
+
+    @Mock
+    private SalaryPreviewCache salaryPreviewCache;
+
+    @Mock
+    private SalaryRollupService salaryRollupService;
+
+    @Mock
+    private SalaryRollupRepository salaryRollupRepository;
+
+    @Mock
+    private BonusRuleService bonusRuleService;
+
+    @Mock
+    private WorkingCalendarService workingCalendarService;
+
+    private final BonusRuleSet bonusRuleSet = new BonusRuleSet(1, BonusRuleSet.defaultRules("type1"));
 
-    private Attendance attendance;
+    private Employees employee;
+
+    private SalaryRecord salaryRecord;
 
     private SalaryRecordDTO salaryRecordDTO;
 
     @BeforeEach
     void setUp() {
-        YearMonth yearMonth = YearMonth.now();
-
         // Initialize employee first
         employee = new Employees();
         employee.setEmployeeId("emp1");
@@ -93,21 +139,6 @@ class SalaryRecordServiceImplTest {
         designation.setDesignationId("des1");
         employee.setDesignation(designation);
 
-        leaveType = new LeaveType();
-        leaveType.setTypeId("type1");
-        leaveType.setTypeName("Marriage Leave");
-
-        attendance = new Attendance();
-        attendance.setAttendanceId("atd1");
-        attendance.setStatus("Absent");
-        attendance.setAttendanceByEmployee(employee);
-
-        LeaveRequest leaveRequest = new LeaveRequest();
-        leaveRequest.setStatus("Approved");
-        leaveRequest.setRequestByEmployee(employee);
-        leaveRequest.setTypeOfLeave(leaveType);
-        leaveRequest.setStartDate(LocalDate.of(yearMonth.getYear(), yearMonth.getMonthValue(), 1));
-
         salaryRecord = new SalaryRecord();
         salaryRecord.setSalaryRecordOfEmployee(employee);
         salaryRecord.setGrossSalary(new BigDecimal("1000.00"));
@@ -144,14 +175,156 @@ class SalaryRecordServiceImplTest {
     @Test
     void testReleaseSalaryForEmployee_Success() throws ResourceNotFoundException {
         salaryRecordDTO.setEmployeeId(employee.getEmployeeId());
+        salaryRecordDTO.setPayPeriodStart(LocalDate.of(2024, 5, 1));
+        salaryRecordDTO.setNetSalary(new BigDecimal("999999.00"));
         when(employeesRepository.findById(employee.getEmployeeId())).thenReturn(Optional.of(employee));
-
+        when(salaryPreviewCache.get(employee.getEmployeeId(), YearMonth.of(2024, 5)))
+                .thenReturn(createPreview(LocalDate.of(2024, 5, 1), new BigDecimal("45000.00")));
 
         salaryRecordService.releaseSalaryForEmployee(salaryRecordDTO);
 
+        // The cached server-side amounts are released, not the amounts of the payload
         verify(salaryRecordRepository).save(argThat(result ->
                 result.getSalaryRecordOfEmployee().equals(employee)
+                        && new BigDecimal("45000.00").equals(result.getNetSalary())
         ));
+        verify(salaryRollupService).recordSalaryReleases(argThat(records -> records.size() == 1
+                && new BigDecimal("45000.00").equals(records.get(0).getNetSalary())));
+    }
+
+    @Test
+    void testReleaseSalaryForEmployee_CalculatesOnCacheMiss() throws ResourceNotFoundException {
+        YearMonth yearMonth = YearMonth.of(2024, 5);
+        salaryRecordDTO.setEmployeeId(employee.getEmployeeId());
+        salaryRecordDTO.setPayPeriodStart(yearMonth.atDay(1));
+        salaryRecordDTO.setNetSalary(new BigDecimal("999999.00"));
+        when(employeesRepository.findById(employee.getEmployeeId())).thenReturn(Optional.of(employee));
+        when(salaryPreviewCache.generation()).thenReturn(7L);
+        when(salaryRepository.findCostToCompany(employee)).thenReturn(new BigDecimal("600000.00"));
+        when(bonusRuleService.getActiveBonusRuleSet()).thenReturn(bonusRuleSet);
+        when(bonusRuleService.getApprovedLeaveTypes(any(), any(), any())).thenReturn(Map.of());
+        when(workingCalendarService.getCalendar(2024)).thenReturn(weekdaysOf(2024));
+        when(taxSlabService.getActiveTaxSlabTable()).thenReturn(
+                new TaxSlabTable(1, TaxSlabTable.defaultSlabs(), TaxSlabTable.DEFAULT_CACHE_CAPACITY));
+
+        salaryRecordService.releaseSalaryForEmployee(salaryRecordDTO);
+
+        verify(salaryPreviewCache).put(eq(employee.getEmployeeId()), eq(yearMonth), any(SalaryRecordDTO.class), eq(7L));
+        verify(salaryRecordRepository).save(argThat(result ->
+                new BigDecimal("50000.00").equals(result.getGrossSalary())
+                        && !new BigDecimal("999999.00").equals(result.getNetSalary())
+        ));
+    }
+
+    @Test
+    void testReleaseSalaryForEmployee_MissingPayPeriod() {
+        salaryRecordDTO.setEmployeeId(employee.getEmployeeId());
+        when(employeesRepository.findById(employee.getEmployeeId())).thenReturn(Optional.of(employee));
+
+        assertThrows(ResourceNotFoundException.class, () -> salaryRecordService.releaseSalaryForEmployee(salaryRecordDTO));
+        verify(salaryRecordRepository, never()).save(any(SalaryRecord.class));
+    }
+
+    @Test
+    void testReleaseSalaryForEmployee_ReplacesReleasedRecord() throws ResourceNotFoundException {
+        salaryRecord.setSalaryRecordId("RCD1234567");
+        salaryRecordDTO.setEmployeeId(employee.getEmployeeId());
+        salaryRecordDTO.setPayPeriodStart(LocalDate.of(2024, 5, 1));
+        when(employeesRepository.findById(employee.getEmployeeId())).thenReturn(Optional.of(employee));
+        when(salaryPreviewCache.get(employee.getEmployeeId(), YearMonth.of(2024, 5)))
+                .thenReturn(createPreview(LocalDate.of(2024, 5, 1), new BigDecimal("45000.00")));
+        when(salaryRecordRepository.findBySalaryRecordOfEmployeeAndPayPeriodStart(employee, LocalDate.of(2024, 5, 1)))
+                .thenReturn(salaryRecord);
+
+        salaryRecordService.releaseSalaryForEmployee(salaryRecordDTO);
+
+        verify(salaryRecordRepository).save(argThat(result ->
+                "RCD1234567".equals(result.getSalaryRecordId())
+        ));
+    }
+
+    @Test
+    void testReleaseSalaries_Success() {
+        ReflectionTestUtils.setField(salaryRecordService, "releaseChunkSize", 2);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        when(payrollRunService.computeSalariesOfEmployees(YearMonth.of(2024, 5), List.of("emp1", "emp2")))
+                .thenReturn(List.of(createComputedRecord("emp1"), createComputedRecord("emp2")));
+        when(payrollRunService.computeSalariesOfEmployees(YearMonth.of(2024, 5), List.of("emp3")))
+                .thenReturn(List.of(createComputedRecord("emp3")));
+
+        SalaryReleaseDTO result = salaryRecordService.releaseSalaries(List.of(
+                createReleaseRecord("emp1"), createReleaseRecord("emp2"), createReleaseRecord("emp3")));
+
+        assertEquals(3, result.getTotalRecords());
+        assertEquals(3, result.getReleasedRecords());
+        assertThat(result.getChunkTimings()).hasSize(2);
+        assertThat(result.getRejectedEmployeeIds()).isEmpty();
+        verify(salaryRollupService, times(2)).recordSalaryReleases(any());
+        verify(salaryRecordRepositoryCustom, times(2)).upsertSalaryRecords(any());
+    }
+
+    @Test
+    void testReleaseSalaries_RejectsUnknownEmployeesAndDuplicates() {
+        ReflectionTestUtils.setField(salaryRecordService, "releaseChunkSize", 10);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        when(payrollRunService.computeSalariesOfEmployees(YearMonth.of(2024, 5), List.of("emp1", "unknown")))
+                .thenReturn(List.of(createComputedRecord("emp1")));
+
+        SalaryReleaseDTO result = salaryRecordService.releaseSalaries(List.of(
+                createReleaseRecord("emp1"), createReleaseRecord("emp1"), createReleaseRecord("unknown")));
+
+        assertEquals(3, result.getTotalRecords());
+        assertEquals(1, result.getReleasedRecords());
+        assertThat(result.getRejectedEmployeeIds()).containsExactly("unknown");
+        verify(salaryRecordRepositoryCustom).upsertSalaryRecords(argThat(records -> records.size() == 1));
+    }
+
+    @Test
+    void testReleaseSalaries_ComputesAmountsOnServer() {
+        ReflectionTestUtils.setField(salaryRecordService, "releaseChunkSize", 10);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        when(payrollRunService.computeSalariesOfEmployees(YearMonth.of(2024, 5), List.of("emp1")))
+                .thenReturn(List.of(createComputedRecord("emp1")));
+        SalaryRecordDTO releaseRecord = createReleaseRecord("emp1");
+        releaseRecord.setNetSalary(new BigDecimal("999999.00"));
+
+        salaryRecordService.releaseSalaries(List.of(releaseRecord));
+
+        verify(salaryRecordRepositoryCustom).upsertSalaryRecords(argThat(records ->
+                records.size() == 1 && new BigDecimal("45000.00").equals(records.get(0).getNetSalary())));
+    }
+
+    @Test
+    void testReleasePayrollRun_RecomputesSalaries() throws ResourceNotFoundException {
+        ReflectionTestUtils.setField(salaryRecordService, "releaseChunkSize", 10);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        // The records of the run are paged, only their employees and pay period are released
+        SalaryRecordDTO staleRecord = createReleaseRecord("emp1");
+        staleRecord.setNetSalary(new BigDecimal("40000.00"));
+        when(payrollRunService.getPayrollRunRecords("RUN1", null, 10)).thenReturn(List.of(staleRecord));
+        when(payrollRunService.getPayrollRunRecords("RUN1", "emp1", 10)).thenReturn(List.of());
+        when(payrollRunService.computeSalariesOfEmployees(YearMonth.of(2024, 5), List.of("emp1")))
+                .thenReturn(List.of(createComputedRecord("emp1")));
+
+        SalaryReleaseDTO result = salaryRecordService.releasePayrollRun("RUN1");
+
+        assertEquals(1, result.getReleasedRecords());
+        verify(salaryRecordRepositoryCustom).upsertSalaryRecords(argThat(records ->
+                new BigDecimal("45000.00").equals(records.get(0).getNetSalary())));
+    }
+
+    @Test
+    void testReleasePayrollRun_NotFound() throws ResourceNotFoundException {
+        when(payrollRunService.getPayrollRunRecords("RUN1", null, 0))
+                .thenThrow(new ResourceNotFoundException("Payroll run not found."));
+
+        assertThrows(ResourceNotFoundException.class, () -> salaryRecordService.releasePayrollRun("RUN1"));
+
+        verify(salaryRecordRepositoryCustom, never()).upsertSalaryRecords(any());
     }
 
     @Test
@@ -177,42 +350,231 @@ class SalaryRecordServiceImplTest {
     void testGetSalaryByQuarter_Success() throws ResourceNotFoundException {
         String quarter = "quarter 1";
 
-        LocalDate startDate = LocalDate.of(2024, 1, 1);
-        LocalDate endDate = LocalDate.of(2024, 3, 31);
+        LocalDate startDate = LocalDate.of(Year.now().getValue(), 1, 1);
+        LocalDate endDate = LocalDate.of(Year.now().getValue(), 3, 31);
 
-        List<SalaryRecord> salaryRecords = Collections.singletonList(salaryRecord);
-        when(salaryRecordRepository.findSalaryRecordsByQuarter(startDate, endDate)).thenReturn(salaryRecords);
+        when(salaryRollupRepository.sumRollupsByPeriod(SalaryRollup.MONTH_GRAIN, "", startDate, endDate)).thenReturn(createTotals(null));
 
-        SalaryRecordDTO result = salaryRecordService.getSalaryByQuarter(quarter);
+        SalaryRecordDTO result = salaryRecordService.getSalaryByQuarter(quarter, null);
 
         assertThat(result).isNotNull();
-        verify(salaryRecordRepository).findSalaryRecordsByQuarter(startDate, endDate);
+        assertEquals(startDate, result.getPayPeriodStart());
+        assertEquals(endDate, result.getPayPeriodEnd());
+        assertEquals(new BigDecimal("3000.00"), result.getGrossSalary());
+        assertEquals(new BigDecimal("200.00"), result.getOvertimeAmount());
+        assertEquals(new BigDecimal("300.00"), result.getTaxAmount());
+        verify(salaryRollupRepository).sumRollupsByPeriod(SalaryRollup.MONTH_GRAIN, "", startDate, endDate);
+    }
+
+    @Test
+    void testGetSalaryByQuarter_NoSalaryRecords() throws ResourceNotFoundException {
+        LocalDate startDate = LocalDate.of(Year.now().getValue(), 10, 1);
+        LocalDate endDate = LocalDate.of(Year.now().getValue(), 12, 31);
+        when(salaryRollupRepository.sumRollupsByPeriod(SalaryRollup.MONTH_GRAIN, "", startDate, endDate))
+                .thenReturn(new SalaryTotalsDTO(null, null, null, null, null, null, null));
+
+        SalaryRecordDTO result = salaryRecordService.getSalaryByQuarter("Quarter 4", null);
+
+        assertEquals(BigDecimal.ZERO, result.getGrossSalary());
+        assertEquals(BigDecimal.ZERO, result.getNetSalary());
+    }
+
+    @Test
+    void testGetSalaryByQuarter_PastYear() throws ResourceNotFoundException {
+        LocalDate startDate = LocalDate.of(2021, 7, 1);
+        LocalDate endDate = LocalDate.of(2021, 9, 30);
+        when(salaryRollupRepository.sumRollupsByPeriod(SalaryRollup.MONTH_GRAIN, "", startDate, endDate))
+                .thenReturn(createTotals(null));
+
+        SalaryRecordDTO result = salaryRecordService.getSalaryByQuarter("quarter 3", 2021);
+
+        assertEquals(startDate, result.getPayPeriodStart());
+        assertEquals(endDate, result.getPayPeriodEnd());
+        assertEquals(new BigDecimal("3000.00"), result.getGrossSalary());
+    }
+
+    @Test
+    void testGetSalaryByPeriod_FiscalYear() throws ResourceNotFoundException {
+        LocalDate startDate = LocalDate.of(2023, 4, 1);
+        LocalDate endDate = LocalDate.of(2024, 3, 31);
+        when(salaryRollupRepository.sumRollupsByPeriod(SalaryRollup.MONTH_GRAIN, "", startDate, endDate))
+                .thenReturn(createTotals(null));
+
+        SalaryRecordDTO result = salaryRecordService.getSalaryByPeriod(null, null, 2023);
+
+        assertEquals(startDate, result.getPayPeriodStart());
+        assertEquals(endDate, result.getPayPeriodEnd());
+        assertEquals(new BigDecimal("300.00"), result.getTaxAmount());
+    }
+
+    @Test
+    void testGetSalaryByPeriod_MultiYearRange() throws ResourceNotFoundException {
+        LocalDate startDate = LocalDate.of(2019, 1, 1);
+        LocalDate endDate = LocalDate.of(2023, 12, 31);
+        when(salaryRollupRepository.sumRollupsByPeriod(SalaryRollup.MONTH_GRAIN, "", startDate, endDate))
+                .thenReturn(createTotals(null));
+
+        SalaryRecordDTO result = salaryRecordService.getSalaryByPeriod(startDate, endDate, null);
+
+        assertEquals(startDate, result.getPayPeriodStart());
+        assertEquals(endDate, result.getPayPeriodEnd());
+    }
+
+    @Test
+    void testGetSalaryByPeriod_InvalidRange() {
+        assertThrows(ResourceNotFoundException.class, () ->
+                salaryRecordService.getSalaryByPeriod(LocalDate.of(2024, 3, 31), LocalDate.of(2024, 1, 1), null));
+    }
+
+    @Test
+    void testGetSalaryRecordsByPeriod_Success() throws ResourceNotFoundException {
+        SalaryRecord salaryRecord = new SalaryRecord();
+        salaryRecord.setPayPeriodStart(LocalDate.of(2023, 4, 1));
+        salaryRecord.setNetSalary(new BigDecimal("45000.00"));
+        when(employeesRepository.findById(employee.getEmployeeId())).thenReturn(Optional.of(employee));
+        when(salaryRecordRepository.findBySalaryRecordOfEmployeeAndPayPeriodStartBetweenOrderByPayPeriodStartAsc(
+                employee, LocalDate.of(2023, 4, 1), LocalDate.of(2024, 3, 31))).thenReturn(List.of(salaryRecord));
+
+        List<SalaryRecordDTO> result = salaryRecordService.getSalaryRecordsByPeriod(employee.getEmployeeId(),
+                null, null, 2023);
+
+        assertThat(result).hasSize(1);
+        assertEquals(LocalDate.of(2023, 4, 1), result.get(0).getPayPeriodStart());
+        assertEquals("John Doe", result.get(0).getFullName());
+    }
+
+    @Test
+    void testGetSalaryRecordsByPeriod_EmployeeNotFound() {
+        when(employeesRepository.findById(employee.getEmployeeId())).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> salaryRecordService.getSalaryRecordsByPeriod(
+                employee.getEmployeeId(), LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31), null));
+    }
+
+    @Test
+    void testGetAnnualSalarySummary() {
+        when(salaryRollupRepository.sumRollupsByQuarter(SalaryRollup.MONTH_GRAIN, "",
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)))
+                .thenReturn(List.of(createTotals(2), createTotals(4)));
+
+        List<SalaryRecordDTO> result = salaryRecordService.getAnnualSalarySummary(2024);
+
+        assertThat(result).hasSize(4);
+        assertEquals(LocalDate.of(2024, 4, 1), result.get(1).getPayPeriodStart());
+        assertEquals(LocalDate.of(2024, 6, 30), result.get(1).getPayPeriodEnd());
+        assertEquals(new BigDecimal("3000.00"), result.get(1).getGrossSalary());
+        assertEquals(BigDecimal.ZERO, result.get(0).getGrossSalary());
+        assertEquals(BigDecimal.ZERO, result.get(2).getTaxAmount());
+        assertEquals(new BigDecimal("300.00"), result.get(3).getTaxAmount());
+    }
+
+    @Test
+    void testGetAnnualSalarySummary_DefaultsToCurrentYear() {
+        int year = Year.now().getValue();
+        when(salaryRollupRepository.sumRollupsByQuarter(SalaryRollup.MONTH_GRAIN, "",
+                LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31)))
+                .thenReturn(Collections.emptyList());
+
+        List<SalaryRecordDTO> result = salaryRecordService.getAnnualSalarySummary(null);
+
+        assertThat(result).hasSize(4);
+        assertEquals(LocalDate.of(year, 10, 1), result.get(3).getPayPeriodStart());
     }
 
     @Test
     void testGetSalaryByQuarter_InvalidQuarter() {
         String invalidQuarter = "quarter 5";
 
-        assertThrows(ResourceNotFoundException.class, () -> salaryRecordService.getSalaryByQuarter(invalidQuarter));
+        assertThrows(ResourceNotFoundException.class, () -> salaryRecordService.getSalaryByQuarter(invalidQuarter, null));
     }
 
     @Test
     void testCalculateSalaryForEmployee_Success() throws ResourceNotFoundException {
         when(employeesRepository.findById(employee.getEmployeeId())).thenReturn(Optional.of(employee));
         when(salaryRepository.findCostToCompany(employee)).thenReturn(BigDecimal.valueOf(600000));
-        when(leaveTypeRepository.findByTypeName(leaveType.getTypeName())).thenReturn(leaveType);
-        when(attendanceRepository.findByEmployeeAndDate(employee, YearMonth.now().getMonthValue(), YearMonth.now().getYear()))
-                .thenReturn(Collections.singletonList(attendance));
-        when(leaveRequestRepository.findByRequestByEmployeeAndStartDateAndTypeOfLeave(employee, 2024, 10, leaveType))
-                .thenReturn(null);
+        when(payrollRunService.countAbsences(YearMonth.now(), List.of(employee.getEmployeeId())))
+                .thenReturn(Map.of(employee.getEmployeeId(), 1L));
+        when(attendanceRepository.sumOvertimeHoursByEmployee(List.of(employee.getEmployeeId()),
+                YearMonth.now().atDay(1), YearMonth.now().atEndOfMonth()))
+                .thenReturn(Collections.singletonList(new EmployeeHoursDTO(employee.getEmployeeId(),
+                        new BigDecimal("8.00"))));
+        when(bonusRuleService.getActiveBonusRuleSet()).thenReturn(bonusRuleSet);
+        when(bonusRuleService.getApprovedLeaveTypes(bonusRuleSet, YearMonth.now(), List.of(employee.getEmployeeId())))
+                .thenReturn(Map.of(employee.getEmployeeId(), Set.of("type1")));
+        when(workingCalendarService.getCalendar(YearMonth.now().getYear()))
+                .thenReturn(weekdaysOf(YearMonth.now().getYear()));
+        when(taxSlabService.getActiveTaxSlabTable()).thenReturn(
+                new TaxSlabTable(1, TaxSlabTable.defaultSlabs(), TaxSlabTable.DEFAULT_CACHE_CAPACITY));
 
         SalaryRecordDTO result = salaryRecordService.calculateSalaryForEmployee(employee.getEmployeeId());
 
+        // Marriage bonus, birthday bonus in June and Diwali bonus in November
+        int month = YearMonth.now().getMonthValue();
         assertThat(result).isNotNull();
         assertNotNull(result);
-        assertEquals(BigDecimal.ZERO, result.getBonusAmount());
+        assertEquals(BigDecimal.valueOf(10000 + (month == 6 ? 1000 : 0) + (month == 11 ? 2000 : 0)),
+                result.getBonusAmount());
         assertEquals(BigDecimal.valueOf(50000), result.getGrossSalary());
         assertNotEquals(BigDecimal.ZERO, result.getPenaltyAmount());
+        // A full overtime day at the default multiplier
+        assertEquals(result.getPenaltyAmount().multiply(PayrollCalculator.DEFAULT_OVERTIME_MULTIPLIER)
+                .setScale(2, java.math.RoundingMode.HALF_UP), result.getOvertimeAmount());
+    }
+
+    @Test
+    void testCalculateSalaryForEmployee_SamePenaltyAsPayrollRun() throws ResourceNotFoundException {
+        YearMonth yearMonth = YearMonth.now();
+        AttendanceMonthBitmap bitmap = new AttendanceMonthBitmap(yearMonth);
+        bitmap.set(1, AttendanceStatus.ABSENT, BigDecimal.ZERO);
+        bitmap.set(2, AttendanceStatus.ABSENT, BigDecimal.ZERO);
+        bitmap.set(3, AttendanceStatus.PRESENT, new BigDecimal("8.00"));
+        List<String> employeeIds = List.of(employee.getEmployeeId());
+        ReflectionTestUtils.setField(salaryRecordService, "payrollRunService", payrollRunServiceImpl);
+        when(employeesRepository.findById(employee.getEmployeeId())).thenReturn(Optional.of(employee));
+        when(salaryRepository.findCostToCompany(employee)).thenReturn(new BigDecimal("600000.00"));
+        when(salaryRepository.findPayrollInputsOfEmployees(employeeIds)).thenReturn(List.of(new PayrollInputDTO(
+                employee.getEmployeeId(), employee.getFullName(), "Developer", employee.getJoiningDate(),
+                employee.getDateOfBirth(), new BigDecimal("600000.00"), null)));
+        when(attendanceBitmapRepository.findBitmapsForMonth(employeeIds, yearMonth.getYear(),
+                yearMonth.getMonthValue())).thenReturn(List.of(bitmap.toDto(employee.getEmployeeId())));
+        when(bonusRuleService.getActiveBonusRuleSet()).thenReturn(bonusRuleSet);
+        when(bonusRuleService.getApprovedLeaveTypes(any(), any(), any())).thenReturn(Map.of());
+        WorkingCalendar workingCalendar = weekdaysOf(yearMonth.getYear());
+        when(workingCalendarService.getCalendar(yearMonth.getYear())).thenReturn(workingCalendar);
+        when(taxSlabService.getActiveTaxSlabTable()).thenReturn(
+                new TaxSlabTable(1, TaxSlabTable.defaultSlabs(), TaxSlabTable.DEFAULT_CACHE_CAPACITY));
+
+        SalaryRecordDTO result = salaryRecordService.calculateSalaryForEmployee(employee.getEmployeeId());
+        SalaryRecordDTO released = payrollRunServiceImpl.computeSalariesOfEmployees(yearMonth, employeeIds).get(0);
+
+        // The monthly salary is spread over the working days of the month
+        BigDecimal perDaySalary = new BigDecimal("50000.00").divide(
+                BigDecimal.valueOf(workingCalendar.countWorkingDays(yearMonth)), java.math.RoundingMode.HALF_UP);
+        assertEquals(perDaySalary.multiply(BigDecimal.valueOf(2)), result.getPenaltyAmount());
+        assertEquals(released.getPenaltyAmount(), result.getPenaltyAmount());
+        assertEquals(released.getNetSalary(), result.getNetSalary());
+        verify(attendanceRepository, never()).countAbsencesByEmployee(any(), any(), any());
+    }
+
+    @Test
+    void testCalculateSalaryForEmployee_FromCache() throws ResourceNotFoundException {
+        SalaryRecordDTO preview = createPreview(YearMonth.now().atDay(1), new BigDecimal("45000.00"));
+        when(employeesRepository.findById(employee.getEmployeeId())).thenReturn(Optional.of(employee));
+        when(salaryPreviewCache.get(employee.getEmployeeId(), YearMonth.now())).thenReturn(preview);
+
+        SalaryRecordDTO result = salaryRecordService.calculateSalaryForEmployee(employee.getEmployeeId());
+
+        assertEquals(preview, result);
+        verify(salaryRepository, never()).findCostToCompany(any());
+        verify(salaryPreviewCache, never()).put(any(), any(), any(), anyLong());
+    }
+
+    @Test
+    void testGetPreviewCacheStats() {
+        SalaryPreviewCacheStatsDTO stats = new SalaryPreviewCacheStatsDTO();
+        when(salaryPreviewCache.getStats()).thenReturn(stats);
+
+        assertEquals(stats, salaryRecordService.getPreviewCacheStats());
     }
 
     @Test
@@ -225,28 +587,82 @@ class SalaryRecordServiceImplTest {
     @Test
     void testGetTaxByQuarter_Success() throws ResourceNotFoundException {
         when(employeesRepository.findById(employee.getEmployeeId())).thenReturn(Optional.of(employee));
-        when(salaryRecordRepository.findSalaryRecordsByQuarterAndEmployee(any(), any(), eq(employee)))
-                .thenReturn(Collections.singletonList(salaryRecord));
+        when(salaryRollupRepository.sumRollupsByPeriod(SalaryRollup.EMPLOYEE_GRAIN, employee.getEmployeeId(),
+                LocalDate.of(Year.now().getValue(), 1, 1), LocalDate.of(Year.now().getValue(), 3, 31)))
+                .thenReturn(createTotals(null));
 
-        TaxResponseDTO response = salaryRecordService.getTaxByQuarter("quarter 1", employee.getEmployeeId());
+        TaxResponseDTO response = salaryRecordService.getTaxByQuarter("quarter 1", null, employee.getEmployeeId());
 
         assertThat(response).isNotNull();
-        assertThat(response.getGrossSalary()).isEqualTo(salaryRecord.getGrossSalary());
-        assertThat(response.getTaxDeducted()).isEqualTo(salaryRecord.getTaxAmount());
-        assertThat(response.getNetSalary()).isEqualTo(salaryRecord.getNetSalary());
+        assertThat(response.getGrossSalary()).isEqualTo(new BigDecimal("3000.00"));
+        assertThat(response.getTaxDeducted()).isEqualTo(new BigDecimal("300.00"));
+        assertThat(response.getNetSalary()).isEqualTo(new BigDecimal("2500.00"));
     }
 
     @Test
     void testGetTaxByQuarter_EmployeeNotFound() {
         when(employeesRepository.findById(employee.getEmployeeId())).thenReturn(Optional.empty());
 
-        assertThrows(ResourceNotFoundException.class, () -> salaryRecordService.getTaxByQuarter("quarter 1", employee.getEmployeeId()));
+        assertThrows(ResourceNotFoundException.class, () -> salaryRecordService.getTaxByQuarter("quarter 1", null, employee.getEmployeeId()));
+    }
+
+    @Test
+    void testGetTaxByPeriod_FiscalYear() throws ResourceNotFoundException {
+        when(employeesRepository.findById(employee.getEmployeeId())).thenReturn(Optional.of(employee));
+        when(salaryRollupRepository.sumRollupsByPeriod(SalaryRollup.EMPLOYEE_GRAIN, employee.getEmployeeId(),
+                LocalDate.of(2023, 4, 1), LocalDate.of(2024, 3, 31))).thenReturn(createTotals(null));
+
+        TaxResponseDTO response = salaryRecordService.getTaxByPeriod(employee.getEmployeeId(), null, null, 2023);
+
+        assertEquals(LocalDate.of(2023, 4, 1), response.getPayPeriodStart());
+        assertEquals(LocalDate.of(2024, 3, 31), response.getPayPeriodEnd());
+        assertEquals(Year.of(2023), response.getYear());
+        assertThat(response.getTaxDeducted()).isEqualTo(new BigDecimal("300.00"));
+    }
+
+    @Test
+    void testGetTaxByPeriod_DatesAndFiscalYear() {
+        assertThrows(ResourceNotFoundException.class, () -> salaryRecordService.getTaxByPeriod(
+                employee.getEmployeeId(), LocalDate.of(2023, 4, 1), LocalDate.of(2024, 3, 31), 2023));
     }
 
     @Test
     void testGetTaxByQuarter_InvalidQuarter() {
-        assertThrows(ResourceNotFoundException.class, () -> salaryRecordService.getTaxByQuarter("invalid quarter", employee.getEmployeeId()));
+        assertThrows(ResourceNotFoundException.class, () -> salaryRecordService.getTaxByQuarter("invalid quarter", null, employee.getEmployeeId()));
     }
 
-}
+    private SalaryRecordDTO createReleaseRecord(String employeeId) {
+        SalaryRecordDTO releaseRecord = new SalaryRecordDTO();
+        releaseRecord.setEmployeeId(employeeId);
+        releaseRecord.setPayPeriodStart(LocalDate.of(2024, 5, 1));
+        releaseRecord.setPayPeriodEnd(LocalDate.of(2024, 5, 31));
+        return releaseRecord;
+    }
+
+    private SalaryRecordDTO createComputedRecord(String employeeId) {
+        SalaryRecordDTO computedRecord = createReleaseRecord(employeeId);
+        computedRecord.setNetSalary(new BigDecimal("45000.00"));
+        return computedRecord;
+    }
+
+    private SalaryRecordDTO createPreview(LocalDate payPeriodStart, BigDecimal netSalary) {
+        SalaryRecordDTO preview = new SalaryRecordDTO();
+        preview.setEmployeeId(employee.getEmployeeId());
+        preview.setPayPeriodStart(payPeriodStart);
+        preview.setPayPeriodEnd(YearMonth.from(payPeriodStart).atEndOfMonth());
+        preview.setGrossSalary(new BigDecimal("50000.00"));
+        preview.setNetSalary(netSalary);
+        return preview;
+    }
 
+    private SalaryTotalsDTO createTotals(Integer quarter) {
+        return new SalaryTotalsDTO(quarter, new BigDecimal("3000.00"), new BigDecimal("2500.00"),
+                new BigDecimal("1000.00"), new BigDecimal("200.00"), new BigDecimal("100.00"), new BigDecimal("150.00"),
+                new BigDecimal("300.00"));
+    }
+
+    // Calendar of a year without holidays, the weekends off
+    private static WorkingCalendar weekdaysOf(int year) {
+        return WorkingCalendar.of(year, EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), List.of());
+    }
+}
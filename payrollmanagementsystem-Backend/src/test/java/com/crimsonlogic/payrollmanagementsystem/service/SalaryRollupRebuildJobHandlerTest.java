@@ -0,0 +1,109 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BackgroundJob;
+import com.crimsonlogic.payrollmanagementsystem.exception.JobInterruptedException;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.serviceimpl.SalaryRollupRebuildJobHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@ExtendWith(MockitoExtension.class)
+class SalaryRollupRebuildJobHandlerTest {
+
+    @InjectMocks
+    private SalaryRollupRebuildJobHandler salaryRollupRebuildJobHandler;
+
+    @Mock
+    private SalaryRollupService salaryRollupService;
+
+    @Mock
+    private JobContext context;
+
+    @Test
+    void testGetJobType() {
+        assertEquals(BackgroundJob.SALARY_ROLLUP_REBUILD, salaryRollupRebuildJobHandler.getJobType());
+    }
+
+    @Test
+    void testResolveParameters_Success() throws ResourceNotFoundException {
+        Map<String, String> result = salaryRollupRebuildJobHandler.resolveParameters(
+                Map.of("startDate", "2024-01-15", "endDate", "2024-03-10"));
+
+        assertEquals(Map.of("startDate", "2024-01-15", "endDate", "2024-03-10"), result);
+    }
+
+    @Test
+    void testResolveParameters_InvalidRange() {
+        assertThrows(ResourceNotFoundException.class, () -> salaryRollupRebuildJobHandler.resolveParameters(
+                Map.of("startDate", "2024-03-10", "endDate", "2024-01-15")));
+        assertThrows(ResourceNotFoundException.class, () -> salaryRollupRebuildJobHandler.resolveParameters(
+                Map.of("startDate", "2024-03-10")));
+    }
+
+    @Test
+    void testRun_RebuildsMonthByMonth() throws ResourceNotFoundException, JobInterruptedException {
+        when(context.getParameter("startDate")).thenReturn("2024-01-15");
+        when(context.getParameter("endDate")).thenReturn("2024-03-10");
+        when(context.getCheckpoint()).thenReturn(null);
+        when(context.getCompletedChunks()).thenReturn(0);
+        when(salaryRollupService.rebuildSalaryRollups(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 1, 31)))
+                .thenReturn(10);
+        when(salaryRollupService.rebuildSalaryRollups(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29)))
+                .thenReturn(11);
+        when(salaryRollupService.rebuildSalaryRollups(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 10)))
+                .thenReturn(12);
+
+        String result = salaryRollupRebuildJobHandler.run(context);
+
+        assertEquals("Rebuilt 33 rows from 2024-01-15 to 2024-03-10.", result);
+        verify(context).checkpoint("2024-01", 1, 3);
+        verify(context).checkpoint("2024-02", 2, 3);
+        verify(context).checkpoint("2024-03", 3, 3);
+    }
+
+    @Test
+    void testRun_ResumesAfterCheckpoint() throws ResourceNotFoundException, JobInterruptedException {
+        when(context.getParameter("startDate")).thenReturn("2024-01-15");
+        when(context.getParameter("endDate")).thenReturn("2024-03-10");
+        when(context.getCheckpoint()).thenReturn("2024-02");
+        when(context.getCompletedChunks()).thenReturn(2);
+        when(salaryRollupService.rebuildSalaryRollups(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 10)))
+                .thenReturn(12);
+
+        salaryRollupRebuildJobHandler.run(context);
+
+        verify(salaryRollupService, never()).rebuildSalaryRollups(LocalDate.of(2024, 1, 15),
+                LocalDate.of(2024, 1, 31));
+        verify(context).checkpoint("2024-03", 3, 3);
+    }
+
+    @Test
+    void testRun_StopsWhenInterrupted() throws ResourceNotFoundException, JobInterruptedException {
+        when(context.getParameter("startDate")).thenReturn("2024-01-15");
+        when(context.getParameter("endDate")).thenReturn("2024-03-10");
+        when(context.getCheckpoint()).thenReturn(null);
+        when(context.getCompletedChunks()).thenReturn(0);
+        when(salaryRollupService.rebuildSalaryRollups(any(), any())).thenReturn(10);
+        doThrow(new JobInterruptedException("Worker is shutting down."))
+                .when(context).checkpoint("2024-01", 1, 3);
+
+        assertThrows(JobInterruptedException.class, () -> salaryRollupRebuildJobHandler.run(context));
+
+        verify(salaryRollupService, never()).rebuildSalaryRollups(LocalDate.of(2024, 2, 1),
+                LocalDate.of(2024, 2, 29));
+    }
+}
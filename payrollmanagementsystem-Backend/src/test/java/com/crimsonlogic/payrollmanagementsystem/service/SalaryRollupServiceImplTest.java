@@ -0,0 +1,175 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.SalaryRollup;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRecordDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRollupDTO;
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import com.crimsonlogic.payrollmanagementsystem.repository.SalaryRecordRepositoryCustom;
+import com.crimsonlogic.payrollmanagementsystem.repository.SalaryRollupRepository;
+import com.crimsonlogic.payrollmanagementsystem.repository.SalaryRollupRepositoryCustom;
+import com.crimsonlogic.payrollmanagementsystem.serviceimpl.SalaryRollupServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@ExtendWith(MockitoExtension.class)
+class SalaryRollupServiceImplTest {
+
+    @InjectMocks
+    private SalaryRollupServiceImpl salaryRollupService;
+
+    @Mock
+    private SalaryRollupRepository salaryRollupRepository;
+
+    @Mock
+    private SalaryRollupRepositoryCustom salaryRollupRepositoryCustom;
+
+    @Mock
+    private SalaryRecordRepositoryCustom salaryRecordRepositoryCustom;
+
+    @Captor
+    private ArgumentCaptor<List<SalaryRollupDTO>> deltaCaptor;
+
+    @Test
+    void testRecordSalaryReleases_NewRecords() {
+        when(salaryRollupRepositoryCustom.lockEmployeeDesignations(any()))
+                .thenReturn(Map.of("emp1", "DES1", "emp2", "DES1"));
+        when(salaryRecordRepositoryCustom.findSalaryRecords(any(), any())).thenReturn(List.of());
+
+        salaryRollupService.recordSalaryReleases(List.of(
+                createSalaryRecord("emp1", "40000.00"), createSalaryRecord("emp2", "50000.00")));
+
+        verify(salaryRollupRepositoryCustom).addToSalaryRollups(deltaCaptor.capture());
+        List<SalaryRollupDTO> deltas = deltaCaptor.getValue();
+        // One month row, one designation row and one row per employee
+        assertThat(deltas).hasSize(4);
+        SalaryRollupDTO month = findRollup(deltas, SalaryRollup.MONTH_GRAIN, "");
+        assertEquals(2, month.getRecordCount());
+        assertEquals(0, new BigDecimal("90000.00").compareTo(month.getNetSalary()));
+        assertEquals(0, new BigDecimal("1200.00").compareTo(month.getOvertimeAmount()));
+        SalaryRollupDTO designation = findRollup(deltas, SalaryRollup.DESIGNATION_GRAIN, "DES1");
+        assertEquals(2, designation.getRecordCount());
+        assertEquals(LocalDate.of(2024, 3, 1), designation.getPayMonth());
+        SalaryRollupDTO employee = findRollup(deltas, SalaryRollup.EMPLOYEE_GRAIN, "emp2");
+        assertEquals(1, employee.getRecordCount());
+        assertEquals(0, new BigDecimal("50000.00").compareTo(employee.getNetSalary()));
+    }
+
+    @Test
+    void testRecordSalaryReleases_ReplacedRecordIsSubtracted() {
+        when(salaryRollupRepositoryCustom.lockEmployeeDesignations(any())).thenReturn(Map.of("emp1", "DES1"));
+        when(salaryRecordRepositoryCustom.findSalaryRecords(any(), any()))
+                .thenReturn(List.of(createSalaryRecord("emp1", "40000.00")));
+
+        salaryRollupService.recordSalaryReleases(List.of(createSalaryRecord("emp1", "45000.00")));
+
+        verify(salaryRollupRepositoryCustom).addToSalaryRollups(deltaCaptor.capture());
+        SalaryRollupDTO month = findRollup(deltaCaptor.getValue(), SalaryRollup.MONTH_GRAIN, "");
+        assertEquals(0, month.getRecordCount());
+        assertEquals(0, new BigDecimal("5000.00").compareTo(month.getNetSalary()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(month.getOvertimeAmount()));
+    }
+
+    @Test
+    void testRecordSalaryReleases_DuplicateInBatch() {
+        when(salaryRollupRepositoryCustom.lockEmployeeDesignations(any())).thenReturn(Map.of());
+        when(salaryRecordRepositoryCustom.findSalaryRecords(any(), any())).thenReturn(List.of());
+
+        salaryRollupService.recordSalaryReleases(List.of(
+                createSalaryRecord("emp1", "40000.00"), createSalaryRecord("emp1", "42000.00")));
+
+        verify(salaryRollupRepositoryCustom).addToSalaryRollups(deltaCaptor.capture());
+        // The later record replaces the earlier one, as it does in the salary records
+        SalaryRollupDTO employee = findRollup(deltaCaptor.getValue(), SalaryRollup.EMPLOYEE_GRAIN, "emp1");
+        assertEquals(1, employee.getRecordCount());
+        assertEquals(0, new BigDecimal("42000.00").compareTo(employee.getNetSalary()));
+        assertThat(findRollup(deltaCaptor.getValue(), SalaryRollup.DESIGNATION_GRAIN, "")).isNotNull();
+    }
+
+    @Test
+    void testRecordSalaryReleases_Empty() {
+        salaryRollupService.recordSalaryReleases(List.of());
+
+        verifyNoInteractions(salaryRollupRepositoryCustom, salaryRecordRepositoryCustom);
+    }
+
+    @Test
+    void testRebuildSalaryRollups_Success() throws ResourceNotFoundException {
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 12, 31);
+        when(salaryRollupRepositoryCustom.rebuildSalaryRollups(startDate, endDate)).thenReturn(36);
+
+        assertEquals(36, salaryRollupService.rebuildSalaryRollups(startDate, endDate));
+    }
+
+    @Test
+    void testRebuildSalaryRollups_InvalidRange() {
+        assertThrows(ResourceNotFoundException.class, () ->
+                salaryRollupService.rebuildSalaryRollups(LocalDate.of(2024, 12, 31), LocalDate.of(2024, 1, 1)));
+
+        verify(salaryRollupRepositoryCustom, never()).rebuildSalaryRollups(any(), any());
+    }
+
+    @Test
+    void testGetDesignationRollups_Success() throws ResourceNotFoundException {
+        SalaryRollup rollup = new SalaryRollup();
+        rollup.setRollupGrain(SalaryRollup.DESIGNATION_GRAIN);
+        rollup.setGrainKey("DES1");
+        rollup.setPayMonth(LocalDate.of(2024, 3, 1));
+        rollup.setRecordCount(2);
+        rollup.setNetSalary(new BigDecimal("90000.00"));
+        when(salaryRollupRepository.findByRollupGrainAndPayMonthOrderByGrainKeyAsc(
+                SalaryRollup.DESIGNATION_GRAIN, LocalDate.of(2024, 3, 1))).thenReturn(List.of(rollup));
+
+        List<SalaryRollupDTO> result = salaryRollupService.getDesignationRollups(2024, 3);
+
+        assertThat(result).hasSize(1);
+        assertEquals("DES1", result.get(0).getGrainKey());
+        assertEquals(2, result.get(0).getRecordCount());
+    }
+
+    @Test
+    void testGetDesignationRollups_InvalidMonth() {
+        assertThrows(ResourceNotFoundException.class, () -> salaryRollupService.getDesignationRollups(2024, 13));
+    }
+
+    private SalaryRecordDTO createSalaryRecord(String employeeId, String netSalary) {
+        SalaryRecordDTO salaryRecord = new SalaryRecordDTO();
+        salaryRecord.setEmployeeId(employeeId);
+        salaryRecord.setPayPeriodStart(LocalDate.of(2024, 3, 1));
+        salaryRecord.setPayPeriodEnd(LocalDate.of(2024, 3, 31));
+        salaryRecord.setGrossSalary(new BigDecimal("50000.00"));
+        salaryRecord.setNetSalary(new BigDecimal(netSalary));
+        salaryRecord.setBonusAmount(BigDecimal.ZERO);
+        salaryRecord.setOvertimeAmount(new BigDecimal("600.00"));
+        salaryRecord.setPenaltyAmount(BigDecimal.ZERO);
+        salaryRecord.setPfAmount(new BigDecimal("2500.00"));
+        salaryRecord.setTaxAmount(new BigDecimal("1000.00"));
+        return salaryRecord;
+    }
+
+    private SalaryRollupDTO findRollup(List<SalaryRollupDTO> rollups, String grain, String grainKey) {
+        return rollups.stream()
+                .filter(rollup -> grain.equals(rollup.getRollupGrain()) && grainKey.equals(rollup.getGrainKey()))
+                .findFirst()
+                .orElse(null);
+    }
+}
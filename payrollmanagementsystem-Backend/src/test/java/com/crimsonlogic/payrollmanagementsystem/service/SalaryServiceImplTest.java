@@ -18,6 +18,7 @@ import com.crimsonlogic.payrollmanagementsystem.domain.Salary;
 import com.crimsonlogic.payrollmanagementsystem.dto.SalaryDTO;
 import com.crimsonlogic.payrollmanagementsystem.repository.SalaryRepository;
 import com.crimsonlogic.payrollmanagementsystem.serviceimpl.SalaryServiceImpl;
+import com.crimsonlogic.payrollmanagementsystem.util.SalaryPreviewCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,6 +35,9 @@ class SalaryServiceImplTest {
     @Mock
     private SalaryRepository salaryRepository;
 
+    @Mock
+    private SalaryPreviewCache salaryPreviewCache;
+
     private Employees employee;
 
     private Salary salary;
@@ -79,6 +83,7 @@ class SalaryServiceImplTest {
         assertThat(result).isTrue();
         assertThat(salary.getCostToCompany()).isEqualTo(salaryDTO.getCostToCompany());
         verify(salaryRepository).save(salary);
+        verify(salaryPreviewCache).invalidateEmployee("emp1");
     }
 
     @Test
@@ -89,6 +94,7 @@ class SalaryServiceImplTest {
 
         assertThat(result).isFalse();
         verify(salaryRepository, never()).save(any(Salary.class));
+        verify(salaryPreviewCache, never()).invalidateEmployee(anyString());
     }
 
     @Test
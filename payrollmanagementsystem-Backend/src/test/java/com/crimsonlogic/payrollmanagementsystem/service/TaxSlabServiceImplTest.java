@@ -0,0 +1,179 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.TaxSlab;
+import com.crimsonlogic.payrollmanagementsystem.dto.TaxSlabDTO;
+import com.crimsonlogic.payrollmanagementsystem.repository.TaxSlabRepository;
+import com.crimsonlogic.payrollmanagementsystem.serviceimpl.TaxSlabServiceImpl;
+import com.crimsonlogic.payrollmanagementsystem.util.SalaryPreviewCache;
+import com.crimsonlogic.payrollmanagementsystem.util.TaxSlabTable;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Random;
+
+@ExtendWith(MockitoExtension.class)
+class TaxSlabServiceImplTest {
+
+    @InjectMocks
+    private TaxSlabServiceImpl taxSlabService;
+
+    @Mock
+    private TaxSlabRepository taxSlabRepository;
+
+    @Mock
+    private SalaryPreviewCache salaryPreviewCache;
+
+    @Test
+    void testGetActiveTaxSlabTable_SeedsDefaultSlabs() {
+        when(taxSlabRepository.findLatestSlabVersion()).thenReturn(null);
+
+        TaxSlabTable result = taxSlabService.getActiveTaxSlabTable();
+
+        assertEquals(1, result.getVersion());
+        assertThat(taxSlabService.getActiveTaxSlabTable()).isSameAs(result);
+        verify(taxSlabRepository).saveAll(anyList());
+    }
+
+    @Test
+    void testGetActiveTaxSlabTable_LoadsLatestVersion() {
+        when(taxSlabRepository.findLatestSlabVersion()).thenReturn(3);
+        when(taxSlabRepository.findBySlabVersionOrderByLowerLimitAsc(3)).thenReturn(List.of(
+                createTaxSlab("0.0000", "0.0000", "0.00"), createTaxSlab("500000.00", "0.1000", "0.00")));
+
+        TaxSlabTable result = taxSlabService.getActiveTaxSlabTable();
+
+        assertEquals(3, result.getVersion());
+        assertEquals(new BigDecimal("4833.33"), result.monthlyTax(new BigDecimal("90000.00")));
+        verify(taxSlabRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testMonthlyTax_MatchesLegacyCalculation() {
+        TaxSlabTable table = new TaxSlabTable(1, TaxSlabTable.defaultSlabs(), TaxSlabTable.DEFAULT_CACHE_CAPACITY);
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            BigDecimal costToCompany = BigDecimal.valueOf(random.nextInt(300000000), 2);
+            BigDecimal monthlySalary = costToCompany.divide(BigDecimal.valueOf(12), RoundingMode.HALF_UP);
+            assertEquals(legacyMonthlyTax(monthlySalary), table.monthlyTax(monthlySalary));
+            // A memoized lookup returns the same amount
+            assertEquals(legacyMonthlyTax(monthlySalary), table.monthlyTax(monthlySalary));
+        }
+        for (long boundary : new long[]{300000, 600000, 900000, 1200000, 1500000}) {
+            BigDecimal monthlySalary = BigDecimal.valueOf(boundary * 100, 2)
+                    .divide(BigDecimal.valueOf(12), RoundingMode.HALF_UP);
+            assertEquals(legacyMonthlyTax(monthlySalary), table.monthlyTax(monthlySalary));
+        }
+    }
+
+    @Test
+    void testPublishTaxSlabs_Success() {
+        when(taxSlabRepository.findLatestSlabVersion()).thenReturn(1);
+
+        boolean result = taxSlabService.publishTaxSlabs(TaxSlabTable.defaultSlabs());
+
+        assertTrue(result);
+        assertEquals(2, taxSlabService.getActiveTaxSlabTable().getVersion());
+        verify(taxSlabRepository).saveAll(anyList());
+        verify(taxSlabRepository, times(1)).findLatestSlabVersion();
+        verify(salaryPreviewCache).invalidateAll();
+    }
+
+    @Test
+    void testPublishTaxSlabs_LocksBeforeReadingLatestVersion() {
+        when(taxSlabRepository.findLatestSlabVersion()).thenReturn(4);
+
+        taxSlabService.publishTaxSlabs(TaxSlabTable.defaultSlabs());
+
+        InOrder inOrder = inOrder(taxSlabRepository);
+        inOrder.verify(taxSlabRepository).lockTaxSlabPublishing();
+        inOrder.verify(taxSlabRepository).findLatestSlabVersion();
+        inOrder.verify(taxSlabRepository).saveAll(argThat(slabs -> ((List<TaxSlab>) slabs).stream()
+                .allMatch(slab -> slab.getSlabVersion() == 5)));
+    }
+
+    @Test
+    void testGetActiveTaxSlabTable_FirstVersionSeededConcurrently() {
+        when(taxSlabRepository.findLatestSlabVersion()).thenReturn(null, 1);
+        when(taxSlabRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(taxSlabRepository.findBySlabVersionOrderByLowerLimitAsc(1)).thenReturn(List.of(
+                createTaxSlab("0.0000", "0.0000", "0.00"), createTaxSlab("500000.00", "0.1000", "0.00")));
+
+        TaxSlabTable result = taxSlabService.getActiveTaxSlabTable();
+
+        assertEquals(1, result.getVersion());
+    }
+
+    @Test
+    void testPublishTaxSlabs_MissingZeroSlab() {
+        TaxSlabDTO taxSlab = new TaxSlabDTO(null, null, BigDecimal.valueOf(300000),
+                new BigDecimal("0.05"), BigDecimal.ZERO);
+
+        boolean result = taxSlabService.publishTaxSlabs(List.of(taxSlab));
+
+        assertFalse(result);
+        verify(taxSlabRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void testGetActiveTaxSlabs_Default() {
+        when(taxSlabRepository.findLatestSlabVersion()).thenReturn(null);
+
+        List<TaxSlabDTO> result = taxSlabService.getActiveTaxSlabs();
+
+        assertThat(result).hasSize(6);
+    }
+
+    private TaxSlab createTaxSlab(String lowerLimit, String taxRate, String baseTax) {
+        TaxSlab taxSlab = new TaxSlab();
+        taxSlab.setSlabVersion(3);
+        taxSlab.setLowerLimit(new BigDecimal(lowerLimit));
+        taxSlab.setTaxRate(new BigDecimal(taxRate));
+        taxSlab.setBaseTax(new BigDecimal(baseTax));
+        return taxSlab;
+    }
+
+    // The if/else slab chain the table replaced
+    private BigDecimal legacyMonthlyTax(BigDecimal monthlySalary) {
+        BigDecimal annualSalary = monthlySalary.multiply(BigDecimal.valueOf(12));
+        BigDecimal taxAmount;
+        if (annualSalary.compareTo(BigDecimal.valueOf(300000)) <= 0) {
+            taxAmount = BigDecimal.ZERO;
+        } else if (annualSalary.compareTo(BigDecimal.valueOf(600000)) <= 0) {
+            taxAmount = annualSalary.subtract(BigDecimal.valueOf(300000)).multiply(BigDecimal.valueOf(0.05));
+        } else if (annualSalary.compareTo(BigDecimal.valueOf(900000)) <= 0) {
+            taxAmount = BigDecimal.valueOf(15000)
+                    .add(annualSalary.subtract(BigDecimal.valueOf(600000)).multiply(BigDecimal.valueOf(0.10)));
+        } else if (annualSalary.compareTo(BigDecimal.valueOf(1200000)) <= 0) {
+            taxAmount = BigDecimal.valueOf(45000)
+                    .add(annualSalary.subtract(BigDecimal.valueOf(900000)).multiply(BigDecimal.valueOf(0.15)));
+        } else if (annualSalary.compareTo(BigDecimal.valueOf(1500000)) <= 0) {
+            taxAmount = BigDecimal.valueOf(90000)
+                    .add(annualSalary.subtract(BigDecimal.valueOf(1200000)).multiply(BigDecimal.valueOf(0.20)));
+        } else {
+            taxAmount = BigDecimal.valueOf(150000)
+                    .add(annualSalary.subtract(BigDecimal.valueOf(1500000)).multiply(BigDecimal.valueOf(0.20)));
+        }
+        return taxAmount.divide(BigDecimal.valueOf(12), RoundingMode.HALF_UP).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,95 @@
+package com.crimsonlogic.payrollmanagementsystem.service;
+
+import com.crimsonlogic.payrollmanagementsystem.repository.HolidayRepository;
+import com.crimsonlogic.payrollmanagementsystem.serviceimpl.WorkingCalendarServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WorkingCalendarServiceImplTest {
+
+    private static final LocalDate NEW_YEAR = LocalDate.of(2024, 1, 1);
+    private static final LocalDate YEAR_END = LocalDate.of(2024, 12, 31);
+
+    private WorkingCalendarServiceImpl workingCalendarService;
+
+    @Mock
+    private HolidayRepository holidayRepository;
+
+    @BeforeEach
+    void setUp() {
+        workingCalendarService = new WorkingCalendarServiceImpl(holidayRepository,
+                List.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+    }
+
+    @Test
+    void testGetWorkingDays_SkipsWeekendsAndHolidays() {
+        when(holidayRepository.findHolidayDates(NEW_YEAR, YEAR_END)).thenReturn(List.of(LocalDate.of(2024, 1, 26)));
+
+        List<LocalDate> workingDays = workingCalendarService.getWorkingDays(LocalDate.of(2024, 1, 24),
+                LocalDate.of(2024, 1, 30));
+
+        assertThat(workingDays).containsExactly(LocalDate.of(2024, 1, 24), LocalDate.of(2024, 1, 25),
+                LocalDate.of(2024, 1, 29), LocalDate.of(2024, 1, 30));
+    }
+
+    @Test
+    void testIsWorkingDay_LoadsYearOnce() {
+        when(holidayRepository.findHolidayDates(NEW_YEAR, YEAR_END)).thenReturn(List.of());
+
+        assertThat(workingCalendarService.isWorkingDay(LocalDate.of(2024, 3, 4))).isTrue();
+        assertThat(workingCalendarService.isWorkingDay(LocalDate.of(2024, 3, 9))).isFalse();
+        assertThat(workingCalendarService.getWorkingDays(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)))
+                .hasSize(21);
+
+        verify(holidayRepository).findHolidayDates(NEW_YEAR, YEAR_END);
+    }
+
+    @Test
+    void testCountWorkingDays_SpansYears() {
+        when(holidayRepository.findHolidayDates(NEW_YEAR, YEAR_END)).thenReturn(List.of(LocalDate.of(2024, 1, 1)));
+        when(holidayRepository.findHolidayDates(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31)))
+                .thenReturn(List.of());
+
+        // Friday the 29th and the 2nd to the 5th, New Year's Day is a holiday
+        assertThat(workingCalendarService.countWorkingDays(LocalDate.of(2023, 12, 29), LocalDate.of(2024, 1, 5)))
+                .isEqualTo(5);
+        assertThat(workingCalendarService.countWorkingDays(LocalDate.of(2024, 1, 5), LocalDate.of(2024, 1, 4)))
+                .isZero();
+    }
+
+    @Test
+    void testCountWorkingDays_ConfiguredWeeklyOffDays() {
+        workingCalendarService = new WorkingCalendarServiceImpl(holidayRepository, List.of(DayOfWeek.SUNDAY));
+        when(holidayRepository.findHolidayDates(NEW_YEAR, YEAR_END)).thenReturn(List.of());
+
+        assertThat(workingCalendarService.countWorkingDays(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)))
+                .isEqualTo(26);
+        assertThat(workingCalendarService.isWorkingDay(LocalDate.of(2024, 3, 9))).isTrue();
+    }
+
+    @Test
+    void testEvictCalendars_ReloadsHolidays() {
+        when(holidayRepository.findHolidayDates(NEW_YEAR, YEAR_END))
+                .thenReturn(List.of())
+                .thenReturn(List.of(LocalDate.of(2024, 3, 4)));
+
+        assertThat(workingCalendarService.isWorkingDay(LocalDate.of(2024, 3, 4))).isTrue();
+        workingCalendarService.evictCalendars();
+
+        assertThat(workingCalendarService.isWorkingDay(LocalDate.of(2024, 3, 4))).isFalse();
+        verify(holidayRepository, times(2)).findHolidayDates(NEW_YEAR, YEAR_END);
+    }
+}
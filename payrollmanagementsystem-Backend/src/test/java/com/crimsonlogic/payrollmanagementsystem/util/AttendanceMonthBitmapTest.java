@@ -0,0 +1,154 @@
+package com.crimsonlogic.payrollmanagementsystem.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.AttendanceStatus;
+import com.crimsonlogic.payrollmanagementsystem.dto.AttendanceBitmapDTO;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Random;
+
+class AttendanceMonthBitmapTest {
+
+    private static final YearMonth MARCH = YearMonth.of(2024, 3);
+
+    @Test
+    void testSet_StatusAndHoursOfDay() {
+        AttendanceMonthBitmap bitmap = new AttendanceMonthBitmap(MARCH);
+        bitmap.set(1, AttendanceStatus.PRESENT, BigDecimal.valueOf(8));
+        bitmap.set(31, AttendanceStatus.HALF_DAY, new BigDecimal("4.5"));
+
+        assertEquals(AttendanceStatus.PRESENT, bitmap.statusOf(1));
+        assertEquals(AttendanceStatus.HALF_DAY, bitmap.statusOf(31));
+        assertNull(bitmap.statusOf(2));
+        assertFalse(bitmap.isRecorded(2));
+        assertThat(bitmap.totalHoursOf(1)).isEqualByComparingTo("8");
+        assertThat(bitmap.totalHoursOf(31)).isEqualByComparingTo("4.5");
+        assertNull(bitmap.totalHoursOf(2));
+    }
+
+    @Test
+    void testSet_StandardDaysNeedNoHourDeltas() {
+        AttendanceMonthBitmap bitmap = new AttendanceMonthBitmap(MARCH);
+        bitmap.set(4, AttendanceStatus.LEAVE, BigDecimal.valueOf(8));
+        bitmap.set(5, AttendanceStatus.PRESENT, null);
+        assertNull(bitmap.getHourDeltas());
+
+        bitmap.set(6, AttendanceStatus.PRESENT, new BigDecimal("9.75"));
+        assertEquals(31, bitmap.getHourDeltas().length);
+
+        // Back to a standard day, the deltas are dropped again
+        bitmap.set(6, AttendanceStatus.PRESENT, BigDecimal.valueOf(8));
+        assertNull(bitmap.getHourDeltas());
+    }
+
+    @Test
+    void testSet_HoursRoundedToQuarterHourAndClamped() {
+        AttendanceMonthBitmap bitmap = new AttendanceMonthBitmap(MARCH);
+        bitmap.set(1, AttendanceStatus.PRESENT, new BigDecimal("8.1"));
+        bitmap.set(2, AttendanceStatus.ABSENT, BigDecimal.ZERO);
+        bitmap.set(3, AttendanceStatus.PRESENT, BigDecimal.valueOf(60));
+
+        assertThat(bitmap.totalHoursOf(1)).isEqualByComparingTo("8");
+        assertThat(bitmap.totalHoursOf(2)).isEqualByComparingTo("0");
+        assertThat(bitmap.totalHoursOf(3)).isEqualByComparingTo("39.75");
+    }
+
+    @Test
+    void testSet_InvalidDay() {
+        AttendanceMonthBitmap bitmap = new AttendanceMonthBitmap(YearMonth.of(2023, 2));
+
+        assertThrows(IllegalArgumentException.class, () -> bitmap.set(29, AttendanceStatus.PRESENT, null));
+        assertThrows(IllegalArgumentException.class, () -> bitmap.statusOf(0));
+    }
+
+    @Test
+    void testCount_MatchesDayByDayCount() {
+        Random random = new Random(42);
+        AttendanceStatus[] statuses = AttendanceStatus.values();
+        for (int run = 0; run < 200; run++) {
+            AttendanceMonthBitmap bitmap = new AttendanceMonthBitmap(MARCH);
+            int[] expected = new int[statuses.length];
+            for (int day = 1; day <= 31; day++) {
+                if (random.nextInt(4) > 0) {
+                    AttendanceStatus status = statuses[random.nextInt(statuses.length)];
+                    bitmap.set(day, status, null);
+                }
+            }
+            for (int day = 1; day <= 31; day++) {
+                if (bitmap.isRecorded(day)) {
+                    expected[bitmap.statusOf(day).ordinal()]++;
+                }
+            }
+            for (AttendanceStatus status : statuses) {
+                assertEquals(expected[status.ordinal()], bitmap.count(status), status + " in run " + run);
+            }
+        }
+    }
+
+    @Test
+    void testTotalHours() {
+        AttendanceMonthBitmap bitmap = new AttendanceMonthBitmap(MARCH);
+        bitmap.set(1, AttendanceStatus.PRESENT, null);
+        bitmap.set(2, AttendanceStatus.PRESENT, new BigDecimal("10.25"));
+        bitmap.set(3, AttendanceStatus.HALF_DAY, BigDecimal.valueOf(4));
+
+        assertThat(bitmap.totalHours()).isEqualByComparingTo("22.25");
+        assertThat(new AttendanceMonthBitmap(MARCH).totalHours()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void testApply_ReplacesOnlyChangedDays() {
+        AttendanceMonthBitmap bitmap = new AttendanceMonthBitmap(MARCH);
+        bitmap.set(1, AttendanceStatus.ABSENT, BigDecimal.ZERO);
+        bitmap.set(2, AttendanceStatus.HALF_DAY, BigDecimal.valueOf(4));
+        bitmap.set(3, AttendanceStatus.PRESENT, null);
+        AttendanceMonthBitmap changes = new AttendanceMonthBitmap(MARCH);
+        changes.set(1, AttendanceStatus.LEAVE, null);
+        changes.set(4, AttendanceStatus.PRESENT, new BigDecimal("9"));
+
+        bitmap.apply(changes);
+
+        assertEquals(AttendanceStatus.LEAVE, bitmap.statusOf(1));
+        assertThat(bitmap.totalHoursOf(1)).isEqualByComparingTo("8");
+        assertEquals(AttendanceStatus.HALF_DAY, bitmap.statusOf(2));
+        assertThat(bitmap.totalHoursOf(2)).isEqualByComparingTo("4");
+        assertEquals(AttendanceStatus.PRESENT, bitmap.statusOf(3));
+        assertThat(bitmap.totalHoursOf(4)).isEqualByComparingTo("9");
+        assertEquals(0, bitmap.count(AttendanceStatus.ABSENT));
+    }
+
+    @Test
+    void testToDto_RoundTrip() {
+        AttendanceMonthBitmap bitmap = new AttendanceMonthBitmap(MARCH);
+        bitmap.set(15, AttendanceStatus.ABSENT, BigDecimal.ZERO);
+        bitmap.set(31, AttendanceStatus.LEAVE, null);
+
+        AttendanceBitmapDTO dto = bitmap.toDto("emp1");
+        AttendanceMonthBitmap decoded = AttendanceMonthBitmap.of(dto);
+
+        assertEquals("emp1", dto.getEmployeeId());
+        assertEquals(2024, dto.getBitmapYear());
+        assertEquals(3, dto.getBitmapMonth());
+        assertEquals(bitmap.getRecordedDays(), decoded.getRecordedDays());
+        assertEquals(bitmap.getStatusCodes(), decoded.getStatusCodes());
+        assertThat(decoded.getHourDeltas()).isEqualTo(bitmap.getHourDeltas());
+        assertEquals(AttendanceStatus.LEAVE, decoded.statusOf(31));
+    }
+
+    @Test
+    void testStatusFromLabel() {
+        assertEquals(AttendanceStatus.HALF_DAY, AttendanceStatus.fromLabel("half day"));
+        assertEquals(AttendanceStatus.ABSENT, AttendanceStatus.fromLabel("Absent"));
+        assertNull(AttendanceStatus.fromLabel("Holiday"));
+        assertNull(AttendanceStatus.fromLabel(null));
+        assertSame(AttendanceStatus.LEAVE, AttendanceStatus.fromCode(AttendanceStatus.LEAVE.getCode()));
+    }
+}
@@ -0,0 +1,51 @@
+package com.crimsonlogic.payrollmanagementsystem.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.crimsonlogic.payrollmanagementsystem.domain.BonusRule;
+import com.crimsonlogic.payrollmanagementsystem.dto.BonusRuleDTO;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+class BonusRuleSetTest {
+
+    private final BonusRuleSet defaultRuleSet = new BonusRuleSet(1, BonusRuleSet.defaultRules("TYP1"));
+
+    @Test
+    void testBonusRupees_DefaultRules() {
+        LocalDate dateOfBirth = LocalDate.of(1990, 11, 5);
+
+        // Birthday and Diwali bonus in November, marriage bonus for the approved leave
+        assertEquals(3000, defaultRuleSet.bonusRupees(YearMonth.of(2024, 11), dateOfBirth, Set.of()));
+        assertEquals(13000, defaultRuleSet.bonusRupees(YearMonth.of(2024, 11), dateOfBirth, Set.of("TYP1")));
+        assertEquals(0, defaultRuleSet.bonusRupees(YearMonth.of(2024, 3), dateOfBirth, Set.of("TYP2")));
+        assertEquals(0, defaultRuleSet.bonusRupees(YearMonth.of(2024, 3), null, Set.of()));
+    }
+
+    @Test
+    void testBonusRupees_AddedFestivalRule() {
+        List<BonusRuleDTO> rules = new ArrayList<>(BonusRuleSet.defaultRules(null));
+        rules.add(new BonusRuleDTO(null, null, "Pongal Bonus", BonusRule.MONTHLY_RULE,
+                new BigDecimal("1500.00"), 1, null));
+        rules.add(new BonusRuleDTO(null, null, "Year End Bonus", BonusRule.MONTHLY_RULE,
+                BigDecimal.valueOf(500), 1, null));
+        BonusRuleSet ruleSet = new BonusRuleSet(2, rules);
+
+        assertEquals(2000, ruleSet.bonusRupees(YearMonth.of(2025, 1), null, Set.of()));
+        assertEquals(2000, ruleSet.bonusRupees(YearMonth.of(2025, 11), null, Set.of()));
+        assertThat(ruleSet.getLeaveTypeIds()).isEmpty();
+    }
+
+    @Test
+    void testGetLeaveTypeIds() {
+        assertThat(defaultRuleSet.getLeaveTypeIds()).containsExactly("TYP1");
+        assertEquals(1, defaultRuleSet.getVersion());
+    }
+}
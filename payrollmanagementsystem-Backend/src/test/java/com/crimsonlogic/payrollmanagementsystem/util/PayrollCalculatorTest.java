@@ -0,0 +1,156 @@
+package com.crimsonlogic.payrollmanagementsystem.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRecordDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.TaxSlabDTO;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+class PayrollCalculatorTest {
+
+    private final TaxSlabTable defaultTable =
+            new TaxSlabTable(1, TaxSlabTable.defaultSlabs(), TaxSlabTable.DEFAULT_CACHE_CAPACITY);
+
+    // Slabs with fractional limits and finer rates than the default regime
+    private final TaxSlabTable customTable = new TaxSlabTable(2, List.of(
+            new TaxSlabDTO(null, 2, new BigDecimal("0.00"), new BigDecimal("0.0000"), new BigDecimal("0.00")),
+            new TaxSlabDTO(null, 2, new BigDecimal("250000.50"), new BigDecimal("0.0375"), new BigDecimal("0.00")),
+            new TaxSlabDTO(null, 2, new BigDecimal("700000.00"), new BigDecimal("0.1250"), new BigDecimal("16874.98")),
+            new TaxSlabDTO(null, 2, new BigDecimal("2000000.00"), new BigDecimal("0.3333"), new BigDecimal("179374.98"))),
+            TaxSlabTable.DEFAULT_CACHE_CAPACITY);
+
+    private static final EnumSet<DayOfWeek> WEEKENDS = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+
+    // March 2024 has 21 working days without holidays
+    private final WorkingCalendar calendar2024 = WorkingCalendar.of(2024, WEEKENDS, List.of());
+
+    @Test
+    void testCalculate_MatchesBigDecimalCalculation() {
+        Random random = new Random(7);
+        Map<Integer, WorkingCalendar> calendars = new HashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            int scale = random.nextInt(3);
+            BigDecimal costToCompany = BigDecimal.valueOf(random.nextInt(400000000), 2).setScale(scale,
+                    java.math.RoundingMode.DOWN);
+            YearMonth yearMonth = YearMonth.of(2020 + random.nextInt(8), 1 + random.nextInt(12));
+            LocalDate joiningDate = random.nextInt(4) == 0
+                    ? yearMonth.atDay(1 + random.nextInt(yearMonth.lengthOfMonth()))
+                    : LocalDate.of(2015, 1, 1);
+            long absentCount = random.nextInt(32);
+            long bonusRupees = random.nextInt(4) == 0 ? random.nextInt(20000) : 0;
+            BigDecimal overtimeHours = random.nextInt(3) == 0 ? BigDecimal.valueOf(random.nextInt(6000), 2) : null;
+            BigDecimal overtimeMultiplier = random.nextBoolean()
+                    ? BigDecimal.valueOf(100 + random.nextInt(200), 2) : null;
+            TaxSlabTable taxSlabTable = random.nextBoolean() ? defaultTable : customTable;
+            WorkingCalendar workingCalendar = calendars.computeIfAbsent(yearMonth.getYear(),
+                    year -> WorkingCalendar.of(year, WEEKENDS, List.of(LocalDate.of(year, 1, 26),
+                            LocalDate.of(year, 8, 15), LocalDate.of(year, 10, 2))));
+
+            SalaryRecordDTO expected = PayrollCalculator.calculateWithBigDecimal("emp" + i, yearMonth, costToCompany,
+                    joiningDate, absentCount, bonusRupees, overtimeHours, overtimeMultiplier, workingCalendar,
+                    taxSlabTable);
+            SalaryRecordDTO actual = PayrollCalculator.calculate("emp" + i, yearMonth, costToCompany,
+                    joiningDate, absentCount, bonusRupees, overtimeHours, overtimeMultiplier, workingCalendar,
+                    taxSlabTable);
+
+            String inputs = costToCompany + " " + yearMonth + " " + absentCount + " " + overtimeHours;
+            assertEquals(expected.getGrossSalary(), actual.getGrossSalary(), inputs);
+            assertEquals(expected.getPenaltyAmount(), actual.getPenaltyAmount(), inputs);
+            assertEquals(expected.getPfAmount(), actual.getPfAmount(), inputs);
+            assertEquals(expected.getTaxAmount(), actual.getTaxAmount(), inputs);
+            assertEquals(expected.getBonusAmount(), actual.getBonusAmount(), inputs);
+            assertEquals(expected.getOvertimeAmount(), actual.getOvertimeAmount(), inputs);
+            assertEquals(expected.getNetSalary(), actual.getNetSalary(), inputs);
+            assertEquals(expected.getPayPeriodStart(), actual.getPayPeriodStart());
+            assertEquals(expected.getPayPeriodEnd(), actual.getPayPeriodEnd());
+        }
+    }
+
+    @Test
+    void testCalculate_FallsBackForFinerScale() {
+        YearMonth yearMonth = YearMonth.of(2024, 3);
+        BigDecimal costToCompany = new BigDecimal("600000.125");
+
+        SalaryRecordDTO expected = PayrollCalculator.calculateWithBigDecimal("emp1", yearMonth, costToCompany,
+                LocalDate.of(2020, 1, 1), 3, 0, null, null, calendar2024, defaultTable);
+        SalaryRecordDTO actual = PayrollCalculator.calculate("emp1", yearMonth, costToCompany,
+                LocalDate.of(2020, 1, 1), 3, 0, null, null, calendar2024, defaultTable);
+
+        assertEquals(expected.getGrossSalary(), actual.getGrossSalary());
+        assertEquals(expected.getPenaltyAmount(), actual.getPenaltyAmount());
+        assertEquals(expected.getNetSalary(), actual.getNetSalary());
+    }
+
+    @Test
+    void testCompute_KnownAmounts() {
+        PayrollAmounts amounts = new PayrollAmounts();
+
+        // 600000.00 a year in a month of 21 working days with two absences
+        PayrollKernel.compute(60000000L, 2, 21, 2, 0, 0, 150, defaultTable, amounts);
+
+        assertEquals(5000000L, amounts.getGrossSalaryPaise());
+        assertEquals(476190L, amounts.getPenaltyPaise());
+        assertEquals(250000L, amounts.getPfPaise());
+        assertEquals(125000L, amounts.getTaxPaise());
+        assertEquals(0L, amounts.getOvertimePaise());
+        assertEquals(4148810L, amounts.getNetSalaryPaise());
+    }
+
+    @Test
+    void testCompute_KnownOvertimeAmount() {
+        PayrollAmounts amounts = new PayrollAmounts();
+
+        // Ten overtime hours at one and a half times the hourly share of 2380.95 a day
+        PayrollKernel.compute(60000000L, 2, 21, 2, 0, 1000, 150, defaultTable, amounts);
+
+        assertEquals(446428L, amounts.getOvertimePaise());
+        assertEquals(4595238L, amounts.getNetSalaryPaise());
+    }
+
+    @Test
+    void testCalculate_DeductsWorkingDaysBeforeJoining() {
+        YearMonth yearMonth = YearMonth.of(2024, 3);
+
+        // Joining on Monday the 11th misses the 1st and the week of the 4th
+        SalaryRecordDTO result = PayrollCalculator.calculate("emp1", yearMonth, new BigDecimal("600000.00"),
+                LocalDate.of(2024, 3, 11), 0, 0, null, null, calendar2024, defaultTable);
+
+        assertEquals(new BigDecimal("14285.70"), result.getPenaltyAmount());
+    }
+
+    @Test
+    void testCalculate_HolidaysRaisePerDaySalary() {
+        YearMonth yearMonth = YearMonth.of(2024, 3);
+        WorkingCalendar withHoliday = WorkingCalendar.of(2024, WEEKENDS, List.of(LocalDate.of(2024, 3, 25)));
+
+        SalaryRecordDTO result = PayrollCalculator.calculate("emp1", yearMonth, new BigDecimal("600000.00"),
+                LocalDate.of(2020, 1, 1), 1, 0, null, null, withHoliday, defaultTable);
+
+        assertEquals(new BigDecimal("2500.00"), result.getPenaltyAmount());
+    }
+
+    @Test
+    void testCalculate_FallsBackForFinerOvertimeHours() {
+        YearMonth yearMonth = YearMonth.of(2024, 3);
+        BigDecimal overtimeHours = new BigDecimal("2.125");
+
+        SalaryRecordDTO expected = PayrollCalculator.calculateWithBigDecimal("emp1", yearMonth,
+                new BigDecimal("600000.00"), LocalDate.of(2020, 1, 1), 0, 0, overtimeHours, null, calendar2024,
+                defaultTable);
+        SalaryRecordDTO actual = PayrollCalculator.calculate("emp1", yearMonth, new BigDecimal("600000.00"),
+                LocalDate.of(2020, 1, 1), 0, 0, overtimeHours, null, calendar2024, defaultTable);
+
+        assertEquals(expected.getOvertimeAmount(), actual.getOvertimeAmount());
+        assertEquals(expected.getNetSalary(), actual.getNetSalary());
+    }
+}
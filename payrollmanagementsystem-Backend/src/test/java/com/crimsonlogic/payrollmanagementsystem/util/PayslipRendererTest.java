@@ -0,0 +1,62 @@
+package com.crimsonlogic.payrollmanagementsystem.util;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.PayslipDTO;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PayslipRendererTest {
+
+    @Test
+    void testRender_Contents() throws IOException {
+        byte[] document = PayslipRenderer.render(createPayslip("John Doe"), 20);
+
+        try (PDDocument payslip = Loader.loadPDF(document)) {
+            assertEquals(1, payslip.getNumberOfPages());
+            String text = new PDFTextStripper().getText(payslip);
+            assertThat(text).contains("Payslip for month of March 2024")
+                    .contains("John Doe")
+                    .contains("Software Engineer")
+                    .contains("2020-01-15")
+                    .contains("Days in Month 31")
+                    .contains("Effective Working Days 20")
+                    .contains("Tax Amount: 1000.00")
+                    .contains("Net Salary 45000.00");
+        }
+    }
+
+    @Test
+    void testRender_UnsupportedCharactersAreReplaced() throws IOException {
+        byte[] document = PayslipRenderer.render(createPayslip("Zoë 李"), 20);
+
+        try (PDDocument payslip = Loader.loadPDF(document)) {
+            assertThat(new PDFTextStripper().getText(payslip)).contains("Zoë ?");
+        }
+    }
+
+    @Test
+    void testRender_MissingDetails() throws IOException {
+        PayslipDTO payslip = new PayslipDTO();
+        payslip.setPayPeriodStart(LocalDate.of(2024, 2, 1));
+
+        try (PDDocument document = Loader.loadPDF(PayslipRenderer.render(payslip, 21))) {
+            assertThat(new PDFTextStripper().getText(document)).contains("Payslip for month of February 2024")
+                    .contains("Net Salary 0");
+        }
+    }
+
+    private PayslipDTO createPayslip(String fullName) {
+        return new PayslipDTO("emp1", fullName, LocalDate.of(2020, 1, 15), "Software Engineer",
+                LocalDate.of(2024, 3, 1), new BigDecimal("50000.00"), new BigDecimal("1000"),
+                new BigDecimal("750.00"), new BigDecimal("2500.00"), new BigDecimal("2500.00"), new BigDecimal("1000.00"),
+                new BigDecimal("45000.00"));
+    }
+}
@@ -0,0 +1,63 @@
+package com.crimsonlogic.payrollmanagementsystem.util;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.PunchEventDTO;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PunchHoursTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 4, 1);
+
+    @Test
+    void testWorkedHours_AddsPairsOfTheDay() {
+        Map<LocalDate, BigDecimal> hours = PunchHours.workedHours(List.of(
+                punch(DAY.atTime(9, 0), "IN"), punch(DAY.atTime(13, 0), "OUT"),
+                punch(DAY.atTime(13, 45), "IN"), punch(DAY.atTime(18, 5), "OUT")));
+
+        assertEquals(Map.of(DAY, new BigDecimal("8.33")), hours);
+    }
+
+    @Test
+    void testWorkedHours_NightShiftCountsOnStartDay() {
+        Map<LocalDate, BigDecimal> hours = PunchHours.workedHours(List.of(
+                punch(DAY.atTime(22, 0), "IN"), punch(DAY.plusDays(1).atTime(7, 30), "OUT")));
+
+        assertEquals(Map.of(DAY, new BigDecimal("9.50")), hours);
+    }
+
+    @Test
+    void testWorkedHours_SkipsIncompletePairs() {
+        Map<LocalDate, BigDecimal> hours = PunchHours.workedHours(List.of(
+                punch(DAY.atTime(6, 0), "OUT"),
+                punch(DAY.atTime(8, 0), "IN"), punch(DAY.atTime(9, 0), "IN"), punch(DAY.atTime(17, 0), "OUT"),
+                punch(DAY.plusDays(1).atTime(9, 0), "IN")));
+
+        assertEquals(Map.of(DAY, new BigDecimal("8.00")), hours);
+    }
+
+    @Test
+    void testWorkedHours_IgnoresPairLongerThanShift() {
+        Map<LocalDate, BigDecimal> hours = PunchHours.workedHours(List.of(
+                punch(DAY.atTime(9, 0), "IN"), punch(DAY.plusDays(1).atTime(9, 0), "OUT")));
+
+        assertTrue(hours.isEmpty());
+    }
+
+    @Test
+    void testOvertimeHours() {
+        assertEquals(new BigDecimal("1.50"), PunchHours.overtimeHours(new BigDecimal("9.50"), BigDecimal.valueOf(8)));
+        assertEquals(new BigDecimal("0.00"), PunchHours.overtimeHours(new BigDecimal("7.25"), BigDecimal.valueOf(8)));
+    }
+
+    private PunchEventDTO punch(LocalDateTime punchTime, String direction) {
+        return new PunchEventDTO("emp1", punchTime, direction, "GATE-1", punchTime);
+    }
+}
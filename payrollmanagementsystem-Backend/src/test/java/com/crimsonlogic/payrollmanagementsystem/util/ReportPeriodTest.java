@@ -0,0 +1,92 @@
+package com.crimsonlogic.payrollmanagementsystem.util;
+
+import com.crimsonlogic.payrollmanagementsystem.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Year;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReportPeriodTest {
+
+    @Test
+    void testOf_MultiYearRange() throws ResourceNotFoundException {
+        ReportPeriod period = ReportPeriod.of(LocalDate.of(2019, 4, 1), LocalDate.of(2024, 3, 31));
+
+        assertEquals(LocalDate.of(2019, 4, 1), period.getStartDate());
+        assertEquals(LocalDate.of(2024, 3, 31), period.getEndDate());
+    }
+
+    @Test
+    void testOf_InvalidRange() {
+        assertThrows(ResourceNotFoundException.class,
+                () -> ReportPeriod.of(LocalDate.of(2024, 3, 31), LocalDate.of(2024, 1, 1)));
+        assertThrows(ResourceNotFoundException.class, () -> ReportPeriod.of(null, LocalDate.of(2024, 1, 1)));
+    }
+
+    @Test
+    void testOfQuarter_GivenYear() throws ResourceNotFoundException {
+        ReportPeriod period = ReportPeriod.ofQuarter("Quarter 4", 2020);
+
+        assertEquals(LocalDate.of(2020, 10, 1), period.getStartDate());
+        assertEquals(LocalDate.of(2020, 12, 31), period.getEndDate());
+    }
+
+    @Test
+    void testOfQuarter_CurrentYear() throws ResourceNotFoundException {
+        ReportPeriod period = ReportPeriod.ofQuarter("quarter 1", null);
+
+        assertEquals(LocalDate.of(Year.now().getValue(), 1, 1), period.getStartDate());
+        assertEquals(LocalDate.of(Year.now().getValue(), 3, 31), period.getEndDate());
+    }
+
+    @Test
+    void testOfQuarter_Invalid() {
+        assertThrows(ResourceNotFoundException.class, () -> ReportPeriod.ofQuarter("quarter 5", 2024));
+        assertThrows(ResourceNotFoundException.class, () -> ReportPeriod.ofQuarter(null, 2024));
+        assertThrows(ResourceNotFoundException.class, () -> ReportPeriod.ofQuarter("quarter 1", 1_000_000_000));
+    }
+
+    @Test
+    void testOfFiscalYear_AprilToMarch() throws ResourceNotFoundException {
+        ReportPeriod period = ReportPeriod.ofFiscalYear(2023);
+
+        assertEquals(LocalDate.of(2023, 4, 1), period.getStartDate());
+        assertEquals(LocalDate.of(2024, 3, 31), period.getEndDate());
+    }
+
+    @Test
+    void testOfYear_CalendarYear() throws ResourceNotFoundException {
+        ReportPeriod period = ReportPeriod.ofYear(2024);
+
+        assertEquals(LocalDate.of(2024, 1, 1), period.getStartDate());
+        assertEquals(LocalDate.of(2024, 12, 31), period.getEndDate());
+    }
+
+    @Test
+    void testOfMonth_LeapFebruary() throws ResourceNotFoundException {
+        ReportPeriod period = ReportPeriod.ofMonth(2024, 2);
+
+        assertEquals(LocalDate.of(2024, 2, 1), period.getStartDate());
+        assertEquals(LocalDate.of(2024, 2, 29), period.getEndDate());
+    }
+
+    @Test
+    void testOfMonth_Invalid() {
+        assertThrows(ResourceNotFoundException.class, () -> ReportPeriod.ofMonth(2024, 0));
+        assertThrows(ResourceNotFoundException.class, () -> ReportPeriod.ofMonth(2024, 13));
+        assertThrows(ResourceNotFoundException.class, () -> ReportPeriod.ofMonth(1_000_000_000, 1));
+    }
+
+    @Test
+    void testResolve() throws ResourceNotFoundException {
+        assertEquals(LocalDate.of(2023, 4, 1), ReportPeriod.resolve(null, null, 2023).getStartDate());
+        assertEquals(LocalDate.of(2022, 1, 1),
+                ReportPeriod.resolve(LocalDate.of(2022, 1, 1), LocalDate.of(2023, 6, 30), null).getStartDate());
+        assertThrows(ResourceNotFoundException.class, () -> ReportPeriod.resolve(null, null, null));
+        assertThrows(ResourceNotFoundException.class,
+                () -> ReportPeriod.resolve(LocalDate.of(2022, 1, 1), null, 2023));
+    }
+}
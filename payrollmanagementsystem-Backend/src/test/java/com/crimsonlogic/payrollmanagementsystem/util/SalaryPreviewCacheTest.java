@@ -0,0 +1,131 @@
+package com.crimsonlogic.payrollmanagementsystem.util;
+
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryPreviewCacheStatsDTO;
+import com.crimsonlogic.payrollmanagementsystem.dto.SalaryRecordDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SalaryPreviewCacheTest {
+
+    private static final YearMonth MARCH = YearMonth.of(2024, 3);
+    private static final YearMonth APRIL = YearMonth.of(2024, 4);
+
+    private SalaryPreviewCache salaryPreviewCache;
+
+    @BeforeEach
+    void setUp() {
+        salaryPreviewCache = new SalaryPreviewCache(2);
+    }
+
+    @Test
+    void testGet_HitReturnsCopy() {
+        SalaryRecordDTO preview = createPreview("emp1", "45000.00");
+        salaryPreviewCache.put("emp1", MARCH, preview, salaryPreviewCache.generation());
+
+        SalaryRecordDTO cached = salaryPreviewCache.get("emp1", MARCH);
+        cached.setNetSalary(BigDecimal.ZERO);
+
+        assertNotSame(preview, cached);
+        assertEquals(new BigDecimal("45000.00"), salaryPreviewCache.get("emp1", MARCH).getNetSalary());
+        assertNull(salaryPreviewCache.get("emp1", APRIL));
+        SalaryPreviewCacheStatsDTO stats = salaryPreviewCache.getStats();
+        assertEquals(2L, stats.getHits());
+        assertEquals(1L, stats.getMisses());
+    }
+
+    @Test
+    void testGet_KeepsAllAmounts() {
+        SalaryRecordDTO preview = createPreview("emp1", "45000.00");
+        preview.setGrossSalary(new BigDecimal("50000.00"));
+        preview.setBonusAmount(new BigDecimal("2000.00"));
+        preview.setOvertimeAmount(new BigDecimal("1339.28"));
+        preview.setPenaltyAmount(new BigDecimal("476.19"));
+        preview.setPfAmount(new BigDecimal("6000.00"));
+        preview.setTaxAmount(new BigDecimal("1863.09"));
+        salaryPreviewCache.put("emp1", MARCH, preview, salaryPreviewCache.generation());
+
+        SalaryRecordDTO cached = salaryPreviewCache.get("emp1", MARCH);
+
+        assertEquals(new BigDecimal("50000.00"), cached.getGrossSalary());
+        assertEquals(new BigDecimal("2000.00"), cached.getBonusAmount());
+        assertEquals(new BigDecimal("1339.28"), cached.getOvertimeAmount());
+        assertEquals(new BigDecimal("476.19"), cached.getPenaltyAmount());
+        assertEquals(new BigDecimal("6000.00"), cached.getPfAmount());
+        assertEquals(new BigDecimal("1863.09"), cached.getTaxAmount());
+        assertEquals(new BigDecimal("45000.00"), cached.getNetSalary());
+    }
+
+    @Test
+    void testPut_SkippedAfterInvalidation() {
+        long generation = salaryPreviewCache.generation();
+        salaryPreviewCache.invalidate("emp1", MARCH, MARCH);
+
+        salaryPreviewCache.put("emp1", MARCH, createPreview("emp1", "45000.00"), generation);
+
+        assertNull(salaryPreviewCache.get("emp1", MARCH));
+    }
+
+    @Test
+    void testInvalidate_OnlyMatchingPeriods() {
+        salaryPreviewCache.put("emp1", MARCH, createPreview("emp1", "45000.00"), salaryPreviewCache.generation());
+        salaryPreviewCache.put("emp2", MARCH, createPreview("emp2", "30000.00"), salaryPreviewCache.generation());
+
+        salaryPreviewCache.invalidate("emp1", MARCH, APRIL);
+
+        assertNull(salaryPreviewCache.get("emp1", MARCH));
+        assertNotNull(salaryPreviewCache.get("emp2", MARCH));
+        assertEquals(1L, salaryPreviewCache.getStats().getInvalidations());
+    }
+
+    @Test
+    void testInvalidateEmployee() {
+        salaryPreviewCache.put("emp1", MARCH, createPreview("emp1", "45000.00"), salaryPreviewCache.generation());
+        salaryPreviewCache.put("emp1", APRIL, createPreview("emp1", "45000.00"), salaryPreviewCache.generation());
+
+        salaryPreviewCache.invalidateEmployee("emp1");
+
+        assertEquals(0, salaryPreviewCache.getStats().getSize());
+    }
+
+    @Test
+    void testInvalidateAll() {
+        salaryPreviewCache.put("emp1", MARCH, createPreview("emp1", "45000.00"), salaryPreviewCache.generation());
+        salaryPreviewCache.put("emp2", MARCH, createPreview("emp2", "30000.00"), salaryPreviewCache.generation());
+
+        salaryPreviewCache.invalidateAll();
+
+        assertEquals(0, salaryPreviewCache.getStats().getSize());
+    }
+
+    @Test
+    void testPut_EvictsLeastRecentlyUsed() {
+        salaryPreviewCache.put("emp1", MARCH, createPreview("emp1", "45000.00"), salaryPreviewCache.generation());
+        salaryPreviewCache.put("emp2", MARCH, createPreview("emp2", "30000.00"), salaryPreviewCache.generation());
+        salaryPreviewCache.get("emp1", MARCH);
+
+        salaryPreviewCache.put("emp3", MARCH, createPreview("emp3", "20000.00"), salaryPreviewCache.generation());
+
+        assertNull(salaryPreviewCache.get("emp2", MARCH));
+        assertNotNull(salaryPreviewCache.get("emp1", MARCH));
+        SalaryPreviewCacheStatsDTO stats = salaryPreviewCache.getStats();
+        assertEquals(1L, stats.getEvictions());
+        assertEquals(2, stats.getSize());
+        assertEquals(2, stats.getCapacity());
+    }
+
+    private SalaryRecordDTO createPreview(String employeeId, String netSalary) {
+        SalaryRecordDTO preview = new SalaryRecordDTO();
+        preview.setEmployeeId(employeeId);
+        preview.setPayPeriodStart(MARCH.atDay(1));
+        preview.setNetSalary(new BigDecimal(netSalary));
+        return preview;
+    }
+}
@@ -0,0 +1,58 @@
+package com.crimsonlogic.payrollmanagementsystem.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorkingCalendarTest {
+
+    private static final EnumSet<DayOfWeek> WEEKENDS = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+
+    @Test
+    void testIsWorkingDay_SkipsWeekendsAndHolidays() {
+        WorkingCalendar calendar = WorkingCalendar.of(2024, WEEKENDS, List.of(LocalDate.of(2024, 1, 26)));
+
+        assertTrue(calendar.isWorkingDay(LocalDate.of(2024, 1, 25)));
+        assertFalse(calendar.isWorkingDay(LocalDate.of(2024, 1, 26)));
+        assertFalse(calendar.isWorkingDay(LocalDate.of(2024, 1, 27)));
+        assertFalse(calendar.isWorkingDay(LocalDate.of(2024, 1, 28)));
+        assertTrue(calendar.isWorkingDay(LocalDate.of(2024, 12, 31)));
+        assertEquals(2024, calendar.getYear());
+    }
+
+    @Test
+    void testCountWorkingDays_MatchesDayByDayCount() {
+        WorkingCalendar calendar = WorkingCalendar.of(2024, WEEKENDS,
+                List.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 25), LocalDate.of(2024, 12, 31)));
+
+        LocalDate yearStart = LocalDate.of(2024, 1, 1);
+        for (int start = 0; start < 366; start += 7) {
+            int expected = 0;
+            for (int end = start; end < 366; end++) {
+                if (calendar.isWorkingDay(yearStart.plusDays(end))) {
+                    expected++;
+                }
+                assertEquals(expected, calendar.countWorkingDays(yearStart.plusDays(start), yearStart.plusDays(end)));
+            }
+        }
+        assertEquals(20, calendar.countWorkingDays(YearMonth.of(2024, 3)));
+        assertEquals(0, calendar.countWorkingDays(LocalDate.of(2024, 3, 2), LocalDate.of(2024, 3, 1)));
+    }
+
+    @Test
+    void testOf_IgnoresHolidaysOfOtherYears() {
+        WorkingCalendar calendar = WorkingCalendar.of(2024, WEEKENDS, List.of(LocalDate.of(2023, 1, 26)));
+
+        assertTrue(calendar.isWorkingDay(LocalDate.of(2024, 1, 26)));
+        assertThrows(IllegalArgumentException.class, () -> calendar.isWorkingDay(LocalDate.of(2023, 1, 26)));
+    }
+}
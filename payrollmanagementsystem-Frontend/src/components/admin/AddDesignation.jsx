@@ -61,7 +61,10 @@ const AddDesignation = () => {
     try {
       await axios.post(
         "http://localhost:8080/payrollmanagementsystem/designation/adddesignation",
-        { designationName: values.designationName }
+        {
+          designationName: values.designationName,
+          overtimeMultiplier: values.overtimeMultiplier === "" ? null : values.overtimeMultiplier,
+        }
       );
       resetForm();
       setShowAddModal(false);
@@ -78,6 +81,7 @@ const AddDesignation = () => {
     if (designationToUpdate) {
 
       const designationExists = designations.some(designation =>
+        designation.designationId !== designationToUpdate.designationId &&
         designation.designationName.toLowerCase() === values.designationName.toLowerCase()
       );
   
@@ -90,7 +94,11 @@ const AddDesignation = () => {
       try {
         await axios.post(
           "http://localhost:8080/payrollmanagementsystem/designation/updatedesignation",
-          { designationId: designationToUpdate.designationId, designationName: values.designationName }
+          {
+            designationId: designationToUpdate.designationId,
+            designationName: values.designationName,
+            overtimeMultiplier: values.overtimeMultiplier === "" ? null : values.overtimeMultiplier,
+          }
         );
         resetForm();
         setShowUpdateModal(false);
@@ -141,6 +149,12 @@ const AddDesignation = () => {
       .min(7, "Designation name must be at least 7 characters")
       .max(30, "Designation name must not exceed 30 characters")
       .required("Designation name is required"),
+    overtimeMultiplier: Yup.number()
+      .transform((value, original) => (original === "" ? undefined : value))
+      .positive("Overtime multiplier must be positive")
+      .max(99.99, "Overtime multiplier must not exceed 99.99")
+      .test("decimals", "Overtime multiplier can have at most two decimals",
+        (value) => value === undefined || /^\d+(\.\d{1,2})?$/.test(String(value))),
   });
 
   return (
@@ -163,13 +177,14 @@ const AddDesignation = () => {
             <thead>
               <tr>
                 <th style={{width:'250px'}}>Designation Name</th>
+                <th style={{width:'150px'}}>Overtime Multiplier</th>
                 <th style={{width:'80px'}}>Actions</th>
               </tr>
             </thead>
             <tbody>
               {designations.length === 0 ? (
                 <tr>
-                  <td colSpan="2" className="text-center">
+                  <td colSpan="3" className="text-center">
                     No rows found
                   </td>
                 </tr>
@@ -177,6 +192,7 @@ const AddDesignation = () => {
                 designations.map((designation) => (
                   <tr key={designation.designationId}>
                     <td>{designation.designationName}</td>
+                    <td>{designation.overtimeMultiplier ?? "Default"}</td>
                     <td>
                       <Button
                         className="desg-update-button"
@@ -209,7 +225,7 @@ const AddDesignation = () => {
           </Modal.Header>
           <Modal.Body>
             <Formik
-              initialValues={{ designationName: "" }}
+              initialValues={{ designationName: "", overtimeMultiplier: "" }}
               validationSchema={validationSchema}
               onSubmit={handleAddDesignation}
             >
@@ -244,6 +260,26 @@ const AddDesignation = () => {
                       {errors.designationName}
                     </Form.Control.Feedback>
                   </Form.Group>
+                  <Form.Group controlId="overtimeMultiplier" style={{ marginTop: "8px" }}>
+                    <Form.Label style={{fontWeight:"bold" }}>
+                      Overtime Multiplier
+                    </Form.Label>
+                    <Form.Control
+                      type="number"
+                      step="0.01"
+                      placeholder="Default"
+                      value={values.overtimeMultiplier}
+                      onChange={(e) => {
+                        handleChange(e);
+                        setFieldTouched("overtimeMultiplier", true);
+                      }}
+                      onBlur={handleBlur}
+                      isInvalid={touched.overtimeMultiplier && !!errors.overtimeMultiplier}
+                    />
+                    <Form.Control.Feedback type="invalid">
+                      {errors.overtimeMultiplier}
+                    </Form.Control.Feedback>
+                  </Form.Group>
                   <div className="text-center">
                     <Button
                       className="desg-update-button"
@@ -271,7 +307,10 @@ const AddDesignation = () => {
           </Modal.Header>
           <Modal.Body>
             <Formik
-              initialValues={{ designationName: designationToUpdate ? designationToUpdate.designationName : "" }}
+              initialValues={{
+                designationName: designationToUpdate ? designationToUpdate.designationName : "",
+                overtimeMultiplier: designationToUpdate?.overtimeMultiplier ?? "",
+              }}
               validationSchema={validationSchema}
               onSubmit={handleUpdateDesignation}
               enableReinitialize
@@ -307,6 +346,26 @@ const AddDesignation = () => {
                       {errors.designationName}
                     </Form.Control.Feedback>
                   </Form.Group>
+                  <Form.Group controlId="overtimeMultiplier" style={{ marginTop: "8px" }}>
+                    <Form.Label style={{fontWeight:"bold" }}>
+                      Overtime Multiplier
+                    </Form.Label>
+                    <Form.Control
+                      type="number"
+                      step="0.01"
+                      placeholder="Default"
+                      value={values.overtimeMultiplier}
+                      onChange={(e) => {
+                        handleChange(e);
+                        setFieldTouched("overtimeMultiplier", true);
+                      }}
+                      onBlur={handleBlur}
+                      isInvalid={touched.overtimeMultiplier && !!errors.overtimeMultiplier}
+                    />
+                    <Form.Control.Feedback type="invalid">
+                      {errors.overtimeMultiplier}
+                    </Form.Control.Feedback>
+                  </Form.Group>
                   <div className="text-center">
                     <Button
                       className="desg-update-button"
@@ -61,7 +61,12 @@ const LeaveType = () => {
     try {
       await axios.post(
         "http://localhost:8080/payrollmanagementsystem/leavetype/addleavetype",
-        { typeName: values.typeName, numberOfLeaves: values.numberOfLeaves }
+        {
+          typeName: values.typeName,
+          numberOfLeaves: values.numberOfLeaves,
+          monthlyAccrual: values.monthlyAccrual === "" ? null : values.monthlyAccrual,
+          carryForwardLimit: values.carryForwardLimit === "" ? null : values.carryForwardLimit,
+        }
       );
       resetForm();
       setShowAddModal(false);
@@ -94,6 +99,8 @@ const LeaveType = () => {
             typeId: leaveTypeToUpdate.typeId,
             typeName: values.typeName,
             numberOfLeaves: values.numberOfLeaves,
+            monthlyAccrual: values.monthlyAccrual === "" ? null : values.monthlyAccrual,
+            carryForwardLimit: values.carryForwardLimit === "" ? null : values.carryForwardLimit,
           }
         );
         resetForm();
@@ -151,6 +158,14 @@ const LeaveType = () => {
       .positive("Number of leaves must be positive")
       .integer("Number of leaves must be an integer")
       .required("Number of leaves is required"),
+    monthlyAccrual: Yup.number()
+      .max(30, "Maximum accrual can be 30")
+      .typeError("Monthly accrual must be a number")
+      .positive("Monthly accrual must be positive"),
+    carryForwardLimit: Yup.number()
+      .max(90, "Maximum limit can be 90")
+      .typeError("Carry forward limit must be a number")
+      .min(0, "Carry forward limit must not be negative"),
   });
 
   return (
@@ -176,13 +191,15 @@ const LeaveType = () => {
             <tr>
               <th style={{ width: "250px" }}>Leave Type</th>
               <th style={{ width: "200px" }}>Number of Leaves</th>
+              <th style={{ width: "200px" }}>Monthly Accrual</th>
+              <th style={{ width: "200px" }}>Carry Forward Limit</th>
               <th style={{ width: "200px" }}>Actions</th>
             </tr>
           </thead>
           <tbody>
             {leaveTypes.length === 0 ? (
               <tr>
-                <td colSpan="3" className="text-center">
+                <td colSpan="5" className="text-center">
                   No rows found
                 </td>
               </tr>
@@ -191,6 +208,8 @@ const LeaveType = () => {
                 <tr key={leaveType.typeId}>
                   <td>{leaveType.typeName}</td>
                   <td>{leaveType.numberOfLeaves}</td>
+                  <td>{leaveType.monthlyAccrual ?? "-"}</td>
+                  <td>{leaveType.carryForwardLimit ?? "No limit"}</td>
                   <td>
                     <Button
                       className="leave-type-update-button"
@@ -222,7 +241,12 @@ const LeaveType = () => {
           </Modal.Header>
           <Modal.Body>
             <Formik
-              initialValues={{ typeName: "", numberOfLeaves: "" }}
+              initialValues={{
+                typeName: "",
+                numberOfLeaves: "",
+                monthlyAccrual: "",
+                carryForwardLimit: "",
+              }}
               validationSchema={validationSchema}
               onSubmit={handleAddLeaveType}
             >
@@ -278,6 +302,48 @@ const LeaveType = () => {
                       {errors.numberOfLeaves}
                     </Form.Control.Feedback>
                   </Form.Group>
+                  <Form.Group controlId="monthlyAccrual">
+                    <Form.Label style={{marginTop:'5px',fontWeight:"bold"}}>
+                      Monthly Accrual
+                    </Form.Label>
+                    <Form.Control
+                      type="number"
+                      step="0.5"
+                      value={values.monthlyAccrual}
+                      onChange={(e) => {
+                        handleChange(e);
+                        setFieldTouched("monthlyAccrual", true);
+                      }}
+                      onBlur={handleBlur}
+                      isInvalid={
+                        touched.monthlyAccrual && !!errors.monthlyAccrual
+                      }
+                    />
+                    <Form.Control.Feedback type="invalid">
+                      {errors.monthlyAccrual}
+                    </Form.Control.Feedback>
+                  </Form.Group>
+                  <Form.Group controlId="carryForwardLimit">
+                    <Form.Label style={{marginTop:'5px',fontWeight:"bold"}}>
+                      Carry Forward Limit
+                    </Form.Label>
+                    <Form.Control
+                      type="number"
+                      step="0.5"
+                      value={values.carryForwardLimit}
+                      onChange={(e) => {
+                        handleChange(e);
+                        setFieldTouched("carryForwardLimit", true);
+                      }}
+                      onBlur={handleBlur}
+                      isInvalid={
+                        touched.carryForwardLimit && !!errors.carryForwardLimit
+                      }
+                    />
+                    <Form.Control.Feedback type="invalid">
+                      {errors.carryForwardLimit}
+                    </Form.Control.Feedback>
+                  </Form.Group>
                   <div className="text-center">
                     <Button
                       className="leave-type-update-button"
@@ -310,6 +376,8 @@ const LeaveType = () => {
                 numberOfLeaves: leaveTypeToUpdate
                   ? leaveTypeToUpdate.numberOfLeaves
                   : "",
+                monthlyAccrual: leaveTypeToUpdate?.monthlyAccrual ?? "",
+                carryForwardLimit: leaveTypeToUpdate?.carryForwardLimit ?? "",
               }}
               validationSchema={validationSchema}
               onSubmit={handleUpdateLeaveType}
@@ -367,6 +435,48 @@ const LeaveType = () => {
                       {errors.numberOfLeaves}
                     </Form.Control.Feedback>
                   </Form.Group>
+                  <Form.Group controlId="monthlyAccrual">
+                    <Form.Label style={{marginTop:'5px',fontWeight:"bold"}}>
+                      Monthly Accrual
+                    </Form.Label>
+                    <Form.Control
+                      type="number"
+                      step="0.5"
+                      value={values.monthlyAccrual}
+                      onChange={(e) => {
+                        handleChange(e);
+                        setFieldTouched("monthlyAccrual", true);
+                      }}
+                      onBlur={handleBlur}
+                      isInvalid={
+                        touched.monthlyAccrual && !!errors.monthlyAccrual
+                      }
+                    />
+                    <Form.Control.Feedback type="invalid">
+                      {errors.monthlyAccrual}
+                    </Form.Control.Feedback>
+                  </Form.Group>
+                  <Form.Group controlId="carryForwardLimit">
+                    <Form.Label style={{marginTop:'5px',fontWeight:"bold"}}>
+                      Carry Forward Limit
+                    </Form.Label>
+                    <Form.Control
+                      type="number"
+                      step="0.5"
+                      value={values.carryForwardLimit}
+                      onChange={(e) => {
+                        handleChange(e);
+                        setFieldTouched("carryForwardLimit", true);
+                      }}
+                      onBlur={handleBlur}
+                      isInvalid={
+                        touched.carryForwardLimit && !!errors.carryForwardLimit
+                      }
+                    />
+                    <Form.Control.Feedback type="invalid">
+                      {errors.carryForwardLimit}
+                    </Form.Control.Feedback>
+                  </Form.Group>
                   <div className="text-center">
                     <Button
                       className="leave-type-update-button"
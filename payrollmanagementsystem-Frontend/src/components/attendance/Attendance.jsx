@@ -23,6 +23,7 @@ const Attendance = () => {
   const [isRegularizeModalOpen, setIsRegularizeModalOpen] = useState(false);
   const [successMessage, setSuccessMessage] = useState("");
   const [errorMsg, setErrorMsg] = useState("");
+  const [visibleRange, setVisibleRange] = useState(null);
 
   useEffect(() => {
     if (!fullName) {
@@ -41,11 +42,23 @@ const Attendance = () => {
   }, [fullName, navigate, contextPath, role]);
 
   const fetchAttendance = useCallback(async () => {
+    if (!visibleRange) {
+      return;
+    }
+    // Fetch only the dates on screen, stretched to today for the mark attendance check
+    const todayDate = new Date().toLocaleDateString("en-CA", {
+      timeZone: "Asia/Kolkata",
+    });
     try {
       const response = await axios.get(
         `http://localhost:8080/payrollmanagementsystem/attendance/getattendanceforemployee`,
         {
-          params: { employeeId: employeeId },
+          params: {
+            employeeId: employeeId,
+            startDate:
+              visibleRange.start < todayDate ? visibleRange.start : todayDate,
+            endDate: visibleRange.end > todayDate ? visibleRange.end : todayDate,
+          },
         }
       );
       setAttendanceData(response.data);
@@ -53,7 +66,25 @@ const Attendance = () => {
       console.error("Error fetching attendance data");
       setAttendanceData([]);
     }
-  }, [employeeId]);
+  }, [employeeId, visibleRange]);
+
+  const toLocalDate = (date) =>
+    `${date.getFullYear()}-${String(date.getMonth() + 1).padStart(2, "0")}-${String(
+      date.getDate()
+    ).padStart(2, "0")}`;
+
+  const handleDatesSet = (dateInfo) => {
+    // The end of the visible range is exclusive
+    const lastDate = new Date(dateInfo.end);
+    lastDate.setDate(lastDate.getDate() - 1);
+    const start = toLocalDate(dateInfo.start);
+    const end = toLocalDate(lastDate);
+    setVisibleRange((range) =>
+      range && range.start === start && range.end === end
+        ? range
+        : { start: start, end: end }
+    );
+  };
 
   useEffect(() => {
     fetchAttendance();
@@ -183,14 +214,36 @@ const Attendance = () => {
     }
   };
 
+  // Poll a background job until it has succeeded or failed
+  const waitForJob = async (jobId) => {
+    for (;;) {
+      const response = await axios.get(
+        `http://localhost:8080/payrollmanagementsystem/job/getjob`,
+        {
+          params: { jobId: jobId },
+        }
+      );
+      if (response.data.status === "SUCCEEDED" || response.data.status === "FAILED") {
+        return response.data;
+      }
+      await new Promise((resolve) => setTimeout(resolve, 2000));
+    }
+  };
+
   const handleRegularize = async () => {
     try {
-      await axios.post(
+      const response = await axios.post(
         `http://localhost:8080/payrollmanagementsystem/attendance/regularize`
       );
-      fetchAttendance();
-      setSuccessMessage("Attendance regularized!");
       closeModalRegularize();
+      setSuccessMessage("Attendance regularization started.");
+      const job = await waitForJob(response.data.jobId);
+      if (job.status === "SUCCEEDED") {
+        fetchAttendance();
+        setSuccessMessage("Attendance regularized!");
+      } else {
+        setErrorMsg("Attendance regularization failed, please try again.");
+      }
     } catch (error) {
       console.error(error);
       setErrorMsg("Unexpected error, please try again.");
@@ -221,6 +274,7 @@ const Attendance = () => {
           plugins={[dayGridPlugin]}
           initialView="dayGridMonth"
           events={events}
+          datesSet={handleDatesSet}
           customButtons={{
             markToday: {
               text: "Mark Attendance",
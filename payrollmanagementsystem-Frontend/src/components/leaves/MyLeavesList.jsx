@@ -72,12 +72,13 @@ const MyLeavesList = () => {
                 <th style={{width:'120px'}}>Total</th>
                 <th style={{width:'120px'}}>Used</th>
                 <th style={{width:'120px'}}>Remaining</th>
+                <th style={{width:'120px'}}>Pending</th>
               </tr>
             </thead>
             <tbody>
               {leaveBalances.length === 0 ? (
                 <tr>
-                  <td colSpan="4" className="text-center">
+                  <td colSpan="5" className="text-center">
                     No leaves available
                   </td>
                 </tr>
@@ -88,6 +89,7 @@ const MyLeavesList = () => {
                     <td>{leave.totalLeaves}</td>
                     <td>{leave.usedLeaves}</td>
                     <td>{leave.remainingLeaves}</td>
+                    <td>{leave.heldLeaves || 0}</td>
                   </tr>
                 ))
               )}
@@ -120,6 +120,7 @@ const ManageSalary = () => {
           grossSalary: calculatedSalary.grossSalary,
           pfAmount: calculatedSalary.pfAmount,
           bonusAmount: calculatedSalary.bonusAmount,
+          overtimeAmount: calculatedSalary.overtimeAmount,
           payPeriodEnd: calculatedSalary.payPeriodEnd,
           penaltyAmount: calculatedSalary.penaltyAmount,
           taxAmount: calculatedSalary.taxAmount,
@@ -286,6 +287,7 @@ const ManageSalary = () => {
                 <p>Gross Salary: {calculatedSalary.grossSalary}</p>
                 <p>PF Amount: {calculatedSalary.pfAmount}</p>
                 <p>Bonus Amount: {calculatedSalary.bonusAmount}</p>
+                <p>Overtime Amount: {calculatedSalary.overtimeAmount}</p>
               </div>
               <div className="col-md-6">
                 <p>Pay Period End: {calculatedSalary.payPeriodEnd}</p>
@@ -49,22 +49,24 @@ const HrReport = () => {
   };
 
   useEffect(() => {
-    if (reportData) {
-      generateQuarterlyReportPDF(reportData);
-    }
-  }, [reportData]);
-
-  const fetchReportData = async (quarter) => {
-    try {
-      const response = await axios.get(
-        "http://localhost:8080/payrollmanagementsystem/salaryrecord/getquartersalary",
-        {
-          params: { quarter: quarter.label },
-        }
-      );
-      setReportData(response.data);
-    } catch (err) {
-      console.error("Failed to fetch report data:", err);
+    const fetchAnnualReport = async () => {
+      try {
+        const response = await axios.get(
+          "http://localhost:8080/payrollmanagementsystem/salaryrecord/getannualsalary"
+        );
+        setReportData(response.data);
+      } catch (err) {
+        console.error("Failed to fetch report data:", err);
+        setErrorMsg("Failed to fetch report data");
+      }
+    };
+    fetchAnnualReport();
+  }, []);
+
+  const generateReport = (quarterIndex) => {
+    if (reportData && reportData[quarterIndex]) {
+      generateQuarterlyReportPDF(reportData[quarterIndex]);
+    } else {
       setErrorMsg("Failed to fetch report data");
     }
   };
@@ -88,6 +90,7 @@ const HrReport = () => {
       ["Total Gross Salary", reportData.grossSalary],
       ["Total Net Salary", reportData.netSalary],
       ["Total Bonus Amount", reportData.bonusAmount],
+      ["Total Overtime Amount", reportData.overtimeAmount],
       ["Total Penalty Amount", reportData.penaltyAmount],
       ["Total PF Amount", reportData.pfAmount],
       ["Total Tax Amount", reportData.taxAmount],
@@ -126,6 +129,12 @@ const HrReport = () => {
     }
   }, [errorMsg]);
 
+  // Payslips of the last completed month are rendered and zipped on the server
+  const lastMonth = new Date(new Date().getFullYear(), new Date().getMonth() - 1, 1);
+  const payslipsUrl =
+    "http://localhost:8080/payrollmanagementsystem/payslip/downloadpayslips" +
+    `?year=${lastMonth.getFullYear()}&month=${lastMonth.getMonth() + 1}`;
+
   return (
     <>
       <HrManagerNavbar />
@@ -147,14 +156,15 @@ const HrReport = () => {
             </tr>
           </thead>
           <tbody>
-            {quarters.map((quarter) => (
+            {quarters.map((quarter, index) => (
               <tr key={quarter.label}>
                 <td>{quarter.label}</td>
                 <td>
                   {canGenerateReport(quarter.startMonth) ? (
                     <Button
                       className="hr-report-button"
-                      onClick={() => fetchReportData(quarter)}
+                      onClick={() => generateReport(index)}
+                      disabled={!reportData}
                     >
                       Generate
                     </Button>
@@ -164,6 +174,18 @@ const HrReport = () => {
                 </td>
               </tr>
             ))}
+            <tr>
+              <td>
+                Payslips of{" "}
+                {lastMonth.toLocaleString("default", { month: "long" })}{" "}
+                {lastMonth.getFullYear()}
+              </td>
+              <td>
+                <Button className="hr-report-button" href={payslipsUrl}>
+                  Download
+                </Button>
+              </td>
+            </tr>
           </tbody>
         </Table>
       </Container>
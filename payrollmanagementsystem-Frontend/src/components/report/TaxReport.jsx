@@ -51,6 +51,21 @@ const TaxReport = () => {
     }
   };
 
+  const fetchFiscalYearTaxData = async (fiscalYear) => {
+    try {
+      const response = await axios.get(
+        "http://localhost:8080/payrollmanagementsystem/salaryrecord/getperiodtax",
+        {
+          params: { fiscalYear: fiscalYear, employeeId: employeeId },
+        }
+      );
+      setTaxData(response.data);
+    } catch (err) {
+      console.error("Failed to fetch tax data:", err);
+      setErrorMsg("Failed to fetch tax data");
+    }
+  };
+
   useEffect(() => {
     if (taxData) {
       generateTaxReportPDF(taxData);
@@ -117,6 +132,9 @@ const TaxReport = () => {
 
   const currentMonth = new Date().getMonth();
 
+  // Fiscal years run from April to March, the last completed one is reported
+  const lastFiscalYear = new Date().getFullYear() - (currentMonth >= 3 ? 1 : 2);
+
   const canGenerateReport = (startMonth) => {
     return currentMonth >= startMonth + 3;
   };
@@ -162,6 +180,17 @@ const TaxReport = () => {
               </td>
             </tr>
           ))}
+          <tr>
+            <td>FY {lastFiscalYear}-{String(lastFiscalYear + 1).slice(-2)}</td>
+            <td>
+              <Button
+                className="tax-report-button"
+                onClick={() => fetchFiscalYearTaxData(lastFiscalYear)}
+              >
+                Generate
+              </Button>
+            </td>
+          </tr>
         </tbody>
       </Table>
     </Container>
@@ -137,6 +137,7 @@ const Salary = () => {
       ["Gross Salary", record.grossSalary],
       ["Deductions", deductionDetails.join("\n")],
       ["Bonus", record.bonusAmount],
+      ["Overtime", record.overtimeAmount],
       ["Net Salary", record.netSalary],
     ];
 
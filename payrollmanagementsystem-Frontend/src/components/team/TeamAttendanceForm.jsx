@@ -1,5 +1,5 @@
 import React, { useEffect, useState } from "react";
-import { Form, Button, Container, Row, Col, Modal } from "react-bootstrap";
+import { Form, Button, Container, Row, Col, Modal, Table } from "react-bootstrap";
 import axios from "axios";
 import { Formik } from "formik";
 import * as Yup from "yup";
@@ -17,6 +17,7 @@ const TeamAttendanceForm = () => {
   const role = localStorage.getItem("role");
   const fullName = localStorage.getItem("fullName");
   const employeeId = localStorage.getItem("employeeId");
+  const currentYear = new Date().getFullYear();
 
   useEffect(() => {
     if (!fullName) {
@@ -67,15 +68,30 @@ const TeamAttendanceForm = () => {
 
   const handleSubmit = async (values) => {
     try {
-      const response = await axios.get(
-        "http://localhost:8080/payrollmanagementsystem/attendance/getteamattendance",
-        {
-          params: {
-            month: values.month,
-            employeeId: values.teamMember,
-          },
-        }
-      );
+      // The whole team is summarized in one request instead of one per member
+      const response =
+        values.teamMember === "ALL"
+          ? await axios.get(
+              "http://localhost:8080/payrollmanagementsystem/attendance/getteamattendancesummary",
+              {
+                params: {
+                  year: values.year,
+                  month: values.month,
+                  employeeId: employeeId,
+                  includeIndirect: values.includeIndirect,
+                },
+              }
+            )
+          : await axios.get(
+              "http://localhost:8080/payrollmanagementsystem/attendance/getteamattendance",
+              {
+                params: {
+                  year: values.year,
+                  month: values.month,
+                  employeeId: values.teamMember,
+                },
+              }
+            );
       setAttendanceData(response.data);
       setModalShow(true);
     } catch (error) {
@@ -84,6 +100,7 @@ const TeamAttendanceForm = () => {
   };
 
   const validationSchema = Yup.object({
+    year: Yup.string().required("Year is required"),
     month: Yup.string().required("Month is required"),
     teamMember: Yup.string().required("Team member is required"),
   });
@@ -104,7 +121,12 @@ const TeamAttendanceForm = () => {
                 </div>
                 <h4 className="text-center mb-4">Team Attendance</h4>
                 <Formik
-                  initialValues={{ month: "", teamMember: "" }}
+                  initialValues={{
+                    year: String(currentYear),
+                    month: "",
+                    teamMember: "",
+                    includeIndirect: false,
+                  }}
                   validationSchema={validationSchema}
                   onSubmit={handleSubmit}
                 >
@@ -118,6 +140,33 @@ const TeamAttendanceForm = () => {
                     isSubmitting,
                   }) => (
                     <Form noValidate onSubmit={handleSubmit}>
+                      <Form.Group
+                        controlId="year"
+                        className="mb-3"
+                        style={{ textAlign: "left", fontWeight: "bold" }}
+                      >
+                        <Form.Label>
+                          Year <span className="required-asterisk">*</span>
+                        </Form.Label>
+                        <Form.Control
+                          as="select"
+                          name="year"
+                          value={values.year}
+                          onChange={handleChange}
+                          onBlur={handleBlur}
+                          isInvalid={!!errors.year}
+                        >
+                          {Array.from({ length: 5 }, (_, i) => (
+                            <option key={i} value={currentYear - i}>
+                              {currentYear - i}
+                            </option>
+                          ))}
+                        </Form.Control>
+                        <Form.Control.Feedback type="invalid">
+                          {errors.year}
+                        </Form.Control.Feedback>
+                      </Form.Group>
+
                       <Form.Group
                         controlId="month"
                         className="mb-3"
@@ -166,6 +215,7 @@ const TeamAttendanceForm = () => {
                           isInvalid={!!errors.teamMember}
                         >
                           <option value="">Select a team member</option>
+                          <option value="ALL">All team members</option>
                           {teamMembers.map((member) => (
                             <option
                               key={member.employeeId}
@@ -178,6 +228,16 @@ const TeamAttendanceForm = () => {
                         <Form.Control.Feedback type="invalid">
                           {errors.teamMember}
                         </Form.Control.Feedback>
+                        {values.teamMember === "ALL" && (
+                          <Form.Check
+                            type="checkbox"
+                            name="includeIndirect"
+                            label="Include indirect reports"
+                            checked={values.includeIndirect}
+                            onChange={handleChange}
+                            style={{ marginTop: "5px", fontSize: "14px" }}
+                          />
+                        )}
                       </Form.Group>
 
                       <Button
@@ -194,13 +254,45 @@ const TeamAttendanceForm = () => {
                 <Modal
                   show={modalShow}
                   onHide={() => setModalShow(false)}
+                  size={Array.isArray(attendanceData) ? "lg" : undefined}
                   centered
                 >
                   <Modal.Header closeButton>
                     <Modal.Title>Attendance Details</Modal.Title>
                   </Modal.Header>
                   <Modal.Body>
-                    {attendanceData ? (
+                    {Array.isArray(attendanceData) ? (
+                      <Table bordered>
+                        <thead>
+                          <tr>
+                            <th>Employee Name</th>
+                            <th>Present</th>
+                            <th>Leave</th>
+                            <th>Half Day</th>
+                            <th>Absent</th>
+                          </tr>
+                        </thead>
+                        <tbody>
+                          {attendanceData.length === 0 ? (
+                            <tr>
+                              <td colSpan="5" className="text-center">
+                                No rows found
+                              </td>
+                            </tr>
+                          ) : (
+                            attendanceData.map((member) => (
+                              <tr key={member.employeeId}>
+                                <td>{member.fullName}</td>
+                                <td>{member.presentCount}</td>
+                                <td>{member.leaveCount}</td>
+                                <td>{member.halfDayCount}</td>
+                                <td>{member.absentCount}</td>
+                              </tr>
+                            ))
+                          )}
+                        </tbody>
+                      </Table>
+                    ) : attendanceData ? (
                       <div className="row">
                         <div className="col-md-8">
                           <p>